@@ -4,14 +4,19 @@ import com.budgetpro.application.alertas.dto.AnalisisPresupuestoResponse;
 import com.budgetpro.application.alertas.port.in.AnalizarPresupuestoUseCase;
 import com.budgetpro.domain.finanzas.alertas.model.AlertaParametrica;
 import com.budgetpro.domain.finanzas.alertas.model.AnalisisPresupuesto;
+import com.budgetpro.domain.finanzas.alertas.model.CambiosAnalisis;
 import com.budgetpro.domain.finanzas.alertas.port.out.AnalisisPresupuestoRepository;
+import com.budgetpro.domain.finanzas.alertas.port.out.EstadoAnalisisRepository;
 import com.budgetpro.domain.finanzas.alertas.service.AnalizadorParametricoService;
 import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
 import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,18 +30,28 @@ public class AnalizarPresupuestoUseCaseImpl implements AnalizarPresupuestoUseCas
     private final AnalisisPresupuestoRepository analisisRepository;
     private final PresupuestoRepository presupuestoRepository;
     private final ConsultaDatosAnalisis consultaDatosAnalisis;
+    private final EstadoAnalisisRepository estadoAnalisisRepository;
     
     public AnalizarPresupuestoUseCaseImpl(
             AnalizadorParametricoService analizadorService,
             AnalisisPresupuestoRepository analisisRepository,
             PresupuestoRepository presupuestoRepository,
-            ConsultaDatosAnalisis consultaDatosAnalisis) {
+            ConsultaDatosAnalisis consultaDatosAnalisis,
+            EstadoAnalisisRepository estadoAnalisisRepository) {
         this.analizadorService = analizadorService;
         this.analisisRepository = analisisRepository;
         this.presupuestoRepository = presupuestoRepository;
         this.consultaDatosAnalisis = consultaDatosAnalisis;
+        this.estadoAnalisisRepository = estadoAnalisisRepository;
     }
     
+    /**
+     * Analiza el presupuesto de forma incremental: con un análisis previo solo se evalúan las
+     * partidas modificadas desde entonces (y los recursos que usan) y se combinan con las
+     * alertas vigentes; si nada cambió se devuelve el último análisis sin persistir uno nuevo.
+     * La versión registrada por partida es la leída antes de cargar sus datos, así que un cambio
+     * concurrente se vuelve a evaluar en el siguiente análisis.
+     */
     @Override
     @Transactional
     public AnalisisPresupuestoResponse analizar(UUID presupuestoId) {
@@ -44,20 +59,44 @@ public class AnalizarPresupuestoUseCaseImpl implements AnalizarPresupuestoUseCas
         presupuestoRepository.findById(PresupuestoId.from(presupuestoId))
                 .orElseThrow(() -> new IllegalArgumentException("Presupuesto no encontrado: " + presupuestoId));
         
-        // Consultar datos necesarios para el análisis
-        AnalizadorParametricoService.DatosAnalisis datosAnalisis = 
-                consultaDatosAnalisis.consultarDatos(presupuestoId);
+        CambiosAnalisis cambios = estadoAnalisisRepository.buscarCambios(presupuestoId);
+        Optional<AnalisisPresupuesto> anterior = analisisRepository.buscarUltimoPorPresupuestoId(presupuestoId);
+        if (anterior.isPresent() && cambios.estaVacio()) {
+            return mapearAResponse(anterior.get());
+        }
         
-        // Ejecutar análisis
-        AnalisisPresupuesto analisis = analizadorService.analizar(presupuestoId, datosAnalisis);
+        AnalisisPresupuesto analisis = anterior
+                .map(ultimo -> reanalizar(ultimo, cambios))
+                .orElseGet(() -> analizadorService.analizar(presupuestoId,
+                        consultaDatosAnalisis.consultarDatos(presupuestoId)));
         
-        // Persistir análisis
+        // Persistir análisis y versiones evaluadas
         analisisRepository.guardar(analisis);
+        estadoAnalisisRepository.registrar(presupuestoId, cambios);
         
         // Mapear a DTO de respuesta
         return mapearAResponse(analisis);
     }
     
+    private AnalisisPresupuesto reanalizar(AnalisisPresupuesto anterior, CambiosAnalisis cambios) {
+        UUID presupuestoId = anterior.getPresupuestoId();
+        AnalizadorParametricoService.DatosAnalisis datosCambios = 
+                consultaDatosAnalisis.consultarDatos(presupuestoId, cambios.partidasModificadas().keySet());
+        
+        // Recursos con alerta que no llegan con los cambios: siguen vigentes solo si aún se usan
+        Set<UUID> recursosCambios = datosCambios.getRecursos().stream()
+                .map(AnalizadorParametricoService.DatosRecurso::getId)
+                .collect(Collectors.toSet());
+        Set<UUID> recursosConAlerta = anterior.getAlertas().stream()
+                .filter(alerta -> alerta.getPartidaId() == null && alerta.getRecursoId() != null)
+                .map(AlertaParametrica::getRecursoId)
+                .filter(recursoId -> !recursosCambios.contains(recursoId))
+                .collect(Collectors.toSet());
+        Set<UUID> recursosEnUso = consultaDatosAnalisis.consultarRecursosEnUso(presupuestoId, recursosConAlerta);
+        
+        return analizadorService.reanalizar(anterior, datosCambios, cambios.partidasAfectadas(), recursosEnUso);
+    }
+    
     private AnalisisPresupuestoResponse mapearAResponse(AnalisisPresupuesto analisis) {
         List<AnalisisPresupuestoResponse.AlertaParametricaResponse> alertasResponse = 
                 analisis.getAlertas().stream()
@@ -97,5 +136,15 @@ public class AnalizarPresupuestoUseCaseImpl implements AnalizarPresupuestoUseCas
      */
     public interface ConsultaDatosAnalisis {
         AnalizadorParametricoService.DatosAnalisis consultarDatos(UUID presupuestoId);
+        
+        /**
+         * Datos solo de las partidas indicadas y de los recursos que usan.
+         */
+        AnalizadorParametricoService.DatosAnalisis consultarDatos(UUID presupuestoId, Collection<UUID> partidaIds);
+        
+        /**
+         * De los recursos indicados, los que algún insumo del presupuesto aún usa.
+         */
+        Set<UUID> consultarRecursosEnUso(UUID presupuestoId, Collection<UUID> recursoIds);
     }
 }
@@ -0,0 +1,19 @@
+package com.budgetpro.application.almacen.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta de un recosteo de Kárdex.
+ */
+public record RecosteoKardexResponse(
+    UUID almacenId,
+    UUID recursoId,
+    LocalDate fechaDesde,
+    int registrosRecorridos,
+    int registrosActualizados,
+    BigDecimal saldoCantidad,
+    BigDecimal saldoValor,
+    BigDecimal costoPromedioPonderado
+) {}
@@ -0,0 +1,21 @@
+package com.budgetpro.application.almacen.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta para la valorización de inventario de un almacén a una fecha.
+ *
+ * @param fechaCheckpoint Fecha del cierre usado como punto de partida (null si no existe)
+ * @param registrosReproducidos Registros de Kárdex reproducidos desde el cierre
+ */
+public record ValorizacionInventarioResponse(
+    UUID almacenId,
+    LocalDate fecha,
+    LocalDate fechaCheckpoint,
+    int registrosReproducidos,
+    BigDecimal valorTotal,
+    List<ValorizacionRecursoResponse> recursos
+) {}
@@ -0,0 +1,14 @@
+package com.budgetpro.application.almacen.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con el saldo valorizado de un recurso en un almacén.
+ */
+public record ValorizacionRecursoResponse(
+    UUID recursoId,
+    BigDecimal saldoCantidad,
+    BigDecimal saldoValor,
+    BigDecimal costoPromedioPonderado
+) {}
@@ -0,0 +1,23 @@
+package com.budgetpro.application.almacen.port.in;
+
+import com.budgetpro.application.almacen.dto.ValorizacionInventarioResponse;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Caso de uso para consultar stock y CPP de todos los recursos de un almacén a una fecha.
+ */
+public interface ConsultarValorizacionInventarioUseCase {
+
+    /**
+     * Valoriza el inventario de un almacén a una fecha, partiendo del checkpoint
+     * más cercano y reproduciendo solo los registros posteriores. Si faltan cierres
+     * de meses ya terminados, se generan primero para que el delta no supere un mes.
+     *
+     * @param almacenId ID del almacén
+     * @param fecha Fecha de la valorización (incluida)
+     * @return ValorizacionInventarioResponse con el saldo de cada recurso con stock
+     */
+    ValorizacionInventarioResponse valorizar(UUID almacenId, LocalDate fecha);
+}
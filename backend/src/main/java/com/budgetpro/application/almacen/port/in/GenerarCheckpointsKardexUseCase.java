@@ -0,0 +1,19 @@
+package com.budgetpro.application.almacen.port.in;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Caso de uso para generar los checkpoints (cierres mensuales) del Kárdex de un almacén.
+ */
+public interface GenerarCheckpointsKardexUseCase {
+
+    /**
+     * Genera los cierres faltantes de un almacén hasta el mes indicado (incluido).
+     *
+     * @param almacenId ID del almacén
+     * @param hasta Último mes a cerrar
+     * @return Número de cierres mensuales generados
+     */
+    int generarHasta(UUID almacenId, YearMonth hasta);
+}
@@ -0,0 +1,24 @@
+package com.budgetpro.application.almacen.port.in;
+
+import com.budgetpro.application.almacen.dto.RecosteoKardexResponse;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Caso de uso para recalcular saldos y CPP del Kárdex a partir de una fecha.
+ */
+public interface RecostearKardexUseCase {
+
+    /**
+     * Recalcula saldo_cantidad, saldo_valor y CPP de los registros de un almacén/recurso
+     * con fecha igual o posterior a la dada, actualizando solo los que cambian.
+     *
+     * @param almacenId ID del almacén
+     * @param recursoId ID del recurso
+     * @param fechaDesde Fecha del primer registro afectado
+     * @return RecosteoKardexResponse con el resumen y el saldo final
+     * @throws IllegalStateException si alguna salida posterior queda sin stock suficiente
+     */
+    RecosteoKardexResponse recostear(UUID almacenId, UUID recursoId, LocalDate fechaDesde);
+}
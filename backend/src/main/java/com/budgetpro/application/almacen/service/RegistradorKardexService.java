@@ -0,0 +1,244 @@
+package com.budgetpro.application.almacen.service;
+
+import com.budgetpro.application.almacen.dto.RecosteoKardexResponse;
+import com.budgetpro.application.almacen.port.in.RecostearKardexUseCase;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
+import com.budgetpro.domain.logistica.almacen.service.GestionKardexService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Servicio de aplicación que registra movimientos en el Kárdex.
+ *
+ * Punto único de escritura del Kárdex para los casos de uso de almacén y recepción:
+ * toma el lock por (almacén, recurso), calcula el registro sobre el saldo vigente a la
+ * fecha del movimiento y, si el movimiento es retroactivo (fecha anterior al último
+ * registro o a un cierre ya generado), recostea los registros y cierres posteriores.
+ */
+@Service
+public class RegistradorKardexService {
+
+    /** Escalas persistidas del Kárdex (saldo_cantidad y saldo_valor/CPP/precio). */
+    private static final int ESCALA_CANTIDAD = 6;
+    private static final int ESCALA_VALOR = 4;
+
+    private final RegistroKardexRepository kardexRepository;
+    private final KardexCheckpointRepository checkpointRepository;
+    private final GestionKardexService gestionKardexService;
+    private final RecostearKardexUseCase recostearKardexUseCase;
+
+    public RegistradorKardexService(RegistroKardexRepository kardexRepository,
+                                    KardexCheckpointRepository checkpointRepository,
+                                    GestionKardexService gestionKardexService,
+                                    RecostearKardexUseCase recostearKardexUseCase) {
+        this.kardexRepository = kardexRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.gestionKardexService = gestionKardexService;
+        this.recostearKardexUseCase = recostearKardexUseCase;
+    }
+
+    /**
+     * Registra una entrada en el Kárdex.
+     *
+     * @return Saldo actual del recurso en el almacén tras el registro
+     */
+    @Transactional
+    public SaldoKardex registrarEntrada(UUID almacenId, UUID recursoId, LocalDate fechaMovimiento,
+                                        BigDecimal cantidad, BigDecimal precioUnitario, UUID movimientoId) {
+        return registrar(almacenId, recursoId, fechaMovimiento, (fecha, anterior) ->
+                gestionKardexService.procesarEntrada(
+                        almacenId,
+                        recursoId,
+                        fecha,
+                        cantidad,
+                        precioUnitario,
+                        movimientoId,
+                        anterior.map(RegistroKardex::getSaldoCantidad).orElse(BigDecimal.ZERO),
+                        anterior.map(RegistroKardex::getSaldoValor).orElse(BigDecimal.ZERO)));
+    }
+
+    /**
+     * Entrada a registrar en bloque (una por línea de recepción).
+     */
+    public record EntradaKardex(UUID almacenId, UUID recursoId, LocalDate fechaMovimiento,
+                                BigDecimal cantidad, BigDecimal precioUnitario, UUID movimientoId) {
+
+        public EntradaKardex {
+            Objects.requireNonNull(almacenId, "El ID del almacén no puede ser nulo");
+            Objects.requireNonNull(recursoId, "El ID del recurso no puede ser nulo");
+            Objects.requireNonNull(movimientoId, "El ID del movimiento no puede ser nulo");
+            fechaMovimiento = fechaMovimiento != null ? fechaMovimiento : LocalDate.now();
+        }
+    }
+
+    /**
+     * Registra varias entradas en el Kárdex con lecturas y escrituras en bloque.
+     *
+     * Por almacén: un solo lock sobre todas las claves (almacén, recurso), una consulta para
+     * los últimos registros de los recursos y una para la fecha del último cierre. Los recursos
+     * cuyas entradas van en orden cronológico después del último registro y del último cierre se
+     * encadenan en memoria y se insertan en bloque; el resto (retroactivos) pasa por
+     * {@link #registrarEntrada} para recostear, con el mismo resultado que registrar línea a línea.
+     */
+    @Transactional
+    public void registrarEntradas(List<EntradaKardex> entradas) {
+        Map<UUID, List<EntradaKardex>> porAlmacen = new LinkedHashMap<>();
+        for (EntradaKardex entrada : entradas) {
+            porAlmacen.computeIfAbsent(entrada.almacenId(), k -> new ArrayList<>()).add(entrada);
+        }
+
+        List<RegistroKardex> nuevos = new ArrayList<>();
+        List<EntradaKardex> retroactivas = new ArrayList<>();
+        porAlmacen.forEach((almacenId, delAlmacen) ->
+                encadenarEntradas(almacenId, delAlmacen, nuevos, retroactivas));
+
+        if (!nuevos.isEmpty()) {
+            kardexRepository.guardarTodos(nuevos);
+        }
+        for (EntradaKardex entrada : retroactivas) {
+            registrarEntrada(entrada.almacenId(), entrada.recursoId(), entrada.fechaMovimiento(),
+                    entrada.cantidad(), entrada.precioUnitario(), entrada.movimientoId());
+        }
+    }
+
+    private void encadenarEntradas(UUID almacenId, List<EntradaKardex> entradas,
+                                   List<RegistroKardex> nuevos, List<EntradaKardex> retroactivas) {
+        Map<UUID, List<EntradaKardex>> porRecurso = new LinkedHashMap<>();
+        for (EntradaKardex entrada : entradas) {
+            porRecurso.computeIfAbsent(entrada.recursoId(), k -> new ArrayList<>()).add(entrada);
+        }
+
+        kardexRepository.bloquearPorAlmacenIdYRecursoIds(almacenId, porRecurso.keySet());
+        Map<UUID, RegistroKardex> ultimos =
+                kardexRepository.buscarUltimosPorAlmacenIdYRecursoIds(almacenId, porRecurso.keySet());
+        LocalDate ultimaFechaCorte = checkpointRepository.buscarUltimaFechaCorte(almacenId).orElse(null);
+
+        porRecurso.forEach((recursoId, delRecurso) -> {
+            RegistroKardex ultimo = ultimos.get(recursoId);
+            if (!enOrden(delRecurso, ultimo, ultimaFechaCorte)) {
+                retroactivas.addAll(delRecurso);
+                return;
+            }
+            BigDecimal saldoCantidad = ultimo != null ? ultimo.getSaldoCantidad() : BigDecimal.ZERO;
+            BigDecimal saldoValor = ultimo != null ? ultimo.getSaldoValor() : BigDecimal.ZERO;
+            for (EntradaKardex entrada : delRecurso) {
+                RegistroKardex registro = normalizar(gestionKardexService.procesarEntrada(
+                        almacenId,
+                        recursoId,
+                        entrada.fechaMovimiento(),
+                        entrada.cantidad(),
+                        entrada.precioUnitario(),
+                        entrada.movimientoId(),
+                        saldoCantidad,
+                        saldoValor));
+                saldoCantidad = registro.getSaldoCantidad();
+                saldoValor = registro.getSaldoValor();
+                nuevos.add(registro);
+            }
+        });
+    }
+
+    /**
+     * Las entradas de un recurso pueden encadenarse sin recosteo si no retroceden en el tiempo
+     * respecto del último registro ni entre sí, y caen después del último cierre del almacén.
+     */
+    private boolean enOrden(List<EntradaKardex> entradas, RegistroKardex ultimo, LocalDate ultimaFechaCorte) {
+        LocalDate anterior = ultimo != null ? ultimo.getFechaMovimiento() : null;
+        for (EntradaKardex entrada : entradas) {
+            if (anterior != null && entrada.fechaMovimiento().isBefore(anterior)) {
+                return false;
+            }
+            if (ultimaFechaCorte != null && !entrada.fechaMovimiento().isAfter(ultimaFechaCorte)) {
+                return false;
+            }
+            anterior = entrada.fechaMovimiento();
+        }
+        return true;
+    }
+
+    /**
+     * Redondea a las escalas persistidas para que el saldo encadenado en memoria coincida con
+     * el que se leería de la base entre una línea y la siguiente.
+     */
+    private RegistroKardex normalizar(RegistroKardex registro) {
+        return registro.conSaldos(
+                registro.getPrecioUnitario().setScale(ESCALA_VALOR, RoundingMode.HALF_UP),
+                registro.getSaldoCantidad().setScale(ESCALA_CANTIDAD, RoundingMode.HALF_UP),
+                registro.getSaldoValor().setScale(ESCALA_VALOR, RoundingMode.HALF_UP),
+                registro.getCostoPromedioPonderado().setScale(ESCALA_VALOR, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Registra una salida en el Kárdex (valorizada al CPP vigente a la fecha del movimiento).
+     *
+     * @return Saldo actual del recurso en el almacén tras el registro
+     * @throws IllegalStateException si no hay stock suficiente a la fecha o en salidas posteriores
+     */
+    @Transactional
+    public SaldoKardex registrarSalida(UUID almacenId, UUID recursoId, LocalDate fechaMovimiento,
+                                       BigDecimal cantidad, UUID movimientoId) {
+        return registrar(almacenId, recursoId, fechaMovimiento, (fecha, anterior) ->
+                gestionKardexService.procesarSalida(
+                        almacenId,
+                        recursoId,
+                        fecha,
+                        cantidad,
+                        movimientoId,
+                        anterior.map(RegistroKardex::getSaldoCantidad).orElse(BigDecimal.ZERO),
+                        anterior.map(RegistroKardex::getSaldoValor).orElse(BigDecimal.ZERO),
+                        anterior.map(RegistroKardex::getCostoPromedioPonderado).orElse(BigDecimal.ZERO)));
+    }
+
+    private SaldoKardex registrar(UUID almacenId, UUID recursoId, LocalDate fechaMovimiento,
+                                  CalculoRegistro calculo) {
+        LocalDate fecha = fechaMovimiento != null ? fechaMovimiento : LocalDate.now();
+
+        kardexRepository.bloquearPorAlmacenIdYRecursoId(almacenId, recursoId);
+
+        Optional<RegistroKardex> ultimo = kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, recursoId);
+        boolean retroactivo = ultimo.isPresent() && fecha.isBefore(ultimo.get().getFechaMovimiento());
+
+        // Saldo vigente al cierre del día del movimiento (incluye los del mismo día)
+        Optional<RegistroKardex> anterior = retroactivo
+                ? kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, fecha.plusDays(1))
+                : ultimo;
+
+        RegistroKardex nuevoRegistro = calculo.calcular(fecha, anterior);
+        kardexRepository.guardar(nuevoRegistro);
+
+        // Un registro retroactivo siempre se recostea; si no, solo si cae en o antes del último cierre
+        if (!retroactivo && !antesDelUltimoCierre(almacenId, fecha)) {
+            return SaldoKardex.desde(nuevoRegistro);
+        }
+        // Se recostea desde la fecha del movimiento: los registros de ese día previos al nuevo
+        // se reproducen sin cambios y los cierres del recurso desde esa fecha se recalculan
+        RecosteoKardexResponse recosteo = recostearKardexUseCase.recostear(almacenId, recursoId, fecha);
+        return new SaldoKardex(recursoId, recosteo.saldoCantidad(), recosteo.saldoValor(),
+                recosteo.costoPromedioPonderado());
+    }
+
+    private boolean antesDelUltimoCierre(UUID almacenId, LocalDate fecha) {
+        return checkpointRepository.buscarUltimaFechaCorte(almacenId)
+                .map(ultimaFechaCorte -> !fecha.isAfter(ultimaFechaCorte))
+                .orElse(false);
+    }
+
+    @FunctionalInterface
+    private interface CalculoRegistro {
+        RegistroKardex calcular(LocalDate fecha, Optional<RegistroKardex> anterior);
+    }
+}
@@ -0,0 +1,109 @@
+package com.budgetpro.application.almacen.usecase;
+
+import com.budgetpro.application.almacen.dto.ValorizacionInventarioResponse;
+import com.budgetpro.application.almacen.dto.ValorizacionRecursoResponse;
+import com.budgetpro.application.almacen.port.in.ConsultarValorizacionInventarioUseCase;
+import com.budgetpro.application.almacen.port.in.GenerarCheckpointsKardexUseCase;
+import com.budgetpro.domain.logistica.almacen.model.AlmacenId;
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.port.out.AlmacenRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
+import com.budgetpro.domain.logistica.almacen.service.ValorizacionKardexService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementación del caso de uso de valorización de inventario a una fecha.
+ *
+ * El costo es acotado: un checkpoint (un registro por recurso) más los registros
+ * de Kárdex desde ese cierre, independiente de la longitud del historial. Para que la
+ * cota no dependa de que el scheduler esté al día, si falta el cierre del mes anterior a
+ * la fecha se generan antes los cierres pendientes; así el delta reproducido nunca supera
+ * el mes en curso de la fecha consultada.
+ */
+@Service
+public class ConsultarValorizacionInventarioUseCaseImpl implements ConsultarValorizacionInventarioUseCase {
+
+    private final AlmacenRepository almacenRepository;
+    private final KardexCheckpointRepository checkpointRepository;
+    private final RegistroKardexRepository kardexRepository;
+    private final ValorizacionKardexService valorizacionKardexService;
+    private final GenerarCheckpointsKardexUseCase generarCheckpointsKardexUseCase;
+
+    public ConsultarValorizacionInventarioUseCaseImpl(AlmacenRepository almacenRepository,
+                                                      KardexCheckpointRepository checkpointRepository,
+                                                      RegistroKardexRepository kardexRepository,
+                                                      ValorizacionKardexService valorizacionKardexService,
+                                                      GenerarCheckpointsKardexUseCase generarCheckpointsKardexUseCase) {
+        this.almacenRepository = almacenRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.kardexRepository = kardexRepository;
+        this.valorizacionKardexService = valorizacionKardexService;
+        this.generarCheckpointsKardexUseCase = generarCheckpointsKardexUseCase;
+    }
+
+    @Override
+    @Transactional
+    public ValorizacionInventarioResponse valorizar(UUID almacenId, LocalDate fecha) {
+        if (almacenId == null) {
+            throw new IllegalArgumentException("almacenId es obligatorio");
+        }
+        if (fecha == null) {
+            throw new IllegalArgumentException("fecha es obligatoria");
+        }
+        almacenRepository.buscarPorId(AlmacenId.of(almacenId))
+                .orElseThrow(() -> new IllegalArgumentException("Almacén no encontrado: " + almacenId));
+
+        Optional<LocalDate> fechaCheckpoint = checkpointRepository.buscarUltimaFechaCorte(almacenId, fecha);
+        // Solo se cierran meses ya terminados, aunque la fecha consultada sea futura
+        YearMonth ultimoMesCerrable = YearMonth.from(fecha.isBefore(LocalDate.now()) ? fecha : LocalDate.now())
+                .minusMonths(1);
+        if (fechaCheckpoint.map(corte -> corte.isBefore(ultimoMesCerrable.atEndOfMonth())).orElse(true)
+                && generarCheckpointsKardexUseCase.generarHasta(almacenId, ultimoMesCerrable) > 0) {
+            fechaCheckpoint = checkpointRepository.buscarUltimaFechaCorte(almacenId, fecha);
+        }
+        List<SaldoKardex> saldosBase = fechaCheckpoint
+                .map(corte -> checkpointRepository.buscarPorAlmacenIdYFechaCorte(almacenId, corte).stream()
+                        .map(KardexCheckpoint::toSaldo)
+                        .toList())
+                .orElse(List.of());
+
+        List<RegistroKardex> delta = kardexRepository.buscarPorAlmacenIdEntreFechas(
+                almacenId, fechaCheckpoint.orElse(null), fecha);
+
+        Map<UUID, SaldoKardex> saldos = valorizacionKardexService.reproducir(saldosBase, delta);
+
+        List<ValorizacionRecursoResponse> recursos = saldos.values().stream()
+                .filter(saldo -> !saldo.estaVacio())
+                .map(saldo -> new ValorizacionRecursoResponse(
+                        saldo.recursoId(),
+                        saldo.saldoCantidad(),
+                        saldo.saldoValor(),
+                        saldo.costoPromedioPonderado()))
+                .toList();
+
+        BigDecimal valorTotal = recursos.stream()
+                .map(ValorizacionRecursoResponse::saldoValor)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new ValorizacionInventarioResponse(
+                almacenId,
+                fecha,
+                fechaCheckpoint.orElse(null),
+                delta.size(),
+                valorTotal,
+                recursos
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.budgetpro.application.almacen.usecase;
+
+import com.budgetpro.application.almacen.port.in.GenerarCheckpointsKardexUseCase;
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
+import com.budgetpro.domain.logistica.almacen.service.ValorizacionKardexService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementación del caso de uso para generar cierres mensuales del Kárdex.
+ *
+ * Cada cierre se calcula desde el cierre anterior más los registros del mes, de modo
+ * que el historial completo solo se recorre una vez (backfill inicial). La generación
+ * se serializa por almacén, así que el scheduler y una consulta que completa cierres
+ * faltantes no generan el mismo mes dos veces.
+ */
+@Service
+public class GenerarCheckpointsKardexUseCaseImpl implements GenerarCheckpointsKardexUseCase {
+
+    private final KardexCheckpointRepository checkpointRepository;
+    private final RegistroKardexRepository kardexRepository;
+    private final ValorizacionKardexService valorizacionKardexService;
+
+    public GenerarCheckpointsKardexUseCaseImpl(KardexCheckpointRepository checkpointRepository,
+                                               RegistroKardexRepository kardexRepository,
+                                               ValorizacionKardexService valorizacionKardexService) {
+        this.checkpointRepository = checkpointRepository;
+        this.kardexRepository = kardexRepository;
+        this.valorizacionKardexService = valorizacionKardexService;
+    }
+
+    @Override
+    @Transactional
+    public int generarHasta(UUID almacenId, YearMonth hasta) {
+        if (almacenId == null) {
+            throw new IllegalArgumentException("almacenId es obligatorio");
+        }
+        if (hasta == null) {
+            throw new IllegalArgumentException("hasta es obligatorio");
+        }
+
+        checkpointRepository.bloquearCierresPorAlmacenId(almacenId);
+
+        Optional<LocalDate> ultimoCorte = checkpointRepository.buscarUltimaFechaCorte(almacenId, hasta.atEndOfMonth());
+        YearMonth siguienteMes;
+        List<SaldoKardex> saldosBase;
+
+        if (ultimoCorte.isPresent()) {
+            siguienteMes = YearMonth.from(ultimoCorte.get()).plusMonths(1);
+            saldosBase = checkpointRepository.buscarPorAlmacenIdYFechaCorte(almacenId, ultimoCorte.get()).stream()
+                    .map(KardexCheckpoint::toSaldo)
+                    .toList();
+        } else {
+            Optional<LocalDate> primeraFecha = kardexRepository.buscarPrimeraFechaMovimiento(almacenId);
+            if (primeraFecha.isEmpty()) {
+                return 0;
+            }
+            siguienteMes = YearMonth.from(primeraFecha.get());
+            saldosBase = List.of();
+        }
+
+        LocalDate corteAnterior = ultimoCorte.orElse(null);
+        int generados = 0;
+        for (YearMonth mes = siguienteMes; !mes.isAfter(hasta); mes = mes.plusMonths(1)) {
+            LocalDate fechaCorte = mes.atEndOfMonth();
+            List<RegistroKardex> registrosMes = kardexRepository.buscarPorAlmacenIdEntreFechas(
+                    almacenId, corteAnterior, fechaCorte);
+
+            List<KardexCheckpoint> checkpoints = valorizacionKardexService.generarCheckpoints(
+                    almacenId, fechaCorte, saldosBase, registrosMes);
+            if (checkpoints.isEmpty()) {
+                // Sin saldos ni movimientos todavía: nada que cerrar este mes
+                continue;
+            }
+            checkpointRepository.guardarTodos(checkpoints);
+
+            saldosBase = checkpoints.stream().map(KardexCheckpoint::toSaldo).toList();
+            corteAnterior = fechaCorte;
+            generados++;
+        }
+        return generados;
+    }
+}
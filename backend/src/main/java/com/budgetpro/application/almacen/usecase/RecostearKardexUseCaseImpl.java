@@ -0,0 +1,103 @@
+package com.budgetpro.application.almacen.usecase;
+
+import com.budgetpro.application.almacen.dto.RecosteoKardexResponse;
+import com.budgetpro.application.almacen.port.in.RecostearKardexUseCase;
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
+import com.budgetpro.domain.logistica.almacen.service.RecosteoKardexService;
+import com.budgetpro.domain.logistica.almacen.service.RecosteoKardexService.ResultadoRecosteo;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del caso de uso de recosteo de Kárdex.
+ *
+ * Bajo el mismo lock por (almacén, recurso) que los registros normales: toma el saldo
+ * inmediatamente anterior a la fecha, recorre los registros posteriores con un único
+ * cursor ordenado y actualiza en lotes solo los que cambian. Los checkpoints de cierre
+ * del recurso desde la fecha se recalculan al final (también cuando el cambio proviene de un
+ * registro nuevo anterior a un cierre ya generado).
+ */
+@Service
+public class RecostearKardexUseCaseImpl implements RecostearKardexUseCase {
+
+    private static final int TAMANO_LOTE = 500;
+
+    private final RegistroKardexRepository kardexRepository;
+    private final KardexCheckpointRepository checkpointRepository;
+    private final RecosteoKardexService recosteoKardexService;
+
+    public RecostearKardexUseCaseImpl(RegistroKardexRepository kardexRepository,
+                                      KardexCheckpointRepository checkpointRepository,
+                                      RecosteoKardexService recosteoKardexService) {
+        this.kardexRepository = kardexRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.recosteoKardexService = recosteoKardexService;
+    }
+
+    @Override
+    @Transactional
+    public RecosteoKardexResponse recostear(UUID almacenId, UUID recursoId, LocalDate fechaDesde) {
+        if (almacenId == null || recursoId == null) {
+            throw new IllegalArgumentException("almacenId y recursoId son obligatorios");
+        }
+        if (fechaDesde == null) {
+            throw new IllegalArgumentException("fechaDesde es obligatoria");
+        }
+
+        kardexRepository.bloquearPorAlmacenIdYRecursoId(almacenId, recursoId);
+
+        SaldoKardex saldoInicial = kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, fechaDesde)
+                .map(SaldoKardex::desde)
+                .orElse(new SaldoKardex(recursoId, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
+
+        ResultadoRecosteo resultado;
+        try (Stream<RegistroKardex> registros = kardexRepository.recorrerDesde(almacenId, recursoId, fechaDesde)) {
+            resultado = recosteoKardexService.recostear(
+                    saldoInicial, registros.iterator(), TAMANO_LOTE, kardexRepository::actualizarSaldos);
+        }
+
+        recalcularCheckpoints(almacenId, recursoId, fechaDesde);
+
+        SaldoKardex saldoFinal = resultado.saldoFinal();
+        return new RecosteoKardexResponse(
+                almacenId,
+                recursoId,
+                fechaDesde,
+                resultado.registrosRecorridos(),
+                resultado.registrosActualizados(),
+                saldoFinal.saldoCantidad(),
+                saldoFinal.saldoValor(),
+                saldoFinal.costoPromedioPonderado()
+        );
+    }
+
+    /**
+     * Reemplaza los checkpoints del recurso desde la fecha por el saldo recalculado a cada corte.
+     * Se mantienen los del resto de recursos para que cada cierre siga completo.
+     */
+    private void recalcularCheckpoints(UUID almacenId, UUID recursoId, LocalDate fechaDesde) {
+        List<LocalDate> fechasCorte = checkpointRepository.buscarFechasCorteDesde(almacenId, fechaDesde);
+        if (fechasCorte.isEmpty()) {
+            return;
+        }
+        checkpointRepository.eliminarDesde(almacenId, recursoId, fechaDesde);
+
+        List<KardexCheckpoint> checkpoints = fechasCorte.stream()
+                .map(corte -> kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, corte.plusDays(1))
+                        .map(registro -> KardexCheckpoint.crear(almacenId, corte, SaldoKardex.desde(registro))))
+                .flatMap(Optional::stream)
+                .toList();
+        checkpointRepository.guardarTodos(checkpoints);
+    }
+}
@@ -2,11 +2,10 @@ package com.budgetpro.application.almacen.usecase;
 
 import com.budgetpro.application.almacen.dto.MovimientoAlmacenResponse;
 import com.budgetpro.application.almacen.port.in.RegistrarMovimientoAlmacenUseCase;
+import com.budgetpro.application.almacen.service.RegistradorKardexService;
 import com.budgetpro.domain.logistica.almacen.model.*;
 import com.budgetpro.domain.logistica.almacen.port.out.AlmacenRepository;
 import com.budgetpro.domain.logistica.almacen.port.out.MovimientoAlmacenRepository;
-import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
-import com.budgetpro.domain.logistica.almacen.service.GestionKardexService;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -20,19 +19,16 @@ import java.util.UUID;
 @Service
 public class RegistrarMovimientoAlmacenUseCaseImpl implements RegistrarMovimientoAlmacenUseCase {
     
-    private final GestionKardexService gestionKardexService;
+    private final RegistradorKardexService registradorKardexService;
     private final MovimientoAlmacenRepository movimientoRepository;
-    private final RegistroKardexRepository kardexRepository;
     private final AlmacenRepository almacenRepository;
     
     public RegistrarMovimientoAlmacenUseCaseImpl(
-            GestionKardexService gestionKardexService,
+            RegistradorKardexService registradorKardexService,
             MovimientoAlmacenRepository movimientoRepository,
-            RegistroKardexRepository kardexRepository,
             AlmacenRepository almacenRepository) {
-        this.gestionKardexService = gestionKardexService;
+        this.registradorKardexService = registradorKardexService;
         this.movimientoRepository = movimientoRepository;
-        this.kardexRepository = kardexRepository;
         this.almacenRepository = almacenRepository;
     }
     
@@ -82,43 +78,32 @@ public class RegistrarMovimientoAlmacenUseCaseImpl implements RegistrarMovimient
             );
         }
         
-        // Obtener último registro de Kárdex
-        RegistroKardex ultimoRegistro = kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, recursoId)
-                .orElse(null);
-        
-        BigDecimal saldoCantidadAnterior = ultimoRegistro != null ? ultimoRegistro.getSaldoCantidad() : BigDecimal.ZERO;
-        BigDecimal saldoValorAnterior = ultimoRegistro != null ? ultimoRegistro.getSaldoValor() : BigDecimal.ZERO;
-        BigDecimal cppAnterior = ultimoRegistro != null ? ultimoRegistro.getCostoPromedioPonderado() : BigDecimal.ZERO;
+        // Persistir movimiento (el registro de Kárdex lo referencia)
+        movimientoRepository.guardar(movimiento);
         
-        // Procesar movimiento y generar registro de Kárdex
-        RegistroKardex nuevoRegistro;
+        // Registrar en Kárdex con el saldo vigente a la fecha del movimiento;
+        // si es retroactivo se recostean los registros posteriores
+        SaldoKardex saldoActual;
         
         if (tipo == TipoMovimientoAlmacen.ENTRADA) {
-            nuevoRegistro = gestionKardexService.procesarEntrada(
+            saldoActual = registradorKardexService.registrarEntrada(
                 almacenId,
                 recursoId,
+                fechaMovimiento,
                 cantidad,
                 precioUnitario,
-                movimientoId.getValue(),
-                saldoCantidadAnterior,
-                saldoValorAnterior
+                movimientoId.getValue()
             );
         } else {
-            nuevoRegistro = gestionKardexService.procesarSalida(
+            saldoActual = registradorKardexService.registrarSalida(
                 almacenId,
                 recursoId,
+                fechaMovimiento,
                 cantidad,
-                movimientoId.getValue(),
-                saldoCantidadAnterior,
-                saldoValorAnterior,
-                cppAnterior
+                movimientoId.getValue()
             );
         }
         
-        // Persistir movimiento y registro de Kárdex
-        movimientoRepository.guardar(movimiento);
-        kardexRepository.guardar(nuevoRegistro);
-        
         // Mapear a DTO de respuesta
         return new MovimientoAlmacenResponse(
             movimiento.getId().getValue(),
@@ -133,8 +118,8 @@ public class RegistrarMovimientoAlmacenUseCaseImpl implements RegistrarMovimient
             movimiento.getPartidaId(),
             movimiento.getCentroCostoId(),
             movimiento.getObservaciones(),
-            nuevoRegistro.getSaldoCantidad(),
-            nuevoRegistro.getCostoPromedioPonderado()
+            saldoActual.saldoCantidad(),
+            saldoActual.costoPromedioPonderado()
         );
     }
 }
@@ -1,19 +1,19 @@
 package com.budgetpro.application.compra.usecase;
 
+import com.budgetpro.application.almacen.service.RegistradorKardexService;
 import com.budgetpro.application.compra.command.RecibirOrdenCompraCommand;
 import com.budgetpro.application.compra.exception.BusinessRuleException;
 import com.budgetpro.application.compra.exception.DuplicateReceptionException;
 import com.budgetpro.application.compra.exception.InvalidStateException;
 import com.budgetpro.application.compra.exception.ProjectNotActiveException;
 import com.budgetpro.application.compra.port.in.RecibirOrdenCompraInputPort;
+import com.budgetpro.domain.logistica.almacen.model.Almacen;
 import com.budgetpro.domain.logistica.almacen.model.AlmacenId;
 import com.budgetpro.domain.logistica.almacen.model.MovimientoAlmacen;
 import com.budgetpro.domain.logistica.almacen.model.MovimientoAlmacenId;
-import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
 import com.budgetpro.domain.logistica.almacen.port.out.AlmacenRepository;
 import com.budgetpro.domain.logistica.almacen.port.out.MovimientoAlmacenRepository;
-import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
-import com.budgetpro.domain.logistica.almacen.service.GestionKardexService;
+import com.budgetpro.domain.catalogo.model.RecursoProxy;
 import com.budgetpro.domain.catalogo.port.RecursoProxyRepository;
 import com.budgetpro.domain.logistica.compra.model.*;
 import com.budgetpro.domain.logistica.compra.port.out.CompraRepository;
@@ -27,8 +27,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -49,9 +53,8 @@ public class RecibirOrdenCompraUseCase implements RecibirOrdenCompraInputPort {
     private final RecepcionRepository recepcionRepository;
     private final ProyectoRepository proyectoRepository;
     private final MovimientoAlmacenRepository movimientoAlmacenRepository;
-    private final RegistroKardexRepository kardexRepository;
     private final AlmacenRepository almacenRepository;
-    private final GestionKardexService gestionKardexService;
+    private final RegistradorKardexService registradorKardexService;
     private final RecursoProxyRepository recursoProxyRepository;
 
     public RecibirOrdenCompraUseCase(
@@ -59,17 +62,15 @@ public class RecibirOrdenCompraUseCase implements RecibirOrdenCompraInputPort {
             RecepcionRepository recepcionRepository,
             ProyectoRepository proyectoRepository,
             MovimientoAlmacenRepository movimientoAlmacenRepository,
-            RegistroKardexRepository kardexRepository,
             AlmacenRepository almacenRepository,
-            GestionKardexService gestionKardexService,
+            RegistradorKardexService registradorKardexService,
             RecursoProxyRepository recursoProxyRepository) {
         this.compraRepository = compraRepository;
         this.recepcionRepository = recepcionRepository;
         this.proyectoRepository = proyectoRepository;
         this.movimientoAlmacenRepository = movimientoAlmacenRepository;
-        this.kardexRepository = kardexRepository;
         this.almacenRepository = almacenRepository;
-        this.gestionKardexService = gestionKardexService;
+        this.registradorKardexService = registradorKardexService;
         this.recursoProxyRepository = recursoProxyRepository;
     }
 
@@ -160,29 +161,25 @@ public class RecibirOrdenCompraUseCase implements RecibirOrdenCompraInputPort {
             compra.marcarComoParcialmenteRecibida();
         }
         
-        // Step 10: Para cada detalle del comando: crear MovimientoAlmacen, procesar Kardex, recalcular PMP y crear RecepcionDetalle
+        // Step 10: Precargar en bloque almacenes y recursos de todas las líneas
+        Map<AlmacenId, Almacen> almacenes = cargarAlmacenesActivos(command.getDetalles().stream()
+                .map(d -> AlmacenId.of(d.getAlmacenId()))
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+        Map<String, UUID> recursosPorExternalId = obtenerRecursoIdsDesdeExternalIds(command.getDetalles().stream()
+                .map(d -> detallesPorId.get(d.getDetalleOrdenId()).getRecursoExternalId())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        // Step 11: Para cada detalle del comando: crear MovimientoAlmacen, entrada de Kárdex y RecepcionDetalle
+        List<MovimientoAlmacen> movimientos = new ArrayList<>();
+        List<RegistradorKardexService.EntradaKardex> entradasKardex = new ArrayList<>();
         for (var detalleCommand : command.getDetalles()) {
             CompraDetalle detalleCompra = detallesPorId.get(detalleCommand.getDetalleOrdenId());
             
             // Obtener precio unitario del detalle de compra
             BigDecimal precioUnitario = detalleCompra.getPrecioUnitario();
             
-            // Obtener recursoId desde recursoExternalId usando servicio de catálogo
-            UUID recursoId = obtenerRecursoIdDesdeExternalId(detalleCompra.getRecursoExternalId());
-            
-            AlmacenId almacenId = AlmacenId.of(detalleCommand.getAlmacenId());
-            
-            // Validar que el almacén existe y está activo
-            var almacen = almacenRepository.buscarPorId(almacenId)
-                    .orElseThrow(() -> new IllegalArgumentException(
-                        String.format("Almacén no encontrado: %s", almacenId.getValue())
-                    ));
-            
-            if (!almacen.isActivo()) {
-                throw new IllegalStateException(
-                    String.format("El almacén %s no está activo", almacenId.getValue())
-                );
-            }
+            UUID recursoId = recursosPorExternalId.get(detalleCompra.getRecursoExternalId());
+            AlmacenId almacenId = almacenes.get(AlmacenId.of(detalleCommand.getAlmacenId())).getId();
             
             // Crear MovimientoAlmacen de entrada
             MovimientoAlmacenId movimientoId = MovimientoAlmacenId.generate();
@@ -196,34 +193,15 @@ public class RecibirOrdenCompraUseCase implements RecibirOrdenCompraInputPort {
                 command.getGuiaRemision(), // numeroDocumento
                 String.format("Recepción de compra %s", compraId.getValue()) // observaciones
             );
-            
-            // Obtener último registro de Kárdex (locking implícito por transacción)
-            RegistroKardex ultimoRegistro = kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(
-                almacenId.getValue(),
-                recursoId
-            ).orElse(null);
-            
-            BigDecimal saldoCantidadAnterior = ultimoRegistro != null 
-                ? ultimoRegistro.getSaldoCantidad() 
-                : BigDecimal.ZERO;
-            BigDecimal saldoValorAnterior = ultimoRegistro != null 
-                ? ultimoRegistro.getSaldoValor() 
-                : BigDecimal.ZERO;
-            
-            // Procesar entrada y calcular nuevo PMP (REGLA-117)
-            RegistroKardex nuevoRegistroKardex = gestionKardexService.procesarEntrada(
+            movimientos.add(movimiento);
+            entradasKardex.add(new RegistradorKardexService.EntradaKardex(
                 almacenId.getValue(),
                 recursoId,
+                command.getFechaRecepcion(),
                 detalleCommand.getCantidadRecibida(),
                 precioUnitario,
-                movimientoId.getValue(),
-                saldoCantidadAnterior,
-                saldoValorAnterior
-            );
-            
-            // Persistir movimiento y registro de Kárdex
-            movimientoAlmacenRepository.guardar(movimiento);
-            kardexRepository.guardar(nuevoRegistroKardex);
+                movimientoId.getValue()
+            ));
             
             // Crear RecepcionDetalle con el movimientoAlmacenId
             RecepcionDetalleId detalleId = RecepcionDetalleId.generate();
@@ -238,6 +216,11 @@ public class RecibirOrdenCompraUseCase implements RecibirOrdenCompraInputPort {
             );
             detallesRecepcion.add(detalleRecepcion);
         }
+
+        // Persistir movimientos y registrar entradas en Kárdex con la fecha de recepción (en bloque);
+        // una guía ingresada con fecha anterior recostea los registros posteriores (REGLA-117)
+        movimientoAlmacenRepository.guardarTodos(movimientos);
+        registradorKardexService.registrarEntradas(entradasKardex);
         
         // Crear la recepción con los detalles creados
         Recepcion recepcion;
@@ -255,38 +238,71 @@ public class RecibirOrdenCompraUseCase implements RecibirOrdenCompraInputPort {
             throw new BusinessRuleException(e.getMessage());
         }
         
-        // Step 11: Persistir todos los cambios
+        // Step 12: Persistir todos los cambios
         recepcionRepository.save(recepcion);
         compraRepository.save(compra);
         
-        // Step 12: Retornar Recepcion completa
+        // Step 13: Retornar Recepcion completa
         return recepcion;
     }
     
     /**
-     * Obtiene el recursoId (UUID) desde el recursoExternalId (String).
+     * Carga en una sola consulta los almacenes de la recepción y valida que existan y estén activos.
+     *
+     * @throws IllegalArgumentException si algún almacén no existe
+     * @throws IllegalStateException si algún almacén no está activo
+     */
+    private Map<AlmacenId, Almacen> cargarAlmacenesActivos(Collection<AlmacenId> almacenIds) {
+        Map<AlmacenId, Almacen> almacenes = almacenRepository.buscarPorIds(almacenIds).stream()
+                .collect(Collectors.toMap(Almacen::getId, a -> a));
+        for (AlmacenId almacenId : almacenIds) {
+            Almacen almacen = almacenes.get(almacenId);
+            if (almacen == null) {
+                throw new IllegalArgumentException(
+                    String.format("Almacén no encontrado: %s", almacenId.getValue())
+                );
+            }
+            if (!almacen.isActivo()) {
+                throw new IllegalStateException(
+                    String.format("El almacén %s no está activo", almacenId.getValue())
+                );
+            }
+        }
+        return almacenes;
+    }
+
+    /**
+     * Obtiene los recursoId (UUID) desde los recursoExternalId (String).
      * 
-     * Busca el RecursoProxy usando el externalId. Intenta con diferentes catalogSource
-     * si el primero no funciona (CAPECO, CATALOGO_GLOBAL).
+     * Busca los RecursoProxy en bloque por catalogSource (CAPECO y, para los que falten,
+     * CATALOGO_GLOBAL), una consulta por catálogo.
      * 
-     * @param recursoExternalId ID externo del recurso (ej. "MAT-001")
-     * @return UUID del recurso
-     * @throws IllegalArgumentException si no se encuentra el recurso proxy
+     * @param recursoExternalIds IDs externos de los recursos (ej. "MAT-001")
+     * @return UUID del recurso por externalId
+     * @throws IllegalArgumentException si no se encuentra el recurso proxy de algún externalId
      */
-    private UUID obtenerRecursoIdDesdeExternalId(String recursoExternalId) {
+    private Map<String, UUID> obtenerRecursoIdsDesdeExternalIds(Collection<String> recursoExternalIds) {
         // Intentar con diferentes catalogSource comunes
         String[] catalogSources = {"CAPECO", "CATALOGO_GLOBAL"};
         
+        Map<String, UUID> recursoIds = new HashMap<>();
+        Set<String> pendientes = new LinkedHashSet<>(recursoExternalIds);
         for (String catalogSource : catalogSources) {
-            var recursoProxy = recursoProxyRepository.findByExternalId(recursoExternalId, catalogSource);
-            if (recursoProxy.isPresent()) {
-                return recursoProxy.get().getId().getValue();
+            if (pendientes.isEmpty()) {
+                break;
+            }
+            for (RecursoProxy recursoProxy : recursoProxyRepository.findByExternalIds(List.copyOf(pendientes), catalogSource)) {
+                recursoIds.putIfAbsent(recursoProxy.getExternalId(), recursoProxy.getId().getValue());
             }
+            pendientes.removeAll(recursoIds.keySet());
         }
         
-        throw new IllegalArgumentException(
-            String.format("No se encontró RecursoProxy para externalId '%s' en ningún catálogo conocido",
-                recursoExternalId)
-        );
+        if (!pendientes.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format("No se encontró RecursoProxy para externalId '%s' en ningún catálogo conocido",
+                    pendientes.iterator().next())
+            );
+        }
+        return recursoIds;
     }
 }
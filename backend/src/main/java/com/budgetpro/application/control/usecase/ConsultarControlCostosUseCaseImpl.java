@@ -5,8 +5,7 @@ import com.budgetpro.application.control.dto.ReportePartidaDTO;
 import com.budgetpro.application.control.port.in.ConsultarControlCostosUseCase;
 import com.budgetpro.application.presupuesto.exception.PresupuestoNoEncontradoException;
 import com.budgetpro.domain.finanzas.control.service.AgregacionControlCostosService;
-import com.budgetpro.domain.finanzas.consumo.model.ConsumoPartida;
-import com.budgetpro.domain.finanzas.consumo.port.out.ConsumoPartidaRepository;
+import com.budgetpro.domain.finanzas.consumo.port.out.GastoAcumuladoPartidaRepository;
 import com.budgetpro.domain.finanzas.partida.model.Partida;
 import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
 import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
@@ -25,7 +24,7 @@ import java.util.stream.Collectors;
  * 
  * OPTIMIZACIÓN ANTI-N+1:
  * - Carga todas las Partida del presupuesto en una query
- * - Carga todos los ConsumoPartida del proyecto en una query
+ * - Lee el gasto acumulado por partida (mantenido por delta con cada consumo) en una query
  * - Hace el cruce y agregación en memoria (Java Streams)
  */
 @Service
@@ -33,17 +32,17 @@ public class ConsultarControlCostosUseCaseImpl implements ConsultarControlCostos
 
     private final PresupuestoRepository presupuestoRepository;
     private final PartidaRepository partidaRepository;
-    private final ConsumoPartidaRepository consumoPartidaRepository;
+    private final GastoAcumuladoPartidaRepository gastoAcumuladoPartidaRepository;
     private final AgregacionControlCostosService agregacionService;
 
     public ConsultarControlCostosUseCaseImpl(
             PresupuestoRepository presupuestoRepository,
             PartidaRepository partidaRepository,
-            ConsumoPartidaRepository consumoPartidaRepository,
+            GastoAcumuladoPartidaRepository gastoAcumuladoPartidaRepository,
             AgregacionControlCostosService agregacionService) {
         this.presupuestoRepository = presupuestoRepository;
         this.partidaRepository = partidaRepository;
-        this.consumoPartidaRepository = consumoPartidaRepository;
+        this.gastoAcumuladoPartidaRepository = gastoAcumuladoPartidaRepository;
         this.agregacionService = agregacionService;
     }
 
@@ -69,21 +68,15 @@ public class ConsultarControlCostosUseCaseImpl implements ConsultarControlCostos
             );
         }
 
-        // 3. OPTIMIZACIÓN: Cargar todos los ConsumoPartida del proyecto en una query
-        // Extraer IDs de partidas
+        // 3. OPTIMIZACIÓN: Leer el gasto acumulado de todas las partidas en una query
         Set<UUID> partidaIds = partidas.stream()
                 .map(p -> p.getId().getValue())
                 .collect(Collectors.toSet());
-        
-        // Cargar consumos de todas las partidas (evita N+1)
-        List<ConsumoPartida> consumos = new ArrayList<>();
-        for (UUID partidaId : partidaIds) {
-            consumos.addAll(consumoPartidaRepository.findByPartidaId(partidaId));
-        }
+        Map<UUID, BigDecimal> gastoPorPartida = gastoAcumuladoPartidaRepository.obtenerGastoAcumulado(partidaIds);
 
         // 4. Agregar datos de control (Plan vs Real) usando el servicio de dominio
         Map<UUID, AgregacionControlCostosService.DatosControlPartida> datosPorPartida =
-                agregacionService.agregarDatosControl(partidas, consumos);
+                agregacionService.agregarDatosControlConGasto(partidas, gastoPorPartida);
 
         // 5. Construir estructura jerárquica de DTOs
         List<ReportePartidaDTO> partidasDTO = construirJerarquia(partidas, datosPorPartida);
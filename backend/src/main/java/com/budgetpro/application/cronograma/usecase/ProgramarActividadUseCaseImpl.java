@@ -9,8 +9,11 @@ import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
 import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
 import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
 import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObraId;
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
 import com.budgetpro.domain.finanzas.cronograma.port.out.ActividadProgramadaRepository;
+import com.budgetpro.domain.finanzas.cronograma.port.out.CalendarioFeriadosPort;
 import com.budgetpro.domain.finanzas.cronograma.port.out.ProgramaObraRepository;
+import com.budgetpro.domain.finanzas.cronograma.port.out.TiemposActividadRepository;
 import com.budgetpro.domain.finanzas.cronograma.service.CalculoCronogramaService;
 import com.budgetpro.domain.finanzas.partida.model.PartidaId;
 import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
@@ -20,6 +23,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -33,15 +38,20 @@ public class ProgramarActividadUseCaseImpl implements ProgramarActividadUseCase
     private final ProgramaObraRepository programaObraRepository;
     private final ActividadProgramadaRepository actividadProgramadaRepository;
     private final CalculoCronogramaService calculoCronogramaService;
+    private final TiemposActividadRepository tiemposActividadRepository;
+    private final CalendarioFeriadosPort calendarioFeriadosPort;
 
     public ProgramarActividadUseCaseImpl(ProyectoRepository proyectoRepository, PartidaRepository partidaRepository,
             ProgramaObraRepository programaObraRepository, ActividadProgramadaRepository actividadProgramadaRepository,
-            CalculoCronogramaService calculoCronogramaService) {
+            CalculoCronogramaService calculoCronogramaService, TiemposActividadRepository tiemposActividadRepository,
+            CalendarioFeriadosPort calendarioFeriadosPort) {
         this.proyectoRepository = proyectoRepository;
         this.partidaRepository = partidaRepository;
         this.programaObraRepository = programaObraRepository;
         this.actividadProgramadaRepository = actividadProgramadaRepository;
         this.calculoCronogramaService = calculoCronogramaService;
+        this.tiemposActividadRepository = tiemposActividadRepository;
+        this.calendarioFeriadosPort = calendarioFeriadosPort;
     }
 
     @Override
@@ -71,7 +81,8 @@ public class ProgramarActividadUseCaseImpl implements ProgramarActividadUseCase
 
         // 4. Buscar o crear la actividad programada
         final ProgramaObra programaObraFinal = programaObra;
-        ActividadProgramada actividad = actividadProgramadaRepository.findByPartidaId(command.partidaId())
+        Optional<ActividadProgramada> existente = actividadProgramadaRepository.findByPartidaId(command.partidaId());
+        ActividadProgramada actividad = existente
                 .orElseGet(() -> {
                     ActividadProgramadaId id = ActividadProgramadaId.nuevo();
                     return ActividadProgramada.crear(id, command.partidaId(), programaObraFinal.getId().getValue(),
@@ -83,10 +94,12 @@ public class ProgramarActividadUseCaseImpl implements ProgramarActividadUseCase
 
         // 6. Actualizar predecesoras
         if (command.predecesoras() != null) {
-            // Eliminar todas las predecesoras actuales y agregar las nuevas
-            List<UUID> predecesorasActuales = actividad.getPredecesoras();
-            for (UUID predecesoraId : predecesorasActuales) {
-                actividad = actividad.eliminarPredecesora(predecesoraId);
+            // Eliminar las predecesoras que ya no están; las que siguen conservan su tipo y
+            // desfase, y las nuevas se agregan como Fin-Inicio
+            for (UUID predecesoraId : actividad.getPredecesoras()) {
+                if (!command.predecesoras().contains(predecesoraId)) {
+                    actividad = actividad.eliminarPredecesora(predecesoraId);
+                }
             }
             for (UUID predecesoraId : command.predecesoras()) {
                 actividad = actividad.agregarPredecesora(predecesoraId);
@@ -95,6 +108,8 @@ public class ProgramarActividadUseCaseImpl implements ProgramarActividadUseCase
 
         // 7. Persistir actividad
         actividadProgramadaRepository.save(actividad);
+        boolean cambioDependencias = existente.isEmpty()
+                || !Set.copyOf(existente.get().getDependencias()).equals(Set.copyOf(actividad.getDependencias()));
 
         // 8. Recalcular fecha de fin del programa basándose en todas las actividades
         List<ActividadProgramada> todasLasActividades = actividadProgramadaRepository
@@ -105,10 +120,18 @@ public class ProgramarActividadUseCaseImpl implements ProgramarActividadUseCase
             programaObra = programaObra.actualizarFechaFinDesdeActividades(fechaFinMasTardia);
         }
 
-        // 9. Persistir programa actualizado
+        // 9. Recalcular la ruta crítica: incremental desde los tiempos persistidos si solo
+        // cambiaron fechas; solo se guardan los tiempos de las actividades afectadas
+        List<TiemposActividad> tiemposCambiados = calculoCronogramaService.recalcularRutaCritica(programaObra,
+                todasLasActividades,
+                tiemposActividadRepository.findByProgramaObraId(programaObra.getId().getValue()),
+                calendarioFeriadosPort.obtenerFeriados(command.proyectoId()), cambioDependencias);
+        tiemposActividadRepository.guardar(tiemposCambiados);
+
+        // 10. Persistir programa actualizado
         programaObraRepository.save(programaObra);
 
-        // 10. Retornar respuesta
+        // 11. Retornar respuesta
         return new ActividadProgramadaResponse(actividad.getId().getValue(), actividad.getPartidaId(),
                 actividad.getProgramaObraId(), actividad.getFechaInicio(), actividad.getFechaFin(),
                 actividad.getDuracionDias(), actividad.getPredecesoras(), actividad.getVersion().intValue());
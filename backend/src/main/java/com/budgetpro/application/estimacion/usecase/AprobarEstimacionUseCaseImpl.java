@@ -7,6 +7,7 @@ import com.budgetpro.domain.finanzas.estimacion.exception.SequentialApprovalExce
 import com.budgetpro.domain.finanzas.estimacion.model.Estimacion;
 import com.budgetpro.domain.finanzas.estimacion.model.EstimacionId;
 import com.budgetpro.domain.finanzas.estimacion.model.EstadoEstimacion;
+import com.budgetpro.domain.finanzas.estimacion.port.out.AcumuladoEstimacionRepository;
 import com.budgetpro.domain.finanzas.estimacion.port.out.EstimacionRepository;
 import com.budgetpro.domain.finanzas.model.Billetera;
 import com.budgetpro.domain.finanzas.port.out.BilleteraRepository;
@@ -29,13 +30,16 @@ public class AprobarEstimacionUseCaseImpl implements AprobarEstimacionUseCase {
         private final EstimacionRepository estimacionRepository;
         private final AnticipoMovimientoRepository anticipoMovimientoRepository;
         private final BilleteraRepository billeteraRepository;
+        private final AcumuladoEstimacionRepository acumuladoEstimacionRepository;
 
         public AprobarEstimacionUseCaseImpl(EstimacionRepository estimacionRepository,
                         AnticipoMovimientoRepository anticipoMovimientoRepository,
-                        BilleteraRepository billeteraRepository) {
+                        BilleteraRepository billeteraRepository,
+                        AcumuladoEstimacionRepository acumuladoEstimacionRepository) {
                 this.estimacionRepository = estimacionRepository;
                 this.anticipoMovimientoRepository = anticipoMovimientoRepository;
                 this.billeteraRepository = billeteraRepository;
+                this.acumuladoEstimacionRepository = acumuladoEstimacionRepository;
         }
 
         @Override
@@ -78,8 +82,9 @@ public class AprobarEstimacionUseCaseImpl implements AprobarEstimacionUseCase {
                 // 3. Aprobar la estimación (cambia estado a APROBADA)
                 estimacion.aprobar();
 
-                // 4. Persistir estimación aprobada
+                // 4. Persistir estimación aprobada y sumar su avance al acumulado por partida
                 estimacionRepository.save(estimacion);
+                acumuladoEstimacionRepository.acumular(estimacion);
 
                 // 5. Registrar amortización de anticipo si aplica
                 BigDecimal amortizacion = estimacion.getAmortizacionAnticipo() != null
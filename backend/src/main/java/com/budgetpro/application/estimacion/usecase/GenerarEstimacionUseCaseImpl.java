@@ -10,10 +10,10 @@ import com.budgetpro.domain.finanzas.estimacion.model.DetalleEstimacion;
 import com.budgetpro.domain.finanzas.estimacion.model.DetalleEstimacionId;
 import com.budgetpro.domain.finanzas.estimacion.model.Estimacion;
 import com.budgetpro.domain.finanzas.estimacion.model.EstimacionId;
+import com.budgetpro.domain.finanzas.estimacion.port.out.AcumuladoEstimacionRepository;
 import com.budgetpro.domain.finanzas.estimacion.port.out.EstimacionRepository;
 import com.budgetpro.domain.finanzas.estimacion.service.GeneradorEstimacionService;
 import com.budgetpro.domain.finanzas.partida.model.Partida;
-import com.budgetpro.domain.finanzas.partida.model.PartidaId;
 import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
 import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
 import com.budgetpro.domain.proyecto.model.ProyectoId;
@@ -22,7 +22,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,19 +41,22 @@ public class GenerarEstimacionUseCaseImpl implements GenerarEstimacionUseCase {
     private final EstimacionRepository estimacionRepository;
     private final GeneradorEstimacionService generadorEstimacionService;
     private final AnticipoMovimientoRepository anticipoMovimientoRepository;
+    private final AcumuladoEstimacionRepository acumuladoEstimacionRepository;
 
     public GenerarEstimacionUseCaseImpl(ProyectoRepository proyectoRepository,
                                       PresupuestoRepository presupuestoRepository,
                                       PartidaRepository partidaRepository,
                                       EstimacionRepository estimacionRepository,
                                       GeneradorEstimacionService generadorEstimacionService,
-                                      AnticipoMovimientoRepository anticipoMovimientoRepository) {
+                                      AnticipoMovimientoRepository anticipoMovimientoRepository,
+                                      AcumuladoEstimacionRepository acumuladoEstimacionRepository) {
         this.proyectoRepository = proyectoRepository;
         this.presupuestoRepository = presupuestoRepository;
         this.partidaRepository = partidaRepository;
         this.estimacionRepository = estimacionRepository;
         this.generadorEstimacionService = generadorEstimacionService;
         this.anticipoMovimientoRepository = anticipoMovimientoRepository;
+        this.acumuladoEstimacionRepository = acumuladoEstimacionRepository;
     }
 
     @Override
@@ -69,8 +76,15 @@ public class GenerarEstimacionUseCaseImpl implements GenerarEstimacionUseCase {
         // 3. Obtener el siguiente número de estimación
         Integer numeroEstimacion = estimacionRepository.obtenerSiguienteNumeroEstimacion(command.proyectoId());
 
-        // 4. Buscar estimaciones previas aprobadas (para calcular acumulados)
-        List<Estimacion> estimacionesPrevias = estimacionRepository.findAprobadasByProyectoId(command.proyectoId());
+        // 4. Cargar partidas y acumulados aprobados de todos los detalles (una consulta cada uno)
+        List<UUID> partidaIds = command.detalles().stream()
+                .map(GenerarEstimacionCommand.DetalleEstimacionItem::partidaId)
+                .distinct()
+                .toList();
+        Map<UUID, Partida> partidas = partidaRepository.findAllById(partidaIds).stream()
+                .collect(Collectors.toMap(partida -> partida.getId().getValue(), Function.identity()));
+        Map<UUID, BigDecimal> acumulados = acumuladoEstimacionRepository.obtenerAcumulados(
+                command.proyectoId(), partidaIds);
 
         // 5. Crear la estimación
         EstimacionId estimacionId = EstimacionId.nuevo();
@@ -81,12 +95,14 @@ public class GenerarEstimacionUseCaseImpl implements GenerarEstimacionUseCase {
         // 6. Procesar cada detalle
         for (GenerarEstimacionCommand.DetalleEstimacionItem item : command.detalles()) {
             // 6.1 Validar que la partida existe
-            Partida partida = partidaRepository.findById(PartidaId.from(item.partidaId()))
-                    .orElseThrow(() -> new com.budgetpro.application.compra.exception.PartidaNoEncontradaException(item.partidaId()));
+            Partida partida = partidas.get(item.partidaId());
+            if (partida == null) {
+                throw new com.budgetpro.application.compra.exception.PartidaNoEncontradaException(item.partidaId());
+            }
 
-            // 6.2 Calcular acumulado anterior
-            BigDecimal acumuladoAnterior = generadorEstimacionService.calcularAcumuladoAnterior(
-                    item.partidaId(), estimacionesPrevias);
+            // 6.2 Acumulado anterior (estimaciones aprobadas)
+            BigDecimal acumuladoAnterior = acumulados.getOrDefault(item.partidaId(), BigDecimal.ZERO)
+                    .setScale(4, RoundingMode.HALF_UP);
 
             // 6.3 Validar volumen (no permitir estimar más del 100%)
             // REGLA-016
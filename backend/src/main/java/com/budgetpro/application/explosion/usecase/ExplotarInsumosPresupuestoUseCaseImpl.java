@@ -20,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Implementación del caso de uso para explotar insumos de un presupuesto.
@@ -54,26 +53,17 @@ public class ExplotarInsumosPresupuestoUseCaseImpl implements ExplotarInsumosPre
                 presupuestoRepository.findById(PresupuestoId.from(presupuestoId))
                                 .orElseThrow(() -> new PresupuestoNoEncontradoException(presupuestoId));
 
-                // 2. Obtener todas las partidas del presupuesto
-                List<Partida> partidas = partidaRepository.findByPresupuestoId(presupuestoId);
+                // 2. Obtener las partidas hoja (sin hijos en WBS) del presupuesto
+                List<Partida> partidasHoja = partidaRepository.findHojasByPresupuestoId(presupuestoId);
 
-                if (partidas.isEmpty()) {
+                if (partidasHoja.isEmpty()) {
                         log.warn("Presupuesto {} no tiene partidas", presupuestoId);
                         return new ExplosionInsumosResponse(Collections.emptyMap());
                 }
 
-                // 3. Identificar partidas hoja (sin hijos en WBS)
-                Map<UUID, List<Partida>> hijosPorPadre = partidas.stream().filter(p -> p.getPadreId() != null)
-                                .collect(Collectors.groupingBy(Partida::getPadreId));
+                log.debug("Encontradas {} partidas hoja", partidasHoja.size());
 
-                List<Partida> partidasHoja = partidas.stream().filter(partida -> {
-                        List<Partida> hijos = hijosPorPadre.get(partida.getId().getValue());
-                        return hijos == null || hijos.isEmpty();
-                }).collect(Collectors.toList());
-
-                log.debug("Encontradas {} partidas hoja de {} partidas totales", partidasHoja.size(), partidas.size());
-
-                // 4. Agregar cantidades de insumos normalizadas
+                // 3. Agregar cantidades de insumos normalizadas
                 Map<String, RecursoAgregado> recursosAgregados = new HashMap<>();
 
                 for (Partida partidaHoja : partidasHoja) {
@@ -96,7 +86,7 @@ public class ExplotarInsumosPresupuestoUseCaseImpl implements ExplotarInsumosPre
                         }
                 }
 
-                // 5. Agrupar por tipo de recurso y construir respuesta
+                // 4. Agrupar por tipo de recurso y construir respuesta
                 Map<String, List<RecursoAgregadoDTO>> recursosPorTipo = agruparPorTipo(recursosAgregados);
 
                 return new ExplosionInsumosResponse(recursosPorTipo);
@@ -0,0 +1,41 @@
+package com.budgetpro.application.partida.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Árbol WBS ya construido de un presupuesto, asociado a la versión de partidas de la que
+ * se obtuvo. Inmutable: se comparte entre peticiones desde la caché.
+ *
+ * @param version    Huella de versión de las partidas con la que se construyó
+ * @param raices     Partidas raíz con sus subárboles, ordenadas por item
+ * @param nodosPorId Índice de todos los nodos por ID de partida
+ */
+public record ArbolWbs(
+        String version,
+        List<WbsNodeResponse> raices,
+        Map<UUID, WbsNodeResponse> nodosPorId
+) {
+
+    public ArbolWbs {
+        raices = List.copyOf(raices);
+        nodosPorId = Map.copyOf(nodosPorId);
+    }
+
+    /**
+     * Nodos hijos directos de una partida, o las raíces si {@code padreId} es nulo.
+     *
+     * @throws IllegalArgumentException si la partida no pertenece al árbol
+     */
+    public List<WbsNodeResponse> hijosDe(UUID padreId) {
+        if (padreId == null) {
+            return raices;
+        }
+        WbsNodeResponse padre = nodosPorId.get(padreId);
+        if (padre == null) {
+            throw new IllegalArgumentException("Partida no encontrada en el presupuesto: " + padreId);
+        }
+        return padre.children();
+    }
+}
@@ -0,0 +1,11 @@
+package com.budgetpro.application.partida.dto;
+
+/**
+ * Nodo de un nivel del árbol WBS (modo perezoso): la partida y la cantidad de hijas directas,
+ * para que el cliente sepa si puede expandirla sin pedir el subárbol completo.
+ */
+public record WbsNivelResponse(
+        PartidaResponse partida,
+        int cantidadHijos
+) {
+}
@@ -1,11 +1,29 @@
 package com.budgetpro.application.partida.port.in;
 
+import com.budgetpro.application.partida.dto.WbsNivelResponse;
 import com.budgetpro.application.partida.dto.WbsNodeResponse;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface ObtenerWbsUseCase {
-    List<WbsNodeResponse> obtenerWbsPorPresupuesto(UUID presupuestoId);
-}
+    /**
+     * Árbol WBS completo del presupuesto.
+     *
+     * @param version versión ya leída con {@link #obtenerVersionWbs} (p. ej. para el ETag); no se
+     *                vuelve a calcular
+     */
+    List<WbsNodeResponse> obtenerWbsPorPresupuesto(UUID presupuestoId, String version);
+
+    /**
+     * Hijas directas de una partida (o las raíces si {@code padreId} es nulo), sin sus subárboles.
+     *
+     * @param version versión ya leída con {@link #obtenerVersionWbs}
+     */
+    List<WbsNivelResponse> obtenerNivelWbs(UUID presupuestoId, UUID padreId, String version);
 
+    /**
+     * Versión vigente del árbol WBS del presupuesto; cambia con cualquier escritura de sus partidas.
+     */
+    String obtenerVersionWbs(UUID presupuestoId);
+}
@@ -0,0 +1,27 @@
+package com.budgetpro.application.partida.port.out;
+
+import com.budgetpro.application.partida.dto.ArbolWbs;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para la caché de árboles WBS construidos, uno por presupuesto.
+ */
+public interface WbsCache {
+
+    /**
+     * Devuelve el árbol en caché del presupuesto solo si fue construido con la versión indicada.
+     */
+    Optional<ArbolWbs> obtener(UUID presupuestoId, String version);
+
+    /**
+     * Guarda (o reemplaza) el árbol del presupuesto.
+     */
+    void guardar(UUID presupuestoId, ArbolWbs arbol);
+
+    /**
+     * Descarta el árbol del presupuesto tras una escritura de partidas.
+     */
+    void invalidar(UUID presupuestoId);
+}
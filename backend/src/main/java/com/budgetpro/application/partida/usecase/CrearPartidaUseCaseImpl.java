@@ -6,6 +6,7 @@ import com.budgetpro.application.partida.exception.PartidaPadreDiferentePresupue
 import com.budgetpro.application.partida.exception.PartidaPadreNoEncontradaException;
 import com.budgetpro.application.partida.exception.PresupuestoNoEncontradoException;
 import com.budgetpro.application.partida.port.in.CrearPartidaUseCase;
+import com.budgetpro.application.partida.port.out.WbsCache;
 import com.budgetpro.domain.finanzas.partida.model.Partida;
 import com.budgetpro.domain.finanzas.partida.model.PartidaId;
 import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
@@ -26,10 +27,13 @@ public class CrearPartidaUseCaseImpl implements CrearPartidaUseCase {
 
     private final PartidaRepository partidaRepository;
     private final PresupuestoRepository presupuestoRepository;
+    private final WbsCache wbsCache;
 
-    public CrearPartidaUseCaseImpl(PartidaRepository partidaRepository, PresupuestoRepository presupuestoRepository) {
+    public CrearPartidaUseCaseImpl(PartidaRepository partidaRepository, PresupuestoRepository presupuestoRepository,
+            WbsCache wbsCache) {
         this.partidaRepository = partidaRepository;
         this.presupuestoRepository = presupuestoRepository;
+        this.wbsCache = wbsCache;
     }
 
     @Override
@@ -89,6 +93,7 @@ public class CrearPartidaUseCaseImpl implements CrearPartidaUseCase {
 
         // Persistir
         partidaRepository.save(partida);
+        wbsCache.invalidar(command.presupuestoId());
 
         // Retornar respuesta
         return new PartidaResponse(partida.getId().getValue(), partida.getPresupuestoId(), partida.getPadreId(),
@@ -1,7 +1,10 @@
 package com.budgetpro.application.partida.usecase;
 
+import com.budgetpro.application.partida.dto.ArbolWbs;
+import com.budgetpro.application.partida.dto.WbsNivelResponse;
 import com.budgetpro.application.partida.dto.WbsNodeResponse;
 import com.budgetpro.application.partida.port.in.ObtenerWbsUseCase;
+import com.budgetpro.application.partida.port.out.WbsCache;
 import com.budgetpro.domain.finanzas.partida.model.Partida;
 import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
 import org.springframework.stereotype.Service;
@@ -14,23 +17,62 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Construye el árbol WBS de un presupuesto y lo reutiliza mientras no cambie la versión
+ * de sus partidas (una consulta agregada, sin cargar la jerarquía). El llamador lee la versión
+ * una sola vez y la pasa a las consultas del árbol, de modo que el ETag y la caché comparten
+ * el mismo agregado.
+ */
 @Service
 public class ObtenerWbsUseCaseImpl implements ObtenerWbsUseCase {
 
     private final PartidaRepository partidaRepository;
+    private final WbsCache wbsCache;
 
-    public ObtenerWbsUseCaseImpl(PartidaRepository partidaRepository) {
+    public ObtenerWbsUseCaseImpl(PartidaRepository partidaRepository, WbsCache wbsCache) {
         this.partidaRepository = partidaRepository;
+        this.wbsCache = wbsCache;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<WbsNodeResponse> obtenerWbsPorPresupuesto(UUID presupuestoId) {
+    public List<WbsNodeResponse> obtenerWbsPorPresupuesto(UUID presupuestoId, String version) {
+        return obtenerArbol(presupuestoId, version).raices();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WbsNivelResponse> obtenerNivelWbs(UUID presupuestoId, UUID padreId, String version) {
+        return obtenerArbol(presupuestoId, version).hijosDe(padreId).stream()
+                .map(nodo -> new WbsNivelResponse(nodo.partida(), nodo.children().size()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String obtenerVersionWbs(UUID presupuestoId) {
         if (presupuestoId == null) {
             throw new IllegalArgumentException("presupuestoId es obligatorio");
         }
+        return partidaRepository.calcularVersionWbs(presupuestoId);
+    }
 
+    private ArbolWbs obtenerArbol(UUID presupuestoId, String version) {
+        // La versión (la del ETag) se leyó antes que las partidas: si cambian entre ambas lecturas,
+        // el árbol guardado es más nuevo que su versión y la siguiente petición lo reconstruye.
+        if (version == null) {
+            throw new IllegalArgumentException("version es obligatoria");
+        }
+        return wbsCache.obtener(presupuestoId, version).orElseGet(() -> {
+            ArbolWbs arbol = construirArbol(presupuestoId, version);
+            wbsCache.guardar(presupuestoId, arbol);
+            return arbol;
+        });
+    }
+
+    private ArbolWbs construirArbol(UUID presupuestoId, String version) {
         // Copia mutable: el adapter puede devolver lista no modificable (p. ej. stream().toList()).
+        // Ordenar una sola vez conserva el orden por item dentro de cada grupo de hijas.
         List<Partida> partidas = new ArrayList<>(partidaRepository.findByPresupuestoId(presupuestoId));
         partidas.sort(Comparator.comparing(Partida::getItem, Comparator.nullsLast(String::compareTo)));
 
@@ -45,18 +87,21 @@ public class ObtenerWbsUseCaseImpl implements ObtenerWbsUseCase {
             }
         }
 
-        return roots.stream()
-                .map(root -> buildNode(root, childrenByParent))
+        Map<UUID, WbsNodeResponse> nodosPorId = new HashMap<>(partidas.size() * 2);
+        List<WbsNodeResponse> raices = roots.stream()
+                .map(root -> buildNode(root, childrenByParent, nodosPorId))
                 .toList();
+        return new ArbolWbs(version, raices, nodosPorId);
     }
 
-    private WbsNodeResponse buildNode(Partida partida, Map<UUID, List<Partida>> childrenByParent) {
-        // No usar List.of() + sort(): List.of() es inmutable → UnsupportedOperationException (500 en /wbs).
-        List<Partida> children = new ArrayList<>(
-                childrenByParent.getOrDefault(partida.getId().getValue(), List.of()));
-        children.sort(Comparator.comparing(Partida::getItem, Comparator.nullsLast(String::compareTo)));
-        List<WbsNodeResponse> mapped = children.stream().map(c -> buildNode(c, childrenByParent)).toList();
-        return new WbsNodeResponse(ObtenerPartidaUseCaseImpl.toResponse(partida), mapped);
+    private WbsNodeResponse buildNode(Partida partida, Map<UUID, List<Partida>> childrenByParent,
+                                      Map<UUID, WbsNodeResponse> nodosPorId) {
+        UUID id = partida.getId().getValue();
+        List<WbsNodeResponse> mapped = childrenByParent.getOrDefault(id, List.of()).stream()
+                .map(c -> buildNode(c, childrenByParent, nodosPorId))
+                .toList();
+        WbsNodeResponse nodo = new WbsNodeResponse(ObtenerPartidaUseCaseImpl.toResponse(partida), mapped);
+        nodosPorId.put(id, nodo);
+        return nodo;
     }
 }
-
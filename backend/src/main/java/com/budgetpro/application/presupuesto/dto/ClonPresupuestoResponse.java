@@ -0,0 +1,10 @@
+package com.budgetpro.application.presupuesto.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO de respuesta de la copia de un presupuesto.
+ */
+public record ClonPresupuestoResponse(UUID id, UUID presupuestoOrigenId, String nombre, int subpresupuestos,
+                                      int partidas, int apus, int insumos) {
+}
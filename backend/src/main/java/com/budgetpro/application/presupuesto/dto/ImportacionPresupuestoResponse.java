@@ -0,0 +1,25 @@
+package com.budgetpro.application.presupuesto.dto;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoImportacion;
+import com.budgetpro.domain.finanzas.presupuesto.model.ImportacionPresupuesto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con el estado de una importación de presupuesto.
+ */
+public record ImportacionPresupuestoResponse(UUID id, UUID presupuestoId, String nombreArchivo,
+                                             EstadoImportacion estado, long filasProcesadas,
+                                             long partidasImportadas, long insumosImportados,
+                                             List<String> errores, LocalDateTime creadoEn,
+                                             LocalDateTime finalizadoEn) {
+
+    public static ImportacionPresupuestoResponse desde(ImportacionPresupuesto importacion) {
+        return new ImportacionPresupuestoResponse(importacion.getId(), importacion.getPresupuestoId(),
+                importacion.getNombreArchivo(), importacion.getEstado(), importacion.getFilasProcesadas(),
+                importacion.getPartidasImportadas(), importacion.getInsumosImportados(), importacion.getErrores(),
+                importacion.getCreadoEn(), importacion.getFinalizadoEn());
+    }
+}
@@ -0,0 +1,17 @@
+package com.budgetpro.application.presupuesto.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+/**
+ * Excepción lanzada cuando se consulta una importación de presupuesto que no existe.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ImportacionPresupuestoNoEncontradaException extends RuntimeException {
+
+    public ImportacionPresupuestoNoEncontradaException(UUID importacionId) {
+        super(String.format("No se encontró una importación con ID '%s'", importacionId));
+    }
+}
@@ -0,0 +1,21 @@
+package com.budgetpro.application.presupuesto.port.in;
+
+import com.budgetpro.application.presupuesto.dto.ClonPresupuestoResponse;
+
+import java.util.UUID;
+
+/**
+ * Puerto de entrada (Inbound Port) para copiar un presupuesto (versión o escenario "qué pasa si").
+ */
+public interface ClonarPresupuestoUseCase {
+
+    /**
+     * Copia un presupuesto completo en una sola transacción.
+     *
+     * @param presupuestoId El ID del presupuesto a copiar
+     * @param nombre Nombre de la copia; si es nulo o vacío se usa "&lt;nombre&gt; (copia)"
+     * @return Datos de la copia creada (en BORRADOR)
+     * @throws com.budgetpro.application.presupuesto.exception.PresupuestoNoEncontradoException si el presupuesto no existe
+     */
+    ClonPresupuestoResponse clonar(UUID presupuestoId, String nombre);
+}
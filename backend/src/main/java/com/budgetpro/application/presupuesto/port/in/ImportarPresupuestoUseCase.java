@@ -0,0 +1,40 @@
+package com.budgetpro.application.presupuesto.port.in;
+
+import com.budgetpro.application.presupuesto.dto.ImportacionPresupuestoResponse;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Puerto de entrada (Inbound Port) para la importación masiva de partidas y APUs
+ * desde una planilla (CSV o XLSX).
+ */
+public interface ImportarPresupuestoUseCase {
+
+    /**
+     * Registra la importación y la procesa en segundo plano.
+     *
+     * @param presupuestoId Presupuesto destino (debe existir, no estar aprobado y no tener partidas)
+     * @param nombreArchivo Nombre original del archivo (determina el formato)
+     * @param contenido Contenido del archivo
+     * @return Estado inicial de la importación (PENDIENTE)
+     * @throws com.budgetpro.application.presupuesto.exception.PresupuestoNoEncontradoException si el presupuesto no existe
+     */
+    ImportacionPresupuestoResponse iniciar(UUID presupuestoId, String nombreArchivo, InputStream contenido);
+
+    /**
+     * Consulta el progreso de una importación.
+     *
+     * @throws com.budgetpro.application.presupuesto.exception.ImportacionPresupuestoNoEncontradaException si no existe
+     */
+    ImportacionPresupuestoResponse consultar(UUID importacionId);
+
+    /**
+     * Marca FALLIDO las importaciones PENDIENTE o EN_PROCESO sin avance desde el límite (executor
+     * caído o JVM detenida) y revierte sus partidas, liberando el presupuesto para otra importación.
+     *
+     * @return Cantidad de importaciones marcadas como fallidas
+     */
+    int fallarInterrumpidas(LocalDateTime limite);
+}
@@ -0,0 +1,40 @@
+package com.budgetpro.application.presupuesto.port.out;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.FilaImportacionPresupuesto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Puerto de salida para leer planillas de importación de presupuesto.
+ *
+ * La lectura es en streaming: cada fila se entrega al receptor a medida que se lee,
+ * sin cargar el archivo completo en memoria.
+ */
+public interface LectorPlanillaPresupuesto {
+
+    /**
+     * Indica si el lector admite el archivo (por su extensión).
+     */
+    boolean soporta(String nombreArchivo);
+
+    /**
+     * Lee el archivo y entrega cada fila de datos al receptor, en orden.
+     *
+     * @throws IllegalArgumentException si el archivo no tiene el formato esperado (p. ej. cabecera)
+     */
+    void leer(Path archivo, ReceptorFilas receptor) throws IOException;
+
+    /**
+     * Receptor de las filas leídas.
+     */
+    interface ReceptorFilas {
+
+        void fila(FilaImportacionPresupuesto fila);
+
+        /**
+         * Fila que no pudo interpretarse (p. ej. un número mal escrito); la lectura continúa.
+         */
+        void error(long numeroFila, String mensaje);
+    }
+}
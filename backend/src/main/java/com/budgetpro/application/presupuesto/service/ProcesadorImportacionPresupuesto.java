@@ -0,0 +1,292 @@
+package com.budgetpro.application.presupuesto.service;
+
+import com.budgetpro.application.presupuesto.port.out.LectorPlanillaPresupuesto;
+import com.budgetpro.domain.catalogo.model.APUInsumoSnapshot;
+import com.budgetpro.domain.catalogo.model.APUInsumoSnapshotId;
+import com.budgetpro.domain.catalogo.model.APUSnapshot;
+import com.budgetpro.domain.catalogo.model.APUSnapshotId;
+import com.budgetpro.domain.catalogo.model.RecursoProxy;
+import com.budgetpro.domain.catalogo.port.RecursoProxyRepository;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.presupuesto.model.FilaImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.ImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CargaMasivaPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.ImportacionPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.service.ValidadorImportacionPresupuesto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Procesa una importación de presupuesto: lee la planilla en streaming, valida cada fila
+ * con {@link ValidadorImportacionPresupuesto} y escribe partidas y APUs por lotes.
+ *
+ * Un lote se cierra solo en el límite de una partida (nunca parte un APU) y en cada cierre:
+ * - Los recursos de sus insumos se resuelven contra el catálogo en una consulta por catálogo
+ *   (CAPECO y luego CATALOGO_GLOBAL), con caché entre lotes.
+ * - Se inserta en su propia transacción y se publica el progreso.
+ *
+ * Ante el primer error se deja de escribir, pero se sigue validando para reportar hasta
+ * {@link ImportacionPresupuesto#MAX_ERRORES} errores; al terminar, lo ya escrito se elimina
+ * (el presupuesto estaba vacío al iniciar) y la importación queda FALLIDO.
+ */
+@Service
+public class ProcesadorImportacionPresupuesto {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcesadorImportacionPresupuesto.class);
+
+    /** catalog_source de los APUs importados (external_apu_id es el ítem de la partida). */
+    static final String CATALOGO_IMPORTACION = "IMPORTACION";
+    private static final String[] CATALOGOS_RECURSOS = {"CAPECO", "CATALOGO_GLOBAL"};
+
+    private final List<LectorPlanillaPresupuesto> lectores;
+    private final CargaMasivaPresupuestoRepository cargaMasivaRepository;
+    private final ImportacionPresupuestoRepository importacionRepository;
+    private final RecursoProxyRepository recursoProxyRepository;
+    private final int tamanoLote;
+
+    public ProcesadorImportacionPresupuesto(List<LectorPlanillaPresupuesto> lectores,
+                                            CargaMasivaPresupuestoRepository cargaMasivaRepository,
+                                            ImportacionPresupuestoRepository importacionRepository,
+                                            RecursoProxyRepository recursoProxyRepository,
+                                            @Value("${presupuesto.importacion.tamano-lote:500}") int tamanoLote) {
+        if (tamanoLote < 1) {
+            throw new IllegalArgumentException("El tamaño de lote de importación debe ser positivo");
+        }
+        this.lectores = lectores;
+        this.cargaMasivaRepository = cargaMasivaRepository;
+        this.importacionRepository = importacionRepository;
+        this.recursoProxyRepository = recursoProxyRepository;
+        this.tamanoLote = tamanoLote;
+    }
+
+    /**
+     * Busca el lector que admite el archivo.
+     *
+     * @throws IllegalArgumentException si ningún lector admite el formato
+     */
+    public LectorPlanillaPresupuesto lectorPara(String nombreArchivo) {
+        return lectores.stream()
+                .filter(lector -> lector.soporta(nombreArchivo))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Formato de archivo no soportado: " + nombreArchivo + " (se admite CSV o XLSX)"));
+    }
+
+    /**
+     * Procesa la importación hasta su estado final (COMPLETADO o FALLIDO).
+     */
+    public ImportacionPresupuesto procesar(ImportacionPresupuesto importacion, Path archivo) {
+        Ejecucion ejecucion = new Ejecucion(importacion.conProgreso(0, 0, 0));
+        importacionRepository.guardar(ejecucion.importacion);
+        try {
+            lectorPara(importacion.getNombreArchivo()).leer(archivo, ejecucion);
+            ejecucion.escribirLote();
+        } catch (IOException | RuntimeException e) {
+            log.error("Importación {} interrumpida", importacion.getId(), e);
+            ejecucion.error("Error al procesar el archivo: " + e.getMessage());
+        }
+        return ejecucion.finalizar();
+    }
+
+    /**
+     * Estado de una importación en curso. Retiene solo el lote abierto, los IDs de partida
+     * por ítem (para enlazar hijas con padres de lotes ya escritos) y la caché de recursos.
+     */
+    private final class Ejecucion implements LectorPlanillaPresupuesto.ReceptorFilas {
+
+        private final UUID presupuestoId;
+        private final ValidadorImportacionPresupuesto validador = new ValidadorImportacionPresupuesto();
+        private final Map<String, UUID> partidaIdPorItem = new HashMap<>();
+        private final Map<String, RecursoProxy> recursos = new HashMap<>();
+        private final List<PartidaPendiente> lote = new ArrayList<>();
+        private final List<String> errores = new ArrayList<>();
+        private ImportacionPresupuesto importacion;
+        private PartidaPendiente partidaActual;
+        private long filas;
+        private long partidasImportadas;
+        private long insumosImportados;
+        private boolean hayEscrituras;
+
+        private Ejecucion(ImportacionPresupuesto importacion) {
+            this.importacion = importacion;
+            this.presupuestoId = importacion.getPresupuestoId();
+        }
+
+        @Override
+        public void fila(FilaImportacionPresupuesto fila) {
+            filas++;
+            if (fila.tipo() == FilaImportacionPresupuesto.Tipo.PARTIDA) {
+                registrarPartida(fila);
+            } else {
+                registrarInsumo(fila);
+            }
+        }
+
+        @Override
+        public void error(long numeroFila, String mensaje) {
+            filas++;
+            error("Fila " + numeroFila + ": " + mensaje);
+        }
+
+        private void error(String mensaje) {
+            if (errores.size() < ImportacionPresupuesto.MAX_ERRORES) {
+                errores.add(mensaje);
+            }
+        }
+
+        private void registrarPartida(FilaImportacionPresupuesto fila) {
+            partidaActual = null;
+            Partida partida;
+            try {
+                String itemPadre = validador.registrarPartida(fila);
+                String item = fila.item().trim();
+                PartidaId id = PartidaId.nuevo();
+                partida = itemPadre == null
+                        ? Partida.crearRaiz(id, presupuestoId, item, fila.descripcion(), fila.unidad(),
+                                fila.metrado())
+                        : Partida.crearHija(id, presupuestoId, partidaIdPorItem.get(itemPadre), item,
+                                fila.descripcion(), fila.unidad(), fila.metrado(),
+                                ValidadorImportacionPresupuesto.nivel(item));
+                partidaIdPorItem.put(item, id.getValue());
+            } catch (IllegalArgumentException e) {
+                error(e.getMessage());
+                return;
+            }
+            if (lote.size() >= tamanoLote) {
+                escribirLote();
+            }
+            partidaActual = new PartidaPendiente(partida, fila.rendimiento(), new ArrayList<>());
+            lote.add(partidaActual);
+        }
+
+        private void registrarInsumo(FilaImportacionPresupuesto fila) {
+            try {
+                validador.registrarInsumo(fila);
+            } catch (IllegalArgumentException e) {
+                error(e.getMessage());
+                return;
+            }
+            if (partidaActual != null) {
+                partidaActual.insumos().add(fila);
+            }
+        }
+
+        /**
+         * Resuelve los recursos del lote, arma los APUs y lo inserta. Con errores el lote se
+         * sigue validando contra el catálogo (para reportar recursos inexistentes) pero se descarta.
+         */
+        private void escribirLote() {
+            if (lote.isEmpty()) {
+                return;
+            }
+            resolverRecursos();
+            List<APUSnapshot> apus = construirApus();
+            if (errores.isEmpty()) {
+                List<Partida> partidas = lote.stream().map(PartidaPendiente::partida).toList();
+                cargaMasivaRepository.insertarLote(presupuestoId, partidas, apus);
+                hayEscrituras = true;
+                partidasImportadas += partidas.size();
+                insumosImportados += apus.stream().mapToLong(apu -> apu.getInsumos().size()).sum();
+                importacion = importacion.conProgreso(filas, partidasImportadas, insumosImportados);
+                importacionRepository.guardar(importacion);
+            }
+            lote.clear();
+        }
+
+        private void resolverRecursos() {
+            Set<String> pendientes = new LinkedHashSet<>();
+            for (PartidaPendiente pendiente : lote) {
+                for (FilaImportacionPresupuesto insumo : pendiente.insumos()) {
+                    String codigo = insumo.recursoCodigo().trim();
+                    if (!recursos.containsKey(codigo)) {
+                        pendientes.add(codigo);
+                    }
+                }
+            }
+            for (String catalogSource : CATALOGOS_RECURSOS) {
+                if (pendientes.isEmpty()) {
+                    break;
+                }
+                for (RecursoProxy recurso : recursoProxyRepository.findByExternalIds(List.copyOf(pendientes),
+                        catalogSource)) {
+                    if (pendientes.remove(recurso.getExternalId())) {
+                        recursos.put(recurso.getExternalId(), recurso);
+                    }
+                }
+            }
+        }
+
+        private List<APUSnapshot> construirApus() {
+            LocalDateTime ahora = LocalDateTime.now();
+            List<APUSnapshot> apus = new ArrayList<>();
+            for (PartidaPendiente pendiente : lote) {
+                if (pendiente.insumos().isEmpty()) {
+                    continue;
+                }
+                Partida partida = pendiente.partida();
+                BigDecimal rendimiento = pendiente.rendimiento() != null ? pendiente.rendimiento() : BigDecimal.ONE;
+                APUSnapshot apu = APUSnapshot.crear(APUSnapshotId.generate(), partida.getId().getValue(),
+                        partida.getItem(), CATALOGO_IMPORTACION, rendimiento, partida.getUnidad(), ahora);
+                for (FilaImportacionPresupuesto insumo : pendiente.insumos()) {
+                    String codigo = insumo.recursoCodigo().trim();
+                    RecursoProxy recurso = recursos.get(codigo);
+                    if (recurso == null) {
+                        error("Fila " + insumo.numero() + ": el recurso " + codigo + " no existe en el catálogo");
+                        continue;
+                    }
+                    BigDecimal precio = insumo.precioUnitario() != null
+                            ? insumo.precioUnitario()
+                            : recurso.getPrecioSnapshot();
+                    apu = apu.agregarInsumo(APUInsumoSnapshot.crear(APUInsumoSnapshotId.generate(), codigo,
+                            recurso.getNombreSnapshot(), insumo.cantidad(), precio, recurso.getTipoSnapshot(),
+                            null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                            null, null, null, null, null));
+                }
+                apus.add(apu);
+            }
+            return apus;
+        }
+
+        private ImportacionPresupuesto finalizar() {
+            LocalDateTime ahora = LocalDateTime.now();
+            if (errores.isEmpty()) {
+                importacion = importacion.conProgreso(filas, partidasImportadas, insumosImportados).completar(ahora);
+            } else {
+                if (hayEscrituras) {
+                    try {
+                        cargaMasivaRepository.eliminarPartidas(presupuestoId);
+                    } catch (RuntimeException e) {
+                        log.error("No se pudo revertir la importación {} del presupuesto {}",
+                                importacion.getId(), presupuestoId, e);
+                        error("No se pudieron eliminar las partidas ya importadas: " + e.getMessage());
+                    }
+                }
+                importacion = importacion.fallar(filas, errores, ahora);
+            }
+            importacionRepository.guardar(importacion);
+            log.info("Importación {} del presupuesto {} finalizada: {} ({} filas, {} partidas, {} insumos)",
+                    importacion.getId(), presupuestoId, importacion.getEstado(), filas,
+                    importacion.getPartidasImportadas(), importacion.getInsumosImportados());
+            return importacion;
+        }
+    }
+
+    private record PartidaPendiente(Partida partida, BigDecimal rendimiento,
+                                    List<FilaImportacionPresupuesto> insumos) {
+    }
+}
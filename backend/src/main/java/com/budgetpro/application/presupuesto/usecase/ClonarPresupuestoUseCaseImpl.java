@@ -0,0 +1,61 @@
+package com.budgetpro.application.presupuesto.usecase;
+
+import com.budgetpro.application.presupuesto.dto.ClonPresupuestoResponse;
+import com.budgetpro.application.presupuesto.exception.PresupuestoNoEncontradoException;
+import com.budgetpro.application.presupuesto.port.in.ClonarPresupuestoUseCase;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.ClonacionPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Implementación del caso de uso para copiar un presupuesto.
+ *
+ * La copia se hace íntegramente en SQL (sin cargar partidas ni APUs en el modelo de dominio),
+ * de modo que el costo no depende del tamaño de la EDT en memoria.
+ */
+@Service
+public class ClonarPresupuestoUseCaseImpl implements ClonarPresupuestoUseCase {
+
+    private static final int LONGITUD_MAXIMA_NOMBRE = 200;
+    private static final String SUFIJO_COPIA = " (copia)";
+
+    private final PresupuestoRepository presupuestoRepository;
+    private final ClonacionPresupuestoRepository clonacionRepository;
+
+    public ClonarPresupuestoUseCaseImpl(PresupuestoRepository presupuestoRepository,
+                                        ClonacionPresupuestoRepository clonacionRepository) {
+        this.presupuestoRepository = presupuestoRepository;
+        this.clonacionRepository = clonacionRepository;
+    }
+
+    @Override
+    @Transactional
+    public ClonPresupuestoResponse clonar(UUID presupuestoId, String nombre) {
+        Presupuesto origen = presupuestoRepository.findById(PresupuestoId.from(presupuestoId))
+                .orElseThrow(() -> new PresupuestoNoEncontradoException(presupuestoId));
+
+        String nombreCopia = nombre != null && !nombre.isBlank() ? nombre.trim() : nombrePorDefecto(origen);
+        if (nombreCopia.length() > LONGITUD_MAXIMA_NOMBRE) {
+            throw new IllegalArgumentException("El nombre del presupuesto no puede exceder "
+                    + LONGITUD_MAXIMA_NOMBRE + " caracteres");
+        }
+
+        UUID nuevoId = UUID.randomUUID();
+        ClonacionPresupuestoRepository.ResultadoClonacion resultado =
+                clonacionRepository.clonar(presupuestoId, nuevoId, nombreCopia);
+
+        return new ClonPresupuestoResponse(nuevoId, presupuestoId, nombreCopia, resultado.subpresupuestos(),
+                resultado.partidas(), resultado.apus(), resultado.insumos());
+    }
+
+    private static String nombrePorDefecto(Presupuesto origen) {
+        String base = origen.getNombre();
+        int maximo = LONGITUD_MAXIMA_NOMBRE - SUFIJO_COPIA.length();
+        return (base.length() > maximo ? base.substring(0, maximo) : base) + SUFIJO_COPIA;
+    }
+}
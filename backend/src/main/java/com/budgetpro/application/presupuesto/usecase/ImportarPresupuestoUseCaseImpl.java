@@ -0,0 +1,148 @@
+package com.budgetpro.application.presupuesto.usecase;
+
+import com.budgetpro.application.presupuesto.dto.ImportacionPresupuestoResponse;
+import com.budgetpro.application.presupuesto.exception.ImportacionPresupuestoNoEncontradaException;
+import com.budgetpro.application.presupuesto.exception.PresupuestoNoEncontradoException;
+import com.budgetpro.application.presupuesto.port.in.ImportarPresupuestoUseCase;
+import com.budgetpro.application.presupuesto.service.ProcesadorImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.exception.FrozenBudgetException;
+import com.budgetpro.domain.finanzas.presupuesto.model.ImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CargaMasivaPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.ImportacionPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementación del caso de uso de importación masiva de presupuesto.
+ *
+ * Valida las precondiciones en la petición, copia el archivo a un temporal y delega el
+ * procesamiento a un executor propio y acotado (no al pool compartido de la aplicación); el
+ * cliente consulta el progreso con {@link #consultar(UUID)}. Si el executor rechaza la tarea
+ * (hilos y cola llenos) la importación queda FALLIDO;
+ * las que se interrumpen después (JVM detenida) se recuperan con {@link #fallarInterrumpidas}.
+ */
+@Service
+public class ImportarPresupuestoUseCaseImpl implements ImportarPresupuestoUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportarPresupuestoUseCaseImpl.class);
+
+    private final PresupuestoRepository presupuestoRepository;
+    private final ImportacionPresupuestoRepository importacionRepository;
+    private final CargaMasivaPresupuestoRepository cargaMasivaRepository;
+    private final ProcesadorImportacionPresupuesto procesador;
+    private final TaskExecutor taskExecutor;
+
+    public ImportarPresupuestoUseCaseImpl(PresupuestoRepository presupuestoRepository,
+                                          ImportacionPresupuestoRepository importacionRepository,
+                                          CargaMasivaPresupuestoRepository cargaMasivaRepository,
+                                          ProcesadorImportacionPresupuesto procesador,
+                                          @Qualifier("importacionPresupuestoExecutor") TaskExecutor taskExecutor) {
+        this.presupuestoRepository = presupuestoRepository;
+        this.importacionRepository = importacionRepository;
+        this.cargaMasivaRepository = cargaMasivaRepository;
+        this.procesador = procesador;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public ImportacionPresupuestoResponse iniciar(UUID presupuestoId, String nombreArchivo, InputStream contenido) {
+        PresupuestoId id = PresupuestoId.from(presupuestoId);
+        Presupuesto presupuesto = presupuestoRepository.findById(id)
+                .orElseThrow(() -> new PresupuestoNoEncontradoException(presupuestoId));
+        if (presupuesto.isAprobado()) {
+            throw new FrozenBudgetException(id, "Cannot import partidas: Budget is frozen (ESTADO=CONGELADO)");
+        }
+        procesador.lectorPara(nombreArchivo);
+        if (importacionRepository.existeActiva(presupuestoId)) {
+            throw new IllegalStateException("El presupuesto " + presupuestoId + " ya tiene una importación en curso");
+        }
+        // La reversión de una importación fallida elimina todas las partidas del presupuesto
+        if (cargaMasivaRepository.tienePartidas(presupuestoId)) {
+            throw new IllegalStateException("Solo se puede importar sobre un presupuesto sin partidas");
+        }
+
+        Path archivo = copiarATemporal(contenido);
+        ImportacionPresupuesto importacion = ImportacionPresupuesto.crear(presupuestoId, nombreArchivo,
+                LocalDateTime.now());
+        importacionRepository.guardar(importacion);
+
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    procesador.procesar(importacion, archivo);
+                } finally {
+                    eliminarTemporal(archivo);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.error("Importación {} rechazada por el executor", importacion.getId(), e);
+            eliminarTemporal(archivo);
+            ImportacionPresupuesto fallida = importacion.fallar(0,
+                    List.of("No se pudo programar la importación: " + e.getMessage()), LocalDateTime.now());
+            importacionRepository.guardar(fallida);
+            return ImportacionPresupuestoResponse.desde(fallida);
+        }
+        return ImportacionPresupuestoResponse.desde(importacion);
+    }
+
+    @Override
+    public ImportacionPresupuestoResponse consultar(UUID importacionId) {
+        return importacionRepository.buscarPorId(importacionId)
+                .map(ImportacionPresupuestoResponse::desde)
+                .orElseThrow(() -> new ImportacionPresupuestoNoEncontradaException(importacionId));
+    }
+
+    @Override
+    public int fallarInterrumpidas(LocalDateTime limite) {
+        int fallidas = 0;
+        for (ImportacionPresupuesto importacion : importacionRepository.buscarActivasSinAvanceDesde(limite)) {
+            try {
+                // La importación solo se admite sobre un presupuesto sin partidas: revertir es eliminarlas todas
+                cargaMasivaRepository.eliminarPartidas(importacion.getPresupuestoId());
+                importacionRepository.guardar(importacion.fallar(importacion.getFilasProcesadas(),
+                        List.of("Importación interrumpida: sin avance desde " + limite), LocalDateTime.now()));
+                log.warn("Importación {} del presupuesto {} interrumpida, marcada FALLIDO",
+                        importacion.getId(), importacion.getPresupuestoId());
+                fallidas++;
+            } catch (RuntimeException e) {
+                log.error("No se pudo recuperar la importación interrumpida {}", importacion.getId(), e);
+            }
+        }
+        return fallidas;
+    }
+
+    private Path copiarATemporal(InputStream contenido) {
+        try {
+            Path archivo = Files.createTempFile("importacion-presupuesto-", ".tmp");
+            Files.copy(contenido, archivo, StandardCopyOption.REPLACE_EXISTING);
+            return archivo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo almacenar el archivo de importación", e);
+        }
+    }
+
+    private void eliminarTemporal(Path archivo) {
+        try {
+            Files.deleteIfExists(archivo);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el archivo temporal {}", archivo, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.budgetpro.application.reajuste.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DTO de comando para definir las fórmulas polinómicas de un presupuesto.
+ */
+public record DefinirFormulasPolinomicasCommand(
+        UUID presupuestoId,
+        List<FormulaItem> formulas
+) {
+    /**
+     * DTO interno para representar una fórmula con sus monomios y partidas asignadas.
+     */
+    public record FormulaItem(
+            int numero,
+            LocalDate fechaBase, // Fecha del presupuesto base (mes de los índices Io)
+            List<MonomioItem> monomios,
+            Set<UUID> partidaIds
+    ) {
+    }
+
+    /**
+     * DTO interno para representar un monomio.
+     */
+    public record MonomioItem(
+            BigDecimal coeficiente,
+            List<TerminoItem> terminos
+    ) {
+    }
+
+    /**
+     * DTO interno para representar un índice dentro de un monomio.
+     */
+    public record TerminoItem(
+            String codigoIndice,
+            BigDecimal peso
+    ) {
+    }
+}
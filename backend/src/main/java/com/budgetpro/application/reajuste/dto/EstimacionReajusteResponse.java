@@ -26,7 +26,9 @@ public record EstimacionReajusteResponse(
     BigDecimal porcentajeVariacion,
     String estado,
     String observaciones,
-    List<DetalleReajustePartidaResponse> detalles
+    List<DetalleReajustePartidaResponse> detalles,
+    boolean indicesDefinitivos,
+    UUID estimacionOrigenId
 ) {
     
     /**
@@ -0,0 +1,19 @@
+package com.budgetpro.application.reajuste.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta para un índice de precios.
+ */
+public record IndicePreciosResponse(
+    UUID id,
+    String codigo,
+    String nombre,
+    String tipo,
+    LocalDate fechaBase,
+    BigDecimal valor,
+    boolean activo,
+    boolean definitivo
+) {}
@@ -0,0 +1,19 @@
+package com.budgetpro.application.reajuste.dto;
+
+import com.budgetpro.domain.finanzas.reajuste.model.TipoIndicePrecios;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO de comando para registrar el valor publicado de un índice de precios.
+ */
+public record RegistrarIndicePreciosCommand(
+        String codigo,
+        String nombre,
+        TipoIndicePrecios tipo,
+        LocalDate fechaBase,
+        BigDecimal valor,
+        boolean definitivo // false mientras el índice solo se ha publicado como provisional
+) {
+}
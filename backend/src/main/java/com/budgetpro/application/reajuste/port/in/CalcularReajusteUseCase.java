@@ -2,6 +2,7 @@ package com.budgetpro.application.reajuste.port.in;
 
 import com.budgetpro.application.reajuste.dto.EstimacionReajusteResponse;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,4 +25,27 @@ public interface CalcularReajusteUseCase {
     EstimacionReajusteResponse calcular(UUID proyectoId, UUID presupuestoId, java.time.LocalDate fechaCorte,
                                        String indiceBaseCodigo, java.time.LocalDate indiceBaseFecha,
                                        String indiceActualCodigo, java.time.LocalDate indiceActualFecha);
+
+    /**
+     * Calcula el reajuste de un presupuesto con sus fórmulas polinómicas para el mes de la
+     * fecha de corte.
+     * 
+     * @param proyectoId ID del proyecto
+     * @param presupuestoId ID del presupuesto
+     * @param fechaCorte Fecha de corte (mes de los índices Ir)
+     * @return EstimacionReajusteResponse con el reajuste calculado
+     */
+    EstimacionReajusteResponse calcularPolinomico(UUID proyectoId, UUID presupuestoId,
+                                                 java.time.LocalDate fechaCorte);
+    
+    /**
+     * Recalcula las estimaciones polinómicas del presupuesto calculadas con índices provisionales.
+     * Las que están en BORRADOR se recalculan en sitio con los índices vigentes; las APROBADA o
+     * APLICADA conservan sus montos y, cuando todos sus índices son ya definitivos, se genera una
+     * estimación complementaria con la diferencia por partida.
+     * 
+     * @param presupuestoId ID del presupuesto
+     * @return Estimaciones recalculadas y complementarias generadas
+     */
+    List<EstimacionReajusteResponse> recalcularConIndicesDefinitivos(UUID presupuestoId);
 }
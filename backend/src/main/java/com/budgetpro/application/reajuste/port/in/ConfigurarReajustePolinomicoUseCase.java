@@ -0,0 +1,30 @@
+package com.budgetpro.application.reajuste.port.in;
+
+import com.budgetpro.application.reajuste.dto.DefinirFormulasPolinomicasCommand;
+import com.budgetpro.application.reajuste.dto.IndicePreciosResponse;
+import com.budgetpro.application.reajuste.dto.RegistrarIndicePreciosCommand;
+
+/**
+ * Caso de uso para configurar el reajuste polinómico: índices de precios y fórmulas.
+ */
+public interface ConfigurarReajustePolinomicoUseCase {
+
+    /**
+     * Registra el valor de un índice para un mes. Si el índice ya existe para esa fecha se
+     * actualiza: así un índice provisional pasa a definitivo al publicarse su valor final.
+     * 
+     * @param command Datos del índice
+     * @return El índice registrado
+     * @throws IllegalStateException si se intenta registrar como provisional un índice ya definitivo
+     */
+    IndicePreciosResponse registrarIndice(RegistrarIndicePreciosCommand command);
+
+    /**
+     * Reemplaza las fórmulas polinómicas del presupuesto (monomios y partidas asignadas).
+     * 
+     * @param command Presupuesto y fórmulas
+     * @throws IllegalArgumentException si el presupuesto no existe, se repite un número de
+     *                                  fórmula o una partida se asigna a más de una fórmula
+     */
+    void definirFormulas(DefinirFormulasPolinomicasCommand command);
+}
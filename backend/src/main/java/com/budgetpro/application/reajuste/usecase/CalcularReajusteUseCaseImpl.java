@@ -6,14 +6,21 @@ import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
 import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
 import com.budgetpro.domain.finanzas.reajuste.model.*;
 import com.budgetpro.domain.finanzas.reajuste.port.out.EstimacionReajusteRepository;
+import com.budgetpro.domain.finanzas.reajuste.port.out.FormulaPolinomicaRepository;
 import com.budgetpro.domain.finanzas.reajuste.port.out.IndicePreciosRepository;
 import com.budgetpro.domain.finanzas.reajuste.service.CalculadorReajusteService;
+import com.budgetpro.domain.finanzas.reajuste.service.MotorReajustePolinomico;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,15 +35,20 @@ public class CalcularReajusteUseCaseImpl implements CalcularReajusteUseCase {
     private final IndicePreciosRepository indiceRepository;
     private final PresupuestoRepository presupuestoRepository;
     private final ConsultaMontoPresupuesto consultaMontoPresupuesto;
+    private final FormulaPolinomicaRepository formulaRepository;
+    private final MotorReajustePolinomico motorPolinomico;
 
     public CalcularReajusteUseCaseImpl(CalculadorReajusteService calculadorService,
             EstimacionReajusteRepository estimacionRepository, IndicePreciosRepository indiceRepository,
-            PresupuestoRepository presupuestoRepository, ConsultaMontoPresupuesto consultaMontoPresupuesto) {
+            PresupuestoRepository presupuestoRepository, ConsultaMontoPresupuesto consultaMontoPresupuesto,
+            FormulaPolinomicaRepository formulaRepository, MotorReajustePolinomico motorPolinomico) {
         this.calculadorService = calculadorService;
         this.estimacionRepository = estimacionRepository;
         this.indiceRepository = indiceRepository;
         this.presupuestoRepository = presupuestoRepository;
         this.consultaMontoPresupuesto = consultaMontoPresupuesto;
+        this.formulaRepository = formulaRepository;
+        this.motorPolinomico = motorPolinomico;
     }
 
     @Override
@@ -95,6 +107,121 @@ public class CalcularReajusteUseCaseImpl implements CalcularReajusteUseCase {
         return mapearAResponse(estimacion);
     }
 
+    @Override
+    @Transactional
+    public EstimacionReajusteResponse calcularPolinomico(UUID proyectoId, UUID presupuestoId, LocalDate fechaCorte) {
+        presupuestoRepository.findById(PresupuestoId.from(presupuestoId))
+                .orElseThrow(() -> new IllegalArgumentException("Presupuesto no encontrado: " + presupuestoId));
+
+        List<FormulaPolinomica> formulas = formulaRepository.buscarPorPresupuestoId(presupuestoId);
+        if (formulas.isEmpty()) {
+            throw new IllegalArgumentException("El presupuesto no tiene fórmula polinómica: " + presupuestoId);
+        }
+        List<YearMonth> periodos = List.of(YearMonth.from(fechaCorte));
+        FactoresReajuste factores = motorPolinomico.calcularFactores(formulas, cargarSeries(formulas, periodos),
+                periodos);
+
+        List<ConsultaMontoPresupuesto.DetallePartidaMonto> partidas = consultaMontoPresupuesto
+                .obtenerDetallesPartidas(presupuestoId);
+        List<UUID> partidaIds = partidas.stream().map(ConsultaMontoPresupuesto.DetallePartidaMonto::partidaId)
+                .toList();
+        List<BigDecimal> montosBase = partidas.stream().map(ConsultaMontoPresupuesto.DetallePartidaMonto::montoBase)
+                .toList();
+        BigDecimal[] montosReajustados = motorPolinomico.reajustarMontos(factores, 0, partidaIds, montosBase);
+
+        List<DetalleReajustePartida> detalles = new ArrayList<>(partidas.size());
+        for (int i = 0; i < partidas.size(); i++) {
+            detalles.add(DetalleReajustePartida.crear(DetalleReajustePartidaId.generate(), partidaIds.get(i),
+                    montosBase.get(i), montosReajustados[i],
+                    calculadorService.calcularDiferencial(montosReajustados[i], montosBase.get(i))));
+        }
+
+        Integer numeroEstimacion = estimacionRepository.obtenerSiguienteNumeroEstimacion(proyectoId);
+        EstimacionReajuste estimacion = EstimacionReajuste
+                .crearPolinomica(EstimacionReajusteId.generate(), proyectoId, presupuestoId, numeroEstimacion,
+                        fechaCorte, factores.getFormulas().get(0).getFechaBase())
+                .aplicarReajustePolinomico(detalles, factores.indicesDefinitivos(0));
+
+        estimacionRepository.guardar(estimacion);
+        return mapearAResponse(estimacion);
+    }
+
+    @Override
+    @Transactional
+    public List<EstimacionReajusteResponse> recalcularConIndicesDefinitivos(UUID presupuestoId) {
+        List<EstimacionReajuste> estimaciones = estimacionRepository.buscarPorPresupuestoId(presupuestoId);
+        Set<EstimacionReajusteId> complementadas = estimaciones.stream()
+                .filter(EstimacionReajuste::esComplementaria)
+                .map(EstimacionReajuste::getEstimacionOrigenId)
+                .collect(Collectors.toSet());
+        // Las BORRADOR se recalculan en sitio; las aprobadas o aplicadas, una sola vez, con una complementaria
+        List<EstimacionReajuste> pendientes = estimaciones.stream()
+                .filter(estimacion -> estimacion.esPolinomica() && !estimacion.isIndicesDefinitivos()
+                        && !complementadas.contains(estimacion.getId()))
+                .toList();
+        if (pendientes.isEmpty()) {
+            return List.of();
+        }
+        List<FormulaPolinomica> formulas = formulaRepository.buscarPorPresupuestoId(presupuestoId);
+
+        // Todos los periodos pendientes se evalúan con una sola carga de series
+        List<YearMonth> periodos = pendientes.stream().map(estimacion -> YearMonth.from(estimacion.getFechaCorte()))
+                .distinct().sorted().toList();
+        FactoresReajuste factores = motorPolinomico.calcularFactores(formulas, cargarSeries(formulas, periodos),
+                periodos);
+
+        List<EstimacionReajusteResponse> recalculadas = new ArrayList<>(pendientes.size());
+        Integer siguienteNumero = null;
+        for (EstimacionReajuste estimacion : pendientes) {
+            int periodo = factores.periodo(YearMonth.from(estimacion.getFechaCorte()));
+            boolean definitivos = factores.indicesDefinitivos(periodo);
+            List<DetalleReajustePartida> anteriores = estimacion.getDetalles();
+            BigDecimal[] montosReajustados = motorPolinomico.reajustarMontos(factores, periodo,
+                    anteriores.stream().map(DetalleReajustePartida::getPartidaId).toList(),
+                    anteriores.stream().map(DetalleReajustePartida::getMontoBase).toList());
+
+            EstimacionReajuste resultado;
+            if (estimacion.getEstado() == EstadoEstimacionReajuste.BORRADOR) {
+                List<DetalleReajustePartida> detalles = new ArrayList<>(anteriores.size());
+                for (int i = 0; i < anteriores.size(); i++) {
+                    DetalleReajustePartida anterior = anteriores.get(i);
+                    detalles.add(DetalleReajustePartida.reconstruir(anterior.getId(), anterior.getPartidaId(),
+                            anterior.getMontoBase(), montosReajustados[i],
+                            calculadorService.calcularDiferencial(montosReajustados[i], anterior.getMontoBase())));
+                }
+                resultado = estimacion.aplicarReajustePolinomico(detalles, definitivos);
+            } else if (!definitivos) {
+                // Con algún índice aún provisional no hay diferencia definitiva que reconocer
+                continue;
+            } else {
+                siguienteNumero = siguienteNumero != null ? siguienteNumero + 1
+                        : estimacionRepository.obtenerSiguienteNumeroEstimacion(estimacion.getProyectoId());
+                resultado = estimacion.complementar(EstimacionReajusteId.generate(), siguienteNumero,
+                        List.of(montosReajustados));
+            }
+            estimacionRepository.guardar(resultado);
+            recalculadas.add(mapearAResponse(resultado));
+        }
+        return recalculadas;
+    }
+
+    /**
+     * Carga en una sola consulta las series de todos los índices de las fórmulas, desde el mes
+     * base más antiguo hasta el último periodo.
+     */
+    private SeriesIndices cargarSeries(List<FormulaPolinomica> formulas, List<YearMonth> periodos) {
+        Set<String> codigos = new HashSet<>();
+        List<YearMonth> meses = new ArrayList<>(periodos);
+        for (FormulaPolinomica formula : formulas) {
+            codigos.addAll(formula.codigosIndice());
+            meses.add(formula.getMesBase());
+        }
+        YearMonth desde = Collections.min(meses);
+        YearMonth hasta = Collections.max(meses);
+        List<IndicePrecios> indices = indiceRepository.buscarSeries(codigos, desde.atDay(1), hasta.atEndOfMonth());
+        return SeriesIndices.de(indices, desde, hasta);
+    }
+
     private EstimacionReajusteResponse mapearAResponse(EstimacionReajuste estimacion) {
         List<EstimacionReajusteResponse.DetalleReajustePartidaResponse> detallesResponse = estimacion.getDetalles()
                 .stream()
@@ -109,7 +236,8 @@ public class CalcularReajusteUseCaseImpl implements CalcularReajusteUseCase {
                 estimacion.getIndiceActualFecha(), estimacion.getValorIndiceBase(), estimacion.getValorIndiceActual(),
                 estimacion.getMontoBase(), estimacion.getMontoReajustado(), estimacion.getDiferencial(),
                 estimacion.getPorcentajeVariacion(), estimacion.getEstado().name(), estimacion.getObservaciones(),
-                detallesResponse);
+                detallesResponse, estimacion.isIndicesDefinitivos(),
+                estimacion.esComplementaria() ? estimacion.getEstimacionOrigenId().getValue() : null);
     }
 
     /**
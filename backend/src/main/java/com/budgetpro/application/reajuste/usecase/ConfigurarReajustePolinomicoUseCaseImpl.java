@@ -0,0 +1,100 @@
+package com.budgetpro.application.reajuste.usecase;
+
+import com.budgetpro.application.reajuste.dto.DefinirFormulasPolinomicasCommand;
+import com.budgetpro.application.reajuste.dto.IndicePreciosResponse;
+import com.budgetpro.application.reajuste.dto.RegistrarIndicePreciosCommand;
+import com.budgetpro.application.reajuste.port.in.ConfigurarReajustePolinomicoUseCase;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomicaId;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePreciosId;
+import com.budgetpro.domain.finanzas.reajuste.model.Monomio;
+import com.budgetpro.domain.finanzas.reajuste.port.out.FormulaPolinomicaRepository;
+import com.budgetpro.domain.finanzas.reajuste.port.out.IndicePreciosRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementación del caso de uso para configurar el reajuste polinómico.
+ */
+@Service
+public class ConfigurarReajustePolinomicoUseCaseImpl implements ConfigurarReajustePolinomicoUseCase {
+
+    private final IndicePreciosRepository indiceRepository;
+    private final FormulaPolinomicaRepository formulaRepository;
+    private final PresupuestoRepository presupuestoRepository;
+
+    public ConfigurarReajustePolinomicoUseCaseImpl(IndicePreciosRepository indiceRepository,
+            FormulaPolinomicaRepository formulaRepository, PresupuestoRepository presupuestoRepository) {
+        this.indiceRepository = indiceRepository;
+        this.formulaRepository = formulaRepository;
+        this.presupuestoRepository = presupuestoRepository;
+    }
+
+    @Override
+    @Transactional
+    public IndicePreciosResponse registrarIndice(RegistrarIndicePreciosCommand command) {
+        Optional<IndicePrecios> existente = indiceRepository.buscarPorCodigoYFecha(command.codigo(),
+                command.fechaBase());
+        if (existente.isPresent() && existente.get().isDefinitivo() && !command.definitivo()) {
+            throw new IllegalStateException(String.format(
+                    "El índice %s de %s ya es definitivo y no puede registrarse como provisional",
+                    command.codigo(), command.fechaBase()));
+        }
+
+        // Se conserva el ID: uq_indice_precios_codigo_fecha admite un solo valor por código y fecha
+        IndicePreciosId id = existente.map(IndicePrecios::getId).orElseGet(IndicePreciosId::generate);
+        IndicePrecios indice = command.definitivo()
+                ? IndicePrecios.crear(id, command.codigo(), command.nombre(), command.tipo(), command.fechaBase(),
+                        command.valor())
+                : IndicePrecios.crearProvisional(id, command.codigo(), command.nombre(), command.tipo(),
+                        command.fechaBase(), command.valor());
+        indiceRepository.guardar(indice);
+
+        return new IndicePreciosResponse(indice.getId().getValue(), indice.getCodigo(), indice.getNombre(),
+                indice.getTipo().name(), indice.getFechaBase(), indice.getValor(), indice.isActivo(),
+                indice.isDefinitivo());
+    }
+
+    @Override
+    @Transactional
+    public void definirFormulas(DefinirFormulasPolinomicasCommand command) {
+        UUID presupuestoId = command.presupuestoId();
+        presupuestoRepository.findById(PresupuestoId.from(presupuestoId))
+                .orElseThrow(() -> new IllegalArgumentException("Presupuesto no encontrado: " + presupuestoId));
+
+        Set<Integer> numeros = new HashSet<>();
+        Set<UUID> partidasAsignadas = new HashSet<>();
+        List<FormulaPolinomica> formulas = new ArrayList<>(command.formulas().size());
+        for (DefinirFormulasPolinomicasCommand.FormulaItem item : command.formulas()) {
+            if (!numeros.add(item.numero())) {
+                throw new IllegalArgumentException("Número de fórmula repetido: " + item.numero());
+            }
+            Set<UUID> partidaIds = item.partidaIds() != null ? item.partidaIds() : Set.of();
+            for (UUID partidaId : partidaIds) {
+                if (!partidasAsignadas.add(partidaId)) {
+                    throw new IllegalArgumentException("La partida " + partidaId
+                            + " está asignada a más de una fórmula");
+                }
+            }
+            List<Monomio> monomios = item.monomios().stream()
+                    .map(monomio -> new Monomio(monomio.coeficiente(), monomio.terminos().stream()
+                            .map(termino -> new Monomio.Termino(termino.codigoIndice(), termino.peso()))
+                            .toList()))
+                    .toList();
+            formulas.add(FormulaPolinomica.crear(FormulaPolinomicaId.generate(), presupuestoId, item.numero(),
+                    item.fechaBase(), monomios, partidaIds));
+        }
+
+        formulaRepository.reemplazar(presupuestoId, formulas);
+    }
+}
@@ -7,7 +7,7 @@ import java.util.Objects;
 public class ConsultarCostosLaboralesQuery {
 
     public enum Agrupacion {
-        EMPLEADO, CUADRILLA, PARTIDA
+        EMPLEADO, CUADRILLA, PARTIDA, SEMANA, MES
     }
 
     private final ProyectoId proyectoId;
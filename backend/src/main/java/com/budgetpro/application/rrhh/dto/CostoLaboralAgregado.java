@@ -0,0 +1,14 @@
+package com.budgetpro.application.rrhh.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Fila agregada de costo laboral calculada en base de datos.
+ *
+ * @param segundosTrabajados total trabajado del grupo (normales + extras)
+ * @param segundosExtras     parte que excede la jornada de 8 h de cada registro
+ * @param costoBase          Σ horas × salario base / 8, antes de aplicar el FSR
+ */
+public record CostoLaboralAgregado(String grupoId, String nombreGrupo, long segundosTrabajados, long segundosExtras,
+        BigDecimal costoBase) {
+}
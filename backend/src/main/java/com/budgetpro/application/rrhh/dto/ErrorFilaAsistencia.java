@@ -0,0 +1,9 @@
+package com.budgetpro.application.rrhh.dto;
+
+import java.util.UUID;
+
+/**
+ * Fila rechazada de una importación de asistencia (numerada desde 1).
+ */
+public record ErrorFilaAsistencia(int fila, UUID empleadoId, String mensaje) {
+}
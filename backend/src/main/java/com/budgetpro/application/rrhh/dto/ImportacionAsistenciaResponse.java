@@ -0,0 +1,10 @@
+package com.budgetpro.application.rrhh.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación de asistencia: filas registradas y reporte de errores por fila.
+ */
+public record ImportacionAsistenciaResponse(int filasRecibidas, int filasRegistradas,
+        List<ErrorFilaAsistencia> errores) {
+}
@@ -0,0 +1,21 @@
+package com.budgetpro.application.rrhh.dto;
+
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Importación masiva de tareos (exportaciones biométricas) de un proyecto.
+ */
+public record ImportarAsistenciaCommand(ProyectoId proyectoId, List<FilaAsistencia> filas) {
+
+    /**
+     * Una fila del archivo; mismos campos que {@link RegistrarAsistenciaCommand}. El ID del
+     * empleado llega tal cual del archivo y se valida por fila en el caso de uso.
+     */
+    public record FilaAsistencia(String empleadoId, LocalDate fecha, LocalDateTime horaEntrada,
+            LocalDateTime horaSalida, String ubicacion) {
+    }
+}
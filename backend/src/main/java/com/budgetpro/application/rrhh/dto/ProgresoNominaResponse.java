@@ -0,0 +1,24 @@
+package com.budgetpro.application.rrhh.dto;
+
+import com.budgetpro.domain.rrhh.model.Nomina;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Avance de una corrida de nómina por lotes: empleados confirmados sobre el total y
+ * totales acumulados hasta el último lote.
+ */
+public record ProgresoNominaResponse(UUID id, String estado, int empleadosProcesados, Integer cantidadEmpleados,
+        BigDecimal porcentaje, BigDecimal totalBruto, BigDecimal totalNeto) {
+
+    public static ProgresoNominaResponse fromDomain(Nomina nomina) {
+        Integer total = nomina.getCantidadEmpleados();
+        BigDecimal porcentaje = total == null || total == 0 ? BigDecimal.valueOf(100).setScale(2)
+                : BigDecimal.valueOf(nomina.getEmpleadosProcesados()).multiply(BigDecimal.valueOf(100))
+                        .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+        return new ProgresoNominaResponse(nomina.getId().getValue(), nomina.getEstado(),
+                nomina.getEmpleadosProcesados(), total, porcentaje, nomina.getTotalBruto(), nomina.getTotalNeto());
+    }
+}
@@ -1,9 +1,15 @@
 package com.budgetpro.application.rrhh.port.in;
 
 import com.budgetpro.application.rrhh.dto.NominaResponse;
+import com.budgetpro.application.rrhh.dto.ProgresoNominaResponse;
 import com.budgetpro.domain.rrhh.model.NominaId;
 import java.util.Optional;
 
 public interface ConsultarNominaUseCase {
     Optional<NominaResponse> obtenerPorId(NominaId id);
+
+    /**
+     * Avance de la corrida por lotes (punto de control persistido).
+     */
+    Optional<ProgresoNominaResponse> obtenerProgreso(NominaId id);
 }
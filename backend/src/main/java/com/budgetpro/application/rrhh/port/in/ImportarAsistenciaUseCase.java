@@ -0,0 +1,8 @@
+package com.budgetpro.application.rrhh.port.in;
+
+import com.budgetpro.application.rrhh.dto.ImportacionAsistenciaResponse;
+import com.budgetpro.application.rrhh.dto.ImportarAsistenciaCommand;
+
+public interface ImportarAsistenciaUseCase {
+    ImportacionAsistenciaResponse importarAsistencia(ImportarAsistenciaCommand command);
+}
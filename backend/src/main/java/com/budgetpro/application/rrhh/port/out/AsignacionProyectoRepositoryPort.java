@@ -5,6 +5,7 @@ import com.budgetpro.domain.rrhh.model.EmpleadoId;
 import com.budgetpro.domain.proyecto.model.ProyectoId;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface AsignacionProyectoRepositoryPort {
@@ -23,4 +24,9 @@ public interface AsignacionProyectoRepositoryPort {
      * Todas las asignaciones persistidas del empleado (para validación R-03 en dominio).
      */
     List<AsignacionProyecto> findAsignacionesByEmpleadoId(EmpleadoId empleadoId);
+
+    /**
+     * Asignaciones persistidas de varios empleados en una sola consulta (importación de tareo).
+     */
+    List<AsignacionProyecto> findAsignacionesByEmpleadoIds(Collection<EmpleadoId> empleadoIds);
 }
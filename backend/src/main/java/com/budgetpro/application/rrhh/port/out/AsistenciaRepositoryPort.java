@@ -11,6 +11,11 @@ import java.util.List;
 public interface AsistenciaRepositoryPort {
     AsistenciaRegistro save(AsistenciaRegistro asistencia);
 
+    /**
+     * Inserts already validated records with JDBC batching (bulk attendance import).
+     */
+    void saveAll(List<AsistenciaRegistro> asistencias);
+
     List<AsistenciaRegistro> findByEmpleadoAndPeriodo(EmpleadoId empleadoId, LocalDate startDate, LocalDate endDate);
 
     List<AsistenciaRegistro> findByEmpleadosAndPeriodo(List<EmpleadoId> empleadoIds, LocalDate startDate,
@@ -0,0 +1,18 @@
+package com.budgetpro.application.rrhh.port.out;
+
+import com.budgetpro.application.rrhh.dto.ConsultarCostosLaboralesQuery.Agrupacion;
+import com.budgetpro.application.rrhh.dto.CostoLaboralAgregado;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CostoLaboralRepositoryPort {
+
+    /**
+     * Horas y costo base de la asistencia del proyecto en el periodo, agregados por grupo en la
+     * base de datos: solo viaja una fila por grupo.
+     */
+    List<CostoLaboralAgregado> agregarPorGrupo(ProyectoId proyectoId, LocalDate fechaInicio, LocalDate fechaFin,
+            Agrupacion agrupacion);
+}
@@ -1,9 +1,11 @@
 package com.budgetpro.application.rrhh.port.out;
 
+import com.budgetpro.domain.proyecto.model.ProyectoId;
 import com.budgetpro.domain.rrhh.model.Empleado;
 import com.budgetpro.domain.rrhh.model.EmpleadoId;
 import com.budgetpro.domain.rrhh.model.EstadoEmpleado;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +23,10 @@ public interface EmpleadoRepositoryPort {
     List<Empleado> findByEstado(EstadoEmpleado estado);
 
     List<Empleado> findAll();
+
+    /**
+     * Employees assigned to the project at some point of the period, with their
+     * salary history loaded.
+     */
+    List<Empleado> findAsignadosAProyecto(ProyectoId proyectoId, LocalDate inicio, LocalDate fin);
 }
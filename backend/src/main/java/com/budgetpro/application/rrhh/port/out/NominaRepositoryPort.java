@@ -1,10 +1,13 @@
 package com.budgetpro.application.rrhh.port.out;
 
+import com.budgetpro.domain.rrhh.model.DetalleNomina;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
 import com.budgetpro.domain.rrhh.model.Nomina;
 import com.budgetpro.domain.rrhh.model.NominaId;
 import com.budgetpro.domain.proyecto.model.ProyectoId;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface NominaRepositoryPort {
@@ -13,4 +16,42 @@ public interface NominaRepositoryPort {
     Optional<Nomina> findById(NominaId id);
 
     boolean existsForPeriod(ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin);
+
+    /**
+     * PROCESANDO payroll left by an interrupted chunked run for the project and period.
+     */
+    Optional<Nomina> findEnProceso(ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin);
+
+    /**
+     * Creates the PROCESANDO header of a chunked run together with its employee set, in one
+     * transaction. A resumed run processes exactly this set.
+     *
+     * @throws IllegalStateException if another payroll already exists for the project and period
+     */
+    Nomina iniciar(Nomina cabecera, List<EmpleadoId> empleados);
+
+    /**
+     * Employee set fixed when the run was started, in EmpleadoId order. Empty for runs started
+     * before the set was persisted.
+     */
+    List<EmpleadoId> findEmpleados(NominaId id);
+
+    /**
+     * Inserts a chunk of details and advances the payroll checkpoint (totals, processed
+     * employees, last employee) in one transaction. Fails if the checkpoint was advanced
+     * by another run in the meantime.
+     *
+     * @param avance payroll already advanced with {@link Nomina#registrarLote}
+     */
+    void guardarLote(Nomina avance, List<DetalleNomina> lote);
+
+    /**
+     * Details persisted for the payroll, in EmpleadoId order.
+     */
+    List<DetalleNomina> findDetalles(NominaId id);
+
+    /**
+     * Persists the final state of a chunked run ({@link Nomina#completar}).
+     */
+    void completar(Nomina nomina);
 }
@@ -2,6 +2,7 @@ package com.budgetpro.application.rrhh.usecase;
 import org.springframework.stereotype.Service;
 
 import com.budgetpro.application.rrhh.dto.NominaResponse;
+import com.budgetpro.application.rrhh.dto.ProgresoNominaResponse;
 import com.budgetpro.application.rrhh.port.in.ConsultarNominaUseCase;
 import com.budgetpro.application.rrhh.port.out.NominaRepositoryPort;
 import com.budgetpro.domain.rrhh.model.Nomina;
@@ -19,6 +20,12 @@ public class ConsultarNominaUseCaseImpl implements ConsultarNominaUseCase {
 
     @Override
     public Optional<NominaResponse> obtenerPorId(NominaId id) {
-        return nominaRepositoryPort.findById(id).map(NominaResponse::fromDomain);
+        return nominaRepositoryPort.findById(id)
+                .map(nomina -> NominaResponse.fromDomain(nomina.conDetalles(nominaRepositoryPort.findDetalles(id))));
+    }
+
+    @Override
+    public Optional<ProgresoNominaResponse> obtenerProgreso(NominaId id) {
+        return nominaRepositoryPort.findById(id).map(ProgresoNominaResponse::fromDomain);
     }
 }
@@ -0,0 +1,192 @@
+package com.budgetpro.application.rrhh.usecase;
+
+import com.budgetpro.application.rrhh.dto.ErrorFilaAsistencia;
+import com.budgetpro.application.rrhh.dto.ImportacionAsistenciaResponse;
+import com.budgetpro.application.rrhh.dto.ImportarAsistenciaCommand;
+import com.budgetpro.application.rrhh.dto.ImportarAsistenciaCommand.FilaAsistencia;
+import com.budgetpro.application.rrhh.exception.ProyectoNoActivoException;
+import com.budgetpro.application.rrhh.port.in.ImportarAsistenciaUseCase;
+import com.budgetpro.application.rrhh.port.out.AsignacionProyectoRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.AsistenciaRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.EmpleadoRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.ProyectoRepositoryPort;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.exception.AsignacionSuperpuestaException;
+import com.budgetpro.domain.rrhh.exception.InactiveWorkerException;
+import com.budgetpro.domain.rrhh.exception.ProyectoNoActivoParaOperacionException;
+import com.budgetpro.domain.rrhh.exception.TrabajadorNoAsignadoAlProyectoException;
+import com.budgetpro.domain.rrhh.model.AsignacionProyecto;
+import com.budgetpro.domain.rrhh.model.AsistenciaId;
+import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
+import com.budgetpro.domain.rrhh.model.Empleado;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import com.budgetpro.domain.rrhh.port.AsignacionSolapeValidator;
+import com.budgetpro.domain.rrhh.service.RegistroAsistenciaPolitica;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de tareos: aplica por fila las mismas reglas que
+ * {@link RegistrarAsistenciaUseCaseImpl}, pero con los empleados, las asignaciones y los
+ * registros existentes cargados en una consulta cada uno, la detección de solapes por
+ * árbol de intervalos ({@link RegistroAsistenciaPolitica#detectarSolapesEnLote}) y la
+ * inserción de las filas válidas en un único batch. Las filas rechazadas no detienen la
+ * importación; se devuelven en el reporte de errores.
+ */
+@Service
+@Transactional
+public class ImportarAsistenciaUseCaseImpl implements ImportarAsistenciaUseCase {
+
+    private final EmpleadoRepositoryPort empleadoRepositoryPort;
+    private final ProyectoRepositoryPort proyectoRepositoryPort;
+    private final AsistenciaRepositoryPort asistenciaRepositoryPort;
+    private final AsignacionProyectoRepositoryPort asignacionProyectoRepositoryPort;
+    private final AsignacionSolapeValidator asignacionSolapeValidator;
+
+    public ImportarAsistenciaUseCaseImpl(EmpleadoRepositoryPort empleadoRepositoryPort,
+            ProyectoRepositoryPort proyectoRepositoryPort, AsistenciaRepositoryPort asistenciaRepositoryPort,
+            AsignacionProyectoRepositoryPort asignacionProyectoRepositoryPort,
+            AsignacionSolapeValidator asignacionSolapeValidator) {
+        this.empleadoRepositoryPort = empleadoRepositoryPort;
+        this.proyectoRepositoryPort = proyectoRepositoryPort;
+        this.asistenciaRepositoryPort = asistenciaRepositoryPort;
+        this.asignacionProyectoRepositoryPort = asignacionProyectoRepositoryPort;
+        this.asignacionSolapeValidator = asignacionSolapeValidator;
+    }
+
+    @Override
+    public ImportacionAsistenciaResponse importarAsistencia(ImportarAsistenciaCommand command) {
+        ProyectoId proyectoId = command.proyectoId();
+        Proyecto proyecto = proyectoRepositoryPort.findById(proyectoId)
+                .orElseThrow(() -> new IllegalArgumentException("Proyecto no encontrado: " + proyectoId.getValue()));
+        try {
+            RegistroAsistenciaPolitica.validarProyectoActivoParaTareo(proyecto);
+        } catch (ProyectoNoActivoParaOperacionException e) {
+            throw new ProyectoNoActivoException(e.getMessage());
+        }
+
+        List<FilaAsistencia> filas = command.filas();
+        // Un ID mal formado solo invalida su fila (queda null y se reporta al validarla)
+        List<EmpleadoId> empleadoIdPorFila = filas.stream().map(fila -> parsearEmpleadoId(fila.empleadoId()))
+                .toList();
+        List<EmpleadoId> empleadoIds = empleadoIdPorFila.stream().filter(Objects::nonNull).distinct().toList();
+        Map<EmpleadoId, Empleado> empleados = empleadoRepositoryPort.findAllById(empleadoIds).stream()
+                .collect(Collectors.toMap(Empleado::getId, Function.identity()));
+        Map<EmpleadoId, List<AsignacionProyecto>> asignaciones = asignacionProyectoRepositoryPort
+                .findAsignacionesByEmpleadoIds(empleadoIds).stream()
+                .collect(Collectors.groupingBy(AsignacionProyecto::getEmpleadoId));
+
+        List<ErrorFilaAsistencia> errores = new ArrayList<>();
+        List<AsistenciaRegistro> candidatos = new ArrayList<>();
+        Map<AsistenciaId, Integer> filaPorCandidato = new HashMap<>();
+        for (int i = 0; i < filas.size(); i++) {
+            FilaAsistencia fila = filas.get(i);
+            EmpleadoId empleadoId = empleadoIdPorFila.get(i);
+            try {
+                AsistenciaRegistro candidato = validarFila(fila, empleadoId, proyectoId, empleados,
+                        asignaciones.getOrDefault(empleadoId, List.of()));
+                candidatos.add(candidato);
+                filaPorCandidato.put(candidato.getId(), i + 1);
+            } catch (IllegalArgumentException | InactiveWorkerException | TrabajadorNoAsignadoAlProyectoException
+                    | AsignacionSuperpuestaException e) {
+                errores.add(error(i + 1, empleadoId, e.getMessage()));
+            }
+        }
+
+        // REGLA-125 en lote: una sola consulta de rango con margen de un día para turnos nocturnos
+        List<AsistenciaRegistro> existentes = List.of();
+        if (!candidatos.isEmpty()) {
+            LocalDate desde = candidatos.stream().map(AsistenciaRegistro::getFecha).min(Comparator.naturalOrder())
+                    .orElseThrow().minusDays(1);
+            LocalDate hasta = candidatos.stream().map(AsistenciaRegistro::getFecha).max(Comparator.naturalOrder())
+                    .orElseThrow().plusDays(1);
+            List<EmpleadoId> conCandidatos = candidatos.stream().map(AsistenciaRegistro::getEmpleadoId).distinct()
+                    .toList();
+            existentes = asistenciaRepositoryPort.findByEmpleadosAndPeriodo(conCandidatos, desde, hasta);
+        }
+        Map<AsistenciaId, AsistenciaRegistro> solapes = RegistroAsistenciaPolitica.detectarSolapesEnLote(candidatos,
+                existentes);
+
+        List<AsistenciaRegistro> validos = new ArrayList<>(candidatos.size());
+        for (AsistenciaRegistro candidato : candidatos) {
+            AsistenciaRegistro conflicto = solapes.get(candidato.getId());
+            if (conflicto == null) {
+                validos.add(candidato);
+                continue;
+            }
+            Integer filaConflicto = filaPorCandidato.get(conflicto.getId());
+            String mensaje = filaConflicto != null
+                    ? "El turno se superpone con la fila " + filaConflicto + " del lote."
+                    : "Existen registros de asistencia superpuestos para el empleado en el horario indicado.";
+            errores.add(error(filaPorCandidato.get(candidato.getId()), candidato.getEmpleadoId(), mensaje));
+        }
+
+        asistenciaRepositoryPort.saveAll(validos);
+
+        errores.sort(Comparator.comparingInt(ErrorFilaAsistencia::fila));
+        return new ImportacionAsistenciaResponse(filas.size(), validos.size(), errores);
+    }
+
+    private AsistenciaRegistro validarFila(FilaAsistencia fila, EmpleadoId empleadoId, ProyectoId proyectoId,
+            Map<EmpleadoId, Empleado> empleados, List<AsignacionProyecto> asignacionesEmpleado) {
+        if (fila.empleadoId() == null || fila.empleadoId().isBlank() || fila.fecha() == null
+                || fila.horaEntrada() == null || fila.horaSalida() == null) {
+            throw new IllegalArgumentException("La fila debe indicar empleado, fecha, hora de entrada y hora de salida.");
+        }
+        if (empleadoId == null) {
+            throw new IllegalArgumentException("ID de empleado inválido: " + fila.empleadoId());
+        }
+        Empleado empleado = empleados.get(empleadoId);
+        if (empleado == null) {
+            throw new IllegalArgumentException("Empleado no encontrado: " + empleadoId.getValue());
+        }
+        RegistroAsistenciaPolitica.validarEmpleadoActivoParaTareo(empleado);
+
+        RegistroAsistenciaPolitica.validarCoherenciaTemporalTareo(fila.fecha(), fila.horaEntrada(), fila.horaSalida());
+
+        // Misma condición que existsVigenteAsignacionEmpleadoProyectoEnFecha, evaluada en memoria
+        boolean asignado = asignacionesEmpleado.stream()
+                .anyMatch(a -> a.getProyectoId().equals(proyectoId) && !a.getFechaInicio().isAfter(fila.fecha())
+                        && (a.getFechaFin() == null || !a.getFechaFin().isBefore(fila.fecha())));
+        RegistroAsistenciaPolitica.validarAsignacionVigenteAlProyecto(empleadoId, proyectoId, fila.fecha(),
+                asignado);
+
+        List<AsignacionProyecto> asignacionesOtrasObras = asignacionesEmpleado.stream()
+                .filter(a -> !a.getProyectoId().equals(proyectoId))
+                .toList();
+        RegistroAsistenciaPolitica.delegarValidacionSolapeAsignacionR03(asignacionSolapeValidator,
+                empleadoId, fila.fecha(), asignacionesOtrasObras);
+
+        return AsistenciaRegistro.registrar(AsistenciaId.random(), empleadoId, proyectoId, fila.fecha(),
+                fila.horaEntrada().toLocalTime(), fila.horaSalida().toLocalTime(), fila.ubicacion());
+    }
+
+    /**
+     * ID del empleado de una fila, o null si falta o no es un UUID válido.
+     */
+    private static EmpleadoId parsearEmpleadoId(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return EmpleadoId.fromString(valor.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ErrorFilaAsistencia error(int fila, EmpleadoId empleadoId, String mensaje) {
+        return new ErrorFilaAsistencia(fila, empleadoId != null ? empleadoId.getValue() : null, mensaje);
+    }
+}
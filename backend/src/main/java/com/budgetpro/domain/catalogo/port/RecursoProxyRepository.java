@@ -2,6 +2,7 @@ package com.budgetpro.domain.catalogo.port;
 
 import com.budgetpro.domain.catalogo.model.RecursoProxy;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,11 @@ public interface RecursoProxyRepository {
 
     Optional<RecursoProxy> findByExternalId(String externalId, String catalogSource);
 
+    /**
+     * Busca en una sola consulta los proxies de un catálogo con los externalId dados.
+     */
+    List<RecursoProxy> findByExternalIds(Collection<String> externalIds, String catalogSource);
+
     RecursoProxy save(RecursoProxy proxy);
 
     List<RecursoProxy> findObsoletos();
@@ -72,6 +72,15 @@ public final class AlertaParametrica {
                     valorDetectado, null, null, sugerencia);
     }
     
+    /**
+     * Copia la alerta con un ID nuevo, para conservarla en un análisis posterior
+     * sin volver a evaluar su regla.
+     */
+    public AlertaParametrica copia() {
+        return crear(tipoAlerta, nivel, partidaId, recursoId, mensaje,
+                    valorDetectado, valorEsperadoMin, valorEsperadoMax, sugerencia);
+    }
+    
     // Getters
     
     public UUID getId() {
@@ -0,0 +1,39 @@
+package com.budgetpro.domain.finanzas.alertas.model;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Partidas de un presupuesto cuyo resultado paramétrico cambió desde el último análisis.
+ *
+ * @param partidasModificadas Partidas nuevas o con datos modificados, con su versión de análisis actual
+ * @param partidasEliminadas  Partidas evaluadas en el último análisis que ya no existen
+ */
+public record CambiosAnalisis(
+        Map<UUID, Long> partidasModificadas,
+        Set<UUID> partidasEliminadas
+) {
+
+    public CambiosAnalisis {
+        partidasModificadas = Map.copyOf(partidasModificadas);
+        partidasEliminadas = Set.copyOf(partidasEliminadas);
+    }
+
+    /**
+     * true si ninguna partida cambió: el último análisis sigue vigente.
+     */
+    public boolean estaVacio() {
+        return partidasModificadas.isEmpty() && partidasEliminadas.isEmpty();
+    }
+
+    /**
+     * Partidas cuyas alertas anteriores dejan de valer (modificadas y eliminadas).
+     */
+    public Set<UUID> partidasAfectadas() {
+        Set<UUID> afectadas = new HashSet<>(partidasModificadas.keySet());
+        afectadas.addAll(partidasEliminadas);
+        return afectadas;
+    }
+}
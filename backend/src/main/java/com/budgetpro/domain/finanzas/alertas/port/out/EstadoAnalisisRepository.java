@@ -0,0 +1,23 @@
+package com.budgetpro.domain.finanzas.alertas.port.out;
+
+import com.budgetpro.domain.finanzas.alertas.model.CambiosAnalisis;
+
+import java.util.UUID;
+
+/**
+ * Puerto de salida para la versión con la que se evaluó cada partida en el último análisis
+ * paramétrico de un presupuesto.
+ */
+public interface EstadoAnalisisRepository {
+
+    /**
+     * Partidas nuevas o modificadas (versión de análisis distinta a la evaluada) y partidas
+     * evaluadas que ya no existen.
+     */
+    CambiosAnalisis buscarCambios(UUID presupuestoId);
+
+    /**
+     * Registra como evaluadas las partidas modificadas, con su versión, y olvida las eliminadas.
+     */
+    void registrar(UUID presupuestoId, CambiosAnalisis cambios);
+}
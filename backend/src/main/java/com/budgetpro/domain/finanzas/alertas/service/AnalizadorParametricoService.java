@@ -2,16 +2,17 @@ package com.budgetpro.domain.finanzas.alertas.service;
 
 import com.budgetpro.domain.finanzas.alertas.model.AlertaParametrica;
 import com.budgetpro.domain.finanzas.alertas.model.AnalisisPresupuesto;
-import com.budgetpro.domain.finanzas.alertas.model.NivelAlerta;
-import com.budgetpro.domain.finanzas.alertas.model.TipoAlertaParametrica;
 import com.budgetpro.domain.shared.model.TipoRecurso;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * Servicio de Dominio para análisis paramétrico de presupuestos.
@@ -19,224 +20,141 @@ import java.util.UUID;
  * Implementa las reglas de negocio (Hard Rules) basadas en metodología Suárez Salazar:
  * - Cap. 2.1340: Alertas Paramétricas
  * 
- * Reglas implementadas:
+ * Reglas estándar:
  * 1. Maquinaria: Si costo_horario == 0 en equipo propio → ALERTA CRÍTICA
  * 2. Acero: Ratio Kg Acero / m3 Concreto fuera de rango 80-150 kg/m3 → WARNING
  * 3. Concreto: Si agregado > 1/5 del ancho del elemento → ALERTA TÉCNICA
  * 
+ * Cada regla es un {@link ReglaParametrica} independiente: se evalúan en paralelo sobre los
+ * mismos {@link DatosAnalisis} inmutables y sus alertas se agregan en el orden de las reglas,
+ * así que el resultado no depende de cuál termina primero.
+ * 
  * No persiste, solo analiza y genera alertas.
  */
 public class AnalizadorParametricoService {
     
-    // Constantes para validaciones
-    private static final BigDecimal RATIO_ACERO_MIN = new BigDecimal("80");
-    private static final BigDecimal RATIO_ACERO_MAX = new BigDecimal("150");
-    private static final BigDecimal FACTOR_AGREGADO_MAX = new BigDecimal("0.2"); // 1/5 = 0.2
+    private final List<ReglaParametrica> reglas;
+    private final Executor executor;
     
     /**
-     * Analiza un presupuesto y genera alertas paramétricas.
-     * 
-     * @param presupuestoId ID del presupuesto a analizar
-     * @param datosAnalisis Datos necesarios para el análisis (APUs, recursos, partidas)
-     * @return AnalisisPresupuesto con las alertas generadas
+     * Reglas estándar evaluadas en el hilo llamador.
      */
-    public AnalisisPresupuesto analizar(UUID presupuestoId, DatosAnalisis datosAnalisis) {
-        AnalisisPresupuesto analisis = AnalisisPresupuesto.crear(presupuestoId);
-        
-        // Aplicar reglas de negocio
-        analizarMaquinaria(analisis, datosAnalisis);
-        analizarAceroConcreto(analisis, datosAnalisis);
-        analizarTamanoAgregado(analisis, datosAnalisis);
-        
-        return analisis;
+    public AnalizadorParametricoService() {
+        this(reglasEstandar(), Runnable::run);
     }
     
     /**
-     * Regla 1: Maquinaria sin costo horario.
-     * 
-     * Si un recurso es de tipo EQUIPO (equipo propio) y tiene costo_horario == 0,
-     * genera ALERTA CRÍTICA: "Descapitalización inminente. Sugerir depreciación"
-     * 
-     * Referencia: Suárez Salazar Pág. 174 PDF
+     * @param reglas Reglas a evaluar, en el orden en que se agregan sus alertas
+     * @param executor Ejecutor en el que se evalúa cada regla
      */
-    private void analizarMaquinaria(AnalisisPresupuesto analisis, DatosAnalisis datos) {
-        for (DatosRecurso recurso : datos.getRecursos()) {
-            if (recurso.getTipo() == TipoRecurso.EQUIPO) {
-                // Obtener costo_horario de los atributos
-                BigDecimal costoHorario = obtenerCostoHorario(recurso.getAtributos());
-                
-                // REGLA-026
-                if (costoHorario == null || costoHorario.compareTo(BigDecimal.ZERO) == 0) {
-                    AlertaParametrica alerta = AlertaParametrica.crear(
-                        TipoAlertaParametrica.MAQUINARIA_COSTO_HORARIO,
-                        NivelAlerta.CRITICA,
-                        null, // No está asociada a una partida específica
-                        recurso.getId(),
-                        "Descapitalización inminente. El equipo '" + recurso.getNombre() + 
-                        "' (EQUIPO) tiene costo_horario = 0. Esto puede llevar a pérdidas por no considerar la depreciación del activo.",
-                        BigDecimal.ZERO,
-                        "Sugerir configurar un costo horario basado en depreciación del activo. " +
-                        "Fórmula sugerida: (Valor de adquisición - Valor residual) / (Vida útil en horas)"
-                    );
-                    analisis.agregarAlerta(alerta);
-                }
-            }
-        }
+    public AnalizadorParametricoService(List<ReglaParametrica> reglas, Executor executor) {
+        this.reglas = List.copyOf(reglas);
+        this.executor = executor;
     }
     
     /**
-     * Regla 2: Ratio Acero/Concreto fuera de rango.
-     * 
-     * Calcula el ratio Kg Acero / m3 Concreto para partidas de concreto.
-     * Si está fuera del rango 80-150 kg/m3 (para estructuras estándar) → WARNING.
+     * Reglas paramétricas estándar (maquinaria, acero/concreto y tamaño de agregado).
      */
-    private void analizarAceroConcreto(AnalisisPresupuesto analisis, DatosAnalisis datos) {
-        for (DatosPartida partida : datos.getPartidas()) {
-            // Buscar si la partida tiene concreto y acero
-            BigDecimal cantidadConcreto = buscarCantidadRecurso(partida, "CONCRETO", TipoRecurso.MATERIAL);
-            BigDecimal cantidadAcero = buscarCantidadRecurso(partida, "ACERO", TipoRecurso.MATERIAL);
-            
-            if (cantidadConcreto != null && cantidadConcreto.compareTo(BigDecimal.ZERO) > 0 &&
-                cantidadAcero != null && cantidadAcero.compareTo(BigDecimal.ZERO) > 0) {
-                
-                // Calcular ratio: kg acero / m3 concreto
-                // Asumiendo que cantidadAcero está en kg y cantidadConcreto en m3
-                BigDecimal ratio = cantidadAcero.divide(cantidadConcreto, 4, RoundingMode.HALF_UP);
-                
-                // REGLA-027
-                if (ratio.compareTo(RATIO_ACERO_MIN) < 0 || ratio.compareTo(RATIO_ACERO_MAX) > 0) {
-                    AlertaParametrica alerta = AlertaParametrica.crear(
-                        TipoAlertaParametrica.ACERO_RATIO_CONCRETO,
-                        NivelAlerta.WARNING,
-                        partida.getId(),
-                        null,
-                        String.format(
-                            "Ratio Acero/Concreto fuera de rango estándar. Partida '%s': %.2f kg/m³ (rango esperado: 80-150 kg/m³)",
-                            partida.getDescripcion(),
-                            ratio
-                        ),
-                        ratio,
-                        RATIO_ACERO_MIN,
-                        RATIO_ACERO_MAX,
-                        "Verificar que las cantidades de acero y concreto sean correctas. " +
-                        "Para estructuras estándar, el ratio debería estar entre 80-150 kg/m³."
-                    );
-                    analisis.agregarAlerta(alerta);
-                }
-            }
-        }
+    public static List<ReglaParametrica> reglasEstandar() {
+        return List.of(new ReglaMaquinariaCostoHorario(), new ReglaRatioAceroConcreto(),
+                new ReglaTamanoAgregado());
     }
     
     /**
-     * Regla 3: Tamaño de agregado inadecuado.
+     * Analiza un presupuesto y genera alertas paramétricas.
      * 
-     * Si el agregado (grava) > 1/5 del ancho del elemento (ej: grava 1.5" en muro de 15cm)
-     * → ALERTA TÉCNICA (Riesgo de colado).
+     * @param presupuestoId ID del presupuesto a analizar
+     * @param datosAnalisis Datos necesarios para el análisis (APUs, recursos, partidas)
+     * @return AnalisisPresupuesto con las alertas generadas
      */
-    private void analizarTamanoAgregado(AnalisisPresupuesto analisis, DatosAnalisis datos) {
-        for (DatosPartida partida : datos.getPartidas()) {
-            // Buscar agregado/grava en la partida
-            BigDecimal tamanoAgregado = buscarTamanoAgregado(partida);
-            BigDecimal anchoElemento = obtenerAnchoElemento(partida);
-            
-            if (tamanoAgregado != null && anchoElemento != null && 
-                anchoElemento.compareTo(BigDecimal.ZERO) > 0) {
-                
-                BigDecimal factor = tamanoAgregado.divide(anchoElemento, 4, RoundingMode.HALF_UP);
-                
-                // REGLA-028
-                if (factor.compareTo(FACTOR_AGREGADO_MAX) > 0) {
-                    AlertaParametrica alerta = AlertaParametrica.crear(
-                        TipoAlertaParametrica.CONCRETO_TAMANO_AGREGADO,
-                        NivelAlerta.WARNING,
-                        partida.getId(),
-                        null,
-                        String.format(
-                            "Tamaño de agregado inadecuado. Partida '%s': agregado %.2f cm en elemento de %.2f cm de ancho (máximo recomendado: %.0f%% del ancho)",
-                            partida.getDescripcion(),
-                            tamanoAgregado,
-                            anchoElemento,
-                            FACTOR_AGREGADO_MAX.multiply(new BigDecimal("100"))
-                        ),
-                        factor,
-                        null,
-                        FACTOR_AGREGADO_MAX,
-                        "El tamaño del agregado no debe exceder 1/5 (20%) del ancho del elemento estructural. " +
-                        "Riesgo de problemas en el colado del concreto."
-                    );
-                    analisis.agregarAlerta(alerta);
-                }
-            }
+    public AnalisisPresupuesto analizar(UUID presupuestoId, DatosAnalisis datosAnalisis) {
+        List<CompletableFuture<List<AlertaParametrica>>> evaluaciones = evaluar(datosAnalisis);
+        
+        AnalisisPresupuesto analisis = AnalisisPresupuesto.crear(presupuestoId);
+        for (CompletableFuture<List<AlertaParametrica>> evaluacion : evaluaciones) {
+            esperar(evaluacion).forEach(analisis::agregarAlerta);
         }
+        return analisis;
     }
     
-    // Métodos auxiliares
-    
-    private BigDecimal obtenerCostoHorario(Map<String, Object> atributos) {
-        if (atributos == null) {
-            return null;
+    /**
+     * Re-analiza un presupuesto a partir de su último análisis, evaluando solo lo que cambió.
+     * 
+     * Las alertas de partida se conservan salvo las de partidas reevaluadas; las de recurso se
+     * conservan salvo las de recursos presentes en los datos reevaluados (se recalculan) o que
+     * ya no usa el presupuesto. El cambio de un recurso avanza las partidas que lo usan, por lo
+     * que sus datos llegan con ellas. Se agregan primero las alertas conservadas y después las
+     * nuevas, en el orden de las reglas.
+     * 
+     * @param anterior Último análisis del presupuesto
+     * @param cambios Datos de las partidas modificadas (y de los recursos que usan)
+     * @param partidasReevaluadas Partidas modificadas o eliminadas desde el último análisis
+     * @param recursosEnUso Recursos con alerta anterior, no incluidos en los cambios, que el presupuesto aún usa
+     * @return Nuevo AnalisisPresupuesto con las alertas combinadas
+     */
+    public AnalisisPresupuesto reanalizar(AnalisisPresupuesto anterior, DatosAnalisis cambios,
+                                          Set<UUID> partidasReevaluadas, Set<UUID> recursosEnUso) {
+        List<CompletableFuture<List<AlertaParametrica>>> evaluaciones = evaluar(cambios);
+        Set<UUID> recursosReevaluados = cambios.getRecursos().stream()
+                .map(DatosRecurso::getId)
+                .collect(Collectors.toSet());
+        
+        AnalisisPresupuesto analisis = AnalisisPresupuesto.crear(anterior.getPresupuestoId());
+        for (AlertaParametrica alerta : anterior.getAlertas()) {
+            boolean vigente = alerta.getPartidaId() != null
+                    ? !partidasReevaluadas.contains(alerta.getPartidaId())
+                    : alerta.getRecursoId() == null
+                            || (!recursosReevaluados.contains(alerta.getRecursoId())
+                                    && recursosEnUso.contains(alerta.getRecursoId()));
+            if (vigente) {
+                analisis.agregarAlerta(alerta.copia());
+            }
         }
-        Object costoHorario = atributos.get("costo_horario");
-        if (costoHorario instanceof Number) {
-            return BigDecimal.valueOf(((Number) costoHorario).doubleValue());
+        for (CompletableFuture<List<AlertaParametrica>> evaluacion : evaluaciones) {
+            esperar(evaluacion).forEach(analisis::agregarAlerta);
         }
-        return null;
+        return analisis;
     }
     
-    private BigDecimal buscarCantidadRecurso(DatosPartida partida, String nombreRecurso, TipoRecurso tipo) {
-        for (DatosApuInsumo insumo : partida.getInsumos()) {
-            if (insumo.getRecursoNombre().toUpperCase().contains(nombreRecurso) &&
-                insumo.getRecursoTipo() == tipo) {
-                return insumo.getCantidad();
-            }
-        }
-        return null;
+    private List<CompletableFuture<List<AlertaParametrica>>> evaluar(DatosAnalisis datosAnalisis) {
+        return reglas.stream()
+                .map(regla -> CompletableFuture.supplyAsync(() -> regla.evaluar(datosAnalisis), executor))
+                .toList();
     }
     
-    private BigDecimal buscarTamanoAgregado(DatosPartida partida) {
-        for (DatosApuInsumo insumo : partida.getInsumos()) {
-            String nombre = insumo.getRecursoNombre().toUpperCase();
-            if (nombre.contains("GRAVA") || nombre.contains("AGREGADO")) {
-                // Intentar extraer el tamaño del nombre o atributos
-                Map<String, Object> atributos = insumo.getRecursoAtributos();
-                if (atributos != null && atributos.containsKey("tamano_cm")) {
-                    Object tamano = atributos.get("tamano_cm");
-                    if (tamano instanceof Number) {
-                        return BigDecimal.valueOf(((Number) tamano).doubleValue());
-                    }
-                }
+    private static List<AlertaParametrica> esperar(CompletableFuture<List<AlertaParametrica>> evaluacion) {
+        try {
+            return evaluacion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
             }
+            throw e;
         }
-        return null;
-    }
-    
-    private BigDecimal obtenerAnchoElemento(DatosPartida partida) {
-        // Intentar obtener del nombre o descripción de la partida
-        // En una implementación real, esto podría venir de atributos de la partida
-        // Por ahora, retornamos null si no se puede determinar
-        return null; // Se puede mejorar extrayendo de descripción o atributos
     }
     
     // Clases DTO internas para datos de análisis
     
     /**
      * DTO para datos necesarios para el análisis.
+     * 
+     * Inmutable: las reglas lo leen en paralelo sin copiarlo.
      */
     public static class DatosAnalisis {
         private final List<DatosRecurso> recursos;
         private final List<DatosPartida> partidas;
         
         public DatosAnalisis(List<DatosRecurso> recursos, List<DatosPartida> partidas) {
-            this.recursos = recursos != null ? new ArrayList<>(recursos) : new ArrayList<>();
-            this.partidas = partidas != null ? new ArrayList<>(partidas) : new ArrayList<>();
+            this.recursos = recursos != null ? List.copyOf(recursos) : List.of();
+            this.partidas = partidas != null ? List.copyOf(partidas) : List.of();
         }
         
         public List<DatosRecurso> getRecursos() {
-            return List.copyOf(recursos);
+            return recursos;
         }
         
         public List<DatosPartida> getPartidas() {
-            return List.copyOf(partidas);
+            return partidas;
         }
     }
     
@@ -273,12 +191,12 @@ public class AnalizadorParametricoService {
         public DatosPartida(UUID id, String descripcion, List<DatosApuInsumo> insumos) {
             this.id = id;
             this.descripcion = descripcion;
-            this.insumos = insumos != null ? new ArrayList<>(insumos) : new ArrayList<>();
+            this.insumos = insumos != null ? List.copyOf(insumos) : List.of();
         }
         
         public UUID getId() { return id; }
         public String getDescripcion() { return descripcion; }
-        public List<DatosApuInsumo> getInsumos() { return List.copyOf(insumos); }
+        public List<DatosApuInsumo> getInsumos() { return insumos; }
     }
     
     /**
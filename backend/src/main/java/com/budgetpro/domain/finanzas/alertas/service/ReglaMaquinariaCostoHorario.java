@@ -0,0 +1,60 @@
+package com.budgetpro.domain.finanzas.alertas.service;
+
+import com.budgetpro.domain.finanzas.alertas.model.AlertaParametrica;
+import com.budgetpro.domain.finanzas.alertas.model.NivelAlerta;
+import com.budgetpro.domain.finanzas.alertas.model.TipoAlertaParametrica;
+import com.budgetpro.domain.shared.model.TipoRecurso;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regla 1: Maquinaria sin costo horario.
+ * 
+ * Si un recurso es de tipo EQUIPO (equipo propio) y tiene costo_horario == 0,
+ * genera ALERTA CRÍTICA: "Descapitalización inminente. Sugerir depreciación"
+ * 
+ * Referencia: Suárez Salazar Pág. 174 PDF
+ */
+public class ReglaMaquinariaCostoHorario implements ReglaParametrica {
+
+    @Override
+    public List<AlertaParametrica> evaluar(AnalizadorParametricoService.DatosAnalisis datos) {
+        List<AlertaParametrica> alertas = new ArrayList<>();
+        for (AnalizadorParametricoService.DatosRecurso recurso : datos.getRecursos()) {
+            if (recurso.getTipo() == TipoRecurso.EQUIPO) {
+                // Obtener costo_horario de los atributos
+                BigDecimal costoHorario = obtenerCostoHorario(recurso.getAtributos());
+
+                // REGLA-026
+                if (costoHorario == null || costoHorario.compareTo(BigDecimal.ZERO) == 0) {
+                    alertas.add(AlertaParametrica.crear(
+                        TipoAlertaParametrica.MAQUINARIA_COSTO_HORARIO,
+                        NivelAlerta.CRITICA,
+                        null, // No está asociada a una partida específica
+                        recurso.getId(),
+                        "Descapitalización inminente. El equipo '" + recurso.getNombre() +
+                        "' (EQUIPO) tiene costo_horario = 0. Esto puede llevar a pérdidas por no considerar la depreciación del activo.",
+                        BigDecimal.ZERO,
+                        "Sugerir configurar un costo horario basado en depreciación del activo. " +
+                        "Fórmula sugerida: (Valor de adquisición - Valor residual) / (Vida útil en horas)"
+                    ));
+                }
+            }
+        }
+        return alertas;
+    }
+
+    private BigDecimal obtenerCostoHorario(Map<String, Object> atributos) {
+        if (atributos == null) {
+            return null;
+        }
+        Object costoHorario = atributos.get("costo_horario");
+        if (costoHorario instanceof Number) {
+            return BigDecimal.valueOf(((Number) costoHorario).doubleValue());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.budgetpro.domain.finanzas.alertas.service;
+
+import com.budgetpro.domain.finanzas.alertas.model.AlertaParametrica;
+
+import java.util.List;
+
+/**
+ * Regla paramétrica del análisis de presupuestos.
+ * 
+ * Las reglas se evalúan en paralelo sobre los mismos datos: una implementación no debe
+ * modificar {@link AnalizadorParametricoService.DatosAnalisis} ni guardar estado entre evaluaciones.
+ */
+public interface ReglaParametrica {
+
+    /**
+     * Evalúa la regla y devuelve las alertas que genera (vacío si no aplica).
+     * 
+     * @param datos Datos inmutables del presupuesto
+     * @return Alertas generadas
+     */
+    List<AlertaParametrica> evaluar(AnalizadorParametricoService.DatosAnalisis datos);
+}
@@ -0,0 +1,73 @@
+package com.budgetpro.domain.finanzas.alertas.service;
+
+import com.budgetpro.domain.finanzas.alertas.model.AlertaParametrica;
+import com.budgetpro.domain.finanzas.alertas.model.NivelAlerta;
+import com.budgetpro.domain.finanzas.alertas.model.TipoAlertaParametrica;
+import com.budgetpro.domain.shared.model.TipoRecurso;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regla 2: Ratio Acero/Concreto fuera de rango.
+ * 
+ * Calcula el ratio Kg Acero / m3 Concreto para partidas de concreto.
+ * Si está fuera del rango 80-150 kg/m3 (para estructuras estándar) → WARNING.
+ */
+public class ReglaRatioAceroConcreto implements ReglaParametrica {
+
+    private static final BigDecimal RATIO_ACERO_MIN = new BigDecimal("80");
+    private static final BigDecimal RATIO_ACERO_MAX = new BigDecimal("150");
+
+    @Override
+    public List<AlertaParametrica> evaluar(AnalizadorParametricoService.DatosAnalisis datos) {
+        List<AlertaParametrica> alertas = new ArrayList<>();
+        for (AnalizadorParametricoService.DatosPartida partida : datos.getPartidas()) {
+            // Buscar si la partida tiene concreto y acero
+            BigDecimal cantidadConcreto = buscarCantidadRecurso(partida, "CONCRETO", TipoRecurso.MATERIAL);
+            BigDecimal cantidadAcero = buscarCantidadRecurso(partida, "ACERO", TipoRecurso.MATERIAL);
+
+            if (cantidadConcreto != null && cantidadConcreto.compareTo(BigDecimal.ZERO) > 0 &&
+                cantidadAcero != null && cantidadAcero.compareTo(BigDecimal.ZERO) > 0) {
+
+                // Calcular ratio: kg acero / m3 concreto
+                // Asumiendo que cantidadAcero está en kg y cantidadConcreto en m3
+                BigDecimal ratio = cantidadAcero.divide(cantidadConcreto, 4, RoundingMode.HALF_UP);
+
+                // REGLA-027
+                if (ratio.compareTo(RATIO_ACERO_MIN) < 0 || ratio.compareTo(RATIO_ACERO_MAX) > 0) {
+                    alertas.add(AlertaParametrica.crear(
+                        TipoAlertaParametrica.ACERO_RATIO_CONCRETO,
+                        NivelAlerta.WARNING,
+                        partida.getId(),
+                        null,
+                        String.format(
+                            "Ratio Acero/Concreto fuera de rango estándar. Partida '%s': %.2f kg/m³ (rango esperado: 80-150 kg/m³)",
+                            partida.getDescripcion(),
+                            ratio
+                        ),
+                        ratio,
+                        RATIO_ACERO_MIN,
+                        RATIO_ACERO_MAX,
+                        "Verificar que las cantidades de acero y concreto sean correctas. " +
+                        "Para estructuras estándar, el ratio debería estar entre 80-150 kg/m³."
+                    ));
+                }
+            }
+        }
+        return alertas;
+    }
+
+    private BigDecimal buscarCantidadRecurso(AnalizadorParametricoService.DatosPartida partida, String nombreRecurso,
+            TipoRecurso tipo) {
+        for (AnalizadorParametricoService.DatosApuInsumo insumo : partida.getInsumos()) {
+            if (insumo.getRecursoNombre().toUpperCase().contains(nombreRecurso) &&
+                insumo.getRecursoTipo() == tipo) {
+                return insumo.getCantidad();
+            }
+        }
+        return null;
+    }
+}
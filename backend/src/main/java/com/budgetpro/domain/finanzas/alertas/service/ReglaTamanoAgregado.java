@@ -0,0 +1,85 @@
+package com.budgetpro.domain.finanzas.alertas.service;
+
+import com.budgetpro.domain.finanzas.alertas.model.AlertaParametrica;
+import com.budgetpro.domain.finanzas.alertas.model.NivelAlerta;
+import com.budgetpro.domain.finanzas.alertas.model.TipoAlertaParametrica;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regla 3: Tamaño de agregado inadecuado.
+ * 
+ * Si el agregado (grava) > 1/5 del ancho del elemento (ej: grava 1.5" en muro de 15cm)
+ * → ALERTA TÉCNICA (Riesgo de colado).
+ */
+public class ReglaTamanoAgregado implements ReglaParametrica {
+
+    private static final BigDecimal FACTOR_AGREGADO_MAX = new BigDecimal("0.2"); // 1/5 = 0.2
+
+    @Override
+    public List<AlertaParametrica> evaluar(AnalizadorParametricoService.DatosAnalisis datos) {
+        List<AlertaParametrica> alertas = new ArrayList<>();
+        for (AnalizadorParametricoService.DatosPartida partida : datos.getPartidas()) {
+            // Buscar agregado/grava en la partida
+            BigDecimal tamanoAgregado = buscarTamanoAgregado(partida);
+            BigDecimal anchoElemento = obtenerAnchoElemento(partida);
+
+            if (tamanoAgregado != null && anchoElemento != null &&
+                anchoElemento.compareTo(BigDecimal.ZERO) > 0) {
+
+                BigDecimal factor = tamanoAgregado.divide(anchoElemento, 4, RoundingMode.HALF_UP);
+
+                // REGLA-028
+                if (factor.compareTo(FACTOR_AGREGADO_MAX) > 0) {
+                    alertas.add(AlertaParametrica.crear(
+                        TipoAlertaParametrica.CONCRETO_TAMANO_AGREGADO,
+                        NivelAlerta.WARNING,
+                        partida.getId(),
+                        null,
+                        String.format(
+                            "Tamaño de agregado inadecuado. Partida '%s': agregado %.2f cm en elemento de %.2f cm de ancho (máximo recomendado: %.0f%% del ancho)",
+                            partida.getDescripcion(),
+                            tamanoAgregado,
+                            anchoElemento,
+                            FACTOR_AGREGADO_MAX.multiply(new BigDecimal("100"))
+                        ),
+                        factor,
+                        null,
+                        FACTOR_AGREGADO_MAX,
+                        "El tamaño del agregado no debe exceder 1/5 (20%) del ancho del elemento estructural. " +
+                        "Riesgo de problemas en el colado del concreto."
+                    ));
+                }
+            }
+        }
+        return alertas;
+    }
+
+    private BigDecimal buscarTamanoAgregado(AnalizadorParametricoService.DatosPartida partida) {
+        for (AnalizadorParametricoService.DatosApuInsumo insumo : partida.getInsumos()) {
+            String nombre = insumo.getRecursoNombre().toUpperCase();
+            if (nombre.contains("GRAVA") || nombre.contains("AGREGADO")) {
+                // Intentar extraer el tamaño del nombre o atributos
+                Map<String, Object> atributos = insumo.getRecursoAtributos();
+                if (atributos != null && atributos.containsKey("tamano_cm")) {
+                    Object tamano = atributos.get("tamano_cm");
+                    if (tamano instanceof Number) {
+                        return BigDecimal.valueOf(((Number) tamano).doubleValue());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private BigDecimal obtenerAnchoElemento(AnalizadorParametricoService.DatosPartida partida) {
+        // Intentar obtener del nombre o descripción de la partida
+        // En una implementación real, esto podría venir de atributos de la partida
+        // Por ahora, retornamos null si no se puede determinar
+        return null; // Se puede mejorar extrayendo de descripción o atributos
+    }
+}
@@ -3,6 +3,7 @@ package com.budgetpro.domain.finanzas.apu.port.out;
 import com.budgetpro.domain.finanzas.apu.model.APU;
 import com.budgetpro.domain.finanzas.apu.model.ApuId;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -44,4 +45,22 @@ public interface ApuRepository {
      * @return true si existe, false en caso contrario
      */
     boolean existsByPartidaId(UUID partidaId);
+
+    /**
+     * Busca los APUs (con sus insumos) de todas las partidas de un presupuesto.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return APUs del presupuesto
+     */
+    List<APU> findByPresupuestoId(UUID presupuestoId);
+
+    /**
+     * Calcula una huella de versión de los APUs e insumos de un presupuesto.
+     * 
+     * Cambia ante cualquier alta, baja o modificación de un APU o de sus insumos.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return Huella opaca de la versión vigente
+     */
+    String calcularVersionApus(UUID presupuestoId);
 }
@@ -0,0 +1,31 @@
+package com.budgetpro.domain.finanzas.consumo.port.out;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para el gasto acumulado por partida.
+ * 
+ * El contador se mantiene por delta en la misma transacción que cada consumo
+ * (ver {@link ConsumoPartidaRepository}); este puerto expone su lectura y la
+ * reconciliación contra los consumos registrados.
+ */
+public interface GastoAcumuladoPartidaRepository {
+
+    /**
+     * Obtiene el gasto acumulado de las partidas indicadas.
+     * 
+     * @param partidaIds IDs de las partidas
+     * @return Mapa partidaId -> gasto acumulado (las partidas sin consumos no aparecen)
+     */
+    Map<UUID, BigDecimal> obtenerGastoAcumulado(Collection<UUID> partidaIds);
+
+    /**
+     * Recalcula los contadores desde los consumos registrados y corrige las desviaciones.
+     * 
+     * @return Número de partidas cuyo contador estaba desviado
+     */
+    int reconciliar();
+}
@@ -38,9 +38,25 @@ public class AgregacionControlCostosService {
     public Map<UUID, DatosControlPartida> agregarDatosControl(
             List<Partida> partidas, List<ConsumoPartida> consumos) {
         
-        // Crear mapa de consumos por partidaId para acceso rápido
-        Map<UUID, List<ConsumoPartida>> consumosPorPartida = consumos.stream()
-                .collect(Collectors.groupingBy(ConsumoPartida::getPartidaId));
+        // Sumar consumos por partidaId
+        Map<UUID, BigDecimal> gastoPorPartida = consumos.stream()
+                .collect(Collectors.groupingBy(ConsumoPartida::getPartidaId,
+                        Collectors.reducing(BigDecimal.ZERO, ConsumoPartida::getMonto, BigDecimal::add)));
+        
+        return agregarDatosControlConGasto(partidas, gastoPorPartida);
+    }
+
+    /**
+     * Agrega los datos de control de costos a partir del gasto ya acumulado por partida.
+     * 
+     * Evita cargar los consumos individuales cuando el gasto se mantiene por partida.
+     * 
+     * @param partidas Lista de todas las partidas del presupuesto
+     * @param gastoPorPartida Mapa partidaId -> gasto acumulado (ausente = sin gasto)
+     * @return Mapa de partidaId -> datos agregados (plan, real, saldo, porcentaje)
+     */
+    public Map<UUID, DatosControlPartida> agregarDatosControlConGasto(
+            List<Partida> partidas, Map<UUID, BigDecimal> gastoPorPartida) {
         
         // Crear mapa de partidas por ID para acceso rápido
         Map<UUID, Partida> partidasPorId = partidas.stream()
@@ -58,7 +74,7 @@ public class AgregacionControlCostosService {
         for (Partida partida : partidas) {
             if (!hijosPorPadre.containsKey(partida.getId().getValue())) {
                 // Es una partida hoja
-                DatosControlPartida datos = calcularDatosPartidaHoja(partida, consumosPorPartida);
+                DatosControlPartida datos = calcularDatosPartidaHoja(partida, gastoPorPartida);
                 datosPorPartida.put(partida.getId().getValue(), datos);
             }
         }
@@ -85,7 +101,7 @@ public class AgregacionControlCostosService {
      * Calcula los datos de control para una partida hoja (sin hijos).
      */
     private DatosControlPartida calcularDatosPartidaHoja(
-            Partida partida, Map<UUID, List<ConsumoPartida>> consumosPorPartida) {
+            Partida partida, Map<UUID, BigDecimal> gastoPorPartida) {
         
         // PLAN: Metrado * Precio Unitario (del APU)
         BigDecimal metrado = partida.getMetrado() != null ? partida.getMetrado() : BigDecimal.ZERO;
@@ -100,12 +116,8 @@ public class AgregacionControlCostosService {
             parcialPlan = metrado.multiply(precioUnitario);
         }
         
-        // REAL: Suma de consumos
-        List<ConsumoPartida> consumosPartida = consumosPorPartida.getOrDefault(
-                partida.getId().getValue(), Collections.emptyList());
-        BigDecimal gastoAcumulado = consumosPartida.stream()
-                .map(ConsumoPartida::getMonto)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // REAL: Gasto acumulado de la partida
+        BigDecimal gastoAcumulado = gastoPorPartida.getOrDefault(partida.getId().getValue(), BigDecimal.ZERO);
         
         // DESVIACIÓN
         BigDecimal saldo = parcialPlan.subtract(gastoAcumulado);
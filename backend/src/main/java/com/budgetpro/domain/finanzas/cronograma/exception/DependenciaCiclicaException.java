@@ -0,0 +1,36 @@
+package com.budgetpro.domain.finanzas.cronograma.exception;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Excepción de dominio lanzada cuando las dependencias del cronograma forman un
+ * ciclo y, por lo tanto, no existe un orden de ejecución posible.
+ *
+ * El ciclo se reporta en orden predecesora → sucesora; la primera actividad se
+ * repite implícitamente al final.
+ */
+public class DependenciaCiclicaException extends RuntimeException {
+
+    private final List<UUID> ciclo;
+
+    public DependenciaCiclicaException(List<UUID> ciclo) {
+        super(formatMessage(ciclo));
+        this.ciclo = List.copyOf(ciclo);
+    }
+
+    private static String formatMessage(List<UUID> ciclo) {
+        return String.format("Las dependencias del cronograma forman un ciclo: %s -> %s",
+                ciclo.stream().map(UUID::toString).collect(Collectors.joining(" -> ")), ciclo.get(0));
+    }
+
+    /**
+     * Obtiene las actividades que forman el ciclo.
+     *
+     * @return IDs de las actividades en orden predecesora → sucesora
+     */
+    public List<UUID> getCiclo() {
+        return ciclo;
+    }
+}
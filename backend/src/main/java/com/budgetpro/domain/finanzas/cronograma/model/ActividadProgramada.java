@@ -13,7 +13,7 @@ import java.util.UUID;
  * Relación 1:1 con Partida del Presupuesto.
  * 
  * Responsabilidad: - Representar una actividad del cronograma con sus fechas -
- * Gestionar dependencias con otras actividades (Fin-Inicio simple)
+ * Gestionar dependencias con otras actividades (FS/SS/FF/SF con desfase)
  * 
  * Invariantes: - El partidaId es obligatorio - La fechaFin no puede ser menor a
  * fechaInicio - La duracionDias debe ser consistente con las fechas
@@ -26,14 +26,14 @@ public final class ActividadProgramada {
     private final LocalDate fechaInicio;
     private final LocalDate fechaFin;
     private final Integer duracionDias;
-    private final List<UUID> predecesoras;
+    private final List<Dependencia> dependencias;
     private final Long version;
 
     /**
      * Constructor privado. Usar factory methods.
      */
     private ActividadProgramada(ActividadProgramadaId id, UUID partidaId, UUID programaObraId, LocalDate fechaInicio,
-            LocalDate fechaFin, Integer duracionDias, List<UUID> predecesoras, Long version) {
+            LocalDate fechaFin, Integer duracionDias, List<Dependencia> dependencias, Long version) {
         validarInvariantes(partidaId, programaObraId, fechaInicio, fechaFin);
 
         this.id = Objects.requireNonNull(id, "El ID de la actividad programada no puede ser nulo");
@@ -42,7 +42,7 @@ public final class ActividadProgramada {
         this.fechaInicio = fechaInicio;
         this.fechaFin = fechaFin;
         this.duracionDias = duracionDias != null ? duracionDias : calcularDuracion(fechaInicio, fechaFin);
-        this.predecesoras = predecesoras != null ? List.copyOf(predecesoras) : List.of();
+        this.dependencias = dependencias != null ? List.copyOf(dependencias) : List.of();
         this.version = version != null ? version : 0L;
     }
 
@@ -59,7 +59,20 @@ public final class ActividadProgramada {
      */
     public static ActividadProgramada reconstruir(ActividadProgramadaId id, UUID partidaId, UUID programaObraId,
             LocalDate fechaInicio, LocalDate fechaFin, Integer duracionDias, List<UUID> predecesoras, Long version) {
-        return new ActividadProgramada(id, partidaId, programaObraId, fechaInicio, fechaFin, duracionDias, predecesoras,
+        List<Dependencia> dependencias = predecesoras != null
+                ? predecesoras.stream().map(Dependencia::finInicio).toList()
+                : List.of();
+        return new ActividadProgramada(id, partidaId, programaObraId, fechaInicio, fechaFin, duracionDias, dependencias,
+                version);
+    }
+
+    /**
+     * Factory method para reconstruir una ActividadProgramada con dependencias tipadas.
+     */
+    public static ActividadProgramada reconstruirConDependencias(ActividadProgramadaId id, UUID partidaId,
+            UUID programaObraId, LocalDate fechaInicio, LocalDate fechaFin, Integer duracionDias,
+            List<Dependencia> dependencias, Long version) {
+        return new ActividadProgramada(id, partidaId, programaObraId, fechaInicio, fechaFin, duracionDias, dependencias,
                 version);
     }
 
@@ -102,11 +115,12 @@ public final class ActividadProgramada {
     public ActividadProgramada actualizarFechas(LocalDate nuevaFechaInicio, LocalDate nuevaFechaFin) {
         return new ActividadProgramada(this.id, this.partidaId, this.programaObraId, nuevaFechaInicio, nuevaFechaFin,
                 null, // recalcular duración
-                this.predecesoras, this.version);
+                this.dependencias, this.version);
     }
 
     /**
-     * Agrega una actividad predecesora (dependencia Fin-Inicio).
+     * Agrega una actividad predecesora (dependencia Fin-Inicio). Si ya existe un vínculo con
+     * esa predecesora se conserva tal cual, con su tipo y desfase.
      * 
      * @param actividadPredecesoraId ID de la actividad predecesora
      * @return Nueva ActividadProgramada con la predecesora agregada
@@ -115,20 +129,38 @@ public final class ActividadProgramada {
         if (actividadPredecesoraId == null) {
             throw new IllegalArgumentException("El ID de la actividad predecesora no puede ser nulo");
         }
-        if (actividadPredecesoraId.equals(this.id.getValue())) {
+        if (getPredecesoras().contains(actividadPredecesoraId)) {
+            return this;
+        }
+        return agregarDependencia(Dependencia.finInicio(actividadPredecesoraId));
+    }
+
+    /**
+     * Agrega una dependencia tipada con desfase. Si ya existe un vínculo con la misma
+     * predecesora, se reemplaza (la tabla admite un único vínculo por par de actividades).
+     *
+     * @param dependencia Dependencia a agregar
+     * @return Nueva ActividadProgramada con la dependencia agregada
+     */
+    public ActividadProgramada agregarDependencia(Dependencia dependencia) {
+        if (dependencia == null) {
+            throw new IllegalArgumentException("La dependencia no puede ser nula");
+        }
+        if (dependencia.predecesoraId().equals(this.id.getValue())) {
             // REGLA-019
             throw new IllegalArgumentException("Una actividad no puede ser predecesora de sí misma");
         }
 
-        if (this.predecesoras.contains(actividadPredecesoraId)) {
+        if (this.dependencias.contains(dependencia)) {
             return this;
         }
 
-        List<UUID> nuevasPredecesoras = new ArrayList<>(this.predecesoras);
-        nuevasPredecesoras.add(actividadPredecesoraId);
+        List<Dependencia> nuevasDependencias = new ArrayList<>(this.dependencias);
+        nuevasDependencias.removeIf(d -> d.predecesoraId().equals(dependencia.predecesoraId()));
+        nuevasDependencias.add(dependencia);
 
         return new ActividadProgramada(this.id, this.partidaId, this.programaObraId, this.fechaInicio, this.fechaFin,
-                this.duracionDias, nuevasPredecesoras, this.version);
+                this.duracionDias, nuevasDependencias, this.version);
     }
 
     /**
@@ -138,15 +170,13 @@ public final class ActividadProgramada {
      * @return Nueva ActividadProgramada sin la predecesora
      */
     public ActividadProgramada eliminarPredecesora(UUID actividadPredecesoraId) {
-        if (!this.predecesoras.contains(actividadPredecesoraId)) {
+        List<Dependencia> nuevasDependencias = new ArrayList<>(this.dependencias);
+        if (!nuevasDependencias.removeIf(d -> d.predecesoraId().equals(actividadPredecesoraId))) {
             return this;
         }
 
-        List<UUID> nuevasPredecesoras = new ArrayList<>(this.predecesoras);
-        nuevasPredecesoras.remove(actividadPredecesoraId);
-
         return new ActividadProgramada(this.id, this.partidaId, this.programaObraId, this.fechaInicio, this.fechaFin,
-                this.duracionDias, nuevasPredecesoras, this.version);
+                this.duracionDias, nuevasDependencias, this.version);
     }
 
     // Getters
@@ -176,7 +206,11 @@ public final class ActividadProgramada {
     }
 
     public List<UUID> getPredecesoras() {
-        return Collections.unmodifiableList(predecesoras);
+        return dependencias.stream().map(Dependencia::predecesoraId).toList();
+    }
+
+    public List<Dependencia> getDependencias() {
+        return Collections.unmodifiableList(dependencias);
     }
 
     public Long getVersion() {
@@ -0,0 +1,154 @@
+package com.budgetpro.domain.finanzas.cronograma.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Calendario de días laborables para el cálculo de ruta crítica.
+ *
+ * Numera los días laborables a partir de un origen: el índice 0 es el primer día
+ * laborable en o después del origen. Los días no laborables de la semana (por defecto
+ * sábado y domingo, igual que WorkingDayCalculator) y los feriados se saltan.
+ *
+ * La conversión índice → fecha se memoriza de forma incremental, por lo que una
+ * instancia no es thread-safe: se crea una por cálculo.
+ */
+public final class CalendarioLaboral {
+
+    private final Set<DayOfWeek> diasNoLaborables;
+    private final NavigableSet<LocalDate> feriados;
+    private final int diasLaborablesPorSemana;
+    private final List<LocalDate> fechas = new ArrayList<>();
+
+    public CalendarioLaboral(LocalDate origen, Set<DayOfWeek> diasNoLaborables, Collection<LocalDate> feriados) {
+        Objects.requireNonNull(origen, "El origen del calendario no puede ser nulo");
+        this.diasNoLaborables = diasNoLaborables == null || diasNoLaborables.isEmpty()
+                ? EnumSet.noneOf(DayOfWeek.class)
+                : EnumSet.copyOf(diasNoLaborables);
+        if (this.diasNoLaborables.size() == DayOfWeek.values().length) {
+            throw new IllegalArgumentException("El calendario debe tener al menos un día laborable por semana");
+        }
+        this.feriados = feriados != null ? new TreeSet<>(feriados) : new TreeSet<>();
+        this.diasLaborablesPorSemana = DayOfWeek.values().length - this.diasNoLaborables.size();
+
+        LocalDate primerDia = origen;
+        while (!esLaborable(primerDia)) {
+            primerDia = primerDia.plusDays(1);
+        }
+        fechas.add(primerDia);
+    }
+
+    /**
+     * Calendario de lunes a viernes sin feriados.
+     */
+    public static CalendarioLaboral lunesAViernes(LocalDate origen) {
+        return lunesAViernes(origen, Set.of());
+    }
+
+    /**
+     * Calendario de lunes a viernes con feriados.
+     */
+    public static CalendarioLaboral lunesAViernes(LocalDate origen, Collection<LocalDate> feriados) {
+        return new CalendarioLaboral(origen, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), feriados);
+    }
+
+    public boolean esLaborable(LocalDate fecha) {
+        return !diasNoLaborables.contains(fecha.getDayOfWeek()) && !feriados.contains(fecha);
+    }
+
+    /**
+     * Primer día laborable del calendario (índice 0).
+     */
+    public LocalDate getOrigen() {
+        return fechas.get(0);
+    }
+
+    /**
+     * Fecha del día laborable con el índice dado.
+     *
+     * @param indice Índice del día laborable (0 = origen)
+     * @return La fecha correspondiente
+     */
+    public LocalDate fecha(int indice) {
+        if (indice < 0) {
+            throw new IllegalArgumentException("El índice de día laborable no puede ser negativo");
+        }
+        LocalDate ultima = fechas.get(fechas.size() - 1);
+        while (fechas.size() <= indice) {
+            ultima = ultima.plusDays(1);
+            if (esLaborable(ultima)) {
+                fechas.add(ultima);
+            }
+        }
+        return fechas.get(indice);
+    }
+
+    /**
+     * Índice de una fecha laborable (inversa de {@link #fecha(int)}).
+     *
+     * @return El índice, o -1 si la fecha es anterior al origen o no es laborable
+     */
+    public int indice(LocalDate fecha) {
+        Objects.requireNonNull(fecha, "La fecha no puede ser nula");
+        if (fecha.isBefore(getOrigen()) || !esLaborable(fecha)) {
+            return -1;
+        }
+        // Cota superior: cada semana aporta al menos un día laborable
+        int cota = Math.toIntExact(ChronoUnit.DAYS.between(getOrigen(), fecha));
+        int bajo = 0;
+        int alto = Math.min(cota, fechas.size() - 1);
+        if (fechas.get(alto).isBefore(fecha)) {
+            while (fecha(alto).isBefore(fecha)) {
+                alto = Math.min(cota, alto * 2 + 1);
+            }
+        }
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (fechas.get(medio).isBefore(fecha)) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return fechas.get(bajo).equals(fecha) ? bajo : -1;
+    }
+
+    /**
+     * Cuenta los días laborables en el rango [inicio, fin], ambos inclusivos.
+     *
+     * Las semanas completas se cuentan en O(1); solo se recorren el resto (menos de 7
+     * días) y los feriados dentro del rango.
+     *
+     * @return Días laborables del rango, o 0 si fin es anterior a inicio
+     */
+    public int contarDiasLaborables(LocalDate inicio, LocalDate fin) {
+        Objects.requireNonNull(inicio, "La fecha de inicio no puede ser nula");
+        Objects.requireNonNull(fin, "La fecha de fin no puede ser nula");
+        if (fin.isBefore(inicio)) {
+            return 0;
+        }
+        long dias = ChronoUnit.DAYS.between(inicio, fin) + 1;
+        long semanas = dias / 7;
+        long total = semanas * diasLaborablesPorSemana;
+        for (LocalDate dia = inicio.plusDays(semanas * 7); !dia.isAfter(fin); dia = dia.plusDays(1)) {
+            if (!diasNoLaborables.contains(dia.getDayOfWeek())) {
+                total++;
+            }
+        }
+        for (LocalDate feriado : feriados.subSet(inicio, true, fin, true)) {
+            if (!diasNoLaborables.contains(feriado.getDayOfWeek())) {
+                total--;
+            }
+        }
+        return Math.toIntExact(total);
+    }
+}
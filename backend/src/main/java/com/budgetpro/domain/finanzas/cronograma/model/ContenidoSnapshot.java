@@ -0,0 +1,106 @@
+package com.budgetpro.domain.finanzas.cronograma.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Value Object con el contenido JSON de una sección del snapshot del cronograma.
+ *
+ * El documento se guarda tal como se generó: texto UTF-8 (almacenado en JSONB) o comprimido
+ * con GZIP (almacenado en BYTEA). En el segundo caso solo se descomprime al leerlo
+ * ({@link #abrir()} / {@link #aTexto()}), de modo que generar y persistir un snapshot no
+ * necesita el documento completo en memoria.
+ */
+public final class ContenidoSnapshot {
+
+    private final byte[] datos;
+    private final boolean comprimido;
+
+    private ContenidoSnapshot(byte[] datos, boolean comprimido) {
+        if (datos == null || datos.length == 0) {
+            throw new IllegalArgumentException("El contenido del snapshot no puede ser nulo o vacío");
+        }
+        this.datos = datos;
+        this.comprimido = comprimido;
+    }
+
+    /**
+     * Contenido en texto plano.
+     */
+    public static ContenidoSnapshot json(String json) {
+        if (json == null || json.isBlank()) {
+            throw new IllegalArgumentException("El JSON del snapshot no puede ser nulo o vacío");
+        }
+        return new ContenidoSnapshot(json.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    /**
+     * Contenido JSON UTF-8 comprimido con GZIP.
+     */
+    public static ContenidoSnapshot comprimido(byte[] gzip) {
+        return new ContenidoSnapshot(gzip != null ? gzip.clone() : null, true);
+    }
+
+    public boolean esComprimido() {
+        return comprimido;
+    }
+
+    /**
+     * Bytes tal como se almacenan (GZIP si {@link #esComprimido()}, UTF-8 en caso contrario).
+     */
+    public byte[] getDatos() {
+        return datos.clone();
+    }
+
+    /**
+     * Abre el documento JSON (UTF-8) descomprimiéndolo al vuelo si corresponde.
+     */
+    public InputStream abrir() {
+        InputStream crudo = new ByteArrayInputStream(datos);
+        if (!comprimido) {
+            return crudo;
+        }
+        try {
+            return new GZIPInputStream(crudo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("El contenido comprimido del snapshot está dañado", e);
+        }
+    }
+
+    /**
+     * Documento JSON completo como texto.
+     */
+    public String aTexto() {
+        if (!comprimido) {
+            return new String(datos, StandardCharsets.UTF_8);
+        }
+        try (InputStream entrada = abrir()) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("El contenido comprimido del snapshot está dañado", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContenidoSnapshot that = (ContenidoSnapshot) o;
+        return comprimido == that.comprimido && Arrays.equals(datos, that.datos);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(datos) + Boolean.hashCode(comprimido);
+    }
+
+    @Override
+    public String toString() {
+        return "ContenidoSnapshot{bytes=" + datos.length + ", comprimido=" + comprimido + "}";
+    }
+}
@@ -23,7 +23,8 @@ import java.util.Objects;
  * 
  * **Almacenamiento JSONB:**
  * Los datos temporales complejos (fechas, duraciones, secuencia, calendarios)
- * se almacenan como JSONB para flexibilidad y simplicidad.
+ * se almacenan como JSONB para flexibilidad y simplicidad, o comprimidos con GZIP
+ * (ver {@link ContenidoSnapshot}) cuando el generador tiene la compresión activa.
  * 
  * **Versión del Algoritmo:**
  * El campo snapshotAlgorithm permite migración futura a diferentes formatos
@@ -37,30 +38,30 @@ public final class CronogramaSnapshot {
     private final ProgramaObraId programaObraId;
     private final PresupuestoId presupuestoId;
     
-    // Snapshot data stored as JSONB strings
+    // Snapshot data: JSON en texto o comprimido
     /**
-     * Datos de fechas del cronograma en formato JSONB.
+     * Datos de fechas del cronograma.
      * Incluye fechaInicio, fechaFinEstimada, y todas las fechas de actividades.
      */
-    private final String fechasJson;
+    private final ContenidoSnapshot fechas;
     
     /**
-     * Datos de duraciones del cronograma en formato JSONB.
+     * Datos de duraciones del cronograma.
      * Incluye duracionTotalDias y duraciones de actividades.
      */
-    private final String duracionesJson;
+    private final ContenidoSnapshot duraciones;
     
     /**
-     * Datos de secuencia y dependencias en formato JSONB.
+     * Datos de secuencia y dependencias.
      * Incluye orden de actividades y relaciones de precedencia.
      */
-    private final String secuenciaJson;
+    private final ContenidoSnapshot secuencia;
     
     /**
-     * Datos de calendarios y restricciones temporales en formato JSONB.
+     * Datos de calendarios y restricciones temporales.
      * Incluye calendarios de trabajo, días festivos, restricciones.
      */
-    private final String calendariosJson;
+    private final ContenidoSnapshot calendarios;
     
     // Snapshot metadata
     /**
@@ -81,23 +82,23 @@ public final class CronogramaSnapshot {
             CronogramaSnapshotId id,
             ProgramaObraId programaObraId,
             PresupuestoId presupuestoId,
-            String fechasJson,
-            String duracionesJson,
-            String secuenciaJson,
-            String calendariosJson,
+            ContenidoSnapshot fechas,
+            ContenidoSnapshot duraciones,
+            ContenidoSnapshot secuencia,
+            ContenidoSnapshot calendarios,
             LocalDateTime snapshotDate,
             String snapshotAlgorithm) {
         
-        validarInvariantes(programaObraId, presupuestoId, fechasJson, duracionesJson, 
-                          secuenciaJson, calendariosJson, snapshotAlgorithm);
+        validarInvariantes(programaObraId, presupuestoId, fechas, duraciones, 
+                          secuencia, calendarios, snapshotAlgorithm);
         
         this.id = Objects.requireNonNull(id, "El ID del snapshot no puede ser nulo");
         this.programaObraId = Objects.requireNonNull(programaObraId, "El programaObraId no puede ser nulo");
         this.presupuestoId = Objects.requireNonNull(presupuestoId, "El presupuestoId no puede ser nulo");
-        this.fechasJson = Objects.requireNonNull(fechasJson, "El JSON de fechas no puede ser nulo");
-        this.duracionesJson = Objects.requireNonNull(duracionesJson, "El JSON de duraciones no puede ser nulo");
-        this.secuenciaJson = Objects.requireNonNull(secuenciaJson, "El JSON de secuencia no puede ser nulo");
-        this.calendariosJson = Objects.requireNonNull(calendariosJson, "El JSON de calendarios no puede ser nulo");
+        this.fechas = fechas;
+        this.duraciones = duraciones;
+        this.secuencia = secuencia;
+        this.calendarios = calendarios;
         this.snapshotDate = snapshotDate != null ? snapshotDate : LocalDateTime.now();
         this.snapshotAlgorithm = Objects.requireNonNull(snapshotAlgorithm, "El algoritmo de snapshot no puede ser nulo");
     }
@@ -124,14 +125,48 @@ public final class CronogramaSnapshot {
             String secuenciaJson,
             String calendariosJson) {
         
+        return crear(
+                id,
+                programaObraId,
+                presupuestoId,
+                texto(fechasJson, "fechas"),
+                texto(duracionesJson, "duraciones"),
+                texto(secuenciaJson, "secuencia"),
+                texto(calendariosJson, "calendarios")
+        );
+    }
+
+    /**
+     * Factory method para crear un nuevo CronogramaSnapshot a partir del contenido ya
+     * generado (posiblemente comprimido) de cada sección.
+     * 
+     * @param id ID único del snapshot
+     * @param programaObraId ID del programa de obra congelado
+     * @param presupuestoId ID del presupuesto asociado
+     * @param fechas Contenido con datos de fechas del cronograma
+     * @param duraciones Contenido con datos de duraciones del cronograma
+     * @param secuencia Contenido con datos de secuencia y dependencias
+     * @param calendarios Contenido con datos de calendarios y restricciones
+     * @return Nueva instancia inmutable de CronogramaSnapshot
+     * @throws IllegalArgumentException si algún parámetro requerido es nulo
+     */
+    public static CronogramaSnapshot crear(
+            CronogramaSnapshotId id,
+            ProgramaObraId programaObraId,
+            PresupuestoId presupuestoId,
+            ContenidoSnapshot fechas,
+            ContenidoSnapshot duraciones,
+            ContenidoSnapshot secuencia,
+            ContenidoSnapshot calendarios) {
+        
         return new CronogramaSnapshot(
                 id,
                 programaObraId,
                 presupuestoId,
-                fechasJson,
-                duracionesJson,
-                secuenciaJson,
-                calendariosJson,
+                fechas,
+                duraciones,
+                secuencia,
+                calendarios,
                 LocalDateTime.now(),
                 "TEMPORAL-SNAPSHOT-v1"
         );
@@ -162,29 +197,64 @@ public final class CronogramaSnapshot {
             LocalDateTime snapshotDate,
             String snapshotAlgorithm) {
         
+        return reconstruir(
+                id,
+                programaObraId,
+                presupuestoId,
+                texto(fechasJson, "fechas"),
+                texto(duracionesJson, "duraciones"),
+                texto(secuenciaJson, "secuencia"),
+                texto(calendariosJson, "calendarios"),
+                snapshotDate,
+                snapshotAlgorithm
+        );
+    }
+
+    /**
+     * Factory method para reconstruir un CronogramaSnapshot desde persistencia con el
+     * contenido tal como está almacenado (texto o comprimido).
+     */
+    public static CronogramaSnapshot reconstruir(
+            CronogramaSnapshotId id,
+            ProgramaObraId programaObraId,
+            PresupuestoId presupuestoId,
+            ContenidoSnapshot fechas,
+            ContenidoSnapshot duraciones,
+            ContenidoSnapshot secuencia,
+            ContenidoSnapshot calendarios,
+            LocalDateTime snapshotDate,
+            String snapshotAlgorithm) {
+        
         return new CronogramaSnapshot(
                 id,
                 programaObraId,
                 presupuestoId,
-                fechasJson,
-                duracionesJson,
-                secuenciaJson,
-                calendariosJson,
+                fechas,
+                duraciones,
+                secuencia,
+                calendarios,
                 snapshotDate,
                 snapshotAlgorithm
         );
     }
 
+    private static ContenidoSnapshot texto(String json, String seccion) {
+        if (json == null || json.isBlank()) {
+            throw new IllegalArgumentException("El JSON de " + seccion + " no puede ser nulo o vacío");
+        }
+        return ContenidoSnapshot.json(json);
+    }
+
     /**
      * Valida las invariantes del agregado.
      */
     private void validarInvariantes(
             ProgramaObraId programaObraId,
             PresupuestoId presupuestoId,
-            String fechasJson,
-            String duracionesJson,
-            String secuenciaJson,
-            String calendariosJson,
+            ContenidoSnapshot fechas,
+            ContenidoSnapshot duraciones,
+            ContenidoSnapshot secuencia,
+            ContenidoSnapshot calendarios,
             String snapshotAlgorithm) {
         
         if (programaObraId == null) {
@@ -193,16 +263,16 @@ public final class CronogramaSnapshot {
         if (presupuestoId == null) {
             throw new IllegalArgumentException("El presupuestoId no puede ser nulo");
         }
-        if (fechasJson == null || fechasJson.isBlank()) {
+        if (fechas == null) {
             throw new IllegalArgumentException("El JSON de fechas no puede ser nulo o vacío");
         }
-        if (duracionesJson == null || duracionesJson.isBlank()) {
+        if (duraciones == null) {
             throw new IllegalArgumentException("El JSON de duraciones no puede ser nulo o vacío");
         }
-        if (secuenciaJson == null || secuenciaJson.isBlank()) {
+        if (secuencia == null) {
             throw new IllegalArgumentException("El JSON de secuencia no puede ser nulo o vacío");
         }
-        if (calendariosJson == null || calendariosJson.isBlank()) {
+        if (calendarios == null) {
             throw new IllegalArgumentException("El JSON de calendarios no puede ser nulo o vacío");
         }
         if (snapshotAlgorithm == null || snapshotAlgorithm.isBlank()) {
@@ -224,20 +294,48 @@ public final class CronogramaSnapshot {
         return presupuestoId;
     }
 
+    public ContenidoSnapshot getFechas() {
+        return fechas;
+    }
+
+    /**
+     * JSON de fechas como texto (descomprimido si se almacenó comprimido).
+     */
     public String getFechasJson() {
-        return fechasJson;
+        return fechas.aTexto();
+    }
+
+    public ContenidoSnapshot getDuraciones() {
+        return duraciones;
     }
 
+    /**
+     * JSON de duraciones como texto (descomprimido si se almacenó comprimido).
+     */
     public String getDuracionesJson() {
-        return duracionesJson;
+        return duraciones.aTexto();
     }
 
+    public ContenidoSnapshot getSecuencia() {
+        return secuencia;
+    }
+
+    /**
+     * JSON de secuencia como texto (descomprimido si se almacenó comprimido).
+     */
     public String getSecuenciaJson() {
-        return secuenciaJson;
+        return secuencia.aTexto();
     }
 
+    public ContenidoSnapshot getCalendarios() {
+        return calendarios;
+    }
+
+    /**
+     * JSON de calendarios como texto (descomprimido si se almacenó comprimido).
+     */
     public String getCalendariosJson() {
-        return calendariosJson;
+        return calendarios.aTexto();
     }
 
     public LocalDateTime getSnapshotDate() {
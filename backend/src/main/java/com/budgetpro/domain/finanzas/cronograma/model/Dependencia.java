@@ -0,0 +1,24 @@
+package com.budgetpro.domain.finanzas.cronograma.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value Object que representa el vínculo de una actividad con una predecesora.
+ *
+ * El desfase se expresa en días laborables y puede ser negativo (adelanto).
+ */
+public record Dependencia(UUID predecesoraId, TipoDependencia tipo, int desfaseDias) {
+
+    public Dependencia {
+        Objects.requireNonNull(predecesoraId, "El ID de la actividad predecesora no puede ser nulo");
+        Objects.requireNonNull(tipo, "El tipo de dependencia no puede ser nulo");
+    }
+
+    /**
+     * Dependencia Fin-Inicio sin desfase (la única que existía antes de los vínculos tipados).
+     */
+    public static Dependencia finInicio(UUID predecesoraId) {
+        return new Dependencia(predecesoraId, TipoDependencia.FIN_INICIO, 0);
+    }
+}
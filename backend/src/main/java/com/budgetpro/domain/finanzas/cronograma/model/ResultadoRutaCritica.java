@@ -0,0 +1,33 @@
+package com.budgetpro.domain.finanzas.cronograma.model;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resultado del cálculo de ruta crítica de un programa de obra.
+ *
+ * @param fechaInicio           Primer día laborable del programa
+ * @param fechaFin              Último día laborable de la actividad que termina más tarde
+ * @param duracionDiasLaborables Duración del programa en días laborables
+ * @param tiempos               Tiempos por actividad, en orden topológico
+ * @param rutaCritica           Actividades sin holgura total, en orden topológico
+ */
+public record ResultadoRutaCritica(
+        LocalDate fechaInicio,
+        LocalDate fechaFin,
+        int duracionDiasLaborables,
+        Map<UUID, TiemposActividad> tiempos,
+        List<UUID> rutaCritica) {
+
+    public ResultadoRutaCritica {
+        tiempos = Collections.unmodifiableMap(tiempos);
+        rutaCritica = List.copyOf(rutaCritica);
+    }
+
+    public TiemposActividad tiemposDe(UUID actividadId) {
+        return tiempos.get(actividadId);
+    }
+}
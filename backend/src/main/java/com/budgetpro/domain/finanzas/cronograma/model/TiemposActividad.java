@@ -0,0 +1,28 @@
+package com.budgetpro.domain.finanzas.cronograma.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Resultado del cálculo de ruta crítica para una actividad.
+ *
+ * Las fechas de fin son el último día laborable de la actividad (inclusivas); en un
+ * hito (duración 0) inicio y fin coinciden. Las holguras se expresan en días laborables.
+ */
+public record TiemposActividad(
+        UUID actividadId,
+        int duracionDias,
+        LocalDate inicioTemprano,
+        LocalDate finTemprano,
+        LocalDate inicioTardio,
+        LocalDate finTardio,
+        int holguraTotal,
+        int holguraLibre) {
+
+    /**
+     * Una actividad es crítica cuando no tiene holgura total.
+     */
+    public boolean esCritica() {
+        return holguraTotal <= 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.budgetpro.domain.finanzas.cronograma.model;
+
+/**
+ * Tipo de vínculo entre una actividad predecesora (P) y su sucesora (S).
+ *
+ * Con el desfase (lag) en días laborables, cada tipo impone:
+ * - FIN_INICIO (FS): inicio(S) >= fin(P) + desfase
+ * - INICIO_INICIO (SS): inicio(S) >= inicio(P) + desfase
+ * - FIN_FIN (FF): fin(S) >= fin(P) + desfase
+ * - INICIO_FIN (SF): fin(S) >= inicio(P) + desfase
+ */
+public enum TipoDependencia {
+    FIN_INICIO,
+    INICIO_INICIO,
+    FIN_FIN,
+    INICIO_FIN
+}
@@ -0,0 +1,25 @@
+package com.budgetpro.domain.finanzas.cronograma.port.out;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Puerto de Salida para obtener los feriados del calendario laboral de un proyecto.
+ * 
+ * El cálculo completo y el incremental de la ruta crítica usan esta misma fuente: el
+ * incremental parte de los tiempos persistidos por el completo y ambos deben numerar los
+ * días laborables igual.
+ * 
+ * La implementación estará en la capa de infraestructura.
+ */
+public interface CalendarioFeriadosPort {
+
+    /**
+     * Obtiene los feriados que no se trabajan en el proyecto.
+     * 
+     * @param proyectoId El ID del proyecto
+     * @return Fechas feriadas; vacío si no hay ninguna
+     */
+    Set<LocalDate> obtenerFeriados(UUID proyectoId);
+}
@@ -0,0 +1,45 @@
+package com.budgetpro.domain.finanzas.cronograma.port.out;
+
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ContenidoSnapshot;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
+
+import java.util.List;
+
+/**
+ * Puerto de Salida (Outbound Port) que escribe las secciones JSON del snapshot del cronograma.
+ *
+ * La implementación serializa directamente desde los objetos de dominio (sin estructuras
+ * intermedias), decide si comprime el resultado y valida el documento contra el esquema de
+ * cada sección antes de devolverlo.
+ */
+public interface EscritorSnapshotCronograma {
+
+    /**
+     * Escribe las fechas del programa y de cada actividad.
+     *
+     * @throws IllegalArgumentException si el documento no cumple con el esquema
+     */
+    ContenidoSnapshot escribirFechas(ProgramaObra programaObra, List<ActividadProgramada> actividades);
+
+    /**
+     * Escribe la duración total del programa y la de cada actividad.
+     *
+     * @throws IllegalArgumentException si el documento no cumple con el esquema
+     */
+    ContenidoSnapshot escribirDuraciones(ProgramaObra programaObra, List<ActividadProgramada> actividades);
+
+    /**
+     * Escribe la secuencia de actividades con sus predecesoras y el tipo y desfase de cada vínculo.
+     *
+     * @throws IllegalArgumentException si el documento no cumple con el esquema
+     */
+    ContenidoSnapshot escribirSecuencia(List<ActividadProgramada> actividades);
+
+    /**
+     * Escribe calendarios y restricciones temporales.
+     *
+     * @throws IllegalArgumentException si el documento no cumple con el esquema
+     */
+    ContenidoSnapshot escribirCalendarios();
+}
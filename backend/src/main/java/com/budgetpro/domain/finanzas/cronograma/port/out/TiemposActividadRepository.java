@@ -0,0 +1,32 @@
+package com.budgetpro.domain.finanzas.cronograma.port.out;
+
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Puerto de Salida para persistir los tiempos CPM (fechas tempranas/tardías y holguras)
+ * de las actividades programadas.
+ *
+ * Permite restaurar la red de ruta crítica sin recalcularla y guardar solo las
+ * actividades afectadas por una edición.
+ */
+public interface TiemposActividadRepository {
+
+    /**
+     * Busca los tiempos calculados de las actividades de un programa de obra.
+     *
+     * @param programaObraId El ID del programa de obra
+     * @return Tiempos por ID de actividad; las actividades nunca calculadas no aparecen
+     */
+    Map<UUID, TiemposActividad> findByProgramaObraId(UUID programaObraId);
+
+    /**
+     * Guarda los tiempos de las actividades indicadas.
+     *
+     * @param tiempos Tiempos a guardar
+     */
+    void guardar(Collection<TiemposActividad> tiempos);
+}
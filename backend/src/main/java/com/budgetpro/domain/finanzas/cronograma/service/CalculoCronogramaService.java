@@ -1,7 +1,10 @@
 package com.budgetpro.domain.finanzas.cronograma.service;
 
 import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.CalendarioLaboral;
 import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
+import com.budgetpro.domain.finanzas.cronograma.model.ResultadoRutaCritica;
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
 import com.budgetpro.domain.finanzas.evm.util.WorkingDayCalculator;
 
 import java.time.LocalDate;
@@ -22,6 +25,7 @@ import java.util.UUID;
  */
 public class CalculoCronogramaService {
     private final WorkingDayCalculator workingDayCalculator = new WorkingDayCalculator();
+    private final MotorRutaCritica motorRutaCritica = new MotorRutaCritica();
 
     /**
      * Calcula la duración total del programa basándose en las actividades.
@@ -123,6 +127,69 @@ public class CalculoCronogramaService {
         return calcularDuracionMeses(duracionTotalDias);
     }
 
+    /**
+     * Calcula la ruta crítica del programa (CPM completo) sobre un calendario de lunes a viernes.
+     * 
+     * El origen del calendario es la fecha de inicio del programa o, si no la tiene, la fecha
+     * de inicio más temprana de las actividades.
+     * 
+     * @param programaObra El programa de obra
+     * @param actividades Lista de actividades programadas
+     * @param feriados Feriados del calendario laboral (puede ser vacío)
+     * @return Tiempos tempranos/tardíos, holguras y ruta crítica
+     * @throws IllegalStateException si no hay ninguna fecha de inicio de referencia
+     * @throws com.budgetpro.domain.finanzas.cronograma.exception.DependenciaCiclicaException si las
+     *         dependencias forman un ciclo
+     */
+    public ResultadoRutaCritica calcularRutaCritica(ProgramaObra programaObra, List<ActividadProgramada> actividades,
+            java.util.Collection<LocalDate> feriados) {
+        LocalDate origen = origenRutaCritica(programaObra, actividades)
+                .orElseThrow(() -> new IllegalStateException(
+                        "No se puede calcular la ruta crítica: el programa no tiene fecha de inicio"));
+        return motorRutaCritica.calcular(actividades, CalendarioLaboral.lunesAViernes(origen, feriados));
+    }
+
+    /**
+     * Recalcula la ruta crítica tras editar actividades y devuelve solo los tiempos que
+     * cambiaron respecto de los persistidos (los que hay que volver a guardar).
+     * 
+     * Si solo cambiaron fechas o duraciones, propaga de forma incremental desde los tiempos
+     * persistidos; si cambiaron las dependencias o no hay tiempos coherentes, recalcula todo.
+     * 
+     * @param programaObra El programa de obra
+     * @param actividades Estado actual de las actividades
+     * @param persistidos Tiempos persistidos por actividad
+     * @param feriados Feriados del calendario laboral; los mismos que en {@link #calcularRutaCritica}
+     * @param cambioDependencias true si se agregaron actividades o cambiaron dependencias
+     * @return Tiempos a persistir; vacío si el programa no tiene fecha de referencia
+     * @throws com.budgetpro.domain.finanzas.cronograma.exception.DependenciaCiclicaException si las
+     *         dependencias forman un ciclo
+     */
+    public List<TiemposActividad> recalcularRutaCritica(ProgramaObra programaObra,
+            List<ActividadProgramada> actividades, java.util.Map<UUID, TiemposActividad> persistidos,
+            java.util.Collection<LocalDate> feriados, boolean cambioDependencias) {
+        return origenRutaCritica(programaObra, actividades)
+                .map(origen -> motorRutaCritica.recalcular(actividades,
+                        CalendarioLaboral.lunesAViernes(origen, feriados),
+                        persistidos, cambioDependencias))
+                .orElse(List.of());
+    }
+
+    /**
+     * Origen del calendario: la fecha de inicio del programa o, si no la tiene, la fecha
+     * de inicio más temprana de las actividades.
+     */
+    private java.util.Optional<LocalDate> origenRutaCritica(ProgramaObra programaObra,
+            List<ActividadProgramada> actividades) {
+        if (programaObra.getFechaInicio() != null) {
+            return java.util.Optional.of(programaObra.getFechaInicio());
+        }
+        return actividades.stream()
+                .map(ActividadProgramada::getFechaInicio)
+                .filter(java.util.Objects::nonNull)
+                .min(LocalDate::compareTo);
+    }
+
     /**
      * Valida que las dependencias entre actividades sean consistentes.
      * 
@@ -1,6 +1,7 @@
 package com.budgetpro.domain.finanzas.cronograma.service;
 
 import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ContenidoSnapshot;
 import com.budgetpro.domain.finanzas.cronograma.model.CronogramaSnapshot;
 import com.budgetpro.domain.finanzas.cronograma.model.CronogramaSnapshotId;
 import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
@@ -8,7 +9,6 @@ import com.budgetpro.domain.finanzas.cronograma.port.out.ActividadProgramadaRepo
 import com.budgetpro.domain.finanzas.cronograma.port.out.CronogramaSnapshotRepository;
 import com.budgetpro.domain.finanzas.cronograma.port.out.ProgramaObraRepository;
 import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
-import com.budgetpro.shared.validation.JsonSchemaValidator;
 
 import java.util.List;
 import java.util.Objects;
@@ -39,24 +39,18 @@ public class CronogramaService {
     private final ActividadProgramadaRepository actividadProgramadaRepository;
     private final CronogramaSnapshotRepository snapshotRepository;
     private final SnapshotGeneratorService snapshotGeneratorService;
-    private final JsonSchemaValidator jsonSchemaValidator;
 
     public CronogramaService(ProgramaObraRepository programaObraRepository,
             ActividadProgramadaRepository actividadProgramadaRepository,
-            CronogramaSnapshotRepository snapshotRepository, SnapshotGeneratorService snapshotGeneratorService,
-            JsonSchemaValidator jsonSchemaValidator) {
+            CronogramaSnapshotRepository snapshotRepository, SnapshotGeneratorService snapshotGeneratorService) {
         this.programaObraRepository = Objects.requireNonNull(programaObraRepository,
                 "El repositorio de programa de obra no puede ser nulo");
         this.actividadProgramadaRepository = Objects.requireNonNull(actividadProgramadaRepository,
                 "El repositorio de actividades no puede ser nulo");
         this.snapshotRepository = Objects.requireNonNull(snapshotRepository,
                 "El repositorio de snapshots no puede ser nulo");
-        this.jsonSchemaValidator = jsonSchemaValidator; // Opcional: puede ser null si no se proporciona
-        // Si no se proporciona SnapshotGeneratorService, crear uno con el validador
-        this.snapshotGeneratorService = snapshotGeneratorService != null ? snapshotGeneratorService
-                : new SnapshotGeneratorService(
-                        (com.budgetpro.domain.shared.port.out.JsonSerializerPort) jsonSchemaValidator,
-                        jsonSchemaValidator);
+        this.snapshotGeneratorService = Objects.requireNonNull(snapshotGeneratorService,
+                "El generador de snapshots no puede ser nulo");
     }
 
     /**
@@ -126,27 +120,17 @@ public class CronogramaService {
         List<ActividadProgramada> actividades = actividadProgramadaRepository
                 .findByProgramaObraId(programaObra.getId().getValue());
 
-        // 6. Generar los datos JSON del snapshot (con validación automática si el
-        // validador está disponible)
-        String fechasJson = snapshotGeneratorService.generarFechasJson(programaObra, actividades);
-        String duracionesJson = snapshotGeneratorService.generarDuracionesJson(programaObra, actividades);
-        String secuenciaJson = snapshotGeneratorService.generarSecuenciaJson(actividades);
-        String calendariosJson = snapshotGeneratorService.generarCalendariosJson();
-
-        // Validación adicional explícita si el validador está disponible
-        // (la validación también se hace en SnapshotGeneratorService, pero esta es una
-        // capa extra de seguridad)
-        if (jsonSchemaValidator != null) {
-            jsonSchemaValidator.validateFechasSnapshot(fechasJson);
-            jsonSchemaValidator.validateDuracionesSnapshot(duracionesJson);
-            jsonSchemaValidator.validateSecuenciaSnapshot(secuenciaJson);
-            jsonSchemaValidator.validateCalendariosSnapshot(calendariosJson);
-        }
+        // 6. Generar los datos JSON del snapshot (en streaming y validados contra el
+        // esquema de cada sección por el escritor)
+        ContenidoSnapshot fechas = snapshotGeneratorService.generarFechas(programaObra, actividades);
+        ContenidoSnapshot duraciones = snapshotGeneratorService.generarDuraciones(programaObra, actividades);
+        ContenidoSnapshot secuencia = snapshotGeneratorService.generarSecuencia(actividades);
+        ContenidoSnapshot calendarios = snapshotGeneratorService.generarCalendarios();
 
         // 7. Crear el snapshot
         CronogramaSnapshotId snapshotId = CronogramaSnapshotId.nuevo();
         CronogramaSnapshot snapshot = CronogramaSnapshot.crear(snapshotId, programaObra.getId(), presupuestoId,
-                fechasJson, duracionesJson, secuenciaJson, calendariosJson);
+                fechas, duraciones, secuencia, calendarios);
 
         // 8. Persistir el ProgramaObra congelado y el snapshot
         // Nota: La atomicidad debe manejarse en la capa de aplicación/infraestructura
@@ -0,0 +1,80 @@
+package com.budgetpro.domain.finanzas.cronograma.service;
+
+import com.budgetpro.domain.finanzas.cronograma.exception.DependenciaCiclicaException;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.CalendarioLaboral;
+import com.budgetpro.domain.finanzas.cronograma.model.ResultadoRutaCritica;
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Servicio de Dominio que calcula la ruta crítica (CPM) de un programa de obra.
+ *
+ * Algoritmo, lineal en actividades (V) y dependencias (E):
+ * 1. Orden topológico (Kahn); si quedan actividades sin ordenar, las dependencias
+ *    forman un ciclo y se lanza {@link DependenciaCiclicaException} con el ciclo encontrado.
+ * 2. Pasada hacia adelante: inicio/fin temprano aplicando FS/SS/FF/SF y su desfase.
+ * 3. Pasada hacia atrás desde el fin del programa: inicio/fin tardío.
+ * 4. Holgura total (tardío - temprano) y holgura libre (margen hasta la sucesora más
+ *    restrictiva, o hasta el fin del programa si no tiene sucesoras).
+ *
+ * Los tiempos se calculan como índices de días laborables del {@link CalendarioLaboral}
+ * (inicio inclusivo, fin exclusivo) y se convierten a fechas al final. La duración de
+ * cada actividad son los días laborables entre sus fechas planificadas; sin fechas se
+ * toma duracionDias como días laborables y, sin ninguna de las dos, es un hito. Las
+ * fechas planificadas no restringen el inicio: solo cuentan las dependencias.
+ *
+ * Las dependencias hacia actividades que no están en la lista se ignoran (pueden
+ * pertenecer a otro contexto), igual que en CalculoCronogramaService.
+ *
+ * El cálculo vive en {@link RedRutaCritica}, que además admite recálculo incremental.
+ * No persiste, solo calcula.
+ */
+public class MotorRutaCritica {
+
+    /**
+     * Calcula la ruta crítica de las actividades sobre el calendario dado.
+     *
+     * @param actividades Actividades del programa con sus dependencias
+     * @param calendario  Calendario laboral; su origen es el inicio del programa
+     * @return Tiempos, holguras y ruta crítica
+     * @throws DependenciaCiclicaException si las dependencias forman un ciclo
+     */
+    public ResultadoRutaCritica calcular(List<ActividadProgramada> actividades, CalendarioLaboral calendario) {
+        return RedRutaCritica.construir(actividades, calendario).resultado();
+    }
+
+    /**
+     * Recalcula los tiempos tras un cambio en las actividades y devuelve solo los que
+     * difieren de los persistidos.
+     *
+     * Si las dependencias no cambiaron y hay tiempos persistidos coherentes, restaura la
+     * red y propaga de forma incremental las duraciones que cambiaron; en otro caso hace
+     * un cálculo completo.
+     *
+     * @param actividades         Estado actual de las actividades
+     * @param calendario          Calendario laboral del programa
+     * @param persistidos         Tiempos persistidos por actividad (puede estar vacío)
+     * @param cambioDependencias  true si se agregaron o quitaron actividades o dependencias
+     * @return Tiempos que cambiaron respecto de los persistidos
+     * @throws DependenciaCiclicaException si las dependencias forman un ciclo
+     */
+    public List<TiemposActividad> recalcular(List<ActividadProgramada> actividades, CalendarioLaboral calendario,
+            Map<UUID, TiemposActividad> persistidos, boolean cambioDependencias) {
+        Objects.requireNonNull(persistidos, "Los tiempos persistidos no pueden ser nulos");
+        if (!cambioDependencias) {
+            Optional<RedRutaCritica> red = RedRutaCritica.restaurar(actividades, calendario, persistidos);
+            if (red.isPresent()) {
+                return red.get().sincronizarDuraciones(actividades);
+            }
+        }
+        return RedRutaCritica.construir(actividades, calendario).resultado().tiempos().values().stream()
+                .filter(t -> !t.equals(persistidos.get(t.actividadId())))
+                .toList();
+    }
+}
@@ -0,0 +1,518 @@
+package com.budgetpro.domain.finanzas.cronograma.service;
+
+import com.budgetpro.domain.finanzas.cronograma.exception.DependenciaCiclicaException;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.CalendarioLaboral;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
+import com.budgetpro.domain.finanzas.cronograma.model.ResultadoRutaCritica;
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
+import com.budgetpro.domain.finanzas.cronograma.model.TipoDependencia;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Red de actividades con sus tiempos CPM, que admite recálculo incremental.
+ *
+ * Se construye con un cálculo completo ({@link #construir}) o se restaura desde los
+ * tiempos persistidos ({@link #restaurar}). Tras un cambio de duración,
+ * {@link #actualizarDuracion} re-propaga solo por los conos afectados:
+ * - hacia adelante, los inicios tempranos de la actividad y sus sucesoras en orden
+ *   topológico, deteniéndose donde el valor no cambia;
+ * - hacia atrás, los fines tardíos de la actividad y sus predecesoras en orden
+ *   topológico inverso, con el mismo corte. Si cambia el fin del programa, todos los
+ *   tiempos tardíos se desplazan y se rehace la pasada hacia atrás completa;
+ * - la holgura libre, de las actividades cuyo inicio o duración cambió y de sus
+ *   predecesoras directas.
+ *
+ * Cada valor se recalcula con la misma fórmula que usa el cálculo completo (desde todas
+ * sus predecesoras o sucesoras), por lo que el resultado es idéntico al de un recálculo
+ * completo. Los cambios de dependencias alteran la topología y requieren construir la
+ * red de nuevo.
+ *
+ * Los tiempos son índices de días laborables del calendario (inicio inclusivo, fin
+ * exclusivo). No es thread-safe.
+ */
+public final class RedRutaCritica {
+
+    private static final TipoDependencia[] TIPOS = TipoDependencia.values();
+
+    private final CalendarioLaboral calendario;
+    private final UUID[] ids;
+    private final Map<UUID, Integer> indices;
+    private final int[] duracion;
+
+    // Aristas en formato CSR: las sucesoras de i están en [inicioSucesoras[i], inicioSucesoras[i + 1])
+    private final int[] inicioSucesoras;
+    private final int[] sucesora;
+    private final byte[] tipoSucesora;
+    private final int[] desfaseSucesora;
+    private final int[] inicioPredecesoras;
+    private final int[] predecesora;
+    private final byte[] tipoPredecesora;
+    private final int[] desfasePredecesora;
+
+    private final int[] orden;
+    private final int[] posicion;
+
+    private final int[] inicioTemprano;
+    private final int[] finTardio;
+    private final int[] holguraLibre;
+    private int finPrograma;
+
+    private RedRutaCritica(List<ActividadProgramada> actividades, CalendarioLaboral calendario, int[] duracion) {
+        this.calendario = calendario;
+        this.duracion = duracion;
+        int n = actividades.size();
+        this.ids = new UUID[n];
+        this.indices = new HashMap<>(Math.max(16, n * 4 / 3 + 1));
+        for (int i = 0; i < n; i++) {
+            ids[i] = actividades.get(i).getId().getValue();
+            if (indices.put(ids[i], i) != null) {
+                throw new IllegalArgumentException("Actividad duplicada en el cronograma: " + ids[i]);
+            }
+        }
+
+        inicioSucesoras = new int[n + 1];
+        inicioPredecesoras = new int[n + 1];
+        for (int s = 0; s < n; s++) {
+            for (Dependencia dependencia : actividades.get(s).getDependencias()) {
+                Integer p = indices.get(dependencia.predecesoraId());
+                if (p != null) {
+                    inicioSucesoras[p + 1]++;
+                    inicioPredecesoras[s + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            inicioSucesoras[i + 1] += inicioSucesoras[i];
+            inicioPredecesoras[i + 1] += inicioPredecesoras[i];
+        }
+        int aristas = inicioSucesoras[n];
+        sucesora = new int[aristas];
+        tipoSucesora = new byte[aristas];
+        desfaseSucesora = new int[aristas];
+        predecesora = new int[aristas];
+        tipoPredecesora = new byte[aristas];
+        desfasePredecesora = new int[aristas];
+        int[] siguiente = Arrays.copyOf(inicioSucesoras, n);
+        for (int s = 0; s < n; s++) {
+            int a = inicioPredecesoras[s];
+            for (Dependencia dependencia : actividades.get(s).getDependencias()) {
+                Integer p = indices.get(dependencia.predecesoraId());
+                if (p != null) {
+                    byte tipo = (byte) dependencia.tipo().ordinal();
+                    int arista = siguiente[p]++;
+                    sucesora[arista] = s;
+                    tipoSucesora[arista] = tipo;
+                    desfaseSucesora[arista] = dependencia.desfaseDias();
+                    predecesora[a] = p;
+                    tipoPredecesora[a] = tipo;
+                    desfasePredecesora[a] = dependencia.desfaseDias();
+                    a++;
+                }
+            }
+        }
+
+        orden = ordenTopologico();
+        posicion = new int[n];
+        for (int k = 0; k < n; k++) {
+            posicion[orden[k]] = k;
+        }
+        inicioTemprano = new int[n];
+        finTardio = new int[n];
+        holguraLibre = new int[n];
+    }
+
+    /**
+     * Construye la red y calcula todos los tiempos.
+     *
+     * @throws DependenciaCiclicaException si las dependencias forman un ciclo
+     */
+    public static RedRutaCritica construir(List<ActividadProgramada> actividades, CalendarioLaboral calendario) {
+        Objects.requireNonNull(actividades, "La lista de actividades no puede ser nula");
+        Objects.requireNonNull(calendario, "El calendario no puede ser nulo");
+        int[] duracion = new int[actividades.size()];
+        for (int i = 0; i < duracion.length; i++) {
+            duracion[i] = duracionLaborable(actividades.get(i), calendario);
+        }
+        RedRutaCritica red = new RedRutaCritica(actividades, calendario, duracion);
+        red.calcularCompleto();
+        return red;
+    }
+
+    /**
+     * Restaura la red desde los tiempos persistidos, sin recalcularlos. Las duraciones son
+     * las persistidas: las que hayan cambiado desde entonces se aplican después con
+     * {@link #sincronizarDuraciones}.
+     *
+     * Los tiempos deben provenir de un cálculo con las mismas dependencias y el mismo
+     * origen de calendario; el origen se verifica (toda actividad sin predecesoras
+     * empieza en el índice 0), la topología es responsabilidad del llamador.
+     *
+     * @return La red restaurada, o vacío si falta algún tiempo o no es coherente con el
+     *         calendario (en cuyo caso corresponde un cálculo completo)
+     * @throws DependenciaCiclicaException si las dependencias forman un ciclo
+     */
+    public static Optional<RedRutaCritica> restaurar(List<ActividadProgramada> actividades,
+            CalendarioLaboral calendario, Map<UUID, TiemposActividad> persistidos) {
+        Objects.requireNonNull(actividades, "La lista de actividades no puede ser nula");
+        Objects.requireNonNull(calendario, "El calendario no puede ser nulo");
+        int n = actividades.size();
+        int[] duracion = new int[n];
+        for (int i = 0; i < n; i++) {
+            TiemposActividad tiempos = persistidos.get(actividades.get(i).getId().getValue());
+            if (tiempos == null || tiempos.duracionDias() < 0) {
+                return Optional.empty();
+            }
+            duracion[i] = tiempos.duracionDias();
+        }
+        RedRutaCritica red = new RedRutaCritica(actividades, calendario, duracion);
+        int fin = 0;
+        for (int i = 0; i < n; i++) {
+            TiemposActividad tiempos = persistidos.get(red.ids[i]);
+            int inicio = calendario.indice(tiempos.inicioTemprano());
+            int inicioTardio = calendario.indice(tiempos.inicioTardio());
+            if (inicio < 0 || inicioTardio < inicio
+                    || (red.inicioPredecesoras[i] == red.inicioPredecesoras[i + 1] && inicio != 0)) {
+                return Optional.empty();
+            }
+            red.inicioTemprano[i] = inicio;
+            red.finTardio[i] = inicioTardio + duracion[i];
+            red.holguraLibre[i] = tiempos.holguraLibre();
+            fin = Math.max(fin, inicio + duracion[i]);
+        }
+        red.finPrograma = fin;
+        return Optional.of(red);
+    }
+
+    /**
+     * Aplica las duraciones actuales de las actividades (según sus fechas y el calendario)
+     * a la red, propagando cada cambio de forma incremental.
+     *
+     * @param actividades Las mismas actividades de la red, con sus datos actuales
+     * @return Tiempos de las actividades que cambiaron
+     */
+    public List<TiemposActividad> sincronizarDuraciones(List<ActividadProgramada> actividades) {
+        boolean[] cambiada = new boolean[ids.length];
+        for (ActividadProgramada actividad : actividades) {
+            int i = indice(actividad.getId().getValue());
+            propagarDuracion(i, duracionLaborable(actividad, calendario), cambiada);
+        }
+        return tiemposCambiados(cambiada);
+    }
+
+    /**
+     * Cambia la duración (en días laborables) de una actividad y re-propaga los tiempos
+     * solo por las actividades afectadas.
+     *
+     * @return Tiempos de las actividades que cambiaron
+     */
+    public List<TiemposActividad> actualizarDuracion(UUID actividadId, int nuevaDuracion) {
+        if (nuevaDuracion < 0) {
+            throw new IllegalArgumentException("La duración no puede ser negativa");
+        }
+        boolean[] cambiada = new boolean[ids.length];
+        propagarDuracion(indice(actividadId), nuevaDuracion, cambiada);
+        return tiemposCambiados(cambiada);
+    }
+
+    /**
+     * Resultado completo, con los tiempos en orden topológico.
+     */
+    public ResultadoRutaCritica resultado() {
+        Map<UUID, TiemposActividad> tiempos = new LinkedHashMap<>(Math.max(16, ids.length * 4 / 3 + 1));
+        List<UUID> rutaCritica = new ArrayList<>();
+        for (int i : orden) {
+            TiemposActividad t = tiempos(i);
+            tiempos.put(t.actividadId(), t);
+            if (t.esCritica()) {
+                rutaCritica.add(t.actividadId());
+            }
+        }
+        LocalDate fechaFin = finPrograma > 0 ? calendario.fecha(finPrograma - 1) : calendario.getOrigen();
+        return new ResultadoRutaCritica(calendario.getOrigen(), fechaFin, finPrograma, tiempos, rutaCritica);
+    }
+
+    public TiemposActividad tiemposDe(UUID actividadId) {
+        return tiempos(indice(actividadId));
+    }
+
+    private void calcularCompleto() {
+        for (int v : orden) {
+            inicioTemprano[v] = calcularInicioTemprano(v);
+        }
+        finPrograma = calcularFinPrograma();
+        calcularTardiosCompleto(null);
+    }
+
+    /**
+     * Pasada hacia atrás y holguras libres completas; marca las actividades cuyo valor cambió.
+     */
+    private void calcularTardiosCompleto(boolean[] cambiada) {
+        for (int k = orden.length - 1; k >= 0; k--) {
+            int v = orden[k];
+            int fin = calcularFinTardio(v);
+            int holgura = calcularHolguraLibre(v);
+            if (cambiada != null && (fin != finTardio[v] || holgura != holguraLibre[v])) {
+                cambiada[v] = true;
+            }
+            finTardio[v] = fin;
+            holguraLibre[v] = holgura;
+        }
+    }
+
+    private void propagarDuracion(int x, int nuevaDuracion, boolean[] cambiada) {
+        if (duracion[x] == nuevaDuracion) {
+            return;
+        }
+        duracion[x] = nuevaDuracion;
+        cambiada[x] = true;
+
+        // Cono de sucesoras: inicios tempranos en orden topológico
+        List<Integer> inicioCambiado = new ArrayList<>();
+        inicioCambiado.add(x);
+        PriorityQueue<Integer> adelante = new PriorityQueue<>(Comparator.comparingInt(v -> posicion[v]));
+        boolean[] enCola = new boolean[ids.length];
+        adelante.add(x);
+        enCola[x] = true;
+        while (!adelante.isEmpty()) {
+            int v = adelante.poll();
+            int inicio = calcularInicioTemprano(v);
+            if (inicio == inicioTemprano[v] && v != x) {
+                continue;
+            }
+            if (inicio != inicioTemprano[v]) {
+                inicioTemprano[v] = inicio;
+                cambiada[v] = true;
+                if (v != x) {
+                    inicioCambiado.add(v);
+                }
+            }
+            // El fin temprano de v cambió (por inicio o por duración): revisar sus sucesoras
+            for (int a = inicioSucesoras[v]; a < inicioSucesoras[v + 1]; a++) {
+                int s = sucesora[a];
+                if (!enCola[s]) {
+                    enCola[s] = true;
+                    adelante.add(s);
+                }
+            }
+        }
+
+        int fin = calcularFinPrograma();
+        if (fin != finPrograma) {
+            finPrograma = fin;
+            calcularTardiosCompleto(cambiada);
+            return;
+        }
+
+        // Cono de predecesoras: fines tardíos en orden topológico inverso
+        PriorityQueue<Integer> atras = new PriorityQueue<>(Comparator.comparingInt(v -> -posicion[v]));
+        Arrays.fill(enCola, false);
+        atras.add(x);
+        enCola[x] = true;
+        encolarPredecesoras(x, atras, enCola);
+        while (!atras.isEmpty()) {
+            int v = atras.poll();
+            int finV = calcularFinTardio(v);
+            if (finV != finTardio[v]) {
+                finTardio[v] = finV;
+                cambiada[v] = true;
+                encolarPredecesoras(v, atras, enCola);
+            }
+        }
+
+        // Holgura libre: depende del inicio y la duración propios y de los de las sucesoras
+        for (int v : inicioCambiado) {
+            actualizarHolguraLibre(v, cambiada);
+            for (int a = inicioPredecesoras[v]; a < inicioPredecesoras[v + 1]; a++) {
+                actualizarHolguraLibre(predecesora[a], cambiada);
+            }
+        }
+    }
+
+    private void encolarPredecesoras(int v, PriorityQueue<Integer> cola, boolean[] enCola) {
+        for (int a = inicioPredecesoras[v]; a < inicioPredecesoras[v + 1]; a++) {
+            int p = predecesora[a];
+            if (!enCola[p]) {
+                enCola[p] = true;
+                cola.add(p);
+            }
+        }
+    }
+
+    private void actualizarHolguraLibre(int v, boolean[] cambiada) {
+        int holgura = calcularHolguraLibre(v);
+        if (holgura != holguraLibre[v]) {
+            holguraLibre[v] = holgura;
+            cambiada[v] = true;
+        }
+    }
+
+    private int calcularInicioTemprano(int s) {
+        int inicio = 0;
+        for (int a = inicioPredecesoras[s]; a < inicioPredecesoras[s + 1]; a++) {
+            int p = predecesora[a];
+            int finP = inicioTemprano[p] + duracion[p];
+            int candidato = switch (TIPOS[tipoPredecesora[a]]) {
+                case FIN_INICIO -> finP + desfasePredecesora[a];
+                case INICIO_INICIO -> inicioTemprano[p] + desfasePredecesora[a];
+                case FIN_FIN -> finP + desfasePredecesora[a] - duracion[s];
+                case INICIO_FIN -> inicioTemprano[p] + desfasePredecesora[a] - duracion[s];
+            };
+            inicio = Math.max(inicio, candidato);
+        }
+        return inicio;
+    }
+
+    private int calcularFinTardio(int p) {
+        int fin = finPrograma;
+        for (int a = inicioSucesoras[p]; a < inicioSucesoras[p + 1]; a++) {
+            int s = sucesora[a];
+            int restriccion = switch (TIPOS[tipoSucesora[a]]) {
+                case FIN_INICIO -> finTardio[s] - duracion[s] - desfaseSucesora[a];
+                case INICIO_INICIO -> finTardio[s] - duracion[s] - desfaseSucesora[a] + duracion[p];
+                case FIN_FIN -> finTardio[s] - desfaseSucesora[a];
+                case INICIO_FIN -> finTardio[s] - desfaseSucesora[a] + duracion[p];
+            };
+            fin = Math.min(fin, restriccion);
+        }
+        return fin;
+    }
+
+    /**
+     * Margen hasta la sucesora más restrictiva, acotado por el fin del programa.
+     */
+    private int calcularHolguraLibre(int p) {
+        int finP = inicioTemprano[p] + duracion[p];
+        int holgura = finPrograma - finP;
+        for (int a = inicioSucesoras[p]; a < inicioSucesoras[p + 1]; a++) {
+            int s = sucesora[a];
+            int finS = inicioTemprano[s] + duracion[s];
+            int margen = switch (TIPOS[tipoSucesora[a]]) {
+                case FIN_INICIO -> inicioTemprano[s] - desfaseSucesora[a] - finP;
+                case INICIO_INICIO -> inicioTemprano[s] - desfaseSucesora[a] - inicioTemprano[p];
+                case FIN_FIN -> finS - desfaseSucesora[a] - finP;
+                case INICIO_FIN -> finS - desfaseSucesora[a] - inicioTemprano[p];
+            };
+            holgura = Math.min(holgura, margen);
+        }
+        return holgura;
+    }
+
+    private int calcularFinPrograma() {
+        int fin = 0;
+        for (int i = 0; i < ids.length; i++) {
+            fin = Math.max(fin, inicioTemprano[i] + duracion[i]);
+        }
+        return fin;
+    }
+
+    private List<TiemposActividad> tiemposCambiados(boolean[] cambiada) {
+        List<TiemposActividad> cambios = new ArrayList<>();
+        for (int v : orden) {
+            if (cambiada[v]) {
+                cambios.add(tiempos(v));
+            }
+        }
+        return cambios;
+    }
+
+    private TiemposActividad tiempos(int i) {
+        int inicioTardio = finTardio[i] - duracion[i];
+        return new TiemposActividad(ids[i], duracion[i], calendario.fecha(inicioTemprano[i]),
+                fechaFin(inicioTemprano[i], duracion[i]), calendario.fecha(inicioTardio),
+                fechaFin(inicioTardio, duracion[i]), inicioTardio - inicioTemprano[i], holguraLibre[i]);
+    }
+
+    private LocalDate fechaFin(int inicio, int duracionDias) {
+        return calendario.fecha(duracionDias > 0 ? inicio + duracionDias - 1 : inicio);
+    }
+
+    private int indice(UUID actividadId) {
+        Integer i = indices.get(actividadId);
+        if (i == null) {
+            throw new IllegalArgumentException("La actividad no pertenece a la red: " + actividadId);
+        }
+        return i;
+    }
+
+    /**
+     * Orden topológico de Kahn. Si no se pueden ordenar todas las actividades, busca y
+     * reporta un ciclo entre las restantes.
+     */
+    private int[] ordenTopologico() {
+        int n = ids.length;
+        int[] pendientes = new int[n];
+        for (int i = 0; i < n; i++) {
+            pendientes[i] = inicioPredecesoras[i + 1] - inicioPredecesoras[i];
+        }
+        int[] resultado = new int[n];
+        int cola = 0;
+        for (int i = 0; i < n; i++) {
+            if (pendientes[i] == 0) {
+                resultado[cola++] = i;
+            }
+        }
+        for (int cabeza = 0; cabeza < cola; cabeza++) {
+            int p = resultado[cabeza];
+            for (int a = inicioSucesoras[p]; a < inicioSucesoras[p + 1]; a++) {
+                if (--pendientes[sucesora[a]] == 0) {
+                    resultado[cola++] = sucesora[a];
+                }
+            }
+        }
+        if (cola < n) {
+            throw new DependenciaCiclicaException(buscarCiclo(pendientes));
+        }
+        return resultado;
+    }
+
+    /**
+     * Toda actividad no ordenada tiene al menos una predecesora no ordenada, así que
+     * retroceder por predecesoras no ordenadas termina repitiendo una actividad.
+     */
+    private List<UUID> buscarCiclo(int[] pendientes) {
+        int n = pendientes.length;
+        int[] posicionEnCamino = new int[n];
+        Arrays.fill(posicionEnCamino, -1);
+        List<Integer> camino = new ArrayList<>();
+        int actual = 0;
+        while (pendientes[actual] == 0) {
+            actual++;
+        }
+        while (posicionEnCamino[actual] < 0) {
+            posicionEnCamino[actual] = camino.size();
+            camino.add(actual);
+            for (int a = inicioPredecesoras[actual]; a < inicioPredecesoras[actual + 1]; a++) {
+                if (pendientes[predecesora[a]] > 0) {
+                    actual = predecesora[a];
+                    break;
+                }
+            }
+        }
+        // El camino va de sucesora a predecesora: se invierte para reportarlo en orden de ejecución
+        List<UUID> ciclo = new ArrayList<>();
+        for (int k = camino.size() - 1; k >= posicionEnCamino[actual]; k--) {
+            ciclo.add(ids[camino.get(k)]);
+        }
+        return ciclo;
+    }
+
+    private static int duracionLaborable(ActividadProgramada actividad, CalendarioLaboral calendario) {
+        if (actividad.getFechaInicio() != null && actividad.getFechaFin() != null) {
+            return calendario.contarDiasLaborables(actividad.getFechaInicio(), actividad.getFechaFin());
+        }
+        return actividad.getDuracionDias() != null ? actividad.getDuracionDias() : 0;
+    }
+}
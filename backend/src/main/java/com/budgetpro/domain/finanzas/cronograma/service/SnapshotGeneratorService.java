@@ -1,25 +1,25 @@
 package com.budgetpro.domain.finanzas.cronograma.service;
 
 import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ContenidoSnapshot;
 import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
-import com.budgetpro.domain.shared.port.out.JsonSerializerPort;
-import com.budgetpro.shared.validation.JsonSchemaValidator;
+import com.budgetpro.domain.finanzas.cronograma.port.out.EscritorSnapshotCronograma;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Servicio de Dominio para generar snapshots del cronograma en formato JSON.
- * 
+ *
  * Responsabilidad: - Serializar datos temporales del cronograma a JSON -
  * Capturar fechas, duraciones, secuencia y calendarios - Producir JSON válido y
  * parseable para almacenamiento en JSONB - Validar que los JSON generados
  * cumplan con los esquemas definidos
- * 
+ *
+ * La escritura se delega en {@link EscritorSnapshotCronograma}, que serializa en
+ * streaming desde las actividades (sin construir el documento en memoria), puede
+ * comprimir el resultado y valida cada sección contra su esquema.
+ *
  * **Formato de Snapshot:** - fechasJson: Fechas del programa y todas las
  * actividades - duracionesJson: Duraciones del programa y actividades -
  * secuenciaJson: Secuencia y dependencias entre actividades - calendariosJson:
@@ -27,179 +27,70 @@ import java.util.UUID;
  */
 public class SnapshotGeneratorService {
 
-    private final JsonSerializerPort jsonSerializer;
-    private final JsonSchemaValidator jsonSchemaValidator;
+    private final EscritorSnapshotCronograma escritor;
 
-    public SnapshotGeneratorService(JsonSerializerPort jsonSerializer, JsonSchemaValidator jsonSchemaValidator) {
-        this.jsonSerializer = Objects.requireNonNull(jsonSerializer, "El serializador no puede ser nulo");
-        this.jsonSchemaValidator = jsonSchemaValidator;
+    public SnapshotGeneratorService(EscritorSnapshotCronograma escritor) {
+        this.escritor = Objects.requireNonNull(escritor, "El escritor de snapshots no puede ser nulo");
     }
 
     /**
      * Genera el JSON de fechas del cronograma.
-     * 
+     *
      * Incluye: - Fechas del programa (fechaInicio, fechaFinEstimada) - Fechas de
-     * todas las actividades (id, fechaInicio, fechaFin)
-     * 
+     * todas las actividades (id, partidaId, fechaInicio, fechaFin)
+     *
      * @param programaObra El programa de obra
      * @param actividades  Lista de actividades programadas
-     * @return JSON string con datos de fechas
-     * @throws RuntimeException si hay error en la serialización
+     * @return Contenido con datos de fechas
+     * @throws IllegalArgumentException si el JSON no cumple con el esquema
      */
-    public String generarFechasJson(ProgramaObra programaObra, List<ActividadProgramada> actividades) {
+    public ContenidoSnapshot generarFechas(ProgramaObra programaObra, List<ActividadProgramada> actividades) {
         Objects.requireNonNull(programaObra, "El programa de obra no puede ser nulo");
         Objects.requireNonNull(actividades, "La lista de actividades no puede ser nula");
-
-        Map<String, Object> fechasData = new HashMap<>();
-
-        // Fechas del programa
-        Map<String, Object> programaFechas = new HashMap<>();
-        programaFechas.put("fechaInicio",
-                programaObra.getFechaInicio() != null ? programaObra.getFechaInicio().toString() : null);
-        programaFechas.put("fechaFinEstimada",
-                programaObra.getFechaFinEstimada() != null ? programaObra.getFechaFinEstimada().toString() : null);
-        fechasData.put("programa", programaFechas);
-
-        // Fechas de actividades
-        List<Map<String, Object>> actividadesFechas = new ArrayList<>();
-        for (ActividadProgramada actividad : actividades) {
-            Map<String, Object> actividadFechas = new HashMap<>();
-            actividadFechas.put("id", actividad.getId().getValue().toString());
-            actividadFechas.put("partidaId", actividad.getPartidaId().toString());
-            actividadFechas.put("fechaInicio",
-                    actividad.getFechaInicio() != null ? actividad.getFechaInicio().toString() : null);
-            actividadFechas.put("fechaFin",
-                    actividad.getFechaFin() != null ? actividad.getFechaFin().toString() : null);
-            actividadesFechas.add(actividadFechas);
-        }
-        fechasData.put("actividades", actividadesFechas);
-
-        String json = serializarAJson(fechasData);
-
-        // Validar esquema si el validador está disponible
-        if (jsonSchemaValidator != null) {
-            jsonSchemaValidator.validateFechasSnapshot(json);
-        }
-
-        return json;
+        return escritor.escribirFechas(programaObra, actividades);
     }
 
     /**
      * Genera el JSON de duraciones del cronograma.
-     * 
+     *
      * Incluye: - Duración total del programa (duracionTotalDias) - Duraciones de
-     * todas las actividades (id, duracionDias)
-     * 
+     * todas las actividades (id, partidaId, duracionDias)
+     *
      * @param programaObra El programa de obra
      * @param actividades  Lista de actividades programadas
-     * @return JSON string con datos de duraciones
-     * @throws RuntimeException si hay error en la serialización
+     * @return Contenido con datos de duraciones
+     * @throws IllegalArgumentException si el JSON no cumple con el esquema
      */
-    public String generarDuracionesJson(ProgramaObra programaObra, List<ActividadProgramada> actividades) {
+    public ContenidoSnapshot generarDuraciones(ProgramaObra programaObra, List<ActividadProgramada> actividades) {
         Objects.requireNonNull(programaObra, "El programa de obra no puede ser nulo");
         Objects.requireNonNull(actividades, "La lista de actividades no puede ser nula");
-
-        Map<String, Object> duracionesData = new HashMap<>();
-
-        // Duración del programa
-        duracionesData.put("duracionTotalDias", programaObra.getDuracionTotalDias());
-
-        // Duraciones de actividades
-        List<Map<String, Object>> actividadesDuraciones = new ArrayList<>();
-        for (ActividadProgramada actividad : actividades) {
-            Map<String, Object> actividadDuracion = new HashMap<>();
-            actividadDuracion.put("id", actividad.getId().getValue().toString());
-            actividadDuracion.put("partidaId", actividad.getPartidaId().toString());
-            actividadDuracion.put("duracionDias", actividad.getDuracionDias());
-            actividadesDuraciones.add(actividadDuracion);
-        }
-        duracionesData.put("actividades", actividadesDuraciones);
-
-        String json = serializarAJson(duracionesData);
-
-        // Validar esquema si el validador está disponible
-        if (jsonSchemaValidator != null) {
-            jsonSchemaValidator.validateDuracionesSnapshot(json);
-        }
-
-        return json;
+        return escritor.escribirDuraciones(programaObra, actividades);
     }
 
     /**
      * Genera el JSON de secuencia y dependencias del cronograma.
-     * 
+     *
      * Incluye: - Secuencia de actividades (orden) - Dependencias entre actividades
-     * (predecesoras)
-     * 
+     * (predecesoras, con tipo y desfase en días laborables)
+     *
      * @param actividades Lista de actividades programadas
-     * @return JSON string con datos de secuencia y dependencias
-     * @throws RuntimeException si hay error en la serialización
+     * @return Contenido con datos de secuencia y dependencias
+     * @throws IllegalArgumentException si el JSON no cumple con el esquema
      */
-    public String generarSecuenciaJson(List<ActividadProgramada> actividades) {
+    public ContenidoSnapshot generarSecuencia(List<ActividadProgramada> actividades) {
         Objects.requireNonNull(actividades, "La lista de actividades no puede ser nula");
-
-        Map<String, Object> secuenciaData = new HashMap<>();
-
-        // Secuencia y dependencias de actividades
-        List<Map<String, Object>> actividadesSecuencia = new ArrayList<>();
-        for (ActividadProgramada actividad : actividades) {
-            Map<String, Object> actividadSecuencia = new HashMap<>();
-            actividadSecuencia.put("id", actividad.getId().getValue().toString());
-            actividadSecuencia.put("partidaId", actividad.getPartidaId().toString());
-
-            // Predecesoras (dependencias)
-            List<String> predecesorasIds = new ArrayList<>();
-            for (UUID predecesoraId : actividad.getPredecesoras()) {
-                predecesorasIds.add(predecesoraId.toString());
-            }
-            actividadSecuencia.put("predecesoras", predecesorasIds);
-
-            actividadesSecuencia.add(actividadSecuencia);
-        }
-        secuenciaData.put("actividades", actividadesSecuencia);
-
-        String json = serializarAJson(secuenciaData);
-
-        // Validar esquema si el validador está disponible
-        if (jsonSchemaValidator != null) {
-            jsonSchemaValidator.validateSecuenciaSnapshot(json);
-        }
-
-        return json;
+        return escritor.escribirSecuencia(actividades);
     }
 
     /**
      * Genera el JSON de calendarios y restricciones temporales.
-     * 
-     * Inicialmente retorna un JSON vacío, ya que los calendarios no están
+     *
+     * Inicialmente retorna listas vacías, ya que los calendarios no están
      * implementados aún. Este campo está preparado para futuras extensiones.
-     * 
-     * @return JSON string con datos de calendarios (inicialmente vacío)
-     * @throws RuntimeException si hay error en la serialización
-     */
-    public String generarCalendariosJson() {
-        Map<String, Object> calendariosData = new HashMap<>();
-        calendariosData.put("calendarios", new ArrayList<>());
-        calendariosData.put("diasFestivos", new ArrayList<>());
-        calendariosData.put("restricciones", new ArrayList<>());
-
-        String json = serializarAJson(calendariosData);
-
-        // Validar esquema si el validador está disponible
-        if (jsonSchemaValidator != null) {
-            jsonSchemaValidator.validateCalendariosSnapshot(json);
-        }
-
-        return json;
-    }
-
-    /**
-     * Serializa un objeto a JSON string.
-     * 
-     * @param data El objeto a serializar
-     * @return JSON string
+     *
+     * @return Contenido con datos de calendarios (inicialmente vacío)
      */
-    private String serializarAJson(Object data) {
-        return jsonSerializer.toJson(data);
+    public ContenidoSnapshot generarCalendarios() {
+        return escritor.escribirCalendarios();
     }
 }
@@ -0,0 +1,36 @@
+package com.budgetpro.domain.finanzas.estimacion.port.out;
+
+import com.budgetpro.domain.finanzas.estimacion.model.Estimacion;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Puerto de Salida para el acumulado estimado por partida de un proyecto.
+ * 
+ * El acumulado es la suma de las cantidades de avance de las estimaciones aprobadas y se
+ * actualiza al aprobar cada una, así que consultarlo no depende de cuántas estimaciones
+ * previas tenga el proyecto.
+ */
+public interface AcumuladoEstimacionRepository {
+
+    /**
+     * Obtiene el acumulado aprobado de las partidas indicadas en una sola consulta.
+     * 
+     * @param proyectoId El ID del proyecto
+     * @param partidaIds IDs de las partidas
+     * @return Acumulado por partida (las partidas nunca estimadas no aparecen)
+     */
+    Map<UUID, BigDecimal> obtenerAcumulados(UUID proyectoId, Collection<UUID> partidaIds);
+
+    /**
+     * Suma al acumulado las cantidades de avance de una estimación aprobada.
+     * 
+     * Idempotente por número de estimación: una misma aprobación no se suma dos veces.
+     * 
+     * @param estimacion La estimación aprobada
+     */
+    void acumular(Estimacion estimacion);
+}
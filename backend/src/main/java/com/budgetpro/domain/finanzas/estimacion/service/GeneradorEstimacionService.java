@@ -1,12 +1,7 @@
 package com.budgetpro.domain.finanzas.estimacion.service;
 
-import com.budgetpro.domain.finanzas.estimacion.model.DetalleEstimacion;
-import com.budgetpro.domain.finanzas.estimacion.model.Estimacion;
-
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
-import java.util.UUID;
 
 /**
  * Servicio de Dominio para generar y calcular estimaciones de avance.
@@ -98,26 +93,6 @@ public class GeneradorEstimacionService {
         return acumuladoTotal.compareTo(volumenContratado) <= 0;
     }
 
-    /**
-     * Calcula el acumulado anterior de una partida basándose en estimaciones previas.
-     * 
-     * @param partidaId ID de la partida
-     * @param estimacionesPrevias Lista de estimaciones previas (ya aprobadas)
-     * @return Acumulado anterior de la partida
-     */
-    public BigDecimal calcularAcumuladoAnterior(UUID partidaId, List<Estimacion> estimacionesPrevias) {
-        if (estimacionesPrevias == null || estimacionesPrevias.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        return estimacionesPrevias.stream()
-                .flatMap(estimacion -> estimacion.getDetalles().stream())
-                .filter(detalle -> detalle.getPartidaId().equals(partidaId))
-                .map(DetalleEstimacion::getCantidadAvance)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .setScale(4, RoundingMode.HALF_UP);
-    }
-
     /**
      * Calcula el monto neto a pagar.
      * 
@@ -3,7 +3,10 @@ package com.budgetpro.domain.finanzas.partida.port.out;
 import com.budgetpro.domain.finanzas.partida.model.Partida;
 import com.budgetpro.domain.finanzas.partida.model.PartidaId;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,6 +41,42 @@ public interface PartidaRepository {
      */
     List<Partida> findByPresupuestoId(UUID presupuestoId);
 
+    /**
+     * Busca las partidas hoja (sin hijas) de un presupuesto.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return Partidas hoja del presupuesto
+     */
+    List<Partida> findHojasByPresupuestoId(UUID presupuestoId);
+
+    /**
+     * Busca las partidas hoja del subárbol de una partida (la propia partida si es hoja).
+     * 
+     * @param partidaId El ID de la partida raíz del subárbol
+     * @return Partidas hoja del subárbol, vacío si la partida no existe
+     */
+    List<Partida> findHojasSubarbol(UUID partidaId);
+
+    /**
+     * Verifica si una partida existe y no tiene hijas.
+     * 
+     * @param partidaId El ID de la partida
+     * @return true si la partida existe y es hoja
+     */
+    boolean esHoja(UUID partidaId);
+
+    /**
+     * Calcula una huella de versión de la estructura de partidas de un presupuesto.
+     * 
+     * Cambia ante cualquier alta, baja o modificación de una partida del presupuesto
+     * (incluidas las hechas fuera de este proceso o por SQL nativo), por lo que sirve como
+     * clave de caché y como ETag del árbol WBS.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return Huella opaca de la versión vigente
+     */
+    String calcularVersionWbs(UUID presupuestoId);
+
     /**
      * Busca una partida por su ID (UUID directo).
      * 
@@ -46,6 +85,14 @@ public interface PartidaRepository {
      */
     Optional<Partida> findById(UUID partidaId);
 
+    /**
+     * Busca varias partidas por ID en una sola consulta.
+     * 
+     * @param partidaIds IDs de las partidas
+     * @return Partidas encontradas (las inexistentes se omiten), sin orden garantizado
+     */
+    List<Partida> findAllById(Collection<UUID> partidaIds);
+
     /**
      * Verifica si existe una partida con el ID dado.
      * 
@@ -53,4 +100,17 @@ public interface PartidaRepository {
      * @return true si existe, false en caso contrario
      */
     boolean existsById(UUID partidaId);
+
+    /**
+     * Reserva saldo (incrementa compromisos pendientes) en varias partidas en una sola operación.
+     * 
+     * Cada reserva se aplica solo si el saldo disponible vigente de la partida la cubre, evaluado
+     * de forma atómica en la base de datos (sin lectura-modificación-escritura en memoria).
+     * Las reservas aplicadas no se deshacen si otras fallan: si la lista devuelta no está vacía,
+     * el llamador debe abortar la transacción.
+     * 
+     * @param montosPorPartida Monto a reservar por partida (positivo)
+     * @return Partidas en las que no se pudo reservar (saldo insuficiente o inexistentes)
+     */
+    List<PartidaId> reservarSaldos(Map<PartidaId, BigDecimal> montosPorPartida);
 }
@@ -0,0 +1,36 @@
+package com.budgetpro.domain.finanzas.presupuesto.model;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Costos ya consolidados de todas las partidas de un presupuesto, para una versión concreta
+ * de sus partidas y APUs. Inmutable: se comparte entre flujos desde la caché.
+ *
+ * @param version               Huella de versión de partidas y APUs con la que se calculó
+ * @param costoPorPartida       Costo de cada partida (hoja: metrado × costo del APU; título: suma de hijas)
+ * @param costoTotal            Suma de los costos de las partidas raíz
+ * @param todasLasHojasTienenApu true si ninguna partida hoja carece de APU
+ */
+public record CostosPresupuesto(
+        String version,
+        Map<UUID, BigDecimal> costoPorPartida,
+        BigDecimal costoTotal,
+        boolean todasLasHojasTienenApu
+) {
+
+    public CostosPresupuesto {
+        Objects.requireNonNull(version, "La versión no puede ser nula");
+        costoPorPartida = Map.copyOf(costoPorPartida);
+        Objects.requireNonNull(costoTotal, "El costo total no puede ser nulo");
+    }
+
+    /**
+     * Costo de una partida, o cero si no pertenece al presupuesto.
+     */
+    public BigDecimal costoDe(UUID partidaId) {
+        return costoPorPartida.getOrDefault(partidaId, BigDecimal.ZERO);
+    }
+}
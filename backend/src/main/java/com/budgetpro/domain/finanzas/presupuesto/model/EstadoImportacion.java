@@ -0,0 +1,15 @@
+package com.budgetpro.domain.finanzas.presupuesto.model;
+
+/**
+ * Estado de una importación masiva de presupuesto.
+ */
+public enum EstadoImportacion {
+    /** Archivo recibido, pendiente de procesar. */
+    PENDIENTE,
+    /** Leyendo, validando e insertando por lotes. */
+    EN_PROCESO,
+    /** Todas las filas se importaron. */
+    COMPLETADO,
+    /** Se encontraron errores; lo insertado se revirtió. */
+    FALLIDO
+}
@@ -0,0 +1,35 @@
+package com.budgetpro.domain.finanzas.presupuesto.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Fila de una planilla de importación de presupuesto.
+ *
+ * Las filas PARTIDA definen la EDT (por su ítem, p. ej. "01.02.03") y las filas INSUMO
+ * que les siguen componen el APU de la última partida leída.
+ *
+ * @param numero Número de fila en el archivo (para reportar errores)
+ * @param tipo Tipo de fila
+ * @param item Ítem jerárquico de la partida (solo PARTIDA)
+ * @param descripcion Descripción de la partida (solo PARTIDA)
+ * @param unidad Unidad de la partida (solo PARTIDA)
+ * @param metrado Metrado de la partida (solo PARTIDA, opcional)
+ * @param rendimiento Rendimiento del APU (solo PARTIDA, opcional)
+ * @param recursoCodigo Código externo del recurso en el catálogo (solo INSUMO)
+ * @param cantidad Cantidad del insumo por unidad de partida (solo INSUMO)
+ * @param precioUnitario Precio del insumo (solo INSUMO, opcional: se toma el del catálogo)
+ */
+public record FilaImportacionPresupuesto(long numero, Tipo tipo, String item, String descripcion, String unidad,
+                                         BigDecimal metrado, BigDecimal rendimiento, String recursoCodigo,
+                                         BigDecimal cantidad, BigDecimal precioUnitario) {
+
+    public enum Tipo {
+        PARTIDA,
+        INSUMO
+    }
+
+    public FilaImportacionPresupuesto {
+        Objects.requireNonNull(tipo, "El tipo de fila no puede ser nulo");
+    }
+}
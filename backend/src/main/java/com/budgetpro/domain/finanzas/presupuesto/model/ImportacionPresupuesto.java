@@ -0,0 +1,105 @@
+package com.budgetpro.domain.finanzas.presupuesto.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Trabajo de importación masiva de partidas y APUs sobre un presupuesto.
+ *
+ * Inmutable: cada avance devuelve una nueva instancia que el procesador persiste
+ * para que el cliente consulte el progreso.
+ */
+public final class ImportacionPresupuesto {
+
+    /** Máximo de errores que se conservan para el reporte. */
+    public static final int MAX_ERRORES = 100;
+
+    private final UUID id;
+    private final UUID presupuestoId;
+    private final String nombreArchivo;
+    private final EstadoImportacion estado;
+    private final long filasProcesadas;
+    private final long partidasImportadas;
+    private final long insumosImportados;
+    private final List<String> errores;
+    private final LocalDateTime creadoEn;
+    private final LocalDateTime finalizadoEn;
+
+    private ImportacionPresupuesto(UUID id, UUID presupuestoId, String nombreArchivo, EstadoImportacion estado,
+                                   long filasProcesadas, long partidasImportadas, long insumosImportados,
+                                   List<String> errores, LocalDateTime creadoEn, LocalDateTime finalizadoEn) {
+        this.id = Objects.requireNonNull(id, "El ID de la importación no puede ser nulo");
+        this.presupuestoId = Objects.requireNonNull(presupuestoId, "El ID del presupuesto no puede ser nulo");
+        this.nombreArchivo = nombreArchivo;
+        this.estado = Objects.requireNonNull(estado, "El estado no puede ser nulo");
+        this.filasProcesadas = filasProcesadas;
+        this.partidasImportadas = partidasImportadas;
+        this.insumosImportados = insumosImportados;
+        this.errores = errores != null ? List.copyOf(errores) : List.of();
+        this.creadoEn = Objects.requireNonNull(creadoEn, "La fecha de creación no puede ser nula");
+        this.finalizadoEn = finalizadoEn;
+    }
+
+    public static ImportacionPresupuesto crear(UUID presupuestoId, String nombreArchivo, LocalDateTime ahora) {
+        return new ImportacionPresupuesto(UUID.randomUUID(), presupuestoId, nombreArchivo,
+                EstadoImportacion.PENDIENTE, 0, 0, 0, List.of(), ahora, null);
+    }
+
+    public static ImportacionPresupuesto reconstruir(UUID id, UUID presupuestoId, String nombreArchivo,
+                                                     EstadoImportacion estado, long filasProcesadas,
+                                                     long partidasImportadas, long insumosImportados,
+                                                     List<String> errores, LocalDateTime creadoEn,
+                                                     LocalDateTime finalizadoEn) {
+        return new ImportacionPresupuesto(id, presupuestoId, nombreArchivo, estado, filasProcesadas,
+                partidasImportadas, insumosImportados, errores, creadoEn, finalizadoEn);
+    }
+
+    /**
+     * Registra el avance tras un lote confirmado.
+     */
+    public ImportacionPresupuesto conProgreso(long filasProcesadas, long partidasImportadas, long insumosImportados) {
+        if (estaFinalizada()) {
+            throw new IllegalStateException("La importación " + id + " ya finalizó");
+        }
+        return new ImportacionPresupuesto(id, presupuestoId, nombreArchivo, EstadoImportacion.EN_PROCESO,
+                filasProcesadas, partidasImportadas, insumosImportados, errores, creadoEn, null);
+    }
+
+    public ImportacionPresupuesto completar(LocalDateTime ahora) {
+        if (estaFinalizada()) {
+            throw new IllegalStateException("La importación " + id + " ya finalizó");
+        }
+        return new ImportacionPresupuesto(id, presupuestoId, nombreArchivo, EstadoImportacion.COMPLETADO,
+                filasProcesadas, partidasImportadas, insumosImportados, List.of(), creadoEn, ahora);
+    }
+
+    /**
+     * Marca la importación como fallida. Los contadores de importados vuelven a cero porque
+     * lo insertado se revierte.
+     */
+    public ImportacionPresupuesto fallar(long filasProcesadas, List<String> errores, LocalDateTime ahora) {
+        if (estaFinalizada()) {
+            throw new IllegalStateException("La importación " + id + " ya finalizó");
+        }
+        List<String> reportados = errores.size() > MAX_ERRORES ? errores.subList(0, MAX_ERRORES) : errores;
+        return new ImportacionPresupuesto(id, presupuestoId, nombreArchivo, EstadoImportacion.FALLIDO,
+                filasProcesadas, 0, 0, reportados, creadoEn, ahora);
+    }
+
+    public boolean estaFinalizada() {
+        return estado == EstadoImportacion.COMPLETADO || estado == EstadoImportacion.FALLIDO;
+    }
+
+    public UUID getId() { return id; }
+    public UUID getPresupuestoId() { return presupuestoId; }
+    public String getNombreArchivo() { return nombreArchivo; }
+    public EstadoImportacion getEstado() { return estado; }
+    public long getFilasProcesadas() { return filasProcesadas; }
+    public long getPartidasImportadas() { return partidasImportadas; }
+    public long getInsumosImportados() { return insumosImportados; }
+    public List<String> getErrores() { return errores; }
+    public LocalDateTime getCreadoEn() { return creadoEn; }
+    public LocalDateTime getFinalizadoEn() { return finalizadoEn; }
+}
@@ -0,0 +1,33 @@
+package com.budgetpro.domain.finanzas.presupuesto.port.out;
+
+import com.budgetpro.domain.catalogo.model.APUSnapshot;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para la carga masiva de partidas y APUs de un presupuesto.
+ *
+ * Cada llamada a {@link #insertarLote} es una transacción independiente, de modo que
+ * una importación grande se confirma por tramos sin retener locks ni memoria.
+ */
+public interface CargaMasivaPresupuestoRepository {
+
+    /**
+     * Indica si el presupuesto ya tiene partidas.
+     */
+    boolean tienePartidas(UUID presupuestoId);
+
+    /**
+     * Inserta un lote de partidas (padres antes que hijas) y los APUs de sus partidas hoja
+     * con sentencias agrupadas.
+     */
+    void insertarLote(UUID presupuestoId, List<Partida> partidas, List<APUSnapshot> apus);
+
+    /**
+     * Elimina todas las partidas del presupuesto junto con sus APUs (compensación de una
+     * importación fallida sobre un presupuesto que estaba vacío).
+     */
+    void eliminarPartidas(UUID presupuestoId);
+}
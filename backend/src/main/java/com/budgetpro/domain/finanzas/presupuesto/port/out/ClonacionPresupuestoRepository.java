@@ -0,0 +1,26 @@
+package com.budgetpro.domain.finanzas.presupuesto.port.out;
+
+import java.util.UUID;
+
+/**
+ * Puerto de salida para copiar un presupuesto completo en la base de datos.
+ */
+public interface ClonacionPresupuestoRepository {
+
+    /**
+     * Copia el presupuesto con sus subpresupuestos, partidas (EDT), APUs, insumos, composición
+     * de cuadrillas y análisis de sobrecosto. La copia queda en BORRADOR, sin hashes de
+     * integridad ni ejecución (gastos y compromisos en cero).
+     *
+     * Debe ejecutarse dentro de una transacción.
+     *
+     * @param origenId Presupuesto a copiar
+     * @param nuevoId ID del presupuesto copia
+     * @param nombre Nombre del presupuesto copia
+     * @return Número de filas copiadas por tabla
+     */
+    ResultadoClonacion clonar(UUID origenId, UUID nuevoId, String nombre);
+
+    record ResultadoClonacion(int subpresupuestos, int partidas, int apus, int insumos) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.budgetpro.domain.finanzas.presupuesto.port.out;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.CostosPresupuesto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para la caché de costos consolidados por presupuesto.
+ */
+public interface CostosPresupuestoCache {
+
+    /**
+     * Devuelve los costos en caché del presupuesto solo si se calcularon con la versión indicada.
+     */
+    Optional<CostosPresupuesto> obtener(UUID presupuestoId, String version);
+
+    /**
+     * Guarda (o reemplaza) los costos del presupuesto.
+     */
+    void guardar(UUID presupuestoId, CostosPresupuesto costos);
+}
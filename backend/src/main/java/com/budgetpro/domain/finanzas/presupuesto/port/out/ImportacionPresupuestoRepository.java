@@ -0,0 +1,28 @@
+package com.budgetpro.domain.finanzas.presupuesto.port.out;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.ImportacionPresupuesto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para persistir los trabajos de importación de presupuesto.
+ */
+public interface ImportacionPresupuestoRepository {
+
+    void guardar(ImportacionPresupuesto importacion);
+
+    Optional<ImportacionPresupuesto> buscarPorId(UUID id);
+
+    /**
+     * Indica si el presupuesto tiene una importación PENDIENTE o EN_PROCESO.
+     */
+    boolean existeActiva(UUID presupuestoId);
+
+    /**
+     * Busca las importaciones PENDIENTE o EN_PROCESO cuyo último guardado es anterior al límite.
+     */
+    List<ImportacionPresupuesto> buscarActivasSinAvanceDesde(LocalDateTime limite);
+}
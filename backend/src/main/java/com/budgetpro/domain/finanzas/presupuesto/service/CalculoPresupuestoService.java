@@ -4,13 +4,16 @@ import com.budgetpro.domain.finanzas.apu.model.APU;
 import com.budgetpro.domain.finanzas.apu.port.out.ApuRepository;
 import com.budgetpro.domain.finanzas.partida.model.Partida;
 import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.CostosPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CostosPresupuestoCache;
 
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Servicio de Dominio para calcular costos de presupuestos.
@@ -22,16 +25,23 @@ import java.util.stream.Collectors;
  *   - Si es Título (tiene hijos): Costo = Suma de Costos de Hijos
  *   - Si es Hoja (tiene APU): Costo = Partida.metrado * APU.costoUnitario
  * - Costo Total Presupuesto = Suma de Costos de Partidas Raíz
+ * 
+ * Los costos de todas las partidas se consolidan juntos (partidas y APUs en dos consultas,
+ * un recorrido de hojas a raíces) y se guardan en caché por versión de partidas y APUs:
+ * consulta, listado y aprobación comparten el mismo cálculo mientras nada cambie.
  */
 public class CalculoPresupuestoService {
 
     private final PartidaRepository partidaRepository;
     private final ApuRepository apuRepository;
+    private final CostosPresupuestoCache costosCache;
 
     public CalculoPresupuestoService(PartidaRepository partidaRepository,
-                                     ApuRepository apuRepository) {
+                                     ApuRepository apuRepository,
+                                     CostosPresupuestoCache costosCache) {
         this.partidaRepository = partidaRepository;
         this.apuRepository = apuRepository;
+        this.costosCache = costosCache;
     }
 
     /**
@@ -41,127 +51,115 @@ public class CalculoPresupuestoService {
      * @return El costo total calculado
      */
     public BigDecimal calcularCostoTotal(UUID presupuestoId) {
-        // Obtener todas las partidas del presupuesto
-        List<Partida> partidas = partidaRepository.findByPresupuestoId(presupuestoId);
-
-        if (partidas.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        // Separar partidas raíz (sin padre) y construir mapa de hijos
-        List<Partida> partidasRaiz = partidas.stream()
-                .filter(Partida::isRaiz)
-                .collect(Collectors.toList());
-
-        // Construir mapa de hijos por padre
-        Map<UUID, List<Partida>> hijosPorPadre = partidas.stream()
-                .filter(p -> !p.isRaiz())
-                .collect(Collectors.groupingBy(Partida::getPadreId));
-
-        // Calcular costo total sumando costos de partidas raíz
-        return partidasRaiz.stream()
-                .map(partidaRaiz -> calcularCostoPartida(partidaRaiz, hijosPorPadre))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return obtenerCostos(presupuestoId).costoTotal();
     }
 
     /**
-     * Calcula el costo de una partida recursivamente.
+     * Verifica si todas las partidas hoja del presupuesto tienen APU.
      * 
-     * @param partida La partida a calcular
-     * @param hijosPorPadre Mapa de hijos agrupados por padre
-     * @return El costo de la partida
+     * @param presupuestoId El ID del presupuesto
+     * @return true si todas las partidas hoja tienen APU, false en caso contrario
      */
-    private BigDecimal calcularCostoPartida(Partida partida, Map<UUID, List<Partida>> hijosPorPadre) {
-        List<Partida> hijos = hijosPorPadre.get(partida.getId().getValue());
-
-        if (hijos != null && !hijos.isEmpty()) {
-            // Es título: suma de costos de hijos
-            return hijos.stream()
-                    .map(hijo -> calcularCostoPartida(hijo, hijosPorPadre))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-        } else {
-            // Es hoja: metrado * costo unitario del APU
-            return calcularCostoPartidaHoja(partida);
-        }
+    public boolean todasLasPartidasHojaTienenAPU(UUID presupuestoId) {
+        return obtenerCostos(presupuestoId).todasLasHojasTienenApu();
     }
 
     /**
-     * Calcula el costo de una partida hoja (que tiene APU).
+     * Obtiene el costo de una partida específica.
      * 
-     * @param partida La partida hoja
-     * @return El costo calculado: metrado * costo unitario del APU
+     * @param partidaId El ID de la partida
+     * @return El costo de la partida, o BigDecimal.ZERO si no existe o no tiene APU
      */
-    private BigDecimal calcularCostoPartidaHoja(Partida partida) {
-        // Buscar APU de la partida
-        APU apu = apuRepository.findByPartidaId(partida.getId().getValue())
-                .orElse(null);
-
-        if (apu == null) {
-            // Si no tiene APU, el costo es 0
-            return BigDecimal.ZERO;
-        }
-
-        // Calcular: metrado * costo unitario del APU
-        BigDecimal metrado = partida.getMetrado();
-        BigDecimal costoUnitario = apu.calcularCostoTotal(); // Costo total del APU
-
-        return metrado.multiply(costoUnitario);
+    public BigDecimal calcularCostoPartida(UUID partidaId) {
+        return partidaRepository.findById(partidaId)
+                .map(partida -> obtenerCostos(partida.getPresupuestoId()).costoDe(partidaId))
+                .orElse(BigDecimal.ZERO);
     }
 
     /**
-     * Verifica si todas las partidas hoja del presupuesto tienen APU.
+     * Costos consolidados del presupuesto, desde caché si la versión de partidas y APUs no cambió.
      * 
      * @param presupuestoId El ID del presupuesto
-     * @return true si todas las partidas hoja tienen APU, false en caso contrario
+     * @return Costos de todas las partidas del presupuesto
      */
-    public boolean todasLasPartidasHojaTienenAPU(UUID presupuestoId) {
-        // Obtener todas las partidas del presupuesto
-        List<Partida> partidas = partidaRepository.findByPresupuestoId(presupuestoId);
-
-        if (partidas.isEmpty()) {
-            return true; // Sin partidas, se considera válido
-        }
-
-        // Construir mapa de hijos por padre
-        Map<UUID, List<Partida>> hijosPorPadre = partidas.stream()
-                .filter(p -> !p.isRaiz())
-                .collect(Collectors.groupingBy(Partida::getPadreId));
-
-        // Identificar partidas hoja (las que no tienen hijos)
-        List<Partida> partidasHoja = partidas.stream()
-                .filter(partida -> {
-                    List<Partida> hijos = hijosPorPadre.get(partida.getId().getValue());
-                    return hijos == null || hijos.isEmpty();
-                })
-                .collect(Collectors.toList());
-
-        // Verificar que todas las partidas hoja tengan APU
-        return partidasHoja.stream()
-                .allMatch(partida -> apuRepository.existsByPartidaId(partida.getId().getValue()));
+    public CostosPresupuesto obtenerCostos(UUID presupuestoId) {
+        // La versión se lee antes que los datos: si cambian entre ambas lecturas, la entrada
+        // guardada es más nueva que su versión y la siguiente consulta simplemente recalcula.
+        String version = partidaRepository.calcularVersionWbs(presupuestoId) + "/"
+                + apuRepository.calcularVersionApus(presupuestoId);
+        return costosCache.obtener(presupuestoId, version).orElseGet(() -> {
+            CostosPresupuesto costos = consolidar(version, partidaRepository.findByPresupuestoId(presupuestoId),
+                    apuRepository.findByPresupuestoId(presupuestoId));
+            costosCache.guardar(presupuestoId, costos);
+            return costos;
+        });
     }
 
     /**
-     * Obtiene el costo de una partida específica.
+     * Consolida los costos de hojas a raíces en un solo recorrido topológico: cada partida
+     * se cierra cuando todas sus hijas están cerradas y entonces suma su costo a su padre.
      * 
-     * @param partidaId El ID de la partida
-     * @return El costo de la partida, o BigDecimal.ZERO si no existe o no tiene APU
+     * Una partida cuyo padre no está en el presupuesto se consolida pero no suma al total,
+     * igual que en el recorrido recursivo desde las raíces.
      */
-    public BigDecimal calcularCostoPartida(UUID partidaId) {
-        Partida partida = partidaRepository.findById(partidaId)
-                .orElse(null);
+    static CostosPresupuesto consolidar(String version, List<Partida> partidas, List<APU> apus) {
+        Map<UUID, APU> apuPorPartida = new HashMap<>(apus.size() * 2);
+        for (APU apu : apus) {
+            apuPorPartida.put(apu.getPartidaId(), apu);
+        }
 
-        if (partida == null) {
-            return BigDecimal.ZERO;
+        Map<UUID, Partida> partidasPorId = new HashMap<>(partidas.size() * 2);
+        for (Partida partida : partidas) {
+            partidasPorId.put(partida.getId().getValue(), partida);
         }
 
-        // Obtener todas las partidas del presupuesto para construir el árbol
-        List<Partida> partidas = partidaRepository.findByPresupuestoId(partida.getPresupuestoId());
+        // Hijas pendientes de cerrar por partida
+        Map<UUID, Integer> hijasPendientes = new HashMap<>(partidas.size() * 2);
+        for (Partida partida : partidas) {
+            UUID padreId = partida.getPadreId();
+            if (padreId != null && partidasPorId.containsKey(padreId)) {
+                hijasPendientes.merge(padreId, 1, Integer::sum);
+            }
+        }
+
+        Map<UUID, BigDecimal> costoPorPartida = new HashMap<>(partidas.size() * 2);
+        Deque<UUID> cerradas = new ArrayDeque<>();
+        boolean todasLasHojasTienenApu = true;
+        for (Partida partida : partidas) {
+            UUID id = partida.getId().getValue();
+            if (!hijasPendientes.containsKey(id)) {
+                APU apu = apuPorPartida.get(id);
+                todasLasHojasTienenApu &= apu != null;
+                costoPorPartida.put(id, costoHoja(partida, apu));
+                cerradas.add(id);
+            }
+        }
 
-        // Construir mapa de hijos por padre
-        Map<UUID, List<Partida>> hijosPorPadre = partidas.stream()
-                .filter(p -> !p.isRaiz())
-                .collect(Collectors.groupingBy(Partida::getPadreId));
+        BigDecimal costoTotal = BigDecimal.ZERO;
+        while (!cerradas.isEmpty()) {
+            UUID id = cerradas.poll();
+            BigDecimal costo = costoPorPartida.get(id);
+            UUID padreId = partidasPorId.get(id).getPadreId();
+            if (padreId == null) {
+                costoTotal = costoTotal.add(costo);
+            } else if (partidasPorId.containsKey(padreId)) {
+                costoPorPartida.merge(padreId, costo, BigDecimal::add);
+                if (hijasPendientes.merge(padreId, -1, Integer::sum) == 0) {
+                    cerradas.add(padreId);
+                }
+            }
+        }
+
+        return new CostosPresupuesto(version, costoPorPartida, costoTotal, todasLasHojasTienenApu);
+    }
 
-        return calcularCostoPartida(partida, hijosPorPadre);
+    /**
+     * Costo de una partida hoja: metrado * costo unitario del APU, o cero si no tiene APU.
+     */
+    private static BigDecimal costoHoja(Partida partida, APU apu) {
+        if (apu == null) {
+            return BigDecimal.ZERO;
+        }
+        return partida.getMetrado().multiply(apu.calcularCostoTotal());
     }
 }
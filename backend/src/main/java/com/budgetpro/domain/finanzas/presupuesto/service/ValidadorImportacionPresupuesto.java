@@ -0,0 +1,150 @@
+package com.budgetpro.domain.finanzas.presupuesto.service;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.FilaImportacionPresupuesto;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Valida en una sola pasada la estructura EDT y la composición de APUs de una planilla
+ * de importación, fila por fila y en el orden del archivo.
+ *
+ * Reglas:
+ * - El ítem de una partida es jerárquico ("01", "01.02", "01.02.03") y no se repite.
+ * - El padre de una partida debe aparecer antes en el archivo y no puede tener APU
+ *   (solo las partidas hoja tienen insumos).
+ * - Un insumo pertenece a la última partida leída; su cantidad es positiva, su precio
+ *   no negativo y el recurso no se repite dentro del mismo APU.
+ *
+ * Con estado: se usa una instancia por importación. Solo retiene el ítem de cada partida
+ * vista (para resolver padres) y los recursos del APU en curso.
+ */
+public final class ValidadorImportacionPresupuesto {
+
+    private static final Pattern FORMATO_ITEM = Pattern.compile("\\d+(\\.\\d+)*");
+    private static final int LONGITUD_MAXIMA_ITEM = 50;
+    private static final int LONGITUD_MAXIMA_UNIDAD = 20;
+
+    /** Ítem de cada partida vista → si ya tiene insumos (APU). */
+    private final Map<String, Boolean> partidas = new HashMap<>();
+    private final Set<String> recursosApuActual = new HashSet<>();
+    private String partidaActual;
+    private boolean partidaActualRechazada;
+    private boolean partidaActualConUnidad;
+
+    /**
+     * Valida una fila PARTIDA y la registra como partida en curso.
+     *
+     * @return Ítem del padre, o null si es raíz
+     * @throws IllegalArgumentException si la fila rompe la estructura EDT
+     */
+    public String registrarPartida(FilaImportacionPresupuesto fila) {
+        partidaActual = null;
+        partidaActualRechazada = true;
+        recursosApuActual.clear();
+
+        String item = texto(fila.item());
+        if (item == null || !FORMATO_ITEM.matcher(item).matches()) {
+            throw error(fila, "ítem '" + (item != null ? item : "") + "' inválido (formato esperado 01.02.03)");
+        }
+        if (item.length() > LONGITUD_MAXIMA_ITEM) {
+            throw error(fila, "ítem " + item + " excede " + LONGITUD_MAXIMA_ITEM + " caracteres");
+        }
+        if (partidas.containsKey(item)) {
+            throw error(fila, "ítem " + item + " duplicado");
+        }
+        if (texto(fila.descripcion()) == null) {
+            throw error(fila, "la partida " + item + " no tiene descripción");
+        }
+        String unidad = texto(fila.unidad());
+        if (unidad != null && unidad.length() > LONGITUD_MAXIMA_UNIDAD) {
+            throw error(fila, "la unidad de la partida " + item + " excede " + LONGITUD_MAXIMA_UNIDAD + " caracteres");
+        }
+        if (fila.metrado() != null && fila.metrado().signum() < 0) {
+            throw error(fila, "el metrado de la partida " + item + " no puede ser negativo");
+        }
+        if (fila.rendimiento() != null && fila.rendimiento().signum() <= 0) {
+            throw error(fila, "el rendimiento de la partida " + item + " debe ser positivo");
+        }
+
+        String padre = itemPadre(item);
+        if (padre != null) {
+            Boolean padreConApu = partidas.get(padre);
+            if (padreConApu == null) {
+                throw error(fila, "la partida padre " + padre + " de " + item + " no aparece antes en el archivo");
+            }
+            if (padreConApu) {
+                throw error(fila, "la partida " + padre + " tiene APU y no puede tener subpartidas");
+            }
+        }
+
+        partidas.put(item, Boolean.FALSE);
+        partidaActual = item;
+        partidaActualRechazada = false;
+        partidaActualConUnidad = unidad != null;
+        return padre;
+    }
+
+    /**
+     * Valida una fila INSUMO contra el APU de la partida en curso.
+     *
+     * Los insumos de una partida rechazada se ignoran (el error ya se reportó en su partida).
+     *
+     * @throws IllegalArgumentException si la fila rompe la composición del APU
+     */
+    public void registrarInsumo(FilaImportacionPresupuesto fila) {
+        if (partidaActual == null) {
+            if (partidaActualRechazada) {
+                return;
+            }
+            throw error(fila, "insumo sin partida previa");
+        }
+        String recurso = texto(fila.recursoCodigo());
+        if (recurso == null) {
+            throw error(fila, "el insumo no tiene código de recurso");
+        }
+        if (fila.cantidad() == null || fila.cantidad().signum() <= 0) {
+            throw error(fila, "la cantidad del recurso " + recurso + " debe ser positiva");
+        }
+        if (fila.precioUnitario() != null && fila.precioUnitario().compareTo(BigDecimal.ZERO) < 0) {
+            throw error(fila, "el precio del recurso " + recurso + " no puede ser negativo");
+        }
+        if (!recursosApuActual.add(recurso)) {
+            throw error(fila, "el recurso " + recurso + " se repite en el APU de la partida " + partidaActual);
+        }
+        if (!partidaActualConUnidad) {
+            throw error(fila, "la partida " + partidaActual + " tiene insumos pero no tiene unidad");
+        }
+        partidas.put(partidaActual, Boolean.TRUE);
+    }
+
+    /**
+     * Nivel EDT de un ítem (número de segmentos).
+     */
+    public static int nivel(String item) {
+        int nivel = 1;
+        for (int i = 0; i < item.length(); i++) {
+            if (item.charAt(i) == '.') {
+                nivel++;
+            }
+        }
+        return nivel;
+    }
+
+    private static String itemPadre(String item) {
+        int ultimoPunto = item.lastIndexOf('.');
+        return ultimoPunto < 0 ? null : item.substring(0, ultimoPunto);
+    }
+
+    private static String texto(String valor) {
+        return valor == null || valor.isBlank() ? null : valor.trim();
+    }
+
+    private static IllegalArgumentException error(FilaImportacionPresupuesto fila, String mensaje) {
+        return new IllegalArgumentException("Fila " + fila.numero() + ": " + mensaje);
+    }
+}
@@ -11,9 +11,20 @@ import java.util.UUID;
 
 /**
  * Agregado Raíz que representa una Estimación de Reajuste de Costos.
+ * 
+ * Con fórmula polinómica los códigos de índice valen {@link #CODIGO_FORMULA_POLINOMICA}, el
+ * valor del índice base es 1 y el del índice actual es el factor global (monto reajustado /
+ * monto base); el K de cada fórmula se refleja en los detalles por partida. Una estimación
+ * complementaria reconoce la diferencia entre índices provisionales y definitivos de una
+ * estimación ya aprobada y la referencia con {@code estimacionOrigenId}.
  */
 public final class EstimacionReajuste {
 
+    /**
+     * Código de índice de las estimaciones calculadas con fórmula polinómica.
+     */
+    public static final String CODIGO_FORMULA_POLINOMICA = "FORMULA_POLINOMICA";
+
     private final EstimacionReajusteId id;
     private final UUID proyectoId;
     private final UUID presupuestoId;
@@ -33,6 +44,8 @@ public final class EstimacionReajuste {
     private final String observaciones;
     private final List<DetalleReajustePartida> detalles;
     private final Long version;
+    private final boolean indicesDefinitivos;
+    private final EstimacionReajusteId estimacionOrigenId;
 
     /**
      * Constructor privado. Usar factory methods.
@@ -42,7 +55,7 @@ public final class EstimacionReajuste {
             LocalDate indiceActualFecha, BigDecimal valorIndiceBase, BigDecimal valorIndiceActual, BigDecimal montoBase,
             BigDecimal montoReajustado, BigDecimal diferencial, BigDecimal porcentajeVariacion,
             EstadoEstimacionReajuste estado, String observaciones, List<DetalleReajustePartida> detalles,
-            Long version) {
+            Long version, boolean indicesDefinitivos, EstimacionReajusteId estimacionOrigenId) {
         validarInvariantes(proyectoId, presupuestoId, numeroEstimacion, valorIndiceBase, valorIndiceActual);
 
         this.id = Objects.requireNonNull(id, "El ID de la estimación no puede ser nulo");
@@ -65,6 +78,8 @@ public final class EstimacionReajuste {
         this.detalles = detalles != null ? Collections.unmodifiableList(new ArrayList<>(detalles))
                 : Collections.emptyList();
         this.version = version != null ? version : 0L;
+        this.indicesDefinitivos = indicesDefinitivos;
+        this.estimacionOrigenId = estimacionOrigenId;
     }
 
     public static EstimacionReajuste crear(EstimacionReajusteId id, UUID proyectoId, UUID presupuestoId,
@@ -73,7 +88,8 @@ public final class EstimacionReajuste {
             BigDecimal valorIndiceActual, BigDecimal montoBase) {
         return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
                 indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual, montoBase,
-                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, EstadoEstimacionReajuste.BORRADOR, null, null, 0L);
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, EstadoEstimacionReajuste.BORRADOR, null, null, 0L,
+                true, null);
     }
 
     public static EstimacionReajuste reconstruir(EstimacionReajusteId id, UUID proyectoId, UUID presupuestoId,
@@ -84,7 +100,35 @@ public final class EstimacionReajuste {
             List<DetalleReajustePartida> detalles, Long version) {
         return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
                 indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual, montoBase,
-                montoReajustado, diferencial, porcentajeVariacion, estado, observaciones, detalles, version);
+                montoReajustado, diferencial, porcentajeVariacion, estado, observaciones, detalles, version, true,
+                null);
+    }
+
+    public static EstimacionReajuste reconstruir(EstimacionReajusteId id, UUID proyectoId, UUID presupuestoId,
+            Integer numeroEstimacion, LocalDate fechaCorte, String indiceBaseCodigo, LocalDate indiceBaseFecha,
+            String indiceActualCodigo, LocalDate indiceActualFecha, BigDecimal valorIndiceBase,
+            BigDecimal valorIndiceActual, BigDecimal montoBase, BigDecimal montoReajustado, BigDecimal diferencial,
+            BigDecimal porcentajeVariacion, EstadoEstimacionReajuste estado, String observaciones,
+            List<DetalleReajustePartida> detalles, Long version, boolean indicesDefinitivos,
+            EstimacionReajusteId estimacionOrigenId) {
+        return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
+                indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual, montoBase,
+                montoReajustado, diferencial, porcentajeVariacion, estado, observaciones, detalles, version,
+                indicesDefinitivos, estimacionOrigenId);
+    }
+
+    /**
+     * Crea una estimación a calcular con fórmula polinómica (ver
+     * {@link #aplicarReajustePolinomico}).
+     * 
+     * @param fechaBase Fecha del presupuesto base (mes de los índices Io)
+     */
+    public static EstimacionReajuste crearPolinomica(EstimacionReajusteId id, UUID proyectoId, UUID presupuestoId,
+            Integer numeroEstimacion, LocalDate fechaCorte, LocalDate fechaBase) {
+        return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte,
+                CODIGO_FORMULA_POLINOMICA, fechaBase, CODIGO_FORMULA_POLINOMICA, fechaCorte, BigDecimal.ONE,
+                BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                EstadoEstimacionReajuste.BORRADOR, null, null, 0L, true, null);
     }
 
     private void validarInvariantes(UUID proyectoId, UUID presupuestoId, Integer numeroEstimacion,
@@ -123,7 +167,7 @@ public final class EstimacionReajuste {
         return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
                 indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual,
                 montoBaseTotal, nuevoMontoReajustado, nuevoDiferencial, nuevoPorcentajeVariacion, estado, observaciones,
-                detalles, version);
+                detalles, version, indicesDefinitivos, estimacionOrigenId);
     }
 
     public EstimacionReajuste agregarDetalle(DetalleReajustePartida detalle) {
@@ -134,7 +178,108 @@ public final class EstimacionReajuste {
         nuevosDetalles.add(detalle);
         return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
                 indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual, montoBase,
-                montoReajustado, diferencial, porcentajeVariacion, estado, observaciones, nuevosDetalles, version);
+                montoReajustado, diferencial, porcentajeVariacion, estado, observaciones, nuevosDetalles, version,
+                indicesDefinitivos, estimacionOrigenId);
+    }
+
+    /**
+     * Reemplaza los detalles por partida ya reajustados con la fórmula polinómica y recalcula
+     * los totales. Se usa al calcular la estimación y al recalcularla cuando los índices
+     * provisionales pasan a definitivos. Solo aplica a estimaciones en BORRADOR: los montos de
+     * una estimación APROBADA o APLICADA no se reescriben y la diferencia por índices se
+     * reconoce en una estimación complementaria (ver {@link #complementar}).
+     * 
+     * @param nuevosDetalles     Detalles con monto base y reajustado por partida
+     * @param indicesDefinitivos true si todos los índices usados son definitivos
+     * @throws IllegalStateException si la estimación no es polinómica o no está en BORRADOR
+     */
+    public EstimacionReajuste aplicarReajustePolinomico(List<DetalleReajustePartida> nuevosDetalles,
+            boolean indicesDefinitivos) {
+        if (!esPolinomica()) {
+            throw new IllegalStateException("La estimación no se calcula con fórmula polinómica");
+        }
+        if (this.estado != EstadoEstimacionReajuste.BORRADOR) {
+            throw new IllegalStateException("Solo se pueden recalcular estimaciones en estado BORRADOR");
+        }
+        Objects.requireNonNull(nuevosDetalles, "Los detalles no pueden ser nulos");
+        return conDetallesPolinomicos(nuevosDetalles, indicesDefinitivos);
+    }
+
+    /**
+     * Genera la estimación complementaria de esta estimación polinómica APROBADA o APLICADA,
+     * calculada con índices provisionales, al publicarse los definitivos. Esta estimación no
+     * cambia; la complementaria (en BORRADOR, vinculada por {@link #getEstimacionOrigenId()})
+     * toma por partida como monto base lo ya reajustado con índices provisionales y como monto
+     * reajustado el calculado con los definitivos, de modo que su diferencial es lo que falta
+     * reconocer (negativo si el índice definitivo resultó menor).
+     *
+     * @param idComplementaria     ID de la estimación complementaria
+     * @param numeroComplementaria Número de la estimación complementaria en el proyecto
+     * @param montosDefinitivos    Monto reajustado con índices definitivos, en el orden de los detalles
+     * @throws IllegalStateException si no es polinómica, no está APROBADA o APLICADA o ya usó
+     *                               índices definitivos
+     */
+    public EstimacionReajuste complementar(EstimacionReajusteId idComplementaria, Integer numeroComplementaria,
+            List<BigDecimal> montosDefinitivos) {
+        if (!esPolinomica()) {
+            throw new IllegalStateException("La estimación no se calcula con fórmula polinómica");
+        }
+        if (this.estado != EstadoEstimacionReajuste.APROBADA && this.estado != EstadoEstimacionReajuste.APLICADA) {
+            throw new IllegalStateException("Solo se complementan estimaciones en estado APROBADA o APLICADA");
+        }
+        if (this.indicesDefinitivos) {
+            throw new IllegalStateException("La estimación ya se calculó con índices definitivos");
+        }
+        Objects.requireNonNull(montosDefinitivos, "Los montos definitivos no pueden ser nulos");
+        if (montosDefinitivos.size() != detalles.size()) {
+            throw new IllegalArgumentException("Se requiere un monto definitivo por cada detalle de la estimación");
+        }
+
+        List<DetalleReajustePartida> diferencias = new ArrayList<>(detalles.size());
+        for (int i = 0; i < detalles.size(); i++) {
+            DetalleReajustePartida provisional = detalles.get(i);
+            BigDecimal definitivo = montosDefinitivos.get(i).setScale(4, RoundingMode.HALF_UP);
+            diferencias.add(DetalleReajustePartida.crear(DetalleReajustePartidaId.generate(),
+                    provisional.getPartidaId(), provisional.getMontoReajustado(), definitivo,
+                    definitivo.subtract(provisional.getMontoReajustado())));
+        }
+        String observacionesComplementaria = String.format(
+                "Complementaria de la estimación N° %d por índices definitivos", numeroEstimacion);
+        return new EstimacionReajuste(idComplementaria, proyectoId, presupuestoId, numeroComplementaria, fechaCorte,
+                CODIGO_FORMULA_POLINOMICA, indiceBaseFecha, CODIGO_FORMULA_POLINOMICA, indiceActualFecha,
+                BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                EstadoEstimacionReajuste.BORRADOR, observacionesComplementaria, null, 0L, true, id)
+                .conDetallesPolinomicos(diferencias, true);
+    }
+
+    private EstimacionReajuste conDetallesPolinomicos(List<DetalleReajustePartida> nuevosDetalles,
+            boolean indicesDefinitivos) {
+        BigDecimal totalBase = BigDecimal.ZERO;
+        BigDecimal totalReajustado = BigDecimal.ZERO;
+        for (DetalleReajustePartida detalle : nuevosDetalles) {
+            totalBase = totalBase.add(detalle.getMontoBase());
+            totalReajustado = totalReajustado.add(detalle.getMontoReajustado());
+        }
+        totalBase = totalBase.setScale(4, RoundingMode.HALF_UP);
+        totalReajustado = totalReajustado.setScale(4, RoundingMode.HALF_UP);
+
+        BigDecimal factor = totalBase.signum() > 0 ? totalReajustado.divide(totalBase, 6, RoundingMode.HALF_UP)
+                : BigDecimal.ONE;
+        BigDecimal nuevoPorcentajeVariacion = factor.subtract(BigDecimal.ONE).multiply(new BigDecimal("100"))
+                .setScale(2, RoundingMode.HALF_UP);
+
+        return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
+                indiceBaseFecha, indiceActualCodigo, indiceActualFecha, BigDecimal.ONE, factor, totalBase,
+                totalReajustado, totalReajustado.subtract(totalBase), nuevoPorcentajeVariacion, estado,
+                observaciones, nuevosDetalles, version, indicesDefinitivos, estimacionOrigenId);
+    }
+
+    public boolean esPolinomica() {
+        return CODIGO_FORMULA_POLINOMICA.equals(indiceBaseCodigo);
+    }
+
+    public boolean esComplementaria() {
+        return estimacionOrigenId != null;
     }
 
     public EstimacionReajuste aprobar() {
@@ -144,7 +289,7 @@ public final class EstimacionReajuste {
         return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
                 indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual, montoBase,
                 montoReajustado, diferencial, porcentajeVariacion, EstadoEstimacionReajuste.APROBADA, observaciones,
-                detalles, version);
+                detalles, version, indicesDefinitivos, estimacionOrigenId);
     }
 
     public EstimacionReajuste aplicar() {
@@ -154,13 +299,14 @@ public final class EstimacionReajuste {
         return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
                 indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual, montoBase,
                 montoReajustado, diferencial, porcentajeVariacion, EstadoEstimacionReajuste.APLICADA, observaciones,
-                detalles, version);
+                detalles, version, indicesDefinitivos, estimacionOrigenId);
     }
 
     public EstimacionReajuste actualizarObservaciones(String nuevasObservaciones) {
         return new EstimacionReajuste(id, proyectoId, presupuestoId, numeroEstimacion, fechaCorte, indiceBaseCodigo,
                 indiceBaseFecha, indiceActualCodigo, indiceActualFecha, valorIndiceBase, valorIndiceActual, montoBase,
-                montoReajustado, diferencial, porcentajeVariacion, estado, nuevasObservaciones, detalles, version);
+                montoReajustado, diferencial, porcentajeVariacion, estado, nuevasObservaciones, detalles, version,
+                indicesDefinitivos, estimacionOrigenId);
     }
 
     // Getters
@@ -241,6 +387,17 @@ public final class EstimacionReajuste {
         return version;
     }
 
+    public boolean isIndicesDefinitivos() {
+        return indicesDefinitivos;
+    }
+
+    /**
+     * ID de la estimación que complementa (null si no es complementaria).
+     */
+    public EstimacionReajusteId getEstimacionOrigenId() {
+        return estimacionOrigenId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
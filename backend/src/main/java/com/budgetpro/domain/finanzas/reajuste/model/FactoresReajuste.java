@@ -0,0 +1,81 @@
+package com.budgetpro.domain.finanzas.reajuste.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Factores K de reajuste por periodo y fórmula, calculados por {@code MotorReajustePolinomico}.
+ *
+ * Los factores se guardan en milésimos (K se redondea al milésimo) en una matriz
+ * {@code [periodo][fórmula]}; las fórmulas están ordenadas por número, de modo que la
+ * posición 0 es la fórmula por defecto de las partidas sin asignar.
+ */
+public final class FactoresReajuste {
+
+    private final List<YearMonth> periodos;
+    private final List<FormulaPolinomica> formulas;
+    private final long[][] milesimos;
+    private final boolean[] indicesDefinitivos;
+    private final Map<UUID, Integer> formulaDePartida;
+
+    public FactoresReajuste(List<YearMonth> periodos, List<FormulaPolinomica> formulas, long[][] milesimos,
+            boolean[] indicesDefinitivos, Map<UUID, Integer> formulaDePartida) {
+        this.periodos = List.copyOf(periodos);
+        this.formulas = List.copyOf(formulas);
+        this.milesimos = milesimos;
+        this.indicesDefinitivos = indicesDefinitivos;
+        this.formulaDePartida = Map.copyOf(formulaDePartida);
+    }
+
+    /**
+     * Posición de un periodo evaluado.
+     *
+     * @throws IllegalArgumentException si el periodo no se evaluó
+     */
+    public int periodo(YearMonth periodo) {
+        int posicion = periodos.indexOf(periodo);
+        if (posicion < 0) {
+            throw new IllegalArgumentException("El periodo " + periodo + " no fue evaluado");
+        }
+        return posicion;
+    }
+
+    /**
+     * Posición de la fórmula asignada a una partida (la de menor número si no está asignada).
+     */
+    public int formulaDe(UUID partidaId) {
+        return formulaDePartida.getOrDefault(partidaId, 0);
+    }
+
+    /**
+     * Factor K en milésimos.
+     */
+    public long milesimos(int periodo, int formula) {
+        return milesimos[periodo][formula];
+    }
+
+    /**
+     * Factor K (3 decimales).
+     */
+    public BigDecimal factor(int periodo, int formula) {
+        return BigDecimal.valueOf(milesimos[periodo][formula], 3);
+    }
+
+    /**
+     * true si todos los índices (Ir e Io) usados en el periodo son definitivos.
+     */
+    public boolean indicesDefinitivos(int periodo) {
+        return indicesDefinitivos[periodo];
+    }
+
+    public List<YearMonth> getPeriodos() {
+        return periodos;
+    }
+
+    public List<FormulaPolinomica> getFormulas() {
+        return formulas;
+    }
+}
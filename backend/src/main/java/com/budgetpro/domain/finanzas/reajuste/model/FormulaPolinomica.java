@@ -0,0 +1,128 @@
+package com.budgetpro.domain.finanzas.reajuste.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Fórmula polinómica de reajuste de un presupuesto (D.S. 011-79-VC).
+ *
+ * {@code K = Σ a_i × Σ_j (b_ij × Ir_ij / Io_ij)}, donde Io es el índice del mes base
+ * (fecha del presupuesto base) e Ir el del mes de la valorización. Los coeficientes suman 1
+ * y la fórmula tiene como máximo 8 monomios.
+ *
+ * Un presupuesto puede tener varias fórmulas (una por subpresupuesto); cada partida se
+ * asigna a una de ellas y las no asignadas usan la fórmula de menor número.
+ */
+public final class FormulaPolinomica {
+
+    /**
+     * Máximo de monomios por fórmula.
+     */
+    public static final int MAX_MONOMIOS = 8;
+
+    private final FormulaPolinomicaId id;
+    private final UUID presupuestoId;
+    private final int numero;
+    private final LocalDate fechaBase;
+    private final List<Monomio> monomios;
+    private final Set<UUID> partidaIds;
+
+    private FormulaPolinomica(FormulaPolinomicaId id, UUID presupuestoId, int numero, LocalDate fechaBase,
+            List<Monomio> monomios, Set<UUID> partidaIds) {
+        this.id = Objects.requireNonNull(id, "El ID de la fórmula no puede ser nulo");
+        this.presupuestoId = Objects.requireNonNull(presupuestoId, "El presupuestoId no puede ser nulo");
+        this.fechaBase = Objects.requireNonNull(fechaBase, "La fecha base de la fórmula no puede ser nula");
+        if (numero <= 0) {
+            throw new IllegalArgumentException("El número de la fórmula debe ser positivo");
+        }
+        if (monomios == null || monomios.isEmpty()) {
+            throw new IllegalArgumentException("La fórmula debe tener al menos un monomio");
+        }
+        if (monomios.size() > MAX_MONOMIOS) {
+            throw new IllegalArgumentException(
+                    "La fórmula no puede tener más de " + MAX_MONOMIOS + " monomios");
+        }
+        BigDecimal sumaCoeficientes = monomios.stream().map(Monomio::coeficiente).reduce(BigDecimal.ZERO,
+                BigDecimal::add);
+        if (sumaCoeficientes.compareTo(BigDecimal.ONE) != 0) {
+            throw new IllegalArgumentException(
+                    "Los coeficientes de la fórmula deben sumar 1 (suman " + sumaCoeficientes + ")");
+        }
+        this.numero = numero;
+        this.monomios = List.copyOf(monomios);
+        this.partidaIds = partidaIds != null ? Set.copyOf(new LinkedHashSet<>(partidaIds)) : Set.of();
+    }
+
+    public static FormulaPolinomica crear(FormulaPolinomicaId id, UUID presupuestoId, int numero,
+            LocalDate fechaBase, List<Monomio> monomios, Set<UUID> partidaIds) {
+        return new FormulaPolinomica(id, presupuestoId, numero, fechaBase, monomios, partidaIds);
+    }
+
+    public static FormulaPolinomica reconstruir(FormulaPolinomicaId id, UUID presupuestoId, int numero,
+            LocalDate fechaBase, List<Monomio> monomios, Set<UUID> partidaIds) {
+        return new FormulaPolinomica(id, presupuestoId, numero, fechaBase, monomios, partidaIds);
+    }
+
+    /**
+     * Mes del índice base Io.
+     */
+    public YearMonth getMesBase() {
+        return YearMonth.from(fechaBase);
+    }
+
+    /**
+     * Códigos de índice usados por la fórmula.
+     */
+    public Set<String> codigosIndice() {
+        Set<String> codigos = new LinkedHashSet<>();
+        for (Monomio monomio : monomios) {
+            for (Monomio.Termino termino : monomio.terminos()) {
+                codigos.add(termino.codigoIndice());
+            }
+        }
+        return codigos;
+    }
+
+    public FormulaPolinomicaId getId() {
+        return id;
+    }
+
+    public UUID getPresupuestoId() {
+        return presupuestoId;
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public LocalDate getFechaBase() {
+        return fechaBase;
+    }
+
+    public List<Monomio> getMonomios() {
+        return monomios;
+    }
+
+    public Set<UUID> getPartidaIds() {
+        return partidaIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FormulaPolinomica that = (FormulaPolinomica) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
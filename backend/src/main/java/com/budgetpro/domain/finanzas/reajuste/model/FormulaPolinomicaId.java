@@ -0,0 +1,46 @@
+package com.budgetpro.domain.finanzas.reajuste.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value Object que representa el ID de una fórmula polinómica.
+ */
+public final class FormulaPolinomicaId {
+    
+    private final UUID value;
+    
+    private FormulaPolinomicaId(UUID value) {
+        this.value = Objects.requireNonNull(value, "El ID de la fórmula no puede ser nulo");
+    }
+    
+    public static FormulaPolinomicaId of(UUID value) {
+        return new FormulaPolinomicaId(value);
+    }
+    
+    public static FormulaPolinomicaId generate() {
+        return new FormulaPolinomicaId(UUID.randomUUID());
+    }
+    
+    public UUID getValue() {
+        return value;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FormulaPolinomicaId that = (FormulaPolinomicaId) o;
+        return Objects.equals(value, that.value);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+    
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
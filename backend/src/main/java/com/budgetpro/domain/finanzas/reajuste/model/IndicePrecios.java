@@ -8,6 +8,9 @@ import java.util.Objects;
  * Agregado que representa un índice de precios.
  * 
  * Catálogo mensual de índices de precios para reajustes de costos.
+ * 
+ * Los índices se publican primero como provisionales y luego como definitivos (INEI); un
+ * reajuste calculado con índices provisionales se recalcula al publicarse los definitivos.
  */
 public final class IndicePrecios {
     
@@ -19,12 +22,13 @@ public final class IndicePrecios {
     private final BigDecimal valor;
     // nosemgrep
     private boolean activo;
+    private final boolean definitivo;
     
     /**
      * Constructor privado. Usar factory methods.
      */
     private IndicePrecios(IndicePreciosId id, String codigo, String nombre, TipoIndicePrecios tipo,
-                         LocalDate fechaBase, BigDecimal valor, boolean activo) {
+                         LocalDate fechaBase, BigDecimal valor, boolean activo, boolean definitivo) {
         this.id = Objects.requireNonNull(id, "El ID del índice no puede ser nulo");
         this.codigo = Objects.requireNonNull(codigo, "El código del índice no puede ser nulo");
         this.nombre = Objects.requireNonNull(nombre, "El nombre del índice no puede ser nulo");
@@ -35,6 +39,7 @@ public final class IndicePrecios {
             throw new IllegalArgumentException("El valor del índice debe ser mayor a cero");
         }
         this.activo = activo;
+        this.definitivo = definitivo;
     }
     
     /**
@@ -42,15 +47,23 @@ public final class IndicePrecios {
      */
     public static IndicePrecios crear(IndicePreciosId id, String codigo, String nombre, TipoIndicePrecios tipo,
                                     LocalDate fechaBase, BigDecimal valor) {
-        return new IndicePrecios(id, codigo, nombre, tipo, fechaBase, valor, true);
+        return new IndicePrecios(id, codigo, nombre, tipo, fechaBase, valor, true, true);
+    }
+    
+    /**
+     * Factory method para crear un índice publicado como provisional.
+     */
+    public static IndicePrecios crearProvisional(IndicePreciosId id, String codigo, String nombre,
+                                                TipoIndicePrecios tipo, LocalDate fechaBase, BigDecimal valor) {
+        return new IndicePrecios(id, codigo, nombre, tipo, fechaBase, valor, true, false);
     }
     
     /**
      * Factory method para reconstruir desde persistencia.
      */
     public static IndicePrecios reconstruir(IndicePreciosId id, String codigo, String nombre, TipoIndicePrecios tipo,
-                                           LocalDate fechaBase, BigDecimal valor, boolean activo) {
-        return new IndicePrecios(id, codigo, nombre, tipo, fechaBase, valor, activo);
+                                           LocalDate fechaBase, BigDecimal valor, boolean activo, boolean definitivo) {
+        return new IndicePrecios(id, codigo, nombre, tipo, fechaBase, valor, activo, definitivo);
     }
     
     /**
@@ -76,6 +89,7 @@ public final class IndicePrecios {
     public LocalDate getFechaBase() { return fechaBase; }
     public BigDecimal getValor() { return valor; }
     public boolean isActivo() { return activo; }
+    public boolean isDefinitivo() { return definitivo; }
     
     @Override
     public boolean equals(Object o) {
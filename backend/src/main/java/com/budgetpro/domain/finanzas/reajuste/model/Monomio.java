@@ -0,0 +1,62 @@
+package com.budgetpro.domain.finanzas.reajuste.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Monomio de una fórmula polinómica: {@code a × Σ (b_j × Ir_j / Io_j)}.
+ *
+ * Un monomio simple tiene un único índice (peso 1); uno compuesto agrupa varios índices
+ * unificados cuyos pesos suman 1.
+ *
+ * @param coeficiente Coeficiente de incidencia {@code a} del monomio
+ * @param terminos    Índices del monomio con su peso {@code b_j}
+ */
+public record Monomio(BigDecimal coeficiente, List<Termino> terminos) {
+
+    public Monomio {
+        Objects.requireNonNull(coeficiente, "El coeficiente del monomio no puede ser nulo");
+        if (coeficiente.signum() <= 0) {
+            throw new IllegalArgumentException("El coeficiente del monomio debe ser mayor a cero");
+        }
+        if (terminos == null || terminos.isEmpty()) {
+            throw new IllegalArgumentException("El monomio debe tener al menos un índice");
+        }
+        terminos = List.copyOf(terminos);
+        BigDecimal sumaPesos = terminos.stream().map(Termino::peso).reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (sumaPesos.compareTo(BigDecimal.ONE) != 0) {
+            throw new IllegalArgumentException(
+                    "Los pesos de los índices del monomio deben sumar 1 (suman " + sumaPesos + ")");
+        }
+        if (terminos.stream().map(Termino::codigoIndice).distinct().count() != terminos.size()) {
+            throw new IllegalArgumentException("Un índice no puede repetirse dentro del monomio");
+        }
+    }
+
+    /**
+     * Monomio simple de un solo índice.
+     */
+    public static Monomio simple(BigDecimal coeficiente, String codigoIndice) {
+        return new Monomio(coeficiente, List.of(new Termino(codigoIndice, BigDecimal.ONE)));
+    }
+
+    /**
+     * Índice unificado dentro de un monomio.
+     *
+     * @param codigoIndice Código del índice (IndicePrecios.codigo)
+     * @param peso         Peso {@code b_j} del índice dentro del monomio
+     */
+    public record Termino(String codigoIndice, BigDecimal peso) {
+
+        public Termino {
+            if (codigoIndice == null || codigoIndice.isBlank()) {
+                throw new IllegalArgumentException("El código del índice no puede ser nulo o vacío");
+            }
+            Objects.requireNonNull(peso, "El peso del índice no puede ser nulo");
+            if (peso.signum() <= 0) {
+                throw new IllegalArgumentException("El peso del índice debe ser mayor a cero");
+            }
+        }
+    }
+}
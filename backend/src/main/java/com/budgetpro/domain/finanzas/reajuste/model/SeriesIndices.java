@@ -0,0 +1,150 @@
+package com.budgetpro.domain.finanzas.reajuste.model;
+
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caché en memoria de las series mensuales de índices de un rango de meses.
+ *
+ * Se construye con el resultado de una única consulta
+ * ({@code IndicePreciosRepository.buscarSeries}) y guarda los valores en una matriz
+ * {@code [índice][mes]} de primitivos, para que el motor de reajuste lea cada Ir/Io por
+ * posición sin volver a la base de datos. Los valores se guardan exactos, en millonésimos
+ * (la escala de indice_precios.valor).
+ */
+public final class SeriesIndices {
+
+    /** Decimales de los valores guardados. */
+    public static final int ESCALA = 6;
+
+    private static final long SIN_VALOR = Long.MIN_VALUE;
+
+    private final YearMonth desde;
+    private final int meses;
+    private final Map<String, Integer> columnas;
+    private final String[] codigos;
+    private final long[][] valores;
+    private final boolean[][] definitivos;
+
+    private SeriesIndices(YearMonth desde, int meses, Map<String, Integer> columnas, String[] codigos,
+            long[][] valores, boolean[][] definitivos) {
+        this.desde = desde;
+        this.meses = meses;
+        this.columnas = columnas;
+        this.codigos = codigos;
+        this.valores = valores;
+        this.definitivos = definitivos;
+    }
+
+    /**
+     * Construye la caché con los índices de los meses {@code desde..hasta} (ambos incluidos).
+     * Los índices fuera del rango se ignoran. Si un índice tiene varios valores en el mismo mes
+     * se usa el definitivo y, entre varios definitivos o varios provisionales, el de fecha más
+     * reciente.
+     */
+    public static SeriesIndices de(List<IndicePrecios> indices, YearMonth desde, YearMonth hasta) {
+        Objects.requireNonNull(indices, "La lista de índices no puede ser nula");
+        Objects.requireNonNull(desde, "El mes inicial no puede ser nulo");
+        Objects.requireNonNull(hasta, "El mes final no puede ser nulo");
+        if (hasta.isBefore(desde)) {
+            throw new IllegalArgumentException("El mes final no puede ser anterior al inicial");
+        }
+        int meses = (int) ChronoUnit.MONTHS.between(desde, hasta) + 1;
+
+        Map<String, Integer> columnas = new HashMap<>();
+        for (IndicePrecios indice : indices) {
+            columnas.putIfAbsent(indice.getCodigo(), columnas.size());
+        }
+        String[] codigos = new String[columnas.size()];
+        columnas.forEach((codigo, columna) -> codigos[columna] = codigo);
+
+        // Un valor por (índice, mes): el definitivo sobre el provisional y, a igual condición,
+        // el de fecha más reciente
+        IndicePrecios[][] elegidos = new IndicePrecios[codigos.length][meses];
+        for (IndicePrecios indice : indices) {
+            long mes = ChronoUnit.MONTHS.between(desde, YearMonth.from(indice.getFechaBase()));
+            if (mes < 0 || mes >= meses) {
+                continue;
+            }
+            int columna = columnas.get(indice.getCodigo());
+            if (prevalece(indice, elegidos[columna][(int) mes])) {
+                elegidos[columna][(int) mes] = indice;
+            }
+        }
+
+        long[][] valores = new long[codigos.length][meses];
+        boolean[][] definitivos = new boolean[codigos.length][meses];
+        for (int columna = 0; columna < codigos.length; columna++) {
+            for (int mes = 0; mes < meses; mes++) {
+                IndicePrecios indice = elegidos[columna][mes];
+                if (indice == null) {
+                    valores[columna][mes] = SIN_VALOR;
+                    continue;
+                }
+                valores[columna][mes] = indice.getValor().setScale(ESCALA, RoundingMode.HALF_UP).unscaledValue()
+                        .longValueExact();
+                definitivos[columna][mes] = indice.isDefinitivo();
+            }
+        }
+        return new SeriesIndices(desde, meses, columnas, codigos, valores, definitivos);
+    }
+
+    private static boolean prevalece(IndicePrecios candidato, IndicePrecios actual) {
+        if (actual == null) {
+            return true;
+        }
+        if (candidato.isDefinitivo() != actual.isDefinitivo()) {
+            return candidato.isDefinitivo();
+        }
+        return candidato.getFechaBase().isAfter(actual.getFechaBase());
+    }
+
+    /**
+     * Columna de la serie de un código de índice.
+     *
+     * @throws IllegalArgumentException si no se cargó ningún valor del índice
+     */
+    public int columna(String codigo) {
+        Integer columna = columnas.get(codigo);
+        if (columna == null) {
+            throw new IllegalArgumentException("No hay valores publicados del índice " + codigo);
+        }
+        return columna;
+    }
+
+    /**
+     * Posición de un mes dentro del rango cargado.
+     *
+     * @throws IllegalArgumentException si el mes está fuera del rango
+     */
+    public int mes(YearMonth mes) {
+        long posicion = ChronoUnit.MONTHS.between(desde, mes);
+        if (posicion < 0 || posicion >= meses) {
+            throw new IllegalArgumentException("El mes " + mes + " está fuera de las series cargadas");
+        }
+        return (int) posicion;
+    }
+
+    /**
+     * Valor del índice en la posición dada, en millonésimos ({@link #ESCALA} decimales).
+     *
+     * @throws IllegalArgumentException si el índice no está publicado para ese mes
+     */
+    public long valor(int columna, int mes) {
+        long valor = valores[columna][mes];
+        if (valor == SIN_VALOR) {
+            throw new IllegalArgumentException(String.format("Índice %s no publicado para %s", codigos[columna],
+                    desde.plusMonths(mes)));
+        }
+        return valor;
+    }
+
+    public boolean esDefinitivo(int columna, int mes) {
+        return definitivos[columna][mes];
+    }
+}
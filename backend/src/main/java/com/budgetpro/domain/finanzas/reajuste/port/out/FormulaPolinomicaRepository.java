@@ -0,0 +1,22 @@
+package com.budgetpro.domain.finanzas.reajuste.port.out;
+
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para persistencia de fórmulas polinómicas.
+ */
+public interface FormulaPolinomicaRepository {
+
+    /**
+     * Reemplaza las fórmulas del presupuesto (con sus monomios y partidas asignadas).
+     */
+    void reemplazar(UUID presupuestoId, List<FormulaPolinomica> formulas);
+
+    /**
+     * Busca las fórmulas de un presupuesto ordenadas por número.
+     */
+    List<FormulaPolinomica> buscarPorPresupuestoId(UUID presupuestoId);
+}
@@ -4,6 +4,7 @@ import com.budgetpro.domain.finanzas.reajuste.model.IndicePrecios;
 import com.budgetpro.domain.finanzas.reajuste.model.IndicePreciosId;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +39,10 @@ public interface IndicePreciosRepository {
      * Busca todos los índices activos de un código dado.
      */
     List<IndicePrecios> buscarActivosPorCodigo(String codigo);
+    
+    /**
+     * Carga en una sola consulta los índices activos de los códigos dados con fecha base entre
+     * {@code desde} y {@code hasta} (ambas incluidas).
+     */
+    List<IndicePrecios> buscarSeries(Collection<String> codigos, LocalDate desde, LocalDate hasta);
 }
@@ -0,0 +1,176 @@
+package com.budgetpro.domain.finanzas.reajuste.service;
+
+import com.budgetpro.domain.finanzas.reajuste.model.FactoresReajuste;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.Monomio;
+import com.budgetpro.domain.finanzas.reajuste.model.SeriesIndices;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Motor de reajuste por fórmula polinómica con varios monomios e índices.
+ *
+ * {@code K = Σ a_i × Σ_j (b_ij × Ir_ij / Io_ij)}, redondeado al milésimo, y
+ * {@code Pr = Po × K} por partida.
+ *
+ * Las fórmulas se compilan a arreglos planos de términos (fórmula, columna de la serie y
+ * coeficiente entero con {@code a_i × b_ij / Io_ij}); cada periodo se evalúa con una pasada
+ * sobre esos arreglos contra la caché {@link SeriesIndices}. K se calcula como fracción exacta
+ * antes de redondearlo al milésimo, y los montos de las partidas se reajustan en aritmética
+ * entera (diezmilésimos × milésimos) sobre arreglos de primitivos.
+ *
+ * No persiste, solo calcula.
+ */
+public class MotorReajustePolinomico {
+
+    private static final BigInteger DOS_MIL = BigInteger.valueOf(2000);
+
+    /**
+     * Calcula K de cada fórmula para cada periodo.
+     *
+     * @param formulas Fórmulas del presupuesto (al menos una)
+     * @param series   Series con los meses base de las fórmulas y los periodos
+     * @param periodos Meses de valorización a evaluar
+     * @throws IllegalArgumentException si falta un índice o una partida está en dos fórmulas
+     */
+    public FactoresReajuste calcularFactores(List<FormulaPolinomica> formulas, SeriesIndices series,
+            List<YearMonth> periodos) {
+        Objects.requireNonNull(series, "Las series de índices no pueden ser nulas");
+        Objects.requireNonNull(periodos, "La lista de periodos no puede ser nula");
+        if (formulas == null || formulas.isEmpty()) {
+            throw new IllegalArgumentException("El presupuesto no tiene fórmula polinómica");
+        }
+        List<FormulaPolinomica> ordenadas = formulas.stream()
+                .sorted(Comparator.comparingInt(FormulaPolinomica::getNumero)).toList();
+
+        int terminos = 0;
+        int escala = 0;
+        for (FormulaPolinomica formula : ordenadas) {
+            for (Monomio monomio : formula.getMonomios()) {
+                terminos += monomio.terminos().size();
+                for (Monomio.Termino termino : monomio.terminos()) {
+                    escala = Math.max(escala, monomio.coeficiente().multiply(termino.peso()).scale());
+                }
+            }
+        }
+
+        // K_f = Σ peso_i × Ir_i / Io_i, con peso_i = a × b entero a la escala común y Ir/Io en
+        // millonésimos. Con D_f = producto de los Io distintos de la fórmula, cada término queda
+        // como coeficiente_i × Ir_i / (10^escala × D_f), con coeficiente_i = peso_i × D_f / Io_i
+        // entero: K se evalúa como fracción exacta y se redondea al milésimo sin error previo.
+        int[] formulaDeTermino = new int[terminos];
+        int[] columna = new int[terminos];
+        BigInteger[] coeficiente = new BigInteger[terminos];
+        BigInteger[] denominador = new BigInteger[ordenadas.size()];
+        long[] indiceBase = new long[terminos];
+        boolean basesDefinitivas = true;
+
+        Map<UUID, Integer> formulaDePartida = new HashMap<>();
+        int t = 0;
+        for (int f = 0; f < ordenadas.size(); f++) {
+            FormulaPolinomica formula = ordenadas.get(f);
+            int mesBase = series.mes(formula.getMesBase());
+            int primero = t;
+            Set<Long> basesDistintas = new LinkedHashSet<>();
+            for (Monomio monomio : formula.getMonomios()) {
+                for (Monomio.Termino termino : monomio.terminos()) {
+                    formulaDeTermino[t] = f;
+                    columna[t] = series.columna(termino.codigoIndice());
+                    coeficiente[t] = monomio.coeficiente().multiply(termino.peso()).setScale(escala).unscaledValue();
+                    indiceBase[t] = series.valor(columna[t], mesBase);
+                    basesDistintas.add(indiceBase[t]);
+                    basesDefinitivas &= series.esDefinitivo(columna[t], mesBase);
+                    t++;
+                }
+            }
+            BigInteger productoBases = BigInteger.ONE;
+            for (long base : basesDistintas) {
+                productoBases = productoBases.multiply(BigInteger.valueOf(base));
+            }
+            for (int i = primero; i < t; i++) {
+                coeficiente[i] = coeficiente[i].multiply(productoBases).divide(BigInteger.valueOf(indiceBase[i]));
+            }
+            denominador[f] = productoBases.multiply(BigInteger.TEN.pow(escala));
+
+            for (UUID partidaId : formula.getPartidaIds()) {
+                Integer anterior = formulaDePartida.put(partidaId, f);
+                if (anterior != null) {
+                    throw new IllegalArgumentException("La partida " + partidaId + " está asignada a las fórmulas "
+                            + ordenadas.get(anterior).getNumero() + " y " + formula.getNumero());
+                }
+            }
+        }
+
+        long[][] milesimos = new long[periodos.size()][ordenadas.size()];
+        boolean[] definitivos = new boolean[periodos.size()];
+        BigInteger[] numerador = new BigInteger[ordenadas.size()];
+        for (int r = 0; r < periodos.size(); r++) {
+            int mes = series.mes(periodos.get(r));
+            boolean definitivo = basesDefinitivas;
+            Arrays.fill(numerador, BigInteger.ZERO);
+            for (int i = 0; i < terminos; i++) {
+                numerador[formulaDeTermino[i]] = numerador[formulaDeTermino[i]]
+                        .add(coeficiente[i].multiply(BigInteger.valueOf(series.valor(columna[i], mes))));
+                definitivo &= series.esDefinitivo(columna[i], mes);
+            }
+            for (int f = 0; f < numerador.length; f++) {
+                // round(1000 × N / D) HALF_UP = floor((2000 × N + D) / 2D), con N y D positivos
+                milesimos[r][f] = numerador[f].multiply(DOS_MIL).add(denominador[f])
+                        .divide(denominador[f].shiftLeft(1)).longValueExact();
+            }
+            definitivos[r] = definitivo;
+        }
+        return new FactoresReajuste(periodos, ordenadas, milesimos, definitivos, formulaDePartida);
+    }
+
+    /**
+     * Reajusta los montos base de las partidas con el K de su fórmula en el periodo dado.
+     *
+     * @param factores   Factores calculados con {@link #calcularFactores}
+     * @param periodo    Posición del periodo en {@code factores}
+     * @param partidaIds Partidas, en el mismo orden que {@code montosBase}
+     * @param montosBase Montos base (Po) mayores o iguales a cero
+     * @return Montos reajustados (Pr) con 4 decimales, en el mismo orden
+     */
+    public BigDecimal[] reajustarMontos(FactoresReajuste factores, int periodo, List<UUID> partidaIds,
+            List<BigDecimal> montosBase) {
+        if (partidaIds.size() != montosBase.size()) {
+            throw new IllegalArgumentException("Debe haber un monto base por partida");
+        }
+        int n = partidaIds.size();
+        long[] base = new long[n];
+        long[] k = new long[n];
+        for (int i = 0; i < n; i++) {
+            BigDecimal monto = montosBase.get(i);
+            if (monto == null || monto.signum() < 0) {
+                throw new IllegalArgumentException("El precio original debe ser mayor o igual a cero");
+            }
+            base[i] = monto.setScale(4, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            k[i] = factores.milesimos(periodo, factores.formulaDe(partidaIds.get(i)));
+        }
+
+        // diezmilésimos × milésimos -> diezmilésimos, redondeo HALF_UP
+        long[] reajustado = new long[n];
+        for (int i = 0; i < n; i++) {
+            reajustado[i] = (Math.multiplyExact(base[i], k[i]) + 500) / 1000;
+        }
+
+        BigDecimal[] montos = new BigDecimal[n];
+        for (int i = 0; i < n; i++) {
+            montos[i] = BigDecimal.valueOf(reajustado[i], 4);
+        }
+        return montos;
+    }
+}
@@ -0,0 +1,83 @@
+package com.budgetpro.domain.logistica.almacen.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value Object que representa un saldo de cierre del Kárdex (checkpoint).
+ *
+ * Guarda el saldo de cantidad, valor y CPP de un recurso en un almacén al cierre
+ * de una fecha de corte (fin de mes). Permite responder consultas a una fecha
+ * reproduciendo solo los movimientos posteriores al checkpoint.
+ */
+public final class KardexCheckpoint {
+
+    private final UUID id;
+    private final UUID almacenId;
+    private final UUID recursoId;
+    private final LocalDate fechaCorte;
+    private final BigDecimal saldoCantidad;
+    private final BigDecimal saldoValor;
+    private final BigDecimal costoPromedioPonderado;
+
+    private KardexCheckpoint(UUID id, UUID almacenId, UUID recursoId, LocalDate fechaCorte,
+                             BigDecimal saldoCantidad, BigDecimal saldoValor,
+                             BigDecimal costoPromedioPonderado) {
+        this.id = Objects.requireNonNull(id, "El ID del checkpoint no puede ser nulo");
+        this.almacenId = Objects.requireNonNull(almacenId, "El ID del almacén no puede ser nulo");
+        this.recursoId = Objects.requireNonNull(recursoId, "El ID del recurso no puede ser nulo");
+        this.fechaCorte = Objects.requireNonNull(fechaCorte, "La fecha de corte no puede ser nula");
+        this.saldoCantidad = Objects.requireNonNull(saldoCantidad, "El saldo de cantidad no puede ser nulo");
+        this.saldoValor = Objects.requireNonNull(saldoValor, "El saldo de valor no puede ser nulo");
+        this.costoPromedioPonderado = Objects.requireNonNull(costoPromedioPonderado, "El CPP no puede ser nulo");
+    }
+
+    /**
+     * Factory method para crear un checkpoint a partir de un saldo calculado.
+     */
+    public static KardexCheckpoint crear(UUID almacenId, LocalDate fechaCorte, SaldoKardex saldo) {
+        Objects.requireNonNull(saldo, "El saldo no puede ser nulo");
+        return new KardexCheckpoint(UUID.randomUUID(), almacenId, saldo.recursoId(), fechaCorte,
+                saldo.saldoCantidad(), saldo.saldoValor(), saldo.costoPromedioPonderado());
+    }
+
+    /**
+     * Factory method para reconstruir un checkpoint desde persistencia.
+     */
+    public static KardexCheckpoint reconstruir(UUID id, UUID almacenId, UUID recursoId, LocalDate fechaCorte,
+                                               BigDecimal saldoCantidad, BigDecimal saldoValor,
+                                               BigDecimal costoPromedioPonderado) {
+        return new KardexCheckpoint(id, almacenId, recursoId, fechaCorte, saldoCantidad, saldoValor,
+                costoPromedioPonderado);
+    }
+
+    /**
+     * Saldo representado por este checkpoint.
+     */
+    public SaldoKardex toSaldo() {
+        return new SaldoKardex(recursoId, saldoCantidad, saldoValor, costoPromedioPonderado);
+    }
+
+    public UUID getId() { return id; }
+    public UUID getAlmacenId() { return almacenId; }
+    public UUID getRecursoId() { return recursoId; }
+    public LocalDate getFechaCorte() { return fechaCorte; }
+    public BigDecimal getSaldoCantidad() { return saldoCantidad; }
+    public BigDecimal getSaldoValor() { return saldoValor; }
+    public BigDecimal getCostoPromedioPonderado() { return costoPromedioPonderado; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KardexCheckpoint that = (KardexCheckpoint) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -54,11 +54,22 @@ public final class RegistroKardex {
                                              BigDecimal cantidad, BigDecimal precioUnitario,
                                              BigDecimal importeTotal, BigDecimal saldoCantidad,
                                              BigDecimal saldoValor, BigDecimal costoPromedioPonderado) {
+        return crearEntrada(almacenId, recursoId, LocalDate.now(), movimientoId, cantidad, precioUnitario,
+                importeTotal, saldoCantidad, saldoValor, costoPromedioPonderado);
+    }
+    
+    /**
+     * Factory method para crear un registro de entrada con fecha de movimiento explícita.
+     */
+    public static RegistroKardex crearEntrada(UUID almacenId, UUID recursoId, LocalDate fechaMovimiento,
+                                             UUID movimientoId, BigDecimal cantidad, BigDecimal precioUnitario,
+                                             BigDecimal importeTotal, BigDecimal saldoCantidad,
+                                             BigDecimal saldoValor, BigDecimal costoPromedioPonderado) {
         return new RegistroKardex(
             UUID.randomUUID(),
             almacenId,
             recursoId,
-            LocalDate.now(),
+            fechaMovimiento,
             movimientoId,
             TipoMovimientoAlmacen.ENTRADA,
             cantidad,
@@ -77,11 +88,22 @@ public final class RegistroKardex {
                                             BigDecimal cantidad, BigDecimal valorSalida,
                                             BigDecimal saldoCantidad, BigDecimal saldoValor,
                                             BigDecimal costoPromedioPonderado) {
+        return crearSalida(almacenId, recursoId, LocalDate.now(), movimientoId, cantidad, valorSalida,
+                saldoCantidad, saldoValor, costoPromedioPonderado);
+    }
+    
+    /**
+     * Factory method para crear un registro de salida con fecha de movimiento explícita.
+     */
+    public static RegistroKardex crearSalida(UUID almacenId, UUID recursoId, LocalDate fechaMovimiento,
+                                            UUID movimientoId, BigDecimal cantidad, BigDecimal valorSalida,
+                                            BigDecimal saldoCantidad, BigDecimal saldoValor,
+                                            BigDecimal costoPromedioPonderado) {
         return new RegistroKardex(
             UUID.randomUUID(),
             almacenId,
             recursoId,
-            LocalDate.now(),
+            fechaMovimiento,
             movimientoId,
             TipoMovimientoAlmacen.SALIDA,
             BigDecimal.ZERO,
@@ -93,8 +115,65 @@ public final class RegistroKardex {
         );
     }
     
-    // Getters
+    /**
+     * Factory method para reconstruir un registro desde persistencia.
+     *
+     * Preserva el ID y la fecha de movimiento almacenados (necesarios para
+     * reproducir el Kárdex en orden cronológico).
+     */
+    public static RegistroKardex reconstruir(UUID id, UUID almacenId, UUID recursoId, LocalDate fechaMovimiento,
+                                            UUID movimientoId, TipoMovimientoAlmacen tipoMovimiento,
+                                            BigDecimal cantidadEntrada, BigDecimal cantidadSalida,
+                                            BigDecimal precioUnitario, BigDecimal saldoCantidad,
+                                            BigDecimal saldoValor, BigDecimal costoPromedioPonderado) {
+        return new RegistroKardex(
+            id,
+            almacenId,
+            recursoId,
+            fechaMovimiento,
+            movimientoId,
+            tipoMovimiento,
+            cantidadEntrada,
+            cantidadSalida,
+            precioUnitario,
+            saldoCantidad,
+            saldoValor,
+            costoPromedioPonderado
+        );
+    }
+
+    /**
+     * Devuelve una copia del registro (mismo ID y movimiento) con precio y saldos recalculados.
+     * 
+     * Usado al recostear el Kárdex cuando se registra un movimiento con fecha anterior.
+     */
+    public RegistroKardex conSaldos(BigDecimal nuevoPrecioUnitario, BigDecimal nuevoSaldoCantidad,
+                                    BigDecimal nuevoSaldoValor, BigDecimal nuevoCostoPromedioPonderado) {
+        return new RegistroKardex(
+            id,
+            almacenId,
+            recursoId,
+            fechaMovimiento,
+            movimientoId,
+            tipoMovimiento,
+            cantidadEntrada,
+            cantidadSalida,
+            nuevoPrecioUnitario,
+            nuevoSaldoCantidad,
+            nuevoSaldoValor,
+            nuevoCostoPromedioPonderado
+        );
+    }
+    
+    /**
+     * Indica si el registro es una entrada de stock.
+     */
+    public boolean esEntrada() {
+        return cantidadEntrada.compareTo(BigDecimal.ZERO) > 0;
+    }
     
+    // Getters
+
     public UUID getId() { return id; }
     public UUID getAlmacenId() { return almacenId; }
     public UUID getRecursoId() { return recursoId; }
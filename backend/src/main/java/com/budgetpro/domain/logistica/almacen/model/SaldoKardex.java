@@ -0,0 +1,34 @@
+package com.budgetpro.domain.logistica.almacen.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Saldo de un recurso en un almacén a una fecha dada (cantidad, valor y CPP).
+ */
+public record SaldoKardex(UUID recursoId, BigDecimal saldoCantidad, BigDecimal saldoValor,
+                          BigDecimal costoPromedioPonderado) {
+
+    public SaldoKardex {
+        Objects.requireNonNull(recursoId, "El ID del recurso no puede ser nulo");
+        Objects.requireNonNull(saldoCantidad, "El saldo de cantidad no puede ser nulo");
+        Objects.requireNonNull(saldoValor, "El saldo de valor no puede ser nulo");
+        Objects.requireNonNull(costoPromedioPonderado, "El CPP no puede ser nulo");
+    }
+
+    /**
+     * Saldo resultante de un registro de Kárdex.
+     */
+    public static SaldoKardex desde(RegistroKardex registro) {
+        return new SaldoKardex(registro.getRecursoId(), registro.getSaldoCantidad(), registro.getSaldoValor(),
+                registro.getCostoPromedioPonderado());
+    }
+
+    /**
+     * Indica si el saldo está agotado (sin cantidad ni valor).
+     */
+    public boolean estaVacio() {
+        return saldoCantidad.signum() == 0 && saldoValor.signum() == 0;
+    }
+}
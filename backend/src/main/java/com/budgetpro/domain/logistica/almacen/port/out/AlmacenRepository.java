@@ -3,6 +3,7 @@ package com.budgetpro.domain.logistica.almacen.port.out;
 import com.budgetpro.domain.logistica.almacen.model.Almacen;
 import com.budgetpro.domain.logistica.almacen.model.AlmacenId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,8 +23,18 @@ public interface AlmacenRepository {
      */
     Optional<Almacen> buscarPorId(AlmacenId id);
     
+    /**
+     * Busca en una sola consulta los almacenes con los IDs dados (los inexistentes se omiten).
+     */
+    List<Almacen> buscarPorIds(Collection<AlmacenId> ids);
+    
     /**
      * Busca todos los almacenes activos de un proyecto.
      */
     List<Almacen> buscarActivosPorProyectoId(UUID proyectoId);
+    
+    /**
+     * Busca todos los almacenes activos.
+     */
+    List<Almacen> buscarActivos();
 }
@@ -0,0 +1,54 @@
+package com.budgetpro.domain.logistica.almacen.port.out;
+
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para persistencia de checkpoints (saldos de cierre) del Kárdex.
+ */
+public interface KardexCheckpointRepository {
+
+    /**
+     * Guarda en bloque los checkpoints de una fecha de corte.
+     */
+    void guardarTodos(List<KardexCheckpoint> checkpoints);
+
+    /**
+     * Busca la fecha de corte más reciente de un almacén que no supere la fecha dada.
+     */
+    Optional<LocalDate> buscarUltimaFechaCorte(UUID almacenId, LocalDate fechaHasta);
+
+    /**
+     * Busca la fecha de corte más reciente de un almacén.
+     */
+    Optional<LocalDate> buscarUltimaFechaCorte(UUID almacenId);
+
+    /**
+     * Busca los checkpoints de un almacén en una fecha de corte.
+     */
+    List<KardexCheckpoint> buscarPorAlmacenIdYFechaCorte(UUID almacenId, LocalDate fechaCorte);
+
+    /**
+     * Fechas de corte de un almacén iguales o posteriores a la fecha dada, en orden ascendente.
+     */
+    List<LocalDate> buscarFechasCorteDesde(UUID almacenId, LocalDate fechaDesde);
+
+    /**
+     * Bloquea (hasta el fin de la transacción) la generación de cierres de un almacén.
+     *
+     * La generación de cierres faltantes debe tomar este lock antes de leer el último cierre,
+     * para que dos generaciones concurrentes (scheduler y consulta) no dupliquen meses.
+     */
+    void bloquearCierresPorAlmacenId(UUID almacenId);
+
+    /**
+     * Elimina los checkpoints de un almacén y recurso con fecha de corte igual o posterior a la dada.
+     * 
+     * Se usa cuando un recosteo invalida los saldos de cierre de ese recurso a partir de esa fecha.
+     */
+    void eliminarDesde(UUID almacenId, UUID recursoId, LocalDate fechaDesde);
+}
@@ -17,6 +17,11 @@ public interface MovimientoAlmacenRepository {
      */
     void guardar(MovimientoAlmacen movimiento);
     
+    /**
+     * Guarda movimientos nuevos en lote (inserciones agrupadas, sin lectura previa por ID).
+     */
+    void guardarTodos(List<MovimientoAlmacen> movimientos);
+    
     /**
      * Busca un movimiento por ID.
      */
@@ -2,9 +2,13 @@ package com.budgetpro.domain.logistica.almacen.port.out;
 
 import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida para persistencia de registros de Kárdex.
@@ -16,13 +20,73 @@ public interface RegistroKardexRepository {
      */
     void guardar(RegistroKardex registro);
     
+    /**
+     * Guarda registros nuevos en lote (inserciones agrupadas).
+     */
+    void guardarTodos(List<RegistroKardex> registros);
+    
     /**
      * Busca el último registro de Kárdex para un almacén y recurso.
      */
     Optional<RegistroKardex> buscarUltimoPorAlmacenIdYRecursoId(UUID almacenId, UUID recursoId);
     
+    /**
+     * Busca en una sola consulta el último registro de Kárdex de cada recurso en un almacén.
+     * 
+     * @return Mapa recursoId -> último registro (los recursos sin movimientos no aparecen)
+     */
+    Map<UUID, RegistroKardex> buscarUltimosPorAlmacenIdYRecursoIds(UUID almacenId, Collection<UUID> recursoIds);
+    
     /**
      * Busca todos los registros de Kárdex de un almacén y recurso ordenados por fecha.
      */
     List<RegistroKardex> buscarPorAlmacenIdYRecursoId(UUID almacenId, UUID recursoId);
+    
+    /**
+     * Busca los registros de Kárdex de un almacén en un rango de fechas, en orden cronológico.
+     * 
+     * @param almacenId ID del almacén
+     * @param fechaDesdeExclusiva Fecha a partir de la cual (sin incluirla) se buscan registros; null = desde el inicio
+     * @param fechaHasta Fecha hasta la cual (incluida) se buscan registros
+     */
+    List<RegistroKardex> buscarPorAlmacenIdEntreFechas(UUID almacenId, LocalDate fechaDesdeExclusiva, LocalDate fechaHasta);
+    
+    /**
+     * Busca la fecha del primer registro de Kárdex de un almacén.
+     */
+    Optional<LocalDate> buscarPrimeraFechaMovimiento(UUID almacenId);
+    
+    /**
+     * Bloquea (hasta el fin de la transacción) el Kárdex de un almacén y recurso.
+     * 
+     * Toda escritura de Kárdex (registro normal o recosteo) debe tomar este lock antes
+     * de leer el último saldo, para serializar escrituras concurrentes sobre la misma clave.
+     */
+    void bloquearPorAlmacenIdYRecursoId(UUID almacenId, UUID recursoId);
+    
+    /**
+     * Bloquea en una sola sentencia el Kárdex de varios recursos de un almacén.
+     * 
+     * Equivale a {@link #bloquearPorAlmacenIdYRecursoId} para cada recurso, tomados en
+     * un orden fijo para que dos escrituras en lote no se bloqueen mutuamente.
+     */
+    void bloquearPorAlmacenIdYRecursoIds(UUID almacenId, Collection<UUID> recursoIds);
+    
+    /**
+     * Busca el último registro de Kárdex con fecha de movimiento estrictamente anterior a la fecha dada.
+     */
+    Optional<RegistroKardex> buscarUltimoAntesDe(UUID almacenId, UUID recursoId, LocalDate fecha);
+    
+    /**
+     * Recorre en orden cronológico los registros con fecha de movimiento igual o posterior a la dada.
+     * 
+     * El stream usa un único cursor sobre la BD y debe cerrarse (try-with-resources)
+     * dentro de la transacción activa.
+     */
+    Stream<RegistroKardex> recorrerDesde(UUID almacenId, UUID recursoId, LocalDate fechaDesde);
+    
+    /**
+     * Actualiza en lote precio unitario, saldos y CPP de registros existentes.
+     */
+    void actualizarSaldos(List<RegistroKardex> registros);
 }
@@ -5,6 +5,7 @@ import com.budgetpro.domain.logistica.almacen.model.TipoMovimientoAlmacen;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
@@ -47,6 +48,25 @@ public class GestionKardexService {
             UUID movimientoId,
             BigDecimal saldoCantidadAnterior,
             BigDecimal saldoValorAnterior) {
+        return procesarEntrada(almacenId, recursoId, LocalDate.now(), cantidad, precioUnitario, movimientoId,
+                saldoCantidadAnterior, saldoValorAnterior);
+    }
+
+    /**
+     * Procesa una entrada de material con fecha de movimiento explícita.
+     * 
+     * @param fechaMovimiento Fecha del movimiento (puede ser anterior a hoy, p. ej. guía registrada tarde)
+     * @see #procesarEntrada(UUID, UUID, BigDecimal, BigDecimal, UUID, BigDecimal, BigDecimal)
+     */
+    public RegistroKardex procesarEntrada(
+            UUID almacenId,
+            UUID recursoId,
+            LocalDate fechaMovimiento,
+            BigDecimal cantidad,
+            BigDecimal precioUnitario,
+            UUID movimientoId,
+            BigDecimal saldoCantidadAnterior,
+            BigDecimal saldoValorAnterior) {
         
         if (cantidad == null || cantidad.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("La cantidad de entrada debe ser mayor a cero");
@@ -70,6 +90,7 @@ public class GestionKardexService {
         return RegistroKardex.crearEntrada(
             almacenId,
             recursoId,
+            fechaMovimiento,
             movimientoId,
             cantidad,
             precioUnitario,
@@ -100,6 +121,25 @@ public class GestionKardexService {
             BigDecimal saldoCantidadAnterior,
             BigDecimal saldoValorAnterior,
             BigDecimal costoPromedioPonderado) {
+        return procesarSalida(almacenId, recursoId, LocalDate.now(), cantidad, movimientoId,
+                saldoCantidadAnterior, saldoValorAnterior, costoPromedioPonderado);
+    }
+
+    /**
+     * Procesa una salida de material con fecha de movimiento explícita.
+     * 
+     * @param fechaMovimiento Fecha del movimiento
+     * @see #procesarSalida(UUID, UUID, BigDecimal, UUID, BigDecimal, BigDecimal, BigDecimal)
+     */
+    public RegistroKardex procesarSalida(
+            UUID almacenId,
+            UUID recursoId,
+            LocalDate fechaMovimiento,
+            BigDecimal cantidad,
+            UUID movimientoId,
+            BigDecimal saldoCantidadAnterior,
+            BigDecimal saldoValorAnterior,
+            BigDecimal costoPromedioPonderado) {
         
         if (cantidad == null || cantidad.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("La cantidad de salida debe ser mayor a cero");
@@ -127,6 +167,7 @@ public class GestionKardexService {
         return RegistroKardex.crearSalida(
             almacenId,
             recursoId,
+            fechaMovimiento,
             movimientoId,
             cantidad,
             valorSalida,
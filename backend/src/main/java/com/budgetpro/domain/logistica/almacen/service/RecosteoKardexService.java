@@ -0,0 +1,139 @@
+package com.budgetpro.domain.logistica.almacen.service;
+
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Servicio de Dominio para recostear el Kárdex de un almacén/recurso.
+ *
+ * Cuando se registra un movimiento con fecha anterior a otros ya registrados
+ * (p. ej. una guía de remisión ingresada días después), los saldos y el CPP de
+ * todos los registros posteriores quedan desactualizados. Este servicio recorre
+ * esos registros en orden cronológico, recalcula saldo_cantidad, saldo_valor y CPP
+ * con la misma lógica de {@link GestionKardexService} y entrega en lotes solo los
+ * registros que cambiaron.
+ *
+ * No persiste, solo calcula.
+ */
+public class RecosteoKardexService {
+
+    /** Escalas de las columnas del Kárdex (saldo_cantidad, saldo_valor, CPP y precio). */
+    private static final int ESCALA_CANTIDAD = 6;
+    private static final int ESCALA_VALOR = 4;
+
+    private final GestionKardexService gestionKardexService;
+
+    public RecosteoKardexService(GestionKardexService gestionKardexService) {
+        this.gestionKardexService = Objects.requireNonNull(gestionKardexService,
+                "El servicio de gestión de Kárdex no puede ser nulo");
+    }
+
+    /**
+     * Resultado de un recosteo.
+     *
+     * @param registrosRecorridos Registros leídos del cursor
+     * @param registrosActualizados Registros cuyo saldo o CPP cambió
+     * @param saldoFinal Saldo tras el último registro recorrido
+     */
+    public record ResultadoRecosteo(int registrosRecorridos, int registrosActualizados, SaldoKardex saldoFinal) {
+    }
+
+    /**
+     * Recalcula los registros a partir de un saldo inicial.
+     *
+     * @param saldoInicial Saldo inmediatamente anterior al primer registro afectado
+     * @param registros Registros afectados en orden cronológico (un único almacén/recurso)
+     * @param tamanoLote Número de registros modificados por lote
+     * @param actualizarLote Receptor de cada lote de registros modificados
+     * @return Resumen del recosteo
+     * @throws IllegalStateException si algún registro de salida queda sin stock suficiente
+     */
+    public ResultadoRecosteo recostear(SaldoKardex saldoInicial, Iterator<RegistroKardex> registros,
+                                       int tamanoLote, Consumer<List<RegistroKardex>> actualizarLote) {
+        Objects.requireNonNull(saldoInicial, "El saldo inicial no puede ser nulo");
+        Objects.requireNonNull(registros, "Los registros no pueden ser nulos");
+        Objects.requireNonNull(actualizarLote, "El receptor de lotes no puede ser nulo");
+        if (tamanoLote <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor a cero");
+        }
+
+        SaldoKardex saldo = saldoInicial;
+        List<RegistroKardex> lote = new ArrayList<>(tamanoLote);
+        int recorridos = 0;
+        int actualizados = 0;
+
+        while (registros.hasNext()) {
+            RegistroKardex actual = registros.next();
+            if (!actual.getRecursoId().equals(saldoInicial.recursoId())) {
+                throw new IllegalArgumentException(
+                    "El registro " + actual.getId() + " no pertenece al recurso " + saldoInicial.recursoId());
+            }
+            recorridos++;
+
+            RegistroKardex recalculado = recalcular(actual, saldo);
+            saldo = SaldoKardex.desde(recalculado);
+
+            if (cambio(actual, recalculado)) {
+                lote.add(recalculado);
+                actualizados++;
+                if (lote.size() == tamanoLote) {
+                    actualizarLote.accept(List.copyOf(lote));
+                    lote.clear();
+                }
+            }
+        }
+        if (!lote.isEmpty()) {
+            actualizarLote.accept(List.copyOf(lote));
+        }
+        return new ResultadoRecosteo(recorridos, actualizados, saldo);
+    }
+
+    /**
+     * Recalcula un registro sobre el saldo anterior, normalizado a las escalas persistidas
+     * para que el resultado coincida con el de un registro en orden.
+     */
+    private RegistroKardex recalcular(RegistroKardex registro, SaldoKardex anterior) {
+        RegistroKardex calculado;
+        if (registro.esEntrada()) {
+            calculado = gestionKardexService.procesarEntrada(
+                registro.getAlmacenId(),
+                registro.getRecursoId(),
+                registro.getFechaMovimiento(),
+                registro.getCantidadEntrada(),
+                registro.getPrecioUnitario(),
+                registro.getMovimientoId(),
+                anterior.saldoCantidad(),
+                anterior.saldoValor());
+        } else {
+            calculado = gestionKardexService.procesarSalida(
+                registro.getAlmacenId(),
+                registro.getRecursoId(),
+                registro.getFechaMovimiento(),
+                registro.getCantidadSalida(),
+                registro.getMovimientoId(),
+                anterior.saldoCantidad(),
+                anterior.saldoValor(),
+                anterior.costoPromedioPonderado());
+        }
+        return registro.conSaldos(
+            calculado.getPrecioUnitario().setScale(ESCALA_VALOR, RoundingMode.HALF_UP),
+            calculado.getSaldoCantidad().setScale(ESCALA_CANTIDAD, RoundingMode.HALF_UP),
+            calculado.getSaldoValor().setScale(ESCALA_VALOR, RoundingMode.HALF_UP),
+            calculado.getCostoPromedioPonderado().setScale(ESCALA_VALOR, RoundingMode.HALF_UP));
+    }
+
+    private boolean cambio(RegistroKardex original, RegistroKardex recalculado) {
+        return original.getSaldoCantidad().compareTo(recalculado.getSaldoCantidad()) != 0
+            || original.getSaldoValor().compareTo(recalculado.getSaldoValor()) != 0
+            || original.getCostoPromedioPonderado().compareTo(recalculado.getCostoPromedioPonderado()) != 0
+            || original.getPrecioUnitario().compareTo(recalculado.getPrecioUnitario()) != 0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.budgetpro.domain.logistica.almacen.service;
+
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Servicio de Dominio para reconstruir saldos del Kárdex a una fecha.
+ *
+ * Parte de los saldos de un checkpoint (cierre mensual) y reproduce solo los
+ * registros posteriores. Cada registro de Kárdex ya contiene el saldo resultante
+ * (cantidad, valor y CPP), por lo que el último registro de cada recurso en el
+ * delta determina su saldo.
+ *
+ * No persiste, solo calcula.
+ */
+public class ValorizacionKardexService {
+
+    /**
+     * Reproduce los registros de Kárdex sobre los saldos base.
+     *
+     * @param saldosBase Saldos del checkpoint de partida (puede estar vacío)
+     * @param registros Registros posteriores al checkpoint, en orden cronológico
+     * @return Saldo por recurso a la fecha del último registro
+     */
+    public Map<UUID, SaldoKardex> reproducir(Collection<SaldoKardex> saldosBase, List<RegistroKardex> registros) {
+        Objects.requireNonNull(saldosBase, "Los saldos base no pueden ser nulos");
+        Objects.requireNonNull(registros, "Los registros no pueden ser nulos");
+
+        Map<UUID, SaldoKardex> saldos = new LinkedHashMap<>();
+        for (SaldoKardex saldo : saldosBase) {
+            saldos.put(saldo.recursoId(), saldo);
+        }
+
+        LocalDate fechaAnterior = null;
+        for (RegistroKardex registro : registros) {
+            if (fechaAnterior != null && registro.getFechaMovimiento().isBefore(fechaAnterior)) {
+                throw new IllegalArgumentException(
+                    "Los registros de Kárdex deben estar en orden cronológico: " + registro.getId());
+            }
+            fechaAnterior = registro.getFechaMovimiento();
+            saldos.put(registro.getRecursoId(), SaldoKardex.desde(registro));
+        }
+        return saldos;
+    }
+
+    /**
+     * Genera los checkpoints de cierre de un almacén para una fecha de corte.
+     *
+     * Se arrastran todos los recursos conocidos (incluso con saldo cero) para que
+     * el siguiente cierre no necesite volver al historial completo.
+     *
+     * @param almacenId ID del almacén
+     * @param fechaCorte Fecha de corte del cierre
+     * @param saldosBase Saldos del cierre anterior
+     * @param registros Registros entre el cierre anterior y la fecha de corte, en orden cronológico
+     * @return Checkpoints a persistir
+     */
+    public List<KardexCheckpoint> generarCheckpoints(UUID almacenId, LocalDate fechaCorte,
+                                                     Collection<SaldoKardex> saldosBase,
+                                                     List<RegistroKardex> registros) {
+        Objects.requireNonNull(almacenId, "El ID del almacén no puede ser nulo");
+        Objects.requireNonNull(fechaCorte, "La fecha de corte no puede ser nula");
+
+        if (!registros.isEmpty()
+                && registros.get(registros.size() - 1).getFechaMovimiento().isAfter(fechaCorte)) {
+            throw new IllegalArgumentException("Existen registros posteriores a la fecha de corte " + fechaCorte);
+        }
+
+        return reproducir(saldosBase, registros).values().stream()
+                .map(saldo -> KardexCheckpoint.crear(almacenId, fechaCorte, saldo))
+                .toList();
+    }
+}
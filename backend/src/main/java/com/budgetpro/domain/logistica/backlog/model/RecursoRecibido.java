@@ -0,0 +1,17 @@
+package com.budgetpro.domain.logistica.backlog.model;
+
+import java.util.Objects;
+
+/**
+ * Clave de un recurso recibido para resolver backlog: recurso externo + unidad de medida.
+ * 
+ * Un mismo recurso puede coexistir en varias unidades (KG vs LIBRAS), por lo que el
+ * backlog se resuelve por la combinación de ambos.
+ */
+public record RecursoRecibido(String recursoExternalId, String unidadMedida) {
+
+    public RecursoRecibido {
+        Objects.requireNonNull(recursoExternalId, "El recursoExternalId no puede ser nulo");
+        Objects.requireNonNull(unidadMedida, "La unidad de medida no puede ser nula");
+    }
+}
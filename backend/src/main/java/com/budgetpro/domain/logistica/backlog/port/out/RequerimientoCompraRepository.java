@@ -3,6 +3,7 @@ package com.budgetpro.domain.logistica.backlog.port.out;
 import com.budgetpro.domain.logistica.backlog.model.RequerimientoCompra;
 import com.budgetpro.domain.logistica.backlog.model.RequerimientoCompraId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +22,13 @@ public interface RequerimientoCompraRepository {
      */
     void save(RequerimientoCompra requerimiento);
 
+    /**
+     * Guarda en bloque varios requerimientos de compra.
+     * 
+     * @param requerimientos Los requerimientos a guardar
+     */
+    void saveAll(List<RequerimientoCompra> requerimientos);
+
     /**
      * Busca un requerimiento por su ID.
      * 
@@ -40,6 +48,15 @@ public interface RequerimientoCompraRepository {
      */
     List<RequerimientoCompra> findPendientesPorRecurso(UUID proyectoId, String recursoExternalId, String unidadMedida);
 
+    /**
+     * Busca requerimientos pendientes de un proyecto para varios recursos en una sola consulta.
+     * 
+     * @param proyectoId ID del proyecto
+     * @param recursoExternalIds IDs externos de los recursos
+     * @return Lista de requerimientos pendientes (todas las unidades de medida)
+     */
+    List<RequerimientoCompra> findPendientesPorRecursos(UUID proyectoId, Collection<String> recursoExternalIds);
+
     /**
      * Busca requerimientos por requisición origen.
      * 
@@ -2,6 +2,7 @@ package com.budgetpro.domain.logistica.backlog.service;
 
 import com.budgetpro.domain.logistica.backlog.model.EstadoRequerimiento;
 import com.budgetpro.domain.logistica.backlog.model.PrioridadCompra;
+import com.budgetpro.domain.logistica.backlog.model.RecursoRecibido;
 import com.budgetpro.domain.logistica.backlog.model.RequerimientoCompra;
 import com.budgetpro.domain.logistica.backlog.model.RequerimientoCompraId;
 import com.budgetpro.domain.logistica.backlog.port.out.RequerimientoCompraRepository;
@@ -10,12 +11,20 @@ import com.budgetpro.domain.logistica.inventario.port.out.InventarioRepository;
 import com.budgetpro.domain.logistica.requisicion.model.EstadoRequisicion;
 import com.budgetpro.domain.logistica.requisicion.model.Requisicion;
 import com.budgetpro.domain.logistica.requisicion.model.RequisicionId;
+import com.budgetpro.domain.logistica.requisicion.model.RequisicionItem;
 import com.budgetpro.domain.logistica.requisicion.port.out.RequisicionRepository;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Servicio de dominio que gestiona el backlog de inventario mediante RequerimientoCompra.
@@ -66,61 +75,91 @@ public final class BacklogService {
     /**
      * Resuelve el backlog cuando llega stock para un recurso.
      * 
+     * @param proyectoId ID del proyecto
+     * @param recursoExternalId ID externo del recurso
+     * @param unidadMedida Unidad de medida
+     * @see #resolverBacklog(UUID, Collection)
+     */
+    public void resolverBacklog(UUID proyectoId, String recursoExternalId, String unidadMedida) {
+        resolverBacklog(proyectoId, List.of(new RecursoRecibido(recursoExternalId, unidadMedida)));
+    }
+
+    /**
+     * Resuelve el backlog de todos los recursos recibidos en una compra en una sola pasada.
+     * 
      * <p>Flujo:
-     * 1. Busca RequerimientoCompra pendientes para el recurso
-     * 2. Verifica si hay stock suficiente en inventario
+     * 1. Busca RequerimientoCompra pendientes de los recursos (una consulta)
+     * 2. Busca el inventario solo de esos recursos (una consulta indexada)
      * 3. Si hay stock: transiciona Requisicion PENDIENTE_COMPRA → APROBADA
      * 4. Marca RequerimientoCompra como RECIBIDA
      * 
+     * Requisiciones y requerimientos se cargan y guardan en bloque.
+     * 
      * @param proyectoId ID del proyecto
-     * @param recursoExternalId ID externo del recurso
-     * @param unidadMedida Unidad de medida
+     * @param recursos Recursos recibidos (recurso externo + unidad de medida)
      */
-    public void resolverBacklog(UUID proyectoId, String recursoExternalId, String unidadMedida) {
-        // Buscar requerimientos pendientes para este recurso
+    public void resolverBacklog(UUID proyectoId, Collection<RecursoRecibido> recursos) {
+        if (recursos.isEmpty()) {
+            return;
+        }
+        Set<RecursoRecibido> claves = new LinkedHashSet<>(recursos);
+        Set<String> recursoExternalIds = claves.stream()
+                .map(RecursoRecibido::recursoExternalId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // Buscar requerimientos pendientes para estos recursos
         List<RequerimientoCompra> requerimientosPendientes = requerimientoCompraRepository
-                .findPendientesPorRecurso(proyectoId, recursoExternalId, unidadMedida);
+                .findPendientesPorRecursos(proyectoId, recursoExternalIds).stream()
+                .filter(r -> claves.contains(new RecursoRecibido(r.getRecursoExternalId(), r.getUnidadMedida())))
+                .toList();
 
         if (requerimientosPendientes.isEmpty()) {
-            return; // No hay backlog para este recurso
+            return; // No hay backlog para estos recursos
         }
 
-        // Buscar inventario actual para verificar stock
-        // Necesitamos bodegaId, pero no lo tenemos aquí. Por ahora, asumimos que hay stock
-        // si existe algún InventarioItem con cantidad > 0 para este recurso.
-        // En una implementación completa, deberíamos pasar bodegaId o buscar por proyecto.
-        var inventarioOpt = inventarioRepository.findByProyectoId(proyectoId).stream()
-                .filter(item -> item.getRecursoExternalId().equals(recursoExternalId) &&
-                               item.getUnidadBase().equals(unidadMedida) &&
-                               item.getCantidadFisica().compareTo(BigDecimal.ZERO) > 0)
-                .findFirst();
-
-        if (inventarioOpt.isEmpty()) {
-            return; // Aún no hay stock
+        // Stock por recurso/unidad: primer InventarioItem con cantidad > 0 (sin bodega, igual que antes)
+        Map<RecursoRecibido, BigDecimal> stockPorRecurso = new HashMap<>();
+        for (InventarioItem item : inventarioRepository.findByProyectoIdAndRecursoExternalIdIn(proyectoId, recursoExternalIds)) {
+            RecursoRecibido clave = new RecursoRecibido(item.getRecursoExternalId(), item.getUnidadBase());
+            if (claves.contains(clave) && item.getCantidadFisica().compareTo(BigDecimal.ZERO) > 0) {
+                stockPorRecurso.putIfAbsent(clave, item.getCantidadFisica());
+            }
         }
 
-        InventarioItem inventario = inventarioOpt.get();
-        BigDecimal stockDisponible = inventario.getCantidadFisica();
+        if (stockPorRecurso.isEmpty()) {
+            return; // Aún no hay stock
+        }
 
-        // Procesar cada requerimiento pendiente
+        // Requerimientos con stock suficiente
+        List<RequerimientoCompra> resueltos = new ArrayList<>();
         for (RequerimientoCompra requerimiento : requerimientosPendientes) {
-            // Verificar si hay stock suficiente para este requerimiento
-            if (stockDisponible.compareTo(requerimiento.getCantidadNecesaria()) >= 0) {
-                // Resolver: transicionar requisición y marcar requerimiento como recibido
-                Requisicion requisicion = requisicionRepository.findById(requerimiento.getRequisicionId())
-                        .orElse(null);
-
-                if (requisicion != null && requisicion.getEstado() == EstadoRequisicion.PENDIENTE_COMPRA) {
-                    // Transicionar a APROBADA (el stock ya está disponible)
-                    requisicion.reactivar();
-                    requisicionRepository.save(requisicion);
-                }
-
-                // Marcar requerimiento como recibido
-                requerimiento.marcarRecibido();
-                requerimientoCompraRepository.save(requerimiento);
+            BigDecimal stockDisponible = stockPorRecurso.get(
+                    new RecursoRecibido(requerimiento.getRecursoExternalId(), requerimiento.getUnidadMedida()));
+            if (stockDisponible != null && stockDisponible.compareTo(requerimiento.getCantidadNecesaria()) >= 0) {
+                resueltos.add(requerimiento);
             }
         }
+
+        if (resueltos.isEmpty()) {
+            return;
+        }
+
+        // Transicionar a APROBADA las requisiciones en espera de compra (el stock ya está disponible)
+        Set<RequisicionId> requisicionIds = resueltos.stream()
+                .map(RequerimientoCompra::getRequisicionId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Requisicion> reactivadas = new ArrayList<>();
+        for (Requisicion requisicion : requisicionRepository.findAllById(requisicionIds)) {
+            if (requisicion.getEstado() == EstadoRequisicion.PENDIENTE_COMPRA) {
+                reactivadas.add(requisicion.reactivar());
+            }
+        }
+        if (!reactivadas.isEmpty()) {
+            requisicionRepository.saveAll(reactivadas);
+        }
+
+        // Marcar requerimientos como recibidos (los agregados son inmutables: se guarda la nueva instancia)
+        requerimientoCompraRepository.saveAll(resueltos.stream().map(RequerimientoCompra::marcarRecibido).toList());
     }
 
     /**
@@ -145,16 +184,21 @@ public final class BacklogService {
             return;
         }
 
-        // Verificar stock para cada ítem de la requisición
+        // Verificar stock para cada ítem de la requisición (una sola consulta para todos los recursos)
+        Set<String> recursoExternalIds = requisicion.getItems().stream()
+                .map(RequisicionItem::getRecursoExternalId)
+                .collect(Collectors.toSet());
+        Map<String, List<InventarioItem>> inventarioPorRecurso = inventarioRepository
+                .findByProyectoIdAndRecursoExternalIdIn(requisicion.getProyectoId(), recursoExternalIds).stream()
+                .collect(Collectors.groupingBy(InventarioItem::getRecursoExternalId));
+
         boolean todosResueltos = true;
         for (var item : requisicion.getItems()) {
-            var inventarioOpt = inventarioRepository.findByProyectoId(requisicion.getProyectoId()).stream()
-                    .filter(inv -> inv.getRecursoExternalId().equals(item.getRecursoExternalId()) &&
-                                  inv.getUnidadBase().equals(item.getUnidadMedida()) &&
-                                  inv.getCantidadFisica().compareTo(item.getCantidadPendiente()) >= 0)
-                    .findFirst();
+            boolean hayStock = inventarioPorRecurso.getOrDefault(item.getRecursoExternalId(), List.of()).stream()
+                    .anyMatch(inv -> inv.getUnidadBase().equals(item.getUnidadMedida()) &&
+                                     inv.getCantidadFisica().compareTo(item.getCantidadPendiente()) >= 0);
 
-            if (inventarioOpt.isEmpty()) {
+            if (!hayStock) {
                 todosResueltos = false;
                 break;
             }
@@ -162,15 +206,12 @@ public final class BacklogService {
 
         // Si hay stock para todos los ítems, reactivar requisición y marcar requerimientos como recibidos
         if (todosResueltos) {
-            requisicion.reactivar();
-            requisicionRepository.save(requisicion);
-
-            for (RequerimientoCompra requerimiento : requerimientos) {
-                if (requerimiento.getEstado() != EstadoRequerimiento.RECIBIDA) {
-                    requerimiento.marcarRecibido();
-                    requerimientoCompraRepository.save(requerimiento);
-                }
-            }
+            requisicionRepository.save(requisicion.reactivar());
+
+            requerimientoCompraRepository.saveAll(requerimientos.stream()
+                    .filter(requerimiento -> requerimiento.getEstado() != EstadoRequerimiento.RECIBIDA)
+                    .map(RequerimientoCompra::marcarRecibido)
+                    .toList());
         }
     }
 }
@@ -0,0 +1,52 @@
+package com.budgetpro.domain.logistica.compra.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Posición de paginación por clave (keyset) en el listado de órdenes de compra.
+ * 
+ * El listado se ordena por (fecha DESC, id DESC); el cursor guarda la clave de la última
+ * fila entregada y la página siguiente empieza estrictamente después de ella. Se expone
+ * como un token opaco (Base64 URL-safe de "fecha|id").
+ */
+public record OrdenCompraCursor(LocalDate fecha, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    public OrdenCompraCursor {
+        Objects.requireNonNull(fecha, "La fecha del cursor no puede ser nula");
+        Objects.requireNonNull(id, "El ID del cursor no puede ser nulo");
+    }
+
+    /**
+     * Codifica el cursor como token opaco.
+     */
+    public String codificar() {
+        String valor = fecha + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token generado por {@link #codificar()}.
+     * 
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static OrdenCompraCursor decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor de paginación inválido");
+            }
+            return new OrdenCompraCursor(LocalDate.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Cursor de paginación inválido", ex);
+        }
+    }
+}
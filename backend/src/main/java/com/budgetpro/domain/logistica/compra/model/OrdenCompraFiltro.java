@@ -0,0 +1,17 @@
+package com.budgetpro.domain.logistica.compra.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Criterios opcionales para listar órdenes de compra. Un campo nulo no filtra.
+ */
+public record OrdenCompraFiltro(UUID proyectoId, OrdenCompraEstado estado, UUID proveedorId,
+                                LocalDate fechaDesde, LocalDate fechaHasta) {
+
+    public OrdenCompraFiltro {
+        if (fechaDesde != null && fechaHasta != null && fechaDesde.isAfter(fechaHasta)) {
+            throw new IllegalArgumentException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.budgetpro.domain.logistica.compra.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Proyección de lectura de una orden de compra para listados (sin detalles).
+ */
+public record OrdenCompraResumen(UUID id, String numero, UUID proyectoId, UUID proveedorId,
+                                 String proveedorRazonSocial, String proveedorRuc, ProveedorEstado proveedorEstado,
+                                 LocalDate fecha, OrdenCompraEstado estado, BigDecimal montoTotal) {
+
+    /**
+     * Cursor que apunta a esta fila (para pedir la página siguiente).
+     */
+    public OrdenCompraCursor cursor() {
+        return new OrdenCompraCursor(fecha, id);
+    }
+}
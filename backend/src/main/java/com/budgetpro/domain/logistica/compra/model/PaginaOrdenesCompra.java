@@ -0,0 +1,21 @@
+package com.budgetpro.domain.logistica.compra.model;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Página de un listado de órdenes de compra paginado por clave.
+ * 
+ * @param ordenes Filas de la página, en orden (fecha DESC, id DESC)
+ * @param siguiente Cursor de la página siguiente, o nulo si es la última
+ */
+public record PaginaOrdenesCompra(List<OrdenCompraResumen> ordenes, OrdenCompraCursor siguiente) {
+
+    public PaginaOrdenesCompra {
+        ordenes = List.copyOf(ordenes);
+    }
+
+    public Optional<OrdenCompraCursor> siguienteCursor() {
+        return Optional.ofNullable(siguiente);
+    }
+}
@@ -1,8 +1,11 @@
 package com.budgetpro.domain.logistica.compra.port.out;
 
 import com.budgetpro.domain.logistica.compra.model.OrdenCompra;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraCursor;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompraEstado;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraFiltro;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompraId;
+import com.budgetpro.domain.logistica.compra.model.PaginaOrdenesCompra;
 
 import java.util.List;
 import java.util.Optional;
@@ -64,9 +67,16 @@ public interface OrdenCompraRepository {
     List<OrdenCompra> findByProyectoIdAndEstado(UUID proyectoId, OrdenCompraEstado estado);
 
     /**
-     * Lista todas las órdenes de compra (para paginación en REST).
+     * Lista órdenes de compra paginando por clave (fecha DESC, id DESC) en base de datos.
+     * 
+     * Devuelve proyecciones sin detalles; para el agregado completo usar {@link #findById}.
+     * 
+     * @param filtro Criterios opcionales (proyecto, estado, proveedor, rango de fechas)
+     * @param despuesDe Cursor de la última fila de la página anterior, o nulo para la primera
+     * @param limite Tamaño máximo de la página
+     * @return Página con las filas y el cursor de la siguiente (si hay más)
      */
-    List<OrdenCompra> findAll();
+    PaginaOrdenesCompra buscarResumenes(OrdenCompraFiltro filtro, OrdenCompraCursor despuesDe, int limite);
 
     /**
      * Genera el siguiente número secuencial de orden de compra para un año dado.
@@ -23,6 +23,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -111,12 +112,20 @@ public class ProcesarCompraService {
             }
         }
 
-        // Reservar saldo y persistir partidas
+        // Reservar saldo en bloque: un único UPDATE condicionado al saldo vigente en base de datos,
+        // que detecta reservas concurrentes de otra compra sobre las mismas partidas
+        Map<PartidaId, BigDecimal> reservas = new LinkedHashMap<>();
         for (Map.Entry<PartidaId, PartidaData> entry : partidasData.entrySet()) {
-            Partida partida = entry.getValue().partida;
             BigDecimal totalPartida = entry.getValue().total;
-            Partida partidaReservada = partida.reservarSaldo(totalPartida);
-            partidaRepository.save(partidaReservada);
+            entry.getValue().partida.reservarSaldo(totalPartida); // invariantes del monto
+            reservas.put(entry.getKey(), totalPartida);
+        }
+        List<PartidaId> partidasSinReserva = partidaRepository.reservarSaldos(reservas);
+        if (!partidasSinReserva.isEmpty()) {
+            PartidaId partidaId = partidasSinReserva.get(0);
+            throw new SaldoInsuficienteException(compra.getProyectoId(),
+                    partidasData.get(partidaId).partida.getSaldoDisponible(), reservas.get(partidaId),
+                    String.format("Partida %s (saldo comprometido por otra operación)", partidaId.getValue()));
         }
 
         // Crear consumos por detalle
@@ -4,6 +4,7 @@ import com.budgetpro.domain.logistica.bodega.model.BodegaId;
 import com.budgetpro.domain.logistica.inventario.model.InventarioId;
 import com.budgetpro.domain.logistica.inventario.model.InventarioItem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -50,6 +51,19 @@ public interface InventarioRepository {
      */
     List<InventarioItem> findByProyectoId(UUID proyectoId);
 
+    /**
+     * Busca los items de inventario de un proyecto para un conjunto de recursos externos
+     * (todas sus unidades y bodegas).
+     * 
+     * Búsqueda indexada por (proyecto, recurso externo, unidad base); evita cargar todo el
+     * inventario del proyecto cuando solo interesan algunos recursos.
+     * 
+     * @param proyectoId El ID del proyecto
+     * @param recursoExternalIds IDs externos de los recursos
+     * @return Lista de items de inventario de esos recursos
+     */
+    List<InventarioItem> findByProyectoIdAndRecursoExternalIdIn(UUID proyectoId, Collection<String> recursoExternalIds);
+
     /**
      * Guarda un item de inventario y sus nuevos movimientos.
      * 
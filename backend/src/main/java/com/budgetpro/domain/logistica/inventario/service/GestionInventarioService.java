@@ -1,5 +1,6 @@
 package com.budgetpro.domain.logistica.inventario.service;
 
+import com.budgetpro.domain.logistica.backlog.model.RecursoRecibido;
 import com.budgetpro.domain.logistica.backlog.service.BacklogService;
 import com.budgetpro.domain.logistica.compra.model.Compra;
 import com.budgetpro.domain.logistica.compra.model.CompraDetalle;
@@ -19,6 +20,7 @@ import com.budgetpro.domain.shared.port.out.SecurityPort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -68,6 +70,7 @@ public class GestionInventarioService {
      * @throws IllegalArgumentException si los argumentos son inválidos
      */
     public void registrarEntradaPorCompra(Compra compra, Map<UUID, BigDecimal> cantidadesRecibidas) {
+        Set<RecursoRecibido> recursosRecibidos = new LinkedHashSet<>();
         for (CompraDetalle detalle : compra.getDetalles()) {
             UUID detalleId = detalle.getId().getValue();
             if (!cantidadesRecibidas.containsKey(detalleId)) {
@@ -93,11 +96,13 @@ public class GestionInventarioService {
             inventarioItem = tx.inventario();
             inventarioRepository.save(inventarioItem);
 
-            // Resolver backlog para este recurso cuando llega stock
             String unidad = detalle.getUnidad() != null && !detalle.getUnidad().isBlank() ? detalle.getUnidad().trim()
                     : inventarioItem.getUnidadBase();
-            backlogService.resolverBacklog(compra.getProyectoId(), detalle.getRecursoExternalId(), unidad);
+            recursosRecibidos.add(new RecursoRecibido(detalle.getRecursoExternalId(), unidad));
         }
+
+        // Resolver backlog de todos los recursos recibidos en una sola pasada
+        backlogService.resolverBacklog(compra.getProyectoId(), recursosRecibidos);
     }
 
     /**
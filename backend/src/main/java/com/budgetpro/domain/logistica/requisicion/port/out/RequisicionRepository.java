@@ -3,6 +3,8 @@ package com.budgetpro.domain.logistica.requisicion.port.out;
 import com.budgetpro.domain.logistica.requisicion.model.Requisicion;
 import com.budgetpro.domain.logistica.requisicion.model.RequisicionId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +26,14 @@ public interface RequisicionRepository {
      */
     Optional<Requisicion> findById(RequisicionId id);
 
+    /**
+     * Busca varias requisiciones por sus IDs en una sola consulta.
+     * 
+     * @param ids Los IDs de las requisiciones
+     * @return Lista de requisiciones encontradas (las inexistentes se omiten)
+     */
+    List<Requisicion> findAllById(Collection<RequisicionId> ids);
+
     /**
      * Guarda una requisición y sus ítems.
      * 
@@ -37,11 +47,18 @@ public interface RequisicionRepository {
      */
     void save(Requisicion requisicion);
 
+    /**
+     * Guarda en bloque varias requisiciones existentes o nuevas, con las mismas reglas que {@link #save}.
+     * 
+     * @param requisiciones Las requisiciones a guardar
+     */
+    void saveAll(List<Requisicion> requisiciones);
+
     /**
      * Busca todas las requisiciones de un proyecto.
      * 
      * @param proyectoId El ID del proyecto
      * @return Lista de requisiciones del proyecto
      */
-    java.util.List<Requisicion> findByProyectoId(UUID proyectoId);
+    List<Requisicion> findByProyectoId(UUID proyectoId);
 }
@@ -105,11 +105,17 @@ public final class AsistenciaRegistro {
         return thisStart.isBefore(otherEnd) && otherStart.isBefore(thisEnd);
     }
 
-    private LocalDateTime getStartDateTime() {
+    /**
+     * Shift start (attendance date at entry time).
+     */
+    public LocalDateTime getStartDateTime() {
         return LocalDateTime.of(fecha, horaEntrada);
     }
 
-    private LocalDateTime getEndDateTime() {
+    /**
+     * Shift end; on the next calendar day for overnight shifts.
+     */
+    public LocalDateTime getEndDateTime() {
         if (esOvernight()) {
             return LocalDateTime.of(fecha.plusDays(1), horaSalida);
         } else {
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -173,6 +174,42 @@ public class Empleado {
         return historial.stream().filter(h -> h.esValidoEnFecha(fecha)).findFirst();
     }
 
+    /**
+     * Splits [inicio, fin] into the ranges paid under each employment record,
+     * sorted by date. Days without a valid record are left out. Equivalent to
+     * calling {@link #getSalarioEnFecha} for every day (the first matching
+     * record wins on overlaps) but proportional to the number of records, not
+     * days.
+     */
+    public List<TramoSalarial> getTramosSalariales(LocalDate inicio, LocalDate fin) {
+        List<TramoSalarial> tramos = new ArrayList<>();
+        // Ranges of the period not yet claimed by an earlier record
+        List<LocalDate[]> pendientes = new ArrayList<>();
+        pendientes.add(new LocalDate[] { inicio, fin });
+        for (HistorialLaboral h : historial) {
+            List<LocalDate[]> siguientes = new ArrayList<>();
+            for (LocalDate[] pendiente : pendientes) {
+                LocalDate desde = h.getFechaInicio().isAfter(pendiente[0]) ? h.getFechaInicio() : pendiente[0];
+                LocalDate hasta = h.getFechaFin() != null && h.getFechaFin().isBefore(pendiente[1]) ? h.getFechaFin()
+                        : pendiente[1];
+                if (desde.isAfter(hasta)) {
+                    siguientes.add(pendiente);
+                    continue;
+                }
+                tramos.add(new TramoSalarial(desde, hasta, h));
+                if (desde.isAfter(pendiente[0])) {
+                    siguientes.add(new LocalDate[] { pendiente[0], desde.minusDays(1) });
+                }
+                if (hasta.isBefore(pendiente[1])) {
+                    siguientes.add(new LocalDate[] { hasta.plusDays(1), pendiente[1] });
+                }
+            }
+            pendientes = siguientes;
+        }
+        tramos.sort(Comparator.comparing(TramoSalarial::desde));
+        return tramos;
+    }
+
     // Getters and Attr management
 
     public EmpleadoId getId() {
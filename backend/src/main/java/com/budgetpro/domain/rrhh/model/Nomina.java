@@ -19,10 +19,13 @@ public final class Nomina {
     private final BigDecimal totalNeto;
     private final Integer cantidadEmpleados;
     private final List<DetalleNomina> detalles;
+    // Checkpoint of a chunked run: employees already persisted and the last one (in EmpleadoId order)
+    private final int empleadosProcesados;
+    private final EmpleadoId ultimoEmpleadoId;
 
     private Nomina(NominaId id, ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin,
             String descripcion, String estado, BigDecimal totalBruto, BigDecimal totalNeto, Integer cantidadEmpleados,
-            List<DetalleNomina> detalles) {
+            List<DetalleNomina> detalles, int empleadosProcesados, EmpleadoId ultimoEmpleadoId) {
         this.id = Objects.requireNonNull(id, "id must not be null");
         this.proyectoId = Objects.requireNonNull(proyectoId, "proyectoId must not be null");
         this.periodoInicio = Objects.requireNonNull(periodoInicio, "periodoInicio must not be null");
@@ -33,6 +36,8 @@ public final class Nomina {
         this.totalNeto = totalNeto;
         this.cantidadEmpleados = cantidadEmpleados;
         this.detalles = detalles != null ? new ArrayList<>(detalles) : new ArrayList<>();
+        this.empleadosProcesados = empleadosProcesados;
+        this.ultimoEmpleadoId = ultimoEmpleadoId;
     }
 
     public static Nomina calcular(NominaId id, ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin,
@@ -47,7 +52,65 @@ public final class Nomina {
         String descripcion = String.format("Nómina %s - %s", periodoInicio, periodoFin);
 
         return new Nomina(id, proyectoId, periodoInicio, periodoFin, descripcion, "CALCULADA", totalBruto, totalNeto,
-                detalles.size(), detalles);
+                detalles.size(), detalles, detalles.size(), null);
+    }
+
+    /**
+     * Starts a chunked run: an empty PROCESANDO payroll that accumulates totals
+     * as each chunk of details is persisted ({@link #registrarLote}).
+     */
+    public static Nomina iniciar(NominaId id, ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin,
+            int cantidadEmpleados) {
+        String descripcion = String.format("Nómina %s - %s", periodoInicio, periodoFin);
+        return new Nomina(id, proyectoId, periodoInicio, periodoFin, descripcion, "PROCESANDO", BigDecimal.ZERO,
+                BigDecimal.ZERO, cantidadEmpleados, List.of(), 0, null);
+    }
+
+    /**
+     * Adds a chunk of details (sorted by EmpleadoId) to the totals and advances
+     * the checkpoint to its last employee. The details themselves are not kept.
+     */
+    public Nomina registrarLote(List<DetalleNomina> lote) {
+        if (!"PROCESANDO".equals(this.estado)) {
+            throw new IllegalStateException("Only payrolls in PROCESANDO can register chunks");
+        }
+        if (lote.isEmpty()) {
+            return this;
+        }
+        BigDecimal bruto = lote.stream().map(DetalleNomina::getTotalPercepciones).reduce(this.totalBruto,
+                BigDecimal::add);
+        BigDecimal neto = lote.stream().map(DetalleNomina::getNetoAPagar).reduce(this.totalNeto, BigDecimal::add);
+        return new Nomina(this.id, this.proyectoId, this.periodoInicio, this.periodoFin, this.descripcion,
+                this.estado, bruto, neto, this.cantidadEmpleados, List.of(), this.empleadosProcesados + lote.size(),
+                lote.get(lote.size() - 1).getEmpleadoId());
+    }
+
+    /**
+     * Closes a chunked run once every chunk is persisted.
+     */
+    public Nomina completar() {
+        if (!"PROCESANDO".equals(this.estado)) {
+            throw new IllegalStateException("Only payrolls in PROCESANDO can be completed");
+        }
+        return new Nomina(this.id, this.proyectoId, this.periodoInicio, this.periodoFin, this.descripcion,
+                "CALCULADA", this.totalBruto, this.totalNeto, this.empleadosProcesados, List.of(),
+                this.empleadosProcesados, this.ultimoEmpleadoId);
+    }
+
+    /**
+     * The same payroll with its details, read back once the chunks are persisted.
+     */
+    public Nomina conDetalles(List<DetalleNomina> detalles) {
+        return new Nomina(this.id, this.proyectoId, this.periodoInicio, this.periodoFin, this.descripcion,
+                this.estado, this.totalBruto, this.totalNeto, this.cantidadEmpleados, detalles,
+                this.empleadosProcesados, this.ultimoEmpleadoId);
+    }
+
+    /**
+     * Whether the employee was already persisted by an earlier chunk.
+     */
+    public boolean estaProcesado(EmpleadoId empleadoId) {
+        return ultimoEmpleadoId != null && empleadoId.getValue().compareTo(ultimoEmpleadoId.getValue()) <= 0;
     }
 
     public void aprobar() {
@@ -70,14 +133,23 @@ public final class Nomina {
             throw new IllegalStateException("Solo nóminas CALCULADA pueden ser aprobadas");
         }
         return new Nomina(this.id, this.proyectoId, this.periodoInicio, this.periodoFin, this.descripcion, "APROBADA",
-                this.totalBruto, this.totalNeto, this.cantidadEmpleados, this.detalles);
+                this.totalBruto, this.totalNeto, this.cantidadEmpleados, this.detalles, this.empleadosProcesados,
+                this.ultimoEmpleadoId);
     }
 
     public static Nomina reconstruir(NominaId id, ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin,
             String descripcion, String estado, BigDecimal totalBruto, BigDecimal totalNeto, Integer cantidadEmpleados,
             List<DetalleNomina> detalles) {
+        int procesados = cantidadEmpleados != null ? cantidadEmpleados : 0;
+        return new Nomina(id, proyectoId, periodoInicio, periodoFin, descripcion, estado, totalBruto, totalNeto,
+                cantidadEmpleados, detalles, procesados, null);
+    }
+
+    public static Nomina reconstruir(NominaId id, ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin,
+            String descripcion, String estado, BigDecimal totalBruto, BigDecimal totalNeto, Integer cantidadEmpleados,
+            List<DetalleNomina> detalles, int empleadosProcesados, EmpleadoId ultimoEmpleadoId) {
         return new Nomina(id, proyectoId, periodoInicio, periodoFin, descripcion, estado, totalBruto, totalNeto,
-                cantidadEmpleados, detalles);
+                cantidadEmpleados, detalles, empleadosProcesados, ultimoEmpleadoId);
     }
 
     public NominaId getId() {
@@ -119,4 +191,12 @@ public final class Nomina {
     public List<DetalleNomina> getDetalles() {
         return Collections.unmodifiableList(detalles);
     }
+
+    public int getEmpleadosProcesados() {
+        return empleadosProcesados;
+    }
+
+    public EmpleadoId getUltimoEmpleadoId() {
+        return ultimoEmpleadoId;
+    }
 }
@@ -0,0 +1,31 @@
+package com.budgetpro.domain.rrhh.model;
+
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Rates derived from one version of a {@code ConfiguracionLaboral}, computed once
+ * and reused by payroll and labor costing instead of being re-derived per employee.
+ *
+ * @param fsr                      factor de salario real
+ * @param tasaSeguridadSocial      social security as a decimal factor (scale 6)
+ * @param horasJornada             hours of the standard shift, divisor of the hourly rate
+ * @param horasExtraIniciales      overtime hours per shift paid at the initial factor
+ * @param factorHoraExtraInicial   multiplier of the first overtime hours
+ * @param factorHoraExtraExcedente multiplier of the overtime hours beyond those
+ */
+public record TarifasLaborales(ConfiguracionLaboralId configuracionId, long version, BigDecimal fsr,
+        BigDecimal tasaSeguridadSocial, BigDecimal horasJornada, long horasExtraIniciales,
+        BigDecimal factorHoraExtraInicial, BigDecimal factorHoraExtraExcedente) {
+
+    public TarifasLaborales {
+        Objects.requireNonNull(configuracionId, "configuracionId must not be null");
+        Objects.requireNonNull(fsr, "fsr must not be null");
+        Objects.requireNonNull(tasaSeguridadSocial, "tasaSeguridadSocial must not be null");
+        Objects.requireNonNull(horasJornada, "horasJornada must not be null");
+        Objects.requireNonNull(factorHoraExtraInicial, "factorHoraExtraInicial must not be null");
+        Objects.requireNonNull(factorHoraExtraExcedente, "factorHoraExtraExcedente must not be null");
+    }
+}
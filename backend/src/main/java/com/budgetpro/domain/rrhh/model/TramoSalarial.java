@@ -0,0 +1,33 @@
+package com.budgetpro.domain.rrhh.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Contiguous range of days (inclusive on both ends) paid under a single
+ * employment record.
+ *
+ * @param desde     first day of the range
+ * @param hasta     last day of the range
+ * @param historial employment record valid on every day of the range
+ */
+public record TramoSalarial(LocalDate desde, LocalDate hasta, HistorialLaboral historial) {
+
+    public TramoSalarial {
+        Objects.requireNonNull(desde, "desde must not be null");
+        Objects.requireNonNull(hasta, "hasta must not be null");
+        Objects.requireNonNull(historial, "historial must not be null");
+        if (hasta.isBefore(desde)) {
+            throw new IllegalArgumentException("hasta must not be before desde");
+        }
+    }
+
+    public int dias() {
+        return (int) ChronoUnit.DAYS.between(desde, hasta) + 1;
+    }
+
+    public boolean contiene(LocalDate fecha) {
+        return !fecha.isBefore(desde) && !fecha.isAfter(hasta);
+    }
+}
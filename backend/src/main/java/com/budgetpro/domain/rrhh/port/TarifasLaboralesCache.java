@@ -0,0 +1,22 @@
+package com.budgetpro.domain.rrhh.port;
+
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
+import com.budgetpro.domain.rrhh.model.TarifasLaborales;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para la caché de tarifas derivadas de la configuración laboral.
+ */
+public interface TarifasLaboralesCache {
+
+    /**
+     * Devuelve las tarifas en caché de la configuración solo si se derivaron de la versión indicada.
+     */
+    Optional<TarifasLaborales> obtener(ConfiguracionLaboralId configuracionId, long version);
+
+    /**
+     * Guarda (o reemplaza) las tarifas de la configuración.
+     */
+    void guardar(TarifasLaborales tarifas);
+}
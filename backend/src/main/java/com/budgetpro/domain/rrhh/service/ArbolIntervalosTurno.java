@@ -0,0 +1,87 @@
+package com.budgetpro.domain.rrhh.service;
+
+import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Árbol de intervalos estático sobre los turnos de un trabajador.
+ *
+ * Los turnos se ordenan por inicio y se indexan como un árbol binario balanceado implícito
+ * (la raíz de cada rango es su elemento medio); cada nodo guarda el fin máximo de su subárbol,
+ * lo que permite descartar subárboles completos al buscar un solape. Construcción O(n log n),
+ * consulta O(log n) por turno. Los turnos son semiabiertos [entrada, salida), igual que
+ * {@link AsistenciaRegistro#detectOverlap}.
+ */
+public final class ArbolIntervalosTurno {
+
+    private final AsistenciaRegistro[] turnos;
+    private final LocalDateTime[] inicios;
+    private final LocalDateTime[] finMaximo;
+
+    public ArbolIntervalosTurno(List<AsistenciaRegistro> registros) {
+        this.turnos = registros.stream().sorted(Comparator.comparing(AsistenciaRegistro::getStartDateTime))
+                .toArray(AsistenciaRegistro[]::new);
+        this.inicios = new LocalDateTime[turnos.length];
+        this.finMaximo = new LocalDateTime[turnos.length];
+        for (int i = 0; i < turnos.length; i++) {
+            inicios[i] = turnos[i].getStartDateTime();
+        }
+        construir(0, turnos.length - 1);
+    }
+
+    /**
+     * Algún turno indexado que se solapa con [inicio, fin), si existe.
+     */
+    public Optional<AsistenciaRegistro> buscarSolape(LocalDateTime inicio, LocalDateTime fin) {
+        return Optional.ofNullable(buscar(0, turnos.length - 1, inicio, fin));
+    }
+
+    public int size() {
+        return turnos.length;
+    }
+
+    private LocalDateTime construir(int bajo, int alto) {
+        if (bajo > alto) {
+            return null;
+        }
+        int medio = (bajo + alto) >>> 1;
+        LocalDateTime maximo = turnos[medio].getEndDateTime();
+        LocalDateTime izquierda = construir(bajo, medio - 1);
+        LocalDateTime derecha = construir(medio + 1, alto);
+        if (izquierda != null && izquierda.isAfter(maximo)) {
+            maximo = izquierda;
+        }
+        if (derecha != null && derecha.isAfter(maximo)) {
+            maximo = derecha;
+        }
+        finMaximo[medio] = maximo;
+        return maximo;
+    }
+
+    private AsistenciaRegistro buscar(int bajo, int alto, LocalDateTime inicio, LocalDateTime fin) {
+        if (bajo > alto) {
+            return null;
+        }
+        int medio = (bajo + alto) >>> 1;
+        // Ningún turno del subárbol termina después del inicio buscado
+        if (!finMaximo[medio].isAfter(inicio)) {
+            return null;
+        }
+        AsistenciaRegistro encontrado = buscar(bajo, medio - 1, inicio, fin);
+        if (encontrado != null) {
+            return encontrado;
+        }
+        // El nodo y su subárbol derecho empiezan en o después de inicios[medio]
+        if (!inicios[medio].isBefore(fin)) {
+            return null;
+        }
+        if (turnos[medio].getEndDateTime().isAfter(inicio)) {
+            return turnos[medio];
+        }
+        return buscar(medio + 1, alto, inicio, fin);
+    }
+}
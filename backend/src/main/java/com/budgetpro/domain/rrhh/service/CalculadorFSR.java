@@ -1,16 +1,78 @@
 package com.budgetpro.domain.rrhh.service;
 
 import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboral;
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
 import com.budgetpro.domain.rrhh.model.Empleado;
+import com.budgetpro.domain.rrhh.model.TarifasLaborales;
+import com.budgetpro.domain.rrhh.port.TarifasLaboralesCache;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
+import java.util.Optional;
 
 public class CalculadorFSR {
 
+    private static final BigDecimal HORAS_JORNADA = new BigDecimal("8");
+    private static final long HORAS_EXTRA_INICIALES = 2;
+    private static final BigDecimal FACTOR_EXTRA_INICIAL = new BigDecimal("1.5");
+    private static final BigDecimal FACTOR_EXTRA_EXCEDENTE = new BigDecimal("2.0");
+
+    private static final TarifasLaboralesCache SIN_CACHE = new TarifasLaboralesCache() {
+        @Override
+        public Optional<TarifasLaborales> obtener(ConfiguracionLaboralId configuracionId, long version) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void guardar(TarifasLaborales tarifas) {
+        }
+    };
+
+    private final TarifasLaboralesCache tarifasCache;
+
+    public CalculadorFSR() {
+        this(SIN_CACHE);
+    }
+
+    /**
+     * @param tarifasCache derived rates keyed by configuration ID and version; a
+     *                     configuration change bumps the version, so stale
+     *                     entries are never served
+     */
+    public CalculadorFSR(TarifasLaboralesCache tarifasCache) {
+        this.tarifasCache = Objects.requireNonNull(tarifasCache, "tarifasCache must not be null");
+    }
+
     public BigDecimal calcularFSR(ConfiguracionLaboral config, Empleado empleado) {
-        Objects.requireNonNull(config, "ConfiguracionLaboral must not be null");
         Objects.requireNonNull(empleado, "Empleado must not be null");
+        return calcularFSR(config);
+    }
+
+    /**
+     * Project-level FSR: no employee-specific override applies yet, so it is the
+     * same for every worker under the configuration.
+     */
+    public BigDecimal calcularFSR(ConfiguracionLaboral config) {
+        return tarifas(config).fsr();
+    }
+
+    /**
+     * Rates derived from this version of the configuration (FSR, social security
+     * rate, overtime multipliers), taken from the cache when already derived.
+     */
+    public TarifasLaborales tarifas(ConfiguracionLaboral config) {
+        Objects.requireNonNull(config, "ConfiguracionLaboral must not be null");
+        long version = config.getVersion();
+        return tarifasCache.obtener(config.getId(), version).orElseGet(() -> {
+            TarifasLaborales tarifas = new TarifasLaborales(config.getId(), version, derivarFSR(config),
+                    config.getPorcentajeSeguridadSocial().divide(new BigDecimal("100"), 6, RoundingMode.HALF_UP),
+                    HORAS_JORNADA, HORAS_EXTRA_INICIALES, FACTOR_EXTRA_INICIAL, FACTOR_EXTRA_EXCEDENTE);
+            tarifasCache.guardar(tarifas);
+            return tarifas;
+        });
+    }
+
+    private BigDecimal derivarFSR(ConfiguracionLaboral config) {
 
         // Note: We use the values from ConfiguracionLaboral but implement the standard
         // FSR formula:
@@ -0,0 +1,212 @@
+package com.budgetpro.domain.rrhh.service;
+
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboral;
+import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
+import com.budgetpro.domain.rrhh.model.DetalleNomina;
+import com.budgetpro.domain.rrhh.model.Empleado;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import com.budgetpro.domain.rrhh.model.TarifasLaborales;
+import com.budgetpro.domain.rrhh.model.TramoSalarial;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Payroll calculation engine.
+ *
+ * Works on salary ranges instead of calendar days: each employee's history is
+ * intersected with the period ({@link Empleado#getTramosSalariales}), base
+ * salary is daily rate × days per range, and overtime is aggregated per range
+ * (hours at 1.5x and at 2.0x) before being priced once with that range's
+ * hourly rate. Results are identical to the day-by-day calculation.
+ *
+ * Employees are independent, so they are split into partitions evaluated on
+ * the executor; details are returned in the input order. Each call is split
+ * into at least {@code paralelismo} partitions (of at most
+ * {@code tamanoParticion} employees), so a payroll chunk smaller than
+ * paralelismo × tamanoParticion still uses the whole pool.
+ */
+public class MotorNomina {
+
+    private static final BigDecimal DIAS_MES = new BigDecimal("30");
+
+    private final CalculadorFSR calculadorFSR;
+    private final BigDecimal porcentajeIsr;
+    private final Executor executor;
+    private final int tamanoParticion;
+    private final int paralelismo;
+
+    /**
+     * Fixed-size partitions of {@code tamanoParticion} employees.
+     */
+    public MotorNomina(CalculadorFSR calculadorFSR, BigDecimal porcentajeIsr, Executor executor,
+            int tamanoParticion) {
+        this(calculadorFSR, porcentajeIsr, executor, tamanoParticion, 1);
+    }
+
+    /**
+     * @param calculadorFSR   FSR calculator applied per employee
+     * @param porcentajeIsr   income tax as a decimal factor over gross income
+     * @param executor        executor the partitions run on
+     * @param tamanoParticion maximum employees per partition
+     * @param paralelismo     partitions each call is split into when it has enough
+     *                        employees (usually the executor's pool size)
+     */
+    public MotorNomina(CalculadorFSR calculadorFSR, BigDecimal porcentajeIsr, Executor executor,
+            int tamanoParticion, int paralelismo) {
+        if (tamanoParticion <= 0) {
+            throw new IllegalArgumentException("tamanoParticion must be positive");
+        }
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("paralelismo must be positive");
+        }
+        this.calculadorFSR = Objects.requireNonNull(calculadorFSR, "calculadorFSR must not be null");
+        this.porcentajeIsr = Objects.requireNonNull(porcentajeIsr, "porcentajeIsr must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.tamanoParticion = tamanoParticion;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Calculates the payroll detail of every employee for the period.
+     *
+     * @param asistencias attendance records per employee (employees without
+     *                    records may be missing)
+     * @return one detail per employee, in the same order as {@code empleados}
+     */
+    public List<DetalleNomina> calcular(List<Empleado> empleados, LocalDate inicio, LocalDate fin,
+            ConfiguracionLaboral config, Map<EmpleadoId, List<AsistenciaRegistro>> asistencias) {
+        // Derived once per run (and cached per configuration version), not per employee
+        TarifasLaborales tarifas = calculadorFSR.tarifas(config);
+        // ceil(employees / paralelismo), capped at tamanoParticion
+        int tamano = Math.max(1, Math.min(tamanoParticion, (empleados.size() + paralelismo - 1) / paralelismo));
+        List<CompletableFuture<List<DetalleNomina>>> particiones = new ArrayList<>();
+        for (int desde = 0; desde < empleados.size(); desde += tamano) {
+            List<Empleado> particion = empleados.subList(desde, Math.min(desde + tamano, empleados.size()));
+            particiones.add(CompletableFuture.supplyAsync(() -> particion.stream()
+                    .map(empleado -> calcularEmpleado(empleado, inicio, fin, tarifas,
+                            asistencias.getOrDefault(empleado.getId(), List.of())))
+                    .toList(), executor));
+        }
+
+        List<DetalleNomina> detalles = new ArrayList<>(empleados.size());
+        for (CompletableFuture<List<DetalleNomina>> particion : particiones) {
+            detalles.addAll(esperar(particion));
+        }
+        return detalles;
+    }
+
+    /**
+     * Calculates one employee's payroll detail for the period.
+     */
+    public DetalleNomina calcularEmpleado(Empleado empleado, LocalDate inicio, LocalDate fin,
+            ConfiguracionLaboral config, List<AsistenciaRegistro> asistencias) {
+        return calcularEmpleado(empleado, inicio, fin, calculadorFSR.tarifas(config), asistencias);
+    }
+
+    private DetalleNomina calcularEmpleado(Empleado empleado, LocalDate inicio, LocalDate fin,
+            TarifasLaborales tarifas, List<AsistenciaRegistro> asistencias) {
+        List<TramoSalarial> tramos = empleado.getTramosSalariales(inicio, fin);
+
+        BigDecimal salarioTotalPeriodo = BigDecimal.ZERO;
+        BigDecimal horasExtrasTotalCost = BigDecimal.ZERO;
+        BigDecimal bonoAsistencia = BigDecimal.ZERO; // Placeholder logic
+        BigDecimal otrosIngresos = BigDecimal.ZERO;
+        int diasTrabajados = 0;
+
+        BigDecimal[] salariosDiarios = new BigDecimal[tramos.size()];
+        for (int i = 0; i < tramos.size(); i++) {
+            TramoSalarial tramo = tramos.get(i);
+            salariosDiarios[i] = tramo.historial().getSalarioBase().divide(DIAS_MES, 2, RoundingMode.HALF_UP);
+            salarioTotalPeriodo = salarioTotalPeriodo.add(salariosDiarios[i].multiply(BigDecimal.valueOf(tramo.dias())));
+            diasTrabajados += tramo.dias();
+        }
+
+        // Overtime hours aggregated per range: first hours of each shift at 1.5x, the rest at 2.0x
+        long[] horasIniciales = new long[tramos.size()];
+        long[] horasExcedentes = new long[tramos.size()];
+        boolean[] conExtras = new boolean[tramos.size()];
+        for (AsistenciaRegistro reg : asistencias) {
+            if (reg.getFecha().isBefore(inicio) || reg.getFecha().isAfter(fin)) {
+                continue;
+            }
+            int i = buscarTramo(tramos, reg.getFecha());
+            if (i < 0) {
+                continue;
+            }
+            java.time.Duration extraDuration = reg.calcularHorasExtras();
+            if (!extraDuration.isZero()) {
+                // toHours truncates minutes, as in the per-day calculation
+                long extraHours = extraDuration.toHours();
+                horasIniciales[i] += Math.min(extraHours, tarifas.horasExtraIniciales());
+                horasExcedentes[i] += Math.max(extraHours - tarifas.horasExtraIniciales(), 0);
+                conExtras[i] = true;
+            }
+        }
+        for (int i = 0; i < tramos.size(); i++) {
+            if (conExtras[i]) {
+                BigDecimal hourlyRate = salariosDiarios[i].divide(tarifas.horasJornada(), 2, RoundingMode.HALF_UP);
+                horasExtrasTotalCost = horasExtrasTotalCost
+                        .add(hourlyRate.multiply(tarifas.factorHoraExtraInicial())
+                                .multiply(BigDecimal.valueOf(horasIniciales[i])))
+                        .add(hourlyRate.multiply(tarifas.factorHoraExtraExcedente())
+                                .multiply(BigDecimal.valueOf(horasExcedentes[i])));
+            }
+        }
+
+        BigDecimal fsrMultiplier = tarifas.fsr();
+        BigDecimal totalPercepciones = salarioTotalPeriodo.add(horasExtrasTotalCost).add(bonoAsistencia)
+                .add(otrosIngresos);
+
+        BigDecimal tasaSeguridadSocial = tarifas.tasaSeguridadSocial();
+        BigDecimal deduccionesFiscales = totalPercepciones.multiply(porcentajeIsr);
+        BigDecimal deduccionesSeguridadSocial = totalPercepciones.multiply(tasaSeguridadSocial);
+        BigDecimal otrasDeducciones = BigDecimal.ZERO;
+
+        BigDecimal costoPatronal = salarioTotalPeriodo.multiply(fsrMultiplier); // Basic approximation of cost impact
+
+        return DetalleNomina.crear(empleado.getId(), salarioTotalPeriodo, horasExtrasTotalCost, bonoAsistencia,
+                otrosIngresos, deduccionesFiscales, deduccionesSeguridadSocial, otrasDeducciones, costoPatronal,
+                fsrMultiplier.doubleValue(), diasTrabajados);
+    }
+
+    /**
+     * Binary search of the range containing the date (ranges are sorted and
+     * disjoint); -1 if none.
+     */
+    private static int buscarTramo(List<TramoSalarial> tramos, LocalDate fecha) {
+        int bajo = 0;
+        int alto = tramos.size() - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            TramoSalarial tramo = tramos.get(medio);
+            if (fecha.isBefore(tramo.desde())) {
+                alto = medio - 1;
+            } else if (fecha.isAfter(tramo.hasta())) {
+                bajo = medio + 1;
+            } else {
+                return medio;
+            }
+        }
+        return -1;
+    }
+
+    private static List<DetalleNomina> esperar(CompletableFuture<List<DetalleNomina>> particion) {
+        try {
+            return particion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.budgetpro.domain.rrhh.exception.ProyectoNoActivoParaOperacionExceptio
 import com.budgetpro.domain.rrhh.exception.SolapeHorarioTareoException;
 import com.budgetpro.domain.rrhh.exception.TrabajadorNoAsignadoAlProyectoException;
 import com.budgetpro.domain.rrhh.model.AsignacionProyecto;
+import com.budgetpro.domain.rrhh.model.AsistenciaId;
 import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
 import com.budgetpro.domain.rrhh.model.Empleado;
 import com.budgetpro.domain.rrhh.model.EmpleadoId;
@@ -19,8 +20,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Políticas de dominio para registro de tareo (UC-R03): R-02, REGLA-150, REGLA-125 y delegación R-03
@@ -129,6 +134,53 @@ public final class RegistroAsistenciaPolitica {
         }
     }
 
+    /**
+     * REGLA-125 en lote: detecta los turnos candidatos que se solapan con registros persistidos
+     * o con otro turno del mismo lote, por trabajador, en O(n log n).
+     * <p>
+     * Los persistidos se indexan en un {@link ArbolIntervalosTurno}; los candidatos se recorren
+     * ordenados por entrada manteniendo el aceptado que termina más tarde, de modo que ante un
+     * solape dentro del lote se conserva el turno que empieza primero.
+     * </p>
+     *
+     * @param candidatos turnos a registrar
+     * @param existentes registros persistidos de los mismos trabajadores en el rango del lote
+     * @return por cada candidato rechazado (por ID), el registro persistido o candidato con el que se solapa
+     */
+    public static Map<AsistenciaId, AsistenciaRegistro> detectarSolapesEnLote(List<AsistenciaRegistro> candidatos,
+            List<AsistenciaRegistro> existentes) {
+        Objects.requireNonNull(candidatos, "candidatos must not be null");
+        Objects.requireNonNull(existentes, "existentes must not be null");
+        Map<EmpleadoId, List<AsistenciaRegistro>> existentesPorEmpleado = existentes.stream()
+                .collect(Collectors.groupingBy(AsistenciaRegistro::getEmpleadoId));
+        Map<EmpleadoId, List<AsistenciaRegistro>> candidatosPorEmpleado = candidatos.stream()
+                .collect(Collectors.groupingBy(AsistenciaRegistro::getEmpleadoId));
+
+        Map<AsistenciaId, AsistenciaRegistro> solapes = new HashMap<>();
+        candidatosPorEmpleado.forEach((empleadoId, turnos) -> {
+            ArbolIntervalosTurno persistidos = new ArbolIntervalosTurno(
+                    existentesPorEmpleado.getOrDefault(empleadoId, List.of()));
+            AsistenciaRegistro ultimoEnTerminar = null;
+            for (AsistenciaRegistro turno : turnos.stream()
+                    .sorted(Comparator.comparing(AsistenciaRegistro::getStartDateTime)).toList()) {
+                AsistenciaRegistro conflicto = persistidos
+                        .buscarSolape(turno.getStartDateTime(), turno.getEndDateTime()).orElse(null);
+                // Los aceptados empiezan antes: hay solape si alguno termina después de esta entrada
+                if (conflicto == null && ultimoEnTerminar != null
+                        && ultimoEnTerminar.getEndDateTime().isAfter(turno.getStartDateTime())) {
+                    conflicto = ultimoEnTerminar;
+                }
+                if (conflicto != null) {
+                    solapes.put(turno.getId(), conflicto);
+                } else if (ultimoEnTerminar == null
+                        || turno.getEndDateTime().isAfter(ultimoEnTerminar.getEndDateTime())) {
+                    ultimoEnTerminar = turno;
+                }
+            }
+        });
+        return solapes;
+    }
+
     /**
      * Límite R-03 multi-sitio: delega en el puerto sin implementar semántica propia.
      */
@@ -0,0 +1,34 @@
+package com.budgetpro.infrastructure.adapter.cronograma;
+
+import com.budgetpro.domain.finanzas.cronograma.port.out.CalendarioFeriadosPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Feriados del calendario laboral tomados de {@code cronograma.feriados} (fechas ISO separadas
+ * por coma). Son los mismos para todos los proyectos.
+ */
+@Component
+public class CalendarioFeriadosConfiguradoAdapter implements CalendarioFeriadosPort {
+
+    private final Set<LocalDate> feriados;
+
+    public CalendarioFeriadosConfiguradoAdapter(@Value("${cronograma.feriados:}") String[] feriados) {
+        this.feriados = Arrays.stream(feriados)
+                .map(String::trim)
+                .filter(fecha -> !fecha.isEmpty())
+                .map(LocalDate::parse)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<LocalDate> obtenerFeriados(UUID proyectoId) {
+        return feriados;
+    }
+}
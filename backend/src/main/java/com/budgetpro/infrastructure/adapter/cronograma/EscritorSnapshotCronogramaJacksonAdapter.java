@@ -0,0 +1,196 @@
+package com.budgetpro.infrastructure.adapter.cronograma;
+
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ContenidoSnapshot;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
+import com.budgetpro.domain.finanzas.cronograma.port.out.EscritorSnapshotCronograma;
+import com.budgetpro.shared.validation.JsonSchemaValidator;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escritor de snapshots del cronograma con el {@link JsonGenerator} de Jackson.
+ *
+ * Cada sección se escribe token a token recorriendo las actividades, sin mapas intermedios ni
+ * árbol JSON; con la compresión activa la salida pasa directamente por GZIP, de modo que en
+ * memoria solo queda el documento comprimido. Las propiedades nulas se omiten, igual que en el
+ * formato TEMPORAL-SNAPSHOT-v1 original.
+ *
+ * Validación: antes de escribir el documento completo se valida con el esquema precompilado de
+ * {@link JsonSchemaValidator} un documento de muestra con las primeras
+ * {@code cronograma.snapshot.muestra-validacion} actividades, generado por el mismo código. Con
+ * un valor &lt;= 0 se valida el documento completo (lo usan las pruebas).
+ */
+@Component
+public class EscritorSnapshotCronogramaJacksonAdapter implements EscritorSnapshotCronograma {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JsonSchemaValidator jsonSchemaValidator;
+    private final boolean comprimir;
+    private final int muestraValidacion;
+
+    public EscritorSnapshotCronogramaJacksonAdapter(JsonSchemaValidator jsonSchemaValidator,
+            @Value("${cronograma.snapshot.comprimir:true}") boolean comprimir,
+            @Value("${cronograma.snapshot.muestra-validacion:50}") int muestraValidacion) {
+        this.jsonSchemaValidator = jsonSchemaValidator;
+        this.comprimir = comprimir;
+        this.muestraValidacion = muestraValidacion;
+    }
+
+    @Override
+    public ContenidoSnapshot escribirFechas(ProgramaObra programaObra, List<ActividadProgramada> actividades) {
+        return escribir(actividades, (g, lote) -> {
+            g.writeStartObject();
+            g.writeObjectFieldStart("programa");
+            fecha(g, "fechaInicio", programaObra.getFechaInicio());
+            fecha(g, "fechaFinEstimada", programaObra.getFechaFinEstimada());
+            g.writeEndObject();
+            g.writeArrayFieldStart("actividades");
+            for (ActividadProgramada actividad : lote) {
+                g.writeStartObject();
+                identificacion(g, actividad);
+                fecha(g, "fechaInicio", actividad.getFechaInicio());
+                fecha(g, "fechaFin", actividad.getFechaFin());
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }, jsonSchemaValidator::validateFechasSnapshot);
+    }
+
+    @Override
+    public ContenidoSnapshot escribirDuraciones(ProgramaObra programaObra, List<ActividadProgramada> actividades) {
+        return escribir(actividades, (g, lote) -> {
+            g.writeStartObject();
+            entero(g, "duracionTotalDias", programaObra.getDuracionTotalDias());
+            g.writeArrayFieldStart("actividades");
+            for (ActividadProgramada actividad : lote) {
+                g.writeStartObject();
+                identificacion(g, actividad);
+                entero(g, "duracionDias", actividad.getDuracionDias());
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }, jsonSchemaValidator::validateDuracionesSnapshot);
+    }
+
+    @Override
+    public ContenidoSnapshot escribirSecuencia(List<ActividadProgramada> actividades) {
+        return escribir(actividades, (g, lote) -> {
+            g.writeStartObject();
+            g.writeArrayFieldStart("actividades");
+            for (ActividadProgramada actividad : lote) {
+                g.writeStartObject();
+                identificacion(g, actividad);
+                g.writeArrayFieldStart("predecesoras");
+                for (UUID predecesoraId : actividad.getPredecesoras()) {
+                    g.writeString(predecesoraId.toString());
+                }
+                g.writeEndArray();
+                // Las predecesoras se mantienen como IDs para los lectores del formato original
+                g.writeArrayFieldStart("dependencias");
+                for (Dependencia dependencia : actividad.getDependencias()) {
+                    g.writeStartObject();
+                    g.writeStringField("predecesoraId", dependencia.predecesoraId().toString());
+                    g.writeStringField("tipo", dependencia.tipo().name());
+                    g.writeNumberField("desfaseDias", dependencia.desfaseDias());
+                    g.writeEndObject();
+                }
+                g.writeEndArray();
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }, jsonSchemaValidator::validateSecuenciaSnapshot);
+    }
+
+    @Override
+    public ContenidoSnapshot escribirCalendarios() {
+        return escribir(List.of(), (g, lote) -> {
+            g.writeStartObject();
+            g.writeArrayFieldStart("calendarios");
+            g.writeEndArray();
+            g.writeArrayFieldStart("diasFestivos");
+            g.writeEndArray();
+            g.writeArrayFieldStart("restricciones");
+            g.writeEndArray();
+            g.writeEndObject();
+        }, jsonSchemaValidator::validateCalendariosSnapshot);
+    }
+
+    private ContenidoSnapshot escribir(List<ActividadProgramada> actividades, Seccion seccion,
+            Consumer<String> validacion) {
+        boolean validarCompleto = muestraValidacion <= 0 || actividades.size() <= muestraValidacion;
+        if (!validarCompleto) {
+            validacion.accept(texto(seccion, actividades.subList(0, muestraValidacion)));
+        }
+        ContenidoSnapshot contenido = comprimir
+                ? ContenidoSnapshot.comprimido(gzip(seccion, actividades))
+                : ContenidoSnapshot.json(texto(seccion, actividades));
+        if (validarCompleto) {
+            validacion.accept(contenido.aTexto());
+        }
+        return contenido;
+    }
+
+    private static String texto(Seccion seccion, List<ActividadProgramada> actividades) {
+        StringWriter destino = new StringWriter();
+        try (JsonGenerator g = JSON.createGenerator(destino)) {
+            seccion.escribir(g, actividades);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error al serializar el snapshot del cronograma", e);
+        }
+        return destino.toString();
+    }
+
+    private static byte[] gzip(Seccion seccion, List<ActividadProgramada> actividades) {
+        ByteArrayOutputStream destino = new ByteArrayOutputStream();
+        try (JsonGenerator g = JSON.createGenerator(new GZIPOutputStream(destino), JsonEncoding.UTF8)) {
+            seccion.escribir(g, actividades);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error al serializar el snapshot del cronograma", e);
+        }
+        return destino.toByteArray();
+    }
+
+    private static void identificacion(JsonGenerator g, ActividadProgramada actividad) throws IOException {
+        g.writeStringField("id", actividad.getId().getValue().toString());
+        g.writeStringField("partidaId", actividad.getPartidaId().toString());
+    }
+
+    private static void fecha(JsonGenerator g, String campo, LocalDate valor) throws IOException {
+        if (valor != null) {
+            g.writeStringField(campo, valor.toString());
+        }
+    }
+
+    private static void entero(JsonGenerator g, String campo, Integer valor) throws IOException {
+        if (valor != null) {
+            g.writeNumberField(campo, valor);
+        }
+    }
+
+    /**
+     * Escritura de una sección sobre las actividades dadas (todas o la muestra a validar).
+     */
+    @FunctionalInterface
+    private interface Seccion {
+        void escribir(JsonGenerator g, List<ActividadProgramada> actividades) throws IOException;
+    }
+}
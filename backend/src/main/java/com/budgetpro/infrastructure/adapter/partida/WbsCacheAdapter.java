@@ -0,0 +1,49 @@
+package com.budgetpro.infrastructure.adapter.partida;
+
+import com.budgetpro.application.partida.dto.ArbolWbs;
+import com.budgetpro.application.partida.port.out.WbsCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Caché en memoria (Caffeine) de árboles WBS, acotada en cantidad de presupuestos.
+ *
+ * Cada entrada lleva la versión de partidas con la que se construyó: una entrada de otra
+ * versión se trata como ausente, así que escrituras hechas por otra instancia o por SQL
+ * nativo nunca sirven un árbol desactualizado aunque no pasen por {@link #invalidar}.
+ */
+@Component
+public class WbsCacheAdapter implements WbsCache {
+
+    private final Cache<UUID, ArbolWbs> arboles;
+
+    public WbsCacheAdapter(@Value("${partida.wbs.cache.max-presupuestos:200}") long maxPresupuestos,
+                           @Value("${partida.wbs.cache.expiracion-minutos:30}") long expiracionMinutos) {
+        this.arboles = Caffeine.newBuilder()
+                .maximumSize(maxPresupuestos)
+                .expireAfterAccess(Duration.ofMinutes(expiracionMinutos))
+                .build();
+    }
+
+    @Override
+    public Optional<ArbolWbs> obtener(UUID presupuestoId, String version) {
+        return Optional.ofNullable(arboles.getIfPresent(presupuestoId))
+                .filter(arbol -> arbol.version().equals(version));
+    }
+
+    @Override
+    public void guardar(UUID presupuestoId, ArbolWbs arbol) {
+        arboles.put(presupuestoId, arbol);
+    }
+
+    @Override
+    public void invalidar(UUID presupuestoId) {
+        arboles.invalidate(presupuestoId);
+    }
+}
@@ -0,0 +1,108 @@
+package com.budgetpro.infrastructure.adapter.presupuesto;
+
+import com.budgetpro.application.presupuesto.port.out.LectorPlanillaPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.FilaImportacionPresupuesto;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Interpreta las filas de una planilla de importación según su cabecera.
+ *
+ * Columnas (sin importar mayúsculas, tildes ni orden): item y descripcion obligatorias;
+ * tipo, unidad, metrado, rendimiento, recurso, cantidad y precio opcionales. Sin columna
+ * tipo, una fila con recurso es un INSUMO y el resto son PARTIDA.
+ */
+final class ColumnasPlanillaPresupuesto {
+
+    private static final List<String> OBLIGATORIAS = List.of("item", "descripcion");
+
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    ColumnasPlanillaPresupuesto(List<String> cabecera) {
+        for (int i = 0; i < cabecera.size(); i++) {
+            String nombre = normalizar(cabecera.get(i));
+            if (nombre != null) {
+                indices.putIfAbsent(nombre, i);
+            }
+        }
+        for (String obligatoria : OBLIGATORIAS) {
+            if (!indices.containsKey(obligatoria)) {
+                throw new IllegalArgumentException("La planilla no tiene la columna obligatoria '" + obligatoria
+                        + "' en la cabecera");
+            }
+        }
+    }
+
+    /**
+     * Entrega la fila al receptor; las filas vacías se ignoran y las que no se pueden
+     * interpretar se reportan como error.
+     */
+    void entregar(long numero, List<String> valores, LectorPlanillaPresupuesto.ReceptorFilas receptor) {
+        if (valores.stream().allMatch(v -> v == null || v.isBlank())) {
+            return;
+        }
+        try {
+            receptor.fila(interpretar(numero, valores));
+        } catch (IllegalArgumentException e) {
+            receptor.error(numero, e.getMessage());
+        }
+    }
+
+    private FilaImportacionPresupuesto interpretar(long numero, List<String> valores) {
+        String recurso = texto(valores, "recurso");
+        FilaImportacionPresupuesto.Tipo tipo = tipo(texto(valores, "tipo"), recurso);
+        return new FilaImportacionPresupuesto(numero, tipo, texto(valores, "item"), texto(valores, "descripcion"),
+                texto(valores, "unidad"), numero(valores, "metrado"), numero(valores, "rendimiento"), recurso,
+                numero(valores, "cantidad"), numero(valores, "precio"));
+    }
+
+    private static FilaImportacionPresupuesto.Tipo tipo(String valor, String recurso) {
+        if (valor == null) {
+            return recurso != null ? FilaImportacionPresupuesto.Tipo.INSUMO : FilaImportacionPresupuesto.Tipo.PARTIDA;
+        }
+        return switch (valor.toUpperCase(Locale.ROOT)) {
+            case "P", "PARTIDA" -> FilaImportacionPresupuesto.Tipo.PARTIDA;
+            case "I", "INSUMO" -> FilaImportacionPresupuesto.Tipo.INSUMO;
+            default -> throw new IllegalArgumentException("tipo de fila '" + valor + "' inválido (PARTIDA o INSUMO)");
+        };
+    }
+
+    private String texto(List<String> valores, String columna) {
+        Integer indice = indices.get(columna);
+        if (indice == null || indice >= valores.size()) {
+            return null;
+        }
+        String valor = valores.get(indice);
+        return valor == null || valor.isBlank() ? null : valor.trim();
+    }
+
+    /**
+     * Acepta punto o coma decimal ("12.5" o "12,5") y notación científica.
+     */
+    private BigDecimal numero(List<String> valores, String columna) {
+        String valor = texto(valores, columna);
+        if (valor == null) {
+            return null;
+        }
+        String normalizado = valor.indexOf('.') < 0 ? valor.replace(',', '.') : valor;
+        try {
+            return new BigDecimal(normalizado);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("valor '" + valor + "' de la columna " + columna
+                    + " no es un número");
+        }
+    }
+
+    private static String normalizar(String nombre) {
+        if (nombre == null || nombre.isBlank()) {
+            return null;
+        }
+        String sinTildes = Normalizer.normalize(nombre.trim(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return sinTildes.replace("\uFEFF", "").toLowerCase(Locale.ROOT);
+    }
+}
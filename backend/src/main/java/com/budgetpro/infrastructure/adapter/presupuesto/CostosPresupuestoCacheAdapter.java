@@ -0,0 +1,44 @@
+package com.budgetpro.infrastructure.adapter.presupuesto;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.CostosPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CostosPresupuestoCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Caché en memoria (Caffeine) de costos consolidados, acotada en cantidad de presupuestos.
+ *
+ * La entrada solo se sirve si su versión coincide con la vigente de partidas y APUs, de modo
+ * que cualquier escritura (de esta u otra instancia) la descarta en la siguiente lectura.
+ */
+@Component
+public class CostosPresupuestoCacheAdapter implements CostosPresupuestoCache {
+
+    private final Cache<UUID, CostosPresupuesto> costos;
+
+    public CostosPresupuestoCacheAdapter(
+            @Value("${presupuesto.costos.cache.max-presupuestos:500}") long maxPresupuestos,
+            @Value("${presupuesto.costos.cache.expiracion-minutos:30}") long expiracionMinutos) {
+        this.costos = Caffeine.newBuilder()
+                .maximumSize(maxPresupuestos)
+                .expireAfterAccess(Duration.ofMinutes(expiracionMinutos))
+                .build();
+    }
+
+    @Override
+    public Optional<CostosPresupuesto> obtener(UUID presupuestoId, String version) {
+        return Optional.ofNullable(costos.getIfPresent(presupuestoId))
+                .filter(entrada -> entrada.version().equals(version));
+    }
+
+    @Override
+    public void guardar(UUID presupuestoId, CostosPresupuesto entrada) {
+        costos.put(presupuestoId, entrada);
+    }
+}
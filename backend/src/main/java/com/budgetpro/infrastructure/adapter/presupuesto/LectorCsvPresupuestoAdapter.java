@@ -0,0 +1,99 @@
+package com.budgetpro.infrastructure.adapter.presupuesto;
+
+import com.budgetpro.application.presupuesto.port.out.LectorPlanillaPresupuesto;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lector de planillas CSV (UTF-8, separador ',' o ';' detectado en la cabecera, campos
+ * entre comillas dobles con "" como escape).
+ *
+ * Lee línea a línea: la memoria no depende del tamaño del archivo.
+ */
+@Component
+public class LectorCsvPresupuestoAdapter implements LectorPlanillaPresupuesto {
+
+    @Override
+    public boolean soporta(String nombreArchivo) {
+        return nombreArchivo != null && nombreArchivo.toLowerCase(Locale.ROOT).endsWith(".csv");
+    }
+
+    @Override
+    public void leer(Path archivo, ReceptorFilas receptor) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            String cabecera = reader.readLine();
+            if (cabecera == null) {
+                throw new IllegalArgumentException("El archivo CSV está vacío");
+            }
+            char separador = cabecera.indexOf(';') >= 0 ? ';' : ',';
+            long[] linea = {1};
+            ColumnasPlanillaPresupuesto columnas = new ColumnasPlanillaPresupuesto(
+                    dividir(cabecera, reader, separador, linea));
+
+            String texto;
+            while ((texto = reader.readLine()) != null) {
+                long numero = ++linea[0];
+                columnas.entregar(numero, dividir(texto, reader, separador, linea), receptor);
+            }
+        }
+    }
+
+    /**
+     * Divide un registro en campos; si una comilla queda abierta, el registro continúa en
+     * las líneas siguientes.
+     */
+    static List<String> dividir(String texto, BufferedReader reader, char separador, long[] linea)
+            throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        String actual = texto;
+        int i = 0;
+        while (true) {
+            if (i == actual.length()) {
+                if (!entreComillas) {
+                    break;
+                }
+                String siguiente = reader.readLine();
+                if (siguiente == null) {
+                    throw new IllegalArgumentException("Comillas sin cerrar en la línea " + linea[0]);
+                }
+                linea[0]++;
+                campo.append('\n');
+                actual = siguiente;
+                i = 0;
+                continue;
+            }
+            char c = actual.charAt(i++);
+            if (entreComillas) {
+                if (c == '"') {
+                    if (i < actual.length() && actual.charAt(i) == '"') {
+                        campo.append('"');
+                        i++;
+                    } else {
+                        entreComillas = false;
+                    }
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
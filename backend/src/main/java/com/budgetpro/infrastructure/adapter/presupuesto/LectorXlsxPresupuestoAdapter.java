@@ -0,0 +1,192 @@
+package com.budgetpro.infrastructure.adapter.presupuesto;
+
+import com.budgetpro.application.presupuesto.port.out.LectorPlanillaPresupuesto;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Lector de planillas XLSX (primera hoja del libro).
+ *
+ * Recorre el XML de la hoja con StAX, fila a fila, sin construir el documento: solo se
+ * retiene la tabla de textos compartidos del libro y la fila en curso.
+ */
+@Component
+public class LectorXlsxPresupuestoAdapter implements LectorPlanillaPresupuesto {
+
+    private static final String TEXTOS_COMPARTIDOS = "xl/sharedStrings.xml";
+    private static final String PRIMERA_HOJA = "xl/worksheets/sheet1.xml";
+    private static final String PREFIJO_HOJAS = "xl/worksheets/sheet";
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public LectorXlsxPresupuestoAdapter() {
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public boolean soporta(String nombreArchivo) {
+        return nombreArchivo != null && nombreArchivo.toLowerCase(Locale.ROOT).endsWith(".xlsx");
+    }
+
+    @Override
+    public void leer(Path archivo, ReceptorFilas receptor) throws IOException {
+        try (ZipFile zip = new ZipFile(archivo.toFile())) {
+            List<String> textosCompartidos = leerTextosCompartidos(zip);
+            ZipEntry hoja = primeraHoja(zip);
+            try (InputStream contenido = zip.getInputStream(hoja)) {
+                leerHoja(contenido, textosCompartidos, receptor);
+            }
+        } catch (java.util.zip.ZipException e) {
+            throw new IllegalArgumentException("El archivo no es un XLSX válido", e);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("El XLSX tiene un XML mal formado: " + e.getMessage(), e);
+        }
+    }
+
+    private ZipEntry primeraHoja(ZipFile zip) {
+        ZipEntry hoja = zip.getEntry(PRIMERA_HOJA);
+        if (hoja != null) {
+            return hoja;
+        }
+        return Collections.list(zip.entries()).stream()
+                .filter(entrada -> entrada.getName().startsWith(PREFIJO_HOJAS) && entrada.getName().endsWith(".xml"))
+                .min(Comparator.comparing(ZipEntry::getName))
+                .orElseThrow(() -> new IllegalArgumentException("El XLSX no contiene hojas"));
+    }
+
+    private List<String> leerTextosCompartidos(ZipFile zip) throws IOException, XMLStreamException {
+        List<String> textos = new ArrayList<>();
+        ZipEntry entrada = zip.getEntry(TEXTOS_COMPARTIDOS);
+        if (entrada == null) {
+            return textos;
+        }
+        try (InputStream contenido = zip.getInputStream(entrada)) {
+            XMLStreamReader xml = xmlInputFactory.createXMLStreamReader(contenido);
+            try {
+                StringBuilder texto = null;
+                while (xml.hasNext()) {
+                    int evento = xml.next();
+                    if (evento == XMLStreamConstants.START_ELEMENT) {
+                        if ("si".equals(xml.getLocalName())) {
+                            texto = new StringBuilder();
+                        } else if ("t".equals(xml.getLocalName()) && texto != null) {
+                            texto.append(xml.getElementText());
+                        }
+                    } else if (evento == XMLStreamConstants.END_ELEMENT && "si".equals(xml.getLocalName())
+                            && texto != null) {
+                        textos.add(texto.toString());
+                        texto = null;
+                    }
+                }
+            } finally {
+                xml.close();
+            }
+        }
+        return textos;
+    }
+
+    private void leerHoja(InputStream contenido, List<String> textosCompartidos, ReceptorFilas receptor)
+            throws XMLStreamException {
+        XMLStreamReader xml = xmlInputFactory.createXMLStreamReader(contenido);
+        try {
+            ColumnasPlanillaPresupuesto columnas = null;
+            List<String> fila = null;
+            long numeroFila = 0;
+            int columna = 0;
+            String tipoCelda = null;
+            String valorCelda = null;
+
+            while (xml.hasNext()) {
+                int evento = xml.next();
+                if (evento == XMLStreamConstants.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "row" -> {
+                            String referencia = xml.getAttributeValue(null, "r");
+                            numeroFila = referencia != null ? Long.parseLong(referencia) : numeroFila + 1;
+                            fila = new ArrayList<>();
+                            columna = 0;
+                        }
+                        case "c" -> {
+                            String referencia = xml.getAttributeValue(null, "r");
+                            if (referencia != null) {
+                                columna = indiceColumna(referencia);
+                            }
+                            tipoCelda = xml.getAttributeValue(null, "t");
+                            valorCelda = null;
+                        }
+                        case "v" -> valorCelda = xml.getElementText();
+                        case "t" -> valorCelda = (valorCelda != null ? valorCelda : "") + xml.getElementText();
+                        default -> {
+                            // Estilos, fórmulas y demás elementos no aportan al valor
+                        }
+                    }
+                } else if (evento == XMLStreamConstants.END_ELEMENT) {
+                    if ("c".equals(xml.getLocalName()) && fila != null) {
+                        while (fila.size() < columna) {
+                            fila.add(null);
+                        }
+                        fila.add(valor(tipoCelda, valorCelda, textosCompartidos));
+                        columna++;
+                    } else if ("row".equals(xml.getLocalName()) && fila != null) {
+                        if (columnas == null) {
+                            columnas = new ColumnasPlanillaPresupuesto(fila);
+                        } else {
+                            columnas.entregar(numeroFila, fila, receptor);
+                        }
+                        fila = null;
+                    }
+                }
+            }
+            if (columnas == null) {
+                throw new IllegalArgumentException("La hoja del XLSX está vacía");
+            }
+        } finally {
+            xml.close();
+        }
+    }
+
+    private static String valor(String tipoCelda, String valorCelda, List<String> textosCompartidos) {
+        if (valorCelda == null) {
+            return null;
+        }
+        if ("s".equals(tipoCelda)) {
+            int indice = Integer.parseInt(valorCelda.trim());
+            if (indice < 0 || indice >= textosCompartidos.size()) {
+                throw new IllegalArgumentException("El XLSX referencia un texto compartido inexistente: " + indice);
+            }
+            return textosCompartidos.get(indice);
+        }
+        return valorCelda;
+    }
+
+    /**
+     * Índice (base 0) de la columna de una referencia de celda ("A1" → 0, "AB12" → 27).
+     */
+    static int indiceColumna(String referencia) {
+        int indice = 0;
+        for (int i = 0; i < referencia.length(); i++) {
+            char c = referencia.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            indice = indice * 26 + (c - 'A' + 1);
+        }
+        return indice - 1;
+    }
+}
@@ -6,10 +6,8 @@ import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
 import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
 import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
 import com.budgetpro.domain.logistica.compra.port.out.PartidaValidator;
-import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,14 +20,11 @@ public class PartidaValidatorAdapter implements PartidaValidator {
 
     private final PartidaRepository partidaRepository;
     private final PresupuestoRepository presupuestoRepository;
-    private final PartidaJpaRepository partidaJpaRepository;
 
     public PartidaValidatorAdapter(PartidaRepository partidaRepository,
-                                  PresupuestoRepository presupuestoRepository,
-                                  PartidaJpaRepository partidaJpaRepository) {
+                                  PresupuestoRepository presupuestoRepository) {
         this.partidaRepository = partidaRepository;
         this.presupuestoRepository = presupuestoRepository;
-        this.partidaJpaRepository = partidaJpaRepository;
     }
 
     @Override
@@ -53,9 +48,6 @@ public class PartidaValidatorAdapter implements PartidaValidator {
 
         // 3. Verificar que la partida es una leaf node (no tiene hijos)
         // REGLA-153: Solo partidas hoja pueden ser utilizadas en compras
-        List<com.budgetpro.infrastructure.persistence.entity.PartidaEntity> hijos = 
-                partidaJpaRepository.findByPadreId(partidaId);
-
-        return hijos.isEmpty();
+        return partidaRepository.esHoja(partidaId);
     }
 }
@@ -0,0 +1,42 @@
+package com.budgetpro.infrastructure.adapter.rrhh;
+
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
+import com.budgetpro.domain.rrhh.model.TarifasLaborales;
+import com.budgetpro.domain.rrhh.port.TarifasLaboralesCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Caché en memoria (Caffeine) de tarifas laborales derivadas, una entrada por configuración.
+ *
+ * La entrada solo se sirve si su versión coincide con la de la configuración leída; al
+ * modificarse la configuración su versión avanza y la entrada anterior se reemplaza en la
+ * siguiente derivación.
+ */
+@Component
+public class TarifasLaboralesCacheAdapter implements TarifasLaboralesCache {
+
+    private final Cache<ConfiguracionLaboralId, TarifasLaborales> tarifas;
+
+    public TarifasLaboralesCacheAdapter(
+            @Value("${rrhh.tarifas.cache.max-configuraciones:1000}") long maxConfiguraciones) {
+        this.tarifas = Caffeine.newBuilder()
+                .maximumSize(maxConfiguraciones)
+                .build();
+    }
+
+    @Override
+    public Optional<TarifasLaborales> obtener(ConfiguracionLaboralId configuracionId, long version) {
+        return Optional.ofNullable(tarifas.getIfPresent(configuracionId))
+                .filter(entrada -> entrada.version() == version);
+    }
+
+    @Override
+    public void guardar(TarifasLaborales entrada) {
+        tarifas.put(entrada.configuracionId(), entrada);
+    }
+}
@@ -1,17 +1,22 @@
 package com.budgetpro.infrastructure.config;
 
 import com.budgetpro.domain.finanzas.alertas.service.AnalizadorParametricoService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 
 /**
  * Configuración del bean AnalizadorParametricoService.
+ * 
+ * Las reglas estándar se evalúan en paralelo en el pool de tareas de la aplicación.
  */
 @Configuration
 public class AnalizadorParametricoServiceConfig {
     
     @Bean
-    public AnalizadorParametricoService analizadorParametricoService() {
-        return new AnalizadorParametricoService();
+    public AnalizadorParametricoService analizadorParametricoService(
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        return new AnalizadorParametricoService(AnalizadorParametricoService.reglasEstandar(), taskExecutor);
     }
 }
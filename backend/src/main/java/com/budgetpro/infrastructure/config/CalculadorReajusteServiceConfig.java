@@ -1,11 +1,12 @@
 package com.budgetpro.infrastructure.config;
 
 import com.budgetpro.domain.finanzas.reajuste.service.CalculadorReajusteService;
+import com.budgetpro.domain.finanzas.reajuste.service.MotorReajustePolinomico;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * Configuración del bean CalculadorReajusteService.
+ * Configuración de los beans CalculadorReajusteService y MotorReajustePolinomico.
  */
 @Configuration
 public class CalculadorReajusteServiceConfig {
@@ -14,4 +15,9 @@ public class CalculadorReajusteServiceConfig {
     public CalculadorReajusteService calculadorReajusteService() {
         return new CalculadorReajusteService();
     }
+    
+    @Bean
+    public MotorReajustePolinomico motorReajustePolinomico() {
+        return new MotorReajustePolinomico();
+    }
 }
@@ -2,6 +2,7 @@ package com.budgetpro.infrastructure.config;
 
 import com.budgetpro.domain.finanzas.apu.port.out.ApuRepository;
 import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CostosPresupuestoCache;
 import com.budgetpro.domain.finanzas.presupuesto.service.CalculoPresupuestoService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,7 +18,8 @@ public class CalculoPresupuestoServiceConfig {
 
     @Bean
     public CalculoPresupuestoService calculoPresupuestoService(PartidaRepository partidaRepository,
-                                                               ApuRepository apuRepository) {
-        return new CalculoPresupuestoService(partidaRepository, apuRepository);
+                                                               ApuRepository apuRepository,
+                                                               CostosPresupuestoCache costosPresupuestoCache) {
+        return new CalculoPresupuestoService(partidaRepository, apuRepository, costosPresupuestoCache);
     }
 }
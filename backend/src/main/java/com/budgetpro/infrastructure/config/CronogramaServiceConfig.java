@@ -2,10 +2,10 @@ package com.budgetpro.infrastructure.config;
 
 import com.budgetpro.domain.finanzas.cronograma.port.out.ActividadProgramadaRepository;
 import com.budgetpro.domain.finanzas.cronograma.port.out.CronogramaSnapshotRepository;
+import com.budgetpro.domain.finanzas.cronograma.port.out.EscritorSnapshotCronograma;
 import com.budgetpro.domain.finanzas.cronograma.port.out.ProgramaObraRepository;
 import com.budgetpro.domain.finanzas.cronograma.service.CronogramaService;
 import com.budgetpro.domain.finanzas.cronograma.service.SnapshotGeneratorService;
-import com.budgetpro.shared.validation.JsonSchemaValidator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,16 +17,16 @@ import org.springframework.context.annotation.Configuration;
 public class CronogramaServiceConfig {
 
     @Bean
-    public SnapshotGeneratorService snapshotGeneratorService(JsonSchemaValidator jsonSchemaValidator) {
-        return new SnapshotGeneratorService(jsonSchemaValidator, jsonSchemaValidator);
+    public SnapshotGeneratorService snapshotGeneratorService(EscritorSnapshotCronograma escritorSnapshotCronograma) {
+        return new SnapshotGeneratorService(escritorSnapshotCronograma);
     }
 
     @Bean
     public CronogramaService cronogramaService(ProgramaObraRepository programaObraRepository,
             ActividadProgramadaRepository actividadProgramadaRepository,
             CronogramaSnapshotRepository cronogramaSnapshotRepository,
-            SnapshotGeneratorService snapshotGeneratorService, JsonSchemaValidator jsonSchemaValidator) {
+            SnapshotGeneratorService snapshotGeneratorService) {
         return new CronogramaService(programaObraRepository, actividadProgramadaRepository,
-                cronogramaSnapshotRepository, snapshotGeneratorService, jsonSchemaValidator);
+                cronogramaSnapshotRepository, snapshotGeneratorService);
     }
 }
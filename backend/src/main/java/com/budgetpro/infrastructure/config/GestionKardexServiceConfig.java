@@ -1,11 +1,13 @@
 package com.budgetpro.infrastructure.config;
 
 import com.budgetpro.domain.logistica.almacen.service.GestionKardexService;
+import com.budgetpro.domain.logistica.almacen.service.RecosteoKardexService;
+import com.budgetpro.domain.logistica.almacen.service.ValorizacionKardexService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * Configuración del bean GestionKardexService.
+ * Configuración de los servicios de dominio del Kárdex.
  */
 @Configuration
 public class GestionKardexServiceConfig {
@@ -14,4 +16,14 @@ public class GestionKardexServiceConfig {
     public GestionKardexService gestionKardexService() {
         return new GestionKardexService();
     }
+
+    @Bean
+    public ValorizacionKardexService valorizacionKardexService() {
+        return new ValorizacionKardexService();
+    }
+
+    @Bean
+    public RecosteoKardexService recosteoKardexService(GestionKardexService gestionKardexService) {
+        return new RecosteoKardexService(gestionKardexService);
+    }
 }
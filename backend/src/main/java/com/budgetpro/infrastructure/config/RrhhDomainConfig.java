@@ -1,17 +1,39 @@
 package com.budgetpro.infrastructure.config;
 
+import com.budgetpro.application.rrhh.constant.NominaConstants;
 import com.budgetpro.domain.rrhh.port.AsignacionSolapeValidator;
+import com.budgetpro.domain.rrhh.port.TarifasLaboralesCache;
 import com.budgetpro.domain.rrhh.service.CalculadorFSR;
+import com.budgetpro.domain.rrhh.service.MotorNomina;
 import com.budgetpro.domain.rrhh.service.RegimenCivilSolapeValidator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 
 @Configuration
 public class RrhhDomainConfig {
 
+    /**
+     * FSR y tarifas derivadas, cacheadas por ID y versión de la configuración laboral.
+     */
+    @Bean
+    public CalculadorFSR calculadorFSR(TarifasLaboralesCache tarifasLaboralesCache) {
+        return new CalculadorFSR(tarifasLaboralesCache);
+    }
+
+    /**
+     * Motor de nómina: empleados en particiones independientes sobre el pool de tareas de la aplicación.
+     * Cada lote se reparte en tantas particiones como hilos tiene el pool (tamano-particion es el máximo).
+     */
     @Bean
-    public CalculadorFSR calculadorFSR() {
-        return new CalculadorFSR();
+    public MotorNomina motorNomina(CalculadorFSR calculadorFSR,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${rrhh.nomina.tamano-particion:500}") int tamanoParticion,
+            @Value("${spring.task.execution.pool.core-size:8}") int paralelismo) {
+        return new MotorNomina(calculadorFSR, NominaConstants.PORCENTAJE_ISR, taskExecutor, tamanoParticion,
+                paralelismo);
     }
 
     /**
@@ -0,0 +1,48 @@
+package com.budgetpro.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors de tareas de la aplicación.
+ *
+ * Las importaciones de presupuesto tienen su propio pool acotado (hilos y cola): una ráfaga de
+ * importaciones se rechaza (la importación queda FALLIDO) en lugar de encolarse sin límite y
+ * ocupar los hilos del pool compartido que usan MotorNomina y AnalizadorParametricoService.
+ */
+@Configuration
+public class TaskExecutorConfig {
+
+    /**
+     * Pool compartido de la aplicación, igual al que autoconfigura Spring Boot
+     * (spring.task.execution.*). Se declara aquí porque la autoconfiguración se desactiva en
+     * cuanto existe otro bean Executor en el contexto.
+     */
+    @Lazy
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Pool de importaciones de presupuesto; con hilos y cola llenos rechaza la tarea
+     * ({@link org.springframework.core.task.TaskRejectedException}).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importacionPresupuestoExecutor(
+            @Value("${presupuesto.importacion.executor.hilos:2}") int hilos,
+            @Value("${presupuesto.importacion.executor.capacidad-cola:10}") int capacidadCola) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setQueueCapacity(capacidadCola);
+        executor.setThreadNamePrefix("importacion-presupuesto-");
+        // Al detener la aplicación no se espera: las importaciones interrumpidas se recuperan como FALLIDO
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -2,17 +2,26 @@ package com.budgetpro.infrastructure.logistica.inventario.adapter;
 
 import com.budgetpro.domain.logistica.inventario.event.MaterialConsumed;
 import com.budgetpro.domain.logistica.inventario.port.out.AcPublisher;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.budgetpro.infrastructure.outbox.OutboxPublisher;
 import org.springframework.stereotype.Component;
 
+/**
+ * Publica eventos de Costo Real (AC) en el outbox transaccional.
+ * 
+ * El evento se confirma con la transacción del consumo; los consumidores (EVM, etc.)
+ * lo reciben en segundo plano vía OutboxDispatcher.
+ */
 @Component
 public class AcPublisherAdapter implements AcPublisher {
 
-    private static final Logger log = LoggerFactory.getLogger(AcPublisherAdapter.class);
+    private final OutboxPublisher outboxPublisher;
+
+    public AcPublisherAdapter(OutboxPublisher outboxPublisher) {
+        this.outboxPublisher = outboxPublisher;
+    }
 
     @Override
     public void publicar(MaterialConsumed event) {
-        log.info("Event published: {}", event);
+        outboxPublisher.publicar(event, event.proyectoId());
     }
 }
@@ -2,17 +2,23 @@ package com.budgetpro.infrastructure.logistica.inventario.adapter;
 
 import com.budgetpro.domain.logistica.inventario.event.BudgetAlertEvent;
 import com.budgetpro.domain.logistica.inventario.port.out.BudgetAlertPublisher;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.budgetpro.infrastructure.outbox.OutboxPublisher;
 import org.springframework.stereotype.Component;
 
+/**
+ * Publica alertas de ejecución presupuestal en el outbox transaccional.
+ */
 @Component
 public class BudgetAlertPublisherAdapter implements BudgetAlertPublisher {
 
-    private static final Logger log = LoggerFactory.getLogger(BudgetAlertPublisherAdapter.class);
+    private final OutboxPublisher outboxPublisher;
+
+    public BudgetAlertPublisherAdapter(OutboxPublisher outboxPublisher) {
+        this.outboxPublisher = outboxPublisher;
+    }
 
     @Override
     public void publicar(BudgetAlertEvent event) {
-        log.info("Budget alert published: {}", event);
+        outboxPublisher.publicar(event, event.proyectoId());
     }
 }
@@ -1,18 +1,26 @@
 package com.budgetpro.infrastructure.logistica.inventario.adapter;
 
 import com.budgetpro.domain.logistica.inventario.port.out.PartidaValidator;
+import com.budgetpro.infrastructure.persistence.entity.PartidaEntity;
 import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.consumo.PartidaGastoAcumuladoJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component("inventarioPartidaValidatorAdapter")
 public class PartidaValidatorAdapter implements PartidaValidator {
 
     private final PartidaJpaRepository repository;
+    private final PartidaGastoAcumuladoJpaRepository gastoAcumuladoRepository;
 
-    public PartidaValidatorAdapter(PartidaJpaRepository repository) {
+    public PartidaValidatorAdapter(PartidaJpaRepository repository,
+                                   PartidaGastoAcumuladoJpaRepository gastoAcumuladoRepository) {
         this.repository = repository;
+        this.gastoAcumuladoRepository = gastoAcumuladoRepository;
     }
 
     @Override
@@ -22,9 +30,27 @@ public class PartidaValidatorAdapter implements PartidaValidator {
         return repository.existsById(partidaId);
     }
 
+    /**
+     * Porcentaje de ejecución = gasto acumulado / (metrado vigente * precio unitario) * 100.
+     * 
+     * Dos lecturas por clave primaria: el gasto se mantiene por delta en
+     * partida_gasto_acumulado, no se suman los consumos de la partida.
+     */
     @Override
     public double getPorcentajeEjecucion(UUID partidaId) {
-        // Mock implementation for startup
-        return 0.0;
+        Optional<PartidaEntity> partidaOpt = repository.findById(partidaId);
+        if (partidaOpt.isEmpty()) {
+            return 0.0;
+        }
+        PartidaEntity partida = partidaOpt.get();
+        BigDecimal plan = partida.getMetrado().multiply(partida.getPrecioUnitario());
+        if (plan.signum() <= 0) {
+            return 0.0;
+        }
+        // Lectura escalar: la entidad cacheada no refleja los incrementos nativos de la transacción
+        BigDecimal gasto = gastoAcumuladoRepository.findGastoAcumulado(partidaId).orElse(BigDecimal.ZERO);
+        return gasto.multiply(new BigDecimal("100"))
+                .divide(plan, 4, RoundingMode.HALF_UP)
+                .doubleValue();
     }
 }
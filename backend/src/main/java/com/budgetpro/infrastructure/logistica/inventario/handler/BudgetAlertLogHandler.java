@@ -0,0 +1,28 @@
+package com.budgetpro.infrastructure.logistica.inventario.handler;
+
+import com.budgetpro.domain.logistica.inventario.event.BudgetAlertEvent;
+import com.budgetpro.infrastructure.outbox.OutboxEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Registra en log las alertas de presupuesto entregadas por el outbox.
+ */
+@Component
+public class BudgetAlertLogHandler implements OutboxEventHandler<BudgetAlertEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetAlertLogHandler.class);
+
+    @Override
+    public Class<BudgetAlertEvent> tipoEvento() {
+        return BudgetAlertEvent.class;
+    }
+
+    @Override
+    public void manejar(List<BudgetAlertEvent> eventos) {
+        eventos.forEach(event -> log.info("Budget alert published: {}", event));
+    }
+}
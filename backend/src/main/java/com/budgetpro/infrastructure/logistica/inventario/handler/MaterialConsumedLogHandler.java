@@ -0,0 +1,28 @@
+package com.budgetpro.infrastructure.logistica.inventario.handler;
+
+import com.budgetpro.domain.logistica.inventario.event.MaterialConsumed;
+import com.budgetpro.infrastructure.outbox.OutboxEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Registra en log los eventos de Costo Real (AC) entregados por el outbox.
+ */
+@Component
+public class MaterialConsumedLogHandler implements OutboxEventHandler<MaterialConsumed> {
+
+    private static final Logger log = LoggerFactory.getLogger(MaterialConsumedLogHandler.class);
+
+    @Override
+    public Class<MaterialConsumed> tipoEvento() {
+        return MaterialConsumed.class;
+    }
+
+    @Override
+    public void manejar(List<MaterialConsumed> eventos) {
+        eventos.forEach(event -> log.info("Event published: {}", event));
+    }
+}
@@ -0,0 +1,53 @@
+package com.budgetpro.infrastructure.observability;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Métricas del outbox transaccional.
+ * 
+ * Métricas expuestas:
+ * - outbox.eventos.despachados: Eventos entregados, por tipo
+ * - outbox.eventos.reintentos: Entregas fallidas que se reprogramaron, por tipo
+ * - outbox.eventos.fallidos: Eventos que agotaron reintentos o no se pudieron leer, por tipo
+ * - outbox.eventos.lag: Tiempo entre la escritura del evento y su entrega (p50, p95, p99)
+ * - outbox.eventos.pendientes: Tamaño de la cola tras la última pasada del despachador
+ */
+@Component
+public class OutboxMetrics {
+
+    private static final String METRIC_DESPACHADOS = "outbox.eventos.despachados";
+    private static final String METRIC_REINTENTOS = "outbox.eventos.reintentos";
+    private static final String METRIC_FALLIDOS = "outbox.eventos.fallidos";
+    private static final String METRIC_LAG = "outbox.eventos.lag";
+    private static final String METRIC_PENDIENTES = "outbox.eventos.pendientes";
+
+    private final MeterRegistry registry;
+    private final AtomicLong pendientes = new AtomicLong();
+
+    public OutboxMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder(METRIC_PENDIENTES, pendientes, AtomicLong::get).register(registry);
+    }
+
+    public void eventoDespachado(String tipo, Duration lag) {
+        registry.counter(METRIC_DESPACHADOS, "tipo", tipo).increment();
+        registry.timer(METRIC_LAG, "tipo", tipo).record(lag);
+    }
+
+    public void eventoReintentado(String tipo) {
+        registry.counter(METRIC_REINTENTOS, "tipo", tipo).increment();
+    }
+
+    public void eventoFallido(String tipo) {
+        registry.counter(METRIC_FALLIDOS, "tipo", tipo).increment();
+    }
+
+    public void actualizarPendientes(long cantidad) {
+        pendientes.set(cantidad);
+    }
+}
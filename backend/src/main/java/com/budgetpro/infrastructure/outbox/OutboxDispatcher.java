@@ -0,0 +1,204 @@
+package com.budgetpro.infrastructure.outbox;
+
+import com.budgetpro.infrastructure.observability.OutboxMetrics;
+import com.budgetpro.infrastructure.persistence.entity.outbox.EstadoOutboxEvento;
+import com.budgetpro.infrastructure.persistence.entity.outbox.OutboxEventoEntity;
+import com.budgetpro.infrastructure.persistence.repository.outbox.OutboxEventoJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Entrega los eventos del outbox a los {@link OutboxEventHandler} en proceso.
+ * 
+ * Cada lote se toma con FOR UPDATE SKIP LOCKED dentro de una transacción, se agrupa por
+ * tipo y se entrega a cada manejador en una transacción propia (REQUIRES_NEW), de modo
+ * que un manejador que falla no invalida el registro del resultado. Si la entrega del lote
+ * falla, se reintenta evento por evento para aislar al culpable; los que fallan se
+ * reprograman con backoff exponencial hasta agotar los reintentos (estado FALLIDO).
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final int LONGITUD_MAXIMA_ERROR = 2000;
+
+    private final OutboxEventoJpaRepository repository;
+    private final Map<String, List<OutboxEventHandler<?>>> handlersPorTipo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaccionHandler;
+    private final OutboxMetrics metrics;
+    private final int maxIntentos;
+    private final Duration backoffBase;
+    private final Duration backoffMaximo;
+
+    public OutboxDispatcher(OutboxEventoJpaRepository repository,
+                            List<OutboxEventHandler<?>> handlers,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            OutboxMetrics metrics,
+                            @Value("${outbox.dispatcher.max-intentos:10}") int maxIntentos,
+                            @Value("${outbox.dispatcher.backoff-base-ms:1000}") long backoffBaseMs,
+                            @Value("${outbox.dispatcher.backoff-maximo-ms:300000}") long backoffMaximoMs) {
+        this.repository = repository;
+        this.handlersPorTipo = handlers.stream()
+                .collect(Collectors.groupingBy(h -> h.tipoEvento().getSimpleName()));
+        this.objectMapper = objectMapper;
+        this.transaccionHandler = new TransactionTemplate(transactionManager);
+        this.transaccionHandler.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.metrics = metrics;
+        this.maxIntentos = maxIntentos;
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMaximo = Duration.ofMillis(backoffMaximoMs);
+    }
+
+    /**
+     * Toma y entrega un lote de eventos pendientes.
+     *
+     * @param tamanoLote Máximo de eventos a tomar
+     * @return Número de eventos tomados (si es menor al tamaño de lote, la cola quedó vacía)
+     */
+    @Transactional
+    public int despacharLote(int tamanoLote) {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<OutboxEventoEntity> eventos = repository.bloquearPendientes(ahora, tamanoLote);
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<OutboxEventoEntity>> porTipo = eventos.stream()
+                .collect(Collectors.groupingBy(OutboxEventoEntity::getTipo, LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<String, List<OutboxEventoEntity>> grupo : porTipo.entrySet()) {
+            despacharTipo(grupo.getKey(), grupo.getValue(), ahora);
+        }
+        return eventos.size();
+    }
+
+    /**
+     * Cantidad de eventos pendientes (incluye los que esperan reintento).
+     */
+    @Transactional(readOnly = true)
+    public long contarPendientes() {
+        return repository.countByEstado(EstadoOutboxEvento.PENDIENTE);
+    }
+
+    /**
+     * Elimina los eventos ya procesados antes de la fecha dada.
+     *
+     * @return Número de eventos eliminados
+     */
+    @Transactional
+    public int purgarProcesados(LocalDateTime antesDe) {
+        return repository.eliminarPorEstadoAntesDe(EstadoOutboxEvento.PROCESADO, antesDe);
+    }
+
+    private void despacharTipo(String tipo, List<OutboxEventoEntity> eventos, LocalDateTime ahora) {
+        List<OutboxEventHandler<?>> handlers = handlersPorTipo.getOrDefault(tipo, List.of());
+        if (handlers.isEmpty()) {
+            // Sin consumidores registrados: nada que entregar
+            eventos.forEach(evento -> marcarProcesado(evento, ahora));
+            return;
+        }
+
+        Set<OutboxEventoEntity> fallidos = new HashSet<>();
+        for (OutboxEventHandler<?> handler : handlers) {
+            entregar(handler, eventos, fallidos, ahora);
+        }
+        for (OutboxEventoEntity evento : eventos) {
+            if (!fallidos.contains(evento)) {
+                marcarProcesado(evento, ahora);
+            }
+        }
+    }
+
+    private <T> void entregar(OutboxEventHandler<T> handler, List<OutboxEventoEntity> eventos,
+                              Set<OutboxEventoEntity> fallidos, LocalDateTime ahora) {
+        // Solo se entregan los eventos que no fallaron con un manejador anterior
+        Map<OutboxEventoEntity, T> payloads = new LinkedHashMap<>();
+        for (OutboxEventoEntity evento : eventos) {
+            if (fallidos.contains(evento)) {
+                continue;
+            }
+            try {
+                payloads.put(evento, objectMapper.readValue(evento.getPayload(), handler.tipoEvento()));
+            } catch (Exception e) {
+                // Payload ilegible: no mejora con reintentos
+                evento.registrarFallo(resumir(e), ahora, true);
+                fallidos.add(evento);
+                metrics.eventoFallido(evento.getTipo());
+                log.error("Evento de outbox {} ({}) con payload ilegible: {}", evento.getId(), evento.getTipo(), e.getMessage());
+            }
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<T> lote = new ArrayList<>(payloads.values());
+            transaccionHandler.executeWithoutResult(status -> handler.manejar(lote));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Falló la entrega en lote de {} eventos {} a {}; se reintenta uno por uno: {}",
+                    payloads.size(), handler.tipoEvento().getSimpleName(), handler.getClass().getSimpleName(), e.getMessage());
+        }
+
+        for (Map.Entry<OutboxEventoEntity, T> entrada : payloads.entrySet()) {
+            try {
+                transaccionHandler.executeWithoutResult(status -> handler.manejar(List.of(entrada.getValue())));
+            } catch (RuntimeException e) {
+                registrarFallo(entrada.getKey(), e, ahora);
+                fallidos.add(entrada.getKey());
+            }
+        }
+    }
+
+    private void marcarProcesado(OutboxEventoEntity evento, LocalDateTime ahora) {
+        evento.marcarProcesado(ahora);
+        metrics.eventoDespachado(evento.getTipo(), Duration.between(evento.getCreatedAt(), ahora));
+    }
+
+    private void registrarFallo(OutboxEventoEntity evento, Exception error, LocalDateTime ahora) {
+        boolean agotado = evento.getIntentos() + 1 >= maxIntentos;
+        evento.registrarFallo(resumir(error), ahora.plus(backoff(evento.getIntentos())), agotado);
+        if (agotado) {
+            metrics.eventoFallido(evento.getTipo());
+            log.error("Evento de outbox {} ({}) marcado FALLIDO tras {} intentos: {}",
+                    evento.getId(), evento.getTipo(), evento.getIntentos(), error.getMessage(), error);
+        } else {
+            metrics.eventoReintentado(evento.getTipo());
+            log.warn("Evento de outbox {} ({}) falló (intento {}), se reintentará: {}",
+                    evento.getId(), evento.getTipo(), evento.getIntentos(), error.getMessage());
+        }
+    }
+
+    /**
+     * Backoff exponencial: base * 2^intentos, acotado al máximo.
+     */
+    private Duration backoff(int intentos) {
+        Duration espera = backoffBase.multipliedBy(1L << Math.min(intentos, 20));
+        return espera.compareTo(backoffMaximo) > 0 ? backoffMaximo : espera;
+    }
+
+    private static String resumir(Exception e) {
+        String mensaje = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return mensaje.length() > LONGITUD_MAXIMA_ERROR ? mensaje.substring(0, LONGITUD_MAXIMA_ERROR) : mensaje;
+    }
+}
@@ -0,0 +1,29 @@
+package com.budgetpro.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Manejador en proceso de eventos del outbox (acumuladores EVM, alertas, etc.).
+ * 
+ * Cada bean que implemente esta interfaz recibe, en lotes y fuera de la transacción que
+ * originó el evento, todos los eventos de su tipo. La entrega es al-menos-una-vez: si un
+ * manejador falla, el evento se reintenta para todos los manejadores de su tipo, por lo
+ * que deben ser idempotentes.
+ *
+ * @param <T> Tipo del evento (record serializable con Jackson)
+ */
+public interface OutboxEventHandler<T> {
+
+    /**
+     * Clase del evento que maneja. Su nombre simple es el tipo guardado en el outbox.
+     */
+    Class<T> tipoEvento();
+
+    /**
+     * Procesa un lote de eventos en orden de publicación.
+     * 
+     * Se ejecuta en una transacción propia: una excepción revierte solo lo hecho por este
+     * manejador y provoca la reentrega individual de los eventos del lote.
+     */
+    void manejar(List<T> eventos);
+}
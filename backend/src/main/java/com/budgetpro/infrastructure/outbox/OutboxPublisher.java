@@ -0,0 +1,55 @@
+package com.budgetpro.infrastructure.outbox;
+
+import com.budgetpro.infrastructure.persistence.entity.outbox.OutboxEventoEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Escribe eventos de dominio en el outbox transaccional.
+ * 
+ * Participa en la transacción del caso de uso que publica: el evento se confirma o se
+ * revierte junto con el cambio que lo originó, y la entrega real la hace
+ * {@link OutboxDispatcher} en segundo plano.
+ */
+@Component
+public class OutboxPublisher {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public OutboxPublisher(EntityManager entityManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Registra un evento en el outbox.
+     *
+     * @param evento Evento a publicar (su nombre de clase simple es el tipo)
+     * @param agregadoId ID del agregado al que pertenece (puede ser nulo)
+     */
+    @Transactional
+    public void publicar(Object evento, UUID agregadoId) {
+        Objects.requireNonNull(evento, "El evento no puede ser nulo");
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("No se pudo serializar el evento " + evento.getClass().getSimpleName(), e);
+        }
+        // persist directo: el ID es nuevo, se evita el SELECT previo de save()/merge
+        entityManager.persist(new OutboxEventoEntity(
+                UUID.randomUUID(),
+                evento.getClass().getSimpleName(),
+                agregadoId,
+                payload,
+                LocalDateTime.now()));
+    }
+}
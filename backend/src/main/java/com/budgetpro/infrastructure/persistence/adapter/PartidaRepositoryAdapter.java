@@ -11,13 +11,20 @@ import com.budgetpro.domain.finanzas.presupuesto.model.Subpresupuesto;
 import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
 import com.budgetpro.infrastructure.persistence.repository.PresupuestoJpaRepository;
 import com.budgetpro.infrastructure.persistence.repository.SubpresupuestoJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -35,15 +42,18 @@ public class PartidaRepositoryAdapter implements PartidaRepository,
     private final PresupuestoJpaRepository presupuestoJpaRepository;
     private final SubpresupuestoJpaRepository subpresupuestoJpaRepository;
     private final PartidaMapper mapper;
+    private final EntityManager entityManager;
 
     public PartidaRepositoryAdapter(PartidaJpaRepository jpaRepository,
                                    PresupuestoJpaRepository presupuestoJpaRepository,
                                    SubpresupuestoJpaRepository subpresupuestoJpaRepository,
-                                   PartidaMapper mapper) {
+                                   PartidaMapper mapper,
+                                   EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.presupuestoJpaRepository = presupuestoJpaRepository;
         this.subpresupuestoJpaRepository = subpresupuestoJpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -89,6 +99,34 @@ public class PartidaRepositoryAdapter implements PartidaRepository,
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Partida> findHojasByPresupuestoId(UUID presupuestoId) {
+        return jpaRepository.findByPresupuestoIdAndEsHojaTrue(presupuestoId).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Partida> findHojasSubarbol(UUID partidaId) {
+        return jpaRepository.findHojasSubarbol(partidaId).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean esHoja(UUID partidaId) {
+        return jpaRepository.existsByIdAndEsHojaTrue(partidaId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String calcularVersionWbs(UUID presupuestoId) {
+        return jpaRepository.calcularVersionWbs(presupuestoId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Partida> findById(UUID partidaId) {
@@ -96,12 +134,44 @@ public class PartidaRepositoryAdapter implements PartidaRepository,
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Partida> findAllById(Collection<UUID> partidaIds) {
+        return jpaRepository.findAllById(partidaIds).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(UUID partidaId) {
         return jpaRepository.existsById(partidaId);
     }
 
+    @Override
+    @Transactional
+    public List<PartidaId> reservarSaldos(Map<PartidaId, BigDecimal> montosPorPartida) {
+        if (montosPorPartida.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner ids = new StringJoiner(",");
+        StringJoiner montos = new StringJoiner(",");
+        montosPorPartida.forEach((partidaId, monto) -> {
+            ids.add(partidaId.getValue().toString());
+            montos.add(monto.toPlainString());
+        });
+
+        Set<UUID> reservadas = new HashSet<>(jpaRepository.reservarSaldos(ids.toString(), montos.toString()));
+
+        // Las entidades ya cargadas en el contexto quedaron desactualizadas (compromisos y versión):
+        // se desasocian sin consultar para que una lectura posterior las recargue
+        reservadas.forEach(id -> entityManager.detach(entityManager.getReference(PartidaEntity.class, id)));
+
+        return montosPorPartida.keySet().stream()
+                .filter(partidaId -> !reservadas.contains(partidaId.getValue()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean isPresupuestoCongelado(UUID partidaId) {
@@ -9,6 +9,7 @@ import com.budgetpro.infrastructure.persistence.repository.RecursoProxyJpaReposi
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Objects;
@@ -44,6 +45,17 @@ public class RecursoProxyRepositoryAdapter implements RecursoProxyRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecursoProxy> findByExternalIds(Collection<String> externalIds, String catalogSource) {
+        if (externalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByExternalIdInAndCatalogSource(externalIds, catalogSource).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional
     public RecursoProxy save(RecursoProxy proxy) {
@@ -2,122 +2,109 @@ package com.budgetpro.infrastructure.persistence.adapter.alertas;
 
 import com.budgetpro.application.alertas.usecase.AnalizarPresupuestoUseCaseImpl;
 import com.budgetpro.domain.finanzas.alertas.service.AnalizadorParametricoService;
-import com.budgetpro.domain.shared.model.TipoRecurso;
 import com.budgetpro.infrastructure.persistence.entity.PartidaEntity;
 import com.budgetpro.infrastructure.persistence.entity.RecursoEntity;
-import com.budgetpro.infrastructure.persistence.entity.apu.ApuEntity;
 import com.budgetpro.infrastructure.persistence.entity.apu.ApuInsumoEntity;
 import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
-import com.budgetpro.infrastructure.persistence.repository.RecursoJpaRepository;
-import com.budgetpro.infrastructure.persistence.repository.apu.ApuJpaRepository;
 import com.budgetpro.infrastructure.persistence.repository.apu.ApuInsumoJpaRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Implementación de ConsultaDatosAnalisis que consulta datos necesarios para el
  * análisis paramétrico.
+ *
+ * Carga el presupuesto en dos consultas (partidas; insumos de todos sus APUs con APU y
+ * recurso) y agrupa en memoria: los recursos se deduplican por ID con un mapa y sus
+ * atributos se copian una sola vez, compartidos por todos los insumos que los usan.
+ * Para un re-análisis incremental carga del mismo modo solo las partidas modificadas.
  */
 @Component
 public class ConsultaDatosAnalisisAdapter implements AnalizarPresupuestoUseCaseImpl.ConsultaDatosAnalisis {
 
+    private static final int TAMANO_LOTE = 1000;
+
     private final PartidaJpaRepository partidaJpaRepository;
-    private final ApuJpaRepository apuJpaRepository;
     private final ApuInsumoJpaRepository apuInsumoJpaRepository;
-    private final RecursoJpaRepository recursoJpaRepository;
 
-    public ConsultaDatosAnalisisAdapter(PartidaJpaRepository partidaJpaRepository, ApuJpaRepository apuJpaRepository,
-            ApuInsumoJpaRepository apuInsumoJpaRepository, RecursoJpaRepository recursoJpaRepository) {
+    public ConsultaDatosAnalisisAdapter(PartidaJpaRepository partidaJpaRepository,
+            ApuInsumoJpaRepository apuInsumoJpaRepository) {
         this.partidaJpaRepository = partidaJpaRepository;
-        this.apuJpaRepository = apuJpaRepository;
         this.apuInsumoJpaRepository = apuInsumoJpaRepository;
-        this.recursoJpaRepository = recursoJpaRepository;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AnalizadorParametricoService.DatosAnalisis consultarDatos(UUID presupuestoId) {
-        // Buscar todas las partidas del presupuesto
-        List<PartidaEntity> partidasEntity = partidaJpaRepository.findByPresupuestoId(presupuestoId);
-
-        // Buscar todos los recursos únicos del presupuesto (a través de APUs)
-        List<RecursoEntity> recursosEntity = obtenerRecursosDelPresupuesto(presupuestoId);
-
-        // Mapear recursos
-        List<AnalizadorParametricoService.DatosRecurso> recursos = recursosEntity.stream().map(this::mapearRecurso)
-                .collect(Collectors.toList());
-
-        // Mapear partidas con sus insumos
-        List<AnalizadorParametricoService.DatosPartida> partidas = partidasEntity.stream().map(this::mapearPartida)
-                .collect(Collectors.toList());
-
-        return new AnalizadorParametricoService.DatosAnalisis(recursos, partidas);
+        return armarDatos(partidaJpaRepository.findByPresupuestoId(presupuestoId),
+                apuInsumoJpaRepository.findByPresupuestoIdConRecurso(presupuestoId));
     }
 
-    private List<RecursoEntity> obtenerRecursosDelPresupuesto(UUID presupuestoId) {
-        // Obtener todos los APUs del presupuesto
-        List<PartidaEntity> partidas = partidaJpaRepository.findByPresupuestoId(presupuestoId);
+    @Override
+    @Transactional(readOnly = true)
+    public AnalizadorParametricoService.DatosAnalisis consultarDatos(UUID presupuestoId,
+                                                                    Collection<UUID> partidaIds) {
+        List<PartidaEntity> partidasEntity = new ArrayList<>(partidaIds.size());
+        List<ApuInsumoEntity> insumosEntity = new ArrayList<>();
+        // Lotes acotados: el IN no crece con el tamaño del cambio
+        List<UUID> ids = List.copyOf(partidaIds);
+        for (int desde = 0; desde < ids.size(); desde += TAMANO_LOTE) {
+            List<UUID> lote = ids.subList(desde, Math.min(desde + TAMANO_LOTE, ids.size()));
+            partidasEntity.addAll(partidaJpaRepository.findAllById(lote));
+            insumosEntity.addAll(apuInsumoJpaRepository.findByPartidaIdInConRecurso(lote));
+        }
+        return armarDatos(partidasEntity, insumosEntity);
+    }
 
-        List<UUID> recursoIds = new ArrayList<>();
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> consultarRecursosEnUso(UUID presupuestoId, Collection<UUID> recursoIds) {
+        if (recursoIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(apuInsumoJpaRepository.findRecursoIdsEnUso(presupuestoId, recursoIds));
+    }
 
-        // Para cada partida, buscar su APU y sus insumos
-        for (PartidaEntity partida : partidas) {
-            Optional<ApuEntity> apuOpt = apuJpaRepository.findByPartidaId(partida.getId());
-            if (apuOpt.isPresent()) {
-                ApuEntity apu = apuOpt.get();
-                List<ApuInsumoEntity> insumos = apuInsumoJpaRepository.findByApuId(apu.getId());
-                for (ApuInsumoEntity insumo : insumos) {
-                    UUID recursoId = insumo.getRecurso().getId();
-                    if (!recursoIds.contains(recursoId)) {
-                        recursoIds.add(recursoId);
-                    }
-                }
-            }
+    private AnalizadorParametricoService.DatosAnalisis armarDatos(List<PartidaEntity> partidasEntity,
+                                                                  List<ApuInsumoEntity> insumosEntity) {
+        Map<UUID, AnalizadorParametricoService.DatosRecurso> recursosPorId = new LinkedHashMap<>();
+        Map<UUID, List<AnalizadorParametricoService.DatosApuInsumo>> insumosPorPartida = new HashMap<>();
+        for (ApuInsumoEntity insumo : insumosEntity) {
+            AnalizadorParametricoService.DatosRecurso recurso = recursosPorId.computeIfAbsent(
+                    insumo.getRecurso().getId(), id -> mapearRecurso(insumo.getRecurso()));
+            // apu.partida es LAZY: getId() del proxy no dispara consulta
+            UUID partidaId = insumo.getApu().getPartida().getId();
+            insumosPorPartida.computeIfAbsent(partidaId, id -> new ArrayList<>())
+                    .add(new AnalizadorParametricoService.DatosApuInsumo(recurso.getId(), recurso.getNombre(),
+                            recurso.getTipo(), insumo.getCantidad(), recurso.getAtributos()));
         }
 
-        if (recursoIds.isEmpty()) {
-            return new ArrayList<>();
+        List<AnalizadorParametricoService.DatosPartida> partidas = new ArrayList<>(partidasEntity.size());
+        for (PartidaEntity partida : partidasEntity) {
+            partidas.add(new AnalizadorParametricoService.DatosPartida(partida.getId(), partida.getDescripcion(),
+                    insumosPorPartida.getOrDefault(partida.getId(), List.of())));
         }
 
-        // Buscar recursos
-        return recursoJpaRepository.findAllById(recursoIds);
+        return new AnalizadorParametricoService.DatosAnalisis(new ArrayList<>(recursosPorId.values()), partidas);
     }
 
     private AnalizadorParametricoService.DatosRecurso mapearRecurso(RecursoEntity entity) {
-        Map<String, Object> atributos = entity.getAtributos() != null ? new HashMap<>(entity.getAtributos())
-                : new HashMap<>();
+        Map<String, Object> atributos = entity.getAtributos() != null
+                ? Collections.unmodifiableMap(new HashMap<>(entity.getAtributos()))
+                : Map.of();
 
         return new AnalizadorParametricoService.DatosRecurso(entity.getId(), entity.getNombre(), entity.getTipo(),
                 atributos);
     }
-
-    private AnalizadorParametricoService.DatosPartida mapearPartida(PartidaEntity entity) {
-        // Buscar APU de la partida
-        Optional<ApuEntity> apuOpt = apuJpaRepository.findByPartidaId(entity.getId());
-
-        List<AnalizadorParametricoService.DatosApuInsumo> insumos = new ArrayList<>();
-
-        if (apuOpt.isPresent()) {
-            ApuEntity apu = apuOpt.get();
-            List<ApuInsumoEntity> insumosEntity = apuInsumoJpaRepository.findByApuId(apu.getId());
-
-            insumos = insumosEntity.stream().map(insumo -> {
-                RecursoEntity recurso = insumo.getRecurso();
-                Map<String, Object> atributos = recurso.getAtributos() != null ? new HashMap<>(recurso.getAtributos())
-                        : new HashMap<>();
-
-                return new AnalizadorParametricoService.DatosApuInsumo(recurso.getId(), recurso.getNombre(),
-                        recurso.getTipo(), insumo.getCantidad(), atributos);
-            }).collect(Collectors.toList());
-        }
-
-        return new AnalizadorParametricoService.DatosPartida(entity.getId(), entity.getDescripcion(), insumos);
-    }
 }
@@ -0,0 +1,88 @@
+package com.budgetpro.infrastructure.persistence.adapter.alertas;
+
+import com.budgetpro.domain.finanzas.alertas.model.CambiosAnalisis;
+import com.budgetpro.domain.finanzas.alertas.port.out.EstadoAnalisisRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC de la versión evaluada por partida (analisis_partida_estado).
+ *
+ * Los cambios se resuelven en una sola consulta comparando partida.version_analisis
+ * (avanzada por triggers) contra la versión registrada en el último análisis; solo viajan
+ * las partidas que difieren, no el presupuesto completo.
+ */
+@Component
+public class EstadoAnalisisRepositoryAdapter implements EstadoAnalisisRepository {
+
+    private static final String SELECT_CAMBIOS =
+            "SELECT p.id AS partida_id, p.version_analisis, FALSE AS eliminada "
+                    + "FROM partida p "
+                    + "LEFT JOIN analisis_partida_estado e "
+                    + "ON e.presupuesto_id = p.presupuesto_id AND e.partida_id = p.id "
+                    + "WHERE p.presupuesto_id = ? "
+                    + "AND e.version_analisis IS DISTINCT FROM p.version_analisis "
+                    + "UNION ALL "
+                    + "SELECT e.partida_id, e.version_analisis, TRUE "
+                    + "FROM analisis_partida_estado e "
+                    + "WHERE e.presupuesto_id = ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM partida p WHERE p.id = e.partida_id)";
+
+    private static final String UPSERT_ESTADO =
+            "INSERT INTO analisis_partida_estado (presupuesto_id, partida_id, version_analisis) "
+                    + "VALUES (?, ?, ?) "
+                    + "ON CONFLICT (presupuesto_id, partida_id) DO UPDATE "
+                    + "SET version_analisis = EXCLUDED.version_analisis";
+
+    private static final String DELETE_ESTADO =
+            "DELETE FROM analisis_partida_estado WHERE presupuesto_id = ? AND partida_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EstadoAnalisisRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CambiosAnalisis buscarCambios(UUID presupuestoId) {
+        Map<UUID, Long> modificadas = new HashMap<>();
+        Set<UUID> eliminadas = new HashSet<>();
+        jdbcTemplate.query(SELECT_CAMBIOS, rs -> {
+            UUID partidaId = rs.getObject("partida_id", UUID.class);
+            if (rs.getBoolean("eliminada")) {
+                eliminadas.add(partidaId);
+            } else {
+                modificadas.put(partidaId, rs.getLong("version_analisis"));
+            }
+        }, presupuestoId, presupuestoId);
+        return new CambiosAnalisis(modificadas, eliminadas);
+    }
+
+    @Override
+    @Transactional
+    public void registrar(UUID presupuestoId, CambiosAnalisis cambios) {
+        List<Object[]> evaluadas = new ArrayList<>(cambios.partidasModificadas().size());
+        cambios.partidasModificadas().forEach((partidaId, version) ->
+                evaluadas.add(new Object[]{presupuestoId, partidaId, version}));
+        List<Object[]> eliminadas = cambios.partidasEliminadas().stream()
+                .map(partidaId -> new Object[]{presupuestoId, partidaId})
+                .toList();
+
+        if (!evaluadas.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ESTADO, evaluadas);
+        }
+        if (!eliminadas.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_ESTADO, eliminadas);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.budgetpro.infrastructure.persistence.repository.almacen.AlmacenJpaRep
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -50,6 +51,17 @@ public class AlmacenRepositoryAdapter implements AlmacenRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Almacen> buscarPorIds(Collection<AlmacenId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids.stream().map(AlmacenId::getValue).distinct().toList()).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Almacen> buscarActivosPorProyectoId(UUID proyectoId) {
@@ -57,4 +69,12 @@ public class AlmacenRepositoryAdapter implements AlmacenRepository {
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Almacen> buscarActivos() {
+        return jpaRepository.findByActivoTrue().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
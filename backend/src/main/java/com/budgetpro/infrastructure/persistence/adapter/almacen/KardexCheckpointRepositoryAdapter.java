@@ -0,0 +1,78 @@
+package com.budgetpro.infrastructure.persistence.adapter.almacen;
+
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.infrastructure.persistence.mapper.almacen.KardexCheckpointMapper;
+import com.budgetpro.infrastructure.persistence.repository.almacen.KardexCheckpointJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de persistencia para KardexCheckpointRepository.
+ */
+@Component
+public class KardexCheckpointRepositoryAdapter implements KardexCheckpointRepository {
+
+    private final KardexCheckpointJpaRepository jpaRepository;
+    private final KardexCheckpointMapper mapper;
+
+    public KardexCheckpointRepositoryAdapter(KardexCheckpointJpaRepository jpaRepository,
+                                             KardexCheckpointMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional
+    public void guardarTodos(List<KardexCheckpoint> checkpoints) {
+        // Los checkpoints son inmutables, solo se crean nuevos
+        jpaRepository.saveAll(checkpoints.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> buscarUltimaFechaCorte(UUID almacenId, LocalDate fechaHasta) {
+        return jpaRepository.findUltimaFechaCorte(almacenId, fechaHasta);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> buscarUltimaFechaCorte(UUID almacenId) {
+        return jpaRepository.findUltimaFechaCorte(almacenId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<KardexCheckpoint> buscarPorAlmacenIdYFechaCorte(UUID almacenId, LocalDate fechaCorte) {
+        return jpaRepository.findByAlmacenIdAndFechaCorte(almacenId, fechaCorte).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LocalDate> buscarFechasCorteDesde(UUID almacenId, LocalDate fechaDesde) {
+        return jpaRepository.findFechasCorteDesde(almacenId, fechaDesde);
+    }
+
+    @Override
+    @Transactional
+    public void bloquearCierresPorAlmacenId(UUID almacenId) {
+        // Lock de una sola clave: no se cruza con los locks (almacén, recurso) del Kárdex
+        jpaRepository.bloquearCierres(almacenId.hashCode());
+    }
+
+    @Override
+    @Transactional
+    public void eliminarDesde(UUID almacenId, UUID recursoId, LocalDate fechaDesde) {
+        jpaRepository.deleteDesde(almacenId, recursoId, fechaDesde);
+    }
+}
@@ -43,6 +43,13 @@ public class MovimientoAlmacenRepositoryAdapter implements MovimientoAlmacenRepo
         }
     }
 
+    @Override
+    @Transactional
+    public void guardarTodos(List<MovimientoAlmacen> movimientos) {
+        // Movimientos nuevos por construcción (inmutables): un duplicado falla por PK en el flush
+        jpaRepository.saveAll(movimientos.stream().map(mapper::toEntity).toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<MovimientoAlmacen> buscarPorId(MovimientoAlmacenId id) {
@@ -5,13 +5,19 @@ import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
 import com.budgetpro.infrastructure.persistence.entity.almacen.KardexEntity;
 import com.budgetpro.infrastructure.persistence.mapper.almacen.KardexMapper;
 import com.budgetpro.infrastructure.persistence.repository.almacen.KardexJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistencia para RegistroKardexRepository.
@@ -21,10 +27,13 @@ public class RegistroKardexRepositoryAdapter implements RegistroKardexRepository
 
     private final KardexJpaRepository jpaRepository;
     private final KardexMapper mapper;
+    private final EntityManager entityManager;
 
-    public RegistroKardexRepositoryAdapter(KardexJpaRepository jpaRepository, KardexMapper mapper) {
+    public RegistroKardexRepositoryAdapter(KardexJpaRepository jpaRepository, KardexMapper mapper,
+                                           EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -35,6 +44,26 @@ public class RegistroKardexRepositoryAdapter implements RegistroKardexRepository
         jpaRepository.save(newEntity);
     }
 
+    @Override
+    @Transactional
+    public void guardarTodos(List<RegistroKardex> registros) {
+        // Entidades nuevas (version nula): persist sin SELECT previo; el flush agrupa los
+        // INSERT según hibernate.jdbc.batch_size
+        jpaRepository.saveAll(registros.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, RegistroKardex> buscarUltimosPorAlmacenIdYRecursoIds(UUID almacenId,
+                                                                         Collection<UUID> recursoIds) {
+        if (recursoIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findUltimosPorAlmacenIdYRecursoIds(almacenId, recursoIds).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toMap(RegistroKardex::getRecursoId, Function.identity()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<RegistroKardex> buscarUltimoPorAlmacenIdYRecursoId(UUID almacenId, UUID recursoId) {
@@ -49,4 +78,88 @@ public class RegistroKardexRepositoryAdapter implements RegistroKardexRepository
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RegistroKardex> buscarPorAlmacenIdEntreFechas(UUID almacenId, LocalDate fechaDesdeExclusiva,
+                                                             LocalDate fechaHasta) {
+        List<KardexEntity> entities = fechaDesdeExclusiva == null
+                ? jpaRepository.findPorAlmacenIdHastaFecha(almacenId, fechaHasta)
+                : jpaRepository.findPorAlmacenIdEntreFechas(almacenId, fechaDesdeExclusiva, fechaHasta);
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> buscarPrimeraFechaMovimiento(UUID almacenId) {
+        return jpaRepository.findPrimeraFechaMovimiento(almacenId);
+    }
+
+    @Override
+    @Transactional
+    public void bloquearPorAlmacenIdYRecursoId(UUID almacenId, UUID recursoId) {
+        // Advisory lock transaccional de Postgres: se libera en commit/rollback y no
+        // requiere que exista una fila previa (primer movimiento del recurso).
+        jpaRepository.bloquearClave(almacenId.hashCode(), recursoId.hashCode());
+    }
+
+    @Override
+    @Transactional
+    public void bloquearPorAlmacenIdYRecursoIds(UUID almacenId, Collection<UUID> recursoIds) {
+        if (recursoIds.isEmpty()) {
+            return;
+        }
+        // Misma clave que el lock individual; orden ascendente para evitar interbloqueos entre lotes
+        String claves = recursoIds.stream()
+                .map(UUID::hashCode)
+                .distinct()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        jpaRepository.bloquearClaves(almacenId.hashCode(), claves);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RegistroKardex> buscarUltimoAntesDe(UUID almacenId, UUID recursoId, LocalDate fecha) {
+        return jpaRepository.findUltimoAntesDe(almacenId, recursoId, fecha)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<RegistroKardex> recorrerDesde(UUID almacenId, UUID recursoId, LocalDate fechaDesde) {
+        // Se desacopla cada entidad tras mapearla para que el contexto de persistencia
+        // no crezca con historiales largos.
+        return jpaRepository.streamDesde(almacenId, recursoId, fechaDesde)
+                .map(entity -> {
+                    RegistroKardex registro = mapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return registro;
+                });
+    }
+
+    @Override
+    @Transactional
+    public void actualizarSaldos(List<RegistroKardex> registros) {
+        if (registros.isEmpty()) {
+            return;
+        }
+        Map<UUID, RegistroKardex> registrosPorId = registros.stream()
+                .collect(Collectors.toMap(RegistroKardex::getId, Function.identity()));
+
+        List<KardexEntity> entities = jpaRepository.findAllById(registrosPorId.keySet());
+        for (KardexEntity entity : entities) {
+            RegistroKardex registro = registrosPorId.get(entity.getId());
+            entity.setPrecioUnitario(registro.getPrecioUnitario());
+            entity.setSaldoCantidad(registro.getSaldoCantidad());
+            entity.setSaldoValor(registro.getSaldoValor());
+            entity.setCostoPromedioPonderado(registro.getCostoPromedioPonderado());
+        }
+        // Flush en lote (hibernate.jdbc.batch_size) y liberar el contexto de persistencia
+        entityManager.flush();
+        entities.forEach(entityManager::detach);
+    }
 }
@@ -124,4 +124,18 @@ public class ApuRepositoryAdapter implements ApuRepository {
     public boolean existsByPartidaId(UUID partidaId) {
         return jpaRepository.existsByPartidaId(partidaId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<APU> findByPresupuestoId(UUID presupuestoId) {
+        return jpaRepository.findByPresupuestoIdConInsumos(presupuestoId).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String calcularVersionApus(UUID presupuestoId) {
+        return jpaRepository.calcularVersionApus(presupuestoId);
+    }
 }
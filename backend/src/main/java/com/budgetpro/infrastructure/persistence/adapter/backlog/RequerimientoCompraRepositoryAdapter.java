@@ -10,9 +10,13 @@ import com.budgetpro.infrastructure.persistence.repository.backlog.Requerimiento
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Adaptador de persistencia para RequerimientoCompraRepository.
@@ -20,6 +24,12 @@ import java.util.UUID;
 @Component
 public class RequerimientoCompraRepositoryAdapter implements RequerimientoCompraRepository {
 
+    private static final List<EstadoRequerimiento> ESTADOS_PENDIENTES = List.of(
+            EstadoRequerimiento.PENDIENTE,
+            EstadoRequerimiento.EN_COTIZACION,
+            EstadoRequerimiento.ORDENADA
+    );
+
     private final RequerimientoCompraJpaRepository jpaRepository;
     private final RequerimientoCompraMapper mapper;
 
@@ -46,6 +56,30 @@ public class RequerimientoCompraRepositoryAdapter implements RequerimientoCompra
         }
     }
 
+    @Override
+    @Transactional
+    public void saveAll(List<RequerimientoCompra> requerimientos) {
+        if (requerimientos.isEmpty()) {
+            return;
+        }
+        // Una sola carga de las entidades existentes; el resto son nuevas
+        Map<UUID, RequerimientoCompraEntity> existentes = jpaRepository.findAllById(
+                        requerimientos.stream().map(r -> r.getId().getValue()).toList()).stream()
+                .collect(Collectors.toMap(RequerimientoCompraEntity::getId, Function.identity()));
+
+        List<RequerimientoCompraEntity> entities = requerimientos.stream()
+                .map(requerimiento -> {
+                    RequerimientoCompraEntity existingEntity = existentes.get(requerimiento.getId().getValue());
+                    if (existingEntity == null) {
+                        return mapper.toEntity(requerimiento);
+                    }
+                    mapper.updateEntity(existingEntity, requerimiento);
+                    return existingEntity;
+                })
+                .toList();
+        jpaRepository.saveAll(entities);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<RequerimientoCompra> findById(RequerimientoCompraId id) {
@@ -56,13 +90,19 @@ public class RequerimientoCompraRepositoryAdapter implements RequerimientoCompra
     @Override
     @Transactional(readOnly = true)
     public List<RequerimientoCompra> findPendientesPorRecurso(UUID proyectoId, String recursoExternalId, String unidadMedida) {
-        List<EstadoRequerimiento> estadosPendientes = List.of(
-                EstadoRequerimiento.PENDIENTE,
-                EstadoRequerimiento.EN_COTIZACION,
-                EstadoRequerimiento.ORDENADA
+        return mapper.toDomainList(
+                jpaRepository.findPendientesPorRecurso(proyectoId, recursoExternalId, unidadMedida, ESTADOS_PENDIENTES)
         );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequerimientoCompra> findPendientesPorRecursos(UUID proyectoId, Collection<String> recursoExternalIds) {
+        if (recursoExternalIds.isEmpty()) {
+            return List.of();
+        }
         return mapper.toDomainList(
-                jpaRepository.findPendientesPorRecurso(proyectoId, recursoExternalId, unidadMedida, estadosPendientes)
+                jpaRepository.findPendientesPorRecursos(proyectoId, recursoExternalIds, ESTADOS_PENDIENTES)
         );
     }
 
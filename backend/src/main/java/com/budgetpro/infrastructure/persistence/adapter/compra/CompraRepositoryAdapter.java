@@ -10,9 +10,13 @@ import com.budgetpro.infrastructure.persistence.repository.compra.CompraJpaRepos
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -55,16 +59,37 @@ public class CompraRepositoryAdapter implements CompraRepository {
 
     /**
      * Sincroniza los detalles del dominio con los de la entidad.
+     * 
+     * Los detalles existentes se actualizan en su lugar (por ID) para que una recepción
+     * genere solo UPDATE de las líneas afectadas en vez de DELETE + INSERT de todas.
      */
     private void sincronizarDetalles(CompraEntity existingEntity, Compra compra) {
-        // Limpiar detalles existentes y agregar los nuevos
-        existingEntity.getDetalles().clear();
+        Map<UUID, CompraDetalleEntity> existentes = existingEntity.getDetalles().stream()
+                .collect(Collectors.toMap(CompraDetalleEntity::getId, Function.identity()));
+        Set<UUID> idsDominio = new HashSet<>();
         
-        // Crear nuevos detalles (ya no se necesita cargar RecursoEntity, usamos referencias externas)
         for (com.budgetpro.domain.logistica.compra.model.CompraDetalle detalleDomain : compra.getDetalles()) {
-            CompraDetalleEntity detalleEntity = mapper.toDetalleEntity(detalleDomain, existingEntity);
-            existingEntity.getDetalles().add(detalleEntity);
+            UUID detalleId = detalleDomain.getId().getValue();
+            idsDominio.add(detalleId);
+            CompraDetalleEntity detalleEntity = existentes.get(detalleId);
+            if (detalleEntity == null) {
+                existingEntity.getDetalles().add(mapper.toDetalleEntity(detalleDomain, existingEntity));
+                continue;
+            }
+            detalleEntity.setRecursoExternalId(detalleDomain.getRecursoExternalId());
+            detalleEntity.setRecursoNombre(detalleDomain.getRecursoNombre());
+            detalleEntity.setUnidad(detalleDomain.getUnidad());
+            detalleEntity.setPartidaId(detalleDomain.getPartidaId());
+            detalleEntity.setNaturalezaGasto(detalleDomain.getNaturalezaGasto());
+            detalleEntity.setRelacionContractual(detalleDomain.getRelacionContractual());
+            detalleEntity.setRubroInsumo(detalleDomain.getRubroInsumo());
+            detalleEntity.setCantidad(detalleDomain.getCantidad());
+            detalleEntity.setPrecioUnitario(detalleDomain.getPrecioUnitario());
+            detalleEntity.setSubtotal(detalleDomain.getSubtotal());
+            detalleEntity.setCantidadRecibida(detalleDomain.getCantidadRecibida());
         }
+        
+        existingEntity.getDetalles().removeIf(d -> !idsDominio.contains(d.getId()));
     }
 
     @Override
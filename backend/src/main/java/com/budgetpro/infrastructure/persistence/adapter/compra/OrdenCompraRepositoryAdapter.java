@@ -2,17 +2,25 @@ package com.budgetpro.infrastructure.persistence.adapter.compra;
 
 import com.budgetpro.domain.logistica.compra.model.DetalleOrdenCompra;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompra;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraCursor;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompraEstado;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraFiltro;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompraId;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraResumen;
+import com.budgetpro.domain.logistica.compra.model.PaginaOrdenesCompra;
 import com.budgetpro.domain.logistica.compra.port.out.OrdenCompraRepository;
 import com.budgetpro.infrastructure.persistence.entity.compra.DetalleOrdenCompraEntity;
 import com.budgetpro.infrastructure.persistence.entity.compra.OrdenCompraEntity;
 import com.budgetpro.infrastructure.persistence.mapper.compra.OrdenCompraMapper;
 import com.budgetpro.infrastructure.persistence.repository.compra.OrdenCompraJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,10 +35,13 @@ public class OrdenCompraRepositoryAdapter implements OrdenCompraRepository {
 
     private final OrdenCompraJpaRepository jpaRepository;
     private final OrdenCompraMapper mapper;
+    private final EntityManager entityManager;
 
-    public OrdenCompraRepositoryAdapter(OrdenCompraJpaRepository jpaRepository, OrdenCompraMapper mapper) {
+    public OrdenCompraRepositoryAdapter(OrdenCompraJpaRepository jpaRepository, OrdenCompraMapper mapper,
+                                        EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -106,12 +117,59 @@ public class OrdenCompraRepositoryAdapter implements OrdenCompraRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Construye la consulta con solo los predicados presentes (para que el planificador use
+     * los índices (fecha, id) / (proyecto_id, fecha, id)) y pide una fila de más para saber
+     * si existe página siguiente sin un COUNT.
+     */
     @Override
     @Transactional(readOnly = true)
-    public List<OrdenCompra> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public PaginaOrdenesCompra buscarResumenes(OrdenCompraFiltro filtro, OrdenCompraCursor despuesDe, int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("El límite de página debe ser mayor a cero");
+        }
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.budgetpro.domain.logistica.compra.model.OrdenCompraResumen(" +
+                "o.id, o.numero, o.proyectoId, p.id, p.razonSocial, p.ruc, p.estado, o.fecha, o.estado, o.montoTotal) " +
+                "FROM OrdenCompraEntity o JOIN o.proveedor p WHERE 1 = 1");
+        Map<String, Object> parametros = new HashMap<>();
+
+        if (filtro.proyectoId() != null) {
+            jpql.append(" AND o.proyectoId = :proyectoId");
+            parametros.put("proyectoId", filtro.proyectoId());
+        }
+        if (filtro.estado() != null) {
+            jpql.append(" AND o.estado = :estado");
+            parametros.put("estado", filtro.estado());
+        }
+        if (filtro.proveedorId() != null) {
+            jpql.append(" AND p.id = :proveedorId");
+            parametros.put("proveedorId", filtro.proveedorId());
+        }
+        if (filtro.fechaDesde() != null) {
+            jpql.append(" AND o.fecha >= :fechaDesde");
+            parametros.put("fechaDesde", filtro.fechaDesde());
+        }
+        if (filtro.fechaHasta() != null) {
+            jpql.append(" AND o.fecha <= :fechaHasta");
+            parametros.put("fechaHasta", filtro.fechaHasta());
+        }
+        if (despuesDe != null) {
+            jpql.append(" AND (o.fecha < :cursorFecha OR (o.fecha = :cursorFecha AND o.id < :cursorId))");
+            parametros.put("cursorFecha", despuesDe.fecha());
+            parametros.put("cursorId", despuesDe.id());
+        }
+        jpql.append(" ORDER BY o.fecha DESC, o.id DESC");
+
+        TypedQuery<OrdenCompraResumen> query = entityManager.createQuery(jpql.toString(), OrdenCompraResumen.class);
+        parametros.forEach(query::setParameter);
+        List<OrdenCompraResumen> filas = query.setMaxResults(limite + 1).getResultList();
+
+        if (filas.size() <= limite) {
+            return new PaginaOrdenesCompra(filas, null);
+        }
+        List<OrdenCompraResumen> pagina = filas.subList(0, limite);
+        return new PaginaOrdenesCompra(pagina, pagina.get(limite - 1).cursor());
     }
 
     @Override
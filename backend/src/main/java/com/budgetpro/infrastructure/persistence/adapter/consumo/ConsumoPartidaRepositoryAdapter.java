@@ -10,6 +10,7 @@ import com.budgetpro.infrastructure.persistence.entity.consumo.ConsumoPartidaEnt
 import com.budgetpro.infrastructure.persistence.mapper.consumo.ConsumoPartidaMapper;
 import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
 import com.budgetpro.infrastructure.persistence.repository.consumo.ConsumoPartidaJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.consumo.PartidaGastoAcumuladoJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +28,9 @@ import java.util.stream.Collectors;
  * 
  * CRÍTICO: NO se hacen validaciones manuales de versión.
  * Hibernate maneja el Optimistic Locking automáticamente con @Version.
+ * 
+ * Cada alta o cambio de monto aplica su delta a partida_gasto_acumulado en la misma
+ * transacción, para que el semáforo y el control de costos no tengan que sumar consumos.
  */
 @Component
 public class ConsumoPartidaRepositoryAdapter implements ConsumoPartidaRepository,
@@ -34,13 +38,16 @@ public class ConsumoPartidaRepositoryAdapter implements ConsumoPartidaRepository
 
     private final ConsumoPartidaJpaRepository jpaRepository;
     private final PartidaJpaRepository partidaJpaRepository;
+    private final PartidaGastoAcumuladoJpaRepository gastoAcumuladoJpaRepository;
     private final ConsumoPartidaMapper mapper;
 
     public ConsumoPartidaRepositoryAdapter(ConsumoPartidaJpaRepository jpaRepository,
                                           PartidaJpaRepository partidaJpaRepository,
+                                          PartidaGastoAcumuladoJpaRepository gastoAcumuladoJpaRepository,
                                           ConsumoPartidaMapper mapper) {
         this.jpaRepository = jpaRepository;
         this.partidaJpaRepository = partidaJpaRepository;
+        this.gastoAcumuladoJpaRepository = gastoAcumuladoJpaRepository;
         this.mapper = mapper;
     }
 
@@ -56,16 +63,19 @@ public class ConsumoPartidaRepositoryAdapter implements ConsumoPartidaRepository
         if (existingEntityOpt.isPresent()) {
             // Actualización: actualizar campos y guardar
             ConsumoPartidaEntity existingEntity = existingEntityOpt.get();
+            BigDecimal delta = consumo.getMonto().subtract(existingEntity.getMonto());
             existingEntity.setMonto(consumo.getMonto());
             existingEntity.setFecha(consumo.getFecha());
             existingEntity.setTipo(consumo.getTipo());
             existingEntity.setCompraDetalleId(consumo.getCompraDetalleId());
             // CRÍTICO: NO se toca version. Hibernate lo maneja con @Version
             jpaRepository.save(existingEntity);
+            aplicarDelta(consumo.getPartidaId(), delta);
         } else {
             // Creación: mapear y guardar
             ConsumoPartidaEntity newEntity = mapper.toEntity(consumo, partidaEntity);
             jpaRepository.save(newEntity);
+            aplicarDelta(consumo.getPartidaId(), consumo.getMonto());
         }
     }
 
@@ -118,5 +128,15 @@ public class ConsumoPartidaRepositoryAdapter implements ConsumoPartidaRepository
         );
         
         jpaRepository.save(entity);
+        aplicarDelta(partidaId, montoAC);
+    }
+
+    /**
+     * Aplica el delta de monto al gasto acumulado de la partida (no-op si es cero).
+     */
+    private void aplicarDelta(UUID partidaId, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            gastoAcumuladoJpaRepository.incrementar(partidaId, delta);
+        }
     }
 }
@@ -0,0 +1,68 @@
+package com.budgetpro.infrastructure.persistence.adapter.consumo;
+
+import com.budgetpro.domain.finanzas.consumo.port.out.GastoAcumuladoPartidaRepository;
+import com.budgetpro.infrastructure.persistence.repository.consumo.PartidaGastoAcumuladoJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de persistencia para GastoAcumuladoPartidaRepository.
+ *
+ * La reconciliación recorre las partidas en tramos por orden de ID, cada uno en su propia
+ * transacción y con bloqueo de fila solo sobre los contadores del tramo: los consumos de otras
+ * partidas no esperan.
+ */
+@Component
+public class GastoAcumuladoPartidaRepositoryAdapter implements GastoAcumuladoPartidaRepository {
+
+    /** Partidas por tramo de reconciliación (una transacción y un bloqueo por tramo). */
+    private static final int TAMANO_TRAMO = 500;
+
+    /** Menor UUID en el orden de PostgreSQL: inicio del recorrido. */
+    private static final UUID INICIO = new UUID(0L, 0L);
+
+    private final PartidaGastoAcumuladoJpaRepository jpaRepository;
+    private final TransactionTemplate transaccionTramo;
+
+    public GastoAcumuladoPartidaRepositoryAdapter(PartidaGastoAcumuladoJpaRepository jpaRepository,
+                                                  PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.transaccionTramo = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, BigDecimal> obtenerGastoAcumulado(Collection<UUID> partidaIds) {
+        if (partidaIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findGastosAcumulados(partidaIds).stream()
+                .collect(Collectors.toMap(fila -> (UUID) fila[0], fila -> (BigDecimal) fila[1]));
+    }
+
+    @Override
+    public int reconciliar() {
+        int corregidas = 0;
+        UUID desde = INICIO;
+        while (true) {
+            List<UUID> tramo = jpaRepository.findPartidasAReconciliarDesde(desde, TAMANO_TRAMO);
+            if (tramo.isEmpty()) {
+                return corregidas;
+            }
+            corregidas += transaccionTramo.execute(status -> {
+                jpaRepository.bloquearContadores(tramo);
+                return jpaRepository.reconciliar(tramo);
+            });
+            desde = tramo.get(tramo.size() - 1);
+        }
+    }
+}
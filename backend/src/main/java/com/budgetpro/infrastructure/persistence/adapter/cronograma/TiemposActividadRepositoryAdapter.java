@@ -0,0 +1,72 @@
+package com.budgetpro.infrastructure.persistence.adapter.cronograma;
+
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
+import com.budgetpro.domain.finanzas.cronograma.port.out.TiemposActividadRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC de los tiempos CPM de actividad_programada.
+ *
+ * Las columnas de tiempos no están mapeadas en ActividadProgramadaEntity: las escribe solo
+ * este adaptador, con un UPDATE por lote limitado a las actividades que cambiaron, sin
+ * tocar la versión de la actividad.
+ */
+@Component
+public class TiemposActividadRepositoryAdapter implements TiemposActividadRepository {
+
+    private static final String SELECT_TIEMPOS =
+            "SELECT a.id, a.duracion_laborable, a.inicio_temprano, a.fin_temprano, a.inicio_tardio, "
+                    + "a.fin_tardio, a.holgura_total, a.holgura_libre "
+                    + "FROM actividad_programada a "
+                    + "WHERE a.programa_obra_id = ? AND a.inicio_temprano IS NOT NULL";
+
+    private static final String UPDATE_TIEMPOS =
+            "UPDATE actividad_programada "
+                    + "SET duracion_laborable = ?, inicio_temprano = ?, fin_temprano = ?, inicio_tardio = ?, "
+                    + "fin_tardio = ?, holgura_total = ?, holgura_libre = ? "
+                    + "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TiemposActividadRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, TiemposActividad> findByProgramaObraId(UUID programaObraId) {
+        Map<UUID, TiemposActividad> tiempos = new HashMap<>();
+        jdbcTemplate.query(SELECT_TIEMPOS, (RowCallbackHandler) rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            tiempos.put(id, new TiemposActividad(id, rs.getInt("duracion_laborable"),
+                    rs.getObject("inicio_temprano", LocalDate.class),
+                    rs.getObject("fin_temprano", LocalDate.class),
+                    rs.getObject("inicio_tardio", LocalDate.class),
+                    rs.getObject("fin_tardio", LocalDate.class),
+                    rs.getInt("holgura_total"), rs.getInt("holgura_libre")));
+        }, programaObraId);
+        return tiempos;
+    }
+
+    @Override
+    @Transactional
+    public void guardar(Collection<TiemposActividad> tiempos) {
+        List<Object[]> filas = tiempos.stream()
+                .map(t -> new Object[]{t.duracionDias(), t.inicioTemprano(), t.finTemprano(), t.inicioTardio(),
+                        t.finTardio(), t.holguraTotal(), t.holguraLibre(), t.actividadId()})
+                .toList();
+        if (!filas.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_TIEMPOS, filas);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.budgetpro.infrastructure.persistence.adapter.estimacion;
+
+import com.budgetpro.domain.finanzas.estimacion.model.DetalleEstimacion;
+import com.budgetpro.domain.finanzas.estimacion.model.Estimacion;
+import com.budgetpro.domain.finanzas.estimacion.port.out.AcumuladoEstimacionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC del acumulado estimado por partida (estimacion_acumulado_partida).
+ *
+ * La lectura es una consulta por clave primaria para todas las partidas de la estimación; la
+ * aprobación suma con un upsert por lote que descarta la fila si ese número de estimación
+ * ya se había sumado. Los detalles de una misma partida se suman antes del upsert (una fila por
+ * partida), igual que la carga inicial de V53: con dos filas de la misma estimación la guarda
+ * descartaría la segunda.
+ */
+@Component
+public class AcumuladoEstimacionRepositoryAdapter implements AcumuladoEstimacionRepository {
+
+    private static final String SELECT_ACUMULADOS =
+            "SELECT a.partida_id, a.cantidad_acumulada "
+                    + "FROM estimacion_acumulado_partida a "
+                    + "WHERE a.proyecto_id = ? AND a.partida_id = ANY (?)";
+
+    private static final String UPSERT_ACUMULADO =
+            "INSERT INTO estimacion_acumulado_partida AS a "
+                    + "(proyecto_id, partida_id, cantidad_acumulada, ultima_estimacion, updated_at) "
+                    + "VALUES (?, ?, ?, ?, NOW()) "
+                    + "ON CONFLICT (proyecto_id, partida_id) DO UPDATE "
+                    + "SET cantidad_acumulada = a.cantidad_acumulada + EXCLUDED.cantidad_acumulada, "
+                    + "ultima_estimacion = EXCLUDED.ultima_estimacion, updated_at = NOW() "
+                    + "WHERE a.ultima_estimacion < EXCLUDED.ultima_estimacion";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AcumuladoEstimacionRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, BigDecimal> obtenerAcumulados(UUID proyectoId, Collection<UUID> partidaIds) {
+        Map<UUID, BigDecimal> acumulados = new HashMap<>();
+        if (partidaIds.isEmpty()) {
+            return acumulados;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ACUMULADOS);
+            statement.setObject(1, proyectoId);
+            statement.setArray(2, connection.createArrayOf("uuid", partidaIds.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs ->
+                acumulados.put(rs.getObject("partida_id", UUID.class), rs.getBigDecimal("cantidad_acumulada")));
+        return acumulados;
+    }
+
+    @Override
+    @Transactional
+    public void acumular(Estimacion estimacion) {
+        Map<UUID, BigDecimal> porPartida = new LinkedHashMap<>();
+        for (DetalleEstimacion detalle : estimacion.getDetalles()) {
+            porPartida.merge(detalle.getPartidaId(), cantidad(detalle), BigDecimal::add);
+        }
+        List<Object[]> filas = porPartida.entrySet().stream()
+                .map(entry -> new Object[]{estimacion.getProyectoId(), entry.getKey(), entry.getValue(),
+                        estimacion.getNumeroEstimacion()})
+                .toList();
+        if (!filas.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ACUMULADO, filas);
+        }
+    }
+
+    private static BigDecimal cantidad(DetalleEstimacion detalle) {
+        return detalle.getCantidadAvance() != null ? detalle.getCantidadAvance() : BigDecimal.ZERO;
+    }
+}
@@ -11,6 +11,7 @@ import com.budgetpro.infrastructure.persistence.repository.inventario.Inventario
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -74,6 +75,17 @@ public class InventarioRepositoryAdapter implements InventarioRepository {
         return jpaRepository.findByProyectoId(proyectoId).stream().map(mapper::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<InventarioItem> findByProyectoIdAndRecursoExternalIdIn(UUID proyectoId,
+            Collection<String> recursoExternalIds) {
+        if (recursoExternalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByProyectoIdAndRecursoExternalIdIn(proyectoId, recursoExternalIds).stream()
+                .map(mapper::toDomain).collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<InventarioItem> findByProyectoIdAndRecursoExternalIdAndUnidadBaseAndBodegaId(UUID proyectoId,
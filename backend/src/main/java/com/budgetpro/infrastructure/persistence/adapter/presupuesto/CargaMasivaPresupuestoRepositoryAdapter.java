@@ -0,0 +1,117 @@
+package com.budgetpro.infrastructure.persistence.adapter.presupuesto;
+
+import com.budgetpro.domain.catalogo.model.APUInsumoSnapshot;
+import com.budgetpro.domain.catalogo.model.APUSnapshot;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.presupuesto.model.Subpresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CargaMasivaPresupuestoRepository;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC de carga masiva de presupuesto.
+ *
+ * Inserta con {@link JdbcTemplate#batchUpdate} (una sentencia preparada por tabla y lote)
+ * en lugar de persistir entidades JPA: evita el contexto de persistencia y los SELECT de
+ * padres/subpresupuesto que haría el adaptador de partidas fila a fila.
+ */
+@Component
+public class CargaMasivaPresupuestoRepositoryAdapter implements CargaMasivaPresupuestoRepository {
+
+    private static final String INSERT_PARTIDA =
+            "INSERT INTO partida (id, presupuesto_id, subpresupuesto_id, padre_id, codigo, item, descripcion, unidad, "
+                    + "metrado_original, metrado_vigente, precio_unitario, gastos_reales, compromisos_pendientes, "
+                    + "nivel, version, created_at, updated_at, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?, 0, ?, ?, ?)";
+
+    private static final String INSERT_APU =
+            "INSERT INTO apu_snapshot (id, partida_id, external_apu_id, catalog_source, rendimiento_original, "
+                    + "rendimiento_vigente, rendimiento_modificado, unidad_snapshot, snapshot_date, version, "
+                    + "created_at, updated_at, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?, 0, ?, ?, ?)";
+
+    private static final String INSERT_INSUMO =
+            "INSERT INTO apu_insumo_snapshot (id, apu_snapshot_id, recurso_external_id, recurso_nombre, cantidad, "
+                    + "precio_unitario, subtotal, tipo_recurso, created_at, updated_at, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<UUID> auditorAware;
+
+    public CargaMasivaPresupuestoRepositoryAdapter(JdbcTemplate jdbcTemplate, AuditorAware<UUID> auditorAware) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean tienePartidas(UUID presupuestoId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM partida WHERE presupuesto_id = ?)", Boolean.class, presupuestoId));
+    }
+
+    @Override
+    @Transactional
+    public void insertarLote(UUID presupuestoId, List<Partida> partidas, List<APUSnapshot> apus) {
+        UUID subpresupuestoId = jdbcTemplate.query(
+                        "SELECT id FROM subpresupuesto WHERE presupuesto_id = ? AND nombre = ?",
+                        (rs, rowNum) -> rs.getObject("id", UUID.class), presupuestoId,
+                        Subpresupuesto.NOMBRE_PRINCIPAL)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Subpresupuesto Principal no existe para presupuesto: " + presupuestoId));
+        UUID usuario = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new IllegalStateException("No hay usuario auditor para la importación"));
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> filasPartida = new ArrayList<>(partidas.size());
+        for (Partida partida : partidas) {
+            BigDecimal metrado = partida.getMetrado() != null ? partida.getMetrado() : BigDecimal.ZERO;
+            filasPartida.add(new Object[]{partida.getId().getValue(), presupuestoId, subpresupuestoId,
+                    partida.getPadreId(), partida.getItem(), partida.getItem(), partida.getDescripcion(),
+                    partida.getUnidad(), metrado, metrado, partida.getNivel(), ahora, ahora, usuario});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PARTIDA, filasPartida);
+
+        if (apus.isEmpty()) {
+            return;
+        }
+        List<Object[]> filasApu = new ArrayList<>(apus.size());
+        List<Object[]> filasInsumo = new ArrayList<>();
+        for (APUSnapshot apu : apus) {
+            UUID apuId = apu.getId().getValue();
+            filasApu.add(new Object[]{apuId, apu.getPartidaId(), apu.getExternalApuId(), apu.getCatalogSource(),
+                    apu.getRendimientoOriginal(), apu.getRendimientoVigente(), apu.getUnidadSnapshot(),
+                    Timestamp.valueOf(apu.getSnapshotDate()), ahora, ahora, usuario});
+            for (APUInsumoSnapshot insumo : apu.getInsumos()) {
+                filasInsumo.add(new Object[]{insumo.getId().getValue(), apuId, insumo.getRecursoExternalId(),
+                        insumo.getRecursoNombre(), insumo.getCantidad(), insumo.getPrecioUnitario(),
+                        insumo.getSubtotal(), insumo.getTipoRecurso() != null ? insumo.getTipoRecurso().name() : null,
+                        ahora, ahora, usuario});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_APU, filasApu);
+        if (!filasInsumo.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_INSUMO, filasInsumo);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void eliminarPartidas(UUID presupuestoId) {
+        // apu_insumo_snapshot se elimina en cascada desde apu_snapshot
+        jdbcTemplate.update("DELETE FROM apu_snapshot a USING partida p "
+                + "WHERE a.partida_id = p.id AND p.presupuesto_id = ?", presupuestoId);
+        jdbcTemplate.update("DELETE FROM partida WHERE presupuesto_id = ?", presupuestoId);
+    }
+}
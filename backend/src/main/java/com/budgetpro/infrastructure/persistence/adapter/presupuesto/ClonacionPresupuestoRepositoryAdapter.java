@@ -0,0 +1,159 @@
+package com.budgetpro.infrastructure.persistence.adapter.presupuesto;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.ClonacionPresupuestoRepository;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC que copia un presupuesto con INSERT ... SELECT.
+ *
+ * Los IDs nuevos de partidas, APUs e insumos se generan una vez en tablas temporales de
+ * remapeo (origen_id → nuevo_id, ON COMMIT DROP); cada tabla se copia con una sola sentencia
+ * que resuelve sus claves foráneas (padre_id, partida_id, apu_snapshot_id, ...) contra ellas.
+ * Los subpresupuestos se remapean por nombre (único por presupuesto): el "Principal" lo crea
+ * el trigger de presupuesto y solo se actualiza. La ruta materializada de las partidas copiadas
+ * se recalcula al final, porque el trigger solo la resuelve si el padre ya fue insertado.
+ */
+@Component
+public class ClonacionPresupuestoRepositoryAdapter implements ClonacionPresupuestoRepository {
+
+    private static final String INSERT_PRESUPUESTO =
+            "INSERT INTO presupuesto (id, proyecto_id, nombre, estado, es_linea_base, es_contractual, version, "
+                    + "codigo, cliente_id, distrito_id, fecha_elaboracion, plazo_dias, jornada_diaria, moneda_base_id, "
+                    + "moneda_alterna_id, factor_cambio, requiere_formula_polinomica, tipo_apu, decimales_precios, "
+                    + "decimales_metrados, decimales_incidencias, es_contractual_vigente, created_at, updated_at, "
+                    + "created_by) "
+                    + "SELECT ?, p.proyecto_id, ?, ?, FALSE, FALSE, 0, "
+                    + "p.codigo, p.cliente_id, p.distrito_id, p.fecha_elaboracion, p.plazo_dias, p.jornada_diaria, "
+                    + "p.moneda_base_id, p.moneda_alterna_id, p.factor_cambio, p.requiere_formula_polinomica, "
+                    + "p.tipo_apu, p.decimales_precios, p.decimales_metrados, p.decimales_incidencias, FALSE, ?, ?, ? "
+                    + "FROM presupuesto p WHERE p.id = ?";
+
+    private static final String INSERT_SUBPRESUPUESTOS =
+            "INSERT INTO subpresupuesto (id, presupuesto_id, nombre, orden, total_presupuestado, version, "
+                    + "created_at, updated_at, created_by) "
+                    + "SELECT gen_random_uuid(), ?, s.nombre, s.orden, s.total_presupuestado, 0, ?, ?, ? "
+                    + "FROM subpresupuesto s WHERE s.presupuesto_id = ? "
+                    + "ON CONFLICT (presupuesto_id, nombre) DO UPDATE "
+                    + "SET orden = EXCLUDED.orden, total_presupuestado = EXCLUDED.total_presupuestado";
+
+    private static final String INSERT_PARTIDAS =
+            "INSERT INTO partida (id, presupuesto_id, subpresupuesto_id, padre_id, codigo, item, descripcion, unidad, "
+                    + "metrado_original, metrado_vigente, precio_unitario, gastos_reales, compromisos_pendientes, "
+                    + "nivel, version, created_at, updated_at, created_by) "
+                    + "SELECT m.nuevo_id, ?, sn.id, mp.nuevo_id, p.codigo, p.item, p.descripcion, p.unidad, "
+                    + "p.metrado_original, p.metrado_vigente, p.precio_unitario, 0, 0, p.nivel, 0, ?, ?, ? "
+                    + "FROM partida p "
+                    + "JOIN clon_partida m ON m.origen_id = p.id "
+                    + "JOIN subpresupuesto so ON so.id = p.subpresupuesto_id "
+                    + "JOIN subpresupuesto sn ON sn.presupuesto_id = ? AND sn.nombre = so.nombre "
+                    + "LEFT JOIN clon_partida mp ON mp.origen_id = p.padre_id";
+
+    private static final String INSERT_APUS =
+            "INSERT INTO apu_snapshot (id, partida_id, external_apu_id, catalog_source, rendimiento_original, "
+                    + "rendimiento_vigente, rendimiento_modificado, rendimiento_modificado_por, "
+                    + "rendimiento_modificado_en, unidad_snapshot, snapshot_date, version, created_at, updated_at, "
+                    + "created_by) "
+                    + "SELECT m.nuevo_id, mp.nuevo_id, a.external_apu_id, a.catalog_source, a.rendimiento_original, "
+                    + "a.rendimiento_vigente, a.rendimiento_modificado, a.rendimiento_modificado_por, "
+                    + "a.rendimiento_modificado_en, a.unidad_snapshot, a.snapshot_date, 0, ?, ?, ? "
+                    + "FROM apu_snapshot a "
+                    + "JOIN clon_apu m ON m.origen_id = a.id "
+                    + "JOIN clon_partida mp ON mp.origen_id = a.partida_id";
+
+    private static final String INSERT_INSUMOS =
+            "INSERT INTO apu_insumo_snapshot (id, apu_snapshot_id, recurso_external_id, recurso_nombre, cantidad, "
+                    + "precio_unitario, subtotal, tipo_recurso, orden_calculo, aporte_unitario, unidad_aporte, "
+                    + "unidad_base, factor_conversion_unidad_base, unidad_compra, moneda, tipo_cambio_snapshot, "
+                    + "precio_mercado, flete, precio_puesto_en_obra, desperdicio, costo_dia_cuadrilla_calculado, "
+                    + "jornada_horas, costo_hora_maquina, horas_uso, porcentaje_mano_obra, depende_de, created_at, "
+                    + "updated_at, created_by) "
+                    + "SELECT m.nuevo_id, ma.nuevo_id, i.recurso_external_id, i.recurso_nombre, i.cantidad, "
+                    + "i.precio_unitario, i.subtotal, i.tipo_recurso, i.orden_calculo, i.aporte_unitario, "
+                    + "i.unidad_aporte, i.unidad_base, i.factor_conversion_unidad_base, i.unidad_compra, i.moneda, "
+                    + "i.tipo_cambio_snapshot, i.precio_mercado, i.flete, i.precio_puesto_en_obra, i.desperdicio, "
+                    + "i.costo_dia_cuadrilla_calculado, i.jornada_horas, i.costo_hora_maquina, i.horas_uso, "
+                    + "i.porcentaje_mano_obra, i.depende_de, ?, ?, ? "
+                    + "FROM apu_insumo_snapshot i "
+                    + "JOIN clon_insumo m ON m.origen_id = i.id "
+                    + "JOIN clon_apu ma ON ma.origen_id = i.apu_snapshot_id";
+
+    private static final String INSERT_CUADRILLAS =
+            "INSERT INTO composicion_cuadrilla_snapshot (id, apu_insumo_snapshot_id, personal_external_id, "
+                    + "personal_nombre, cantidad, costo_dia, moneda, created_at, updated_at, created_by) "
+                    + "SELECT gen_random_uuid(), m.nuevo_id, c.personal_external_id, c.personal_nombre, c.cantidad, "
+                    + "c.costo_dia, c.moneda, ?, ?, ? "
+                    + "FROM composicion_cuadrilla_snapshot c "
+                    + "JOIN clon_insumo m ON m.origen_id = c.apu_insumo_snapshot_id";
+
+    private static final String INSERT_SOBRECOSTO =
+            "INSERT INTO analisis_sobrecosto (id, presupuesto_id, porcentaje_indirectos_oficina_central, "
+                    + "porcentaje_indirectos_oficina_campo, porcentaje_financiamiento, financiamiento_calculado, "
+                    + "porcentaje_utilidad, porcentaje_fianzas, porcentaje_impuestos_reflejables, version, created_at, "
+                    + "updated_at) "
+                    + "SELECT gen_random_uuid(), ?, a.porcentaje_indirectos_oficina_central, "
+                    + "a.porcentaje_indirectos_oficina_campo, a.porcentaje_financiamiento, a.financiamiento_calculado, "
+                    + "a.porcentaje_utilidad, a.porcentaje_fianzas, a.porcentaje_impuestos_reflejables, 0, ?, ? "
+                    + "FROM analisis_sobrecosto a WHERE a.presupuesto_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<UUID> auditorAware;
+
+    public ClonacionPresupuestoRepositoryAdapter(JdbcTemplate jdbcTemplate, AuditorAware<UUID> auditorAware) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ResultadoClonacion clonar(UUID origenId, UUID nuevoId, String nombre) {
+        UUID usuario = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new IllegalStateException("No hay usuario auditor para la copia del presupuesto"));
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+
+        int presupuestos = jdbcTemplate.update(INSERT_PRESUPUESTO, nuevoId, nombre,
+                EstadoPresupuesto.BORRADOR.name(), ahora, ahora, usuario, origenId);
+        if (presupuestos != 1) {
+            throw new IllegalStateException("No se encontró el presupuesto a copiar: " + origenId);
+        }
+        int subpresupuestos = jdbcTemplate.update(INSERT_SUBPRESUPUESTOS, nuevoId, ahora, ahora, usuario, origenId);
+
+        crearTablaRemapeo("clon_partida",
+                "SELECT p.id FROM partida p WHERE p.presupuesto_id = ?", origenId);
+        crearTablaRemapeo("clon_apu",
+                "SELECT a.id FROM apu_snapshot a JOIN clon_partida m ON m.origen_id = a.partida_id");
+        crearTablaRemapeo("clon_insumo",
+                "SELECT i.id FROM apu_insumo_snapshot i JOIN clon_apu m ON m.origen_id = i.apu_snapshot_id");
+
+        int partidas = jdbcTemplate.update(INSERT_PARTIDAS, nuevoId, ahora, ahora, usuario, nuevoId);
+        // En un INSERT ... SELECT una hija puede insertarse antes que su padre: ruta provisional
+        jdbcTemplate.update("CALL budgetpro_partida_recalcular_jerarquia(?)", nuevoId);
+        int apus = jdbcTemplate.update(INSERT_APUS, ahora, ahora, usuario);
+        int insumos = jdbcTemplate.update(INSERT_INSUMOS, ahora, ahora, usuario);
+        jdbcTemplate.update(INSERT_CUADRILLAS, ahora, ahora, usuario);
+        jdbcTemplate.update(INSERT_SOBRECOSTO, nuevoId, ahora, ahora, origenId);
+
+        return new ResultadoClonacion(subpresupuestos, partidas, apus, insumos);
+    }
+
+    /**
+     * Crea (o recrea) una tabla temporal origen_id → nuevo_id con las filas de la consulta y
+     * la analiza para que los JOIN de copia usen estadísticas reales.
+     */
+    private void crearTablaRemapeo(String tabla, String origenes, Object... parametros) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS pg_temp." + tabla);
+        jdbcTemplate.execute("CREATE TEMP TABLE " + tabla
+                + " (origen_id UUID PRIMARY KEY, nuevo_id UUID NOT NULL) ON COMMIT DROP");
+        jdbcTemplate.update("INSERT INTO " + tabla + " (origen_id, nuevo_id) "
+                + "SELECT o.id, gen_random_uuid() FROM (" + origenes + ") o", parametros);
+        jdbcTemplate.execute("ANALYZE " + tabla);
+    }
+}
@@ -0,0 +1,63 @@
+package com.budgetpro.infrastructure.persistence.adapter.presupuesto;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoImportacion;
+import com.budgetpro.domain.finanzas.presupuesto.model.ImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.ImportacionPresupuestoRepository;
+import com.budgetpro.infrastructure.persistence.entity.presupuesto.ImportacionPresupuestoEntity;
+import com.budgetpro.infrastructure.persistence.repository.presupuesto.ImportacionPresupuestoJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class ImportacionPresupuestoRepositoryAdapter implements ImportacionPresupuestoRepository {
+
+    private final ImportacionPresupuestoJpaRepository jpaRepository;
+
+    public ImportacionPresupuestoRepositoryAdapter(ImportacionPresupuestoJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void guardar(ImportacionPresupuesto importacion) {
+        jpaRepository.save(new ImportacionPresupuestoEntity(importacion.getId(), importacion.getPresupuestoId(),
+                importacion.getNombreArchivo(), importacion.getEstado(), importacion.getFilasProcesadas(),
+                importacion.getPartidasImportadas(), importacion.getInsumosImportados(), importacion.getErrores(),
+                importacion.getCreadoEn(), importacion.getFinalizadoEn()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ImportacionPresupuesto> buscarPorId(UUID id) {
+        return jpaRepository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existeActiva(UUID presupuestoId) {
+        return jpaRepository.existsByPresupuestoIdAndEstadoIn(presupuestoId,
+                EnumSet.of(EstadoImportacion.PENDIENTE, EstadoImportacion.EN_PROCESO));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ImportacionPresupuesto> buscarActivasSinAvanceDesde(LocalDateTime limite) {
+        return jpaRepository.findByEstadoInAndActualizadoAtBefore(
+                EnumSet.of(EstadoImportacion.PENDIENTE, EstadoImportacion.EN_PROCESO), limite).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private ImportacionPresupuesto toDomain(ImportacionPresupuestoEntity entity) {
+        return ImportacionPresupuesto.reconstruir(entity.getId(), entity.getPresupuestoId(),
+                entity.getNombreArchivo(), entity.getEstado(), entity.getFilasProcesadas(),
+                entity.getPartidasImportadas(), entity.getInsumosImportados(), entity.getErrores(),
+                entity.getCreatedAt(), entity.getFinalizadoAt());
+    }
+}
@@ -0,0 +1,136 @@
+package com.budgetpro.infrastructure.persistence.adapter.reajuste;
+
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomicaId;
+import com.budgetpro.domain.finanzas.reajuste.model.Monomio;
+import com.budgetpro.domain.finanzas.reajuste.port.out.FormulaPolinomicaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC de las fórmulas polinómicas de un presupuesto.
+ *
+ * Cada término (monomio, índice) es una fila de formula_polinomica_termino con el coeficiente
+ * de su monomio repetido; las partidas asignadas viven en formula_polinomica_partida. Las
+ * fórmulas se leen con tres consultas por presupuesto y se guardan reemplazando el conjunto.
+ */
+@Component
+public class FormulaPolinomicaRepositoryAdapter implements FormulaPolinomicaRepository {
+
+    private static final String SELECT_FORMULAS =
+            "SELECT f.id, f.numero, f.fecha_base FROM formula_polinomica f "
+                    + "WHERE f.presupuesto_id = ? ORDER BY f.numero";
+
+    private static final String SELECT_TERMINOS =
+            "SELECT t.formula_id, t.monomio, t.coeficiente, t.indice_codigo, t.peso "
+                    + "FROM formula_polinomica_termino t JOIN formula_polinomica f ON f.id = t.formula_id "
+                    + "WHERE f.presupuesto_id = ? ORDER BY t.formula_id, t.monomio, t.indice_codigo";
+
+    private static final String SELECT_PARTIDAS =
+            "SELECT p.formula_id, p.partida_id "
+                    + "FROM formula_polinomica_partida p JOIN formula_polinomica f ON f.id = p.formula_id "
+                    + "WHERE f.presupuesto_id = ?";
+
+    private static final String DELETE_FORMULAS = "DELETE FROM formula_polinomica WHERE presupuesto_id = ?";
+
+    private static final String INSERT_FORMULA =
+            "INSERT INTO formula_polinomica (id, presupuesto_id, numero, fecha_base) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_TERMINO =
+            "INSERT INTO formula_polinomica_termino (formula_id, monomio, coeficiente, indice_codigo, peso) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PARTIDA =
+            "INSERT INTO formula_polinomica_partida (partida_id, formula_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FormulaPolinomicaRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void reemplazar(UUID presupuestoId, List<FormulaPolinomica> formulas) {
+        // Términos y partidas se eliminan en cascada
+        jdbcTemplate.update(DELETE_FORMULAS, presupuestoId);
+
+        List<Object[]> filasFormula = new ArrayList<>();
+        List<Object[]> filasTermino = new ArrayList<>();
+        List<Object[]> filasPartida = new ArrayList<>();
+        for (FormulaPolinomica formula : formulas) {
+            UUID formulaId = formula.getId().getValue();
+            filasFormula.add(new Object[]{formulaId, presupuestoId, formula.getNumero(), formula.getFechaBase()});
+            List<Monomio> monomios = formula.getMonomios();
+            for (int m = 0; m < monomios.size(); m++) {
+                for (Monomio.Termino termino : monomios.get(m).terminos()) {
+                    filasTermino.add(new Object[]{formulaId, m + 1, monomios.get(m).coeficiente(),
+                            termino.codigoIndice(), termino.peso()});
+                }
+            }
+            for (UUID partidaId : formula.getPartidaIds()) {
+                filasPartida.add(new Object[]{partidaId, formulaId});
+            }
+        }
+        if (!filasFormula.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_FORMULA, filasFormula);
+            jdbcTemplate.batchUpdate(INSERT_TERMINO, filasTermino);
+        }
+        if (!filasPartida.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PARTIDA, filasPartida);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FormulaPolinomica> buscarPorPresupuestoId(UUID presupuestoId) {
+        Map<UUID, Object[]> cabeceras = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_FORMULAS, (RowCallbackHandler) rs -> cabeceras.put(rs.getObject("id", UUID.class),
+                new Object[]{rs.getInt("numero"), rs.getObject("fecha_base", LocalDate.class)}), presupuestoId);
+        if (cabeceras.isEmpty()) {
+            return List.of();
+        }
+
+        // formula -> monomio -> coeficiente y términos
+        Map<UUID, TreeMap<Integer, BigDecimal>> coeficientes = new LinkedHashMap<>();
+        Map<UUID, TreeMap<Integer, List<Monomio.Termino>>> terminos = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_TERMINOS, (RowCallbackHandler) rs -> {
+            UUID formulaId = rs.getObject("formula_id", UUID.class);
+            int monomio = rs.getInt("monomio");
+            coeficientes.computeIfAbsent(formulaId, id -> new TreeMap<>()).put(monomio,
+                    rs.getBigDecimal("coeficiente"));
+            terminos.computeIfAbsent(formulaId, id -> new TreeMap<>())
+                    .computeIfAbsent(monomio, m -> new ArrayList<>())
+                    .add(new Monomio.Termino(rs.getString("indice_codigo"), rs.getBigDecimal("peso")));
+        }, presupuestoId);
+
+        Map<UUID, Set<UUID>> partidas = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_PARTIDAS, (RowCallbackHandler) rs -> partidas
+                .computeIfAbsent(rs.getObject("formula_id", UUID.class), id -> new HashSet<>())
+                .add(rs.getObject("partida_id", UUID.class)), presupuestoId);
+
+        List<FormulaPolinomica> formulas = new ArrayList<>();
+        cabeceras.forEach((formulaId, cabecera) -> {
+            List<Monomio> monomios = new ArrayList<>();
+            terminos.getOrDefault(formulaId, new TreeMap<>()).forEach((monomio, lista) -> monomios
+                    .add(new Monomio(coeficientes.get(formulaId).get(monomio), lista)));
+            formulas.add(FormulaPolinomica.reconstruir(FormulaPolinomicaId.of(formulaId), presupuestoId,
+                    (Integer) cabecera[0], (LocalDate) cabecera[1], monomios,
+                    partidas.getOrDefault(formulaId, Set.of())));
+        });
+        return formulas;
+    }
+}
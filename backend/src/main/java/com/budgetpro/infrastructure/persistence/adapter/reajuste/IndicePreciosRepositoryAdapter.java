@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -71,4 +72,15 @@ public class IndicePreciosRepositoryAdapter implements IndicePreciosRepository {
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<IndicePrecios> buscarSeries(Collection<String> codigos, LocalDate desde, LocalDate hasta) {
+        if (codigos.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByCodigoInAndFechaBaseBetweenAndActivoTrue(codigos, desde, hasta).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
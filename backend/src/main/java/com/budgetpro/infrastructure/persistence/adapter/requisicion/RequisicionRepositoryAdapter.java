@@ -10,9 +10,12 @@ import com.budgetpro.infrastructure.persistence.repository.requisicion.Requisici
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +56,31 @@ public class RequisicionRepositoryAdapter implements RequisicionRepository {
         }
     }
 
+    @Override
+    @Transactional
+    public void saveAll(List<Requisicion> requisiciones) {
+        if (requisiciones.isEmpty()) {
+            return;
+        }
+        // Una sola carga (con ítems) de las entidades existentes; el resto son nuevas
+        Map<UUID, RequisicionEntity> existentes = jpaRepository.findAllConItemsByIdIn(
+                        requisiciones.stream().map(r -> r.getId().getValue()).toList()).stream()
+                .collect(Collectors.toMap(RequisicionEntity::getId, Function.identity()));
+
+        List<RequisicionEntity> entities = requisiciones.stream()
+                .map(requisicion -> {
+                    RequisicionEntity existingEntity = existentes.get(requisicion.getId().getValue());
+                    if (existingEntity == null) {
+                        return mapper.toEntity(requisicion);
+                    }
+                    mapper.updateEntity(existingEntity, requisicion);
+                    sincronizarItems(existingEntity, requisicion);
+                    return existingEntity;
+                })
+                .toList();
+        jpaRepository.saveAll(entities);
+    }
+
     /**
      * Sincroniza los ítems del dominio con los de la entidad.
      * Actualiza cantidadDespachada de ítems existentes.
@@ -89,6 +117,17 @@ public class RequisicionRepositoryAdapter implements RequisicionRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Requisicion> findAllById(Collection<RequisicionId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllConItemsByIdIn(ids.stream().map(RequisicionId::getValue).toList()).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Requisicion> findByProyectoId(UUID proyectoId) {
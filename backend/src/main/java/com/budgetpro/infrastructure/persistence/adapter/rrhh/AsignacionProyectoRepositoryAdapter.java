@@ -13,6 +13,7 @@ import com.budgetpro.infrastructure.persistence.repository.rrhh.AsignacionProyec
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Component
@@ -68,6 +69,15 @@ public class AsignacionProyectoRepositoryAdapter implements AsignacionProyectoRe
                 .toList();
     }
 
+    @Override
+    public List<AsignacionProyecto> findAsignacionesByEmpleadoIds(Collection<EmpleadoId> empleadoIds) {
+        if (empleadoIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findByEmpleado_IdIn(empleadoIds.stream().map(EmpleadoId::getValue).toList()).stream()
+                .map(this::toDomain).toList();
+    }
+
     private AsignacionProyecto toDomain(AsignacionProyectoEntity entity) {
         if (entity.getRecursoProxyId() == null) {
             throw new IllegalStateException(
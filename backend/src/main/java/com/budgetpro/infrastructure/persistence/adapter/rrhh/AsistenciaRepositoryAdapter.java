@@ -8,22 +8,37 @@ import com.budgetpro.domain.proyecto.model.ProyectoId;
 import com.budgetpro.infrastructure.persistence.entity.rrhh.AsistenciaRegistroEntity;
 import com.budgetpro.infrastructure.persistence.mapper.rrhh.AsistenciaMapper;
 import com.budgetpro.infrastructure.persistence.repository.rrhh.AsistenciaRegistroJpaRepository;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class AsistenciaRepositoryAdapter implements AsistenciaRepositoryPort {
 
+    private static final String INSERT_ASISTENCIA =
+            "INSERT INTO asistencia_registros (id, empleado_id, proyecto_id, fecha, hora_entrada, hora_salida, "
+                    + "horas_trabajadas, horas_extras, estado, fecha_creacion, fecha_actualizacion, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final AsistenciaRegistroJpaRepository repository;
     private final AsistenciaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<UUID> auditorAware;
 
-    public AsistenciaRepositoryAdapter(AsistenciaRegistroJpaRepository repository, AsistenciaMapper mapper) {
+    public AsistenciaRepositoryAdapter(AsistenciaRegistroJpaRepository repository, AsistenciaMapper mapper,
+            JdbcTemplate jdbcTemplate, AuditorAware<UUID> auditorAware) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
     }
 
     @Override
@@ -33,6 +48,25 @@ public class AsistenciaRepositoryAdapter implements AsistenciaRepositoryPort {
         return mapper.toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public void saveAll(List<AsistenciaRegistro> asistencias) {
+        if (asistencias.isEmpty()) {
+            return;
+        }
+        UUID usuario = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new IllegalStateException("No hay usuario auditor para registrar asistencias"));
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> filas = asistencias.stream().map(a -> {
+            // Mismos campos calculados que AsistenciaMapper.toEntity
+            AsistenciaRegistroEntity calculada = mapper.toEntity(a);
+            return new Object[]{a.getId().getValue(), a.getEmpleadoId().getValue(), a.getProyectoId().getValue(),
+                    a.getFecha(), a.getHoraEntrada(), a.getHoraSalida(), calculada.getHorasTrabajadas(),
+                    calculada.getHorasExtras(), a.getEstado().name(), ahora, ahora, usuario};
+        }).toList();
+        jdbcTemplate.batchUpdate(INSERT_ASISTENCIA, filas);
+    }
+
     @Override
     public List<AsistenciaRegistro> findByEmpleadoAndPeriodo(EmpleadoId empleadoId, LocalDate startDate,
             LocalDate endDate) {
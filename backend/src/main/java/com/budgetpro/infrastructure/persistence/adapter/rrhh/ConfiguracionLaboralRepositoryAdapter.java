@@ -71,12 +71,7 @@ public class ConfiguracionLaboralRepositoryAdapter implements ConfiguracionLabor
         UUID proyectoId = entity.getProyecto() != null ? entity.getProyecto().getId() : null;
 
         return ConfiguracionLaboral.reconstruir(ConfiguracionLaboralId.of(entity.getId()), proyectoId, diasAguinaldo,
-                diasVacaciones, porcentajeSeguridadSocial, diasNoTrabajados, diasLaborablesAno, 0L // Version handling
-                                                                                                   // might differ in
-                                                                                                   // this extendida
-                                                                                                   // entity, creating
-                                                                                                   // as 0
-        );
+                diasVacaciones, porcentajeSeguridadSocial, diasNoTrabajados, diasLaborablesAno, entity.getVersion());
     }
 
     @Override
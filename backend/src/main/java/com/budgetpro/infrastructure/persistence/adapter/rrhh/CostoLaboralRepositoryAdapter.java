@@ -0,0 +1,119 @@
+package com.budgetpro.infrastructure.persistence.adapter.rrhh;
+
+import com.budgetpro.application.rrhh.dto.ConsultarCostosLaboralesQuery.Agrupacion;
+import com.budgetpro.application.rrhh.dto.CostoLaboralAgregado;
+import com.budgetpro.application.rrhh.port.out.CostoLaboralRepositoryPort;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC de la agregación de costos laborales.
+ *
+ * Cada registro de asistencia se valoriza con el salario vigente en su fecha (registro de
+ * historial_laboral más reciente que lo cubre) y se agrupa en la base de datos; solo viaja una
+ * fila por grupo. Los turnos nocturnos (salida &lt; entrada) suman 24 h, igual que
+ * {@code AsistenciaRegistro.calcularHoras}.
+ *
+ * La cuadrilla de un trabajador en una fecha es su membresía más reciente asignada hasta ese día
+ * (preferentemente activa); por partida, las horas del día se reparten en proporción a las horas
+ * asignadas a la cuadrilla en asignaciones_actividad. Lo que no tiene cuadrilla o reparto queda
+ * en el grupo "N/A".
+ */
+@Component
+public class CostoLaboralRepositoryAdapter implements CostoLaboralRepositoryPort {
+
+    private static final String SIN_GRUPO = "'N/A'";
+
+    private static final String JORNADAS =
+            "WITH jornada AS ("
+                    + "SELECT a.empleado_id, a.fecha, "
+                    + "EXTRACT(EPOCH FROM (a.hora_salida - a.hora_entrada)) "
+                    + "+ CASE WHEN a.hora_salida < a.hora_entrada THEN 86400 ELSE 0 END AS segundos, "
+                    + "COALESCE(h.salario_base, 0) AS salario_base "
+                    + "FROM asistencia_registros a "
+                    + "LEFT JOIN LATERAL (SELECT hl.salario_base FROM historial_laboral hl "
+                    + "WHERE hl.empleado_id = a.empleado_id AND hl.fecha_inicio <= a.fecha "
+                    + "AND (hl.fecha_fin IS NULL OR hl.fecha_fin >= a.fecha) "
+                    + "ORDER BY hl.fecha_inicio DESC LIMIT 1) h ON TRUE "
+                    + "WHERE a.proyecto_id = ? AND a.fecha BETWEEN ? AND ? AND a.hora_salida IS NOT NULL) ";
+
+    private static final String CUADRILLA_DEL_DIA =
+            "LEFT JOIN LATERAL (SELECT cu.id, cu.nombre FROM cuadrilla_miembros m "
+                    + "JOIN cuadrillas cu ON cu.id = m.cuadrilla_id "
+                    + "WHERE m.empleado_id = j.empleado_id AND cu.proyecto_id = ? "
+                    + "AND m.fecha_asignacion < j.fecha + 1 "
+                    + "ORDER BY m.activo DESC, m.fecha_asignacion DESC LIMIT 1) c ON TRUE ";
+
+    private static final String REPARTO_PARTIDA =
+            "LEFT JOIN (SELECT aa.cuadrilla_id, aa.fecha, aa.partida_id, "
+                    + "aa.horas_asignadas / SUM(aa.horas_asignadas) OVER (PARTITION BY aa.cuadrilla_id, aa.fecha) "
+                    + "AS fraccion "
+                    + "FROM asignaciones_actividad aa JOIN cuadrillas ca ON ca.id = aa.cuadrilla_id "
+                    + "WHERE ca.proyecto_id = ? AND aa.fecha BETWEEN ? AND ?) r "
+                    + "ON r.cuadrilla_id = c.id AND r.fecha = j.fecha "
+                    + "LEFT JOIN partida p ON p.id = r.partida_id ";
+
+    private static final String POR_EMPLEADO = agregado("j.empleado_id::text", "e.nombre || ' ' || e.apellido",
+            "1", "JOIN empleados e ON e.id = j.empleado_id ", "nombre_grupo");
+
+    private static final String POR_SEMANA = agregado("to_char(date_trunc('week', j.fecha), 'YYYY-MM-DD')",
+            "'Semana ' || to_char(j.fecha, 'IYYY-\"W\"IW')", "1", "", "grupo_id");
+
+    private static final String POR_MES = agregado("to_char(j.fecha, 'YYYY-MM')", "to_char(j.fecha, 'YYYY-MM')",
+            "1", "", "grupo_id");
+
+    private static final String POR_CUADRILLA = agregado("COALESCE(c.id::text, " + SIN_GRUPO + ")",
+            "COALESCE(c.nombre, 'Sin cuadrilla')", "1", CUADRILLA_DEL_DIA, "nombre_grupo");
+
+    private static final String POR_PARTIDA = agregado("COALESCE(r.partida_id::text, " + SIN_GRUPO + ")",
+            "COALESCE(p.codigo || ' ' || p.descripcion, 'Sin partida')", "COALESCE(r.fraccion, 1)",
+            CUADRILLA_DEL_DIA + REPARTO_PARTIDA, "nombre_grupo");
+
+    private static final RowMapper<CostoLaboralAgregado> FILA = (rs, rowNum) -> new CostoLaboralAgregado(
+            rs.getString("grupo_id"), rs.getString("nombre_grupo"), rs.getLong("segundos"),
+            rs.getLong("segundos_extras"), rs.getBigDecimal("costo_base"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CostoLaboralRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CostoLaboralAgregado> agregarPorGrupo(ProyectoId proyectoId, LocalDate fechaInicio,
+            LocalDate fechaFin, Agrupacion agrupacion) {
+        UUID proyecto = proyectoId.getValue();
+        return switch (agrupacion) {
+        case EMPLEADO -> jdbcTemplate.query(POR_EMPLEADO, FILA, proyecto, fechaInicio, fechaFin);
+        case SEMANA -> jdbcTemplate.query(POR_SEMANA, FILA, proyecto, fechaInicio, fechaFin);
+        case MES -> jdbcTemplate.query(POR_MES, FILA, proyecto, fechaInicio, fechaFin);
+        case CUADRILLA -> jdbcTemplate.query(POR_CUADRILLA, FILA, proyecto, fechaInicio, fechaFin, proyecto);
+        case PARTIDA -> jdbcTemplate.query(POR_PARTIDA, FILA, proyecto, fechaInicio, fechaFin, proyecto, proyecto,
+                fechaInicio, fechaFin);
+        };
+    }
+
+    /**
+     * Consulta agregada sobre las jornadas: {@code peso} reparte cada jornada entre grupos
+     * (1 cuando la jornada pertenece a un único grupo); 28800 s = jornada de 8 h.
+     */
+    private static String agregado(String grupoId, String nombreGrupo, String peso, String joins, String orden) {
+        return JORNADAS
+                + "SELECT " + grupoId + " AS grupo_id, " + nombreGrupo + " AS nombre_grupo, "
+                + "ROUND(SUM(j.segundos * " + peso + ")) AS segundos, "
+                + "ROUND(SUM(GREATEST(j.segundos - 28800, 0) * " + peso + ")) AS segundos_extras, "
+                + "SUM(j.segundos * " + peso + " * j.salario_base) / 28800 AS costo_base "
+                + "FROM jornada j "
+                + joins
+                + "GROUP BY 1, 2 "
+                + "ORDER BY " + orden;
+    }
+}
@@ -1,6 +1,7 @@
 package com.budgetpro.infrastructure.persistence.adapter.rrhh;
 
 import com.budgetpro.application.rrhh.port.out.EmpleadoRepositoryPort;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
 import com.budgetpro.domain.rrhh.model.Empleado;
 import com.budgetpro.domain.rrhh.model.EmpleadoId;
 import com.budgetpro.domain.rrhh.model.EstadoEmpleado;
@@ -9,6 +10,7 @@ import com.budgetpro.infrastructure.persistence.mapper.EmpleadoMapper;
 import com.budgetpro.infrastructure.persistence.repository.rrhh.EmpleadoJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -61,4 +63,10 @@ public class EmpleadoRepositoryAdapter implements EmpleadoRepositoryPort {
     public List<Empleado> findAll() {
         return repository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
     }
+
+    @Override
+    public List<Empleado> findAsignadosAProyecto(ProyectoId proyectoId, LocalDate inicio, LocalDate fin) {
+        return repository.findAsignadosAProyecto(proyectoId.getValue(), inicio, fin).stream().map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
@@ -2,26 +2,90 @@ package com.budgetpro.infrastructure.persistence.adapter.rrhh;
 
 import com.budgetpro.application.rrhh.port.out.NominaRepositoryPort;
 import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.model.DetalleNomina;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
 import com.budgetpro.domain.rrhh.model.Nomina;
 import com.budgetpro.domain.rrhh.model.NominaId;
+import com.budgetpro.infrastructure.persistence.entity.JsonbMapConverter;
 import com.budgetpro.infrastructure.persistence.entity.rrhh.NominaEntity;
 import com.budgetpro.infrastructure.persistence.mapper.rrhh.NominaMapper;
 import com.budgetpro.infrastructure.persistence.repository.rrhh.NominaJpaRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Adaptador de nóminas: la cabecera se crea con JPA junto con el conjunto de empleados de la
+ * corrida; los lotes de detalle de una corrida
+ * por lotes se insertan con JDBC batch junto con el avance del punto de control.
+ */
 @Component
 public class NominaRepositoryAdapter implements NominaRepositoryPort {
 
+    private static final String INSERT_DETALLE =
+            "INSERT INTO nomina_detalles (id, nomina_id, empleado_id, salario_base_calculado, monto_horas_extras, "
+                    + "total_deducciones, total_bonificaciones, neto_pagar, detalles_calculo, fecha_creacion, "
+                    + "fecha_actualizacion, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?)";
+
+    // La condición sobre empleados_procesados descarta el lote si otra corrida avanzó primero.
+    // total_bruto/total_neto (2 decimales) solo informan el avance; se reanuda con acumulado_*
+    private static final String UPDATE_PUNTO_CONTROL =
+            "UPDATE nominas SET total_bruto = ?, total_neto = ?, acumulado_bruto = ?, acumulado_neto = ?, "
+                    + "empleados_procesados = ?, "
+                    + "ultimo_empleado_id = ?, version = version + 1, fecha_actualizacion = ? "
+                    + "WHERE id = ? AND estado = 'PROCESANDO' AND empleados_procesados = ?";
+
+    private static final String UPDATE_COMPLETAR =
+            "UPDATE nominas SET estado = ?, cantidad_empleados = ?, total_bruto = ?, total_neto = ?, "
+                    + "acumulado_bruto = NULL, acumulado_neto = NULL, version = version + 1, "
+                    + "fecha_actualizacion = ? "
+                    + "WHERE id = ? AND estado = 'PROCESANDO'";
+
+    private static final String INSERT_EMPLEADO =
+            "INSERT INTO nomina_empleados (nomina_id, empleado_id) VALUES (?, ?)";
+
+    private static final String SELECT_EMPLEADOS =
+            "SELECT empleado_id FROM nomina_empleados WHERE nomina_id = ? ORDER BY empleado_id";
+
+    // El desglose completo está en detalles_calculo; ->> conserva los decimales de cada monto
+    private static final String SELECT_DETALLES =
+            "SELECT empleado_id, "
+                    + "COALESCE(detalles_calculo->>'salarioBase', '0')::numeric AS salario_base, "
+                    + "COALESCE(detalles_calculo->>'horasExtras', '0')::numeric AS horas_extras, "
+                    + "COALESCE(detalles_calculo->>'bonoAsistencia', '0')::numeric AS bono_asistencia, "
+                    + "COALESCE(detalles_calculo->>'otrosIngresos', '0')::numeric AS otros_ingresos, "
+                    + "COALESCE(detalles_calculo->>'deduccionesFiscales', '0')::numeric AS deducciones_fiscales, "
+                    + "COALESCE(detalles_calculo->>'deduccionesSeguridadSocial', '0')::numeric AS deducciones_ss, "
+                    + "COALESCE(detalles_calculo->>'otrasDeducciones', '0')::numeric AS otras_deducciones, "
+                    + "COALESCE(detalles_calculo->>'costoPatronal', '0')::numeric AS costo_patronal, "
+                    + "(detalles_calculo->>'fsrAplicado')::float8 AS fsr_aplicado, "
+                    + "(detalles_calculo->>'diasTrabajados')::int AS dias_trabajados "
+                    + "FROM nomina_detalles WHERE nomina_id = ? ORDER BY empleado_id";
+
     private final NominaJpaRepository repository;
     private final NominaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<UUID> auditorAware;
+    private final JsonbMapConverter jsonbConverter = new JsonbMapConverter();
 
-    public NominaRepositoryAdapter(NominaJpaRepository repository, NominaMapper mapper) {
+    public NominaRepositoryAdapter(NominaJpaRepository repository, NominaMapper mapper, JdbcTemplate jdbcTemplate,
+            AuditorAware<UUID> auditorAware) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
     }
 
     @Override
@@ -66,6 +130,104 @@ public class NominaRepositoryAdapter implements NominaRepositoryPort {
 
         return repository.existsByProyectoIdAndPeriodoInicioAndPeriodoFinAndEstadoIn(proyectoId.getValue(),
                 periodoInicio, periodoFin,
-                java.util.List.of("BORRADOR", "PENDIENTE", "APROBADA", "PAGADA", "CERRADA", "PROCESANDO"));
+                java.util.List.of("BORRADOR", "PENDIENTE", "CALCULADA", "APROBADA", "PAGADA", "CERRADA",
+                        "PROCESANDO"));
+    }
+
+    @Override
+    public Optional<Nomina> findEnProceso(ProyectoId proyectoId, LocalDate periodoInicio, LocalDate periodoFin) {
+        return repository.findFirstByProyectoIdAndPeriodoInicioAndPeriodoFinAndEstado(proyectoId.getValue(),
+                periodoInicio, periodoFin, "PROCESANDO").map(mapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public Nomina iniciar(Nomina cabecera, List<EmpleadoId> empleados) {
+        NominaEntity saved;
+        try {
+            // flush: el conflicto con uq_nomina_proyecto_periodo se detecta aquí y no al confirmar
+            saved = repository.saveAndFlush(mapper.toEntity(cabecera));
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMessage() != null && e.getMessage().contains("uq_nomina_proyecto_periodo")) {
+                throw new IllegalStateException("Payroll already exists for this project and period", e);
+            }
+            throw e;
+        }
+        UUID nominaId = saved.getId();
+        jdbcTemplate.batchUpdate(INSERT_EMPLEADO,
+                empleados.stream().map(e -> new Object[]{nominaId, e.getValue()}).toList());
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmpleadoId> findEmpleados(NominaId id) {
+        return jdbcTemplate.query(SELECT_EMPLEADOS,
+                (rs, fila) -> EmpleadoId.of(rs.getObject("empleado_id", UUID.class)), id.getValue());
+    }
+
+    @Override
+    @Transactional
+    public void guardarLote(Nomina avance, List<DetalleNomina> lote) {
+        UUID usuario = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new IllegalStateException("No hay usuario auditor para guardar la nómina"));
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+        UUID nominaId = avance.getId().getValue();
+
+        int actualizadas = jdbcTemplate.update(UPDATE_PUNTO_CONTROL, avance.getTotalBruto(), avance.getTotalNeto(),
+                avance.getTotalBruto(), avance.getTotalNeto(), avance.getEmpleadosProcesados(), avance.getUltimoEmpleadoId().getValue(), ahora, nominaId,
+                avance.getEmpleadosProcesados() - lote.size());
+        if (actualizadas != 1) {
+            throw new IllegalStateException("El punto de control de la nómina " + nominaId
+                    + " cambió durante la corrida; reintente para reanudar desde el último lote confirmado");
+        }
+
+        List<Object[]> filas = lote.stream().map(d -> new Object[]{UUID.randomUUID(), nominaId,
+                d.getEmpleadoId().getValue(), d.getSalarioBase(), d.getHorasExtras(), d.getTotalDeducciones(),
+                d.getBonoAsistencia().add(d.getOtrosIngresos()), d.getNetoAPagar(),
+                jsonbConverter.convertToDatabaseColumn(detallesCalculo(d)), ahora, ahora, usuario}).toList();
+        jdbcTemplate.batchUpdate(INSERT_DETALLE, filas);
+    }
+
+    @Override
+    @Transactional
+    public void completar(Nomina nomina) {
+        int actualizadas = jdbcTemplate.update(UPDATE_COMPLETAR, nomina.getEstado(), nomina.getCantidadEmpleados(),
+                nomina.getTotalBruto(), nomina.getTotalNeto(), Timestamp.valueOf(LocalDateTime.now()), nomina.getId().getValue());
+        if (actualizadas != 1) {
+            throw new IllegalStateException("La nómina " + nomina.getId().getValue() + " no está en PROCESANDO");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DetalleNomina> findDetalles(NominaId id) {
+        return jdbcTemplate.query(SELECT_DETALLES, (rs, fila) -> {
+            Object fsr = rs.getObject("fsr_aplicado");
+            Object dias = rs.getObject("dias_trabajados");
+            return DetalleNomina.crear(EmpleadoId.of(rs.getObject("empleado_id", UUID.class)),
+                    rs.getBigDecimal("salario_base"), rs.getBigDecimal("horas_extras"),
+                    rs.getBigDecimal("bono_asistencia"), rs.getBigDecimal("otros_ingresos"),
+                    rs.getBigDecimal("deducciones_fiscales"), rs.getBigDecimal("deducciones_ss"),
+                    rs.getBigDecimal("otras_deducciones"), rs.getBigDecimal("costo_patronal"),
+                    fsr != null ? ((Number) fsr).doubleValue() : null,
+                    dias != null ? ((Number) dias).intValue() : null);
+        }, id.getValue());
+    }
+
+    private static Map<String, Object> detallesCalculo(DetalleNomina detalle) {
+        Map<String, Object> calculo = new LinkedHashMap<>();
+        calculo.put("salarioBase", detalle.getSalarioBase());
+        calculo.put("horasExtras", detalle.getHorasExtras());
+        calculo.put("bonoAsistencia", detalle.getBonoAsistencia());
+        calculo.put("otrosIngresos", detalle.getOtrosIngresos());
+        calculo.put("totalPercepciones", detalle.getTotalPercepciones());
+        calculo.put("deduccionesFiscales", detalle.getDeduccionesFiscales());
+        calculo.put("deduccionesSeguridadSocial", detalle.getDeduccionesSeguridadSocial());
+        calculo.put("otrasDeducciones", detalle.getOtrasDeducciones());
+        calculo.put("costoPatronal", detalle.getCostoPatronal());
+        calculo.put("fsrAplicado", detalle.getFsrAplicado());
+        calculo.put("diasTrabajados", detalle.getDiasTrabajados());
+        return calculo;
     }
 }
@@ -24,7 +24,8 @@ import java.util.UUID;
            @Index(name = "idx_partida_presupuesto", columnList = "presupuesto_id"),
            @Index(name = "idx_partida_subpresupuesto", columnList = "subpresupuesto_id"),
            @Index(name = "idx_partida_padre", columnList = "padre_id"),
-           @Index(name = "idx_partida_codigo", columnList = "presupuesto_id, codigo")
+           @Index(name = "idx_partida_codigo", columnList = "presupuesto_id, codigo"),
+           @Index(name = "idx_partida_ruta", columnList = "presupuesto_id, ruta")
        })
 @Getter
 @Setter
@@ -94,6 +95,18 @@ public class PartidaEntity extends AuditEntity {
     @Column(name = "nivel")
     private Integer nivel;
 
+    /**
+     * Ruta materializada desde la raíz ("/raiz/.../id/"); la mantiene un trigger a partir de padre_id.
+     */
+    @Column(name = "ruta", insertable = false, updatable = false, columnDefinition = "TEXT")
+    private String ruta;
+
+    /**
+     * TRUE si la partida no tiene hijas; la mantiene un trigger al insertar, mover o borrar partidas.
+     */
+    @Column(name = "es_hoja", insertable = false, updatable = false)
+    private Boolean esHoja;
+
     @Version
     @Column(name = "version", nullable = false)
     private Integer version;
@@ -0,0 +1,79 @@
+package com.budgetpro.infrastructure.persistence.entity.almacen;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA para la tabla kardex_checkpoint (saldos de cierre mensual del Kárdex).
+ */
+@Entity
+@Table(name = "kardex_checkpoint",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uq_kardex_checkpoint_almacen_recurso_fecha",
+                             columnNames = {"almacen_id", "recurso_id", "fecha_corte"})
+       },
+       indexes = {
+           @Index(name = "idx_kardex_checkpoint_almacen_fecha", columnList = "almacen_id, fecha_corte")
+       })
+public class KardexCheckpointEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "almacen_id", nullable = false, updatable = false)
+    private UUID almacenId;
+
+    @Column(name = "recurso_id", nullable = false, updatable = false)
+    private UUID recursoId;
+
+    @Column(name = "fecha_corte", nullable = false, updatable = false)
+    private LocalDate fechaCorte;
+
+    @Column(name = "saldo_cantidad", nullable = false, precision = 19, scale = 6)
+    private BigDecimal saldoCantidad;
+
+    @Column(name = "saldo_valor", nullable = false, precision = 19, scale = 4)
+    private BigDecimal saldoValor;
+
+    @Column(name = "costo_promedio_ponderado", nullable = false, precision = 19, scale = 4)
+    private BigDecimal costoPromedioPonderado;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected KardexCheckpointEntity() {
+    }
+
+    public KardexCheckpointEntity(UUID id, UUID almacenId, UUID recursoId, LocalDate fechaCorte,
+                                  BigDecimal saldoCantidad, BigDecimal saldoValor,
+                                  BigDecimal costoPromedioPonderado) {
+        this.id = id;
+        this.almacenId = almacenId;
+        this.recursoId = recursoId;
+        this.fechaCorte = fechaCorte;
+        this.saldoCantidad = saldoCantidad;
+        this.saldoValor = saldoValor;
+        this.costoPromedioPonderado = costoPromedioPonderado;
+    }
+
+    public UUID getId() { return id; }
+    public UUID getAlmacenId() { return almacenId; }
+    public UUID getRecursoId() { return recursoId; }
+    public LocalDate getFechaCorte() { return fechaCorte; }
+    public BigDecimal getSaldoCantidad() { return saldoCantidad; }
+    public BigDecimal getSaldoValor() { return saldoValor; }
+    public BigDecimal getCostoPromedioPonderado() { return costoPromedioPonderado; }
+    public Integer getVersion() { return version; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -20,7 +20,8 @@ import java.util.UUID;
            @Index(name = "idx_requerimiento_requisicion", columnList = "requisicion_id"),
            @Index(name = "idx_requerimiento_recurso", columnList = "recurso_external_id"),
            @Index(name = "idx_requerimiento_estado", columnList = "estado"),
-           @Index(name = "idx_requerimiento_prioridad", columnList = "prioridad")
+           @Index(name = "idx_requerimiento_prioridad", columnList = "prioridad"),
+           @Index(name = "idx_requerimiento_proyecto_recurso_unidad", columnList = "proyecto_id, recurso_external_id, unidad_medida")
        })
 public class RequerimientoCompraEntity {
 
@@ -28,7 +28,9 @@ import java.util.UUID;
            @Index(name = "idx_orden_compra_proyecto", columnList = "proyecto_id"),
            @Index(name = "idx_orden_compra_estado", columnList = "estado"),
            @Index(name = "idx_orden_compra_proveedor", columnList = "proveedor_id"),
-           @Index(name = "idx_orden_compra_fecha", columnList = "fecha")
+           @Index(name = "idx_orden_compra_fecha", columnList = "fecha"),
+           @Index(name = "idx_orden_compra_fecha_id", columnList = "fecha DESC, id DESC"),
+           @Index(name = "idx_orden_compra_proyecto_fecha_id", columnList = "proyecto_id, fecha DESC, id DESC")
        })
 public class OrdenCompraEntity {
 
@@ -0,0 +1,50 @@
+package com.budgetpro.infrastructure.persistence.entity.consumo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA para la tabla partida_gasto_acumulado.
+ * 
+ * Contador de gasto real por partida (suma de consumo_partida.monto). Solo lectura desde JPA:
+ * las escrituras son upserts nativos con delta ({@code gasto_acumulado + :delta}) para no
+ * serializar consumos concurrentes sobre la misma partida con bloqueo optimista.
+ */
+@Entity
+@Table(name = "partida_gasto_acumulado")
+public class PartidaGastoAcumuladoEntity {
+
+    @Id
+    @Column(name = "partida_id", nullable = false, updatable = false)
+    private UUID partidaId;
+
+    @Column(name = "gasto_acumulado", nullable = false, precision = 19, scale = 4)
+    private BigDecimal gastoAcumulado;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructor protegido para JPA.
+     */
+    protected PartidaGastoAcumuladoEntity() {
+    }
+
+    public UUID getPartidaId() {
+        return partidaId;
+    }
+
+    public BigDecimal getGastoAcumulado() {
+        return gastoAcumulado;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -10,7 +10,9 @@ import java.util.UUID;
  * Entidad JPA para la tabla cronograma_snapshot.
  * 
  * Representa un snapshot inmutable del cronograma congelado (baseline).
- * Los datos temporales complejos se almacenan como JSONB para flexibilidad.
+ * Los datos temporales complejos se almacenan como JSONB para flexibilidad, o como GZIP en
+ * las columnas *_gz cuando el snapshot se generó comprimido (exactamente una de las dos
+ * columnas de cada sección tiene valor).
  */
 @Entity
 @Table(name = "cronograma_snapshot",
@@ -34,27 +36,40 @@ public class CronogramaSnapshotEntity {
     /**
      * Datos de fechas del cronograma en formato JSONB.
      */
-    @Column(name = "fechas_snapshot", columnDefinition = "jsonb", nullable = false)
+    @Column(name = "fechas_snapshot", columnDefinition = "jsonb")
     private String fechasJson;
 
     /**
      * Datos de duraciones del cronograma en formato JSONB.
      */
-    @Column(name = "duraciones_snapshot", columnDefinition = "jsonb", nullable = false)
+    @Column(name = "duraciones_snapshot", columnDefinition = "jsonb")
     private String duracionesJson;
 
     /**
      * Datos de secuencia y dependencias en formato JSONB.
      */
-    @Column(name = "secuencia_snapshot", columnDefinition = "jsonb", nullable = false)
+    @Column(name = "secuencia_snapshot", columnDefinition = "jsonb")
     private String secuenciaJson;
 
     /**
      * Datos de calendarios y restricciones temporales en formato JSONB.
      */
-    @Column(name = "calendarios_snapshot", columnDefinition = "jsonb", nullable = false)
+    @Column(name = "calendarios_snapshot", columnDefinition = "jsonb")
     private String calendariosJson;
 
+    // Snapshot data comprimido con GZIP
+    @Column(name = "fechas_snapshot_gz", columnDefinition = "bytea")
+    private byte[] fechasGzip;
+
+    @Column(name = "duraciones_snapshot_gz", columnDefinition = "bytea")
+    private byte[] duracionesGzip;
+
+    @Column(name = "secuencia_snapshot_gz", columnDefinition = "bytea")
+    private byte[] secuenciaGzip;
+
+    @Column(name = "calendarios_snapshot_gz", columnDefinition = "bytea")
+    private byte[] calendariosGzip;
+
     // Snapshot metadata
     /**
      * Fecha y hora en que se creó el snapshot.
@@ -150,6 +165,38 @@ public class CronogramaSnapshotEntity {
         this.calendariosJson = calendariosJson;
     }
 
+    public byte[] getFechasGzip() {
+        return fechasGzip;
+    }
+
+    public void setFechasGzip(byte[] fechasGzip) {
+        this.fechasGzip = fechasGzip;
+    }
+
+    public byte[] getDuracionesGzip() {
+        return duracionesGzip;
+    }
+
+    public void setDuracionesGzip(byte[] duracionesGzip) {
+        this.duracionesGzip = duracionesGzip;
+    }
+
+    public byte[] getSecuenciaGzip() {
+        return secuenciaGzip;
+    }
+
+    public void setSecuenciaGzip(byte[] secuenciaGzip) {
+        this.secuenciaGzip = secuenciaGzip;
+    }
+
+    public byte[] getCalendariosGzip() {
+        return calendariosGzip;
+    }
+
+    public void setCalendariosGzip(byte[] calendariosGzip) {
+        this.calendariosGzip = calendariosGzip;
+    }
+
     public LocalDateTime getSnapshotDate() {
         return snapshotDate;
     }
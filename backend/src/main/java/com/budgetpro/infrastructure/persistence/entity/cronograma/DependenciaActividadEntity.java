@@ -1,5 +1,6 @@
 package com.budgetpro.infrastructure.persistence.entity.cronograma;
 
+import com.budgetpro.domain.finanzas.cronograma.model.TipoDependencia;
 import jakarta.persistence.*;
 
 import java.util.UUID;
@@ -7,7 +8,8 @@ import java.util.UUID;
 /**
  * Entidad JPA para la tabla dependencia_actividad.
  * 
- * Representa una dependencia Fin-Inicio entre dos actividades.
+ * Representa una dependencia tipada (FS/SS/FF/SF) con desfase en días laborables
+ * entre dos actividades.
  * 
  * Relación: Una actividad puede tener múltiples predecesoras.
  */
@@ -31,7 +33,14 @@ public class DependenciaActividadEntity {
     private ActividadProgramadaEntity actividad;
 
     @Column(name = "actividad_predecesora_id", nullable = false, updatable = false)
-    private UUID actividadPredecesoraId; // ID de la actividad predecesora (dependencia Fin-Inicio)
+    private UUID actividadPredecesoraId; // ID de la actividad predecesora
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 20)
+    private TipoDependencia tipo = TipoDependencia.FIN_INICIO;
+
+    @Column(name = "desfase_dias", nullable = false)
+    private int desfaseDias;
 
     /**
      * Constructor protegido para JPA.
@@ -48,6 +57,16 @@ public class DependenciaActividadEntity {
         this.actividadPredecesoraId = actividadPredecesoraId;
     }
 
+    /**
+     * Constructor para crear dependencias tipadas.
+     */
+    public DependenciaActividadEntity(UUID id, ActividadProgramadaEntity actividad, UUID actividadPredecesoraId,
+                                      TipoDependencia tipo, int desfaseDias) {
+        this(id, actividad, actividadPredecesoraId);
+        this.tipo = tipo;
+        this.desfaseDias = desfaseDias;
+    }
+
     // Getters y Setters
 
     public UUID getId() {
@@ -73,4 +92,20 @@ public class DependenciaActividadEntity {
     public void setActividadPredecesoraId(UUID actividadPredecesoraId) {
         this.actividadPredecesoraId = actividadPredecesoraId;
     }
+
+    public TipoDependencia getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoDependencia tipo) {
+        this.tipo = tipo;
+    }
+
+    public int getDesfaseDias() {
+        return desfaseDias;
+    }
+
+    public void setDesfaseDias(int desfaseDias) {
+        this.desfaseDias = desfaseDias;
+    }
 }
@@ -29,7 +29,8 @@ import java.util.UUID;
            @Index(name = "idx_inventario_proyecto", columnList = "proyecto_id"),
            @Index(name = "idx_inventario_recurso", columnList = "recurso_id"),
            @Index(name = "idx_inventario_bodega", columnList = "bodega_id"),
-           @Index(name = "idx_inventario_recurso_external", columnList = "recurso_external_id")
+           @Index(name = "idx_inventario_recurso_external", columnList = "recurso_external_id"),
+           @Index(name = "idx_inventario_proyecto_recurso_unidad", columnList = "proyecto_id, recurso_external_id, unidad_base")
        })
 // REGLA-136
 public class InventarioItemEntity {
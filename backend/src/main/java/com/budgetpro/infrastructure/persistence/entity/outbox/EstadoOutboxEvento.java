@@ -0,0 +1,13 @@
+package com.budgetpro.infrastructure.persistence.entity.outbox;
+
+/**
+ * Estado de un evento en el outbox transaccional.
+ */
+public enum EstadoOutboxEvento {
+    /** Pendiente de entrega (o en espera de reintento). */
+    PENDIENTE,
+    /** Entregado a todos sus manejadores. */
+    PROCESADO,
+    /** Agotó los reintentos o su payload no se pudo leer; requiere revisión manual. */
+    FALLIDO
+}
@@ -0,0 +1,105 @@
+package com.budgetpro.infrastructure.persistence.entity.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA de la tabla outbox_evento.
+ * 
+ * Sin @Version: el despachador toma cada fila con FOR UPDATE SKIP LOCKED, por lo que
+ * nunca hay dos escritores concurrentes sobre el mismo evento.
+ */
+@Entity
+@Table(name = "outbox_evento")
+public class OutboxEventoEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "tipo", nullable = false, length = 100, updatable = false)
+    private String tipo;
+
+    @Column(name = "agregado_id", updatable = false)
+    private UUID agregadoId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "jsonb")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false, length = 20)
+    private EstadoOutboxEvento estado;
+
+    @Column(name = "intentos", nullable = false)
+    private int intentos;
+
+    @Column(name = "proximo_intento", nullable = false)
+    private LocalDateTime proximoIntento;
+
+    @Column(name = "ultimo_error", columnDefinition = "TEXT")
+    private String ultimoError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "procesado_at")
+    private LocalDateTime procesadoAt;
+
+    protected OutboxEventoEntity() {
+        // JPA
+    }
+
+    public OutboxEventoEntity(UUID id, String tipo, UUID agregadoId, String payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.tipo = tipo;
+        this.agregadoId = agregadoId;
+        this.payload = payload;
+        this.estado = EstadoOutboxEvento.PENDIENTE;
+        this.intentos = 0;
+        this.proximoIntento = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Marca el evento como entregado.
+     */
+    public void marcarProcesado(LocalDateTime ahora) {
+        this.estado = EstadoOutboxEvento.PROCESADO;
+        this.procesadoAt = ahora;
+        this.ultimoError = null;
+    }
+
+    /**
+     * Registra un intento fallido y programa el siguiente, o lo marca FALLIDO si no quedan reintentos.
+     */
+    public void registrarFallo(String error, LocalDateTime proximoIntento, boolean agotado) {
+        this.intentos++;
+        this.ultimoError = error;
+        if (agotado) {
+            this.estado = EstadoOutboxEvento.FALLIDO;
+        } else {
+            this.proximoIntento = proximoIntento;
+        }
+    }
+
+    public UUID getId() { return id; }
+    public String getTipo() { return tipo; }
+    public UUID getAgregadoId() { return agregadoId; }
+    public String getPayload() { return payload; }
+    public EstadoOutboxEvento getEstado() { return estado; }
+    public int getIntentos() { return intentos; }
+    public LocalDateTime getProximoIntento() { return proximoIntento; }
+    public String getUltimoError() { return ultimoError; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getProcesadoAt() { return procesadoAt; }
+}
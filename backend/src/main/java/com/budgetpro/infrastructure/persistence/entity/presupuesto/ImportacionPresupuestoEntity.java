@@ -0,0 +1,95 @@
+package com.budgetpro.infrastructure.persistence.entity.presupuesto;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoImportacion;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entidad JPA de la tabla importacion_presupuesto.
+ *
+ * Sin @Version: cada importación tiene un único escritor (su procesador).
+ */
+@Entity
+@Table(name = "importacion_presupuesto")
+public class ImportacionPresupuestoEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "presupuesto_id", nullable = false, updatable = false)
+    private UUID presupuestoId;
+
+    @Column(name = "nombre_archivo", length = 255, updatable = false)
+    private String nombreArchivo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false, length = 20)
+    private EstadoImportacion estado;
+
+    @Column(name = "filas_procesadas", nullable = false)
+    private long filasProcesadas;
+
+    @Column(name = "partidas_importadas", nullable = false)
+    private long partidasImportadas;
+
+    @Column(name = "insumos_importados", nullable = false)
+    private long insumosImportados;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "errores", nullable = false, columnDefinition = "jsonb")
+    private List<String> errores = new ArrayList<>();
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finalizado_at")
+    private LocalDateTime finalizadoAt;
+
+    /** Momento del último guardado; detecta importaciones interrumpidas. */
+    @Column(name = "actualizado_at", nullable = false)
+    private LocalDateTime actualizadoAt;
+
+    protected ImportacionPresupuestoEntity() {
+        // JPA
+    }
+
+    public ImportacionPresupuestoEntity(UUID id, UUID presupuestoId, String nombreArchivo, EstadoImportacion estado,
+                                        long filasProcesadas, long partidasImportadas, long insumosImportados,
+                                        List<String> errores, LocalDateTime createdAt, LocalDateTime finalizadoAt) {
+        this.id = id;
+        this.presupuestoId = presupuestoId;
+        this.nombreArchivo = nombreArchivo;
+        this.estado = estado;
+        this.filasProcesadas = filasProcesadas;
+        this.partidasImportadas = partidasImportadas;
+        this.insumosImportados = insumosImportados;
+        this.errores = new ArrayList<>(errores);
+        this.createdAt = createdAt;
+        this.finalizadoAt = finalizadoAt;
+        this.actualizadoAt = LocalDateTime.now();
+    }
+
+    public UUID getId() { return id; }
+    public UUID getPresupuestoId() { return presupuestoId; }
+    public String getNombreArchivo() { return nombreArchivo; }
+    public EstadoImportacion getEstado() { return estado; }
+    public long getFilasProcesadas() { return filasProcesadas; }
+    public long getPartidasImportadas() { return partidasImportadas; }
+    public long getInsumosImportados() { return insumosImportados; }
+    public List<String> getErrores() { return errores; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getFinalizadoAt() { return finalizadoAt; }
+    public LocalDateTime getActualizadoAt() { return actualizadoAt; }
+}
@@ -80,6 +80,18 @@ public class EstimacionReajusteEntity {
     @Column(name = "observaciones", columnDefinition = "TEXT")
     private String observaciones;
 
+    /**
+     * false si el cálculo usó algún índice provisional.
+     */
+    @Column(name = "indices_definitivos", nullable = false)
+    private Boolean indicesDefinitivos = Boolean.TRUE;
+
+    /**
+     * Estimación aprobada que esta complementa por índices definitivos (null si no es complementaria).
+     */
+    @Column(name = "estimacion_origen_id", updatable = false)
+    private UUID estimacionOrigenId;
+
     @Version
     @Column(name = "version", nullable = false)
     private Integer version;
@@ -161,6 +173,10 @@ public class EstimacionReajusteEntity {
     public void setEstado(com.budgetpro.domain.finanzas.reajuste.model.EstadoEstimacionReajuste estado) { this.estado = estado; }
     public String getObservaciones() { return observaciones; }
     public void setObservaciones(String observaciones) { this.observaciones = observaciones; }
+    public Boolean getIndicesDefinitivos() { return indicesDefinitivos; }
+    public void setIndicesDefinitivos(Boolean indicesDefinitivos) { this.indicesDefinitivos = indicesDefinitivos; }
+    public UUID getEstimacionOrigenId() { return estimacionOrigenId; }
+    public void setEstimacionOrigenId(UUID estimacionOrigenId) { this.estimacionOrigenId = estimacionOrigenId; }
     public Integer getVersion() { return version; }
     public void setVersion(Integer version) { this.version = version; }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -51,6 +51,12 @@ public class IndicePreciosEntity {
     @Column(name = "activo", nullable = false)
     private Boolean activo;
 
+    /**
+     * false mientras el valor publicado sea provisional.
+     */
+    @Column(name = "definitivo", nullable = false)
+    private Boolean definitivo = Boolean.TRUE;
+
     @Version
     @Column(name = "version", nullable = false)
     private Integer version;
@@ -94,6 +100,8 @@ public class IndicePreciosEntity {
     public void setValor(BigDecimal valor) { this.valor = valor; }
     public Boolean getActivo() { return activo; }
     public void setActivo(Boolean activo) { this.activo = activo; }
+    public Boolean getDefinitivo() { return definitivo; }
+    public void setDefinitivo(Boolean definitivo) { this.definitivo = definitivo; }
     public Integer getVersion() { return version; }
     public void setVersion(Integer version) { this.version = version; }
     public LocalDateTime getCreatedAt() { return createdAt; }
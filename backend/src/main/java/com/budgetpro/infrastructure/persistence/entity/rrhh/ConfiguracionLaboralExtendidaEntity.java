@@ -41,4 +41,8 @@ public class ConfiguracionLaboralExtendidaEntity extends AuditEntity {
     @Convert(converter = JsonbMapConverter.class)
     @Column(name = "beneficios_adicionales", columnDefinition = "jsonb")
     private Map<String, Object> beneficiosAdicionales;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
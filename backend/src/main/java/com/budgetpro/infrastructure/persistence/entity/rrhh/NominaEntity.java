@@ -48,9 +48,22 @@ public class NominaEntity extends AuditEntity {
     @Column(name = "total_neto", precision = 19, scale = 2)
     private BigDecimal totalNeto;
 
+    // Acumulados sin redondear del punto de control mientras la corrida está en PROCESANDO
+    @Column(name = "acumulado_bruto")
+    private BigDecimal acumuladoBruto;
+
+    @Column(name = "acumulado_neto")
+    private BigDecimal acumuladoNeto;
+
     @Column(name = "cantidad_empleados")
     private Integer cantidadEmpleados;
 
+    @Column(name = "empleados_procesados", nullable = false)
+    private Integer empleadosProcesados = 0;
+
+    @Column(name = "ultimo_empleado_id")
+    private UUID ultimoEmpleadoId;
+
     @Version
     @Column(name = "version", nullable = false)
     private Long version;
@@ -0,0 +1,42 @@
+package com.budgetpro.infrastructure.persistence.mapper.almacen;
+
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.infrastructure.persistence.entity.almacen.KardexCheckpointEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper para convertir entre KardexCheckpoint (dominio) y KardexCheckpointEntity (persistencia).
+ */
+@Component
+public class KardexCheckpointMapper {
+
+    public KardexCheckpointEntity toEntity(KardexCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return null;
+        }
+        return new KardexCheckpointEntity(
+            checkpoint.getId(),
+            checkpoint.getAlmacenId(),
+            checkpoint.getRecursoId(),
+            checkpoint.getFechaCorte(),
+            checkpoint.getSaldoCantidad(),
+            checkpoint.getSaldoValor(),
+            checkpoint.getCostoPromedioPonderado()
+        );
+    }
+
+    public KardexCheckpoint toDomain(KardexCheckpointEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return KardexCheckpoint.reconstruir(
+            entity.getId(),
+            entity.getAlmacenId(),
+            entity.getRecursoId(),
+            entity.getFechaCorte(),
+            entity.getSaldoCantidad(),
+            entity.getSaldoValor(),
+            entity.getCostoPromedioPonderado()
+        );
+    }
+}
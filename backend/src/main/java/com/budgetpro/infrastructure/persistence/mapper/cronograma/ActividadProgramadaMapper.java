@@ -2,6 +2,7 @@ package com.budgetpro.infrastructure.persistence.mapper.cronograma;
 
 import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
 import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
 import com.budgetpro.infrastructure.persistence.entity.cronograma.ActividadProgramadaEntity;
 import com.budgetpro.infrastructure.persistence.entity.cronograma.DependenciaActividadEntity;
 import org.springframework.stereotype.Component;
@@ -37,16 +38,9 @@ public class ActividadProgramadaMapper {
             null // CRÍTICO: null para nuevas entidades, Hibernate manejará la versión
         );
 
-        // Mapear dependencias (predecesoras)
-        if (actividad.getPredecesoras() != null && !actividad.getPredecesoras().isEmpty()) {
-            List<DependenciaActividadEntity> dependencias = actividad.getPredecesoras().stream()
-                    .map(predecesoraId -> new DependenciaActividadEntity(
-                        UUID.randomUUID(),
-                        entity,
-                        predecesoraId
-                    ))
-                    .collect(Collectors.toList());
-            entity.setDependencias(dependencias);
+        // Mapear dependencias (predecesoras con tipo y desfase)
+        if (!actividad.getDependencias().isEmpty()) {
+            entity.setDependencias(toDependenciaEntities(entity, actividad));
         }
 
         return entity;
@@ -60,19 +54,18 @@ public class ActividadProgramadaMapper {
             return null;
         }
 
-        // Extraer IDs de predecesoras desde las dependencias
-        List<UUID> predecesoras = entity.getDependencias().stream()
-                .map(DependenciaActividadEntity::getActividadPredecesoraId)
+        List<Dependencia> dependencias = entity.getDependencias().stream()
+                .map(d -> new Dependencia(d.getActividadPredecesoraId(), d.getTipo(), d.getDesfaseDias()))
                 .collect(Collectors.toList());
 
-        return ActividadProgramada.reconstruir(
+        return ActividadProgramada.reconstruirConDependencias(
             ActividadProgramadaId.of(entity.getId()),
             entity.getPartidaId(),
             entity.getProgramaObraId(),
             entity.getFechaInicio(),
             entity.getFechaFin(),
             entity.getDuracionDias(),
-            predecesoras,
+            dependencias,
             entity.getVersion() != null ? entity.getVersion().longValue() : 0L
         );
     }
@@ -89,18 +82,22 @@ public class ActividadProgramadaMapper {
         
         // Actualizar dependencias: eliminar todas y agregar las nuevas
         existingEntity.getDependencias().clear();
-        if (actividad.getPredecesoras() != null && !actividad.getPredecesoras().isEmpty()) {
-            List<DependenciaActividadEntity> nuevasDependencias = actividad.getPredecesoras().stream()
-                    .map(predecesoraId -> new DependenciaActividadEntity(
-                        UUID.randomUUID(),
-                        existingEntity,
-                        predecesoraId
-                    ))
-                    .collect(Collectors.toList());
-            existingEntity.getDependencias().addAll(nuevasDependencias);
-        }
+        existingEntity.getDependencias().addAll(toDependenciaEntities(existingEntity, actividad));
         
         // CRÍTICO: NO se toca version. Hibernate lo maneja con @Version
         // CRÍTICO: NO se toca partidaId ni programaObraId (son inmutables después de crear)
     }
+
+    private List<DependenciaActividadEntity> toDependenciaEntities(ActividadProgramadaEntity entity,
+                                                                   ActividadProgramada actividad) {
+        return actividad.getDependencias().stream()
+                .map(dependencia -> new DependenciaActividadEntity(
+                    UUID.randomUUID(),
+                    entity,
+                    dependencia.predecesoraId(),
+                    dependencia.tipo(),
+                    dependencia.desfaseDias()
+                ))
+                .collect(Collectors.toList());
+    }
 }
@@ -1,5 +1,6 @@
 package com.budgetpro.infrastructure.persistence.mapper.cronograma;
 
+import com.budgetpro.domain.finanzas.cronograma.model.ContenidoSnapshot;
 import com.budgetpro.domain.finanzas.cronograma.model.CronogramaSnapshot;
 import com.budgetpro.domain.finanzas.cronograma.model.CronogramaSnapshotId;
 import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObraId;
@@ -8,10 +9,14 @@ import com.budgetpro.infrastructure.persistence.entity.cronograma.CronogramaSnap
 import com.budgetpro.shared.validation.JsonSchemaValidator;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Consumer;
+
 /**
  * Mapper para convertir entre CronogramaSnapshot (dominio) y CronogramaSnapshotEntity (persistencia).
  * 
- * Valida los JSON antes de persistir para asegurar que cumplan con los esquemas definidos.
+ * Valida los JSON en texto antes de persistir para asegurar que cumplan con los esquemas
+ * definidos. Las secciones comprimidas ya se validaron al generarse
+ * (EscritorSnapshotCronogramaJacksonAdapter) y no se descomprimen aquí.
  */
 @Component
 public class CronogramaSnapshotMapper {
@@ -37,22 +42,27 @@ public class CronogramaSnapshotMapper {
         }
 
         // Validar esquemas JSON antes de persistir
-        jsonSchemaValidator.validateFechasSnapshot(snapshot.getFechasJson());
-        jsonSchemaValidator.validateDuracionesSnapshot(snapshot.getDuracionesJson());
-        jsonSchemaValidator.validateSecuenciaSnapshot(snapshot.getSecuenciaJson());
-        jsonSchemaValidator.validateCalendariosSnapshot(snapshot.getCalendariosJson());
+        validarTexto(snapshot.getFechas(), jsonSchemaValidator::validateFechasSnapshot);
+        validarTexto(snapshot.getDuraciones(), jsonSchemaValidator::validateDuracionesSnapshot);
+        validarTexto(snapshot.getSecuencia(), jsonSchemaValidator::validateSecuenciaSnapshot);
+        validarTexto(snapshot.getCalendarios(), jsonSchemaValidator::validateCalendariosSnapshot);
 
-        return new CronogramaSnapshotEntity(
+        CronogramaSnapshotEntity entity = new CronogramaSnapshotEntity(
             snapshot.getId().getValue(),
             snapshot.getProgramaObraId().getValue(),
             snapshot.getPresupuestoId().getValue(),
-            snapshot.getFechasJson(),
-            snapshot.getDuracionesJson(),
-            snapshot.getSecuenciaJson(),
-            snapshot.getCalendariosJson(),
+            texto(snapshot.getFechas()),
+            texto(snapshot.getDuraciones()),
+            texto(snapshot.getSecuencia()),
+            texto(snapshot.getCalendarios()),
             snapshot.getSnapshotDate(),
             snapshot.getSnapshotAlgorithm()
         );
+        entity.setFechasGzip(gzip(snapshot.getFechas()));
+        entity.setDuracionesGzip(gzip(snapshot.getDuraciones()));
+        entity.setSecuenciaGzip(gzip(snapshot.getSecuencia()));
+        entity.setCalendariosGzip(gzip(snapshot.getCalendarios()));
+        return entity;
     }
 
     /**
@@ -67,12 +77,30 @@ public class CronogramaSnapshotMapper {
             CronogramaSnapshotId.of(entity.getId()),
             ProgramaObraId.of(entity.getProgramaObraId()),
             PresupuestoId.from(entity.getPresupuestoId()),
-            entity.getFechasJson(),
-            entity.getDuracionesJson(),
-            entity.getSecuenciaJson(),
-            entity.getCalendariosJson(),
+            contenido(entity.getFechasJson(), entity.getFechasGzip()),
+            contenido(entity.getDuracionesJson(), entity.getDuracionesGzip()),
+            contenido(entity.getSecuenciaJson(), entity.getSecuenciaGzip()),
+            contenido(entity.getCalendariosJson(), entity.getCalendariosGzip()),
             entity.getSnapshotDate(),
             entity.getSnapshotAlgorithm()
         );
     }
+
+    private static void validarTexto(ContenidoSnapshot contenido, Consumer<String> validacion) {
+        if (!contenido.esComprimido()) {
+            validacion.accept(contenido.aTexto());
+        }
+    }
+
+    private static String texto(ContenidoSnapshot contenido) {
+        return contenido.esComprimido() ? null : contenido.aTexto();
+    }
+
+    private static byte[] gzip(ContenidoSnapshot contenido) {
+        return contenido.esComprimido() ? contenido.getDatos() : null;
+    }
+
+    private static ContenidoSnapshot contenido(String json, byte[] gzip) {
+        return gzip != null ? ContenidoSnapshot.comprimido(gzip) : ContenidoSnapshot.json(json);
+    }
 }
@@ -8,6 +8,9 @@ import com.budgetpro.infrastructure.persistence.entity.reajuste.EstimacionReajus
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +53,10 @@ public class EstimacionReajusteMapper {
             estimacion.getObservaciones(),
             null // CRÍTICO: null para nuevas entidades, Hibernate lo manejará
         );
+        entity.setIndicesDefinitivos(estimacion.isIndicesDefinitivos());
+        if (estimacion.getEstimacionOrigenId() != null) {
+            entity.setEstimacionOrigenId(estimacion.getEstimacionOrigenId().getValue());
+        }
 
         // Mapear detalles
         if (estimacion.getDetalles() != null && !estimacion.getDetalles().isEmpty()) {
@@ -94,7 +101,9 @@ public class EstimacionReajusteMapper {
             entity.getEstado(),
             entity.getObservaciones(),
             detalles,
-            entity.getVersion() != null ? entity.getVersion().longValue() : 0L
+            entity.getVersion() != null ? entity.getVersion().longValue() : 0L,
+            !Boolean.FALSE.equals(entity.getIndicesDefinitivos()),
+            entity.getEstimacionOrigenId() != null ? EstimacionReajusteId.of(entity.getEstimacionOrigenId()) : null
         );
     }
 
@@ -109,17 +118,29 @@ public class EstimacionReajusteMapper {
         existingEntity.setPorcentajeVariacion(estimacion.getPorcentajeVariacion());
         existingEntity.setEstado(estimacion.getEstado());
         existingEntity.setObservaciones(estimacion.getObservaciones());
+        // El valor del índice actual cambia al recalcular con índices definitivos
+        existingEntity.setValorIndiceActual(estimacion.getValorIndiceActual());
+        existingEntity.setIndicesDefinitivos(estimacion.isIndicesDefinitivos());
         
-        // Actualizar detalles: eliminar todos y agregar los nuevos
-        existingEntity.getDetalles().clear();
-        if (estimacion.getDetalles() != null && !estimacion.getDetalles().isEmpty()) {
-            List<DetalleReajustePartidaEntity> nuevosDetalles = estimacion.getDetalles().stream()
-                    .map(detalle -> detalleMapper.toEntity(detalle, existingEntity))
-                    .collect(Collectors.toList());
-            existingEntity.getDetalles().addAll(nuevosDetalles);
+        // Actualizar detalles: los de igual ID se modifican en sitio (un reemplazo insertaría antes de
+        // borrar y chocaría con uq_detalle_reajuste_partida), el resto se agrega o elimina
+        Map<UUID, DetalleReajustePartida> detallesDominio = estimacion.getDetalles().stream()
+                .collect(Collectors.toMap(detalle -> detalle.getId().getValue(), Function.identity()));
+        existingEntity.getDetalles().removeIf(detalle -> !detallesDominio.containsKey(detalle.getId()));
+        Map<UUID, DetalleReajustePartidaEntity> existentes = existingEntity.getDetalles().stream()
+                .collect(Collectors.toMap(DetalleReajustePartidaEntity::getId, Function.identity()));
+        for (DetalleReajustePartida detalle : estimacion.getDetalles()) {
+            DetalleReajustePartidaEntity existente = existentes.get(detalle.getId().getValue());
+            if (existente != null) {
+                existente.setMontoBase(detalle.getMontoBase());
+                existente.setMontoReajustado(detalle.getMontoReajustado());
+                existente.setDiferencial(detalle.getDiferencial());
+            } else {
+                existingEntity.getDetalles().add(detalleMapper.toEntity(detalle, existingEntity));
+            }
         }
         
         // CRÍTICO: NO se toca version. Hibernate lo maneja con @Version
-        // CRÍTICO: NO se tocan campos inmutables (proyectoId, presupuestoId, numeroEstimacion, índices)
+        // CRÍTICO: NO se tocan campos inmutables (proyectoId, presupuestoId, numeroEstimacion, códigos de índice)
     }
 }
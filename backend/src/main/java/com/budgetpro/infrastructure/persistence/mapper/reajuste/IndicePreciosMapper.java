@@ -19,7 +19,7 @@ public class IndicePreciosMapper {
             return null;
         }
 
-        return new IndicePreciosEntity(
+        IndicePreciosEntity entity = new IndicePreciosEntity(
             indice.getId().getValue(),
             indice.getCodigo(),
             indice.getNombre(),
@@ -29,6 +29,8 @@ public class IndicePreciosMapper {
             indice.isActivo(),
             null // CRÍTICO: null para nuevas entidades, Hibernate lo manejará
         );
+        entity.setDefinitivo(indice.isDefinitivo());
+        return entity;
     }
 
     /**
@@ -46,7 +48,8 @@ public class IndicePreciosMapper {
             entity.getTipo(),
             entity.getFechaBase(),
             entity.getValor(),
-            entity.getActivo()
+            entity.getActivo(),
+            !Boolean.FALSE.equals(entity.getDefinitivo())
         );
     }
 
@@ -60,6 +63,7 @@ public class IndicePreciosMapper {
         existingEntity.setFechaBase(indice.getFechaBase());
         existingEntity.setValor(indice.getValor());
         existingEntity.setActivo(indice.isActivo());
+        existingEntity.setDefinitivo(indice.isDefinitivo());
         // CRÍTICO: NO se toca version. Hibernate lo maneja con @Version
     }
 }
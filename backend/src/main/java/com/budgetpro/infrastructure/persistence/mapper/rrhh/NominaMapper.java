@@ -1,5 +1,6 @@
 package com.budgetpro.infrastructure.persistence.mapper.rrhh;
 
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
 import com.budgetpro.domain.rrhh.model.Nomina;
 import com.budgetpro.domain.rrhh.model.NominaId;
 import com.budgetpro.domain.proyecto.model.ProyectoId;
@@ -14,9 +15,15 @@ public class NominaMapper {
         if (entity == null) {
             return null;
         }
+        // Una corrida en PROCESANDO se reanuda con los acumulados exactos, no con los totales redondeados
+        boolean enProceso = "PROCESANDO".equals(entity.getEstado()) && entity.getAcumuladoBruto() != null;
         return Nomina.reconstruir(NominaId.of(entity.getId()), ProyectoId.from(entity.getProyecto().getId()),
                 entity.getPeriodoInicio(), entity.getPeriodoFin(), entity.getDescripcion(), entity.getEstado(),
-                entity.getTotalBruto(), entity.getTotalNeto(), entity.getCantidadEmpleados(), java.util.List.of());
+                enProceso ? entity.getAcumuladoBruto() : entity.getTotalBruto(),
+                enProceso ? entity.getAcumuladoNeto() : entity.getTotalNeto(), entity.getCantidadEmpleados(),
+                java.util.List.of(),
+                entity.getEmpleadosProcesados(),
+                entity.getUltimoEmpleadoId() != null ? EmpleadoId.of(entity.getUltimoEmpleadoId()) : null);
     }
 
     public NominaEntity toEntity(Nomina domain) {
@@ -37,6 +44,8 @@ public class NominaMapper {
         entity.setTotalBruto(domain.getTotalBruto());
         entity.setTotalNeto(domain.getTotalNeto());
         entity.setCantidadEmpleados(domain.getCantidadEmpleados());
+        entity.setEmpleadosProcesados(domain.getEmpleadosProcesados());
+        entity.setUltimoEmpleadoId(domain.getUltimoEmpleadoId() != null ? domain.getUltimoEmpleadoId().getValue() : null);
         return entity;
     }
 }
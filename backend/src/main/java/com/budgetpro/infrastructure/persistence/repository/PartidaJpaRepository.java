@@ -2,7 +2,9 @@ package com.budgetpro.infrastructure.persistence.repository;
 
 import com.budgetpro.infrastructure.persistence.entity.PartidaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +32,54 @@ public interface PartidaJpaRepository extends JpaRepository<PartidaEntity, UUID>
      */
     List<PartidaEntity> findByPresupuestoIdAndPadreIsNull(UUID presupuestoId);
 
+    /**
+     * Busca las partidas hoja (es_hoja, mantenido por trigger) de un presupuesto.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return Lista de partidas hoja
+     */
+    List<PartidaEntity> findByPresupuestoIdAndEsHojaTrue(UUID presupuestoId);
+
+    /**
+     * Verifica si existe la partida y es hoja.
+     * 
+     * @param id El ID de la partida
+     * @return true si existe y no tiene hijas
+     */
+    boolean existsByIdAndEsHojaTrue(UUID id);
+
+    /**
+     * Busca las partidas hoja del subárbol de una partida por rango de ruta materializada.
+     * 
+     * Con la colación "C" los descendientes de una ruta "/.../x/" son las rutas en
+     * ["/.../x/", "/.../x0"), por lo que el índice (presupuesto_id, ruta) resuelve el subárbol.
+     * 
+     * @param partidaId El ID de la partida raíz del subárbol
+     * @return Partidas hoja del subárbol ordenadas por ruta
+     */
+    @Query(value = "SELECT h.* FROM partida p " +
+                   "JOIN partida h ON h.presupuesto_id = p.presupuesto_id " +
+                   "AND h.ruta >= p.ruta AND h.ruta < left(p.ruta, -1) || '0' " +
+                   "WHERE p.id = :partidaId AND h.es_hoja " +
+                   "ORDER BY h.ruta",
+           nativeQuery = true)
+    List<PartidaEntity> findHojasSubarbol(UUID partidaId);
+
+    /**
+     * Huella de versión de las partidas de un presupuesto: cantidad de filas, suma de versiones
+     * (@Version se incrementa en cada UPDATE) y última modificación en microsegundos.
+     * 
+     * Se resuelve con el índice por presupuesto_id sin leer la jerarquía completa.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return Huella "cantidad-versiones-ultimaModificacion"
+     */
+    @Query(value = "SELECT COUNT(*) || '-' || COALESCE(SUM(version), 0) || '-' || " +
+                   "COALESCE(CAST(EXTRACT(EPOCH FROM MAX(updated_at)) * 1000000 AS BIGINT), 0) " +
+                   "FROM partida WHERE presupuesto_id = :presupuestoId",
+           nativeQuery = true)
+    String calcularVersionWbs(UUID presupuestoId);
+
     /**
      * Busca todas las partidas hijas de una partida padre.
      * 
@@ -37,4 +87,28 @@ public interface PartidaJpaRepository extends JpaRepository<PartidaEntity, UUID>
      * @return Lista de partidas hijas
      */
     List<PartidaEntity> findByPadreId(UUID padreId);
+
+    /**
+     * Reserva saldo en bloque con un UPDATE condicionado al saldo disponible
+     * (metrado_vigente * precio_unitario - gastos_reales - compromisos_pendientes).
+     * 
+     * La condición se reevalúa sobre la versión vigente de cada fila al tomar su lock,
+     * por lo que dos compras concurrentes no pueden sobre-reservar la misma partida.
+     * 
+     * @param ids IDs de partida separados por comas
+     * @param montos Montos a reservar separados por comas, en el mismo orden que los IDs
+     * @return IDs de las partidas reservadas
+     */
+    @Transactional
+    @Query(value = "WITH reserva AS (" +
+                   "SELECT CAST(r.id AS uuid) AS id, CAST(r.monto AS numeric) AS monto " +
+                   "FROM unnest(string_to_array(:ids, ','), string_to_array(:montos, ',')) AS r(id, monto)) " +
+                   "UPDATE partida p SET compromisos_pendientes = p.compromisos_pendientes + r.monto, " +
+                   "version = p.version + 1 " +
+                   "FROM reserva r " +
+                   "WHERE p.id = r.id " +
+                   "AND p.metrado_vigente * p.precio_unitario - p.gastos_reales - p.compromisos_pendientes >= r.monto " +
+                   "RETURNING p.id",
+           nativeQuery = true)
+    List<UUID> reservarSaldos(String ids, String montos);
 }
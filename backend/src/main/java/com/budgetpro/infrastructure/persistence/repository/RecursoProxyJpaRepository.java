@@ -5,6 +5,7 @@ import com.budgetpro.infrastructure.persistence.entity.catalogo.RecursoProxyEnti
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,5 +18,7 @@ public interface RecursoProxyJpaRepository extends JpaRepository<RecursoProxyEnt
 
     Optional<RecursoProxyEntity> findByExternalIdAndCatalogSource(String externalId, String catalogSource);
 
+    List<RecursoProxyEntity> findByExternalIdInAndCatalogSource(Collection<String> externalIds, String catalogSource);
+
     List<RecursoProxyEntity> findByEstado(EstadoProxy estado);
 }
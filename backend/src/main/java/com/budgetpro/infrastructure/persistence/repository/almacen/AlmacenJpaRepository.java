@@ -17,4 +17,9 @@ public interface AlmacenJpaRepository extends JpaRepository<AlmacenEntity, UUID>
      * Busca todos los almacenes activos de un proyecto.
      */
     List<AlmacenEntity> findByProyectoIdAndActivoTrue(UUID proyectoId);
+
+    /**
+     * Busca todos los almacenes activos.
+     */
+    List<AlmacenEntity> findByActivoTrue();
 }
@@ -0,0 +1,55 @@
+package com.budgetpro.infrastructure.persistence.repository.almacen;
+
+import com.budgetpro.infrastructure.persistence.entity.almacen.KardexCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositorio JPA para KardexCheckpointEntity.
+ */
+@Repository
+public interface KardexCheckpointJpaRepository extends JpaRepository<KardexCheckpointEntity, UUID> {
+
+    /**
+     * Fecha de corte más reciente de un almacén que no supere la fecha dada.
+     */
+    @Query("SELECT MAX(c.fechaCorte) FROM KardexCheckpointEntity c WHERE c.almacenId = :almacenId AND c.fechaCorte <= :fechaHasta")
+    Optional<LocalDate> findUltimaFechaCorte(UUID almacenId, LocalDate fechaHasta);
+
+    /**
+     * Fecha de corte más reciente de un almacén.
+     */
+    @Query("SELECT MAX(c.fechaCorte) FROM KardexCheckpointEntity c WHERE c.almacenId = :almacenId")
+    Optional<LocalDate> findUltimaFechaCorte(UUID almacenId);
+
+    /**
+     * Checkpoints de un almacén en una fecha de corte.
+     */
+    List<KardexCheckpointEntity> findByAlmacenIdAndFechaCorte(UUID almacenId, LocalDate fechaCorte);
+
+    /**
+     * Fechas de corte distintas de un almacén desde una fecha (incluida), en orden ascendente.
+     */
+    @Query("SELECT DISTINCT c.fechaCorte FROM KardexCheckpointEntity c WHERE c.almacenId = :almacenId AND c.fechaCorte >= :fechaDesde ORDER BY c.fechaCorte ASC")
+    List<LocalDate> findFechasCorteDesde(UUID almacenId, LocalDate fechaDesde);
+
+    /**
+     * Toma un advisory lock transaccional sobre la generación de cierres de un almacén.
+     */
+    @Query(value = "SELECT CAST(pg_advisory_xact_lock(CAST(:claveAlmacen AS bigint)) AS text)", nativeQuery = true)
+    String bloquearCierres(int claveAlmacen);
+
+    /**
+     * Elimina los checkpoints de un almacén y recurso desde una fecha de corte (incluida).
+     */
+    @Modifying
+    @Query("DELETE FROM KardexCheckpointEntity c WHERE c.almacenId = :almacenId AND c.recursoId = :recursoId AND c.fechaCorte >= :fechaDesde")
+    int deleteDesde(UUID almacenId, UUID recursoId, LocalDate fechaDesde);
+}
@@ -3,11 +3,19 @@ package com.budgetpro.infrastructure.persistence.repository.almacen;
 import com.budgetpro.infrastructure.persistence.entity.almacen.KardexEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * Repositorio JPA para KardexEntity.
@@ -25,4 +33,61 @@ public interface KardexJpaRepository extends JpaRepository<KardexEntity, UUID> {
      */
     @Query("SELECT k FROM KardexEntity k WHERE k.almacenId = :almacenId AND k.recursoId = :recursoId ORDER BY k.fechaMovimiento DESC, k.createdAt DESC LIMIT 1")
     Optional<KardexEntity> findUltimoPorAlmacenIdYRecursoId(UUID almacenId, UUID recursoId);
+
+    /**
+     * Último registro de Kárdex de cada recurso de un almacén (DISTINCT ON por recurso).
+     */
+    @Query(value = "SELECT DISTINCT ON (k.recurso_id) k.* FROM kardex k " +
+                   "WHERE k.almacen_id = :almacenId AND k.recurso_id IN (:recursoIds) " +
+                   "ORDER BY k.recurso_id, k.fecha_movimiento DESC, k.created_at DESC",
+           nativeQuery = true)
+    List<KardexEntity> findUltimosPorAlmacenIdYRecursoIds(UUID almacenId, Collection<UUID> recursoIds);
+
+    /**
+     * Busca los registros de Kárdex de un almacén en el rango (desde, hasta], en orden cronológico.
+     */
+    @Query("SELECT k FROM KardexEntity k WHERE k.almacenId = :almacenId AND k.fechaMovimiento > :fechaDesde AND k.fechaMovimiento <= :fechaHasta ORDER BY k.fechaMovimiento ASC, k.createdAt ASC")
+    List<KardexEntity> findPorAlmacenIdEntreFechas(UUID almacenId, LocalDate fechaDesde, LocalDate fechaHasta);
+
+    /**
+     * Busca los registros de Kárdex de un almacén hasta una fecha (incluida), en orden cronológico.
+     */
+    @Query("SELECT k FROM KardexEntity k WHERE k.almacenId = :almacenId AND k.fechaMovimiento <= :fechaHasta ORDER BY k.fechaMovimiento ASC, k.createdAt ASC")
+    List<KardexEntity> findPorAlmacenIdHastaFecha(UUID almacenId, LocalDate fechaHasta);
+
+    /**
+     * Fecha del primer registro de Kárdex de un almacén.
+     */
+    @Query("SELECT MIN(k.fechaMovimiento) FROM KardexEntity k WHERE k.almacenId = :almacenId")
+    Optional<LocalDate> findPrimeraFechaMovimiento(UUID almacenId);
+
+    /**
+     * Último registro de Kárdex de un almacén y recurso con fecha estrictamente anterior a la dada.
+     */
+    @Query("SELECT k FROM KardexEntity k WHERE k.almacenId = :almacenId AND k.recursoId = :recursoId AND k.fechaMovimiento < :fecha ORDER BY k.fechaMovimiento DESC, k.createdAt DESC LIMIT 1")
+    Optional<KardexEntity> findUltimoAntesDe(UUID almacenId, UUID recursoId, LocalDate fecha);
+
+    /**
+     * Recorre con cursor los registros de un almacén y recurso desde una fecha (incluida), en orden cronológico.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT k FROM KardexEntity k WHERE k.almacenId = :almacenId AND k.recursoId = :recursoId AND k.fechaMovimiento >= :fechaDesde ORDER BY k.fechaMovimiento ASC, k.createdAt ASC")
+    Stream<KardexEntity> streamDesde(UUID almacenId, UUID recursoId, LocalDate fechaDesde);
+
+    /**
+     * Toma un advisory lock transaccional sobre la clave (almacén, recurso).
+     */
+    @Query(value = "SELECT CAST(pg_advisory_xact_lock(:claveAlmacen, :claveRecurso) AS text)", nativeQuery = true)
+    String bloquearClave(int claveAlmacen, int claveRecurso);
+
+    /**
+     * Toma advisory locks transaccionales sobre (almacén, recurso) para varias claves de recurso,
+     * en el orden en que vienen en la lista (separada por comas).
+     */
+    @Query(value = "SELECT COUNT(CAST(pg_advisory_xact_lock(:claveAlmacen, c.clave) AS text)) FROM (" +
+                   "SELECT CAST(t.valor AS integer) AS clave " +
+                   "FROM unnest(string_to_array(:clavesRecurso, ',')) WITH ORDINALITY AS t(valor, orden) " +
+                   "ORDER BY t.orden) c",
+           nativeQuery = true)
+    long bloquearClaves(int claveAlmacen, String clavesRecurso);
 }
@@ -2,8 +2,10 @@ package com.budgetpro.infrastructure.persistence.repository.apu;
 
 import com.budgetpro.infrastructure.persistence.entity.apu.ApuInsumoEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,4 +22,35 @@ public interface ApuInsumoJpaRepository extends JpaRepository<ApuInsumoEntity, U
      * @return Lista de insumos del APU
      */
     List<ApuInsumoEntity> findByApuId(UUID apuId);
+
+    /**
+     * Busca los insumos de todos los APUs de un presupuesto con su APU y recurso en una sola consulta.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return Insumos del presupuesto con apu y recurso inicializados
+     */
+    @Query("SELECT i FROM ApuInsumoEntity i JOIN FETCH i.apu a JOIN FETCH i.recurso " +
+           "WHERE a.partida.presupuesto.id = :presupuestoId")
+    List<ApuInsumoEntity> findByPresupuestoIdConRecurso(UUID presupuestoId);
+
+    /**
+     * Busca los insumos de los APUs de las partidas indicadas con su APU y recurso.
+     * 
+     * @param partidaIds IDs de las partidas
+     * @return Insumos de esas partidas con apu y recurso inicializados
+     */
+    @Query("SELECT i FROM ApuInsumoEntity i JOIN FETCH i.apu a JOIN FETCH i.recurso " +
+           "WHERE a.partida.id IN :partidaIds")
+    List<ApuInsumoEntity> findByPartidaIdInConRecurso(Collection<UUID> partidaIds);
+
+    /**
+     * Filtra, de los recursos indicados, los que algún insumo del presupuesto usa.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @param recursoIds IDs de recursos candidatos
+     * @return IDs de los recursos en uso
+     */
+    @Query("SELECT DISTINCT i.recurso.id FROM ApuInsumoEntity i " +
+           "WHERE i.apu.partida.presupuesto.id = :presupuestoId AND i.recurso.id IN :recursoIds")
+    List<UUID> findRecursoIdsEnUso(UUID presupuestoId, Collection<UUID> recursoIds);
 }
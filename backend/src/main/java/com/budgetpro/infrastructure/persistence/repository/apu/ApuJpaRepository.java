@@ -2,8 +2,10 @@ package com.budgetpro.infrastructure.persistence.repository.apu;
 
 import com.budgetpro.infrastructure.persistence.entity.apu.ApuEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,4 +30,33 @@ public interface ApuJpaRepository extends JpaRepository<ApuEntity, UUID> {
      * @return true si existe, false en caso contrario
      */
     boolean existsByPartidaId(UUID partidaId);
+
+    /**
+     * Busca los APUs de las partidas de un presupuesto con sus insumos en una sola consulta.
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return APUs del presupuesto con insumos inicializados
+     */
+    @Query("SELECT DISTINCT a FROM ApuEntity a LEFT JOIN FETCH a.insumos " +
+           "WHERE a.partida.presupuesto.id = :presupuestoId")
+    List<ApuEntity> findByPresupuestoIdConInsumos(UUID presupuestoId);
+
+    /**
+     * Huella de versión de los APUs e insumos de un presupuesto: cantidad, suma de versiones y
+     * última modificación de los APUs, y cantidad y última modificación de sus insumos
+     * (reemplazar insumos genera filas nuevas).
+     * 
+     * @param presupuestoId El ID del presupuesto
+     * @return Huella "apus-versiones-ultimaModificacion-insumos-ultimaModificacion"
+     */
+    @Query(value = "SELECT (SELECT COUNT(*) || '-' || COALESCE(SUM(a.version), 0) || '-' || " +
+                   "COALESCE(CAST(EXTRACT(EPOCH FROM MAX(a.updated_at)) * 1000000 AS BIGINT), 0) " +
+                   "FROM apu a JOIN partida p ON p.id = a.partida_id " +
+                   "WHERE p.presupuesto_id = :presupuestoId) || '-' || " +
+                   "(SELECT COUNT(*) || '-' || " +
+                   "COALESCE(CAST(EXTRACT(EPOCH FROM MAX(i.updated_at)) * 1000000 AS BIGINT), 0) " +
+                   "FROM apu_insumo i JOIN apu a ON a.id = i.apu_id JOIN partida p ON p.id = a.partida_id " +
+                   "WHERE p.presupuesto_id = :presupuestoId)",
+           nativeQuery = true)
+    String calcularVersionApus(UUID presupuestoId);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +33,19 @@ public interface RequerimientoCompraJpaRepository extends JpaRepository<Requerim
             @Param("estadosPendientes") List<EstadoRequerimiento> estadosPendientes
     );
 
+    /**
+     * Busca requerimientos pendientes de un proyecto para varios recursos externos.
+     */
+    @Query("SELECT r FROM RequerimientoCompraEntity r " +
+           "WHERE r.proyectoId = :proyectoId " +
+           "AND r.recursoExternalId IN :recursoExternalIds " +
+           "AND r.estado IN :estadosPendientes")
+    List<RequerimientoCompraEntity> findPendientesPorRecursos(
+            @Param("proyectoId") UUID proyectoId,
+            @Param("recursoExternalIds") Collection<String> recursoExternalIds,
+            @Param("estadosPendientes") List<EstadoRequerimiento> estadosPendientes
+    );
+
     /**
      * Busca requerimientos por requisición origen.
      */
@@ -0,0 +1,93 @@
+package com.budgetpro.infrastructure.persistence.repository.consumo;
+
+import com.budgetpro.infrastructure.persistence.entity.consumo.PartidaGastoAcumuladoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositorio JPA para PartidaGastoAcumuladoEntity.
+ */
+@Repository
+public interface PartidaGastoAcumuladoJpaRepository extends JpaRepository<PartidaGastoAcumuladoEntity, UUID> {
+
+    /**
+     * Suma un delta al gasto acumulado de la partida (crea la fila si no existe).
+     * 
+     * Un único UPDATE atómico: consumos concurrentes sobre la misma partida se encolan en el
+     * bloqueo de fila en lugar de fallar por versión.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partida_gasto_acumulado (partida_id, gasto_acumulado, updated_at) " +
+                   "VALUES (:partidaId, :delta, NOW()) " +
+                   "ON CONFLICT (partida_id) DO UPDATE " +
+                   "SET gasto_acumulado = partida_gasto_acumulado.gasto_acumulado + EXCLUDED.gasto_acumulado, " +
+                   "updated_at = NOW()",
+           nativeQuery = true)
+    int incrementar(UUID partidaId, BigDecimal delta);
+
+    /**
+     * Gasto acumulado leído de la base (no de la entidad cacheada en el contexto de persistencia,
+     * que {@link #incrementar} no actualiza).
+     */
+    @Query("SELECT g.gastoAcumulado FROM PartidaGastoAcumuladoEntity g WHERE g.partidaId = :partidaId")
+    Optional<BigDecimal> findGastoAcumulado(UUID partidaId);
+
+    /**
+     * Pares (partidaId, gastoAcumulado) leídos de la base, igual que {@link #findGastoAcumulado}.
+     */
+    @Query("SELECT g.partidaId, g.gastoAcumulado FROM PartidaGastoAcumuladoEntity g WHERE g.partidaId IN :partidaIds")
+    List<Object[]> findGastosAcumulados(Collection<UUID> partidaIds);
+
+    /**
+     * Siguiente tramo de partidas a reconciliar (con contador o con consumos), en orden de ID
+     * a partir de {@code desde} exclusive.
+     */
+    @Query(value = "SELECT k.partida_id FROM (" +
+                   "(SELECT g.partida_id FROM partida_gasto_acumulado g WHERE g.partida_id > :desde " +
+                   "ORDER BY g.partida_id LIMIT :limite) " +
+                   "UNION " +
+                   "(SELECT DISTINCT c.partida_id FROM consumo_partida c WHERE c.partida_id > :desde " +
+                   "ORDER BY c.partida_id LIMIT :limite)" +
+                   ") k ORDER BY k.partida_id LIMIT :limite",
+           nativeQuery = true)
+    List<UUID> findPartidasAReconciliarDesde(UUID desde, int limite);
+
+    /**
+     * Bloquea los contadores de las partidas hasta el fin de la transacción.
+     * 
+     * Un consumo sobre estas partidas espera en {@link #incrementar}; uno en curso que ya aplicó
+     * su delta retiene la fila, así que la reconciliación lo espera y luego ve su consumo.
+     */
+    @Query(value = "SELECT g.partida_id FROM partida_gasto_acumulado g WHERE g.partida_id IN (:partidaIds) " +
+                   "ORDER BY g.partida_id FOR UPDATE",
+           nativeQuery = true)
+    List<UUID> bloquearContadores(Collection<UUID> partidaIds);
+
+    /**
+     * Corrige los contadores de las partidas que difieren de SUM(consumo_partida.monto)
+     * (cero si la partida ya no tiene consumos).
+     * 
+     * @return Número de partidas corregidas (desviación detectada)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partida_gasto_acumulado (partida_id, gasto_acumulado, updated_at) " +
+                   "SELECT k.partida_id, COALESCE(SUM(c.monto), 0), NOW() FROM (" +
+                   "SELECT g.partida_id FROM partida_gasto_acumulado g WHERE g.partida_id IN (:partidaIds) " +
+                   "UNION " +
+                   "SELECT c.partida_id FROM consumo_partida c WHERE c.partida_id IN (:partidaIds)" +
+                   ") k LEFT JOIN consumo_partida c ON c.partida_id = k.partida_id " +
+                   "GROUP BY k.partida_id " +
+                   "ON CONFLICT (partida_id) DO UPDATE " +
+                   "SET gasto_acumulado = EXCLUDED.gasto_acumulado, updated_at = NOW() " +
+                   "WHERE partida_gasto_acumulado.gasto_acumulado <> EXCLUDED.gasto_acumulado",
+           nativeQuery = true)
+    int reconciliar(Collection<UUID> partidaIds);
+}
@@ -4,6 +4,7 @@ import com.budgetpro.infrastructure.persistence.entity.inventario.InventarioItem
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +32,11 @@ public interface InventarioItemJpaRepository extends JpaRepository<InventarioIte
      */
     List<InventarioItemEntity> findByProyectoId(UUID proyectoId);
 
+    /**
+     * Busca los items de un proyecto para varios recursos externos (usa idx_inventario_proyecto_recurso_unidad).
+     */
+    List<InventarioItemEntity> findByProyectoIdAndRecursoExternalIdIn(UUID proyectoId, Collection<String> recursoExternalIds);
+
     /**
      * Busca por proyecto, recurso externo, unidad base y bodega.
      * Para find-or-create con variantes de unidad (KG vs LIBRAS coexisten).
@@ -0,0 +1,45 @@
+package com.budgetpro.infrastructure.persistence.repository.outbox;
+
+import com.budgetpro.infrastructure.persistence.entity.outbox.EstadoOutboxEvento;
+import com.budgetpro.infrastructure.persistence.entity.outbox.OutboxEventoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositorio JPA para OutboxEventoEntity.
+ */
+@Repository
+public interface OutboxEventoJpaRepository extends JpaRepository<OutboxEventoEntity, UUID> {
+
+    /**
+     * Toma un lote de eventos pendientes vencidos, en orden de creación.
+     * 
+     * FOR UPDATE SKIP LOCKED: varias instancias del despachador reparten la cola sin
+     * bloquearse entre sí; las filas quedan bloqueadas hasta el fin de la transacción.
+     */
+    @Query(value = "SELECT * FROM outbox_evento " +
+                   "WHERE estado = 'PENDIENTE' AND proximo_intento <= :ahora " +
+                   "ORDER BY created_at " +
+                   "LIMIT :limite " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEventoEntity> bloquearPendientes(LocalDateTime ahora, int limite);
+
+    /**
+     * Cuenta eventos por estado (métrica de cola).
+     */
+    long countByEstado(EstadoOutboxEvento estado);
+
+    /**
+     * Elimina eventos procesados antes de la fecha dada.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventoEntity e WHERE e.estado = :estado AND e.procesadoAt < :limite")
+    int eliminarPorEstadoAntesDe(EstadoOutboxEvento estado, LocalDateTime limite);
+}
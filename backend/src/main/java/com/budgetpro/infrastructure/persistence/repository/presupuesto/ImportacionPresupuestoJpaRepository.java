@@ -0,0 +1,18 @@
+package com.budgetpro.infrastructure.persistence.repository.presupuesto;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoImportacion;
+import com.budgetpro.infrastructure.persistence.entity.presupuesto.ImportacionPresupuestoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ImportacionPresupuestoJpaRepository extends JpaRepository<ImportacionPresupuestoEntity, UUID> {
+
+    boolean existsByPresupuestoIdAndEstadoIn(UUID presupuestoId, Collection<EstadoImportacion> estados);
+
+    List<ImportacionPresupuestoEntity> findByEstadoInAndActualizadoAtBefore(Collection<EstadoImportacion> estados,
+                                                                            LocalDateTime limite);
+}
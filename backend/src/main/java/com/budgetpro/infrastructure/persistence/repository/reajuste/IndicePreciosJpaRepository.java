@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,4 +33,10 @@ public interface IndicePreciosJpaRepository extends JpaRepository<IndicePreciosE
      * Busca todos los índices activos de un código dado ordenados por fecha descendente.
      */
     List<IndicePreciosEntity> findByCodigoAndActivoTrueOrderByFechaBaseDesc(String codigo);
+
+    /**
+     * Series de varios índices activos en un rango de fechas (una sola consulta).
+     */
+    List<IndicePreciosEntity> findByCodigoInAndFechaBaseBetweenAndActivoTrue(Collection<String> codigos,
+            LocalDate desde, LocalDate hasta);
 }
@@ -2,8 +2,10 @@ package com.budgetpro.infrastructure.persistence.repository.requisicion;
 
 import com.budgetpro.infrastructure.persistence.entity.requisicion.RequisicionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,4 +23,13 @@ public interface RequisicionJpaRepository extends JpaRepository<RequisicionEntit
      * @return Lista de requisiciones del proyecto
      */
     List<RequisicionEntity> findByProyectoId(UUID proyectoId);
+
+    /**
+     * Busca varias requisiciones con sus ítems en una sola consulta.
+     * 
+     * @param ids IDs de las requisiciones
+     * @return Lista de requisiciones encontradas con sus ítems cargados
+     */
+    @Query("SELECT DISTINCT r FROM RequisicionEntity r LEFT JOIN FETCH r.items WHERE r.id IN :ids")
+    List<RequisicionEntity> findAllConItemsByIdIn(Collection<UUID> ids);
 }
@@ -4,6 +4,7 @@ import com.budgetpro.infrastructure.persistence.entity.rrhh.AsignacionProyectoEn
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,6 +12,8 @@ import java.util.UUID;
 public interface AsignacionProyectoJpaRepository extends JpaRepository<AsignacionProyectoEntity, UUID> {
     List<AsignacionProyectoEntity> findByEmpleado_IdOrderByFechaInicioAsc(UUID empleadoId);
 
+    List<AsignacionProyectoEntity> findByEmpleado_IdIn(Collection<UUID> empleadoIds);
+
     boolean existsByEmpleado_IdAndFechaFinIsNull(UUID empleadoId);
 
     @org.springframework.data.jpa.repository.Query("SELECT COUNT(a) > 0 FROM AsignacionProyectoEntity a "
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,4 +25,15 @@ public interface EmpleadoJpaRepository extends JpaRepository<EmpleadoEntity, UUI
             + "AND h.fechaFin IS NULL " + "AND LOWER(h.cargo) LIKE LOWER(CONCAT('%', :puesto, '%'))")
     List<EmpleadoEntity> findByEstadoAndPuestoContaining(@Param("estado") EstadoEmpleado estado,
             @Param("puesto") String puesto);
+
+    /**
+     * Empleados con una asignación al proyecto que se solapa con el periodo, con su
+     * historial laboral cargado en la misma consulta.
+     */
+    @Query("SELECT DISTINCT e FROM EmpleadoEntity e LEFT JOIN FETCH e.historialLaboral "
+            + "WHERE EXISTS (SELECT 1 FROM AsignacionProyectoEntity a "
+            + "WHERE a.empleado = e AND a.proyecto.id = :proyectoId "
+            + "AND a.fechaInicio <= :fin AND (a.fechaFin IS NULL OR a.fechaFin >= :inicio))")
+    List<EmpleadoEntity> findAsignadosAProyecto(@Param("proyectoId") UUID proyectoId,
+            @Param("inicio") LocalDate inicio, @Param("fin") LocalDate fin);
 }
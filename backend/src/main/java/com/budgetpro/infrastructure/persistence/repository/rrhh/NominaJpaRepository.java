@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -16,4 +17,7 @@ public interface NominaJpaRepository extends JpaRepository<NominaEntity, UUID> {
             LocalDate periodoFin, Collection<String> estados);
 
     List<NominaEntity> findByEstadoAndProyectoId(String estado, UUID proyectoId);
+
+    Optional<NominaEntity> findFirstByProyectoIdAndPeriodoInicioAndPeriodoFinAndEstado(UUID proyectoId,
+            LocalDate periodoInicio, LocalDate periodoFin, String estado);
 }
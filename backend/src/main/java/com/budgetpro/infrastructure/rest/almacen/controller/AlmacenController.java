@@ -1,14 +1,20 @@
 package com.budgetpro.infrastructure.rest.almacen.controller;
 
 import com.budgetpro.application.almacen.dto.MovimientoAlmacenResponse;
+import com.budgetpro.application.almacen.dto.RecosteoKardexResponse;
+import com.budgetpro.application.almacen.dto.ValorizacionInventarioResponse;
 import com.budgetpro.application.almacen.port.in.ConsultarMovimientosAlmacenUseCase;
+import com.budgetpro.application.almacen.port.in.ConsultarValorizacionInventarioUseCase;
+import com.budgetpro.application.almacen.port.in.RecostearKardexUseCase;
 import com.budgetpro.application.almacen.port.in.RegistrarMovimientoAlmacenUseCase;
 import com.budgetpro.infrastructure.rest.almacen.dto.RegistrarMovimientoAlmacenRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,11 +27,17 @@ public class AlmacenController {
 
     private final RegistrarMovimientoAlmacenUseCase registrarMovimientoUseCase;
     private final ConsultarMovimientosAlmacenUseCase consultarMovimientosAlmacenUseCase;
+    private final ConsultarValorizacionInventarioUseCase consultarValorizacionInventarioUseCase;
+    private final RecostearKardexUseCase recostearKardexUseCase;
 
     public AlmacenController(RegistrarMovimientoAlmacenUseCase registrarMovimientoUseCase,
-                             ConsultarMovimientosAlmacenUseCase consultarMovimientosAlmacenUseCase) {
+                             ConsultarMovimientosAlmacenUseCase consultarMovimientosAlmacenUseCase,
+                             ConsultarValorizacionInventarioUseCase consultarValorizacionInventarioUseCase,
+                             RecostearKardexUseCase recostearKardexUseCase) {
         this.registrarMovimientoUseCase = registrarMovimientoUseCase;
         this.consultarMovimientosAlmacenUseCase = consultarMovimientosAlmacenUseCase;
+        this.consultarValorizacionInventarioUseCase = consultarValorizacionInventarioUseCase;
+        this.recostearKardexUseCase = recostearKardexUseCase;
     }
 
     /**
@@ -62,4 +74,35 @@ public class AlmacenController {
             @RequestParam(required = false) UUID recursoId) {
         return ResponseEntity.ok(consultarMovimientosAlmacenUseCase.listar(almacenId, recursoId));
     }
+
+    /**
+     * Valoriza el inventario de un almacén a una fecha (stock y CPP por recurso).
+     * 
+     * @param almacenId ID del almacén
+     * @param fecha Fecha de la valorización (por defecto, hoy)
+     * @return ResponseEntity con el saldo valorizado de cada recurso
+     */
+    @GetMapping("/{almacenId}/valorizacion")
+    public ResponseEntity<ValorizacionInventarioResponse> valorizarInventario(
+            @PathVariable UUID almacenId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha) {
+        LocalDate fechaConsulta = fecha != null ? fecha : LocalDate.now();
+        return ResponseEntity.ok(consultarValorizacionInventarioUseCase.valorizar(almacenId, fechaConsulta));
+    }
+
+    /**
+     * Recostea el Kárdex de un recurso en un almacén a partir de una fecha.
+     * 
+     * @param almacenId ID del almacén
+     * @param recursoId ID del recurso
+     * @param fechaDesde Fecha del primer registro a recalcular
+     * @return ResponseEntity con el resumen del recosteo y el saldo final
+     */
+    @PostMapping("/{almacenId}/recursos/{recursoId}/recosteo")
+    public ResponseEntity<RecosteoKardexResponse> recostearKardex(
+            @PathVariable UUID almacenId,
+            @PathVariable UUID recursoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde) {
+        return ResponseEntity.ok(recostearKardexUseCase.recostear(almacenId, recursoId, fechaDesde));
+    }
 }
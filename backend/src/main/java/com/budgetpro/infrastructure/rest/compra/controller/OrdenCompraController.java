@@ -2,8 +2,12 @@ package com.budgetpro.infrastructure.rest.compra.controller;
 
 import com.budgetpro.domain.logistica.compra.model.DetalleOrdenCompra;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompra;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraCursor;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompraEstado;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraFiltro;
 import com.budgetpro.domain.logistica.compra.model.OrdenCompraId;
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraResumen;
+import com.budgetpro.domain.logistica.compra.model.PaginaOrdenesCompra;
 import com.budgetpro.domain.logistica.compra.model.Proveedor;
 import com.budgetpro.domain.logistica.compra.port.in.AprobarOrdenCompraUseCase;
 import com.budgetpro.domain.logistica.compra.port.in.ConfirmarRecepcionUseCase;
@@ -17,6 +21,8 @@ import com.budgetpro.infrastructure.rest.compra.dto.DetalleOrdenCompraRequest;
 import com.budgetpro.infrastructure.rest.compra.dto.DetalleOrdenCompraResponse;
 import com.budgetpro.infrastructure.rest.compra.dto.OrdenCompraRequest;
 import com.budgetpro.infrastructure.rest.compra.dto.OrdenCompraResponse;
+import com.budgetpro.infrastructure.rest.compra.dto.OrdenCompraResumenResponse;
+import com.budgetpro.infrastructure.rest.compra.dto.PaginaOrdenCompraResponse;
 import com.budgetpro.infrastructure.rest.compra.dto.ProveedorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +39,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -167,68 +174,79 @@ public class OrdenCompraController {
     }
 
     /**
-     * Lista órdenes de compra con filtros opcionales.
+     * Lista órdenes de compra con filtros opcionales, paginadas por cursor.
      * 
      * @param proyectoId Filtro opcional por proyecto
      * @param estado Filtro opcional por estado
-     * @return ResponseEntity con la lista de órdenes de compra
+     * @param proveedorId Filtro opcional por proveedor
+     * @param fechaDesde Filtro opcional: fecha mínima (inclusive)
+     * @param fechaHasta Filtro opcional: fecha máxima (inclusive)
+     * @param cursor Cursor devuelto por la página anterior (omitir para la primera)
+     * @param size Tamaño de página (1-200)
+     * @return ResponseEntity con la página de órdenes y el cursor de la siguiente
      */
     @Operation(
             summary = "Listar órdenes de compra",
             description = """
-                    Lista órdenes de compra con filtros opcionales.
+                    Lista órdenes de compra con filtros opcionales, de la más reciente a la más antigua.
                     
                     **Filtros disponibles:**
                     - `proyectoId`: Filtrar por proyecto específico
                     - `estado`: Filtrar por estado (BORRADOR, SOLICITADA, APROBADA, ENVIADA, RECIBIDA)
+                    - `proveedorId`: Filtrar por proveedor
+                    - `fechaDesde` / `fechaHasta`: Rango de fechas de la orden (inclusive)
                     
-                    **Nota:** Si no se proporcionan filtros, retorna lista vacía.
-                    En producción se recomienda implementar paginación.
+                    **Paginación:** por cursor. La respuesta incluye `siguienteCursor`; para la página
+                    siguiente se repite la consulta con `cursor=<siguienteCursor>`. Es nulo en la última página.
+                    Las filas no incluyen detalles; usar `GET /{id}` para la orden completa.
                     """,
             tags = {"Órdenes de Compra"}
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Lista de órdenes de compra obtenida exitosamente",
-                    content = @Content(schema = @Schema(implementation = OrdenCompraResponse.class))
+                    description = "Página de órdenes de compra obtenida exitosamente",
+                    content = @Content(schema = @Schema(implementation = PaginaOrdenCompraResponse.class))
             ),
+            @ApiResponse(responseCode = "400", description = "Filtros, cursor o tamaño de página inválidos"),
             @ApiResponse(responseCode = "401", description = "No autenticado"),
             @ApiResponse(responseCode = "403", description = "No autorizado"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     @GetMapping
-    public ResponseEntity<List<OrdenCompraResponse>> listar(
+    public ResponseEntity<PaginaOrdenCompraResponse> listar(
             @Parameter(description = "ID del proyecto para filtrar", example = "550e8400-e29b-41d4-a716-446655440000")
             @RequestParam(required = false) UUID proyectoId,
             @Parameter(description = "Estado de la orden para filtrar", example = "BORRADOR")
             @RequestParam(required = false) OrdenCompraEstado estado,
-            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "ID del proveedor para filtrar")
+            @RequestParam(required = false) UUID proveedorId,
+            @Parameter(description = "Fecha mínima de la orden (inclusive)", example = "2024-01-01")
+            @RequestParam(required = false) LocalDate fechaDesde,
+            @Parameter(description = "Fecha máxima de la orden (inclusive)", example = "2024-12-31")
+            @RequestParam(required = false) LocalDate fechaHasta,
+            @Parameter(description = "Cursor de la página siguiente devuelto por la consulta anterior")
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
-        
-        List<OrdenCompra> ordenes;
-        
-        if (proyectoId != null && estado != null) {
-            ordenes = ordenCompraRepository.findByProyectoIdAndEstado(proyectoId, estado);
-        } else if (proyectoId != null) {
-            ordenes = ordenCompraRepository.findByProyectoId(proyectoId);
-        } else if (estado != null) {
-            ordenes = ordenCompraRepository.findByEstado(estado);
-        } else {
-            ordenes = ordenCompraRepository.findAll();
-        }
 
-        if (page < 0 || size <= 0 || size > 200) {
+        if (size <= 0 || size > 200) {
             throw new IllegalArgumentException("Parámetros de paginación inválidos");
         }
-        int from = Math.min(page * size, ordenes.size());
-        int to = Math.min(from + size, ordenes.size());
+        OrdenCompraFiltro filtro = new OrdenCompraFiltro(proyectoId, estado, proveedorId, fechaDesde, fechaHasta);
+        OrdenCompraCursor despuesDe = cursor != null && !cursor.isBlank()
+                ? OrdenCompraCursor.decodificar(cursor)
+                : null;
+
+        PaginaOrdenesCompra pagina = ordenCompraRepository.buscarResumenes(filtro, despuesDe, size);
 
-        List<OrdenCompraResponse> response = ordenes.subList(from, to).stream()
-                .map(this::toResponse)
+        List<OrdenCompraResumenResponse> content = pagina.ordenes().stream()
+                .map(this::toResumenResponse)
                 .collect(Collectors.toList());
+        String siguienteCursor = pagina.siguienteCursor()
+                .map(OrdenCompraCursor::codificar)
+                .orElse(null);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new PaginaOrdenCompraResponse(content, siguienteCursor));
     }
 
     @PostMapping("/{id}/rechazar")
@@ -605,6 +623,22 @@ public class OrdenCompraController {
         );
     }
 
+    /**
+     * Convierte una fila del listado (proyección con proveedor ya unido) a su DTO.
+     */
+    private OrdenCompraResumenResponse toResumenResponse(OrdenCompraResumen resumen) {
+        return new OrdenCompraResumenResponse(
+            resumen.id(),
+            resumen.numero(),
+            resumen.proyectoId(),
+            new ProveedorResponse(resumen.proveedorId(), resumen.proveedorRazonSocial(),
+                    resumen.proveedorRuc(), resumen.proveedorEstado()),
+            resumen.fecha(),
+            resumen.estado(),
+            resumen.montoTotal()
+        );
+    }
+
     /**
      * Obtiene el ID del usuario actual del contexto de seguridad.
      * 
@@ -0,0 +1,36 @@
+package com.budgetpro.infrastructure.rest.compra.dto;
+
+import com.budgetpro.domain.logistica.compra.model.OrdenCompraEstado;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta REST para una fila del listado de órdenes de compra (sin detalles).
+ */
+@Schema(description = "Fila del listado de órdenes de compra")
+public record OrdenCompraResumenResponse(
+        @Schema(description = "ID único de la orden de compra", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "Número secuencial de la orden", example = "PO-2024-001")
+        String numero,
+
+        @Schema(description = "ID del proyecto", example = "660e8400-e29b-41d4-a716-446655440000")
+        UUID proyectoId,
+
+        @Schema(description = "Información del proveedor")
+        ProveedorResponse proveedor,
+
+        @Schema(description = "Fecha de la orden", example = "2024-02-15")
+        LocalDate fecha,
+
+        @Schema(description = "Estado actual de la orden", example = "BORRADOR")
+        OrdenCompraEstado estado,
+
+        @Schema(description = "Monto total de la orden", example = "1250.00")
+        BigDecimal montoTotal
+) {
+}
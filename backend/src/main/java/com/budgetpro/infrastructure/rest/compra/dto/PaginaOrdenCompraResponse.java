@@ -0,0 +1,19 @@
+package com.budgetpro.infrastructure.rest.compra.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta REST para una página del listado de órdenes de compra.
+ */
+@Schema(description = "Página de órdenes de compra paginada por cursor")
+public record PaginaOrdenCompraResponse(
+        @Schema(description = "Órdenes de la página, de la más reciente a la más antigua")
+        List<OrdenCompraResumenResponse> content,
+
+        @Schema(description = "Cursor para pedir la página siguiente; nulo si es la última",
+                example = "MjAyNC0wMi0xNXw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+        String siguienteCursor
+) {
+}
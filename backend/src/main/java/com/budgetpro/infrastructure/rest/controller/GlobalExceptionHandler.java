@@ -2,6 +2,7 @@ package com.budgetpro.infrastructure.rest.controller;
 
 import com.budgetpro.application.finanzas.evm.exception.PeriodoFechaInvalidaException;
 import com.budgetpro.application.finanzas.evm.port.in.ProyectoNotFoundException;
+import com.budgetpro.domain.finanzas.cronograma.exception.DependenciaCiclicaException;
 import com.budgetpro.domain.finanzas.presupuesto.exception.PresupuestoSinCronogramaException;
 import com.budgetpro.infrastructure.rest.error.ErrorResponses;
 import jakarta.persistence.EntityNotFoundException;
@@ -73,6 +74,13 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponses.error(HttpStatus.BAD_REQUEST.value(), "INVALID_ARGUMENT", ex.getMessage()));
     }
 
+    @ExceptionHandler(DependenciaCiclicaException.class)
+    public ResponseEntity<ErrorResponses.ErrorResponse> handleDependenciaCiclica(DependenciaCiclicaException ex) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ErrorResponses.error(HttpStatus.UNPROCESSABLE_ENTITY.value(), "DEPENDENCIA_CICLICA",
+                        ex.getMessage()));
+    }
+
     @ExceptionHandler(PresupuestoSinCronogramaException.class)
     public ResponseEntity<ErrorResponses.ErrorResponse> handlePresupuestoSinCronograma(
             PresupuestoSinCronogramaException ex) {
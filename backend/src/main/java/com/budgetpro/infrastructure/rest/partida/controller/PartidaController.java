@@ -2,14 +2,17 @@ package com.budgetpro.infrastructure.rest.partida.controller;
 
 import com.budgetpro.application.partida.dto.CrearPartidaCommand;
 import com.budgetpro.application.partida.dto.PartidaResponse;
+import com.budgetpro.application.partida.dto.WbsNivelResponse;
 import com.budgetpro.application.partida.dto.WbsNodeResponse;
 import com.budgetpro.application.partida.port.in.CrearPartidaUseCase;
 import com.budgetpro.application.partida.port.in.ObtenerPartidaUseCase;
 import com.budgetpro.application.partida.port.in.ObtenerWbsUseCase;
 import com.budgetpro.infrastructure.rest.partida.dto.CrearPartidaRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -59,14 +62,51 @@ public class PartidaController {
                 .body(response);
     }
 
-    // Ruta literal antes de /{id}: evita que /wbs se enlace como id=UUID.
+    // Rutas literales antes de /{id}: evita que /wbs se enlace como id=UUID.
+
+    /**
+     * Árbol WBS completo del presupuesto.
+     * 
+     * Responde con ETag (versión de las partidas); si el cliente envía un If-None-Match vigente
+     * devuelve 304 sin construir ni serializar el árbol. La versión se calcula una sola vez por
+     * petición y se reutiliza para el árbol.
+     */
     @GetMapping("/wbs")
-    public ResponseEntity<List<WbsNodeResponse>> obtenerWbs(@RequestParam("presupuestoId") UUID presupuestoId) {
-        return ResponseEntity.ok(obtenerWbsUseCase.obtenerWbsPorPresupuesto(presupuestoId));
+    public ResponseEntity<List<WbsNodeResponse>> obtenerWbs(@RequestParam("presupuestoId") UUID presupuestoId,
+                                                            WebRequest webRequest) {
+        String version = obtenerWbsUseCase.obtenerVersionWbs(presupuestoId);
+        String etag = etagWbs(version);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag)
+                .body(obtenerWbsUseCase.obtenerWbsPorPresupuesto(presupuestoId, version));
+    }
+
+    /**
+     * Un nivel del árbol WBS (carga perezosa): hijas directas de {@code padreId}, o las raíces
+     * si no se indica, cada una con su cantidad de hijas. Mismo ETag que el árbol completo.
+     */
+    @GetMapping("/wbs/nivel")
+    public ResponseEntity<List<WbsNivelResponse>> obtenerNivelWbs(
+            @RequestParam("presupuestoId") UUID presupuestoId,
+            @RequestParam(value = "padreId", required = false) UUID padreId,
+            WebRequest webRequest) {
+        String version = obtenerWbsUseCase.obtenerVersionWbs(presupuestoId);
+        String etag = etagWbs(version);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag)
+                .body(obtenerWbsUseCase.obtenerNivelWbs(presupuestoId, padreId, version));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PartidaResponse> obtenerPorId(@PathVariable("id") UUID id) {
         return ResponseEntity.ok(obtenerPartidaUseCase.obtenerPorId(id));
     }
+
+    private static String etagWbs(String version) {
+        return "\"wbs-" + version + "\"";
+    }
 }
@@ -0,0 +1,63 @@
+package com.budgetpro.infrastructure.rest.presupuesto.controller;
+
+import com.budgetpro.application.presupuesto.dto.ImportacionPresupuestoResponse;
+import com.budgetpro.application.presupuesto.port.in.ImportarPresupuestoUseCase;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Controller REST para la importación masiva de partidas y APUs desde planillas.
+ */
+@RestController
+@RequestMapping("/api/v1/presupuestos")
+public class ImportacionPresupuestoController {
+
+    private final ImportarPresupuestoUseCase importarPresupuestoUseCase;
+
+    public ImportacionPresupuestoController(ImportarPresupuestoUseCase importarPresupuestoUseCase) {
+        this.importarPresupuestoUseCase = importarPresupuestoUseCase;
+    }
+
+    /**
+     * Recibe una planilla CSV o XLSX y la importa en segundo plano.
+     *
+     * @return 202 ACCEPTED con el estado inicial y la URL de consulta del progreso
+     */
+    @PostMapping(value = "/{presupuestoId}/importaciones", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportacionPresupuestoResponse> importar(@PathVariable UUID presupuestoId,
+                                                                   @RequestParam("archivo") MultipartFile archivo) {
+        if (archivo.isEmpty()) {
+            throw new IllegalArgumentException("El archivo de importación está vacío");
+        }
+        ImportacionPresupuestoResponse response;
+        try (InputStream contenido = archivo.getInputStream()) {
+            response = importarPresupuestoUseCase.iniciar(presupuestoId, archivo.getOriginalFilename(), contenido);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el archivo de importación", e);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/presupuestos/importaciones/" + response.id()))
+                .body(response);
+    }
+
+    /**
+     * Consulta el progreso de una importación.
+     */
+    @GetMapping("/importaciones/{importacionId}")
+    public ResponseEntity<ImportacionPresupuestoResponse> consultar(@PathVariable UUID importacionId) {
+        return ResponseEntity.ok(importarPresupuestoUseCase.consultar(importacionId));
+    }
+}
@@ -4,13 +4,17 @@ import com.budgetpro.application.control.dto.ReporteControlCostosResponse;
 import com.budgetpro.application.control.port.in.ConsultarControlCostosUseCase;
 import com.budgetpro.application.explosion.dto.ExplosionInsumosResponse;
 import com.budgetpro.application.explosion.port.in.ExplotarInsumosPresupuestoUseCase;
+import com.budgetpro.application.presupuesto.dto.ClonPresupuestoResponse;
 import com.budgetpro.application.presupuesto.dto.CrearPresupuestoCommand;
 import com.budgetpro.application.presupuesto.dto.PresupuestoResponse;
 import com.budgetpro.application.presupuesto.dto.ListarPresupuestosPaginadosResponse;
 import com.budgetpro.application.presupuesto.port.in.AprobarPresupuestoUseCase;
+import com.budgetpro.application.presupuesto.port.in.ClonarPresupuestoUseCase;
 import com.budgetpro.application.presupuesto.port.in.ConsultarPresupuestoUseCase;
 import com.budgetpro.application.presupuesto.port.in.CrearPresupuestoUseCase;
 import com.budgetpro.application.presupuesto.port.in.ListarPresupuestosPaginadosUseCase;
+import com.budgetpro.infrastructure.rest.presupuesto.dto.ClonarPresupuestoRequest;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
@@ -34,19 +38,22 @@ public class PresupuestoController {
     private final ListarPresupuestosPaginadosUseCase listarPresupuestosPaginadosUseCase;
     private final ConsultarControlCostosUseCase consultarControlCostosUseCase;
     private final ExplotarInsumosPresupuestoUseCase explotarInsumosPresupuestoUseCase;
+    private final ClonarPresupuestoUseCase clonarPresupuestoUseCase;
 
     public PresupuestoController(CrearPresupuestoUseCase crearPresupuestoUseCase,
                                  AprobarPresupuestoUseCase aprobarPresupuestoUseCase,
                                  ConsultarPresupuestoUseCase consultarPresupuestoUseCase,
                                  ListarPresupuestosPaginadosUseCase listarPresupuestosPaginadosUseCase,
                                  ConsultarControlCostosUseCase consultarControlCostosUseCase,
-                                 ExplotarInsumosPresupuestoUseCase explotarInsumosPresupuestoUseCase) {
+                                 ExplotarInsumosPresupuestoUseCase explotarInsumosPresupuestoUseCase,
+                                 ClonarPresupuestoUseCase clonarPresupuestoUseCase) {
         this.crearPresupuestoUseCase = crearPresupuestoUseCase;
         this.aprobarPresupuestoUseCase = aprobarPresupuestoUseCase;
         this.consultarPresupuestoUseCase = consultarPresupuestoUseCase;
         this.listarPresupuestosPaginadosUseCase = listarPresupuestosPaginadosUseCase;
         this.consultarControlCostosUseCase = consultarControlCostosUseCase;
         this.explotarInsumosPresupuestoUseCase = explotarInsumosPresupuestoUseCase;
+        this.clonarPresupuestoUseCase = clonarPresupuestoUseCase;
     }
 
     /**
@@ -96,6 +103,21 @@ public class PresupuestoController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Copia un presupuesto completo (subpresupuestos, partidas, APUs e insumos) en BORRADOR.
+     * 
+     * @param presupuestoId El ID del presupuesto a copiar
+     * @param request Nombre opcional de la copia
+     * @return ResponseEntity con la copia creada y código HTTP 201 CREATED
+     */
+    @PostMapping("/{presupuestoId}/clonar")
+    public ResponseEntity<ClonPresupuestoResponse> clonar(@PathVariable UUID presupuestoId,
+            @Valid @RequestBody(required = false) ClonarPresupuestoRequest request) {
+        ClonPresupuestoResponse response = clonarPresupuestoUseCase.clonar(presupuestoId,
+                request != null ? request.nombre() : null);
+        return ResponseEntity.created(URI.create("/api/v1/presupuestos/" + response.id())).body(response);
+    }
+
     /**
      * Consulta un presupuesto por su ID.
      * 
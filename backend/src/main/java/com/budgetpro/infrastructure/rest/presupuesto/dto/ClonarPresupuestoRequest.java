@@ -0,0 +1,12 @@
+package com.budgetpro.infrastructure.rest.presupuesto.dto;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO de request REST para copiar un presupuesto.
+ */
+public record ClonarPresupuestoRequest(
+        @Size(max = 200, message = "El nombre no puede exceder 200 caracteres")
+        String nombre
+) {
+}
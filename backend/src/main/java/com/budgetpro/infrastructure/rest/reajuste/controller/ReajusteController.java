@@ -1,13 +1,21 @@
 package com.budgetpro.infrastructure.rest.reajuste.controller;
 
+import com.budgetpro.application.reajuste.dto.DefinirFormulasPolinomicasCommand;
 import com.budgetpro.application.reajuste.dto.EstimacionReajusteResponse;
+import com.budgetpro.application.reajuste.dto.IndicePreciosResponse;
+import com.budgetpro.application.reajuste.dto.RegistrarIndicePreciosCommand;
 import com.budgetpro.application.reajuste.port.in.CalcularReajusteUseCase;
+import com.budgetpro.application.reajuste.port.in.ConfigurarReajustePolinomicoUseCase;
+import com.budgetpro.infrastructure.rest.reajuste.dto.CalcularReajustePolinomicoRequest;
 import com.budgetpro.infrastructure.rest.reajuste.dto.CalcularReajusteRequest;
+import com.budgetpro.infrastructure.rest.reajuste.dto.DefinirFormulasPolinomicasRequest;
+import com.budgetpro.infrastructure.rest.reajuste.dto.RegistrarIndicePreciosRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -18,9 +26,12 @@ import java.util.UUID;
 public class ReajusteController {
 
     private final CalcularReajusteUseCase calcularReajusteUseCase;
+    private final ConfigurarReajustePolinomicoUseCase configurarReajustePolinomicoUseCase;
 
-    public ReajusteController(CalcularReajusteUseCase calcularReajusteUseCase) {
+    public ReajusteController(CalcularReajusteUseCase calcularReajusteUseCase,
+                              ConfigurarReajustePolinomicoUseCase configurarReajustePolinomicoUseCase) {
         this.calcularReajusteUseCase = calcularReajusteUseCase;
+        this.configurarReajustePolinomicoUseCase = configurarReajustePolinomicoUseCase;
     }
 
     /**
@@ -47,4 +58,99 @@ public class ReajusteController {
                 .created(URI.create("/api/v1/reajustes/" + response.id()))
                 .body(response);
     }
+
+    /**
+     * Calcula el reajuste con las fórmulas polinómicas del presupuesto.
+     * 
+     * @param request Request con el presupuesto y la fecha de corte
+     * @return ResponseEntity con la estimación de reajuste calculada
+     */
+    @PostMapping("/calcular-polinomico")
+    public ResponseEntity<EstimacionReajusteResponse> calcularReajustePolinomico(
+            @Valid @RequestBody CalcularReajustePolinomicoRequest request) {
+        
+        EstimacionReajusteResponse response = calcularReajusteUseCase.calcularPolinomico(
+                request.proyectoId(),
+                request.presupuestoId(),
+                request.fechaCorte()
+        );
+
+        return ResponseEntity
+                .created(URI.create("/api/v1/reajustes/" + response.id()))
+                .body(response);
+    }
+
+    /**
+     * Recalcula las estimaciones polinómicas calculadas con índices provisionales: las BORRADOR
+     * en sitio y, para las aprobadas o aplicadas, genera la estimación complementaria.
+     * 
+     * @param presupuestoId ID del presupuesto
+     * @return ResponseEntity con las estimaciones recalculadas y complementarias
+     */
+    @PostMapping("/presupuestos/{presupuestoId}/recalcular")
+    public ResponseEntity<List<EstimacionReajusteResponse>> recalcularConIndicesDefinitivos(
+            @PathVariable UUID presupuestoId) {
+        return ResponseEntity.ok(calcularReajusteUseCase.recalcularConIndicesDefinitivos(presupuestoId));
+    }
+
+    /**
+     * Registra el valor de un índice de precios para un mes, como provisional o definitivo.
+     * Registrar como definitivo un índice ya provisional lo actualiza; luego
+     * {@code /presupuestos/{presupuestoId}/recalcular} reconoce la diferencia.
+     * 
+     * @param request Request con los datos del índice
+     * @return ResponseEntity con el índice registrado
+     */
+    @PostMapping("/indices")
+    public ResponseEntity<IndicePreciosResponse> registrarIndice(
+            @Valid @RequestBody RegistrarIndicePreciosRequest request) {
+        
+        IndicePreciosResponse response = configurarReajustePolinomicoUseCase.registrarIndice(
+                new RegistrarIndicePreciosCommand(
+                        request.codigo(),
+                        request.nombre(),
+                        request.tipo(),
+                        request.fechaBase(),
+                        request.valor(),
+                        request.definitivo()
+                ));
+
+        return ResponseEntity
+                .created(URI.create("/api/v1/reajustes/indices/" + response.id()))
+                .body(response);
+    }
+
+    /**
+     * Reemplaza las fórmulas polinómicas de un presupuesto.
+     * 
+     * @param presupuestoId ID del presupuesto
+     * @param request       Request con las fórmulas
+     * @return ResponseEntity sin contenido
+     */
+    @PutMapping("/presupuestos/{presupuestoId}/formulas")
+    public ResponseEntity<Void> definirFormulas(
+            @PathVariable UUID presupuestoId,
+            @Valid @RequestBody DefinirFormulasPolinomicasRequest request) {
+        
+        configurarReajustePolinomicoUseCase.definirFormulas(new DefinirFormulasPolinomicasCommand(
+                presupuestoId,
+                request.formulas().stream()
+                        .map(formula -> new DefinirFormulasPolinomicasCommand.FormulaItem(
+                                formula.numero(),
+                                formula.fechaBase(),
+                                formula.monomios().stream()
+                                        .map(monomio -> new DefinirFormulasPolinomicasCommand.MonomioItem(
+                                                monomio.coeficiente(),
+                                                monomio.terminos().stream()
+                                                        .map(termino -> new DefinirFormulasPolinomicasCommand.TerminoItem(
+                                                                termino.codigoIndice(),
+                                                                termino.peso()))
+                                                        .toList()))
+                                        .toList(),
+                                formula.partidaIds()))
+                        .toList()
+        ));
+
+        return ResponseEntity.noContent().build();
+    }
 }
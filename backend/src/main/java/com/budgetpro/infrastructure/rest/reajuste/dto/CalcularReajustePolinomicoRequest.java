@@ -0,0 +1,20 @@
+package com.budgetpro.infrastructure.rest.reajuste.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de request para calcular reajuste con las fórmulas polinómicas del presupuesto.
+ */
+public record CalcularReajustePolinomicoRequest(
+    @NotNull(message = "El ID del proyecto es obligatorio")
+    UUID proyectoId,
+    
+    @NotNull(message = "El ID del presupuesto es obligatorio")
+    UUID presupuestoId,
+    
+    @NotNull(message = "La fecha de corte es obligatoria")
+    LocalDate fechaCorte
+) {}
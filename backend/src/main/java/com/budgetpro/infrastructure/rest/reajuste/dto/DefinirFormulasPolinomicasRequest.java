@@ -0,0 +1,63 @@
+package com.budgetpro.infrastructure.rest.reajuste.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DTO de request para definir las fórmulas polinómicas de un presupuesto.
+ */
+public record DefinirFormulasPolinomicasRequest(
+    @Valid
+    @NotEmpty(message = "Debe definirse al menos una fórmula")
+    List<FormulaItem> formulas
+) {
+    /**
+     * DTO interno para representar una fórmula.
+     */
+    public record FormulaItem(
+        @NotNull(message = "El número de la fórmula es obligatorio")
+        @Positive(message = "El número de la fórmula debe ser positivo")
+        Integer numero,
+        
+        @NotNull(message = "La fecha base de la fórmula es obligatoria")
+        LocalDate fechaBase,
+        
+        @Valid
+        @NotEmpty(message = "La fórmula debe tener al menos un monomio")
+        List<MonomioItem> monomios,
+        
+        Set<UUID> partidaIds
+    ) {}
+
+    /**
+     * DTO interno para representar un monomio.
+     */
+    public record MonomioItem(
+        @NotNull(message = "El coeficiente del monomio es obligatorio")
+        BigDecimal coeficiente,
+        
+        @Valid
+        @NotEmpty(message = "El monomio debe tener al menos un índice")
+        List<TerminoItem> terminos
+    ) {}
+
+    /**
+     * DTO interno para representar un índice dentro de un monomio.
+     */
+    public record TerminoItem(
+        @NotBlank(message = "El código del índice es obligatorio")
+        String codigoIndice,
+        
+        @NotNull(message = "El peso del índice es obligatorio")
+        BigDecimal peso
+    ) {}
+}
@@ -0,0 +1,34 @@
+package com.budgetpro.infrastructure.rest.reajuste.dto;
+
+import com.budgetpro.domain.finanzas.reajuste.model.TipoIndicePrecios;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO de request para registrar el valor publicado de un índice de precios.
+ */
+public record RegistrarIndicePreciosRequest(
+    @NotBlank(message = "El código del índice es obligatorio")
+    String codigo,
+    
+    @NotBlank(message = "El nombre del índice es obligatorio")
+    String nombre,
+    
+    @NotNull(message = "El tipo del índice es obligatorio")
+    TipoIndicePrecios tipo,
+    
+    @NotNull(message = "La fecha base del índice es obligatoria")
+    LocalDate fechaBase,
+    
+    @NotNull(message = "El valor del índice es obligatorio")
+    @DecimalMin(value = "0.0", inclusive = false, message = "El valor del índice debe ser mayor a cero")
+    BigDecimal valor,
+    
+    // false mientras el índice solo se ha publicado como provisional
+    @NotNull(message = "Debe indicarse si el índice es definitivo")
+    Boolean definitivo
+) {}
@@ -1,12 +1,15 @@
 package com.budgetpro.infrastructure.rest.rrhh.controller;
 
 import com.budgetpro.application.rrhh.dto.AsistenciaResponse;
+import com.budgetpro.application.rrhh.dto.ImportacionAsistenciaResponse;
 import com.budgetpro.application.rrhh.dto.ResumenAsistenciaResponse;
 import com.budgetpro.application.rrhh.exception.FiltrosConsultaAsistenciaIncompletosException;
 import com.budgetpro.application.rrhh.port.in.ConsultarAsistenciaUseCase;
+import com.budgetpro.application.rrhh.port.in.ImportarAsistenciaUseCase;
 import com.budgetpro.application.rrhh.port.in.RegistrarAsistenciaUseCase;
 import com.budgetpro.domain.rrhh.model.EmpleadoId;
 import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.infrastructure.rest.rrhh.dto.ImportarAsistenciaRequest;
 import com.budgetpro.infrastructure.rest.rrhh.dto.RegistrarAsistenciaRequest;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -26,11 +29,14 @@ public class AsistenciaController {
 
     private final RegistrarAsistenciaUseCase registrarAsistenciaUseCase;
     private final ConsultarAsistenciaUseCase consultarAsistenciaUseCase;
+    private final ImportarAsistenciaUseCase importarAsistenciaUseCase;
 
     public AsistenciaController(RegistrarAsistenciaUseCase registrarAsistenciaUseCase,
-            ConsultarAsistenciaUseCase consultarAsistenciaUseCase) {
+            ConsultarAsistenciaUseCase consultarAsistenciaUseCase,
+            ImportarAsistenciaUseCase importarAsistenciaUseCase) {
         this.registrarAsistenciaUseCase = registrarAsistenciaUseCase;
         this.consultarAsistenciaUseCase = consultarAsistenciaUseCase;
+        this.importarAsistenciaUseCase = importarAsistenciaUseCase;
     }
 
     @PostMapping
@@ -44,6 +50,12 @@ public class AsistenciaController {
         return ResponseEntity.created(location).body(response);
     }
 
+    @PostMapping("/importaciones")
+    public ResponseEntity<ImportacionAsistenciaResponse> importar(
+            @RequestBody @Valid ImportarAsistenciaRequest request) {
+        return ResponseEntity.ok(importarAsistenciaUseCase.importarAsistencia(request.toCommand()));
+    }
+
     @GetMapping
     public ResponseEntity<List<AsistenciaResponse>> listar(@RequestParam(required = false) String empleadoId,
             @RequestParam(required = false) String proyectoId,
@@ -1,6 +1,7 @@
 package com.budgetpro.infrastructure.rest.rrhh.controller;
 
 import com.budgetpro.application.rrhh.dto.NominaResponse;
+import com.budgetpro.application.rrhh.dto.ProgresoNominaResponse;
 import com.budgetpro.application.rrhh.port.in.CalcularNominaUseCase;
 import com.budgetpro.application.rrhh.port.in.ConsultarNominaUseCase;
 import com.budgetpro.domain.rrhh.model.NominaId;
@@ -43,4 +44,13 @@ public class NominaController {
         return consultarNominaUseCase.obtenerPorId(NominaId.of(id)).map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Avance de una corrida por lotes; consultable mientras la nómina está en PROCESANDO.
+     */
+    @GetMapping("/{id}/progreso")
+    public ResponseEntity<ProgresoNominaResponse> obtenerProgreso(@PathVariable String id) {
+        return consultarNominaUseCase.obtenerProgreso(NominaId.of(id)).map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,31 @@
+package com.budgetpro.infrastructure.rest.rrhh.dto;
+
+import com.budgetpro.application.rrhh.dto.ImportarAsistenciaCommand;
+import com.budgetpro.application.rrhh.dto.ImportarAsistenciaCommand.FilaAsistencia;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lote de tareos de un proyecto. Las filas se validan una a una en el caso de uso para
+ * poder reportar los errores por fila en lugar de rechazar el lote completo.
+ */
+public record ImportarAsistenciaRequest(@NotNull(message = "El ID del proyecto es obligatorio") String proyectoId,
+
+        @NotEmpty(message = "El lote debe contener al menos una fila") List<Fila> filas) {
+
+    public record Fila(String empleadoId, LocalDate fecha, LocalDateTime horaEntrada, LocalDateTime horaSalida,
+            String ubicacion) {
+    }
+
+    public ImportarAsistenciaCommand toCommand() {
+        return new ImportarAsistenciaCommand(ProyectoId.from(proyectoId), filas.stream()
+                .map(f -> new FilaAsistencia(f.empleadoId(), f.fecha(), f.horaEntrada(), f.horaSalida(),
+                        f.ubicacion()))
+                .toList());
+    }
+}
@@ -0,0 +1,40 @@
+package com.budgetpro.infrastructure.scheduler;
+
+import com.budgetpro.domain.finanzas.consumo.port.out.GastoAcumuladoPartidaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler que reconcilia diariamente (03:45 UTC) el gasto acumulado por partida contra consumo_partida.
+ *
+ * <p>El contador se mantiene por delta con cada consumo; cualquier escritura que lo omita
+ * (scripts, correcciones manuales en BD) se detecta y corrige aquí. La reconciliación avanza por
+ * tramos de partidas; solo los consumos de las partidas del tramo en curso esperan a su bloqueo.
+ */
+@Component
+public class GastoAcumuladoReconciliacionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GastoAcumuladoReconciliacionScheduler.class);
+
+    private final GastoAcumuladoPartidaRepository gastoAcumuladoPartidaRepository;
+
+    public GastoAcumuladoReconciliacionScheduler(GastoAcumuladoPartidaRepository gastoAcumuladoPartidaRepository) {
+        this.gastoAcumuladoPartidaRepository = gastoAcumuladoPartidaRepository;
+    }
+
+    @Scheduled(cron = "0 45 3 * * *", zone = "UTC")
+    public void reconciliar() {
+        try {
+            int desviadas = gastoAcumuladoPartidaRepository.reconciliar();
+            if (desviadas > 0) {
+                log.warn("Gasto acumulado desviado y corregido en {} partidas", desviadas);
+            } else {
+                log.info("Gasto acumulado por partida conciliado sin desviaciones");
+            }
+        } catch (Exception ex) {
+            log.error("Error reconciliando gasto acumulado por partida: {}", ex.getMessage(), ex);
+        }
+    }
+}
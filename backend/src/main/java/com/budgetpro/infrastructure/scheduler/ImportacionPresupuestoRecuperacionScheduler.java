@@ -0,0 +1,46 @@
+package com.budgetpro.infrastructure.scheduler;
+
+import com.budgetpro.application.presupuesto.port.in.ImportarPresupuestoUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scheduler que recupera las importaciones de presupuesto interrumpidas.
+ *
+ * <p>Al arrancar y luego cada 5 minutos (configurable) marca FALLIDO las importaciones
+ * PENDIENTE o EN_PROCESO sin avance durante el timeout. El procesador guarda el avance tras
+ * cada lote, así que una importación viva nunca pasa tanto tiempo sin guardar.
+ */
+@Component
+public class ImportacionPresupuestoRecuperacionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacionPresupuestoRecuperacionScheduler.class);
+
+    private final ImportarPresupuestoUseCase importarPresupuestoUseCase;
+    private final long timeoutMinutos;
+
+    public ImportacionPresupuestoRecuperacionScheduler(
+            ImportarPresupuestoUseCase importarPresupuestoUseCase,
+            @Value("${presupuesto.importacion.timeout-minutos:30}") long timeoutMinutos) {
+        this.importarPresupuestoUseCase = importarPresupuestoUseCase;
+        this.timeoutMinutos = timeoutMinutos;
+    }
+
+    @Scheduled(fixedDelayString = "${presupuesto.importacion.recuperacion-intervalo-ms:300000}")
+    public void recuperarInterrumpidas() {
+        try {
+            int fallidas = importarPresupuestoUseCase.fallarInterrumpidas(
+                    LocalDateTime.now().minusMinutes(timeoutMinutos));
+            if (fallidas > 0) {
+                log.warn("Importaciones de presupuesto interrumpidas marcadas FALLIDO: {}", fallidas);
+            }
+        } catch (Exception ex) {
+            log.error("Error recuperando importaciones interrumpidas: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.budgetpro.infrastructure.scheduler;
+
+import com.budgetpro.application.almacen.port.in.GenerarCheckpointsKardexUseCase;
+import com.budgetpro.domain.logistica.almacen.model.Almacen;
+import com.budgetpro.domain.logistica.almacen.port.out.AlmacenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Scheduler que genera los cierres mensuales del Kárdex el día 1 de cada mes a las 00:15 UTC.
+ *
+ * <p>Para cada almacén activo cierra el mes anterior (y los meses faltantes, si los hay),
+ * dejando un punto de partida acotado para las consultas de valorización a fecha.
+ */
+@Component
+public class KardexCheckpointScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(KardexCheckpointScheduler.class);
+
+    private final AlmacenRepository almacenRepository;
+    private final GenerarCheckpointsKardexUseCase generarCheckpointsKardexUseCase;
+
+    public KardexCheckpointScheduler(AlmacenRepository almacenRepository,
+                                     GenerarCheckpointsKardexUseCase generarCheckpointsKardexUseCase) {
+        this.almacenRepository = almacenRepository;
+        this.generarCheckpointsKardexUseCase = generarCheckpointsKardexUseCase;
+    }
+
+    @Scheduled(cron = "0 15 0 1 * *", zone = "UTC")
+    public void cerrarMesAnterior() {
+        YearMonth mesAnterior = YearMonth.now(ZoneOffset.UTC).minusMonths(1);
+        List<Almacen> almacenes = almacenRepository.buscarActivos();
+
+        for (Almacen almacen : almacenes) {
+            var almacenId = almacen.getId().getValue();
+            try {
+                int generados = generarCheckpointsKardexUseCase.generarHasta(almacenId, mesAnterior);
+                log.info("Cierres de Kárdex generados para almacén {} hasta {}: {}", almacenId, mesAnterior, generados);
+            } catch (Exception ex) {
+                log.error("Error generando cierre de Kárdex para almacén {}: {}", almacenId, ex.getMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.budgetpro.infrastructure.scheduler;
+
+import com.budgetpro.infrastructure.observability.OutboxMetrics;
+import com.budgetpro.infrastructure.outbox.OutboxDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scheduler que vacía el outbox transaccional de eventos de dominio.
+ *
+ * <p>Cada segundo (configurable) toma lotes de eventos pendientes hasta vaciar la cola o
+ * alcanzar el máximo de lotes por pasada, y actualiza la métrica de pendientes. Varias
+ * instancias pueden ejecutarlo a la vez: SKIP LOCKED reparte la cola entre ellas.
+ *
+ * <p>Diariamente a las 03:30 UTC purga los eventos procesados más antiguos que la retención.
+ */
+@Component
+public class OutboxDispatcherScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcherScheduler.class);
+
+    private final OutboxDispatcher outboxDispatcher;
+    private final OutboxMetrics metrics;
+    private final int tamanoLote;
+    private final int maxLotesPorPasada;
+    private final int retencionDias;
+
+    public OutboxDispatcherScheduler(OutboxDispatcher outboxDispatcher,
+                                     OutboxMetrics metrics,
+                                     @Value("${outbox.dispatcher.tamano-lote:200}") int tamanoLote,
+                                     @Value("${outbox.dispatcher.max-lotes-por-pasada:50}") int maxLotesPorPasada,
+                                     @Value("${outbox.dispatcher.retencion-dias:7}") int retencionDias) {
+        this.outboxDispatcher = outboxDispatcher;
+        this.metrics = metrics;
+        this.tamanoLote = tamanoLote;
+        this.maxLotesPorPasada = maxLotesPorPasada;
+        this.retencionDias = retencionDias;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.intervalo-ms:1000}")
+    public void despachar() {
+        try {
+            for (int lote = 0; lote < maxLotesPorPasada; lote++) {
+                if (outboxDispatcher.despacharLote(tamanoLote) < tamanoLote) {
+                    break;
+                }
+            }
+            metrics.actualizarPendientes(outboxDispatcher.contarPendientes());
+        } catch (Exception ex) {
+            log.error("Error despachando eventos del outbox: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "UTC")
+    public void purgarProcesados() {
+        try {
+            int eliminados = outboxDispatcher.purgarProcesados(LocalDateTime.now().minusDays(retencionDias));
+            log.info("Eventos de outbox procesados purgados: {}", eliminados);
+        } catch (Exception ex) {
+            log.error("Error purgando eventos del outbox: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+-- Checkpoints (saldos de cierre mensual) del Kárdex por almacén/recurso.
+-- Permiten consultar stock y CPP a una fecha partiendo del cierre más cercano
+-- y reproduciendo solo los movimientos posteriores.
+
+CREATE TABLE IF NOT EXISTS kardex_checkpoint (
+  id UUID PRIMARY KEY,
+  almacen_id UUID NOT NULL REFERENCES almacen(id),
+  recurso_id UUID NOT NULL,
+  fecha_corte DATE NOT NULL,
+  saldo_cantidad NUMERIC(19,6) NOT NULL,
+  saldo_valor NUMERIC(19,4) NOT NULL,
+  costo_promedio_ponderado NUMERIC(19,4) NOT NULL,
+  version INTEGER NOT NULL DEFAULT 0,
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT uq_kardex_checkpoint_almacen_recurso_fecha UNIQUE (almacen_id, recurso_id, fecha_corte),
+  CONSTRAINT chk_kardex_checkpoint_nonneg CHECK (saldo_cantidad >= 0 AND saldo_valor >= 0 AND costo_promedio_ponderado >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_kardex_checkpoint_almacen_fecha ON kardex_checkpoint (almacen_id, fecha_corte);
+
+-- Rango (fecha_corte, fecha] por almacén en orden cronológico
+CREATE INDEX IF NOT EXISTS idx_kardex_almacen_fecha_created ON kardex (almacen_id, fecha_movimiento, created_at);
@@ -0,0 +1,14 @@
+-- Índices para resolver backlog por recurso sin recorrer todo el inventario del proyecto.
+
+-- Inventario por (proyecto, recurso externo, unidad base)
+CREATE INDEX IF NOT EXISTS idx_inventario_proyecto_recurso_unidad
+    ON inventario_item (proyecto_id, recurso_external_id, unidad_base);
+
+-- Requerimientos pendientes por (proyecto, recurso externo, unidad de medida)
+DO $$
+BEGIN
+    IF to_regclass('requerimiento_compra') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_requerimiento_proyecto_recurso_unidad
+            ON requerimiento_compra (proyecto_id, recurso_external_id, unidad_medida);
+    END IF;
+END $$;
@@ -0,0 +1,27 @@
+-- Outbox transaccional de eventos de dominio (consumo de material, alertas de presupuesto).
+-- Los puertos de publicación escriben aquí dentro de la transacción del caso de uso; un
+-- despachador en segundo plano los entrega a los manejadores en proceso (SKIP LOCKED).
+
+CREATE TABLE IF NOT EXISTS outbox_evento (
+  id UUID PRIMARY KEY,
+  tipo VARCHAR(100) NOT NULL,
+  agregado_id UUID,
+  payload JSONB NOT NULL,
+  estado VARCHAR(20) NOT NULL DEFAULT 'PENDIENTE',
+  intentos INTEGER NOT NULL DEFAULT 0,
+  proximo_intento TIMESTAMP NOT NULL DEFAULT NOW(),
+  ultimo_error TEXT,
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  procesado_at TIMESTAMP,
+  CONSTRAINT chk_outbox_evento_estado CHECK (estado IN ('PENDIENTE', 'PROCESADO', 'FALLIDO'))
+);
+
+-- Cola de pendientes: solo indexa lo que el despachador consulta
+CREATE INDEX IF NOT EXISTS idx_outbox_evento_pendiente
+  ON outbox_evento (proximo_intento, created_at)
+  WHERE estado = 'PENDIENTE';
+
+-- Purga de procesados antiguos
+CREATE INDEX IF NOT EXISTS idx_outbox_evento_procesado_at
+  ON outbox_evento (procesado_at)
+  WHERE estado = 'PROCESADO';
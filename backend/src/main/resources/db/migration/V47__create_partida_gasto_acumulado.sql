@@ -0,0 +1,19 @@
+-- Gasto acumulado por partida, mantenido por delta en la misma transacción que cada
+-- inserción/actualización en consumo_partida. El semáforo de presupuesto y el reporte de
+-- control de costos lo leen por clave primaria en lugar de sumar consumo_partida.
+-- Un job de reconciliación lo recalcula periódicamente desde consumo_partida.
+
+CREATE TABLE IF NOT EXISTS partida_gasto_acumulado (
+  partida_id UUID PRIMARY KEY,
+  gasto_acumulado NUMERIC(19,4) NOT NULL DEFAULT 0,
+  updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT fk_partida_gasto_acumulado_partida
+    FOREIGN KEY (partida_id) REFERENCES partida(id) ON DELETE CASCADE
+);
+
+-- Carga inicial desde los consumos existentes
+INSERT INTO partida_gasto_acumulado (partida_id, gasto_acumulado, updated_at)
+SELECT partida_id, SUM(monto), NOW()
+FROM consumo_partida
+GROUP BY partida_id
+ON CONFLICT (partida_id) DO NOTHING;
@@ -0,0 +1,7 @@
+-- Paginación por clave del listado de órdenes de compra: ORDER BY fecha DESC, id DESC.
+
+CREATE INDEX IF NOT EXISTS idx_orden_compra_fecha_id
+    ON orden_compra (fecha DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_orden_compra_proyecto_fecha_id
+    ON orden_compra (proyecto_id, fecha DESC, id DESC);
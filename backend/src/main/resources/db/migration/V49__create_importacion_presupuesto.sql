@@ -0,0 +1,22 @@
+-- Trabajos de importación masiva de partidas y APUs desde planillas (CSV/XLSX).
+-- El procesador actualiza el progreso tras cada lote confirmado; el cliente lo consulta.
+
+CREATE TABLE IF NOT EXISTS importacion_presupuesto (
+  id UUID PRIMARY KEY,
+  presupuesto_id UUID NOT NULL REFERENCES presupuesto(id) ON DELETE CASCADE,
+  nombre_archivo VARCHAR(255),
+  estado VARCHAR(20) NOT NULL,
+  filas_procesadas BIGINT NOT NULL DEFAULT 0,
+  partidas_importadas BIGINT NOT NULL DEFAULT 0,
+  insumos_importados BIGINT NOT NULL DEFAULT 0,
+  errores JSONB NOT NULL DEFAULT '[]'::jsonb,
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  finalizado_at TIMESTAMP,
+  CONSTRAINT chk_importacion_presupuesto_estado
+    CHECK (estado IN ('PENDIENTE', 'EN_PROCESO', 'COMPLETADO', 'FALLIDO'))
+);
+
+-- Una sola importación activa por presupuesto
+CREATE UNIQUE INDEX IF NOT EXISTS uq_importacion_presupuesto_activa
+  ON importacion_presupuesto (presupuesto_id)
+  WHERE estado IN ('PENDIENTE', 'EN_PROCESO');
@@ -0,0 +1,119 @@
+-- Jerarquía materializada de partidas: ruta (IDs desde la raíz, "/<raiz>/<hija>/.../<id>/")
+-- y marca de hoja, mantenidas por triggers. Con la colación "C" el subárbol de una partida es
+-- el rango [ruta, ruta sin la última "/" || '0'), resoluble con el índice (presupuesto_id, ruta)
+-- sin reconstruir el árbol en memoria desde padre_id.
+-- Version: V50 — PostgreSQL 15 (EXECUTE FUNCTION, CALL).
+
+ALTER TABLE partida ADD COLUMN IF NOT EXISTS ruta TEXT COLLATE "C";
+ALTER TABLE partida ADD COLUMN IF NOT EXISTS es_hoja BOOLEAN NOT NULL DEFAULT TRUE;
+
+-- Recalcula ruta y es_hoja de un presupuesto (o de todos si p_presupuesto_id es NULL).
+-- Lo usan la carga inicial y las copias INSERT ... SELECT, en las que una hija puede
+-- insertarse antes que su padre dentro de la misma sentencia.
+CREATE OR REPLACE PROCEDURE budgetpro_partida_recalcular_jerarquia(p_presupuesto_id UUID)
+LANGUAGE plpgsql AS $$
+BEGIN
+    WITH RECURSIVE arbol AS (
+        SELECT p.id, '/' || p.id::text || '/' AS ruta
+        FROM partida p
+        WHERE p.padre_id IS NULL
+          AND (p_presupuesto_id IS NULL OR p.presupuesto_id = p_presupuesto_id)
+        UNION ALL
+        SELECT h.id, a.ruta || h.id::text || '/'
+        FROM partida h
+        JOIN arbol a ON h.padre_id = a.id
+    )
+    UPDATE partida p
+    SET ruta = a.ruta
+    FROM arbol a
+    WHERE p.id = a.id
+      AND p.ruta IS DISTINCT FROM a.ruta;
+
+    UPDATE partida p
+    SET es_hoja = NOT EXISTS (SELECT 1 FROM partida h WHERE h.padre_id = p.id)
+    WHERE (p_presupuesto_id IS NULL OR p.presupuesto_id = p_presupuesto_id)
+      AND p.es_hoja IS DISTINCT FROM NOT EXISTS (SELECT 1 FROM partida h WHERE h.padre_id = p.id);
+END;
+$$;
+
+CALL budgetpro_partida_recalcular_jerarquia(NULL);
+
+-- Partidas huérfanas (padre inexistente) quedan como raíz
+UPDATE partida SET ruta = '/' || id::text || '/' WHERE ruta IS NULL;
+
+ALTER TABLE partida ALTER COLUMN ruta SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_partida_ruta ON partida(presupuesto_id, ruta);
+CREATE INDEX IF NOT EXISTS idx_partida_hoja ON partida(presupuesto_id) WHERE es_hoja;
+
+-- Ruta de la fila a partir de la de su padre (alta o cambio de padre)
+CREATE OR REPLACE FUNCTION budgetpro_trg_partida_ruta()
+RETURNS TRIGGER AS $$
+DECLARE
+    ruta_padre TEXT;
+BEGIN
+    IF NEW.padre_id IS NOT NULL THEN
+        SELECT p.ruta INTO ruta_padre FROM partida p WHERE p.id = NEW.padre_id;
+    END IF;
+    -- Padre aún no visible (copia multi-fila): ruta provisional, la corrige el recálculo posterior
+    NEW.ruta := COALESCE(ruta_padre, '/') || NEW.id::text || '/';
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Marca de hoja del padre y, al mover una partida, ruta de sus descendientes
+CREATE OR REPLACE FUNCTION budgetpro_trg_partida_jerarquia()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.padre_id IS NOT NULL THEN
+        UPDATE partida p
+        SET es_hoja = TRUE
+        WHERE p.id = OLD.padre_id
+          AND NOT p.es_hoja
+          AND NOT EXISTS (SELECT 1 FROM partida h WHERE h.padre_id = OLD.padre_id);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.padre_id IS NOT NULL THEN
+        UPDATE partida p SET es_hoja = FALSE WHERE p.id = NEW.padre_id AND p.es_hoja;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND OLD.ruta IS DISTINCT FROM NEW.ruta THEN
+        UPDATE partida d
+        SET ruta = NEW.ruta || substr(d.ruta, length(OLD.ruta) + 1)
+        WHERE d.presupuesto_id = NEW.presupuesto_id
+          AND d.ruta > OLD.ruta
+          AND d.ruta < left(OLD.ruta, -1) || '0';
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_partida_ruta ON partida;
+DROP TRIGGER IF EXISTS trg_partida_jerarquia_insert ON partida;
+DROP TRIGGER IF EXISTS trg_partida_jerarquia_update ON partida;
+DROP TRIGGER IF EXISTS trg_partida_jerarquia_delete ON partida;
+
+CREATE TRIGGER trg_partida_ruta
+    BEFORE INSERT OR UPDATE OF padre_id ON partida
+    FOR EACH ROW
+    EXECUTE FUNCTION budgetpro_trg_partida_ruta();
+
+CREATE TRIGGER trg_partida_jerarquia_insert
+    AFTER INSERT ON partida
+    FOR EACH ROW
+    EXECUTE FUNCTION budgetpro_trg_partida_jerarquia();
+
+CREATE TRIGGER trg_partida_jerarquia_update
+    AFTER UPDATE OF padre_id ON partida
+    FOR EACH ROW
+    WHEN (OLD.padre_id IS DISTINCT FROM NEW.padre_id)
+    EXECUTE FUNCTION budgetpro_trg_partida_jerarquia();
+
+CREATE TRIGGER trg_partida_jerarquia_delete
+    AFTER DELETE ON partida
+    FOR EACH ROW
+    EXECUTE FUNCTION budgetpro_trg_partida_jerarquia();
+
+COMMENT ON COLUMN partida.ruta IS 'IDs desde la raíz separados por "/" (mantenida por trigger; colación C para consultas de subárbol por rango).';
+COMMENT ON COLUMN partida.es_hoja IS 'TRUE si la partida no tiene hijas (mantenida por trigger).';
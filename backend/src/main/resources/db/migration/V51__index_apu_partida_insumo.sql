@@ -0,0 +1,5 @@
+-- Índices para cargar los APUs e insumos de un presupuesto en bloque (consolidación de costos)
+-- y para su huella de versión: ambos recorren apu por partida_id y apu_insumo por apu_id.
+
+CREATE INDEX IF NOT EXISTS idx_apu_partida ON apu(partida_id);
+CREATE INDEX IF NOT EXISTS idx_apu_insumo_apu ON apu_insumo(apu_id);
@@ -0,0 +1,104 @@
+-- Re-análisis paramétrico incremental: cada partida lleva una versión de análisis
+-- (secuencia global) que los triggers avanzan cuando cambia algo que leen las reglas
+-- (descripción, insumos del APU o datos de un recurso usado). analisis_partida_estado
+-- guarda la versión con la que se evaluó cada partida en el último análisis; las que
+-- difieren (o ya no existen) son las únicas a re-evaluar.
+-- Version: V52 — PostgreSQL 15
+
+CREATE SEQUENCE IF NOT EXISTS partida_version_analisis_seq;
+
+ALTER TABLE partida ADD COLUMN IF NOT EXISTS version_analisis BIGINT NOT NULL
+    DEFAULT nextval('partida_version_analisis_seq');
+
+CREATE TABLE IF NOT EXISTS analisis_partida_estado (
+    presupuesto_id UUID NOT NULL REFERENCES presupuesto(id) ON DELETE CASCADE,
+    -- Sin FK a partida: una partida eliminada se detecta por su estado huérfano
+    partida_id UUID NOT NULL,
+    version_analisis BIGINT NOT NULL,
+    PRIMARY KEY (presupuesto_id, partida_id)
+);
+
+-- Propagación del cambio de un recurso a las partidas que lo usan
+CREATE INDEX IF NOT EXISTS idx_apu_insumo_recurso ON apu_insumo(recurso_id);
+
+-- Descripción de la partida (la usan los mensajes de las reglas)
+CREATE OR REPLACE FUNCTION budgetpro_trg_partida_version_analisis()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.version_analisis := nextval('partida_version_analisis_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Alta, baja o cambio de un insumo: avanza la partida de su APU
+CREATE OR REPLACE FUNCTION budgetpro_trg_apu_insumo_version_analisis()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE partida p
+    SET version_analisis = nextval('partida_version_analisis_seq')
+    FROM apu a
+    WHERE p.id = a.partida_id
+      AND a.id IN (
+          CASE WHEN TG_OP <> 'INSERT' THEN OLD.apu_id END,
+          CASE WHEN TG_OP <> 'DELETE' THEN NEW.apu_id END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Baja de un APU: sus insumos ya no se pueden resolver a la partida desde apu
+CREATE OR REPLACE FUNCTION budgetpro_trg_apu_version_analisis()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE partida p
+    SET version_analisis = nextval('partida_version_analisis_seq')
+    WHERE p.id = OLD.partida_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Cambio de nombre, tipo o atributos de un recurso: avanza todas las partidas que lo usan
+CREATE OR REPLACE FUNCTION budgetpro_trg_recurso_version_analisis()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE partida p
+    SET version_analisis = nextval('partida_version_analisis_seq')
+    WHERE p.id IN (
+        SELECT a.partida_id
+        FROM apu_insumo i
+        JOIN apu a ON a.id = i.apu_id
+        WHERE i.recurso_id = NEW.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_partida_version_analisis ON partida;
+DROP TRIGGER IF EXISTS trg_apu_insumo_version_analisis ON apu_insumo;
+DROP TRIGGER IF EXISTS trg_apu_version_analisis ON apu;
+DROP TRIGGER IF EXISTS trg_recurso_version_analisis ON recurso;
+
+CREATE TRIGGER trg_partida_version_analisis
+    BEFORE UPDATE OF descripcion ON partida
+    FOR EACH ROW
+    WHEN (OLD.descripcion IS DISTINCT FROM NEW.descripcion)
+    EXECUTE FUNCTION budgetpro_trg_partida_version_analisis();
+
+CREATE TRIGGER trg_apu_insumo_version_analisis
+    AFTER INSERT OR UPDATE OR DELETE ON apu_insumo
+    FOR EACH ROW
+    EXECUTE FUNCTION budgetpro_trg_apu_insumo_version_analisis();
+
+CREATE TRIGGER trg_apu_version_analisis
+    AFTER DELETE ON apu
+    FOR EACH ROW
+    EXECUTE FUNCTION budgetpro_trg_apu_version_analisis();
+
+CREATE TRIGGER trg_recurso_version_analisis
+    AFTER UPDATE OF nombre, tipo, atributos ON recurso
+    FOR EACH ROW
+    WHEN (OLD.nombre IS DISTINCT FROM NEW.nombre
+          OR OLD.tipo IS DISTINCT FROM NEW.tipo
+          OR OLD.atributos IS DISTINCT FROM NEW.atributos)
+    EXECUTE FUNCTION budgetpro_trg_recurso_version_analisis();
+
+COMMENT ON COLUMN partida.version_analisis IS 'Versión de los datos que leen las reglas paramétricas (mantenida por triggers).';
+COMMENT ON TABLE analisis_partida_estado IS 'Versión de análisis con la que se evaluó cada partida en el último análisis paramétrico.';
@@ -0,0 +1,25 @@
+-- Acumulado estimado por partida: se suma al aprobar cada estimación para no recorrer todos los
+-- detalles de las estimaciones previas al generar la siguiente.
+-- Version: V53 — PostgreSQL 15
+
+CREATE TABLE IF NOT EXISTS estimacion_acumulado_partida (
+    proyecto_id UUID NOT NULL,
+    partida_id UUID NOT NULL,
+    cantidad_acumulada NUMERIC(19,4) NOT NULL DEFAULT 0,
+    -- Número de la última estimación sumada: evita sumar dos veces la misma aprobación
+    ultima_estimacion INTEGER NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (proyecto_id, partida_id),
+    CONSTRAINT chk_estimacion_acumulado_nonneg CHECK (cantidad_acumulada >= 0)
+);
+
+-- Carga inicial desde las estimaciones ya aprobadas (o pagadas)
+INSERT INTO estimacion_acumulado_partida (proyecto_id, partida_id, cantidad_acumulada, ultima_estimacion)
+SELECT e.proyecto_id, d.partida_id, SUM(d.cantidad_avance), MAX(e.numero_estimacion)
+FROM estimacion e
+JOIN detalle_estimacion d ON d.estimacion_id = e.id
+WHERE e.estado IN ('APROBADA', 'PAGADA')
+GROUP BY e.proyecto_id, d.partida_id
+ON CONFLICT (proyecto_id, partida_id) DO NOTHING;
+
+COMMENT ON TABLE estimacion_acumulado_partida IS 'Cantidad estimada acumulada por partida en estimaciones aprobadas (actualizada al aprobar).';
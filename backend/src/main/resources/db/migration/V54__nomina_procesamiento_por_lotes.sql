@@ -0,0 +1,18 @@
+-- Nómina por lotes reanudable: una corrida crea la cabecera en PROCESANDO y confirma los
+-- detalles en lotes; cada lote avanza en la misma transacción el punto de control de la
+-- cabecera (empleados procesados y último empleado, en orden de ID). Una corrida fallida
+-- se reanuda desde el último lote confirmado.
+-- Version: V54 — PostgreSQL 15
+
+ALTER TABLE nominas ADD COLUMN IF NOT EXISTS empleados_procesados INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE nominas ADD COLUMN IF NOT EXISTS ultimo_empleado_id UUID;
+
+-- Las nóminas previas se guardaron completas en una sola transacción
+UPDATE nominas SET empleados_procesados = COALESCE(cantidad_empleados, 0);
+
+ALTER TABLE nominas DROP CONSTRAINT IF EXISTS ck_nomina_estado;
+ALTER TABLE nominas ADD CONSTRAINT ck_nomina_estado
+    CHECK (estado IN ('BORRADOR', 'PROCESANDO', 'CALCULADA', 'APROBADA', 'PAGADA'));
+
+COMMENT ON COLUMN nominas.empleados_procesados IS 'Detalles confirmados por la corrida por lotes (punto de control).';
+COMMENT ON COLUMN nominas.ultimo_empleado_id IS 'Último empleado (orden de ID) del último lote confirmado; la corrida se reanuda después de él.';
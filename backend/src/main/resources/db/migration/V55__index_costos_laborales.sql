@@ -0,0 +1,21 @@
+-- Agregación de costos laborales en SQL (ConsultarCostosLaboralesUseCase): un año de un proyecto
+-- de 500 trabajadores son ~150k registros de asistencia agregados en una sola pasada.
+-- Cada índice cubre un paso del plan para que ninguno recorra la tabla completa.
+
+-- Rango por proyecto y fecha con las columnas de la jornada incluidas (index-only scan).
+-- Reemplaza al índice solo por proyecto, que es prefijo de este.
+CREATE INDEX IF NOT EXISTS idx_asistencia_proyecto_fecha
+    ON asistencia_registros (proyecto_id, fecha) INCLUDE (empleado_id, hora_entrada, hora_salida);
+DROP INDEX IF EXISTS idx_asistencia_proyecto;
+
+-- Salario vigente en la fecha: registro más reciente con fecha_inicio <= fecha (LATERAL ... LIMIT 1)
+CREATE INDEX IF NOT EXISTS idx_historial_empleado_inicio
+    ON historial_laboral (empleado_id, fecha_inicio DESC) INCLUDE (fecha_fin, salario_base);
+
+-- Cuadrilla del trabajador en la fecha
+CREATE INDEX IF NOT EXISTS idx_cuadrilla_miembros_empleado_asignacion
+    ON cuadrilla_miembros (empleado_id, fecha_asignacion DESC) INCLUDE (cuadrilla_id, activo);
+
+-- Reparto de horas de la cuadrilla entre partidas por día
+CREATE INDEX IF NOT EXISTS idx_actividad_cuadrilla_fecha
+    ON asignaciones_actividad (cuadrilla_id, fecha) INCLUDE (partida_id, horas_asignadas);
@@ -0,0 +1,6 @@
+-- Versión de la configuración laboral: clave, junto con el ID, de la caché de FSR y tarifas
+-- derivadas. Se incrementa en cada modificación (bloqueo optimista de JPA), lo que invalida
+-- las tarifas cacheadas de la versión anterior.
+
+ALTER TABLE configuracion_laboral_extendida
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
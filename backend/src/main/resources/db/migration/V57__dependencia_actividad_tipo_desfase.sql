@@ -0,0 +1,8 @@
+-- Vínculos tipados entre actividades para el cálculo de ruta crítica (FS/SS/FF/SF con desfase)
+
+ALTER TABLE dependencia_actividad
+  ADD COLUMN IF NOT EXISTS tipo VARCHAR(20) NOT NULL DEFAULT 'FIN_INICIO',
+  ADD COLUMN IF NOT EXISTS desfase_dias INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE dependencia_actividad
+  ADD CONSTRAINT chk_dependencia_tipo CHECK (tipo IN ('FIN_INICIO', 'INICIO_INICIO', 'FIN_FIN', 'INICIO_FIN'));
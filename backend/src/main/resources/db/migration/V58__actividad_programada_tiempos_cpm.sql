@@ -0,0 +1,12 @@
+-- Tiempos CPM persistidos por actividad: permiten recalcular la ruta crítica de forma
+-- incremental (solo los conos afectados por una edición) sin rehacer el programa completo.
+-- Los escribe TiemposActividadRepositoryAdapter; NULL = nunca calculado.
+
+ALTER TABLE actividad_programada
+  ADD COLUMN IF NOT EXISTS duracion_laborable INTEGER,
+  ADD COLUMN IF NOT EXISTS inicio_temprano DATE,
+  ADD COLUMN IF NOT EXISTS fin_temprano DATE,
+  ADD COLUMN IF NOT EXISTS inicio_tardio DATE,
+  ADD COLUMN IF NOT EXISTS fin_tardio DATE,
+  ADD COLUMN IF NOT EXISTS holgura_total INTEGER,
+  ADD COLUMN IF NOT EXISTS holgura_libre INTEGER;
@@ -0,0 +1,24 @@
+-- Snapshots del cronograma comprimidos: cada sección puede guardarse como JSONB (texto) o
+-- como JSON UTF-8 comprimido con GZIP en la columna *_gz. Los escribe
+-- EscritorSnapshotCronogramaJacksonAdapter según cronograma.snapshot.comprimir.
+
+ALTER TABLE cronograma_snapshot
+  ALTER COLUMN fechas_snapshot DROP NOT NULL,
+  ALTER COLUMN duraciones_snapshot DROP NOT NULL,
+  ALTER COLUMN secuencia_snapshot DROP NOT NULL,
+  ALTER COLUMN calendarios_snapshot DROP NOT NULL,
+  ADD COLUMN IF NOT EXISTS fechas_snapshot_gz BYTEA,
+  ADD COLUMN IF NOT EXISTS duraciones_snapshot_gz BYTEA,
+  ADD COLUMN IF NOT EXISTS secuencia_snapshot_gz BYTEA,
+  ADD COLUMN IF NOT EXISTS calendarios_snapshot_gz BYTEA;
+
+-- Exactamente una representación por sección
+ALTER TABLE cronograma_snapshot
+  ADD CONSTRAINT chk_cronograma_snapshot_fechas
+    CHECK (num_nonnulls(fechas_snapshot, fechas_snapshot_gz) = 1),
+  ADD CONSTRAINT chk_cronograma_snapshot_duraciones
+    CHECK (num_nonnulls(duraciones_snapshot, duraciones_snapshot_gz) = 1),
+  ADD CONSTRAINT chk_cronograma_snapshot_secuencia
+    CHECK (num_nonnulls(secuencia_snapshot, secuencia_snapshot_gz) = 1),
+  ADD CONSTRAINT chk_cronograma_snapshot_calendarios
+    CHECK (num_nonnulls(calendarios_snapshot, calendarios_snapshot_gz) = 1);
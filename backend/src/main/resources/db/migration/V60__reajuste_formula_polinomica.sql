@@ -0,0 +1,43 @@
+-- Reajuste por fórmula polinómica (D.S. 011-79-VC): fórmulas por presupuesto con sus monomios
+-- e índices, asignación de partidas, y marca de índices provisionales para recalcular las
+-- estimaciones cuando se publican los definitivos.
+
+ALTER TABLE indice_precios
+  ADD COLUMN IF NOT EXISTS definitivo BOOLEAN NOT NULL DEFAULT TRUE;
+
+ALTER TABLE estimacion_reajuste
+  ADD COLUMN IF NOT EXISTS indices_definitivos BOOLEAN NOT NULL DEFAULT TRUE;
+
+-- Búsqueda de series (codigo IN ..., fecha_base BETWEEN ...)
+CREATE INDEX IF NOT EXISTS idx_indice_precios_codigo_fecha_activo
+  ON indice_precios (codigo, fecha_base) WHERE activo;
+
+CREATE TABLE IF NOT EXISTS formula_polinomica (
+  id UUID PRIMARY KEY,
+  presupuesto_id UUID NOT NULL REFERENCES presupuesto(id) ON DELETE CASCADE,
+  numero INTEGER NOT NULL,
+  fecha_base DATE NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT uq_formula_polinomica_numero UNIQUE (presupuesto_id, numero),
+  CONSTRAINT chk_formula_polinomica_numero CHECK (numero > 0)
+);
+
+-- Un término por (monomio, índice); el coeficiente del monomio se repite en cada término
+CREATE TABLE IF NOT EXISTS formula_polinomica_termino (
+  formula_id UUID NOT NULL REFERENCES formula_polinomica(id) ON DELETE CASCADE,
+  monomio INTEGER NOT NULL,
+  coeficiente NUMERIC(7,4) NOT NULL,
+  indice_codigo VARCHAR(50) NOT NULL,
+  peso NUMERIC(7,4) NOT NULL,
+  PRIMARY KEY (formula_id, monomio, indice_codigo),
+  CONSTRAINT chk_formula_polinomica_termino_valores CHECK (coeficiente > 0 AND peso > 0)
+);
+
+-- Partidas asignadas a cada fórmula (las no asignadas usan la de menor número)
+CREATE TABLE IF NOT EXISTS formula_polinomica_partida (
+  partida_id UUID PRIMARY KEY,
+  formula_id UUID NOT NULL REFERENCES formula_polinomica(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_formula_polinomica_partida_formula
+  ON formula_polinomica_partida (formula_id);
@@ -0,0 +1,9 @@
+-- Último avance registrado de cada importación: las que quedan PENDIENTE/EN_PROCESO sin avance
+-- (executor caído o JVM detenida) se marcan FALLIDO para liberar uq_importacion_presupuesto_activa.
+
+ALTER TABLE importacion_presupuesto
+  ADD COLUMN IF NOT EXISTS actualizado_at TIMESTAMP NOT NULL DEFAULT NOW();
+
+CREATE INDEX IF NOT EXISTS idx_importacion_presupuesto_activa_actualizado
+  ON importacion_presupuesto (actualizado_at)
+  WHERE estado IN ('PENDIENTE', 'EN_PROCESO');
@@ -0,0 +1,10 @@
+-- Totales acumulados sin redondear de una corrida de nómina por lotes. total_bruto y total_neto
+-- son DECIMAL(19,2): reanudar desde ellos redondearía el acumulado en cada lote confirmado. Al
+-- completar la corrida los totales se escriben una sola vez y los acumulados quedan en NULL.
+-- Version: V62 — PostgreSQL 15
+
+ALTER TABLE nominas ADD COLUMN IF NOT EXISTS acumulado_bruto NUMERIC;
+ALTER TABLE nominas ADD COLUMN IF NOT EXISTS acumulado_neto NUMERIC;
+
+COMMENT ON COLUMN nominas.acumulado_bruto IS 'Total bruto exacto hasta el punto de control (solo en PROCESANDO).';
+COMMENT ON COLUMN nominas.acumulado_neto IS 'Total neto exacto hasta el punto de control (solo en PROCESANDO).';
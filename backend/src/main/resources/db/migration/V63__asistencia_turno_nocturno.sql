@@ -0,0 +1,8 @@
+-- Turnos nocturnos: AsistenciaRegistro admite salida < entrada (el turno termina al día
+-- siguiente) y la agregación de costos laborales suma 24 h en ese caso, pero ck_asistencia_horas
+-- exigía salida > entrada y rechazaba esos registros. Solo se excluye la duración cero.
+-- Version: V63 — PostgreSQL 15
+
+ALTER TABLE asistencia_registros DROP CONSTRAINT IF EXISTS ck_asistencia_horas;
+ALTER TABLE asistencia_registros ADD CONSTRAINT ck_asistencia_horas
+    CHECK (hora_salida IS NULL OR hora_salida <> hora_entrada);
@@ -0,0 +1,11 @@
+-- Estimaciones de reajuste complementarias: una estimación polinómica APROBADA o APLICADA con
+-- índices provisionales no se reescribe al publicarse los definitivos; la diferencia por partida
+-- se reconoce en una nueva estimación que referencia a la original.
+-- Version: V64 — PostgreSQL 15
+
+ALTER TABLE estimacion_reajuste
+  ADD COLUMN IF NOT EXISTS estimacion_origen_id UUID REFERENCES estimacion_reajuste(id);
+
+-- Como máximo una complementaria por estimación original
+CREATE UNIQUE INDEX IF NOT EXISTS uq_estimacion_reajuste_origen
+  ON estimacion_reajuste (estimacion_origen_id) WHERE estimacion_origen_id IS NOT NULL;
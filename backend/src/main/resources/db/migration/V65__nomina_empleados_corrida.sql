@@ -0,0 +1,19 @@
+-- Conjunto de empleados de una corrida de nómina por lotes. Se fija al crear la cabecera en
+-- PROCESANDO y la reanudación parte de él: un empleado asignado al proyecto después de la
+-- interrupción (con un ID menor que el punto de control) no queda fuera de la corrida ni
+-- desactualiza cantidad_empleados.
+-- Version: V65 — PostgreSQL 15
+
+CREATE TABLE IF NOT EXISTS nomina_empleados (
+    nomina_id UUID NOT NULL REFERENCES nominas(id) ON DELETE CASCADE,
+    empleado_id UUID NOT NULL REFERENCES empleados(id),
+    PRIMARY KEY (nomina_id, empleado_id)
+);
+
+-- Una sola nómina por proyecto y periodo: dos corridas concurrentes no pueden crear cada una
+-- su cabecera PROCESANDO (mismos estados que NominaRepositoryAdapter.existsForPeriod)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_nomina_proyecto_periodo
+    ON nominas (proyecto_id, periodo_inicio, periodo_fin)
+    WHERE estado IN ('BORRADOR', 'PROCESANDO', 'CALCULADA', 'APROBADA', 'PAGADA');
+
+COMMENT ON TABLE nomina_empleados IS 'Empleados fijados al iniciar una corrida de nómina; la reanudación procesa solo estos.';
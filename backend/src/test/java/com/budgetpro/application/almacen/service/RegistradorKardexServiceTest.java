@@ -0,0 +1,183 @@
+package com.budgetpro.application.almacen.service;
+
+import com.budgetpro.application.almacen.dto.RecosteoKardexResponse;
+import com.budgetpro.application.almacen.port.in.RecostearKardexUseCase;
+import com.budgetpro.application.almacen.service.RegistradorKardexService.EntradaKardex;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
+import com.budgetpro.domain.logistica.almacen.service.GestionKardexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegistradorKardexServiceTest {
+
+    private static final LocalDate CIERRE = LocalDate.of(2026, 3, 31);
+
+    @Mock
+    private RegistroKardexRepository kardexRepository;
+    @Mock
+    private KardexCheckpointRepository checkpointRepository;
+    @Mock
+    private RecostearKardexUseCase recostearKardexUseCase;
+
+    private RegistradorKardexService service;
+    private UUID almacenId;
+    private UUID recursoId;
+
+    @BeforeEach
+    void setUp() {
+        service = new RegistradorKardexService(kardexRepository, checkpointRepository,
+                new GestionKardexService(), recostearKardexUseCase);
+        almacenId = UUID.randomUUID();
+        recursoId = UUID.randomUUID();
+    }
+
+    @Test
+    void registrarEntrada_posteriorAlUltimoCierre_noRecostea() {
+        RegistroKardex ultimo = entrada(CIERRE.minusDays(2), "10", "100");
+        when(kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, recursoId))
+                .thenReturn(Optional.of(ultimo));
+        when(checkpointRepository.buscarUltimaFechaCorte(almacenId)).thenReturn(Optional.of(CIERRE));
+
+        SaldoKardex saldo = service.registrarEntrada(almacenId, recursoId, CIERRE.plusDays(1),
+                new BigDecimal("10"), new BigDecimal("20"), UUID.randomUUID());
+
+        assertThat(saldo.saldoCantidad()).isEqualByComparingTo("20");
+        assertThat(saldo.saldoValor()).isEqualByComparingTo("300");
+        InOrder orden = inOrder(kardexRepository);
+        orden.verify(kardexRepository).bloquearPorAlmacenIdYRecursoId(almacenId, recursoId);
+        orden.verify(kardexRepository).guardar(any(RegistroKardex.class));
+        verify(kardexRepository, never()).buscarUltimoAntesDe(any(), any(), any());
+        verify(recostearKardexUseCase, never()).recostear(any(), any(), any());
+    }
+
+    @Test
+    void registrarEntrada_enOAntesDelUltimoCierre_recosteaDesdeLaFechaBajoElLock() {
+        // Posterior al último registro pero dentro de un periodo ya cerrado: invalida el cierre
+        RegistroKardex ultimo = entrada(CIERRE.minusDays(5), "10", "100");
+        when(kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, recursoId))
+                .thenReturn(Optional.of(ultimo));
+        when(checkpointRepository.buscarUltimaFechaCorte(almacenId)).thenReturn(Optional.of(CIERRE));
+        LocalDate fecha = CIERRE.minusDays(1);
+        when(recostearKardexUseCase.recostear(almacenId, recursoId, fecha)).thenReturn(recosteo(fecha, "20", "300"));
+
+        SaldoKardex saldo = service.registrarEntrada(almacenId, recursoId, fecha,
+                new BigDecimal("10"), new BigDecimal("20"), UUID.randomUUID());
+
+        assertThat(saldo.saldoCantidad()).isEqualByComparingTo("20");
+        InOrder orden = inOrder(kardexRepository, recostearKardexUseCase);
+        orden.verify(kardexRepository).bloquearPorAlmacenIdYRecursoId(almacenId, recursoId);
+        orden.verify(kardexRepository).guardar(any(RegistroKardex.class));
+        orden.verify(recostearKardexUseCase).recostear(almacenId, recursoId, fecha);
+    }
+
+    @Test
+    void registrarSalida_anteriorAlUltimoRegistro_usaElSaldoALaFechaYRecostea() {
+        LocalDate fecha = CIERRE.minusDays(10);
+        when(kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, recursoId))
+                .thenReturn(Optional.of(entrada(CIERRE.plusDays(3), "30", "500")));
+        when(kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, fecha.plusDays(1)))
+                .thenReturn(Optional.of(entrada(fecha.minusDays(1), "10", "100")));
+        when(recostearKardexUseCase.recostear(almacenId, recursoId, fecha)).thenReturn(recosteo(fecha, "26", "440"));
+
+        SaldoKardex saldo = service.registrarSalida(almacenId, recursoId, fecha, new BigDecimal("4"),
+                UUID.randomUUID());
+
+        ArgumentCaptor<RegistroKardex> guardado = ArgumentCaptor.forClass(RegistroKardex.class);
+        InOrder orden = inOrder(kardexRepository, recostearKardexUseCase);
+        orden.verify(kardexRepository).bloquearPorAlmacenIdYRecursoId(almacenId, recursoId);
+        orden.verify(kardexRepository).guardar(guardado.capture());
+        orden.verify(recostearKardexUseCase).recostear(almacenId, recursoId, fecha);
+        // Valorizada al CPP vigente a la fecha (10), no al del último registro
+        assertThat(guardado.getValue().getSaldoCantidad()).isEqualByComparingTo("6");
+        assertThat(guardado.getValue().getSaldoValor()).isEqualByComparingTo("60");
+        assertThat(saldo.saldoCantidad()).isEqualByComparingTo("26");
+        // Retroactivo respecto del último registro: no hace falta consultar cierres
+        verify(checkpointRepository, never()).buscarUltimaFechaCorte(any());
+    }
+
+    @Test
+    void registrarEntradas_encadenaLasPosterioresAlCierreYRecosteaLasAnteriores() {
+        UUID otroRecursoId = UUID.randomUUID();
+        when(kardexRepository.buscarUltimosPorAlmacenIdYRecursoIds(almacenId, Set.of(recursoId, otroRecursoId)))
+                .thenReturn(Map.of(recursoId, entrada(CIERRE.minusDays(3), "10", "100")));
+        when(checkpointRepository.buscarUltimaFechaCorte(almacenId)).thenReturn(Optional.of(CIERRE));
+        when(kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, otroRecursoId))
+                .thenReturn(Optional.empty());
+        when(recostearKardexUseCase.recostear(almacenId, otroRecursoId, CIERRE))
+                .thenReturn(recosteo(CIERRE, "5", "50"));
+
+        service.registrarEntradas(List.of(
+                new EntradaKardex(almacenId, recursoId, CIERRE.plusDays(1), new BigDecimal("10"),
+                        new BigDecimal("20"), UUID.randomUUID()),
+                new EntradaKardex(almacenId, recursoId, CIERRE.plusDays(2), new BigDecimal("5"),
+                        new BigDecimal("30"), UUID.randomUUID()),
+                new EntradaKardex(almacenId, otroRecursoId, CIERRE, new BigDecimal("5"),
+                        new BigDecimal("10"), UUID.randomUUID())));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RegistroKardex>> enBloque = ArgumentCaptor.forClass(List.class);
+        InOrder orden = inOrder(kardexRepository, recostearKardexUseCase);
+        orden.verify(kardexRepository).bloquearPorAlmacenIdYRecursoIds(almacenId, Set.of(recursoId, otroRecursoId));
+        orden.verify(kardexRepository).guardarTodos(enBloque.capture());
+        orden.verify(kardexRepository).guardar(any(RegistroKardex.class));
+        orden.verify(recostearKardexUseCase).recostear(almacenId, otroRecursoId, CIERRE);
+        assertThat(enBloque.getValue()).extracting(RegistroKardex::getRecursoId).containsOnly(recursoId);
+        assertThat(enBloque.getValue().get(1).getSaldoCantidad()).isEqualByComparingTo("25");
+        assertThat(enBloque.getValue().get(1).getSaldoValor()).isEqualByComparingTo("450");
+    }
+
+    @Test
+    void registrarEntradas_sinCierres_noRecostea() {
+        when(kardexRepository.buscarUltimosPorAlmacenIdYRecursoIds(almacenId, Set.of(recursoId)))
+                .thenReturn(Map.of());
+        when(checkpointRepository.buscarUltimaFechaCorte(almacenId)).thenReturn(Optional.empty());
+
+        service.registrarEntradas(List.of(new EntradaKardex(almacenId, recursoId, CIERRE, new BigDecimal("1"),
+                new BigDecimal("10"), UUID.randomUUID())));
+
+        verify(kardexRepository).guardarTodos(anyList());
+        verify(kardexRepository, never()).guardar(any());
+        verify(recostearKardexUseCase, never()).recostear(any(), any(), any());
+    }
+
+    private RegistroKardex entrada(LocalDate fecha, String saldoCantidad, String saldoValor) {
+        BigDecimal cantidad = new BigDecimal(saldoCantidad);
+        BigDecimal valor = new BigDecimal(saldoValor);
+        BigDecimal cpp = valor.divide(cantidad, 4, RoundingMode.HALF_UP);
+        return RegistroKardex.crearEntrada(almacenId, recursoId, fecha, UUID.randomUUID(), cantidad, cpp, valor,
+                cantidad, valor, cpp);
+    }
+
+    private RecosteoKardexResponse recosteo(LocalDate fechaDesde, String saldoCantidad, String saldoValor) {
+        BigDecimal cantidad = new BigDecimal(saldoCantidad);
+        BigDecimal valor = new BigDecimal(saldoValor);
+        return new RecosteoKardexResponse(almacenId, recursoId, fechaDesde, 1, 1, cantidad, valor,
+                valor.divide(cantidad, 4, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,128 @@
+package com.budgetpro.application.almacen.usecase;
+
+import com.budgetpro.application.almacen.dto.ValorizacionInventarioResponse;
+import com.budgetpro.application.almacen.port.in.GenerarCheckpointsKardexUseCase;
+import com.budgetpro.domain.logistica.almacen.model.Almacen;
+import com.budgetpro.domain.logistica.almacen.model.AlmacenId;
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.port.out.AlmacenRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
+import com.budgetpro.domain.logistica.almacen.service.ValorizacionKardexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultarValorizacionInventarioUseCaseImplTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2025, 6, 15);
+    private static final YearMonth MAYO = YearMonth.of(2025, 5);
+
+    @Mock
+    private AlmacenRepository almacenRepository;
+    @Mock
+    private KardexCheckpointRepository checkpointRepository;
+    @Mock
+    private RegistroKardexRepository kardexRepository;
+    @Mock
+    private GenerarCheckpointsKardexUseCase generarCheckpointsKardexUseCase;
+
+    private ConsultarValorizacionInventarioUseCaseImpl useCase;
+    private UUID almacenId;
+    private UUID recursoId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ConsultarValorizacionInventarioUseCaseImpl(almacenRepository, checkpointRepository,
+                kardexRepository, new ValorizacionKardexService(), generarCheckpointsKardexUseCase);
+        almacenId = UUID.randomUUID();
+        recursoId = UUID.randomUUID();
+        when(almacenRepository.buscarPorId(AlmacenId.of(almacenId))).thenReturn(Optional.of(
+                Almacen.crear(AlmacenId.of(almacenId), UUID.randomUUID(), "ALM-1", "Almacén", "Obra", null)));
+    }
+
+    @Test
+    void valorizar_conCierreDelMesAnterior_noGeneraCierresYReproduceSoloElMes() {
+        LocalDate cierreMayo = MAYO.atEndOfMonth();
+        when(checkpointRepository.buscarUltimaFechaCorte(almacenId, FECHA)).thenReturn(Optional.of(cierreMayo));
+        when(checkpointRepository.buscarPorAlmacenIdYFechaCorte(almacenId, cierreMayo))
+                .thenReturn(List.of(checkpoint(cierreMayo, "10", "100")));
+        when(kardexRepository.buscarPorAlmacenIdEntreFechas(almacenId, cierreMayo, FECHA))
+                .thenReturn(List.of(entrada(FECHA.minusDays(5), "15", "160")));
+
+        ValorizacionInventarioResponse response = useCase.valorizar(almacenId, FECHA);
+
+        assertThat(response.fechaCheckpoint()).isEqualTo(cierreMayo);
+        assertThat(response.registrosReproducidos()).isEqualTo(1);
+        assertThat(response.valorTotal()).isEqualByComparingTo("160");
+        verify(generarCheckpointsKardexUseCase, never()).generarHasta(any(), any());
+    }
+
+    @Test
+    void valorizar_conCierresAtrasados_losGeneraAntesDeReproducir() {
+        LocalDate cierreEnero = YearMonth.of(2025, 1).atEndOfMonth();
+        LocalDate cierreMayo = MAYO.atEndOfMonth();
+        when(checkpointRepository.buscarUltimaFechaCorte(almacenId, FECHA))
+                .thenReturn(Optional.of(cierreEnero), Optional.of(cierreMayo));
+        when(generarCheckpointsKardexUseCase.generarHasta(almacenId, MAYO)).thenReturn(4);
+        when(checkpointRepository.buscarPorAlmacenIdYFechaCorte(almacenId, cierreMayo))
+                .thenReturn(List.of(checkpoint(cierreMayo, "12", "120")));
+        when(kardexRepository.buscarPorAlmacenIdEntreFechas(almacenId, cierreMayo, FECHA)).thenReturn(List.of());
+
+        ValorizacionInventarioResponse response = useCase.valorizar(almacenId, FECHA);
+
+        // El delta parte del cierre de mayo, no del de enero
+        assertThat(response.fechaCheckpoint()).isEqualTo(cierreMayo);
+        assertThat(response.registrosReproducidos()).isZero();
+        assertThat(response.valorTotal()).isEqualByComparingTo("120");
+        verify(kardexRepository, never()).buscarPorAlmacenIdEntreFechas(almacenId, cierreEnero, FECHA);
+    }
+
+    @Test
+    void valorizar_sinCierresNiMovimientosAnteriores_reproduceDesdeElInicio() {
+        when(checkpointRepository.buscarUltimaFechaCorte(almacenId, FECHA)).thenReturn(Optional.empty());
+        when(generarCheckpointsKardexUseCase.generarHasta(almacenId, MAYO)).thenReturn(0);
+        when(kardexRepository.buscarPorAlmacenIdEntreFechas(almacenId, null, FECHA))
+                .thenReturn(List.of(entrada(FECHA.minusDays(1), "5", "50")));
+
+        ValorizacionInventarioResponse response = useCase.valorizar(almacenId, FECHA);
+
+        assertThat(response.fechaCheckpoint()).isNull();
+        assertThat(response.valorTotal()).isEqualByComparingTo("50");
+        verify(checkpointRepository, never()).buscarPorAlmacenIdYFechaCorte(any(), any());
+    }
+
+    private KardexCheckpoint checkpoint(LocalDate fechaCorte, String saldoCantidad, String saldoValor) {
+        BigDecimal cantidad = new BigDecimal(saldoCantidad);
+        BigDecimal valor = new BigDecimal(saldoValor);
+        return KardexCheckpoint.crear(almacenId, fechaCorte, new SaldoKardex(recursoId, cantidad, valor,
+                valor.divide(cantidad, 4, RoundingMode.HALF_UP)));
+    }
+
+    private RegistroKardex entrada(LocalDate fecha, String saldoCantidad, String saldoValor) {
+        BigDecimal cantidad = new BigDecimal(saldoCantidad);
+        BigDecimal valor = new BigDecimal(saldoValor);
+        BigDecimal cpp = valor.divide(cantidad, 4, RoundingMode.HALF_UP);
+        return RegistroKardex.crearEntrada(almacenId, recursoId, fecha, UUID.randomUUID(), BigDecimal.ONE, cpp, cpp,
+                cantidad, valor, cpp);
+    }
+}
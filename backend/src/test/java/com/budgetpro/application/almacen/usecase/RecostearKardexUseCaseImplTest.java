@@ -0,0 +1,102 @@
+package com.budgetpro.application.almacen.usecase;
+
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.port.out.KardexCheckpointRepository;
+import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
+import com.budgetpro.domain.logistica.almacen.service.GestionKardexService;
+import com.budgetpro.domain.logistica.almacen.service.RecosteoKardexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecostearKardexUseCaseImplTest {
+
+    private static final LocalDate MARZO = LocalDate.of(2026, 3, 31);
+    private static final LocalDate ABRIL = LocalDate.of(2026, 4, 30);
+
+    @Mock
+    private RegistroKardexRepository kardexRepository;
+    @Mock
+    private KardexCheckpointRepository checkpointRepository;
+
+    private RecostearKardexUseCaseImpl useCase;
+    private UUID almacenId;
+    private UUID recursoId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RecostearKardexUseCaseImpl(kardexRepository, checkpointRepository,
+                new RecosteoKardexService(new GestionKardexService()));
+        almacenId = UUID.randomUUID();
+        recursoId = UUID.randomUUID();
+    }
+
+    @Test
+    void recostear_antesDeCierres_reemplazaLosCheckpointsDelRecursoConElSaldoACadaCorte() {
+        LocalDate fechaDesde = MARZO.minusDays(10);
+        when(kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, fechaDesde)).thenReturn(Optional.empty());
+        when(kardexRepository.recorrerDesde(almacenId, recursoId, fechaDesde)).thenReturn(Stream.empty());
+        when(checkpointRepository.buscarFechasCorteDesde(almacenId, fechaDesde)).thenReturn(List.of(MARZO, ABRIL));
+        when(kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, MARZO.plusDays(1)))
+                .thenReturn(Optional.of(entrada(fechaDesde, "10", "100")));
+        when(kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, ABRIL.plusDays(1)))
+                .thenReturn(Optional.of(entrada(ABRIL.minusDays(3), "15", "175")));
+
+        useCase.recostear(almacenId, recursoId, fechaDesde);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<KardexCheckpoint>> guardados = ArgumentCaptor.forClass(List.class);
+        InOrder orden = inOrder(kardexRepository, checkpointRepository);
+        orden.verify(kardexRepository).bloquearPorAlmacenIdYRecursoId(almacenId, recursoId);
+        orden.verify(checkpointRepository).eliminarDesde(almacenId, recursoId, fechaDesde);
+        orden.verify(checkpointRepository).guardarTodos(guardados.capture());
+        assertThat(guardados.getValue()).extracting(KardexCheckpoint::getFechaCorte).containsExactly(MARZO, ABRIL);
+        assertThat(guardados.getValue()).allSatisfy(checkpoint ->
+                assertThat(checkpoint.getRecursoId()).isEqualTo(recursoId));
+        assertThat(guardados.getValue().get(0).getSaldoValor()).isEqualByComparingTo("100");
+        assertThat(guardados.getValue().get(1).getSaldoCantidad()).isEqualByComparingTo("15");
+    }
+
+    @Test
+    void recostear_despuesDelUltimoCierre_noTocaLosCheckpoints() {
+        LocalDate fechaDesde = ABRIL.plusDays(1);
+        when(kardexRepository.buscarUltimoAntesDe(almacenId, recursoId, fechaDesde)).thenReturn(Optional.empty());
+        when(kardexRepository.recorrerDesde(almacenId, recursoId, fechaDesde)).thenReturn(Stream.empty());
+        when(checkpointRepository.buscarFechasCorteDesde(almacenId, fechaDesde)).thenReturn(List.of());
+
+        useCase.recostear(almacenId, recursoId, fechaDesde);
+
+        verify(kardexRepository).bloquearPorAlmacenIdYRecursoId(almacenId, recursoId);
+        verify(checkpointRepository, never()).eliminarDesde(any(), any(), any());
+        verify(checkpointRepository, never()).guardarTodos(any());
+    }
+
+    private RegistroKardex entrada(LocalDate fecha, String saldoCantidad, String saldoValor) {
+        BigDecimal cantidad = new BigDecimal(saldoCantidad);
+        BigDecimal valor = new BigDecimal(saldoValor);
+        BigDecimal cpp = valor.divide(cantidad, 4, RoundingMode.HALF_UP);
+        return RegistroKardex.crearEntrada(almacenId, recursoId, fecha, UUID.randomUUID(), cantidad, cpp, valor,
+                cantidad, valor, cpp);
+    }
+}
@@ -1,5 +1,6 @@
 package com.budgetpro.application.compra.usecase;
 
+import com.budgetpro.application.almacen.service.RegistradorKardexService;
 import com.budgetpro.application.compra.command.RecibirOrdenCompraCommand;
 import com.budgetpro.application.compra.exception.BusinessRuleException;
 import com.budgetpro.application.compra.exception.DuplicateReceptionException;
@@ -10,12 +11,8 @@ import com.budgetpro.domain.catalogo.model.RecursoProxyId;
 import com.budgetpro.domain.catalogo.port.RecursoProxyRepository;
 import com.budgetpro.domain.logistica.almacen.model.Almacen;
 import com.budgetpro.domain.logistica.almacen.model.AlmacenId;
-import com.budgetpro.domain.logistica.almacen.model.MovimientoAlmacen;
-import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
 import com.budgetpro.domain.logistica.almacen.port.out.AlmacenRepository;
 import com.budgetpro.domain.logistica.almacen.port.out.MovimientoAlmacenRepository;
-import com.budgetpro.domain.logistica.almacen.port.out.RegistroKardexRepository;
-import com.budgetpro.domain.logistica.almacen.service.GestionKardexService;
 import com.budgetpro.domain.logistica.compra.model.*;
 import com.budgetpro.domain.logistica.compra.port.out.CompraRepository;
 import com.budgetpro.domain.logistica.compra.port.out.RecepcionRepository;
@@ -32,7 +29,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -59,6 +55,7 @@ import static org.mockito.Mockito.*;
  * - Error: almacén no encontrado
  * - Error: almacén inactivo
  * - Error: recurso proxy no encontrado
+ * - Lecturas y escrituras en bloque para varias líneas
  */
 @ExtendWith(MockitoExtension.class)
 class RecibirOrdenCompraUseCaseTest {
@@ -75,14 +72,11 @@ class RecibirOrdenCompraUseCaseTest {
     @Mock
     private MovimientoAlmacenRepository movimientoAlmacenRepository;
 
-    @Mock
-    private RegistroKardexRepository kardexRepository;
-
     @Mock
     private AlmacenRepository almacenRepository;
 
     @Mock
-    private GestionKardexService gestionKardexService;
+    private RegistradorKardexService registradorKardexService;
 
     @Mock
     private RecursoProxyRepository recursoProxyRepository;
@@ -185,27 +179,8 @@ class RecibirOrdenCompraUseCaseTest {
         when(compraRepository.findById(compraDomainId)).thenReturn(Optional.of(compra));
         when(proyectoRepository.findById(proyectoDomainId)).thenReturn(Optional.of(proyecto));
         when(recepcionRepository.existsByCompraIdAndGuiaRemision(compraDomainId, guiaRemision)).thenReturn(false);
-        when(almacenRepository.buscarPorId(almacenDomainId)).thenReturn(Optional.of(almacen));
-        when(recursoProxyRepository.findByExternalId("MAT-001", "CAPECO")).thenReturn(Optional.of(recursoProxy));
-        when(kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, recursoId))
-            .thenReturn(Optional.empty());
-
-        RegistroKardex nuevoRegistroKardex = crearRegistroKardexEntrada(
-            almacenId,
-            recursoId,
-            cantidadRecibida,
-            precioUnitario
-        );
-
-        when(gestionKardexService.procesarEntrada(
-            eq(almacenId),
-            eq(recursoId),
-            eq(cantidadRecibida),
-            eq(precioUnitario),
-            any(UUID.class),
-            eq(BigDecimal.ZERO),
-            eq(BigDecimal.ZERO)
-        )).thenReturn(nuevoRegistroKardex);
+        when(almacenRepository.buscarPorIds(anyCollection())).thenReturn(List.of(almacen));
+        when(recursoProxyRepository.findByExternalIds(anyCollection(), eq("CAPECO"))).thenReturn(List.of(recursoProxy));
 
         // Act
         Recepcion recepcion = useCase.ejecutar(command);
@@ -221,10 +196,16 @@ class RecibirOrdenCompraUseCaseTest {
         verify(compraRepository, times(1)).save(any(Compra.class));
 
         // Verificar que se creó el movimiento de almacén
-        verify(movimientoAlmacenRepository, times(1)).guardar(any(MovimientoAlmacen.class));
+        verify(movimientoAlmacenRepository, times(1)).guardarTodos(argThat(m -> m.size() == 1));
 
-        // Verificar que se guardó el registro de kárdex
-        verify(kardexRepository, times(1)).guardar(any(RegistroKardex.class));
+        // Verificar que se registró la entrada en kárdex con la fecha de recepción
+        verify(registradorKardexService, times(1)).registrarEntradas(argThat(entradas ->
+            entradas.size() == 1
+                && entradas.get(0).almacenId().equals(almacenId)
+                && entradas.get(0).recursoId().equals(recursoId)
+                && entradas.get(0).fechaMovimiento().equals(fechaRecepcion)
+                && entradas.get(0).cantidad().compareTo(cantidadRecibida) == 0
+                && entradas.get(0).precioUnitario().compareTo(precioUnitario) == 0));
 
         // Verificar que la compra se marcó como RECIBIDA
         verify(compraRepository).save(argThat(c -> c.getEstado() == EstadoCompra.RECIBIDA));
@@ -293,27 +274,8 @@ class RecibirOrdenCompraUseCaseTest {
         when(compraRepository.findById(compraDomainId)).thenReturn(Optional.of(compra));
         when(proyectoRepository.findById(proyectoDomainId)).thenReturn(Optional.of(proyecto));
         when(recepcionRepository.existsByCompraIdAndGuiaRemision(compraDomainId, guiaRemision)).thenReturn(false);
-        when(almacenRepository.buscarPorId(almacenDomainId)).thenReturn(Optional.of(almacen));
-        when(recursoProxyRepository.findByExternalId("MAT-001", "CAPECO")).thenReturn(Optional.of(recursoProxy));
-        when(kardexRepository.buscarUltimoPorAlmacenIdYRecursoId(almacenId, recursoId))
-            .thenReturn(Optional.empty());
-
-        RegistroKardex nuevoRegistroKardex = crearRegistroKardexEntrada(
-            almacenId,
-            recursoId,
-            cantidadRecibida,
-            precioUnitario
-        );
-
-        when(gestionKardexService.procesarEntrada(
-            eq(almacenId),
-            eq(recursoId),
-            eq(cantidadRecibida),
-            eq(precioUnitario),
-            any(UUID.class),
-            eq(BigDecimal.ZERO),
-            eq(BigDecimal.ZERO)
-        )).thenReturn(nuevoRegistroKardex);
+        when(almacenRepository.buscarPorIds(anyCollection())).thenReturn(List.of(almacen));
+        when(recursoProxyRepository.findByExternalIds(anyCollection(), eq("CAPECO"))).thenReturn(List.of(recursoProxy));
 
         // Act
         Recepcion recepcion = useCase.ejecutar(command);
@@ -334,6 +296,86 @@ class RecibirOrdenCompraUseCaseTest {
         ));
     }
 
+    @Test
+    @DisplayName("Debe precargar y escribir en bloque sin importar el número de líneas")
+    void debePrecargarYEscribirEnBloque() {
+        // Arrange: tres líneas, dos recursos (uno solo en CATALOGO_GLOBAL), un almacén
+        UUID recursoGlobalId = UUID.randomUUID();
+        CompraDetalleId detalle2Id = CompraDetalleId.from(UUID.randomUUID());
+        CompraDetalleId detalle3Id = CompraDetalleId.from(UUID.randomUUID());
+        BigDecimal precioUnitario = new BigDecimal("10.50");
+
+        Compra compra = Compra.reconstruir(
+            compraDomainId,
+            proyectoId,
+            fechaRecepcion,
+            "Proveedor Test",
+            EstadoCompra.ENVIADA,
+            new BigDecimal("3150.00"),
+            1L,
+            List.of(
+                crearCompraDetalle(detalleCompraDomainId, "MAT-001", new BigDecimal("100.00"), precioUnitario, BigDecimal.ZERO),
+                crearCompraDetalle(detalle2Id, "MAT-002", new BigDecimal("100.00"), precioUnitario, BigDecimal.ZERO),
+                crearCompraDetalle(detalle3Id, "MAT-001", new BigDecimal("100.00"), precioUnitario, BigDecimal.ZERO)
+            )
+        );
+
+        RecursoProxy recursoGlobal = RecursoProxy.reconstruir(
+            RecursoProxyId.of(recursoGlobalId),
+            "MAT-002",
+            "CATALOGO_GLOBAL",
+            "Arena gruesa",
+            com.budgetpro.domain.shared.model.TipoRecurso.MATERIAL,
+            "M3",
+            new BigDecimal("10.50"),
+            LocalDateTime.now(),
+            com.budgetpro.domain.catalogo.model.EstadoProxy.ACTIVO,
+            null,
+            1L
+        );
+
+        RecibirOrdenCompraCommand command = new RecibirOrdenCompraCommand(
+            compraId,
+            fechaRecepcion,
+            guiaRemision,
+            List.of(
+                new RecibirOrdenCompraCommand.DetalleCommand(detalleCompraId, new BigDecimal("100.00"), almacenId),
+                new RecibirOrdenCompraCommand.DetalleCommand(detalle2Id.getValue(), new BigDecimal("40.00"), almacenId),
+                new RecibirOrdenCompraCommand.DetalleCommand(detalle3Id.getValue(), new BigDecimal("60.00"), almacenId)
+            ),
+            usuarioId
+        );
+
+        when(compraRepository.findById(compraDomainId)).thenReturn(Optional.of(compra));
+        when(proyectoRepository.findById(proyectoDomainId)).thenReturn(Optional.of(crearProyectoActivo()));
+        when(recepcionRepository.existsByCompraIdAndGuiaRemision(compraDomainId, guiaRemision)).thenReturn(false);
+        when(almacenRepository.buscarPorIds(anyCollection())).thenReturn(List.of(crearAlmacenActivo()));
+        when(recursoProxyRepository.findByExternalIds(anyCollection(), eq("CAPECO")))
+            .thenReturn(List.of(crearRecursoProxy("MAT-001")));
+        when(recursoProxyRepository.findByExternalIds(argThat(ids -> ids.size() == 1 && ids.contains("MAT-002")),
+            eq("CATALOGO_GLOBAL"))).thenReturn(List.of(recursoGlobal));
+
+        // Act
+        Recepcion recepcion = useCase.ejecutar(command);
+
+        // Assert: una lectura por tipo y una escritura en bloque por tabla
+        assertEquals(3, recepcion.getDetalles().size());
+        verify(almacenRepository, times(1)).buscarPorIds(argThat(ids -> ids.size() == 1));
+        verify(almacenRepository, never()).buscarPorId(any());
+        verify(recursoProxyRepository, times(1)).findByExternalIds(
+            argThat(ids -> ids.size() == 2), eq("CAPECO"));
+        verify(recursoProxyRepository, never()).findByExternalId(anyString(), anyString());
+        verify(movimientoAlmacenRepository, times(1)).guardarTodos(argThat(m -> m.size() == 3));
+        verify(movimientoAlmacenRepository, never()).guardar(any());
+        verify(registradorKardexService, times(1)).registrarEntradas(argThat(entradas ->
+            entradas.size() == 3
+                && entradas.get(0).recursoId().equals(recursoId)
+                && entradas.get(1).recursoId().equals(recursoGlobalId)
+                && entradas.get(2).recursoId().equals(recursoId)));
+        verify(registradorKardexService, never()).registrarEntrada(any(), any(), any(), any(), any(), any());
+        verify(compraRepository).save(argThat(c -> c.getEstado() == EstadoCompra.PARCIAL));
+    }
+
     @Test
     @DisplayName("Debe lanzar ProjectNotActiveException si el proyecto no está ACTIVO")
     void debeLanzarExcepcionSiProyectoNoEstaActivo() {
@@ -546,14 +588,11 @@ class RecibirOrdenCompraUseCaseTest {
             usuarioId
         );
 
-        RecursoProxy recursoProxy = crearRecursoProxy("MAT-001");
-
         when(compraRepository.findById(compraDomainId)).thenReturn(Optional.of(compra));
         when(proyectoRepository.findById(proyectoDomainId)).thenReturn(Optional.of(proyecto));
         when(recepcionRepository.existsByCompraIdAndGuiaRemision(compraDomainId, guiaRemision))
             .thenReturn(false);
-        when(recursoProxyRepository.findByExternalId("MAT-001", "CAPECO")).thenReturn(Optional.of(recursoProxy));
-        when(almacenRepository.buscarPorId(almacenInexistenteId)).thenReturn(Optional.empty());
+        when(almacenRepository.buscarPorIds(anyCollection())).thenReturn(List.of());
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -566,6 +605,7 @@ class RecibirOrdenCompraUseCaseTest {
         // Verificar que no se persistió nada
         verify(recepcionRepository, never()).save(any());
         verify(compraRepository, never()).save(any());
+        verifyNoInteractions(recursoProxyRepository, movimientoAlmacenRepository, registradorKardexService);
     }
 
     @Test
@@ -586,14 +626,11 @@ class RecibirOrdenCompraUseCaseTest {
 
         RecibirOrdenCompraCommand command = crearCommandBasico();
 
-        RecursoProxy recursoProxy = crearRecursoProxy("MAT-001");
-
         when(compraRepository.findById(compraDomainId)).thenReturn(Optional.of(compra));
         when(proyectoRepository.findById(proyectoDomainId)).thenReturn(Optional.of(proyecto));
         when(recepcionRepository.existsByCompraIdAndGuiaRemision(compraDomainId, guiaRemision))
             .thenReturn(false);
-        when(recursoProxyRepository.findByExternalId("MAT-001", "CAPECO")).thenReturn(Optional.of(recursoProxy));
-        when(almacenRepository.buscarPorId(almacenDomainId)).thenReturn(Optional.of(almacenInactivo));
+        when(almacenRepository.buscarPorIds(anyCollection())).thenReturn(List.of(almacenInactivo));
 
         // Act & Assert
         IllegalStateException exception = assertThrows(
@@ -606,6 +643,7 @@ class RecibirOrdenCompraUseCaseTest {
         // Verificar que no se persistió nada
         verify(recepcionRepository, never()).save(any());
         verify(compraRepository, never()).save(any());
+        verifyNoInteractions(recursoProxyRepository, movimientoAlmacenRepository, registradorKardexService);
     }
 
     @Test
@@ -621,8 +659,9 @@ class RecibirOrdenCompraUseCaseTest {
         when(proyectoRepository.findById(proyectoDomainId)).thenReturn(Optional.of(proyecto));
         when(recepcionRepository.existsByCompraIdAndGuiaRemision(compraDomainId, guiaRemision))
             .thenReturn(false);
-        when(recursoProxyRepository.findByExternalId("MAT-001", "CAPECO")).thenReturn(Optional.empty());
-        when(recursoProxyRepository.findByExternalId("MAT-001", "CATALOGO_GLOBAL")).thenReturn(Optional.empty());
+        when(almacenRepository.buscarPorIds(anyCollection())).thenReturn(List.of(crearAlmacenActivo()));
+        when(recursoProxyRepository.findByExternalIds(anyCollection(), eq("CAPECO"))).thenReturn(List.of());
+        when(recursoProxyRepository.findByExternalIds(anyCollection(), eq("CATALOGO_GLOBAL"))).thenReturn(List.of());
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -736,6 +775,18 @@ class RecibirOrdenCompraUseCaseTest {
         );
     }
 
+    private Almacen crearAlmacenActivo() {
+        return Almacen.reconstruir(
+            almacenDomainId,
+            proyectoId,
+            "ALM-001",
+            "Almacén Principal",
+            "Lima",
+            usuarioId,
+            true
+        );
+    }
+
     private RecibirOrdenCompraCommand crearCommandBasico() {
         return new RecibirOrdenCompraCommand(
             compraId,
@@ -767,27 +818,4 @@ class RecibirOrdenCompraUseCaseTest {
             1L
         );
     }
-
-    private RegistroKardex crearRegistroKardexEntrada(
-            UUID almacenId,
-            UUID recursoId,
-            BigDecimal cantidad,
-            BigDecimal precioUnitario) {
-        BigDecimal importeTotal = cantidad.multiply(precioUnitario);
-        BigDecimal saldoCantidad = cantidad;
-        BigDecimal saldoValor = importeTotal;
-        BigDecimal cpp = saldoValor.divide(saldoCantidad, 4, RoundingMode.HALF_UP);
-
-        return RegistroKardex.crearEntrada(
-            almacenId,
-            recursoId,
-            UUID.randomUUID(),
-            cantidad,
-            precioUnitario,
-            importeTotal,
-            saldoCantidad,
-            saldoValor,
-            cpp
-        );
-    }
 }
@@ -0,0 +1,131 @@
+package com.budgetpro.application.cronograma.usecase;
+
+import com.budgetpro.application.cronograma.dto.ProgramarActividadCommand;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObraId;
+import com.budgetpro.domain.finanzas.cronograma.model.TipoDependencia;
+import com.budgetpro.domain.finanzas.cronograma.port.out.ActividadProgramadaRepository;
+import com.budgetpro.domain.finanzas.cronograma.port.out.CalendarioFeriadosPort;
+import com.budgetpro.domain.finanzas.cronograma.port.out.ProgramaObraRepository;
+import com.budgetpro.domain.finanzas.cronograma.port.out.TiemposActividadRepository;
+import com.budgetpro.domain.finanzas.cronograma.service.CalculoCronogramaService;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.port.out.ProyectoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramarActividadUseCaseImplTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 6, 2);
+
+    @Mock
+    private ProyectoRepository proyectoRepository;
+    @Mock
+    private PartidaRepository partidaRepository;
+    @Mock
+    private ProgramaObraRepository programaObraRepository;
+    @Mock
+    private ActividadProgramadaRepository actividadProgramadaRepository;
+    @Mock
+    private CalculoCronogramaService calculoCronogramaService;
+    @Mock
+    private TiemposActividadRepository tiemposActividadRepository;
+    @Mock
+    private CalendarioFeriadosPort calendarioFeriadosPort;
+
+    private ProgramarActividadUseCaseImpl useCase;
+    private UUID proyectoId;
+    private ProgramaObra programa;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ProgramarActividadUseCaseImpl(proyectoRepository, partidaRepository, programaObraRepository,
+                actividadProgramadaRepository, calculoCronogramaService, tiemposActividadRepository,
+                calendarioFeriadosPort);
+        proyectoId = UUID.randomUUID();
+        programa = ProgramaObra.crear(ProgramaObraId.nuevo(), proyectoId, INICIO, INICIO.plusDays(30));
+        when(proyectoRepository.findById(any())).thenReturn(Optional.of(mock(Proyecto.class)));
+        when(partidaRepository.findById(any(PartidaId.class))).thenReturn(Optional.of(mock(Partida.class)));
+        when(programaObraRepository.findByProyectoId(proyectoId)).thenReturn(Optional.of(programa));
+        when(calculoCronogramaService.recalcularRutaCritica(any(), anyList(), anyMap(), anyCollection(),
+                anyBoolean()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void programar_conservaElTipoYDesfaseDeLasPredecesorasQueSiguen() {
+        UUID inicioInicio = UUID.randomUUID();
+        UUID finFin = UUID.randomUUID();
+        UUID retirada = UUID.randomUUID();
+        UUID nueva = UUID.randomUUID();
+        ActividadProgramada actividad = ActividadProgramada.reconstruirConDependencias(ActividadProgramadaId.nuevo(),
+                UUID.randomUUID(), programa.getId().getValue(), INICIO, INICIO.plusDays(4), 5,
+                List.of(new Dependencia(inicioInicio, TipoDependencia.INICIO_INICIO, 2),
+                        new Dependencia(finFin, TipoDependencia.FIN_FIN, -1),
+                        Dependencia.finInicio(retirada)),
+                3L);
+        when(actividadProgramadaRepository.findByPartidaId(actividad.getPartidaId()))
+                .thenReturn(Optional.of(actividad));
+
+        useCase.programar(new ProgramarActividadCommand(proyectoId, actividad.getPartidaId(), INICIO,
+                INICIO.plusDays(6), List.of(finFin, inicioInicio, nueva)));
+
+        ArgumentCaptor<ActividadProgramada> guardada = ArgumentCaptor.forClass(ActividadProgramada.class);
+        verify(actividadProgramadaRepository).save(guardada.capture());
+        assertThat(guardada.getValue().getDependencias()).containsExactlyInAnyOrder(
+                new Dependencia(inicioInicio, TipoDependencia.INICIO_INICIO, 2),
+                new Dependencia(finFin, TipoDependencia.FIN_FIN, -1),
+                Dependencia.finInicio(nueva));
+    }
+
+    @Test
+    void programar_mismasPredecesoras_noCambiaLasDependencias() {
+        UUID predecesora = UUID.randomUUID();
+        Set<LocalDate> feriados = Set.of(INICIO.plusDays(3));
+        when(calendarioFeriadosPort.obtenerFeriados(proyectoId)).thenReturn(feriados);
+        Dependencia inicioInicio = new Dependencia(predecesora, TipoDependencia.INICIO_INICIO, 3);
+        ActividadProgramada actividad = ActividadProgramada.reconstruirConDependencias(ActividadProgramadaId.nuevo(),
+                UUID.randomUUID(), programa.getId().getValue(), INICIO, INICIO.plusDays(4), 5,
+                List.of(inicioInicio), 1L);
+        when(actividadProgramadaRepository.findByPartidaId(actividad.getPartidaId()))
+                .thenReturn(Optional.of(actividad));
+
+        useCase.programar(new ProgramarActividadCommand(proyectoId, actividad.getPartidaId(), INICIO,
+                INICIO.plusDays(5), List.of(predecesora)));
+
+        ArgumentCaptor<ActividadProgramada> guardada = ArgumentCaptor.forClass(ActividadProgramada.class);
+        verify(actividadProgramadaRepository).save(guardada.capture());
+        assertThat(guardada.getValue().getDependencias()).containsExactly(inicioInicio);
+        // Solo cambiaron fechas: la ruta crítica se recalcula de forma incremental, con los feriados
+        verify(calculoCronogramaService).recalcularRutaCritica(any(), anyList(), anyMap(), eq(feriados),
+                eq(false));
+    }
+}
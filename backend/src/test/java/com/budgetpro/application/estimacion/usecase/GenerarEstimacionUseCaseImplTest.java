@@ -0,0 +1,117 @@
+package com.budgetpro.application.estimacion.usecase;
+
+import com.budgetpro.application.estimacion.dto.EstimacionResponse;
+import com.budgetpro.application.estimacion.dto.GenerarEstimacionCommand;
+import com.budgetpro.domain.finanzas.anticipo.port.out.AnticipoMovimientoRepository;
+import com.budgetpro.domain.finanzas.estimacion.port.out.AcumuladoEstimacionRepository;
+import com.budgetpro.domain.finanzas.estimacion.port.out.EstimacionRepository;
+import com.budgetpro.domain.finanzas.estimacion.service.GeneradorEstimacionService;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.proyecto.port.out.ProyectoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenerarEstimacionUseCaseImplTest {
+
+    @Mock
+    private ProyectoRepository proyectoRepository;
+    @Mock
+    private PresupuestoRepository presupuestoRepository;
+    @Mock
+    private PartidaRepository partidaRepository;
+    @Mock
+    private EstimacionRepository estimacionRepository;
+    @Mock
+    private AnticipoMovimientoRepository anticipoMovimientoRepository;
+    @Mock
+    private AcumuladoEstimacionRepository acumuladoEstimacionRepository;
+
+    private GenerarEstimacionUseCaseImpl useCase;
+    private UUID proyectoId;
+    private Partida zapata;
+    private Partida viga;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GenerarEstimacionUseCaseImpl(proyectoRepository, presupuestoRepository, partidaRepository,
+                estimacionRepository, new GeneradorEstimacionService(), anticipoMovimientoRepository,
+                acumuladoEstimacionRepository);
+        ProyectoId id = ProyectoId.nuevo();
+        proyectoId = id.getValue();
+        UUID presupuestoId = UUID.randomUUID();
+        when(proyectoRepository.findById(id)).thenReturn(Optional.of(Proyecto.crear(id, "Proyecto", "Lima")));
+        when(presupuestoRepository.findByProyectoId(proyectoId)).thenReturn(
+                Optional.of(Presupuesto.crear(PresupuestoId.from(presupuestoId), proyectoId, "Base")));
+        when(estimacionRepository.obtenerSiguienteNumeroEstimacion(proyectoId)).thenReturn(40);
+        zapata = Partida.crearRaiz(PartidaId.nuevo(), presupuestoId, "01", "Zapata", "m3", new BigDecimal("100"));
+        viga = Partida.crearRaiz(PartidaId.nuevo(), presupuestoId, "02", "Viga", "m3", new BigDecimal("50"));
+        when(partidaRepository.findAllById(any())).thenReturn(List.of(zapata, viga));
+    }
+
+    @Test
+    @DisplayName("Toma el acumulado anterior del acumulado por partida, sin leer estimaciones previas")
+    void usaAcumuladoPorPartida() {
+        when(acumuladoEstimacionRepository.obtenerAcumulados(eq(proyectoId), any()))
+                .thenReturn(Map.of(zapata.getId().getValue(), new BigDecimal("60")));
+
+        EstimacionResponse response = useCase.generar(comando(new BigDecimal("30"), new BigDecimal("10")));
+
+        assertEquals(0, new BigDecimal("60").compareTo(acumuladoDe(response, zapata)));
+        assertEquals(0, BigDecimal.ZERO.compareTo(acumuladoDe(response, viga)));
+        verify(partidaRepository, times(1)).findAllById(any());
+        verify(partidaRepository, never()).findById(any(PartidaId.class));
+        verify(estimacionRepository, never()).findAprobadasByProyectoId(any());
+    }
+
+    @Test
+    @DisplayName("Rechaza un avance que con el acumulado supera el volumen contratado")
+    void rechazaExcesoSobreAcumulado() {
+        when(acumuladoEstimacionRepository.obtenerAcumulados(eq(proyectoId), any()))
+                .thenReturn(Map.of(zapata.getId().getValue(), new BigDecimal("80")));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.generar(comando(new BigDecimal("30"), new BigDecimal("10"))));
+        verify(estimacionRepository, never()).save(any());
+    }
+
+    private GenerarEstimacionCommand comando(BigDecimal avanceZapata, BigDecimal avanceViga) {
+        return new GenerarEstimacionCommand(proyectoId, LocalDate.of(2026, 3, 31), LocalDate.of(2026, 3, 1),
+                LocalDate.of(2026, 3, 31), List.of(
+                        new GenerarEstimacionCommand.DetalleEstimacionItem(zapata.getId().getValue(), avanceZapata,
+                                new BigDecimal("250")),
+                        new GenerarEstimacionCommand.DetalleEstimacionItem(viga.getId().getValue(), avanceViga,
+                                new BigDecimal("300"))),
+                "https://evidencias/est-40.pdf", null, null);
+    }
+
+    private static BigDecimal acumuladoDe(EstimacionResponse response, Partida partida) {
+        return response.detalles().stream()
+                .filter(detalle -> detalle.partidaId().equals(partida.getId().getValue()))
+                .findFirst()
+                .orElseThrow()
+                .acumuladoAnterior();
+    }
+}
@@ -128,7 +128,7 @@ class ExplotarInsumosPresupuestoUseCaseImplTest {
         void deberiaExplotarInsumosConNormalizacionDeUnidades() {
                 // Given
                 when(presupuestoRepository.findById(any(PresupuestoId.class))).thenReturn(Optional.of(presupuesto));
-                when(partidaRepository.findByPresupuestoId(presupuestoId)).thenReturn(List.of(partida1, partida2));
+                when(partidaRepository.findHojasByPresupuestoId(presupuestoId)).thenReturn(List.of(partida1, partida2));
                 when(apuSnapshotRepository.findByPartidaId(partidaId1)).thenReturn(Optional.of(apu1));
                 when(apuSnapshotRepository.findByPartidaId(partidaId2)).thenReturn(Optional.of(apu2));
 
@@ -183,7 +183,7 @@ class ExplotarInsumosPresupuestoUseCaseImplTest {
                 apuIncompatible = apuIncompatible.agregarInsumo(insumoIncompatible);
 
                 when(presupuestoRepository.findById(any(PresupuestoId.class))).thenReturn(Optional.of(presupuesto));
-                when(partidaRepository.findByPresupuestoId(presupuestoId)).thenReturn(List.of(partida1, partida2));
+                when(partidaRepository.findHojasByPresupuestoId(presupuestoId)).thenReturn(List.of(partida1, partida2));
                 when(apuSnapshotRepository.findByPartidaId(partidaId1)).thenReturn(Optional.of(apu1));
                 when(apuSnapshotRepository.findByPartidaId(partidaId2)).thenReturn(Optional.of(apuIncompatible));
 
@@ -196,7 +196,7 @@ class ExplotarInsumosPresupuestoUseCaseImplTest {
         void deberiaIgnorarPartidasSinAPU() {
                 // Given
                 when(presupuestoRepository.findById(any(PresupuestoId.class))).thenReturn(Optional.of(presupuesto));
-                when(partidaRepository.findByPresupuestoId(presupuestoId)).thenReturn(List.of(partida1, partida2));
+                when(partidaRepository.findHojasByPresupuestoId(presupuestoId)).thenReturn(List.of(partida1, partida2));
                 when(apuSnapshotRepository.findByPartidaId(partidaId1)).thenReturn(Optional.of(apu1));
                 when(apuSnapshotRepository.findByPartidaId(partidaId2)).thenReturn(Optional.empty());
 
@@ -225,7 +225,7 @@ class ExplotarInsumosPresupuestoUseCaseImplTest {
         void deberiaRetornarVacioSiNoHayPartidas() {
                 // Given
                 when(presupuestoRepository.findById(any(PresupuestoId.class))).thenReturn(Optional.of(presupuesto));
-                when(partidaRepository.findByPresupuestoId(presupuestoId)).thenReturn(List.of());
+                when(partidaRepository.findHojasByPresupuestoId(presupuestoId)).thenReturn(List.of());
 
                 // When
                 ExplosionInsumosResponse resultado = useCase.ejecutar(presupuestoId);
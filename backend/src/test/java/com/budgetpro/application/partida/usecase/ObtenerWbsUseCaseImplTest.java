@@ -0,0 +1,94 @@
+package com.budgetpro.application.partida.usecase;
+
+import com.budgetpro.application.partida.dto.WbsNivelResponse;
+import com.budgetpro.application.partida.dto.WbsNodeResponse;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.infrastructure.adapter.partida.WbsCacheAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObtenerWbsUseCaseImplTest {
+
+    @Mock
+    private PartidaRepository partidaRepository;
+
+    private ObtenerWbsUseCaseImpl useCase;
+    private UUID presupuestoId;
+    private Partida raiz;
+    private Partida hijaA;
+    private Partida hijaB;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ObtenerWbsUseCaseImpl(partidaRepository, new WbsCacheAdapter(10, 30));
+        presupuestoId = UUID.randomUUID();
+        raiz = crearPartida(null, "01", 1);
+        hijaB = crearPartida(raiz.getId().getValue(), "01.02", 2);
+        hijaA = crearPartida(raiz.getId().getValue(), "01.01", 2);
+        when(partidaRepository.findByPresupuestoId(presupuestoId)).thenReturn(List.of(hijaB, raiz, hijaA));
+    }
+
+    @Test
+    @DisplayName("Reutiliza el árbol construido mientras la versión de partidas no cambia")
+    void reutilizaArbolConMismaVersion() {
+        List<WbsNodeResponse> primero = useCase.obtenerWbsPorPresupuesto(presupuestoId, "3-0-100");
+        List<WbsNodeResponse> segundo = useCase.obtenerWbsPorPresupuesto(presupuestoId, "3-0-100");
+
+        assertSame(primero, segundo);
+        verify(partidaRepository, times(1)).findByPresupuestoId(presupuestoId);
+        // La versión la aporta el llamador (la misma del ETag): no se vuelve a agregar
+        verify(partidaRepository, never()).calcularVersionWbs(any());
+        assertEquals(1, primero.size());
+        assertEquals(List.of("01.01", "01.02"),
+                primero.get(0).children().stream().map(n -> n.partida().item()).toList());
+    }
+
+    @Test
+    @DisplayName("Reconstruye el árbol cuando cambia la versión de partidas")
+    void reconstruyeConNuevaVersion() {
+        useCase.obtenerWbsPorPresupuesto(presupuestoId, "3-0-100");
+        useCase.obtenerWbsPorPresupuesto(presupuestoId, "3-1-200");
+
+        verify(partidaRepository, times(2)).findByPresupuestoId(presupuestoId);
+    }
+
+    @Test
+    @DisplayName("El modo por nivel devuelve solo las hijas directas con su cantidad de hijas")
+    void devuelveUnNivel() {
+        List<WbsNivelResponse> raices = useCase.obtenerNivelWbs(presupuestoId, null, "3-0-100");
+        List<WbsNivelResponse> hijas = useCase.obtenerNivelWbs(presupuestoId, raiz.getId().getValue(), "3-0-100");
+
+        assertEquals(1, raices.size());
+        assertEquals(2, raices.get(0).cantidadHijos());
+        assertEquals(List.of("01.01", "01.02"), hijas.stream().map(n -> n.partida().item()).toList());
+        assertTrue(hijas.stream().allMatch(n -> n.cantidadHijos() == 0));
+        verify(partidaRepository, times(1)).findByPresupuestoId(presupuestoId);
+    }
+
+    @Test
+    @DisplayName("Rechaza un padre que no pertenece al presupuesto")
+    void rechazaPadreAjeno() {
+        UUID ajeno = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.obtenerNivelWbs(presupuestoId, ajeno, "3-0-100"));
+    }
+
+    private Partida crearPartida(UUID padreId, String item, int nivel) {
+        return Partida.reconstruir(PartidaId.nuevo(), presupuestoId, null, padreId, item, "Partida " + item,
+                "m3", BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, nivel, 0L);
+    }
+}
@@ -0,0 +1,150 @@
+package com.budgetpro.application.presupuesto.service;
+
+import com.budgetpro.domain.catalogo.model.APUSnapshot;
+import com.budgetpro.domain.catalogo.model.RecursoProxy;
+import com.budgetpro.domain.catalogo.model.RecursoProxyId;
+import com.budgetpro.domain.catalogo.port.RecursoProxyRepository;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoImportacion;
+import com.budgetpro.domain.finanzas.presupuesto.model.ImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CargaMasivaPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.ImportacionPresupuestoRepository;
+import com.budgetpro.domain.shared.model.TipoRecurso;
+import com.budgetpro.infrastructure.adapter.presupuesto.LectorCsvPresupuestoAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcesadorImportacionPresupuestoTest {
+
+    private static final String CABECERA = "tipo;item;descripcion;unidad;metrado;rendimiento;recurso;cantidad;precio\n";
+
+    @Mock
+    private CargaMasivaPresupuestoRepository cargaMasivaRepository;
+    @Mock
+    private ImportacionPresupuestoRepository importacionRepository;
+    @Mock
+    private RecursoProxyRepository recursoProxyRepository;
+
+    @TempDir
+    Path directorio;
+
+    private ProcesadorImportacionPresupuesto procesador;
+    private UUID presupuestoId;
+
+    @BeforeEach
+    void setUp() {
+        procesador = new ProcesadorImportacionPresupuesto(List.of(new LectorCsvPresupuestoAdapter()),
+                cargaMasivaRepository, importacionRepository, recursoProxyRepository, 2);
+        presupuestoId = UUID.randomUUID();
+
+        Map<String, RecursoProxy> catalogo = Map.of(
+                "MAT-001", recurso("MAT-001", "Cemento", "25.00"),
+                "MO-001", recurso("MO-001", "Operario", "30.00"));
+        lenient().when(recursoProxyRepository.findByExternalIds(anyCollection(), eq("CAPECO")))
+                .thenAnswer(inv -> ((Collection<String>) inv.getArgument(0)).stream()
+                        .filter(catalogo::containsKey).map(catalogo::get).toList());
+        lenient().when(recursoProxyRepository.findByExternalIds(anyCollection(), eq("CATALOGO_GLOBAL")))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Escribe por lotes sin partir APUs, resuelve recursos una vez y completa la importación")
+    void importaPorLotes() throws IOException {
+        Path archivo = csv(CABECERA
+                + "PARTIDA;01;Estructuras;;;;;;\n"
+                + "PARTIDA;01.01;Concreto;m3;10;;;;\n"
+                + "INSUMO;;;;;;MAT-001;9,5;\n"
+                + "INSUMO;;;;;;MO-001;0.8;32.00\n"
+                + "PARTIDA;01.02;Encofrado;m2;20;;;;\n"
+                + "INSUMO;;;;;;MO-001;0.5;\n"
+                + "PARTIDA;02;Acabados;;;;;;\n"
+                + "PARTIDA;02.01;Tarrajeo;m2;50;2;;;\n"
+                + "INSUMO;;;;;;MAT-001;0.2;\n");
+
+        ImportacionPresupuesto resultado = procesador.procesar(nueva("presupuesto.csv"), archivo);
+
+        assertEquals(EstadoImportacion.COMPLETADO, resultado.getEstado(), String.valueOf(resultado.getErrores()));
+        assertEquals(5, resultado.getPartidasImportadas());
+        assertEquals(4, resultado.getInsumosImportados());
+
+        ArgumentCaptor<List<Partida>> partidas = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<APUSnapshot>> apus = ArgumentCaptor.forClass(List.class);
+        verify(cargaMasivaRepository, times(3)).insertarLote(eq(presupuestoId), partidas.capture(), apus.capture());
+        assertEquals(List.of(2, 2, 1), partidas.getAllValues().stream().map(List::size).toList());
+
+        APUSnapshot concreto = apus.getAllValues().get(0).get(0);
+        assertEquals("01.01", concreto.getExternalApuId());
+        assertEquals(2, concreto.getInsumos().size());
+        assertEquals(0, new BigDecimal("25.00").compareTo(concreto.getInsumos().get(0).getPrecioUnitario()));
+        assertEquals(0, new BigDecimal("32.00").compareTo(concreto.getInsumos().get(1).getPrecioUnitario()));
+
+        Partida hija = partidas.getAllValues().get(0).get(1);
+        assertEquals(partidas.getAllValues().get(0).get(0).getId().getValue(), hija.getPadreId());
+        assertEquals(2, hija.getNivel());
+
+        // MAT-001 y MO-001 se resuelven en el primer lote y se reutilizan en los siguientes
+        verify(recursoProxyRepository, times(1)).findByExternalIds(anyCollection(), eq("CAPECO"));
+        verify(cargaMasivaRepository, never()).eliminarPartidas(any());
+    }
+
+    @Test
+    @DisplayName("Con errores deja de escribir, reporta cada fila y revierte lo ya escrito")
+    void erroresRevierten() throws IOException {
+        Path archivo = csv(CABECERA
+                + "PARTIDA;01;Estructuras;;;;;;\n"
+                + "PARTIDA;01.01;Concreto;m3;10;;;;\n"
+                + "INSUMO;;;;;;MAT-001;1;\n"
+                + "PARTIDA;01.02;Encofrado;m2;20;;;;\n"
+                + "INSUMO;;;;;;NO-EXISTE;1;\n"
+                + "PARTIDA;03.01;Huérfana;m2;1;;;;\n"
+                + "INSUMO;;;;;;MAT-001;abc;\n");
+
+        ImportacionPresupuesto resultado = procesador.procesar(nueva("presupuesto.csv"), archivo);
+
+        assertEquals(EstadoImportacion.FALLIDO, resultado.getEstado());
+        assertEquals(0, resultado.getPartidasImportadas());
+        assertEquals(3, resultado.getErrores().size(), String.valueOf(resultado.getErrores()));
+        assertTrue(resultado.getErrores().get(0).contains("no aparece antes"));
+        assertTrue(resultado.getErrores().get(1).startsWith("Fila 8:"));
+        assertTrue(resultado.getErrores().get(2).contains("NO-EXISTE"));
+        verify(cargaMasivaRepository, times(1)).insertarLote(eq(presupuestoId), anyList(), anyList());
+        verify(cargaMasivaRepository).eliminarPartidas(presupuestoId);
+    }
+
+    private ImportacionPresupuesto nueva(String nombreArchivo) {
+        return ImportacionPresupuesto.crear(presupuestoId, nombreArchivo, LocalDateTime.now());
+    }
+
+    private Path csv(String contenido) throws IOException {
+        Path archivo = directorio.resolve("presupuesto.csv");
+        Files.writeString(archivo, contenido, StandardCharsets.UTF_8);
+        return archivo;
+    }
+
+    private static RecursoProxy recurso(String externalId, String nombre, String precio) {
+        return RecursoProxy.crear(RecursoProxyId.generate(), externalId, "CAPECO", nombre, TipoRecurso.MATERIAL,
+                "UND", new BigDecimal(precio), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,94 @@
+package com.budgetpro.application.presupuesto.usecase;
+
+import com.budgetpro.application.presupuesto.dto.ImportacionPresupuestoResponse;
+import com.budgetpro.application.presupuesto.service.ProcesadorImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoImportacion;
+import com.budgetpro.domain.finanzas.presupuesto.model.ImportacionPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CargaMasivaPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.ImportacionPresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportarPresupuestoUseCaseImplTest {
+
+    @Mock
+    private PresupuestoRepository presupuestoRepository;
+    @Mock
+    private ImportacionPresupuestoRepository importacionRepository;
+    @Mock
+    private CargaMasivaPresupuestoRepository cargaMasivaRepository;
+    @Mock
+    private ProcesadorImportacionPresupuesto procesador;
+    @Mock
+    private TaskExecutor taskExecutor;
+
+    private ImportarPresupuestoUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ImportarPresupuestoUseCaseImpl(presupuestoRepository, importacionRepository,
+                cargaMasivaRepository, procesador, taskExecutor);
+    }
+
+    @Test
+    void iniciar_executorRechazaLaTarea_marcaLaImportacionFallida() {
+        UUID presupuestoId = UUID.randomUUID();
+        when(presupuestoRepository.findById(PresupuestoId.from(presupuestoId))).thenReturn(Optional.of(
+                Presupuesto.crear(PresupuestoId.from(presupuestoId), UUID.randomUUID(), "Presupuesto")));
+        doThrow(new TaskRejectedException("cola llena")).when(taskExecutor).execute(any(Runnable.class));
+
+        ImportacionPresupuestoResponse response = useCase.iniciar(presupuestoId, "partidas.csv",
+                new ByteArrayInputStream("tipo;item\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.estado()).isEqualTo(EstadoImportacion.FALLIDO);
+        assertThat(response.errores()).singleElement().asString().contains("cola llena");
+        ArgumentCaptor<ImportacionPresupuesto> guardadas = ArgumentCaptor.forClass(ImportacionPresupuesto.class);
+        verify(importacionRepository, times(2)).guardar(guardadas.capture());
+        assertThat(guardadas.getAllValues().get(1).getEstado()).isEqualTo(EstadoImportacion.FALLIDO);
+        verify(procesador, never()).procesar(any(), any());
+    }
+
+    @Test
+    void fallarInterrumpidas_revierteLasPartidasYMarcaFallido() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(30);
+        ImportacionPresupuesto interrumpida = ImportacionPresupuesto
+                .crear(UUID.randomUUID(), "partidas.xlsx", limite.minusHours(1))
+                .conProgreso(1200, 40, 300);
+        when(importacionRepository.buscarActivasSinAvanceDesde(limite)).thenReturn(List.of(interrumpida));
+
+        int fallidas = useCase.fallarInterrumpidas(limite);
+
+        assertThat(fallidas).isEqualTo(1);
+        verify(cargaMasivaRepository).eliminarPartidas(interrumpida.getPresupuestoId());
+        ArgumentCaptor<ImportacionPresupuesto> guardada = ArgumentCaptor.forClass(ImportacionPresupuesto.class);
+        verify(importacionRepository).guardar(guardada.capture());
+        assertThat(guardada.getValue().getEstado()).isEqualTo(EstadoImportacion.FALLIDO);
+        assertThat(guardada.getValue().getFilasProcesadas()).isEqualTo(1200);
+        assertThat(guardada.getValue().getPartidasImportadas()).isZero();
+    }
+}
@@ -0,0 +1,241 @@
+package com.budgetpro.application.reajuste.usecase;
+
+import com.budgetpro.application.reajuste.dto.EstimacionReajusteResponse;
+import com.budgetpro.application.reajuste.usecase.CalcularReajusteUseCaseImpl.ConsultaMontoPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.finanzas.reajuste.model.DetalleReajustePartida;
+import com.budgetpro.domain.finanzas.reajuste.model.DetalleReajustePartidaId;
+import com.budgetpro.domain.finanzas.reajuste.model.EstadoEstimacionReajuste;
+import com.budgetpro.domain.finanzas.reajuste.model.EstimacionReajuste;
+import com.budgetpro.domain.finanzas.reajuste.model.EstimacionReajusteId;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomicaId;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePreciosId;
+import com.budgetpro.domain.finanzas.reajuste.model.Monomio;
+import com.budgetpro.domain.finanzas.reajuste.model.TipoIndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.port.out.EstimacionReajusteRepository;
+import com.budgetpro.domain.finanzas.reajuste.port.out.FormulaPolinomicaRepository;
+import com.budgetpro.domain.finanzas.reajuste.port.out.IndicePreciosRepository;
+import com.budgetpro.domain.finanzas.reajuste.service.CalculadorReajusteService;
+import com.budgetpro.domain.finanzas.reajuste.service.MotorReajustePolinomico;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalcularReajusteUseCaseImplTest {
+
+    private static final YearMonth BASE = YearMonth.of(2025, 1);
+    private static final YearMonth MARZO = YearMonth.of(2025, 3);
+    private static final LocalDate CORTE = MARZO.atDay(31);
+
+    @Mock
+    private EstimacionReajusteRepository estimacionRepository;
+    @Mock
+    private IndicePreciosRepository indiceRepository;
+    @Mock
+    private PresupuestoRepository presupuestoRepository;
+    @Mock
+    private ConsultaMontoPresupuesto consultaMontoPresupuesto;
+    @Mock
+    private FormulaPolinomicaRepository formulaRepository;
+
+    private CalcularReajusteUseCaseImpl useCase;
+    private UUID proyectoId;
+    private UUID presupuestoId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CalcularReajusteUseCaseImpl(new CalculadorReajusteService(), estimacionRepository,
+                indiceRepository, presupuestoRepository, consultaMontoPresupuesto, formulaRepository,
+                new MotorReajustePolinomico());
+        proyectoId = UUID.randomUUID();
+        presupuestoId = UUID.randomUUID();
+    }
+
+    @Test
+    void calcularPolinomico_reajustaCadaPartidaYGuardaLaEstimacion() {
+        UUID partidaA = UUID.randomUUID();
+        UUID partidaB = UUID.randomUUID();
+        when(presupuestoRepository.findById(PresupuestoId.from(presupuestoId))).thenReturn(Optional.of(
+                Presupuesto.crear(PresupuestoId.from(presupuestoId), proyectoId, "Presupuesto")));
+        when(formulaRepository.buscarPorPresupuestoId(presupuestoId)).thenReturn(List.of(formula()));
+        when(indiceRepository.buscarSeries(anyCollection(), eq(BASE.atDay(1)), eq(MARZO.atEndOfMonth())))
+                .thenReturn(List.of(definitivo("MO", BASE, "100"), definitivo("C", BASE, "200"),
+                        definitivo("MO", MARZO, "110"), provisional("C", MARZO, "210")));
+        when(consultaMontoPresupuesto.obtenerDetallesPartidas(presupuestoId)).thenReturn(List.of(
+                new ConsultaMontoPresupuesto.DetallePartidaMonto(partidaA, new BigDecimal("1000.00")),
+                new ConsultaMontoPresupuesto.DetallePartidaMonto(partidaB, new BigDecimal("500.00"))));
+        when(estimacionRepository.obtenerSiguienteNumeroEstimacion(proyectoId)).thenReturn(3);
+
+        EstimacionReajusteResponse response = useCase.calcularPolinomico(proyectoId, presupuestoId, CORTE);
+
+        // K = 0.40 × 110/100 + 0.60 × 210/200 = 1.070
+        assertThat(response.numeroEstimacion()).isEqualTo(3);
+        assertThat(response.estado()).isEqualTo(EstadoEstimacionReajuste.BORRADOR.name());
+        assertThat(response.indicesDefinitivos()).isFalse();
+        assertThat(response.montoBase()).isEqualByComparingTo("1500");
+        assertThat(response.montoReajustado()).isEqualByComparingTo("1605");
+        assertThat(response.detalles()).extracting(EstimacionReajusteResponse.DetalleReajustePartidaResponse::montoReajustado)
+                .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactly(new BigDecimal("1070"), new BigDecimal("535"));
+
+        ArgumentCaptor<EstimacionReajuste> guardada = ArgumentCaptor.forClass(EstimacionReajuste.class);
+        verify(estimacionRepository).guardar(guardada.capture());
+        assertThat(guardada.getValue().esPolinomica()).isTrue();
+        assertThat(guardada.getValue().getIndiceBaseFecha()).isEqualTo(BASE.atDay(1));
+    }
+
+    @Test
+    void calcularPolinomico_presupuestoSinFormula_lanzaExcepcion() {
+        when(presupuestoRepository.findById(PresupuestoId.from(presupuestoId))).thenReturn(Optional.of(
+                Presupuesto.crear(PresupuestoId.from(presupuestoId), proyectoId, "Presupuesto")));
+        when(formulaRepository.buscarPorPresupuestoId(presupuestoId)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> useCase.calcularPolinomico(proyectoId, presupuestoId, CORTE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no tiene fórmula polinómica");
+        verifyNoInteractions(indiceRepository);
+        verify(estimacionRepository, never()).guardar(any());
+    }
+
+    @Test
+    void recalcularConIndicesDefinitivos_reescribeLosBorradoresYComplementaLasAprobadas() {
+        DetalleReajustePartida detalle = DetalleReajustePartida.crear(DetalleReajustePartidaId.generate(),
+                UUID.randomUUID(), new BigDecimal("1000.0000"), new BigDecimal("1065.0000"),
+                new BigDecimal("65.0000"));
+        EstimacionReajuste borrador = provisional(1, detalle);
+        EstimacionReajuste aprobada = provisional(2, detalle).aprobar();
+        EstimacionReajuste definitiva = EstimacionReajuste.crearPolinomica(EstimacionReajusteId.generate(),
+                proyectoId, presupuestoId, 3, CORTE, BASE.atDay(1)).aplicarReajustePolinomico(List.of(detalle), true);
+        when(estimacionRepository.buscarPorPresupuestoId(presupuestoId))
+                .thenReturn(List.of(borrador, aprobada, definitiva));
+        when(estimacionRepository.obtenerSiguienteNumeroEstimacion(proyectoId)).thenReturn(4);
+        when(formulaRepository.buscarPorPresupuestoId(presupuestoId)).thenReturn(List.of(formula()));
+        when(indiceRepository.buscarSeries(anyCollection(), eq(BASE.atDay(1)), eq(MARZO.atEndOfMonth())))
+                .thenReturn(List.of(definitivo("MO", BASE, "100"), definitivo("C", BASE, "200"),
+                        definitivo("MO", MARZO, "110"), definitivo("C", MARZO, "214")));
+
+        List<EstimacionReajusteResponse> recalculadas = useCase.recalcularConIndicesDefinitivos(presupuestoId);
+
+        // K = 0.40 × 110/100 + 0.60 × 214/200 = 1.082
+        assertThat(recalculadas).hasSize(2);
+        assertThat(recalculadas.get(0)).satisfies(response -> {
+            assertThat(response.id()).isEqualTo(borrador.getId().getValue());
+            assertThat(response.indicesDefinitivos()).isTrue();
+            assertThat(response.montoReajustado()).isEqualByComparingTo("1082");
+        });
+        ArgumentCaptor<EstimacionReajuste> guardadas = ArgumentCaptor.forClass(EstimacionReajuste.class);
+        verify(estimacionRepository, times(2)).guardar(guardadas.capture());
+        // Se conserva el id del detalle para actualizarlo en sitio
+        assertThat(guardadas.getAllValues().get(0).getDetalles()).singleElement().satisfies(recalculado -> {
+            assertThat(recalculado.getId()).isEqualTo(detalle.getId());
+            assertThat(recalculado.getMontoReajustado()).isEqualByComparingTo("1082");
+            assertThat(recalculado.getDiferencial()).isEqualByComparingTo("82");
+        });
+        // La aprobada no se reescribe: la diferencia va en una complementaria vinculada
+        EstimacionReajuste complementaria = guardadas.getAllValues().get(1);
+        assertThat(complementaria.getId()).isNotEqualTo(aprobada.getId());
+        assertThat(complementaria.getEstimacionOrigenId()).isEqualTo(aprobada.getId());
+        assertThat(complementaria.getNumeroEstimacion()).isEqualTo(4);
+        assertThat(complementaria.getEstado()).isEqualTo(EstadoEstimacionReajuste.BORRADOR);
+        assertThat(complementaria.isIndicesDefinitivos()).isTrue();
+        assertThat(complementaria.getDetalles()).singleElement().satisfies(diferencia -> {
+            assertThat(diferencia.getPartidaId()).isEqualTo(detalle.getPartidaId());
+            assertThat(diferencia.getMontoBase()).isEqualByComparingTo("1065");
+            assertThat(diferencia.getMontoReajustado()).isEqualByComparingTo("1082");
+            assertThat(diferencia.getDiferencial()).isEqualByComparingTo("17");
+        });
+        assertThat(recalculadas.get(1).estimacionOrigenId()).isEqualTo(aprobada.getId().getValue());
+    }
+
+    @Test
+    void recalcularConIndicesDefinitivos_aprobadaConIndicesAunProvisionales_noGeneraComplementaria() {
+        DetalleReajustePartida detalle = DetalleReajustePartida.crear(DetalleReajustePartidaId.generate(),
+                UUID.randomUUID(), new BigDecimal("1000.0000"), new BigDecimal("1065.0000"),
+                new BigDecimal("65.0000"));
+        when(estimacionRepository.buscarPorPresupuestoId(presupuestoId))
+                .thenReturn(List.of(provisional(1, detalle).aprobar()));
+        when(formulaRepository.buscarPorPresupuestoId(presupuestoId)).thenReturn(List.of(formula()));
+        when(indiceRepository.buscarSeries(anyCollection(), eq(BASE.atDay(1)), eq(MARZO.atEndOfMonth())))
+                .thenReturn(List.of(definitivo("MO", BASE, "100"), definitivo("C", BASE, "200"),
+                        definitivo("MO", MARZO, "110"), provisional("C", MARZO, "212")));
+
+        assertThat(useCase.recalcularConIndicesDefinitivos(presupuestoId)).isEmpty();
+        verify(estimacionRepository, never()).guardar(any());
+        verify(estimacionRepository, never()).obtenerSiguienteNumeroEstimacion(any());
+    }
+
+    @Test
+    void recalcularConIndicesDefinitivos_aplicadaYaComplementada_noConsultaIndices() {
+        DetalleReajustePartida detalle = DetalleReajustePartida.crear(DetalleReajustePartidaId.generate(),
+                UUID.randomUUID(), new BigDecimal("1000.0000"), new BigDecimal("1065.0000"),
+                new BigDecimal("65.0000"));
+        EstimacionReajuste aplicada = provisional(1, detalle).aprobar().aplicar();
+        EstimacionReajuste complementaria = aplicada.complementar(EstimacionReajusteId.generate(), 2,
+                List.of(new BigDecimal("1082")));
+        when(estimacionRepository.buscarPorPresupuestoId(presupuestoId)).thenReturn(List.of(aplicada, complementaria));
+
+        assertThat(useCase.recalcularConIndicesDefinitivos(presupuestoId)).isEmpty();
+        verifyNoInteractions(formulaRepository, indiceRepository);
+        verify(estimacionRepository, never()).guardar(any());
+    }
+
+    @Test
+    void complementar_borrador_lanzaExcepcion() {
+        DetalleReajustePartida detalle = DetalleReajustePartida.crear(DetalleReajustePartidaId.generate(),
+                UUID.randomUUID(), new BigDecimal("1000.0000"), new BigDecimal("1065.0000"),
+                new BigDecimal("65.0000"));
+
+        assertThatThrownBy(() -> provisional(1, detalle).complementar(EstimacionReajusteId.generate(), 2,
+                List.of(new BigDecimal("1082"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("APROBADA o APLICADA");
+    }
+
+    private EstimacionReajuste provisional(int numero, DetalleReajustePartida detalle) {
+        return EstimacionReajuste.crearPolinomica(EstimacionReajusteId.generate(), proyectoId, presupuestoId, numero,
+                CORTE, BASE.atDay(1)).aplicarReajustePolinomico(List.of(detalle), false);
+    }
+
+    private FormulaPolinomica formula() {
+        return FormulaPolinomica.crear(FormulaPolinomicaId.generate(), presupuestoId, 1, BASE.atDay(1),
+                List.of(Monomio.simple(new BigDecimal("0.40"), "MO"), Monomio.simple(new BigDecimal("0.60"), "C")),
+                Set.of());
+    }
+
+    private static IndicePrecios definitivo(String codigo, YearMonth mes, String valor) {
+        return IndicePrecios.crear(IndicePreciosId.generate(), codigo, codigo, TipoIndicePrecios.CUSTOM,
+                mes.atDay(1), new BigDecimal(valor));
+    }
+
+    private static IndicePrecios provisional(String codigo, YearMonth mes, String valor) {
+        return IndicePrecios.crearProvisional(IndicePreciosId.generate(), codigo, codigo, TipoIndicePrecios.CUSTOM,
+                mes.atDay(1), new BigDecimal(valor));
+    }
+}
@@ -0,0 +1,149 @@
+package com.budgetpro.application.reajuste.usecase;
+
+import com.budgetpro.application.reajuste.dto.DefinirFormulasPolinomicasCommand;
+import com.budgetpro.application.reajuste.dto.DefinirFormulasPolinomicasCommand.FormulaItem;
+import com.budgetpro.application.reajuste.dto.DefinirFormulasPolinomicasCommand.MonomioItem;
+import com.budgetpro.application.reajuste.dto.DefinirFormulasPolinomicasCommand.TerminoItem;
+import com.budgetpro.application.reajuste.dto.IndicePreciosResponse;
+import com.budgetpro.application.reajuste.dto.RegistrarIndicePreciosCommand;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePreciosId;
+import com.budgetpro.domain.finanzas.reajuste.model.TipoIndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.port.out.FormulaPolinomicaRepository;
+import com.budgetpro.domain.finanzas.reajuste.port.out.IndicePreciosRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigurarReajustePolinomicoUseCaseImplTest {
+
+    private static final LocalDate MARZO = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private IndicePreciosRepository indiceRepository;
+    @Mock
+    private FormulaPolinomicaRepository formulaRepository;
+    @Mock
+    private PresupuestoRepository presupuestoRepository;
+
+    private ConfigurarReajustePolinomicoUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ConfigurarReajustePolinomicoUseCaseImpl(indiceRepository, formulaRepository,
+                presupuestoRepository);
+    }
+
+    @Test
+    void registrarIndice_nuevoProvisional_loGuardaComoProvisional() {
+        when(indiceRepository.buscarPorCodigoYFecha("CEM", MARZO)).thenReturn(Optional.empty());
+
+        IndicePreciosResponse response = useCase.registrarIndice(comando("210", false));
+
+        ArgumentCaptor<IndicePrecios> guardado = ArgumentCaptor.forClass(IndicePrecios.class);
+        verify(indiceRepository).guardar(guardado.capture());
+        assertThat(guardado.getValue().isDefinitivo()).isFalse();
+        assertThat(response.definitivo()).isFalse();
+        assertThat(response.valor()).isEqualByComparingTo("210");
+    }
+
+    @Test
+    void registrarIndice_definitivoSobreProvisional_actualizaElMismoIndice() {
+        IndicePrecios provisional = IndicePrecios.crearProvisional(IndicePreciosId.generate(), "CEM", "Cemento",
+                TipoIndicePrecios.INPC, MARZO, new BigDecimal("210"));
+        when(indiceRepository.buscarPorCodigoYFecha("CEM", MARZO)).thenReturn(Optional.of(provisional));
+
+        IndicePreciosResponse response = useCase.registrarIndice(comando("214", true));
+
+        ArgumentCaptor<IndicePrecios> guardado = ArgumentCaptor.forClass(IndicePrecios.class);
+        verify(indiceRepository).guardar(guardado.capture());
+        assertThat(guardado.getValue().getId()).isEqualTo(provisional.getId());
+        assertThat(guardado.getValue().isDefinitivo()).isTrue();
+        assertThat(guardado.getValue().getValor()).isEqualByComparingTo("214");
+        assertThat(response.id()).isEqualTo(provisional.getId().getValue());
+    }
+
+    @Test
+    void registrarIndice_provisionalSobreDefinitivo_lanzaExcepcion() {
+        when(indiceRepository.buscarPorCodigoYFecha("CEM", MARZO)).thenReturn(Optional.of(IndicePrecios.crear(
+                IndicePreciosId.generate(), "CEM", "Cemento", TipoIndicePrecios.INPC, MARZO, new BigDecimal("214"))));
+
+        assertThatThrownBy(() -> useCase.registrarIndice(comando("215", false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ya es definitivo");
+        verify(indiceRepository, never()).guardar(any());
+    }
+
+    @Test
+    void definirFormulas_reemplazaLasFormulasDelPresupuesto() {
+        UUID presupuestoId = presupuestoExistente();
+        UUID partidaId = UUID.randomUUID();
+
+        useCase.definirFormulas(new DefinirFormulasPolinomicasCommand(presupuestoId, List.of(
+                formula(1, Set.of(partidaId)), formula(2, Set.of()))));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FormulaPolinomica>> formulas = ArgumentCaptor.forClass(List.class);
+        verify(formulaRepository).reemplazar(eq(presupuestoId), formulas.capture());
+        assertThat(formulas.getValue()).extracting(FormulaPolinomica::getNumero).containsExactly(1, 2);
+        assertThat(formulas.getValue().get(0).getPartidaIds()).containsExactly(partidaId);
+        assertThat(formulas.getValue().get(0).codigosIndice()).containsExactly("MO", "CEM", "ACE");
+    }
+
+    @Test
+    void definirFormulas_partidaEnDosFormulas_lanzaExcepcion() {
+        UUID presupuestoId = presupuestoExistente();
+        UUID partidaId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> useCase.definirFormulas(new DefinirFormulasPolinomicasCommand(presupuestoId,
+                List.of(formula(1, Set.of(partidaId)), formula(2, Set.of(partidaId))))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("más de una fórmula");
+        verify(formulaRepository, never()).reemplazar(any(), anyList());
+    }
+
+    private UUID presupuestoExistente() {
+        UUID presupuestoId = UUID.randomUUID();
+        when(presupuestoRepository.findById(PresupuestoId.from(presupuestoId))).thenReturn(Optional.of(
+                Presupuesto.crear(PresupuestoId.from(presupuestoId), UUID.randomUUID(), "Presupuesto")));
+        return presupuestoId;
+    }
+
+    private static RegistrarIndicePreciosCommand comando(String valor, boolean definitivo) {
+        return new RegistrarIndicePreciosCommand("CEM", "Cemento", TipoIndicePrecios.INPC, MARZO,
+                new BigDecimal(valor), definitivo);
+    }
+
+    private static FormulaItem formula(int numero, Set<UUID> partidaIds) {
+        // 0.40 MO + 0.60 × (0.70 CEM + 0.30 ACE)
+        return new FormulaItem(numero, LocalDate.of(2025, 1, 1), List.of(
+                new MonomioItem(new BigDecimal("0.40"), List.of(new TerminoItem("MO", BigDecimal.ONE))),
+                new MonomioItem(new BigDecimal("0.60"), List.of(new TerminoItem("CEM", new BigDecimal("0.70")),
+                        new TerminoItem("ACE", new BigDecimal("0.30"))))),
+                partidaIds);
+    }
+}
@@ -0,0 +1,227 @@
+package com.budgetpro.application.rrhh.usecase;
+
+import com.budgetpro.application.rrhh.dto.CalcularNominaCommand;
+import com.budgetpro.application.rrhh.dto.DetalleNominaResponse;
+import com.budgetpro.application.rrhh.dto.NominaResponse;
+import com.budgetpro.application.rrhh.port.out.AsistenciaRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.ConfiguracionLaboralRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.EmpleadoRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.NominaRepositoryPort;
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboral;
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.model.Contacto;
+import com.budgetpro.domain.rrhh.model.DetalleNomina;
+import com.budgetpro.domain.rrhh.model.Empleado;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import com.budgetpro.domain.rrhh.model.Nomina;
+import com.budgetpro.domain.rrhh.model.NominaId;
+import com.budgetpro.domain.rrhh.model.TipoEmpleado;
+import com.budgetpro.domain.rrhh.service.CalculadorFSR;
+import com.budgetpro.domain.rrhh.service.MotorNomina;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Nómina por lotes: cada lote se confirma con su punto de control y una corrida
+ * interrumpida se reanuda después del último lote confirmado.
+ */
+@ExtendWith(MockitoExtension.class)
+class CalcularNominaUseCaseImplTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 1);
+    private static final LocalDate FIN = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private NominaRepositoryPort nominaRepositoryPort;
+
+    @Mock
+    private ConfiguracionLaboralRepositoryPort configuracionRepositoryPort;
+
+    @Mock
+    private EmpleadoRepositoryPort empleadoRepositoryPort;
+
+    @Mock
+    private AsistenciaRepositoryPort asistenciaRepositoryPort;
+
+    private final ProyectoId proyectoId = ProyectoId.nuevo();
+    private List<Empleado> empleados;
+    private CalcularNominaUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        empleados = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            empleados.add(Empleado.crear(EmpleadoId.generate(), "E" + i, "X", "ID-" + i,
+                    Contacto.of("e@b.com", null, null), LocalDate.of(2024, 1, 1), new BigDecimal("3000"), "Op",
+                    TipoEmpleado.PERMANENTE));
+        }
+        ConfiguracionLaboral config = ConfiguracionLaboral.reconstruir(ConfiguracionLaboralId.nuevo(), null, 15, 12,
+                new BigDecimal("12.5"), 7, 251, 0L);
+        lenient().when(configuracionRepositoryPort.findEffectiveConfig(proyectoId, INICIO))
+                .thenReturn(Optional.of(config));
+        lenient().when(empleadoRepositoryPort.findAsignadosAProyecto(proyectoId, INICIO, FIN)).thenReturn(empleados);
+        lenient().when(asistenciaRepositoryPort.findByEmpleadosAndPeriodo(anyList(), eq(INICIO), eq(FIN)))
+                .thenReturn(List.of());
+
+        MotorNomina motor = new MotorNomina(new CalculadorFSR(), new BigDecimal("0.10"), Runnable::run, 500);
+        useCase = new CalcularNominaUseCaseImpl(nominaRepositoryPort, configuracionRepositoryPort,
+                empleadoRepositoryPort, asistenciaRepositoryPort, motor, 2);
+    }
+
+    @Test
+    @DisplayName("Una corrida nueva confirma lotes en orden de empleado y avanza el punto de control")
+    void corridaNueva_confirmaPorLotes() {
+        when(nominaRepositoryPort.findEnProceso(proyectoId, INICIO, FIN)).thenReturn(Optional.empty());
+        when(nominaRepositoryPort.existsForPeriod(proyectoId, INICIO, FIN)).thenReturn(false);
+        when(nominaRepositoryPort.iniciar(any(Nomina.class), anyList())).thenAnswer(inv -> inv.getArgument(0));
+        List<DetalleNomina> confirmados = new ArrayList<>();
+        doAnswer(inv -> confirmados.addAll(inv.getArgument(1))).when(nominaRepositoryPort)
+                .guardarLote(any(Nomina.class), anyList());
+        when(nominaRepositoryPort.findDetalles(any(NominaId.class))).thenAnswer(inv -> confirmados);
+
+        NominaResponse response = useCase.calcularNomina(new CalcularNominaCommand(proyectoId.getValue(), INICIO,
+                FIN, null));
+
+        ArgumentCaptor<Nomina> avances = ArgumentCaptor.forClass(Nomina.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DetalleNomina>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(nominaRepositoryPort, times(3)).guardarLote(avances.capture(), lotes.capture());
+
+        List<EmpleadoId> ordenados = ordenados();
+        // El conjunto de empleados se fija con la cabecera
+        verify(nominaRepositoryPort).iniciar(any(Nomina.class), eq(ordenados));
+        assertEquals(List.of(2, 4, 5), avances.getAllValues().stream().map(Nomina::getEmpleadosProcesados).toList());
+        assertEquals(ordenados.get(1), avances.getAllValues().get(0).getUltimoEmpleadoId());
+        assertEquals(ordenados, lotes.getAllValues().stream().flatMap(List::stream)
+                .map(DetalleNomina::getEmpleadoId).toList());
+
+        verify(nominaRepositoryPort).completar(any(Nomina.class));
+        assertEquals("CALCULADA", response.getEstado());
+        assertEquals(5, response.getCantidadEmpleados());
+        // 5 empleados × 31 días × 100.00 de salario diario
+        assertEquals(0, new BigDecimal("15500.00").compareTo(response.getTotalBruto()));
+        assertEquals(ordenados.stream().map(EmpleadoId::getValue).toList(),
+                response.getDetalles().stream().map(DetalleNominaResponse::getEmpleadoId).toList());
+    }
+
+    @Test
+    @DisplayName("Cada lote se reparte en varias particiones aunque quepa en una sola")
+    void lote_seRepartePorParalelismo() {
+        when(nominaRepositoryPort.findEnProceso(proyectoId, INICIO, FIN)).thenReturn(Optional.empty());
+        when(nominaRepositoryPort.existsForPeriod(proyectoId, INICIO, FIN)).thenReturn(false);
+        when(nominaRepositoryPort.iniciar(any(Nomina.class), anyList())).thenAnswer(inv -> inv.getArgument(0));
+        when(nominaRepositoryPort.findDetalles(any(NominaId.class))).thenReturn(List.of());
+        AtomicInteger particiones = new AtomicInteger();
+        // Partición máxima (500) y lote (5) como en application.yml: sin paralelismo sería una sola
+        MotorNomina motor = new MotorNomina(new CalculadorFSR(), new BigDecimal("0.10"), tarea -> {
+            particiones.incrementAndGet();
+            tarea.run();
+        }, 500, 2);
+        new CalcularNominaUseCaseImpl(nominaRepositoryPort, configuracionRepositoryPort, empleadoRepositoryPort,
+                asistenciaRepositoryPort, motor, 5)
+                .calcularNomina(new CalcularNominaCommand(proyectoId.getValue(), INICIO, FIN, null));
+
+        verify(nominaRepositoryPort, times(1)).guardarLote(any(Nomina.class), anyList());
+        assertEquals(2, particiones.get());
+    }
+
+    @Test
+    @DisplayName("Una corrida interrumpida se reanuda sobre su conjunto de empleados después del último lote confirmado")
+    void corridaInterrumpida_seReanudaDesdePuntoDeControl() {
+        List<EmpleadoId> ordenados = ordenados();
+        Nomina enProceso = enProceso(ordenados.get(1));
+        when(nominaRepositoryPort.findEnProceso(proyectoId, INICIO, FIN)).thenReturn(Optional.of(enProceso));
+        when(nominaRepositoryPort.findEmpleados(enProceso.getId())).thenReturn(ordenados);
+        when(empleadoRepositoryPort.findAllById(ordenados)).thenReturn(empleados);
+        DetalleNomina anterior = DetalleNomina.crear(ordenados.get(0), new BigDecimal("3100.00"), BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                1.0, 31);
+        when(nominaRepositoryPort.findDetalles(enProceso.getId())).thenReturn(List.of(anterior));
+
+        NominaResponse response = useCase.calcularNomina(new CalcularNominaCommand(proyectoId.getValue(), INICIO,
+                FIN, null));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DetalleNomina>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(nominaRepositoryPort, times(2)).guardarLote(any(Nomina.class), lotes.capture());
+        assertEquals(ordenados.subList(2, 5), lotes.getAllValues().stream().flatMap(List::stream)
+                .map(DetalleNomina::getEmpleadoId).toList());
+        verify(nominaRepositoryPort, never()).iniciar(any(Nomina.class), anyList());
+        verify(nominaRepositoryPort, never()).existsForPeriod(any(), any(), any());
+        // Un empleado asignado después de la interrupción no cambia el conjunto de la corrida
+        verify(empleadoRepositoryPort, never()).findAsignadosAProyecto(any(), any(), any());
+
+        // El acumulado del punto de control no se redondea por lote
+        ArgumentCaptor<Nomina> completada = ArgumentCaptor.forClass(Nomina.class);
+        verify(nominaRepositoryPort).completar(completada.capture());
+        assertEquals(0, new BigDecimal("15500.0049").compareTo(completada.getValue().getTotalBruto()));
+
+        assertEquals(enProceso.getId().getValue(), response.getId());
+        assertEquals(5, response.getCantidadEmpleados());
+        assertEquals(0, new BigDecimal("15500.0049").compareTo(response.getTotalBruto()));
+        // Los detalles de lotes anteriores se leen de la base
+        assertEquals(List.of(anterior.getEmpleadoId().getValue()),
+                response.getDetalles().stream().map(DetalleNominaResponse::getEmpleadoId).toList());
+    }
+
+    @Test
+    @DisplayName("Una corrida interrumpida no se reanuda con otro conjunto de empleados")
+    void corridaInterrumpida_conOtroConjunto_rechaza() {
+        List<EmpleadoId> ordenados = ordenados();
+        Nomina enProceso = enProceso(ordenados.get(1));
+        when(nominaRepositoryPort.findEnProceso(proyectoId, INICIO, FIN)).thenReturn(Optional.of(enProceso));
+        when(nominaRepositoryPort.findEmpleados(enProceso.getId())).thenReturn(ordenados);
+
+        List<UUID> otros = ordenados.subList(0, 4).stream().map(EmpleadoId::getValue).toList();
+        assertThrows(IllegalStateException.class, () -> useCase.calcularNomina(
+                new CalcularNominaCommand(proyectoId.getValue(), INICIO, FIN, otros)));
+        verify(nominaRepositoryPort, never()).guardarLote(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("Una nómina ya calculada para el periodo no se vuelve a calcular")
+    void nominaExistente_rechaza() {
+        when(nominaRepositoryPort.findEnProceso(proyectoId, INICIO, FIN)).thenReturn(Optional.empty());
+        when(nominaRepositoryPort.existsForPeriod(proyectoId, INICIO, FIN)).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> useCase.calcularNomina(
+                new CalcularNominaCommand(proyectoId.getValue(), INICIO, FIN, null)));
+        verify(nominaRepositoryPort, never()).guardarLote(any(), anyList());
+    }
+
+    private Nomina enProceso(EmpleadoId ultimoEmpleadoId) {
+        return Nomina.reconstruir(NominaId.random(), proyectoId, INICIO, FIN, "Nómina", "PROCESANDO",
+                new BigDecimal("6200.0049"), new BigDecimal("5000.0049"), 5, List.of(), 2, ultimoEmpleadoId);
+    }
+
+    private List<EmpleadoId> ordenados() {
+        return empleados.stream().map(Empleado::getId).sorted(Comparator.comparing(EmpleadoId::getValue)).toList();
+    }
+}
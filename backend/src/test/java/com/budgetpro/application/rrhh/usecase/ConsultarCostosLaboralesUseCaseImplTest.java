@@ -0,0 +1,71 @@
+package com.budgetpro.application.rrhh.usecase;
+
+import com.budgetpro.application.rrhh.dto.ConsultarCostosLaboralesQuery;
+import com.budgetpro.application.rrhh.dto.ConsultarCostosLaboralesQuery.Agrupacion;
+import com.budgetpro.application.rrhh.dto.CostoLaboralAgregado;
+import com.budgetpro.application.rrhh.dto.CostosLaboralesResponse;
+import com.budgetpro.application.rrhh.dto.DesgloseCostoLaboral;
+import com.budgetpro.application.rrhh.port.out.ConfiguracionLaboralRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.CostoLaboralRepositoryPort;
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboral;
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.service.CalculadorFSR;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultarCostosLaboralesUseCaseImplTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FIN = LocalDate.of(2025, 12, 31);
+
+    @Mock
+    private CostoLaboralRepositoryPort costoLaboralRepository;
+
+    @Mock
+    private ConfiguracionLaboralRepositoryPort configuracionLaboralRepository;
+
+    private final ProyectoId proyectoId = ProyectoId.nuevo();
+
+    @Test
+    @DisplayName("Las filas agregadas en SQL se valorizan con el FSR del proyecto sin cargar asistencias")
+    void agregadosPorMes_aplicanFsr() {
+        // FSR = (251 + 12 + 15 + 7) / 251
+        ConfiguracionLaboral config = ConfiguracionLaboral.reconstruir(ConfiguracionLaboralId.nuevo(), null, 15, 12,
+                new BigDecimal("12.5"), 7, 251, 0L);
+        BigDecimal fsr = new CalculadorFSR().calcularFSR(config);
+        when(configuracionLaboralRepository.findEffectiveConfig(proyectoId, INICIO)).thenReturn(Optional.of(config));
+        when(costoLaboralRepository.agregarPorGrupo(proyectoId, INICIO, FIN, Agrupacion.MES)).thenReturn(List.of(
+                new CostoLaboralAgregado("2025-01", "2025-01", 36_000, 7_200, new BigDecimal("1000")),
+                new CostoLaboralAgregado("2025-02", "2025-02", 0, 0, BigDecimal.ZERO)));
+
+        CostosLaboralesResponse response = new ConsultarCostosLaboralesUseCaseImpl(costoLaboralRepository,
+                configuracionLaboralRepository, new CalculadorFSR())
+                .consultarCostos(new ConsultarCostosLaboralesQuery(proyectoId, INICIO, FIN, Agrupacion.MES, false));
+
+        assertEquals(2, response.getDesglose().size());
+        DesgloseCostoLaboral enero = response.getDesglose().get(0);
+        assertEquals("2025-01", enero.getIdGrupo());
+        assertEquals(Duration.ofHours(8), enero.getHorasNormales());
+        assertEquals(Duration.ofHours(2), enero.getHorasExtras());
+        assertEquals(0, new BigDecimal("1000").multiply(fsr).compareTo(enero.getCostoTotal()));
+        assertEquals(0, new BigDecimal("1000").multiply(fsr).divide(BigDecimal.TEN, RoundingMode.HALF_UP)
+                .compareTo(enero.getCostoPromedioHora()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(response.getDesglose().get(1).getCostoPromedioHora()));
+        assertEquals(0, enero.getCostoTotal().compareTo(response.getTotalCosto()));
+    }
+}
@@ -0,0 +1,174 @@
+package com.budgetpro.application.rrhh.usecase;
+
+import com.budgetpro.application.rrhh.dto.ErrorFilaAsistencia;
+import com.budgetpro.application.rrhh.dto.ImportacionAsistenciaResponse;
+import com.budgetpro.application.rrhh.dto.ImportarAsistenciaCommand;
+import com.budgetpro.application.rrhh.dto.ImportarAsistenciaCommand.FilaAsistencia;
+import com.budgetpro.application.rrhh.port.out.AsignacionProyectoRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.AsistenciaRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.EmpleadoRepositoryPort;
+import com.budgetpro.application.rrhh.port.out.ProyectoRepositoryPort;
+import com.budgetpro.domain.catalogo.model.RecursoProxyId;
+import com.budgetpro.domain.proyecto.model.EstadoProyecto;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.model.AsignacionProyecto;
+import com.budgetpro.domain.rrhh.model.AsignacionProyectoId;
+import com.budgetpro.domain.rrhh.model.AsistenciaId;
+import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
+import com.budgetpro.domain.rrhh.model.Contacto;
+import com.budgetpro.domain.rrhh.model.Empleado;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import com.budgetpro.domain.rrhh.model.TipoEmpleado;
+import com.budgetpro.domain.rrhh.service.RegimenCivilSolapeValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportarAsistenciaUseCaseImplTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2025, 4, 2);
+
+    @Mock
+    private EmpleadoRepositoryPort empleadoRepositoryPort;
+
+    @Mock
+    private ProyectoRepositoryPort proyectoRepositoryPort;
+
+    @Mock
+    private AsistenciaRepositoryPort asistenciaRepositoryPort;
+
+    @Mock
+    private AsignacionProyectoRepositoryPort asignacionProyectoRepositoryPort;
+
+    private final ProyectoId proyectoId = ProyectoId.nuevo();
+
+    @Test
+    @DisplayName("Las filas inválidas o solapadas se reportan por fila y el resto se inserta en lote")
+    void importacion_reportaErroresPorFilaEInsertaValidas() {
+        Empleado ana = empleado("ID-1");
+        Empleado luis = empleado("ID-2");
+        EmpleadoId desconocido = EmpleadoId.generate();
+        when(proyectoRepositoryPort.findById(proyectoId))
+                .thenReturn(Optional.of(Proyecto.reconstruir(proyectoId, "Obra", "Lima", EstadoProyecto.ACTIVO)));
+        when(empleadoRepositoryPort.findAllById(List.of(ana.getId(), desconocido, luis.getId())))
+                .thenReturn(List.of(ana, luis));
+        when(asignacionProyectoRepositoryPort.findAsignacionesByEmpleadoIds(
+                List.of(ana.getId(), desconocido, luis.getId())))
+                .thenReturn(List.of(asignacion(ana.getId()), asignacion(luis.getId())));
+        // Luis ya tiene registrado el turno de la mañana
+        AsistenciaRegistro persistido = AsistenciaRegistro.registrar(AsistenciaId.random(), luis.getId(), proyectoId,
+                FECHA, LocalTime.of(7, 0), LocalTime.of(15, 0), null);
+        when(asistenciaRepositoryPort.findByEmpleadosAndPeriodo(List.of(ana.getId(), luis.getId()),
+                FECHA.minusDays(1), FECHA.plusDays(1))).thenReturn(List.of(persistido));
+
+        ImportarAsistenciaCommand command = new ImportarAsistenciaCommand(proyectoId, List.of(
+                fila(ana.getId(), 7, 15),
+                fila(ana.getId(), 14, 18),
+                fila(desconocido, 7, 15),
+                fila(luis.getId(), 8, 12),
+                fila(ana.getId(), 18, 22)));
+
+        ImportacionAsistenciaResponse response = new ImportarAsistenciaUseCaseImpl(empleadoRepositoryPort,
+                proyectoRepositoryPort, asistenciaRepositoryPort, asignacionProyectoRepositoryPort,
+                new RegimenCivilSolapeValidator()).importarAsistencia(command);
+
+        assertEquals(5, response.filasRecibidas());
+        assertEquals(2, response.filasRegistradas());
+        assertEquals(List.of(2, 3, 4), response.errores().stream().map(ErrorFilaAsistencia::fila).toList());
+        assertEquals("El turno se superpone con la fila 1 del lote.", response.errores().get(0).mensaje());
+        assertTrue(response.errores().get(1).mensaje().startsWith("Empleado no encontrado"));
+        assertEquals(luis.getId().getValue(), response.errores().get(2).empleadoId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AsistenciaRegistro>> insertados = ArgumentCaptor.forClass(List.class);
+        verify(asistenciaRepositoryPort).saveAll(insertados.capture());
+        assertEquals(List.of(LocalTime.of(7, 0), LocalTime.of(18, 0)),
+                insertados.getValue().stream().map(AsistenciaRegistro::getHoraEntrada).toList());
+    }
+
+    @Test
+    @DisplayName("Sin filas válidas no se consulta el rango de asistencias")
+    void sinCandidatos_noConsultaExistentes() {
+        EmpleadoId desconocido = EmpleadoId.generate();
+        when(proyectoRepositoryPort.findById(proyectoId))
+                .thenReturn(Optional.of(Proyecto.reconstruir(proyectoId, "Obra", "Lima", EstadoProyecto.ACTIVO)));
+        when(empleadoRepositoryPort.findAllById(List.of(desconocido))).thenReturn(List.of());
+        when(asignacionProyectoRepositoryPort.findAsignacionesByEmpleadoIds(List.of(desconocido)))
+                .thenReturn(List.of());
+
+        ImportacionAsistenciaResponse response = new ImportarAsistenciaUseCaseImpl(empleadoRepositoryPort,
+                proyectoRepositoryPort, asistenciaRepositoryPort, asignacionProyectoRepositoryPort,
+                new RegimenCivilSolapeValidator())
+                .importarAsistencia(new ImportarAsistenciaCommand(proyectoId, List.of(fila(desconocido, 7, 15))));
+
+        assertEquals(0, response.filasRegistradas());
+        assertEquals(1, response.errores().size());
+        verify(asistenciaRepositoryPort, never()).findByEmpleadosAndPeriodo(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Un ID de empleado mal formado se reporta en su fila sin rechazar el lote")
+    void idEmpleadoInvalido_seReportaComoErrorDeFila() {
+        Empleado ana = empleado("ID-1");
+        when(proyectoRepositoryPort.findById(proyectoId))
+                .thenReturn(Optional.of(Proyecto.reconstruir(proyectoId, "Obra", "Lima", EstadoProyecto.ACTIVO)));
+        when(empleadoRepositoryPort.findAllById(List.of(ana.getId()))).thenReturn(List.of(ana));
+        when(asignacionProyectoRepositoryPort.findAsignacionesByEmpleadoIds(List.of(ana.getId())))
+                .thenReturn(List.of(asignacion(ana.getId())));
+        when(asistenciaRepositoryPort.findByEmpleadosAndPeriodo(List.of(ana.getId()), FECHA.minusDays(1),
+                FECHA.plusDays(1))).thenReturn(List.of());
+
+        ImportacionAsistenciaResponse response = new ImportarAsistenciaUseCaseImpl(empleadoRepositoryPort,
+                proyectoRepositoryPort, asistenciaRepositoryPort, asignacionProyectoRepositoryPort,
+                new RegimenCivilSolapeValidator())
+                .importarAsistencia(new ImportarAsistenciaCommand(proyectoId, List.of(
+                        fila("DNI-12345678", 7, 15),
+                        fila(ana.getId(), 7, 15),
+                        fila(" ", 7, 15))));
+
+        assertEquals(1, response.filasRegistradas());
+        assertEquals(List.of(1, 3), response.errores().stream().map(ErrorFilaAsistencia::fila).toList());
+        assertEquals("ID de empleado inválido: DNI-12345678", response.errores().get(0).mensaje());
+        assertNull(response.errores().get(0).empleadoId());
+        assertTrue(response.errores().get(1).mensaje().startsWith("La fila debe indicar empleado"));
+    }
+
+    private static FilaAsistencia fila(EmpleadoId empleadoId, int entrada, int salida) {
+        return fila(empleadoId.getValue().toString(), entrada, salida);
+    }
+
+    private static FilaAsistencia fila(String empleadoId, int entrada, int salida) {
+        return new FilaAsistencia(empleadoId, FECHA, FECHA.atTime(entrada, 0), FECHA.atTime(salida, 0), "Obra");
+    }
+
+    private AsignacionProyecto asignacion(EmpleadoId empleadoId) {
+        return AsignacionProyecto.crear(AsignacionProyectoId.generate(), empleadoId, proyectoId,
+                RecursoProxyId.generate(), LocalDate.of(2025, 3, 1), null, null, null);
+    }
+
+    private static Empleado empleado(String documento) {
+        return Empleado.crear(EmpleadoId.generate(), "Nombre", "Apellido", documento,
+                Contacto.of("e@b.com", null, null), LocalDate.of(2024, 1, 1), new BigDecimal("3000"), "Op",
+                TipoEmpleado.PERMANENTE);
+    }
+}
@@ -0,0 +1,173 @@
+package com.budgetpro.domain.finanzas.alertas.service;
+
+import com.budgetpro.domain.finanzas.alertas.model.AlertaParametrica;
+import com.budgetpro.domain.finanzas.alertas.model.AnalisisPresupuesto;
+import com.budgetpro.domain.finanzas.alertas.model.NivelAlerta;
+import com.budgetpro.domain.finanzas.alertas.model.TipoAlertaParametrica;
+import com.budgetpro.domain.shared.model.TipoRecurso;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalizadorParametricoServiceTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Las reglas en paralelo producen las mismas alertas, en el mismo orden, que en secuencia")
+    void paraleloEquivalenteASecuencial() {
+        AnalizadorParametricoService.DatosAnalisis datos = datosConAlertas();
+        UUID presupuestoId = UUID.randomUUID();
+
+        AnalisisPresupuesto secuencial = new AnalizadorParametricoService().analizar(presupuestoId, datos);
+        AnalisisPresupuesto paralelo = new AnalizadorParametricoService(
+                AnalizadorParametricoService.reglasEstandar(), executor).analizar(presupuestoId, datos);
+
+        assertEquals(List.of(TipoAlertaParametrica.MAQUINARIA_COSTO_HORARIO,
+                TipoAlertaParametrica.ACERO_RATIO_CONCRETO), tipos(secuencial));
+        assertEquals(tipos(secuencial), tipos(paralelo));
+        assertEquals(1, paralelo.getTotalAlertasCriticas());
+        assertEquals(1, paralelo.getTotalAlertasWarning());
+    }
+
+    @Test
+    @DisplayName("Las reglas se evalúan concurrentemente y sus alertas se agregan en el orden de registro")
+    void reglasConcurrentesEnOrdenDeRegistro() {
+        CountDownLatch todasIniciadas = new CountDownLatch(3);
+        List<ReglaParametrica> reglas = new ArrayList<>();
+        for (TipoAlertaParametrica tipo : List.of(TipoAlertaParametrica.CONCRETO_TAMANO_AGREGADO,
+                TipoAlertaParametrica.MAQUINARIA_COSTO_HORARIO, TipoAlertaParametrica.ACERO_RATIO_CONCRETO)) {
+            reglas.add(datos -> {
+                todasIniciadas.countDown();
+                try {
+                    // Solo termina si las tres reglas están corriendo a la vez
+                    assertTrue(todasIniciadas.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                return List.of(AlertaParametrica.crear(tipo,
+                        NivelAlerta.INFO, null, null, tipo.name(),
+                        BigDecimal.ONE, "-"));
+            });
+        }
+
+        AnalisisPresupuesto analisis = new AnalizadorParametricoService(reglas, executor)
+                .analizar(UUID.randomUUID(), datosConAlertas());
+
+        assertEquals(List.of(TipoAlertaParametrica.CONCRETO_TAMANO_AGREGADO,
+                TipoAlertaParametrica.MAQUINARIA_COSTO_HORARIO, TipoAlertaParametrica.ACERO_RATIO_CONCRETO),
+                tipos(analisis));
+    }
+
+    @Test
+    @DisplayName("El error de una regla se propaga sin envolver")
+    void propagaErrorDeRegla() {
+        ReglaParametrica fallida = datos -> {
+            throw new IllegalStateException("regla rota");
+        };
+        AnalizadorParametricoService service = new AnalizadorParametricoService(List.of(fallida), executor);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> service.analizar(UUID.randomUUID(), datosConAlertas()));
+        assertEquals("regla rota", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("El re-análisis de solo las partidas cambiadas equivale a analizar todo el presupuesto")
+    void reanalisisIncrementalEquivalenteACompleto() {
+        AnalizadorParametricoService service = new AnalizadorParametricoService(
+                AnalizadorParametricoService.reglasEstandar(), executor);
+        UUID presupuestoId = UUID.randomUUID();
+        AnalizadorParametricoService.DatosRecurso retro = new AnalizadorParametricoService.DatosRecurso(
+                UUID.randomUUID(), "Retroexcavadora", TipoRecurso.EQUIPO, Map.of("costo_horario", 0));
+        AnalizadorParametricoService.DatosRecurso concreto = new AnalizadorParametricoService.DatosRecurso(
+                UUID.randomUUID(), "Concreto f'c 210", TipoRecurso.MATERIAL, Map.of());
+        AnalizadorParametricoService.DatosRecurso acero = new AnalizadorParametricoService.DatosRecurso(
+                UUID.randomUUID(), "Acero corrugado", TipoRecurso.MATERIAL, Map.of());
+        UUID zapataId = UUID.randomUUID();
+        UUID vigaId = UUID.randomUUID();
+        AnalizadorParametricoService.DatosPartida zapata = new AnalizadorParametricoService.DatosPartida(
+                zapataId, "Zapata", List.of(insumo(concreto, "1"), insumo(acero, "200")));
+        AnalizadorParametricoService.DatosPartida viga = new AnalizadorParametricoService.DatosPartida(
+                vigaId, "Viga", List.of(insumo(concreto, "1"), insumo(acero, "100")));
+        AnalizadorParametricoService.DatosPartida excavacion = new AnalizadorParametricoService.DatosPartida(
+                UUID.randomUUID(), "Excavación", List.of(insumo(retro, "8")));
+        AnalisisPresupuesto anterior = service.analizar(presupuestoId, new AnalizadorParametricoService.DatosAnalisis(
+                List.of(concreto, acero, retro), List.of(zapata, viga, excavacion)));
+
+        // Se elimina la zapata y la viga pasa a tener un ratio fuera de rango
+        AnalizadorParametricoService.DatosPartida vigaModificada = new AnalizadorParametricoService.DatosPartida(
+                vigaId, "Viga", List.of(insumo(concreto, "1"), insumo(acero, "300")));
+        AnalisisPresupuesto incremental = service.reanalizar(anterior,
+                new AnalizadorParametricoService.DatosAnalisis(List.of(concreto, acero), List.of(vigaModificada)),
+                Set.of(zapataId, vigaId), Set.of(retro.getId()));
+        AnalisisPresupuesto completo = service.analizar(presupuestoId, new AnalizadorParametricoService.DatosAnalisis(
+                List.of(concreto, acero, retro), List.of(vigaModificada, excavacion)));
+
+        assertEquals(claves(completo), claves(incremental));
+        assertEquals(2, incremental.getTotalAlertas());
+        assertTrue(incremental.getAlertas().stream().noneMatch(alerta -> anterior.getAlertas().contains(alerta)));
+
+        // El recurso corregido llega con la partida que lo usa y su alerta desaparece
+        AnalizadorParametricoService.DatosRecurso retroCorregida = new AnalizadorParametricoService.DatosRecurso(
+                retro.getId(), "Retroexcavadora", TipoRecurso.EQUIPO, Map.of("costo_horario", 180));
+        AnalizadorParametricoService.DatosPartida excavacionModificada = new AnalizadorParametricoService.DatosPartida(
+                excavacion.getId(), "Excavación", List.of(insumo(retroCorregida, "8")));
+        AnalisisPresupuesto sinMaquinaria = service.reanalizar(incremental,
+                new AnalizadorParametricoService.DatosAnalisis(List.of(retroCorregida), List.of(excavacionModificada)),
+                Set.of(excavacion.getId()), Set.of());
+
+        assertEquals(List.of(TipoAlertaParametrica.ACERO_RATIO_CONCRETO), tipos(sinMaquinaria));
+    }
+
+    private static Set<String> claves(AnalisisPresupuesto analisis) {
+        return analisis.getAlertas().stream()
+                .map(alerta -> alerta.getTipoAlerta() + "/" + alerta.getPartidaId() + "/" + alerta.getRecursoId()
+                        + "/" + alerta.getValorDetectado())
+                .collect(Collectors.toSet());
+    }
+
+    private static List<TipoAlertaParametrica> tipos(AnalisisPresupuesto analisis) {
+        return analisis.getAlertas().stream().map(AlertaParametrica::getTipoAlerta).toList();
+    }
+
+    private static AnalizadorParametricoService.DatosAnalisis datosConAlertas() {
+        AnalizadorParametricoService.DatosRecurso retro = new AnalizadorParametricoService.DatosRecurso(
+                UUID.randomUUID(), "Retroexcavadora", TipoRecurso.EQUIPO, Map.of("costo_horario", 0));
+        AnalizadorParametricoService.DatosRecurso concreto = new AnalizadorParametricoService.DatosRecurso(
+                UUID.randomUUID(), "Concreto f'c 210", TipoRecurso.MATERIAL, Map.of());
+        AnalizadorParametricoService.DatosRecurso acero = new AnalizadorParametricoService.DatosRecurso(
+                UUID.randomUUID(), "Acero corrugado", TipoRecurso.MATERIAL, Map.of());
+        AnalizadorParametricoService.DatosPartida zapata = new AnalizadorParametricoService.DatosPartida(
+                UUID.randomUUID(), "Zapata", List.of(
+                        insumo(concreto, "1"),
+                        insumo(acero, "200")));
+        return new AnalizadorParametricoService.DatosAnalisis(List.of(retro, concreto, acero), List.of(zapata));
+    }
+
+    private static AnalizadorParametricoService.DatosApuInsumo insumo(
+            AnalizadorParametricoService.DatosRecurso recurso, String cantidad) {
+        return new AnalizadorParametricoService.DatosApuInsumo(recurso.getId(), recurso.getNombre(),
+                recurso.getTipo(), new BigDecimal(cantidad), recurso.getAtributos());
+    }
+}
@@ -0,0 +1,42 @@
+package com.budgetpro.domain.finanzas.cronograma.model;
+
+import com.budgetpro.domain.finanzas.evm.util.WorkingDayCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalendarioLaboralTest {
+
+    @Test
+    void contarDiasLaborables_coincideConWorkingDayCalculator() {
+        WorkingDayCalculator referencia = new WorkingDayCalculator();
+        CalendarioLaboral calendario = CalendarioLaboral.lunesAViernes(LocalDate.of(2025, 1, 1));
+        Random random = new Random(5);
+        for (int i = 0; i < 500; i++) {
+            LocalDate inicio = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(400));
+            LocalDate fin = inicio.plusDays(random.nextInt(200));
+            assertEquals(referencia.workingDaysBetween(inicio, fin.plusDays(1)),
+                    calendario.contarDiasLaborables(inicio, fin));
+        }
+    }
+
+    @Test
+    void fecha_saltaFinesDeSemanaYFeriados() {
+        // Sábado 2025-06-07 como origen; feriado el martes 2025-06-10
+        CalendarioLaboral calendario = CalendarioLaboral.lunesAViernes(LocalDate.of(2025, 6, 7),
+                Set.of(LocalDate.of(2025, 6, 10)));
+
+        assertEquals(LocalDate.of(2025, 6, 9), calendario.getOrigen());
+        assertEquals(LocalDate.of(2025, 6, 11), calendario.fecha(1));
+        assertEquals(LocalDate.of(2025, 6, 16), calendario.fecha(4));
+        assertEquals(4, calendario.contarDiasLaborables(LocalDate.of(2025, 6, 7), LocalDate.of(2025, 6, 13)));
+        for (int i = 0; i < 300; i++) {
+            assertTrue(calendario.esLaborable(calendario.fecha(i)));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.budgetpro.domain.finanzas.cronograma.service;
+
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
+import com.budgetpro.domain.finanzas.cronograma.model.CalendarioLaboral;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
+import com.budgetpro.domain.finanzas.cronograma.model.ResultadoRutaCritica;
+import com.budgetpro.domain.finanzas.cronograma.model.TipoDependencia;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Time of a full {@link MotorRutaCritica} pass (topological sort, forward and backward
+ * passes, floats and date conversion) on a 50,000-activity programa de obra with
+ * ~75,000 mixed FS/SS/FF/SF links (0-3 predecessors per activity, 1.5 on average).
+ *
+ * Not part of the regular suite (the name does not end in Test); run with:
+ * {@code mvn -Punit-no-docker -Dtest=MotorRutaCriticaBenchmark test}
+ */
+class MotorRutaCriticaBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(MotorRutaCriticaBenchmark.class);
+
+    private static final int ACTIVIDADES = 50_000;
+    private static final int ITERACIONES = 10;
+    private static final LocalDate INICIO = LocalDate.of(2025, 1, 6);
+
+    @Test
+    void cpm_50kActividades() {
+        Random random = new Random(3);
+        UUID programa = UUID.randomUUID();
+        TipoDependencia[] tipos = TipoDependencia.values();
+        List<UUID> ids = new ArrayList<>(ACTIVIDADES);
+        List<ActividadProgramada> actividades = new ArrayList<>(ACTIVIDADES);
+        for (int i = 0; i < ACTIVIDADES; i++) {
+            UUID id = UUID.randomUUID();
+            List<Dependencia> dependencias = new ArrayList<>();
+            // Predecesoras cercanas: cadenas largas y paralelas como en un programa real
+            for (int k = random.nextInt(4); k > 0 && i > 0; k--) {
+                UUID predecesora = ids.get(Math.max(0, i - 1 - random.nextInt(200)));
+                if (dependencias.stream().noneMatch(d -> d.predecesoraId().equals(predecesora))) {
+                    dependencias.add(new Dependencia(predecesora, tipos[random.nextInt(tipos.length)],
+                            random.nextInt(5) - 1));
+                }
+            }
+            ids.add(id);
+            actividades.add(ActividadProgramada.reconstruirConDependencias(ActividadProgramadaId.of(id),
+                    UUID.randomUUID(), programa, null, null, 1 + random.nextInt(20), dependencias, 0L));
+        }
+        Collections.shuffle(actividades, random);
+        Set<LocalDate> feriados = Set.of(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 7, 28),
+                LocalDate.of(2025, 12, 25));
+        MotorRutaCritica motor = new MotorRutaCritica();
+
+        // Warm-up
+        for (int i = 0; i < 3; i++) {
+            motor.calcular(actividades, CalendarioLaboral.lunesAViernes(INICIO, feriados));
+        }
+
+        long inicio = System.nanoTime();
+        ResultadoRutaCritica resultado = null;
+        for (int i = 0; i < ITERACIONES; i++) {
+            resultado = motor.calcular(actividades, CalendarioLaboral.lunesAViernes(INICIO, feriados));
+        }
+        long milis = (System.nanoTime() - inicio) / 1_000_000 / ITERACIONES;
+        long vinculos = actividades.stream().mapToLong(a -> a.getDependencias().size()).sum();
+
+        assertEquals(ACTIVIDADES, resultado.tiempos().size());
+        log.info("MotorRutaCritica: {} actividades y {} vínculos en {} ms (duración {} días, {} críticas)",
+                ACTIVIDADES, vinculos, milis, resultado.duracionDiasLaborables(), resultado.rutaCritica().size());
+        assertTrue(milis < 1000, "El cálculo CPM de " + ACTIVIDADES + " actividades y " + vinculos
+                + " vínculos tomó " + milis + " ms; debe tomar menos de un segundo");
+    }
+}
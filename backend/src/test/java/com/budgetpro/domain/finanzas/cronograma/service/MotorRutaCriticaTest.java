@@ -0,0 +1,124 @@
+package com.budgetpro.domain.finanzas.cronograma.service;
+
+import com.budgetpro.domain.finanzas.cronograma.exception.DependenciaCiclicaException;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
+import com.budgetpro.domain.finanzas.cronograma.model.CalendarioLaboral;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
+import com.budgetpro.domain.finanzas.cronograma.model.ResultadoRutaCritica;
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
+import com.budgetpro.domain.finanzas.cronograma.model.TipoDependencia;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MotorRutaCriticaTest {
+
+    // Lunes
+    private static final LocalDate INICIO = LocalDate.of(2025, 6, 2);
+    private static final UUID PROGRAMA = UUID.randomUUID();
+
+    private final MotorRutaCritica motor = new MotorRutaCritica();
+
+    @Test
+    void finInicio_calculaTiemposHolgurasYRutaCritica() {
+        ActividadProgramada a = actividad(3);
+        ActividadProgramada b = actividad(2, Dependencia.finInicio(id(a)));
+        ActividadProgramada c = actividad(4, Dependencia.finInicio(id(a)));
+        ActividadProgramada d = actividad(1, Dependencia.finInicio(id(b)), Dependencia.finInicio(id(c)));
+
+        ResultadoRutaCritica resultado = motor.calcular(List.of(d, c, b, a), CalendarioLaboral.lunesAViernes(INICIO));
+
+        assertEquals(8, resultado.duracionDiasLaborables());
+        assertEquals(LocalDate.of(2025, 6, 11), resultado.fechaFin());
+        assertEquals(List.of(id(a), id(c), id(d)), resultado.rutaCritica());
+
+        // C: jueves a martes, saltando el fin de semana
+        TiemposActividad tc = resultado.tiemposDe(id(c));
+        assertEquals(LocalDate.of(2025, 6, 5), tc.inicioTemprano());
+        assertEquals(LocalDate.of(2025, 6, 10), tc.finTemprano());
+
+        TiemposActividad tb = resultado.tiemposDe(id(b));
+        assertEquals(2, tb.holguraTotal());
+        assertEquals(2, tb.holguraLibre());
+        assertEquals(LocalDate.of(2025, 6, 9), tb.inicioTardio());
+        assertEquals(LocalDate.of(2025, 6, 10), tb.finTardio());
+    }
+
+    @Test
+    void vinculosConDesfase_aplicanCadaTipo() {
+        ActividadProgramada a = actividad(5);
+        ActividadProgramada b = actividad(3, new Dependencia(id(a), TipoDependencia.INICIO_INICIO, 2));
+        ActividadProgramada c = actividad(2, new Dependencia(id(a), TipoDependencia.FIN_FIN, 1));
+        ActividadProgramada d = actividad(4, new Dependencia(id(a), TipoDependencia.INICIO_FIN, 3));
+
+        ResultadoRutaCritica resultado = motor.calcular(List.of(a, b, c, d), CalendarioLaboral.lunesAViernes(INICIO));
+
+        assertEquals(6, resultado.duracionDiasLaborables());
+        assertTiempos(resultado.tiemposDe(id(a)), 0, 0, 0);
+        assertTiempos(resultado.tiemposDe(id(b)), 2, 1, 1);
+        assertTiempos(resultado.tiemposDe(id(c)), 4, 0, 0);
+        assertTiempos(resultado.tiemposDe(id(d)), 0, 2, 2);
+        assertEquals(List.of(id(a), id(c)), resultado.rutaCritica());
+    }
+
+    @Test
+    void duracion_seMideEnDiasLaborablesDelCalendario() {
+        // Viernes a martes con feriado el lunes: viernes y martes
+        ActividadProgramada a = ActividadProgramada.crear(ActividadProgramadaId.nuevo(), UUID.randomUUID(), PROGRAMA,
+                LocalDate.of(2025, 6, 6), LocalDate.of(2025, 6, 10));
+        ActividadProgramada b = actividad(1, Dependencia.finInicio(id(a)));
+
+        ResultadoRutaCritica resultado = motor.calcular(List.of(a, b),
+                CalendarioLaboral.lunesAViernes(LocalDate.of(2025, 6, 6), Set.of(LocalDate.of(2025, 6, 9))));
+
+        assertEquals(2, resultado.tiemposDe(id(a)).duracionDias());
+        assertEquals(LocalDate.of(2025, 6, 10), resultado.tiemposDe(id(a)).finTemprano());
+        assertEquals(LocalDate.of(2025, 6, 11), resultado.tiemposDe(id(b)).inicioTemprano());
+    }
+
+    @Test
+    void ciclo_seReportaEnOrdenDeEjecucion() {
+        UUID idA = UUID.randomUUID();
+        UUID idB = UUID.randomUUID();
+        UUID idC = UUID.randomUUID();
+        ActividadProgramada libre = actividad(2);
+        ActividadProgramada a = actividad(idA, 1, Dependencia.finInicio(idC), Dependencia.finInicio(id(libre)));
+        ActividadProgramada b = actividad(idB, 1, Dependencia.finInicio(idA));
+        ActividadProgramada c = actividad(idC, 1, Dependencia.finInicio(idB));
+
+        DependenciaCiclicaException ex = assertThrows(DependenciaCiclicaException.class,
+                () -> motor.calcular(List.of(libre, c, b, a), CalendarioLaboral.lunesAViernes(INICIO)));
+
+        List<UUID> ciclo = ex.getCiclo();
+        assertEquals(3, ciclo.size());
+        int i = ciclo.indexOf(idA);
+        assertEquals(List.of(idA, idB, idC), List.of(ciclo.get(i), ciclo.get((i + 1) % 3), ciclo.get((i + 2) % 3)));
+    }
+
+    private static void assertTiempos(TiemposActividad tiempos, int inicioTemprano, int holguraTotal,
+            int holguraLibre) {
+        assertEquals(INICIO.plusDays(inicioTemprano), tiempos.inicioTemprano());
+        assertEquals(holguraTotal, tiempos.holguraTotal());
+        assertEquals(holguraLibre, tiempos.holguraLibre());
+    }
+
+    private static UUID id(ActividadProgramada actividad) {
+        return actividad.getId().getValue();
+    }
+
+    private static ActividadProgramada actividad(int duracion, Dependencia... dependencias) {
+        return actividad(UUID.randomUUID(), duracion, dependencias);
+    }
+
+    private static ActividadProgramada actividad(UUID id, int duracion, Dependencia... dependencias) {
+        return ActividadProgramada.reconstruirConDependencias(ActividadProgramadaId.of(id), UUID.randomUUID(),
+                PROGRAMA, null, null, duracion, List.of(dependencias), 0L);
+    }
+}
@@ -0,0 +1,157 @@
+package com.budgetpro.domain.finanzas.cronograma.service;
+
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
+import com.budgetpro.domain.finanzas.cronograma.model.CalendarioLaboral;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
+import com.budgetpro.domain.finanzas.cronograma.model.ResultadoRutaCritica;
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
+import com.budgetpro.domain.finanzas.cronograma.model.TipoDependencia;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RedRutaCriticaTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 3);
+    private static final Set<LocalDate> FERIADOS = Set.of(LocalDate.of(2025, 3, 14), LocalDate.of(2025, 4, 17));
+    private static final UUID PROGRAMA = UUID.randomUUID();
+    private static final TipoDependencia[] TIPOS = TipoDependencia.values();
+
+    @Test
+    void actualizarDuracion_igualARecalculoCompleto() {
+        Random random = new Random(17);
+        for (int caso = 0; caso < 300; caso++) {
+            List<ActividadProgramada> actividades = redAleatoria(random, 1 + random.nextInt(60));
+            RedRutaCritica red = RedRutaCritica.construir(actividades, calendario());
+
+            for (int edicion = 0; edicion < 15; edicion++) {
+                Map<UUID, TiemposActividad> antes = red.resultado().tiempos();
+                int i = random.nextInt(actividades.size());
+                int duracion = random.nextInt(12);
+                actividades.set(i, conDuracion(actividades.get(i), duracion));
+
+                List<TiemposActividad> cambios = red.actualizarDuracion(actividades.get(i).getId().getValue(),
+                        duracion);
+
+                ResultadoRutaCritica completo = RedRutaCritica.construir(actividades, calendario()).resultado();
+                assertEquals(completo, red.resultado());
+                // Los cambios reportados son exactamente los tiempos que difieren
+                Set<UUID> esperados = completo.tiempos().values().stream()
+                        .filter(t -> !t.equals(antes.get(t.actividadId())))
+                        .map(TiemposActividad::actividadId)
+                        .collect(Collectors.toSet());
+                assertEquals(esperados, cambios.stream().map(TiemposActividad::actividadId).collect(Collectors.toSet()));
+            }
+        }
+    }
+
+    @Test
+    void recalcularDesdePersistidos_igualARecalculoCompleto() {
+        Random random = new Random(29);
+        MotorRutaCritica motor = new MotorRutaCritica();
+        for (int caso = 0; caso < 200; caso++) {
+            List<ActividadProgramada> actividades = redAleatoria(random, 1 + random.nextInt(60));
+            Map<UUID, TiemposActividad> persistidos = new HashMap<>(
+                    motor.calcular(actividades, calendario()).tiempos());
+
+            for (int edicion = 0; edicion < 5; edicion++) {
+                // Varias actividades editadas entre dos recálculos
+                for (int k = 1 + random.nextInt(3); k > 0; k--) {
+                    int i = random.nextInt(actividades.size());
+                    actividades.set(i, conDuracion(actividades.get(i), random.nextInt(12)));
+                }
+
+                for (TiemposActividad t : motor.recalcular(actividades, calendario(), persistidos, false)) {
+                    persistidos.put(t.actividadId(), t);
+                }
+
+                assertEquals(motor.calcular(actividades, calendario()).tiempos(), persistidos);
+            }
+        }
+    }
+
+    @Test
+    void edicionConHolgura_soloTocaLaActividad() {
+        ActividadProgramada a = actividad(10);
+        ActividadProgramada b = actividad(3);
+        ActividadProgramada c = actividad(1, Dependencia.finInicio(id(a)), Dependencia.finInicio(id(b)));
+        RedRutaCritica red = RedRutaCritica.construir(new ArrayList<>(List.of(a, b, c)), calendario());
+
+        List<TiemposActividad> cambios = red.actualizarDuracion(id(b), 5);
+
+        assertEquals(List.of(id(b)), cambios.stream().map(TiemposActividad::actividadId).toList());
+        assertEquals(5, cambios.get(0).holguraTotal());
+    }
+
+    @Test
+    void restaurar_conOrigenDistinto_requiereCalculoCompleto() {
+        List<ActividadProgramada> actividades = redAleatoria(new Random(3), 20);
+        Map<UUID, TiemposActividad> persistidos = RedRutaCritica.construir(actividades, calendario()).resultado()
+                .tiempos();
+
+        assertTrue(RedRutaCritica.restaurar(actividades, calendario(), persistidos).isPresent());
+        assertTrue(RedRutaCritica.restaurar(actividades,
+                CalendarioLaboral.lunesAViernes(INICIO.plusWeeks(1), FERIADOS), persistidos).isEmpty());
+        Map<UUID, TiemposActividad> incompletos = new HashMap<>(persistidos);
+        incompletos.remove(id(actividades.get(0)));
+        assertTrue(RedRutaCritica.restaurar(actividades, calendario(), incompletos).isEmpty());
+    }
+
+    private static CalendarioLaboral calendario() {
+        return CalendarioLaboral.lunesAViernes(INICIO, FERIADOS);
+    }
+
+    /**
+     * Red acíclica: cada actividad solo depende de actividades anteriores; el orden de la
+     * lista se mezcla para no coincidir con el topológico.
+     */
+    private static List<ActividadProgramada> redAleatoria(Random random, int n) {
+        List<UUID> ids = new ArrayList<>();
+        List<ActividadProgramada> actividades = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            UUID id = UUID.randomUUID();
+            List<Dependencia> dependencias = new ArrayList<>();
+            for (int k = random.nextInt(4); k > 0 && i > 0; k--) {
+                UUID predecesora = ids.get(random.nextInt(i));
+                if (dependencias.stream().noneMatch(d -> d.predecesoraId().equals(predecesora))) {
+                    dependencias.add(new Dependencia(predecesora, TIPOS[random.nextInt(TIPOS.length)],
+                            random.nextInt(7) - 2));
+                }
+            }
+            ids.add(id);
+            actividades.add(actividad(id, random.nextInt(12), dependencias));
+        }
+        Collections.shuffle(actividades, random);
+        return actividades;
+    }
+
+    private static ActividadProgramada conDuracion(ActividadProgramada actividad, int duracion) {
+        return actividad(actividad.getId().getValue(), duracion, actividad.getDependencias());
+    }
+
+    private static UUID id(ActividadProgramada actividad) {
+        return actividad.getId().getValue();
+    }
+
+    private static ActividadProgramada actividad(int duracion, Dependencia... dependencias) {
+        return actividad(UUID.randomUUID(), duracion, List.of(dependencias));
+    }
+
+    private static ActividadProgramada actividad(UUID id, int duracion, List<Dependencia> dependencias) {
+        return ActividadProgramada.reconstruirConDependencias(ActividadProgramadaId.of(id), UUID.randomUUID(),
+                PROGRAMA, null, null, duracion, dependencias, 0L);
+    }
+}
@@ -0,0 +1,129 @@
+package com.budgetpro.domain.finanzas.presupuesto.service;
+
+import com.budgetpro.domain.finanzas.apu.model.APU;
+import com.budgetpro.domain.finanzas.apu.model.ApuId;
+import com.budgetpro.domain.finanzas.apu.port.out.ApuRepository;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.CostosPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.CostosPresupuestoCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalculoPresupuestoServiceTest {
+
+    @Mock
+    private PartidaRepository partidaRepository;
+    @Mock
+    private ApuRepository apuRepository;
+
+    private CalculoPresupuestoService service;
+    private UUID presupuestoId;
+    private Partida estructuras;
+    private Partida concreto;
+    private Partida acero;
+    private Partida limpieza;
+
+    @BeforeEach
+    void setUp() {
+        service = new CalculoPresupuestoService(partidaRepository, apuRepository, new CacheEnMemoria());
+        presupuestoId = UUID.randomUUID();
+        estructuras = Partida.crearRaiz(PartidaId.nuevo(), presupuestoId, "01", "Estructuras", null, null);
+        concreto = Partida.crearHija(PartidaId.nuevo(), presupuestoId, estructuras.getId().getValue(), "01.01",
+                "Concreto", "m3", new BigDecimal("10"), 2);
+        acero = Partida.crearHija(PartidaId.nuevo(), presupuestoId, estructuras.getId().getValue(), "01.02",
+                "Acero", "kg", new BigDecimal("100"), 2);
+        limpieza = Partida.crearRaiz(PartidaId.nuevo(), presupuestoId, "02", "Limpieza", "glb", BigDecimal.ONE);
+
+        lenient().when(partidaRepository.calcularVersionWbs(presupuestoId)).thenReturn("4-0-1");
+        lenient().when(apuRepository.calcularVersionApus(presupuestoId)).thenReturn("2-0-1-2-1");
+        lenient().when(partidaRepository.findByPresupuestoId(presupuestoId))
+                .thenReturn(List.of(acero, limpieza, concreto, estructuras));
+        lenient().when(apuRepository.findByPresupuestoId(presupuestoId)).thenReturn(List.of(
+                apu(concreto, "2", "150.00"),
+                apu(acero, "1", "4.50")));
+    }
+
+    @Test
+    @DisplayName("Consolida de hojas a raíces con dos consultas, sin buscar APUs partida por partida")
+    void consolidaEnUnRecorrido() {
+        CostosPresupuesto costos = service.obtenerCostos(presupuestoId);
+
+        assertEquals(0, new BigDecimal("3000.00").compareTo(costos.costoDe(concreto.getId().getValue())));
+        assertEquals(0, new BigDecimal("450.00").compareTo(costos.costoDe(acero.getId().getValue())));
+        assertEquals(0, new BigDecimal("3450.00").compareTo(costos.costoDe(estructuras.getId().getValue())));
+        assertEquals(0, BigDecimal.ZERO.compareTo(costos.costoDe(limpieza.getId().getValue())));
+        assertEquals(0, new BigDecimal("3450.00").compareTo(costos.costoTotal()));
+        assertFalse(costos.todasLasHojasTienenApu());
+        verify(apuRepository, never()).findByPartidaId(any());
+    }
+
+    @Test
+    @DisplayName("Aprobación, total y costo por partida comparten el cálculo mientras no cambie la versión")
+    void reutilizaCalculoConMismaVersion() {
+        when(partidaRepository.findById(acero.getId().getValue())).thenReturn(Optional.of(acero));
+
+        assertFalse(service.todasLasPartidasHojaTienenAPU(presupuestoId));
+        assertEquals(0, new BigDecimal("3450.00").compareTo(service.calcularCostoTotal(presupuestoId)));
+        assertEquals(0, new BigDecimal("450.00").compareTo(service.calcularCostoPartida(acero.getId().getValue())));
+
+        verify(partidaRepository, times(1)).findByPresupuestoId(presupuestoId);
+        verify(apuRepository, times(1)).findByPresupuestoId(presupuestoId);
+    }
+
+    @Test
+    @DisplayName("Recalcula cuando cambia la versión de los APUs")
+    void recalculaConNuevaVersion() {
+        when(apuRepository.calcularVersionApus(presupuestoId)).thenReturn("2-0-1-2-1", "2-1-5-2-5");
+
+        service.calcularCostoTotal(presupuestoId);
+        service.calcularCostoTotal(presupuestoId);
+
+        verify(partidaRepository, times(2)).findByPresupuestoId(presupuestoId);
+    }
+
+    @Test
+    @DisplayName("Partida inexistente cuesta cero")
+    void partidaInexistente() {
+        UUID inexistente = UUID.randomUUID();
+        when(partidaRepository.findById(inexistente)).thenReturn(Optional.empty());
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(service.calcularCostoPartida(inexistente)));
+    }
+
+    private APU apu(Partida partida, String cantidad, String precio) {
+        return APU.crear(ApuId.nuevo(), partida.getId().getValue(), partida.getUnidad())
+                .agregarInsumo(UUID.randomUUID(), new BigDecimal(cantidad), new BigDecimal(precio));
+    }
+
+    private static class CacheEnMemoria implements CostosPresupuestoCache {
+        private final Map<UUID, CostosPresupuesto> costos = new HashMap<>();
+
+        @Override
+        public Optional<CostosPresupuesto> obtener(UUID presupuestoId, String version) {
+            return Optional.ofNullable(costos.get(presupuestoId)).filter(c -> c.version().equals(version));
+        }
+
+        @Override
+        public void guardar(UUID presupuestoId, CostosPresupuesto entrada) {
+            costos.put(presupuestoId, entrada);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.budgetpro.domain.finanzas.presupuesto.service;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.FilaImportacionPresupuesto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidadorImportacionPresupuestoTest {
+
+    private ValidadorImportacionPresupuesto validador;
+    private long numero;
+
+    @BeforeEach
+    void setUp() {
+        validador = new ValidadorImportacionPresupuesto();
+        numero = 1;
+    }
+
+    @Test
+    @DisplayName("Una EDT bien formada devuelve el padre de cada partida")
+    void edtValida() {
+        assertNull(validador.registrarPartida(partida("01", null)));
+        assertEquals("01", validador.registrarPartida(partida("01.01", null)));
+        assertEquals("01.01", validador.registrarPartida(partida("01.01.01", "m3")));
+        validador.registrarInsumo(insumo("MAT-001", "2.5"));
+        validador.registrarInsumo(insumo("MO-001", "0.8"));
+        assertEquals("01", validador.registrarPartida(partida("01.02", "m2")));
+        assertEquals(3, ValidadorImportacionPresupuesto.nivel("01.01.01"));
+    }
+
+    @Test
+    @DisplayName("Rechaza ítems mal formados, duplicados o con padre ausente")
+    void edtInvalida() {
+        validador.registrarPartida(partida("01", null));
+
+        assertMensaje("inválido", () -> validador.registrarPartida(partida("01-02", null)));
+        assertMensaje("duplicado", () -> validador.registrarPartida(partida("01", null)));
+        assertMensaje("no aparece antes", () -> validador.registrarPartida(partida("02.01", null)));
+    }
+
+    @Test
+    @DisplayName("Una partida con APU no puede tener subpartidas")
+    void padreConApu() {
+        validador.registrarPartida(partida("01", "glb"));
+        validador.registrarInsumo(insumo("MAT-001", "1"));
+
+        assertMensaje("tiene APU", () -> validador.registrarPartida(partida("01.01", null)));
+    }
+
+    @Test
+    @DisplayName("Rechaza insumos sin partida, con cantidad no positiva o recurso repetido en el APU")
+    void composicionApu() {
+        assertMensaje("sin partida", () -> validador.registrarInsumo(insumo("MAT-001", "1")));
+
+        validador.registrarPartida(partida("01", "m3"));
+        validador.registrarInsumo(insumo("MAT-001", "1"));
+        assertMensaje("positiva", () -> validador.registrarInsumo(insumo("MAT-002", "0")));
+        assertMensaje("se repite", () -> validador.registrarInsumo(insumo("MAT-001", "3")));
+
+        // El mismo recurso puede aparecer en el APU de otra partida
+        validador.registrarPartida(partida("02", "m3"));
+        assertDoesNotThrow(() -> validador.registrarInsumo(insumo("MAT-001", "1")));
+    }
+
+    @Test
+    @DisplayName("Los insumos de una partida rechazada se ignoran sin nuevos errores")
+    void insumosDePartidaRechazada() {
+        assertThrows(IllegalArgumentException.class, () -> validador.registrarPartida(partida("01.01", "m3")));
+
+        assertDoesNotThrow(() -> validador.registrarInsumo(insumo("MAT-001", "1")));
+    }
+
+    @Test
+    @DisplayName("El error indica el número de fila")
+    void errorConNumeroDeFila() {
+        numero = 42;
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> validador.registrarPartida(partida("x", null)));
+
+        assertTrue(ex.getMessage().startsWith("Fila 42:"));
+    }
+
+    private FilaImportacionPresupuesto partida(String item, String unidad) {
+        return new FilaImportacionPresupuesto(numero++, FilaImportacionPresupuesto.Tipo.PARTIDA, item,
+                "Partida " + item, unidad, BigDecimal.TEN, null, null, null, null);
+    }
+
+    private FilaImportacionPresupuesto insumo(String recurso, String cantidad) {
+        return new FilaImportacionPresupuesto(numero++, FilaImportacionPresupuesto.Tipo.INSUMO, null, null, null,
+                null, null, recurso, new BigDecimal(cantidad), null);
+    }
+
+    private static void assertMensaje(String fragmento, org.junit.jupiter.api.function.Executable accion) {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, accion);
+        assertTrue(ex.getMessage().contains(fragmento), ex.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package com.budgetpro.domain.finanzas.reajuste.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeriesIndicesTest {
+
+    private static final YearMonth MARZO = YearMonth.of(2025, 3);
+
+    @Test
+    void de_variosValoresEnElMes_prefiereElDefinitivo() {
+        IndicePrecios definitivo = IndicePrecios.crear(IndicePreciosId.generate(), "MO", "MO",
+                TipoIndicePrecios.CUSTOM, LocalDate.of(2025, 3, 1), new BigDecimal("412.35"));
+        IndicePrecios provisionalPosterior = IndicePrecios.crearProvisional(IndicePreciosId.generate(), "MO", "MO",
+                TipoIndicePrecios.CUSTOM, LocalDate.of(2025, 3, 15), new BigDecimal("410.10"));
+
+        for (List<IndicePrecios> indices : List.of(List.of(definitivo, provisionalPosterior),
+                List.of(provisionalPosterior, definitivo))) {
+            SeriesIndices series = SeriesIndices.de(indices, MARZO, MARZO);
+            int columna = series.columna("MO");
+            assertEquals(412_350_000L, series.valor(columna, series.mes(MARZO)));
+            assertTrue(series.esDefinitivo(columna, series.mes(MARZO)));
+        }
+    }
+
+    @Test
+    void de_variosProvisionalesEnElMes_usaElMasReciente() {
+        IndicePrecios primero = IndicePrecios.crearProvisional(IndicePreciosId.generate(), "MO", "MO",
+                TipoIndicePrecios.CUSTOM, LocalDate.of(2025, 3, 1), new BigDecimal("405"));
+        IndicePrecios ultimo = IndicePrecios.crearProvisional(IndicePreciosId.generate(), "MO", "MO",
+                TipoIndicePrecios.CUSTOM, LocalDate.of(2025, 3, 20), new BigDecimal("407.5"));
+
+        for (List<IndicePrecios> indices : List.of(List.of(primero, ultimo), List.of(ultimo, primero))) {
+            SeriesIndices series = SeriesIndices.de(indices, MARZO, MARZO);
+            int columna = series.columna("MO");
+            assertEquals(407_500_000L, series.valor(columna, series.mes(MARZO)));
+            assertFalse(series.esDefinitivo(columna, series.mes(MARZO)));
+        }
+    }
+}
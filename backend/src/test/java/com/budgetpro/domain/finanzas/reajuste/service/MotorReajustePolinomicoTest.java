@@ -0,0 +1,182 @@
+package com.budgetpro.domain.finanzas.reajuste.service;
+
+import com.budgetpro.domain.finanzas.reajuste.model.FactoresReajuste;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomicaId;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePreciosId;
+import com.budgetpro.domain.finanzas.reajuste.model.Monomio;
+import com.budgetpro.domain.finanzas.reajuste.model.SeriesIndices;
+import com.budgetpro.domain.finanzas.reajuste.model.TipoIndicePrecios;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MotorReajustePolinomicoTest {
+
+    private static final UUID PRESUPUESTO = UUID.randomUUID();
+    private static final YearMonth BASE = YearMonth.of(2025, 1);
+    private static final YearMonth FEBRERO = YearMonth.of(2025, 2);
+    private static final YearMonth MARZO = YearMonth.of(2025, 3);
+    private static final UUID PARTIDA_SIN_ASIGNAR = UUID.randomUUID();
+    private static final UUID PARTIDA_F2 = UUID.randomUUID();
+
+    private final MotorReajustePolinomico motor = new MotorReajustePolinomico();
+
+    @Test
+    void calcularFactores_evaluaVariasFormulasYMonomiosPorPeriodo() {
+        List<IndicePrecios> indices = seriesBase();
+        indices.add(provisional("B", MARZO, "60"));
+
+        FactoresReajuste factores = motor.calcularFactores(formulas(Set.of(PARTIDA_F2)),
+                SeriesIndices.de(indices, BASE, MARZO), List.of(FEBRERO, MARZO));
+
+        // K1 = 0.40 × 105/100 + 0.60 × (0.5 × 200/200 + 0.5 × 55/50); K2 = 400/400
+        int febrero = factores.periodo(FEBRERO);
+        assertEquals(new BigDecimal("1.050"), factores.factor(febrero, 0));
+        assertEquals(new BigDecimal("1.000"), factores.factor(febrero, 1));
+        assertTrue(factores.indicesDefinitivos(febrero));
+
+        // K1 = 0.40 × 110/100 + 0.60 × (0.5 × 210/200 + 0.5 × 60/50); K2 = 420/400
+        int marzo = factores.periodo(MARZO);
+        assertEquals(new BigDecimal("1.115"), factores.factor(marzo, 0));
+        assertEquals(new BigDecimal("1.050"), factores.factor(marzo, 1));
+        assertFalse(factores.indicesDefinitivos(marzo));
+    }
+
+    @Test
+    void reajustarMontos_usaElFactorDeLaFormulaDeCadaPartida() {
+        List<IndicePrecios> indices = seriesBase();
+        indices.add(provisional("B", MARZO, "60"));
+        FactoresReajuste factores = motor.calcularFactores(formulas(Set.of(PARTIDA_F2)),
+                SeriesIndices.de(indices, BASE, MARZO), List.of(MARZO));
+
+        BigDecimal[] montos = motor.reajustarMontos(factores, 0, List.of(PARTIDA_SIN_ASIGNAR, PARTIDA_F2),
+                List.of(new BigDecimal("1000.00"), new BigDecimal("1234.5678")));
+
+        // 1234.5678 × 1.050 = 1296.29619 -> HALF_UP a 4 decimales
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("1115.0000"), new BigDecimal("1296.2962")}, montos);
+    }
+
+    @Test
+    void calcularFactores_conIndiceDefinitivoPublicado_recalculaElPeriodo() {
+        List<IndicePrecios> indices = seriesBase();
+        indices.add(IndicePrecios.crear(IndicePreciosId.generate(), "B", "B", TipoIndicePrecios.CUSTOM,
+                MARZO.atDay(1), new BigDecimal("62")));
+
+        FactoresReajuste factores = motor.calcularFactores(formulas(Set.of(PARTIDA_F2)),
+                SeriesIndices.de(indices, BASE, MARZO), List.of(MARZO));
+
+        // 0.44 + 0.60 × (0.525 + 0.62)
+        assertEquals(new BigDecimal("1.127"), factores.factor(0, 0));
+        assertTrue(factores.indicesDefinitivos(0));
+    }
+
+    @Test
+    void calcularFactores_kEnElLimiteDelMilesimo_redondeaHaciaArriba() {
+        // K = 0.05 × 369/300 + 0.95 × 300/300 = 1.0115 exacto (en double suma 1.01149999...)
+        List<FormulaPolinomica> formulas = List.of(formula(1, Set.of(),
+                Monomio.simple(new BigDecimal("0.05"), "MO"), Monomio.simple(new BigDecimal("0.95"), "C")));
+        List<IndicePrecios> indices = List.of(
+                definitivo("MO", BASE, "300"), definitivo("C", BASE, "300"),
+                definitivo("MO", FEBRERO, "369"), definitivo("C", FEBRERO, "300"));
+
+        FactoresReajuste factores = motor.calcularFactores(formulas, SeriesIndices.de(indices, BASE, FEBRERO),
+                List.of(FEBRERO));
+
+        assertEquals(new BigDecimal("1.012"), factores.factor(0, 0));
+    }
+
+    @Test
+    void calcularFactores_terminosPeriodicos_redondeaLaFraccionExacta() {
+        // K = 0.6 × 7/3 + 0.4 × 100.0375/100 = 1.4 + 0.40015 = 1.80015 -> 1.800
+        List<FormulaPolinomica> formulas = List.of(formula(1, Set.of(),
+                Monomio.simple(new BigDecimal("0.6"), "MO"), Monomio.simple(new BigDecimal("0.4"), "C")));
+        List<IndicePrecios> indices = List.of(
+                definitivo("MO", BASE, "3"), definitivo("C", BASE, "100"),
+                definitivo("MO", FEBRERO, "7"), definitivo("C", FEBRERO, "100.0375"));
+
+        FactoresReajuste factores = motor.calcularFactores(formulas, SeriesIndices.de(indices, BASE, FEBRERO),
+                List.of(FEBRERO));
+
+        assertEquals(new BigDecimal("1.800"), factores.factor(0, 0));
+    }
+
+    @Test
+    void calcularFactores_sinIndicePublicado_lanzaExcepcion() {
+        List<IndicePrecios> indices = seriesBase();
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> motor.calcularFactores(formulas(Set.of()), SeriesIndices.de(indices, BASE, MARZO),
+                        List.of(MARZO)));
+        assertEquals("Índice B no publicado para 2025-03", error.getMessage());
+    }
+
+    @Test
+    void calcularFactores_partidaEnDosFormulas_lanzaExcepcion() {
+        UUID partida = UUID.randomUUID();
+        List<FormulaPolinomica> formulas = List.of(
+                formula(1, Set.of(partida), Monomio.simple(BigDecimal.ONE, "MO")),
+                formula(2, Set.of(partida), Monomio.simple(BigDecimal.ONE, "C")));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> motor.calcularFactores(formulas, SeriesIndices.de(seriesBase(), BASE, MARZO),
+                        List.of(FEBRERO)));
+    }
+
+    private static List<FormulaPolinomica> formulas(Set<UUID> partidasFormula2) {
+        Monomio manoDeObra = Monomio.simple(new BigDecimal("0.40"), "MO");
+        Monomio materiales = new Monomio(new BigDecimal("0.60"), List.of(
+                new Monomio.Termino("A", new BigDecimal("0.5")),
+                new Monomio.Termino("B", new BigDecimal("0.5"))));
+        return List.of(
+                formula(2, partidasFormula2, Monomio.simple(BigDecimal.ONE, "C")),
+                formula(1, Set.of(), manoDeObra, materiales));
+    }
+
+    private static FormulaPolinomica formula(int numero, Set<UUID> partidas, Monomio... monomios) {
+        return FormulaPolinomica.crear(FormulaPolinomicaId.generate(), PRESUPUESTO, numero, BASE.atDay(1),
+                List.of(monomios), partidas);
+    }
+
+    /**
+     * Enero y febrero definitivos de MO, A, B y C; marzo definitivo de MO, A y C.
+     */
+    private static List<IndicePrecios> seriesBase() {
+        List<IndicePrecios> indices = new ArrayList<>();
+        indices.add(definitivo("MO", BASE, "100"));
+        indices.add(definitivo("A", BASE, "200"));
+        indices.add(definitivo("B", BASE, "50"));
+        indices.add(definitivo("C", BASE, "400"));
+        indices.add(definitivo("MO", FEBRERO, "105"));
+        indices.add(definitivo("A", FEBRERO, "200"));
+        indices.add(definitivo("B", FEBRERO, "55"));
+        indices.add(definitivo("C", FEBRERO, "400"));
+        indices.add(definitivo("MO", MARZO, "110"));
+        indices.add(definitivo("A", MARZO, "210"));
+        indices.add(definitivo("C", MARZO, "420"));
+        return indices;
+    }
+
+    private static IndicePrecios definitivo(String codigo, YearMonth mes, String valor) {
+        return IndicePrecios.crear(IndicePreciosId.generate(), codigo, codigo, TipoIndicePrecios.CUSTOM,
+                mes.atDay(1), new BigDecimal(valor));
+    }
+
+    private static IndicePrecios provisional(String codigo, YearMonth mes, String valor) {
+        return IndicePrecios.crearProvisional(IndicePreciosId.generate(), codigo, codigo, TipoIndicePrecios.CUSTOM,
+                mes.atDay(1), new BigDecimal(valor));
+    }
+}
@@ -0,0 +1,163 @@
+package com.budgetpro.domain.logistica.almacen.service;
+
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.model.TipoMovimientoAlmacen;
+import com.budgetpro.domain.logistica.almacen.service.RecosteoKardexService.ResultadoRecosteo;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecosteoKardexServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecosteoKardexServiceTest.class);
+
+    private final RecosteoKardexService service = new RecosteoKardexService(new GestionKardexService());
+    private final UUID almacenId = UUID.randomUUID();
+    private final UUID recursoId = UUID.randomUUID();
+
+    @Test
+    void recostear_entradaRetroactiva_debeRecalcularSaldosYCppPosteriores() {
+        // Entrada retroactiva de 10 a 20 registrada antes de los movimientos existentes
+        SaldoKardex saldoInicial = saldo("10", "200", "20");
+        List<RegistroKardex> registros = List.of(
+                entrada(LocalDate.of(2026, 3, 5), "10", "10", "10", "100", "10"),
+                salida(LocalDate.of(2026, 3, 8), "5", "5", "50", "10")
+        );
+        List<RegistroKardex> actualizados = new ArrayList<>();
+
+        ResultadoRecosteo resultado = service.recostear(saldoInicial, registros.iterator(), 10, actualizados::addAll);
+
+        assertEquals(2, resultado.registrosRecorridos());
+        assertEquals(2, resultado.registrosActualizados());
+        assertEquals(0, new BigDecimal("15").compareTo(resultado.saldoFinal().saldoCantidad()));
+        assertEquals(0, new BigDecimal("225").compareTo(resultado.saldoFinal().saldoValor()));
+        assertEquals(0, new BigDecimal("15").compareTo(resultado.saldoFinal().costoPromedioPonderado()));
+
+        RegistroKardex salidaRecosteada = actualizados.get(1);
+        assertEquals(registros.get(1).getId(), salidaRecosteada.getId());
+        assertEquals(0, new BigDecimal("15").compareTo(salidaRecosteada.getPrecioUnitario()));
+    }
+
+    @Test
+    void recostear_sinCambios_noDebeEmitirRegistros() {
+        List<RegistroKardex> registros = List.of(
+                entrada(LocalDate.of(2026, 3, 5), "10", "10", "10", "100", "10"),
+                salida(LocalDate.of(2026, 3, 8), "5", "5", "50", "10")
+        );
+        AtomicInteger lotes = new AtomicInteger();
+
+        ResultadoRecosteo resultado = service.recostear(saldo("0", "0", "0"), registros.iterator(), 10,
+                lote -> lotes.incrementAndGet());
+
+        assertEquals(2, resultado.registrosRecorridos());
+        assertEquals(0, resultado.registrosActualizados());
+        assertEquals(0, lotes.get());
+    }
+
+    @Test
+    void recostear_debeEmitirEnLotesDelTamanoIndicado() {
+        List<RegistroKardex> registros = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Saldos desactualizados: todos deben recalcularse
+            registros.add(entrada(LocalDate.of(2026, 3, 1).plusDays(i), "1", "10", "0", "0", "0"));
+        }
+        List<Integer> tamanos = new ArrayList<>();
+
+        ResultadoRecosteo resultado = service.recostear(saldo("0", "0", "0"), registros.iterator(), 3,
+                lote -> tamanos.add(lote.size()));
+
+        assertEquals(List.of(3, 3, 1), tamanos);
+        assertEquals(0, new BigDecimal("7").compareTo(resultado.saldoFinal().saldoCantidad()));
+    }
+
+    @Test
+    void recostear_salidaPosteriorSinStock_debeFallar() {
+        // Una salida retroactiva consume el stock que una salida posterior necesitaba
+        SaldoKardex saldoInicial = saldo("2", "20", "10");
+        List<RegistroKardex> registros = List.of(salida(LocalDate.of(2026, 3, 8), "5", "5", "50", "10"));
+
+        assertThrows(IllegalStateException.class,
+                () -> service.recostear(saldoInicial, registros.iterator(), 10, lote -> { }));
+    }
+
+    @Test
+    void recostear_registroDeOtroRecurso_debeFallar() {
+        RegistroKardex ajeno = RegistroKardex.reconstruir(UUID.randomUUID(), almacenId, UUID.randomUUID(),
+                LocalDate.of(2026, 3, 5), UUID.randomUUID(), TipoMovimientoAlmacen.ENTRADA,
+                BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.TEN, BigDecimal.TEN);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.recostear(saldo("0", "0", "0"), List.of(ajeno).iterator(), 10, lote -> { }));
+    }
+
+    @Test
+    void recostear_cienMilMovimientos_debeTerminarEnTiempoAcotado() {
+        int total = 100_000;
+        AtomicInteger actualizados = new AtomicInteger();
+
+        long inicio = System.nanoTime();
+        ResultadoRecosteo resultado = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> service.recostear(saldo("1000", "10000", "10"), generarMovimientos(total), 500,
+                        lote -> actualizados.addAndGet(lote.size())));
+        long milis = Math.max(1, (System.nanoTime() - inicio) / 1_000_000);
+
+        log.info("Recosteo de {} registros en {} ms ({} registros/s)", total, milis, total * 1000L / milis);
+        assertEquals(total, resultado.registrosRecorridos());
+        assertEquals(total, actualizados.get());
+    }
+
+    /**
+     * Genera entradas y salidas alternadas con saldos desactualizados, sin materializarlas en memoria.
+     */
+    private Iterator<RegistroKardex> generarMovimientos(int total) {
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        return new Iterator<>() {
+            private int i;
+
+            @Override
+            public boolean hasNext() {
+                return i < total;
+            }
+
+            @Override
+            public RegistroKardex next() {
+                LocalDate fecha = base.plusDays(i / 50);
+                RegistroKardex registro = i % 2 == 0
+                        ? entrada(fecha, "3", "12", "0", "0", "0")
+                        : salida(fecha, "2", "0", "0", "0");
+                i++;
+                return registro;
+            }
+        };
+    }
+
+    private SaldoKardex saldo(String cantidad, String valor, String cpp) {
+        return new SaldoKardex(recursoId, new BigDecimal(cantidad), new BigDecimal(valor), new BigDecimal(cpp));
+    }
+
+    private RegistroKardex entrada(LocalDate fecha, String cantidad, String precio,
+                                   String saldoCantidad, String saldoValor, String cpp) {
+        return RegistroKardex.reconstruir(UUID.randomUUID(), almacenId, recursoId, fecha, UUID.randomUUID(),
+                TipoMovimientoAlmacen.ENTRADA, new BigDecimal(cantidad), BigDecimal.ZERO, new BigDecimal(precio),
+                new BigDecimal(saldoCantidad), new BigDecimal(saldoValor), new BigDecimal(cpp));
+    }
+
+    private RegistroKardex salida(LocalDate fecha, String cantidad,
+                                  String saldoCantidad, String saldoValor, String cpp) {
+        return RegistroKardex.reconstruir(UUID.randomUUID(), almacenId, recursoId, fecha, UUID.randomUUID(),
+                TipoMovimientoAlmacen.SALIDA, BigDecimal.ZERO, new BigDecimal(cantidad), new BigDecimal(cpp),
+                new BigDecimal(saldoCantidad), new BigDecimal(saldoValor), new BigDecimal(cpp));
+    }
+}
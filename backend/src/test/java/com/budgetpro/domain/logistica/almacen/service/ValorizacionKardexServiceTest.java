@@ -0,0 +1,97 @@
+package com.budgetpro.domain.logistica.almacen.service;
+
+import com.budgetpro.domain.logistica.almacen.model.KardexCheckpoint;
+import com.budgetpro.domain.logistica.almacen.model.RegistroKardex;
+import com.budgetpro.domain.logistica.almacen.model.SaldoKardex;
+import com.budgetpro.domain.logistica.almacen.model.TipoMovimientoAlmacen;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValorizacionKardexServiceTest {
+
+    private final ValorizacionKardexService service = new ValorizacionKardexService();
+    private final UUID almacenId = UUID.randomUUID();
+
+    @Test
+    void reproducir_sinCheckpoint_debeTomarUltimoRegistroPorRecurso() {
+        UUID cemento = UUID.randomUUID();
+        UUID acero = UUID.randomUUID();
+
+        List<RegistroKardex> registros = List.of(
+                registro(cemento, LocalDate.of(2026, 1, 5), "100", "1000", "10"),
+                registro(acero, LocalDate.of(2026, 1, 6), "50", "250", "5"),
+                registro(cemento, LocalDate.of(2026, 1, 9), "60", "600", "10")
+        );
+
+        Map<UUID, SaldoKardex> saldos = service.reproducir(List.of(), registros);
+
+        assertEquals(2, saldos.size());
+        assertEquals(new BigDecimal("60"), saldos.get(cemento).saldoCantidad());
+        assertEquals(new BigDecimal("250"), saldos.get(acero).saldoValor());
+    }
+
+    @Test
+    void reproducir_conCheckpoint_debeConservarRecursosSinMovimientos() {
+        UUID cemento = UUID.randomUUID();
+        UUID arena = UUID.randomUUID();
+        List<SaldoKardex> base = List.of(
+                new SaldoKardex(cemento, new BigDecimal("10"), new BigDecimal("100"), new BigDecimal("10")),
+                new SaldoKardex(arena, new BigDecimal("5"), new BigDecimal("75"), new BigDecimal("15"))
+        );
+
+        Map<UUID, SaldoKardex> saldos = service.reproducir(base,
+                List.of(registro(cemento, LocalDate.of(2026, 2, 3), "30", "330", "11")));
+
+        assertEquals(new BigDecimal("30"), saldos.get(cemento).saldoCantidad());
+        assertEquals(new BigDecimal("11"), saldos.get(cemento).costoPromedioPonderado());
+        assertEquals(new BigDecimal("5"), saldos.get(arena).saldoCantidad());
+    }
+
+    @Test
+    void reproducir_registrosDesordenados_debeFallar() {
+        UUID cemento = UUID.randomUUID();
+        List<RegistroKardex> registros = List.of(
+                registro(cemento, LocalDate.of(2026, 1, 9), "60", "600", "10"),
+                registro(cemento, LocalDate.of(2026, 1, 5), "100", "1000", "10")
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> service.reproducir(List.of(), registros));
+    }
+
+    @Test
+    void generarCheckpoints_debeArrastrarSaldosCero() {
+        UUID cemento = UUID.randomUUID();
+        LocalDate corte = LocalDate.of(2026, 1, 31);
+
+        List<KardexCheckpoint> checkpoints = service.generarCheckpoints(almacenId, corte, List.of(),
+                List.of(registro(cemento, LocalDate.of(2026, 1, 20), "0", "0", "10")));
+
+        assertEquals(1, checkpoints.size());
+        assertEquals(corte, checkpoints.get(0).getFechaCorte());
+        assertEquals(almacenId, checkpoints.get(0).getAlmacenId());
+        assertTrue(checkpoints.get(0).toSaldo().estaVacio());
+    }
+
+    @Test
+    void generarCheckpoints_registroPosteriorAlCorte_debeFallar() {
+        UUID cemento = UUID.randomUUID();
+        List<RegistroKardex> registros = List.of(registro(cemento, LocalDate.of(2026, 2, 1), "1", "10", "10"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.generarCheckpoints(almacenId, LocalDate.of(2026, 1, 31), List.of(), registros));
+    }
+
+    private RegistroKardex registro(UUID recursoId, LocalDate fecha, String saldoCantidad, String saldoValor,
+                                    String cpp) {
+        return RegistroKardex.reconstruir(UUID.randomUUID(), almacenId, recursoId, fecha, UUID.randomUUID(),
+                TipoMovimientoAlmacen.ENTRADA, BigDecimal.ONE, BigDecimal.ZERO, new BigDecimal(cpp),
+                new BigDecimal(saldoCantidad), new BigDecimal(saldoValor), new BigDecimal(cpp));
+    }
+}
@@ -0,0 +1,168 @@
+package com.budgetpro.domain.logistica.backlog.service;
+
+import com.budgetpro.domain.logistica.backlog.model.EstadoRequerimiento;
+import com.budgetpro.domain.logistica.backlog.model.PrioridadCompra;
+import com.budgetpro.domain.logistica.backlog.model.RecursoRecibido;
+import com.budgetpro.domain.logistica.backlog.model.RequerimientoCompra;
+import com.budgetpro.domain.logistica.backlog.model.RequerimientoCompraId;
+import com.budgetpro.domain.logistica.backlog.port.out.RequerimientoCompraRepository;
+import com.budgetpro.domain.logistica.bodega.model.BodegaId;
+import com.budgetpro.domain.logistica.inventario.model.InventarioId;
+import com.budgetpro.domain.logistica.inventario.model.InventarioItem;
+import com.budgetpro.domain.logistica.inventario.port.out.InventarioRepository;
+import com.budgetpro.domain.logistica.requisicion.model.EstadoRequisicion;
+import com.budgetpro.domain.logistica.requisicion.model.Requisicion;
+import com.budgetpro.domain.logistica.requisicion.model.RequisicionId;
+import com.budgetpro.domain.logistica.requisicion.model.RequisicionItem;
+import com.budgetpro.domain.logistica.requisicion.model.RequisicionItemId;
+import com.budgetpro.domain.logistica.requisicion.port.out.RequisicionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BacklogServiceTest {
+
+    @Mock
+    private RequerimientoCompraRepository requerimientoCompraRepository;
+
+    @Mock
+    private RequisicionRepository requisicionRepository;
+
+    @Mock
+    private InventarioRepository inventarioRepository;
+
+    @Captor
+    private ArgumentCaptor<List<RequerimientoCompra>> requerimientosCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Requisicion>> requisicionesCaptor;
+
+    @Captor
+    private ArgumentCaptor<Collection<String>> recursosCaptor;
+
+    private BacklogService service;
+    private UUID proyectoId;
+
+    @BeforeEach
+    void setUp() {
+        service = new BacklogService(requerimientoCompraRepository, requisicionRepository, inventarioRepository);
+        proyectoId = UUID.randomUUID();
+    }
+
+    @Test
+    void resolverBacklog_variosRecursos_debeConsultarYGuardarEnBloque() {
+        Requisicion requisicionCemento = requisicionPendiente("MAT-001", "BOLSA");
+        Requisicion requisicionAcero = requisicionPendiente("MAT-002", "KG");
+        RequerimientoCompra cemento = requerimiento(requisicionCemento.getId(), "MAT-001", "BOLSA", "10");
+        RequerimientoCompra acero = requerimiento(requisicionAcero.getId(), "MAT-002", "KG", "500");
+        // Misma clave de recurso pero otra unidad: no debe resolverse
+        RequerimientoCompra aceroEnLibras = requerimiento(requisicionAcero.getId(), "MAT-002", "LB", "5");
+
+        when(requerimientoCompraRepository.findPendientesPorRecursos(eq(proyectoId), any()))
+                .thenReturn(List.of(cemento, acero, aceroEnLibras));
+        when(inventarioRepository.findByProyectoIdAndRecursoExternalIdIn(eq(proyectoId), any()))
+                .thenReturn(List.of(inventario("MAT-001", "BOLSA", "20"), inventario("MAT-002", "KG", "100")));
+        when(requisicionRepository.findAllById(any())).thenReturn(List.of(requisicionCemento));
+
+        service.resolverBacklog(proyectoId, List.of(
+                new RecursoRecibido("MAT-001", "BOLSA"),
+                new RecursoRecibido("MAT-002", "KG"),
+                new RecursoRecibido("MAT-001", "BOLSA")));
+
+        verify(requerimientoCompraRepository).findPendientesPorRecursos(eq(proyectoId), recursosCaptor.capture());
+        assertEquals(2, recursosCaptor.getValue().size());
+        verify(inventarioRepository, never()).findByProyectoId(any());
+        verify(requerimientoCompraRepository, never()).findPendientesPorRecurso(any(), anyString(), anyString());
+
+        // Solo el cemento tiene stock suficiente
+        verify(requerimientoCompraRepository).saveAll(requerimientosCaptor.capture());
+        List<RequerimientoCompra> guardados = requerimientosCaptor.getValue();
+        assertEquals(1, guardados.size());
+        assertEquals(cemento.getId(), guardados.get(0).getId());
+        assertEquals(EstadoRequerimiento.RECIBIDA, guardados.get(0).getEstado());
+
+        verify(requisicionRepository).saveAll(requisicionesCaptor.capture());
+        assertEquals(EstadoRequisicion.APROBADA, requisicionesCaptor.getValue().get(0).getEstado());
+        verify(requerimientoCompraRepository, never()).save(any());
+        verify(requisicionRepository, never()).save(any());
+    }
+
+    @Test
+    void resolverBacklog_sinRequerimientosPendientes_noDebeConsultarInventario() {
+        when(requerimientoCompraRepository.findPendientesPorRecursos(eq(proyectoId), any())).thenReturn(List.of());
+
+        service.resolverBacklog(proyectoId, "MAT-001", "BOLSA");
+
+        verifyNoInteractions(inventarioRepository, requisicionRepository);
+        verify(requerimientoCompraRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void resolverBacklog_sinStock_noDebeResolver() {
+        Requisicion requisicion = requisicionPendiente("MAT-001", "BOLSA");
+        when(requerimientoCompraRepository.findPendientesPorRecursos(eq(proyectoId), any()))
+                .thenReturn(List.of(requerimiento(requisicion.getId(), "MAT-001", "BOLSA", "10")));
+        when(inventarioRepository.findByProyectoIdAndRecursoExternalIdIn(eq(proyectoId), any()))
+                .thenReturn(List.of(inventario("MAT-001", "BOLSA", "0")));
+
+        service.resolverBacklog(proyectoId, List.of(new RecursoRecibido("MAT-001", "BOLSA")));
+
+        verifyNoInteractions(requisicionRepository);
+        verify(requerimientoCompraRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void resolverBacklogParaRequisicion_conStock_debeReactivarYMarcarRecibidos() {
+        Requisicion requisicion = requisicionPendiente("MAT-001", "BOLSA");
+        when(requisicionRepository.findById(requisicion.getId())).thenReturn(Optional.of(requisicion));
+        when(requerimientoCompraRepository.findByRequisicionId(requisicion.getId().getValue()))
+                .thenReturn(List.of(requerimiento(requisicion.getId(), "MAT-001", "BOLSA", "10")));
+        when(inventarioRepository.findByProyectoIdAndRecursoExternalIdIn(eq(proyectoId), any()))
+                .thenReturn(List.of(inventario("MAT-001", "BOLSA", "50")));
+
+        service.resolverBacklogParaRequisicion(requisicion.getId());
+
+        verify(requisicionRepository).save(argThat(r -> r.getEstado() == EstadoRequisicion.APROBADA));
+        verify(requerimientoCompraRepository).saveAll(requerimientosCaptor.capture());
+        assertEquals(EstadoRequerimiento.RECIBIDA, requerimientosCaptor.getValue().get(0).getEstado());
+        verify(inventarioRepository, never()).findByProyectoId(any());
+    }
+
+    private Requisicion requisicionPendiente(String recursoExternalId, String unidad) {
+        RequisicionItem item = RequisicionItem.crear(RequisicionItemId.generate(), recursoExternalId,
+                UUID.randomUUID(), new BigDecimal("10"), unidad, "Frente 1");
+        return Requisicion.reconstruir(RequisicionId.generate(), proyectoId, "Residente", "Frente 1",
+                LocalDate.now(), null, EstadoRequisicion.PENDIENTE_COMPRA, null, 1L, List.of(item));
+    }
+
+    private RequerimientoCompra requerimiento(RequisicionId requisicionId, String recursoExternalId,
+                                              String unidad, String cantidad) {
+        return RequerimientoCompra.crear(RequerimientoCompraId.generate(), proyectoId, requisicionId,
+                recursoExternalId, new BigDecimal(cantidad), unidad, PrioridadCompra.URGENTE);
+    }
+
+    private InventarioItem inventario(String recursoExternalId, String unidad, String cantidad) {
+        return InventarioItem.reconstruir(InventarioId.generate(), proyectoId, null, recursoExternalId,
+                BodegaId.generate(), recursoExternalId, "MATERIAL", unidad, new BigDecimal(cantidad),
+                BigDecimal.ONE, null, LocalDateTime.now(), 1L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.budgetpro.domain.logistica.compra.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para el cursor de paginación por clave de órdenes de compra.
+ */
+class OrdenCompraCursorTest {
+
+    @Test
+    @DisplayName("El token codificado se decodifica al mismo cursor")
+    void codificarYDecodificar() {
+        OrdenCompraCursor cursor = new OrdenCompraCursor(LocalDate.of(2024, 2, 15), UUID.randomUUID());
+
+        String token = cursor.codificar();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(OrdenCompraCursor.decodificar(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Un token manipulado se rechaza como argumento inválido")
+    void tokenInvalido() {
+        assertThatThrownBy(() -> OrdenCompraCursor.decodificar("no es base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrdenCompraCursor.decodificar(
+                Base64.getUrlEncoder().encodeToString("2024-02-30|x".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("El filtro rechaza un rango de fechas invertido")
+    void filtroRangoInvertido() {
+        assertThatThrownBy(() -> new OrdenCompraFiltro(null, null, null,
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
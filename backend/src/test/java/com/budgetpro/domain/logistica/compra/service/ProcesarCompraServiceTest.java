@@ -0,0 +1,120 @@
+package com.budgetpro.domain.logistica.compra.service;
+
+import com.budgetpro.domain.finanzas.exception.SaldoInsuficienteException;
+import com.budgetpro.domain.finanzas.model.Billetera;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.finanzas.presupuesto.service.IntegrityAuditLog;
+import com.budgetpro.domain.finanzas.presupuesto.service.IntegrityHashService;
+import com.budgetpro.domain.logistica.compra.model.*;
+import com.budgetpro.domain.logistica.inventario.service.GestionInventarioService;
+import com.budgetpro.domain.shared.port.out.ObservabilityPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcesarCompraServiceTest {
+
+    @Mock
+    private PartidaRepository partidaRepository;
+    @Mock
+    private PresupuestoRepository presupuestoRepository;
+    @Mock
+    private IntegrityHashService integrityHashService;
+    @Mock
+    private IntegrityAuditLog auditLog;
+    @Mock
+    private GestionInventarioService gestionInventarioService;
+    @Mock
+    private ObservabilityPort observability;
+    @Mock
+    private Presupuesto presupuesto;
+    @Mock
+    private Billetera billetera;
+
+    private ProcesarCompraService service;
+    private UUID proyectoId;
+    private Partida partidaA;
+    private Partida partidaB;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProcesarCompraService(partidaRepository, presupuestoRepository, integrityHashService,
+                auditLog, gestionInventarioService, observability);
+        proyectoId = UUID.randomUUID();
+        partidaA = crearPartida(new BigDecimal("1000.00"));
+        partidaB = crearPartida(new BigDecimal("500.00"));
+
+        when(presupuestoRepository.findByProyectoId(proyectoId)).thenReturn(Optional.of(presupuesto));
+        when(presupuesto.isAprobado()).thenReturn(false);
+        when(partidaRepository.findById(partidaA.getId())).thenReturn(Optional.of(partidaA));
+        when(partidaRepository.findById(partidaB.getId())).thenReturn(Optional.of(partidaB));
+    }
+
+    @Test
+    @DisplayName("Reserva el total de cada partida en una sola operación, sin guardar partidas una a una")
+    void reservaEnBloque() {
+        when(partidaRepository.reservarSaldos(anyMap())).thenReturn(List.of());
+        Compra compra = crearCompra();
+
+        ProcesarCompraService.CompraProcesada resultado = service.procesar(compra, billetera);
+
+        verify(partidaRepository, times(1)).reservarSaldos(Map.of(
+                partidaA.getId(), new BigDecimal("300.00"),
+                partidaB.getId(), new BigDecimal("200.00")));
+        verify(partidaRepository, never()).save(any());
+        assertEquals(3, resultado.consumos().size());
+        assertEquals(EstadoCompra.APROBADA, resultado.compra().getEstado());
+    }
+
+    @Test
+    @DisplayName("Si la reserva en base de datos falla (saldo comprometido concurrentemente) no descuenta la billetera")
+    void reservaFallidaLanzaSaldoInsuficiente() {
+        when(partidaRepository.reservarSaldos(anyMap())).thenReturn(List.of(partidaB.getId()));
+        Compra compra = crearCompra();
+
+        SaldoInsuficienteException ex = assertThrows(SaldoInsuficienteException.class,
+                () -> service.procesar(compra, billetera));
+
+        assertTrue(ex.getMessage().contains(partidaB.getId().getValue().toString()));
+        assertEquals(0, new BigDecimal("200.00").compareTo(ex.getMontoIntentado()));
+        verifyNoInteractions(billetera, gestionInventarioService);
+        assertEquals(EstadoCompra.BORRADOR, compra.getEstado());
+    }
+
+    private Partida crearPartida(BigDecimal presupuestoAsignado) {
+        return Partida.reconstruir(PartidaId.nuevo(), UUID.randomUUID(), null, null, "01.01", "Partida",
+                "m3", BigDecimal.ONE, presupuestoAsignado, BigDecimal.ZERO, BigDecimal.ZERO, 1, 0L);
+    }
+
+    private Compra crearCompra() {
+        return Compra.crear(CompraId.nuevo(), proyectoId, LocalDate.now(), "Proveedor", List.of(
+                crearDetalle(partidaA, new BigDecimal("100.00")),
+                crearDetalle(partidaA, new BigDecimal("200.00")),
+                crearDetalle(partidaB, new BigDecimal("200.00"))));
+    }
+
+    private CompraDetalle crearDetalle(Partida partida, BigDecimal subtotal) {
+        return CompraDetalle.crear(CompraDetalleId.nuevo(), "MAT-" + UUID.randomUUID(), "Material", "UND",
+                partida.getId().getValue(), NaturalezaGasto.DIRECTO_PARTIDA, RelacionContractual.CONTRACTUAL,
+                RubroInsumo.MATERIAL_CONSTRUCCION, BigDecimal.ONE, subtotal);
+    }
+}
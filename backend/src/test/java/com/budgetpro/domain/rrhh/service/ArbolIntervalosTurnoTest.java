@@ -0,0 +1,104 @@
+package com.budgetpro.domain.rrhh.service;
+
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.model.AsistenciaId;
+import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArbolIntervalosTurnoTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 6, 1);
+    private final ProyectoId proyectoId = ProyectoId.nuevo();
+
+    @Test
+    void buscarSolape_igualABusquedaLineal() {
+        Random random = new Random(11);
+        EmpleadoId empleadoId = EmpleadoId.generate();
+        for (int caso = 0; caso < 200; caso++) {
+            List<AsistenciaRegistro> registros = turnosAleatorios(random, List.of(empleadoId), random.nextInt(30));
+            ArbolIntervalosTurno arbol = new ArbolIntervalosTurno(registros);
+            for (AsistenciaRegistro consulta : turnosAleatorios(random, List.of(empleadoId), 20)) {
+                boolean esperado = registros.stream().anyMatch(r -> r.detectOverlap(consulta));
+                Optional<AsistenciaRegistro> encontrado = arbol.buscarSolape(consulta.getStartDateTime(),
+                        consulta.getEndDateTime());
+                assertEquals(esperado, encontrado.isPresent());
+                encontrado.ifPresent(r -> assertTrue(r.detectOverlap(consulta)));
+            }
+        }
+    }
+
+    @Test
+    void turnoNocturnoContiguo_noSeSolapa() {
+        EmpleadoId empleadoId = EmpleadoId.generate();
+        AsistenciaRegistro nocturno = turno(empleadoId, BASE, LocalTime.of(22, 0), LocalTime.of(6, 0));
+        ArbolIntervalosTurno arbol = new ArbolIntervalosTurno(List.of(nocturno));
+
+        assertFalse(arbol.buscarSolape(LocalDateTime.of(BASE.plusDays(1), LocalTime.of(6, 0)),
+                LocalDateTime.of(BASE.plusDays(1), LocalTime.of(14, 0))).isPresent());
+        assertTrue(arbol.buscarSolape(LocalDateTime.of(BASE.plusDays(1), LocalTime.of(5, 0)),
+                LocalDateTime.of(BASE.plusDays(1), LocalTime.of(14, 0))).isPresent());
+    }
+
+    @Test
+    void detectarSolapesEnLote_igualAValidacionFilaPorFila() {
+        Random random = new Random(23);
+        List<EmpleadoId> empleados = List.of(EmpleadoId.generate(), EmpleadoId.generate(), EmpleadoId.generate());
+        for (int caso = 0; caso < 200; caso++) {
+            List<AsistenciaRegistro> existentes = turnosAleatorios(random, empleados, random.nextInt(20));
+            List<AsistenciaRegistro> candidatos = turnosAleatorios(random, empleados, random.nextInt(40));
+
+            Map<AsistenciaId, AsistenciaRegistro> solapes = RegistroAsistenciaPolitica
+                    .detectarSolapesEnLote(candidatos, existentes);
+
+            // Referencia: filas en orden de entrada, cada una contra persistidos y aceptadas previas
+            Set<AsistenciaId> rechazados = new HashSet<>();
+            List<AsistenciaRegistro> aceptados = new ArrayList<>();
+            for (AsistenciaRegistro candidato : candidatos.stream()
+                    .sorted(Comparator.comparing(AsistenciaRegistro::getStartDateTime)).toList()) {
+                if (existentes.stream().anyMatch(r -> r.detectOverlap(candidato))
+                        || aceptados.stream().anyMatch(r -> r.detectOverlap(candidato))) {
+                    rechazados.add(candidato.getId());
+                } else {
+                    aceptados.add(candidato);
+                }
+            }
+            assertEquals(rechazados, solapes.keySet());
+            candidatos.stream().filter(c -> solapes.containsKey(c.getId()))
+                    .forEach(c -> assertTrue(solapes.get(c.getId()).detectOverlap(c)));
+        }
+    }
+
+    private List<AsistenciaRegistro> turnosAleatorios(Random random, List<EmpleadoId> empleados, int cantidad) {
+        List<AsistenciaRegistro> turnos = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            LocalTime entrada = LocalTime.of(random.nextInt(24), 15 * random.nextInt(4));
+            // Hasta 14 h de duración; algunos cruzan la medianoche
+            LocalTime salida = entrada.plusMinutes(15 + 15L * random.nextInt(56));
+            turnos.add(turno(empleados.get(random.nextInt(empleados.size())), BASE.plusDays(random.nextInt(6)),
+                    entrada, salida));
+        }
+        return turnos;
+    }
+
+    private AsistenciaRegistro turno(EmpleadoId empleadoId, LocalDate fecha, LocalTime entrada, LocalTime salida) {
+        return AsistenciaRegistro.registrar(AsistenciaId.random(), empleadoId, proyectoId, fecha, entrada, salida,
+                null);
+    }
+}
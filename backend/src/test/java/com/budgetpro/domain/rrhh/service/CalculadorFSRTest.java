@@ -5,14 +5,20 @@ import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
 import com.budgetpro.domain.rrhh.model.Contacto;
 import com.budgetpro.domain.rrhh.model.Empleado;
 import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import com.budgetpro.domain.rrhh.model.TarifasLaborales;
 import com.budgetpro.domain.rrhh.model.TipoEmpleado;
+import com.budgetpro.domain.rrhh.port.TarifasLaboralesCache;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class CalculadorFSRTest {
 
@@ -27,4 +33,39 @@ class CalculadorFSRTest {
         assertEquals(esperado, new CalculadorFSR().calcularFSR(config, empleado));
         assertEquals(new BigDecimal("1.135458"), esperado);
     }
+
+    @Test
+    void tarifas_seReutilizanPorVersionYSeDerivanDeNuevoAlCambiarLaConfiguracion() {
+        Map<ConfiguracionLaboralId, TarifasLaborales> almacen = new HashMap<>();
+        TarifasLaboralesCache cache = new TarifasLaboralesCache() {
+            @Override
+            public Optional<TarifasLaborales> obtener(ConfiguracionLaboralId id, long version) {
+                return Optional.ofNullable(almacen.get(id)).filter(t -> t.version() == version);
+            }
+
+            @Override
+            public void guardar(TarifasLaborales tarifas) {
+                almacen.put(tarifas.configuracionId(), tarifas);
+            }
+        };
+        CalculadorFSR calculador = new CalculadorFSR(cache);
+        ConfiguracionLaboralId id = ConfiguracionLaboralId.nuevo();
+        ConfiguracionLaboral v0 = ConfiguracionLaboral.reconstruir(id, null, 15, 12, new BigDecimal("12.5"), 7, 251,
+                0L);
+
+        TarifasLaborales tarifas = calculador.tarifas(v0);
+        assertSame(tarifas, calculador.tarifas(ConfiguracionLaboral.reconstruir(id, null, 15, 12,
+                new BigDecimal("12.5"), 7, 251, 0L)));
+        assertEquals(new BigDecimal("1.135458"), tarifas.fsr());
+        assertEquals(new BigDecimal("0.125000"), tarifas.tasaSeguridadSocial());
+
+        // Modificar la configuración avanza su versión: la entrada anterior ya no se sirve
+        ConfiguracionLaboral v1 = ConfiguracionLaboral.reconstruir(id, null, 30, 12, new BigDecimal("10"), 7, 251, 1L);
+        TarifasLaborales actualizadas = calculador.tarifas(v1);
+        assertEquals(1L, actualizadas.version());
+        assertEquals(new BigDecimal("300").divide(new BigDecimal("251"), 6, RoundingMode.HALF_UP),
+                calculador.calcularFSR(v1));
+        assertEquals(new BigDecimal("0.100000"), actualizadas.tasaSeguridadSocial());
+        assertSame(actualizadas, almacen.get(id));
+    }
 }
@@ -0,0 +1,97 @@
+package com.budgetpro.domain.rrhh.service;
+
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboral;
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.model.AsistenciaId;
+import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
+import com.budgetpro.domain.rrhh.model.Contacto;
+import com.budgetpro.domain.rrhh.model.DetalleNomina;
+import com.budgetpro.domain.rrhh.model.Empleado;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import com.budgetpro.domain.rrhh.model.TipoEmpleado;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput of {@link MotorNomina} for 10,000 workers over a monthly period,
+ * sequential (single partition, caller thread) versus parallel partitions.
+ *
+ * Not part of the regular suite (the name does not end in Test); run with:
+ * {@code mvn -Punit-no-docker -Dtest=MotorNominaBenchmark test}
+ */
+class MotorNominaBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(MotorNominaBenchmark.class);
+
+    private static final int EMPLEADOS = 10_000;
+    private static final int ITERACIONES = 5;
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 1);
+    private static final LocalDate FIN = LocalDate.of(2025, 3, 31);
+
+    @Test
+    void throughput_10kEmpleadosPeriodoMensual() {
+        Random random = new Random(7);
+        ProyectoId proyectoId = ProyectoId.nuevo();
+        List<Empleado> empleados = new ArrayList<>(EMPLEADOS);
+        Map<EmpleadoId, List<AsistenciaRegistro>> asistencias = new HashMap<>();
+        for (int i = 0; i < EMPLEADOS; i++) {
+            Empleado empleado = Empleado.crear(EmpleadoId.generate(), "E" + i, "X", "BENCH-" + i,
+                    Contacto.of("e@b.com", null, null), LocalDate.of(2024, 1, 1),
+                    BigDecimal.valueOf(2000 + random.nextInt(4000)), "Op", TipoEmpleado.PERMANENTE);
+            // Mid-month raise for a fifth of the workers
+            if (i % 5 == 0) {
+                empleado.actualizarSalario(BigDecimal.valueOf(6500), INICIO.plusDays(random.nextInt(28)));
+            }
+            empleados.add(empleado);
+            List<AsistenciaRegistro> registros = new ArrayList<>();
+            for (LocalDate fecha = INICIO; !fecha.isAfter(FIN); fecha = fecha.plusDays(1)) {
+                registros.add(AsistenciaRegistro.registrar(AsistenciaId.random(), empleado.getId(), proyectoId, fecha,
+                        LocalTime.of(7, 0), LocalTime.of(15 + random.nextInt(5), 0), "Obra"));
+            }
+            asistencias.put(empleado.getId(), registros);
+        }
+        ConfiguracionLaboral config = ConfiguracionLaboral.reconstruir(ConfiguracionLaboralId.nuevo(), null, 15, 12,
+                new BigDecimal("12.5"), 7, 251, 0L);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            medir("secuencial", new MotorNomina(new CalculadorFSR(), new BigDecimal("0.10"), Runnable::run, EMPLEADOS),
+                    empleados, config, asistencias);
+            medir("paralelo (" + Runtime.getRuntime().availableProcessors() + " hilos)",
+                    new MotorNomina(new CalculadorFSR(), new BigDecimal("0.10"), pool, 500), empleados, config,
+                    asistencias);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void medir(String nombre, MotorNomina motor, List<Empleado> empleados, ConfiguracionLaboral config,
+            Map<EmpleadoId, List<AsistenciaRegistro>> asistencias) {
+        // Warm-up
+        motor.calcular(empleados, INICIO, FIN, config, asistencias);
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ITERACIONES; i++) {
+            List<DetalleNomina> detalles = motor.calcular(empleados, INICIO, FIN, config, asistencias);
+            assertEquals(EMPLEADOS, detalles.size());
+        }
+        long milis = (System.nanoTime() - inicio) / 1_000_000 / ITERACIONES;
+        log.info("MotorNomina {}: {} ms por nómina ({} empleados/s)", nombre, milis,
+                EMPLEADOS * 1000L / Math.max(1, milis));
+    }
+}
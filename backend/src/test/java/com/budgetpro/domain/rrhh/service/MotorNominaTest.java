@@ -0,0 +1,181 @@
+package com.budgetpro.domain.rrhh.service;
+
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboral;
+import com.budgetpro.domain.finanzas.sobrecosto.model.ConfiguracionLaboralId;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.rrhh.model.AsistenciaId;
+import com.budgetpro.domain.rrhh.model.AsistenciaRegistro;
+import com.budgetpro.domain.rrhh.model.Contacto;
+import com.budgetpro.domain.rrhh.model.DetalleNomina;
+import com.budgetpro.domain.rrhh.model.Empleado;
+import com.budgetpro.domain.rrhh.model.EmpleadoId;
+import com.budgetpro.domain.rrhh.model.EstadoEmpleado;
+import com.budgetpro.domain.rrhh.model.HistorialId;
+import com.budgetpro.domain.rrhh.model.HistorialLaboral;
+import com.budgetpro.domain.rrhh.model.TipoEmpleado;
+import com.budgetpro.domain.rrhh.model.TramoSalarial;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MotorNominaTest {
+
+    private static final BigDecimal ISR = new BigDecimal("0.10");
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 1);
+    private static final LocalDate FIN = LocalDate.of(2025, 3, 31);
+
+    private final ConfiguracionLaboral config = ConfiguracionLaboral.reconstruir(ConfiguracionLaboralId.nuevo(), null,
+            15, 12, new BigDecimal("12.5"), 7, 251, 0L);
+
+    @Test
+    void tramos_cambioDeSalarioAMitadDePeriodo() {
+        Empleado empleado = Empleado.crear(EmpleadoId.generate(), "Ana", "Ruiz", "ID-T1",
+                Contacto.of("a@b.com", null, null), LocalDate.of(2024, 1, 1), new BigDecimal("3000"), "Op",
+                TipoEmpleado.PERMANENTE);
+        empleado.actualizarSalario(new BigDecimal("3600"), LocalDate.of(2025, 3, 16));
+
+        List<TramoSalarial> tramos = empleado.getTramosSalariales(INICIO, FIN);
+
+        assertEquals(2, tramos.size());
+        assertEquals(INICIO, tramos.get(0).desde());
+        assertEquals(0, new BigDecimal("3000").compareTo(tramos.get(0).historial().getSalarioBase()));
+        assertEquals(LocalDate.of(2025, 3, 16), tramos.get(1).desde());
+        assertEquals(FIN, tramos.get(1).hasta());
+        assertEquals(31, tramos.get(0).dias() + tramos.get(1).dias());
+    }
+
+    @Test
+    void calcular_igualAlCalculoDiaPorDia() {
+        Random random = new Random(42);
+        List<Empleado> empleados = new ArrayList<>();
+        Map<EmpleadoId, List<AsistenciaRegistro>> asistencias = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            Empleado empleado = empleadoAleatorio(random, i);
+            empleados.add(empleado);
+            asistencias.put(empleado.getId(), asistenciasAleatorias(random, empleado.getId()));
+        }
+
+        CalculadorFSR calculadorFSR = new CalculadorFSR();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<DetalleNomina> detalles = new MotorNomina(calculadorFSR, ISR, executor, 7).calcular(empleados,
+                    INICIO, FIN, config, asistencias);
+
+            assertEquals(empleados.size(), detalles.size());
+            for (int i = 0; i < empleados.size(); i++) {
+                Empleado empleado = empleados.get(i);
+                DetalleNomina esperado = calcularDiaPorDia(calculadorFSR, empleado,
+                        asistencias.get(empleado.getId()));
+                DetalleNomina obtenido = detalles.get(i);
+                assertEquals(empleado.getId(), obtenido.getEmpleadoId());
+                assertEquals(esperado.getSalarioBase(), obtenido.getSalarioBase());
+                assertEquals(esperado.getHorasExtras(), obtenido.getHorasExtras());
+                assertEquals(esperado.getDeduccionesFiscales(), obtenido.getDeduccionesFiscales());
+                assertEquals(esperado.getDeduccionesSeguridadSocial(), obtenido.getDeduccionesSeguridadSocial());
+                assertEquals(esperado.getCostoPatronal(), obtenido.getCostoPatronal());
+                assertEquals(esperado.getDiasTrabajados(), obtenido.getDiasTrabajados());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Histories with salary changes, gaps and overlapping records around the period.
+     */
+    private static Empleado empleadoAleatorio(Random random, int i) {
+        List<HistorialLaboral> historial = new ArrayList<>();
+        LocalDate desde = INICIO.minusDays(random.nextInt(40));
+        int registros = 1 + random.nextInt(4);
+        for (int r = 0; r < registros; r++) {
+            boolean ultimo = r == registros - 1;
+            LocalDate hasta = ultimo && random.nextBoolean() ? null : desde.plusDays(random.nextInt(20));
+            historial.add(HistorialLaboral.reconstruir(HistorialId.generate(), "Op",
+                    BigDecimal.valueOf(1500 + random.nextInt(5000)), TipoEmpleado.PERMANENTE, desde, hasta));
+            if (hasta == null) {
+                break;
+            }
+            // Gap, contiguous or overlapping next record
+            desde = hasta.plusDays(random.nextInt(5) - 2);
+        }
+        return Empleado.reconstruir(EmpleadoId.generate(), "E" + i, "X", "ID-" + i, Contacto.of("e@b.com", null, null),
+                EstadoEmpleado.ACTIVO, new HashMap<>(), historial);
+    }
+
+    private static List<AsistenciaRegistro> asistenciasAleatorias(Random random, EmpleadoId empleadoId) {
+        List<AsistenciaRegistro> registros = new ArrayList<>();
+        ProyectoId proyectoId = ProyectoId.nuevo();
+        for (LocalDate fecha = INICIO.minusDays(2); !fecha.isAfter(FIN.plusDays(2)); fecha = fecha.plusDays(1)) {
+            if (random.nextInt(3) == 0) {
+                continue;
+            }
+            LocalTime entrada = LocalTime.of(7, 0);
+            LocalTime salida = entrada.plusMinutes(6 * 60 + random.nextInt(7 * 60));
+            registros.add(AsistenciaRegistro.registrar(AsistenciaId.random(), empleadoId, proyectoId, fecha,
+                    entrada, salida, "Obra"));
+        }
+        return registros;
+    }
+
+    /**
+     * Reference: the original calendar-day walk with overtime priced per attendance record.
+     */
+    private DetalleNomina calcularDiaPorDia(CalculadorFSR calculadorFSR, Empleado empleado,
+            List<AsistenciaRegistro> asistencias) {
+        BigDecimal salarioTotalPeriodo = BigDecimal.ZERO;
+        BigDecimal horasExtrasTotalCost = BigDecimal.ZERO;
+        int diasTrabajados = 0;
+        for (LocalDate date = INICIO; !date.isAfter(FIN); date = date.plusDays(1)) {
+            Optional<HistorialLaboral> historial = empleado.getSalarioEnFecha(date);
+            if (historial.isPresent()) {
+                salarioTotalPeriodo = salarioTotalPeriodo
+                        .add(historial.get().getSalarioBase().divide(new BigDecimal("30"), 2, RoundingMode.HALF_UP));
+                diasTrabajados++;
+            }
+        }
+        for (AsistenciaRegistro reg : asistencias) {
+            if (reg.getFecha().isBefore(INICIO) || reg.getFecha().isAfter(FIN)) {
+                continue;
+            }
+            Optional<HistorialLaboral> hist = empleado.getSalarioEnFecha(reg.getFecha());
+            if (hist.isEmpty()) {
+                continue;
+            }
+            BigDecimal salarioDiario = hist.get().getSalarioBase().divide(new BigDecimal("30"), 2,
+                    RoundingMode.HALF_UP);
+            BigDecimal hourlyRate = salarioDiario.divide(new BigDecimal("8"), 2, RoundingMode.HALF_UP);
+            java.time.Duration extraDuration = reg.calcularHorasExtras();
+            if (!extraDuration.isZero()) {
+                long extraHours = extraDuration.toHours();
+                if (extraHours <= 2) {
+                    horasExtrasTotalCost = horasExtrasTotalCost
+                            .add(hourlyRate.multiply(new BigDecimal("1.5")).multiply(new BigDecimal(extraHours)));
+                } else {
+                    horasExtrasTotalCost = horasExtrasTotalCost
+                            .add(hourlyRate.multiply(new BigDecimal("1.5")).multiply(new BigDecimal("2")))
+                            .add(hourlyRate.multiply(new BigDecimal("2.0")).multiply(new BigDecimal(extraHours - 2)));
+                }
+            }
+        }
+        BigDecimal fsr = calculadorFSR.calcularFSR(config, empleado);
+        BigDecimal totalPercepciones = salarioTotalPeriodo.add(horasExtrasTotalCost);
+        BigDecimal tasaSeguridadSocial = config.getPorcentajeSeguridadSocial()
+                .divide(new BigDecimal("100"), 6, RoundingMode.HALF_UP);
+        return DetalleNomina.crear(empleado.getId(), salarioTotalPeriodo, horasExtrasTotalCost, BigDecimal.ZERO,
+                BigDecimal.ZERO, totalPercepciones.multiply(ISR), totalPercepciones.multiply(tasaSeguridadSocial),
+                BigDecimal.ZERO, salarioTotalPeriodo.multiply(fsr), fsr.doubleValue(), diasTrabajados);
+    }
+}
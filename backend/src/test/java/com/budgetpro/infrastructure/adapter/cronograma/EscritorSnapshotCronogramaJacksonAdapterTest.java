@@ -0,0 +1,131 @@
+package com.budgetpro.infrastructure.adapter.cronograma;
+
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
+import com.budgetpro.domain.finanzas.cronograma.model.ContenidoSnapshot;
+import com.budgetpro.domain.finanzas.cronograma.model.Dependencia;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObraId;
+import com.budgetpro.domain.finanzas.cronograma.model.TipoDependencia;
+import com.budgetpro.shared.validation.JsonSchemaValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EscritorSnapshotCronogramaJacksonAdapterTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 3);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ProgramaObra programa = ProgramaObra.reconstruir(ProgramaObraId.nuevo(), UUID.randomUUID(), INICIO,
+            INICIO.plusDays(60), 60, 0L, false, null, null, null);
+
+    @Test
+    void comprimido_conservaElFormatoYCumpleLosEsquemas() throws Exception {
+        List<ActividadProgramada> actividades = actividades(200);
+        // Muestra <= 0: validación del documento completo contra los esquemas reales
+        EscritorSnapshotCronogramaJacksonAdapter escritor = new EscritorSnapshotCronogramaJacksonAdapter(
+                new JsonSchemaValidator(), true, 0);
+
+        ContenidoSnapshot fechas = escritor.escribirFechas(programa, actividades);
+        ContenidoSnapshot duraciones = escritor.escribirDuraciones(programa, actividades);
+        ContenidoSnapshot secuencia = escritor.escribirSecuencia(actividades);
+        ContenidoSnapshot calendarios = escritor.escribirCalendarios();
+
+        assertTrue(fechas.esComprimido());
+        assertTrue(fechas.getDatos().length < fechas.aTexto().length() / 2);
+
+        JsonNode fechasJson = mapper.readTree(fechas.abrir());
+        assertEquals(INICIO.toString(), fechasJson.at("/programa/fechaInicio").asText());
+        assertEquals(200, fechasJson.get("actividades").size());
+        JsonNode primera = fechasJson.get("actividades").get(0);
+        assertEquals(actividades.get(0).getId().getValue().toString(), primera.get("id").asText());
+        assertEquals(actividades.get(0).getPartidaId().toString(), primera.get("partidaId").asText());
+        assertEquals(INICIO.toString(), primera.get("fechaInicio").asText());
+        // Sin fechas: la propiedad se omite, como en el formato original
+        assertFalse(fechasJson.get("actividades").get(199).has("fechaInicio"));
+
+        JsonNode duracionesJson = mapper.readTree(duraciones.aTexto());
+        assertEquals(60, duracionesJson.get("duracionTotalDias").asInt());
+        assertEquals(5, duracionesJson.at("/actividades/1/duracionDias").asInt());
+
+        JsonNode secuenciaJson = mapper.readTree(secuencia.aTexto());
+        assertEquals(actividades.get(0).getId().getValue().toString(),
+                secuenciaJson.at("/actividades/1/predecesoras/0").asText());
+        assertEquals(0, secuenciaJson.at("/actividades/0/predecesoras").size());
+        assertEquals(0, secuenciaJson.at("/actividades/0/dependencias").size());
+        JsonNode finInicio = secuenciaJson.at("/actividades/1/dependencias/0");
+        assertEquals(actividades.get(0).getId().getValue().toString(), finInicio.get("predecesoraId").asText());
+        assertEquals(TipoDependencia.FIN_INICIO.name(), finInicio.get("tipo").asText());
+        assertEquals(0, finInicio.get("desfaseDias").asInt());
+        JsonNode inicioInicio = secuenciaJson.at("/actividades/3/dependencias/0");
+        assertEquals(TipoDependencia.INICIO_INICIO.name(), inicioInicio.get("tipo").asText());
+        assertEquals(-2, inicioInicio.get("desfaseDias").asInt());
+
+        assertEquals("{\"calendarios\":[],\"diasFestivos\":[],\"restricciones\":[]}", calendarios.aTexto());
+    }
+
+    @Test
+    void sinCompresion_produceElMismoDocumentoEnTexto() {
+        List<ActividadProgramada> actividades = actividades(20);
+        JsonSchemaValidator validator = new JsonSchemaValidator();
+
+        ContenidoSnapshot texto = new EscritorSnapshotCronogramaJacksonAdapter(validator, false, 0)
+                .escribirSecuencia(actividades);
+        ContenidoSnapshot comprimido = new EscritorSnapshotCronogramaJacksonAdapter(validator, true, 0)
+                .escribirSecuencia(actividades);
+
+        assertFalse(texto.esComprimido());
+        assertEquals(texto.aTexto(), comprimido.aTexto());
+    }
+
+    @Test
+    void documentoGrande_seValidaSobreUnaMuestra() throws Exception {
+        JsonSchemaValidator validator = mock(JsonSchemaValidator.class);
+        EscritorSnapshotCronogramaJacksonAdapter escritor = new EscritorSnapshotCronogramaJacksonAdapter(validator,
+                true, 10);
+
+        escritor.escribirDuraciones(programa, actividades(1_000));
+        escritor.escribirDuraciones(programa, actividades(10));
+
+        ArgumentCaptor<String> validados = ArgumentCaptor.forClass(String.class);
+        verify(validator, times(2)).validateDuracionesSnapshot(validados.capture());
+        assertEquals(10, mapper.readTree(validados.getAllValues().get(0)).get("actividades").size());
+        assertEquals(10, mapper.readTree(validados.getAllValues().get(1)).get("actividades").size());
+    }
+
+    /**
+     * Cadena de actividades de 5 días; cada tercera se vincula Inicio-Inicio con 2 días de
+     * adelanto y la última queda sin fechas.
+     */
+    private List<ActividadProgramada> actividades(int cantidad) {
+        List<ActividadProgramada> actividades = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            boolean conFechas = i < cantidad - 1;
+            List<Dependencia> dependencias = List.of();
+            if (i > 0) {
+                UUID predecesoraId = actividades.get(i - 1).getId().getValue();
+                dependencias = List.of(i % 3 == 0
+                        ? new Dependencia(predecesoraId, TipoDependencia.INICIO_INICIO, -2)
+                        : Dependencia.finInicio(predecesoraId));
+            }
+            actividades.add(ActividadProgramada.reconstruirConDependencias(ActividadProgramadaId.nuevo(),
+                    UUID.randomUUID(), programa.getId().getValue(), conFechas ? INICIO.plusDays(i) : null,
+                    conFechas ? INICIO.plusDays(i + 4) : null, 5, dependencias, 0L));
+        }
+        return actividades;
+    }
+}
@@ -0,0 +1,155 @@
+package com.budgetpro.infrastructure.adapter.presupuesto;
+
+import com.budgetpro.application.presupuesto.port.out.LectorPlanillaPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.FilaImportacionPresupuesto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Los fixtures de src/test/resources/presupuesto/xlsx son las partes XML de cada libro; el
+ * test las empaqueta en un .xlsx temporal.
+ */
+class LectorXlsxPresupuestoAdapterTest {
+
+    private final LectorXlsxPresupuestoAdapter lector = new LectorXlsxPresupuestoAdapter();
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void leer_textosCompartidosYNumeros() throws Exception {
+        Receptor receptor = leer("textos-compartidos");
+
+        assertThat(receptor.errores).isEmpty();
+        assertThat(receptor.filas).hasSize(2);
+
+        FilaImportacionPresupuesto partida = receptor.filas.get(0);
+        assertThat(partida.numero()).isEqualTo(2);
+        assertThat(partida.tipo()).isEqualTo(FilaImportacionPresupuesto.Tipo.PARTIDA);
+        assertThat(partida.item()).isEqualTo("01.01");
+        // Texto enriquecido: se concatenan las corridas
+        assertThat(partida.descripcion()).isEqualTo("Concreto f'c=210");
+        assertThat(partida.unidad()).isEqualTo("m3");
+        assertThat(partida.metrado()).isEqualByComparingTo("12.5");
+
+        FilaImportacionPresupuesto insumo = receptor.filas.get(1);
+        assertThat(insumo.tipo()).isEqualTo(FilaImportacionPresupuesto.Tipo.INSUMO);
+        assertThat(insumo.recursoCodigo()).isEqualTo("CEM-01");
+        assertThat(insumo.cantidad()).isEqualByComparingTo(new BigDecimal("15"));
+    }
+
+    @Test
+    void leer_textosEnLineaYResultadosDeFormula() throws Exception {
+        Receptor receptor = leer("textos-en-linea");
+
+        assertThat(receptor.errores).isEmpty();
+        FilaImportacionPresupuesto fila = receptor.filas.get(0);
+        assertThat(fila.item()).isEqualTo("02");
+        assertThat(fila.descripcion()).isEqualTo("Acero corrugado");
+        assertThat(fila.metrado()).isEqualByComparingTo("0.75");
+        assertThat(fila.precioUnitario()).isEqualByComparingTo("3.75");
+    }
+
+    @Test
+    void leer_filasDispersasYColumnasOmitidas_respetaLasReferencias() throws Exception {
+        Receptor receptor = leer("filas-dispersas");
+
+        assertThat(receptor.errores).isEmpty();
+        // La fila 8 solo tiene celdas vacías y se ignora
+        assertThat(receptor.filas).extracting(FilaImportacionPresupuesto::numero).containsExactly(4L, 7L, 9L);
+
+        FilaImportacionPresupuesto muro = receptor.filas.get(0);
+        assertThat(muro.tipo()).isEqualTo(FilaImportacionPresupuesto.Tipo.PARTIDA);
+        assertThat(muro.item()).isEqualTo("03");
+        assertThat(muro.descripcion()).isEqualTo("Muro de ladrillo");
+
+        FilaImportacionPresupuesto ladrillo = receptor.filas.get(1);
+        assertThat(ladrillo.tipo()).isEqualTo(FilaImportacionPresupuesto.Tipo.INSUMO);
+        assertThat(ladrillo.recursoCodigo()).isEqualTo("LAD-01");
+        assertThat(ladrillo.cantidad()).isEqualByComparingTo("120");
+
+        // Celda sin referencia: toma la columna siguiente a la anterior
+        assertThat(receptor.filas.get(2).descripcion()).isEqualTo("Tarrajeo");
+    }
+
+    @Test
+    void leer_sinSheet1_usaLaPrimeraHojaPorNombre() throws Exception {
+        Receptor receptor = leer("sin-sheet1");
+
+        assertThat(receptor.filas).singleElement()
+                .satisfies(fila -> assertThat(fila.descripcion()).isEqualTo("Hoja 2"));
+    }
+
+    @Test
+    void leer_libroSinHojas_lanzaExcepcion() throws IOException {
+        Path archivo = directorio.resolve("vacio.xlsx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archivo))) {
+            zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+            zip.write("<workbook/>".getBytes());
+            zip.closeEntry();
+        }
+
+        assertThatThrownBy(() -> lector.leer(archivo, new Receptor()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("El XLSX no contiene hojas");
+    }
+
+    @Test
+    void indiceColumna_convierteReferencias() {
+        assertThat(LectorXlsxPresupuestoAdapter.indiceColumna("A1")).isZero();
+        assertThat(LectorXlsxPresupuestoAdapter.indiceColumna("H7")).isEqualTo(7);
+        assertThat(LectorXlsxPresupuestoAdapter.indiceColumna("AB12")).isEqualTo(27);
+    }
+
+    private Receptor leer(String fixture) throws IOException, URISyntaxException {
+        Receptor receptor = new Receptor();
+        lector.leer(empaquetar(fixture), receptor);
+        return receptor;
+    }
+
+    private Path empaquetar(String fixture) throws IOException, URISyntaxException {
+        Path origen = Path.of(getClass().getResource("/presupuesto/xlsx/" + fixture).toURI());
+        Path archivo = directorio.resolve(fixture + ".xlsx");
+        try (OutputStream salida = Files.newOutputStream(archivo);
+             ZipOutputStream zip = new ZipOutputStream(salida);
+             Stream<Path> partes = Files.walk(origen)) {
+            for (Path parte : partes.filter(Files::isRegularFile).sorted().toList()) {
+                zip.putNextEntry(new ZipEntry(origen.relativize(parte).toString().replace('\\', '/')));
+                Files.copy(parte, zip);
+                zip.closeEntry();
+            }
+        }
+        return archivo;
+    }
+
+    private static final class Receptor implements LectorPlanillaPresupuesto.ReceptorFilas {
+
+        private final List<FilaImportacionPresupuesto> filas = new ArrayList<>();
+        private final List<String> errores = new ArrayList<>();
+
+        @Override
+        public void fila(FilaImportacionPresupuesto fila) {
+            filas.add(fila);
+        }
+
+        @Override
+        public void error(long numeroFila, String mensaje) {
+            errores.add(numeroFila + ": " + mensaje);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.budgetpro.infrastructure.outbox;
+
+import com.budgetpro.domain.logistica.inventario.event.MaterialConsumed;
+import com.budgetpro.infrastructure.observability.OutboxMetrics;
+import com.budgetpro.infrastructure.persistence.entity.outbox.EstadoOutboxEvento;
+import com.budgetpro.infrastructure.persistence.entity.outbox.OutboxEventoEntity;
+import com.budgetpro.infrastructure.persistence.repository.outbox.OutboxEventoJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final OutboxEventoJpaRepository repository = mock(OutboxEventoJpaRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HandlerDePrueba handler = new HandlerDePrueba();
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(repository, List.of(handler), objectMapper,
+                mock(PlatformTransactionManager.class), new OutboxMetrics(registry), 3, 1000, 60000);
+    }
+
+    @Test
+    void despacharLote_debeEntregarEnUnSoloLoteYMarcarProcesados() throws Exception {
+        List<OutboxEventoEntity> eventos = List.of(evento("REF-1"), evento("REF-2"), evento("REF-3"));
+        when(repository.bloquearPendientes(any(), anyInt())).thenReturn(eventos);
+
+        int tomados = dispatcher.despacharLote(10);
+
+        assertEquals(3, tomados);
+        assertEquals(1, handler.lotes.size());
+        assertEquals(List.of("REF-1", "REF-2", "REF-3"),
+                handler.lotes.get(0).stream().map(MaterialConsumed::referencia).toList());
+        assertTrue(eventos.stream().allMatch(e -> e.getEstado() == EstadoOutboxEvento.PROCESADO));
+        assertEquals(3.0, registry.counter("outbox.eventos.despachados", "tipo", "MaterialConsumed").count());
+    }
+
+    @Test
+    void despacharLote_eventoQueFalla_debeReprogramarseSinBloquearAlResto() throws Exception {
+        OutboxEventoEntity ok = evento("REF-1");
+        OutboxEventoEntity malo = evento("FALLA");
+        when(repository.bloquearPendientes(any(), anyInt())).thenReturn(List.of(ok, malo));
+
+        dispatcher.despacharLote(10);
+
+        assertEquals(EstadoOutboxEvento.PROCESADO, ok.getEstado());
+        assertEquals(EstadoOutboxEvento.PENDIENTE, malo.getEstado());
+        assertEquals(1, malo.getIntentos());
+        assertTrue(malo.getProximoIntento().isAfter(malo.getCreatedAt()));
+        assertNotNull(malo.getUltimoError());
+        assertEquals(1.0, registry.counter("outbox.eventos.reintentos", "tipo", "MaterialConsumed").count());
+    }
+
+    @Test
+    void despacharLote_reintentosAgotados_debeMarcarFallido() throws Exception {
+        OutboxEventoEntity malo = evento("FALLA");
+        when(repository.bloquearPendientes(any(), anyInt())).thenReturn(List.of(malo));
+
+        for (int i = 0; i < 3; i++) {
+            dispatcher.despacharLote(10);
+        }
+
+        assertEquals(EstadoOutboxEvento.FALLIDO, malo.getEstado());
+        assertEquals(3, malo.getIntentos());
+        assertEquals(1.0, registry.counter("outbox.eventos.fallidos", "tipo", "MaterialConsumed").count());
+    }
+
+    @Test
+    void despacharLote_tipoSinManejador_debeMarcarProcesado() {
+        OutboxEventoEntity huerfano = new OutboxEventoEntity(UUID.randomUUID(), "EventoDesconocido", null, "{}",
+                LocalDateTime.now());
+        when(repository.bloquearPendientes(any(), anyInt())).thenReturn(List.of(huerfano));
+
+        dispatcher.despacharLote(10);
+
+        assertEquals(EstadoOutboxEvento.PROCESADO, huerfano.getEstado());
+        assertTrue(handler.lotes.isEmpty());
+    }
+
+    @Test
+    void despacharLote_payloadIlegible_debeMarcarFallidoSinReintentar() {
+        OutboxEventoEntity ilegible = new OutboxEventoEntity(UUID.randomUUID(), "MaterialConsumed", null,
+                "{\"cantidad\": \"no-es-numero\"}", LocalDateTime.now());
+        when(repository.bloquearPendientes(any(), anyInt())).thenReturn(List.of(ilegible));
+
+        dispatcher.despacharLote(10);
+
+        assertEquals(EstadoOutboxEvento.FALLIDO, ilegible.getEstado());
+        assertTrue(handler.lotes.isEmpty());
+    }
+
+    private OutboxEventoEntity evento(String referencia) throws Exception {
+        MaterialConsumed evento = new MaterialConsumed(UUID.randomUUID(), UUID.randomUUID(), "MAT-001",
+                BigDecimal.TEN, new BigDecimal("105.00"), LocalDateTime.now(), referencia);
+        return new OutboxEventoEntity(UUID.randomUUID(), "MaterialConsumed", evento.proyectoId(),
+                objectMapper.writeValueAsString(evento), LocalDateTime.now().minusSeconds(5));
+    }
+
+    /**
+     * Manejador que falla con cualquier lote que contenga la referencia "FALLA".
+     */
+    private static class HandlerDePrueba implements OutboxEventHandler<MaterialConsumed> {
+
+        private final List<List<MaterialConsumed>> lotes = new ArrayList<>();
+
+        @Override
+        public Class<MaterialConsumed> tipoEvento() {
+            return MaterialConsumed.class;
+        }
+
+        @Override
+        public void manejar(List<MaterialConsumed> eventos) {
+            if (eventos.stream().anyMatch(e -> "FALLA".equals(e.referencia()))) {
+                throw new IllegalStateException("Fallo simulado");
+            }
+            lotes.add(List.copyOf(eventos));
+        }
+    }
+}
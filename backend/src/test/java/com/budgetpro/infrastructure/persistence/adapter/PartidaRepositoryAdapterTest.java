@@ -0,0 +1,70 @@
+package com.budgetpro.infrastructure.persistence.adapter;
+
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.proyecto.port.out.ProyectoRepository;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración de la jerarquía materializada (ruta y es_hoja) de partidas.
+ */
+@Transactional
+class PartidaRepositoryAdapterTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProyectoRepository proyectoRepository;
+
+    @Autowired
+    private PresupuestoRepository presupuestoRepository;
+
+    @Autowired
+    private PartidaRepository partidaRepository;
+
+    @Test
+    @DisplayName("Los triggers mantienen la marca de hoja y el subárbol se resuelve por ruta")
+    void hojasYSubarbolPorRuta() {
+        ProyectoId proyectoId = ProyectoId.nuevo();
+        proyectoRepository.save(Proyecto.crear(proyectoId, "Proyecto Jerarquía", "Lima").activar());
+        PresupuestoId presupuestoId = PresupuestoId.nuevo();
+        presupuestoRepository.save(Presupuesto.crear(presupuestoId, proyectoId.getValue(), "Base"));
+        UUID pid = presupuestoId.getValue();
+
+        Partida estructuras = Partida.crearRaiz(PartidaId.nuevo(), pid, "01", "Estructuras", null, null);
+        Partida concreto = Partida.crearHija(PartidaId.nuevo(), pid, estructuras.getId().getValue(), "01.01",
+                "Concreto", null, null, 2);
+        Partida zapatas = Partida.crearHija(PartidaId.nuevo(), pid, concreto.getId().getValue(), "01.01.01",
+                "Zapatas", "m3", new BigDecimal("10"), 3);
+        Partida obrasProvisionales = Partida.crearRaiz(PartidaId.nuevo(), pid, "02", "Obras provisionales",
+                "glb", BigDecimal.ONE);
+        partidaRepository.save(estructuras);
+        partidaRepository.save(concreto);
+        partidaRepository.save(zapatas);
+        partidaRepository.save(obrasProvisionales);
+
+        assertEquals(List.of("01.01.01", "02"), partidaRepository.findHojasByPresupuestoId(pid).stream()
+                .map(Partida::getItem).sorted().toList());
+        assertEquals(List.of("01.01.01"), partidaRepository.findHojasSubarbol(estructuras.getId().getValue())
+                .stream().map(Partida::getItem).toList());
+        assertEquals(List.of("02"), partidaRepository.findHojasSubarbol(obrasProvisionales.getId().getValue())
+                .stream().map(Partida::getItem).toList());
+        assertFalse(partidaRepository.esHoja(concreto.getId().getValue()));
+        assertTrue(partidaRepository.esHoja(zapatas.getId().getValue()));
+        assertFalse(partidaRepository.esHoja(UUID.randomUUID()));
+    }
+}
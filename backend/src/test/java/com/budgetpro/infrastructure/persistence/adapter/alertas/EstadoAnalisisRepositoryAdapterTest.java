@@ -0,0 +1,78 @@
+package com.budgetpro.infrastructure.persistence.adapter.alertas;
+
+import com.budgetpro.domain.finanzas.alertas.model.CambiosAnalisis;
+import com.budgetpro.domain.finanzas.alertas.port.out.EstadoAnalisisRepository;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.proyecto.port.out.ProyectoRepository;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración de la versión de análisis por partida y la detección de cambios.
+ */
+@Transactional
+class EstadoAnalisisRepositoryAdapterTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProyectoRepository proyectoRepository;
+
+    @Autowired
+    private PresupuestoRepository presupuestoRepository;
+
+    @Autowired
+    private PartidaRepository partidaRepository;
+
+    @Autowired
+    private EstadoAnalisisRepository estadoAnalisisRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Solo las partidas nuevas, modificadas o eliminadas desde el último registro son cambios")
+    void detectaSoloPartidasCambiadas() {
+        ProyectoId proyectoId = ProyectoId.nuevo();
+        proyectoRepository.save(Proyecto.crear(proyectoId, "Proyecto Análisis", "Lima").activar());
+        PresupuestoId presupuestoId = PresupuestoId.nuevo();
+        presupuestoRepository.save(Presupuesto.crear(presupuestoId, proyectoId.getValue(), "Base"));
+        UUID pid = presupuestoId.getValue();
+
+        Partida zapata = Partida.crearRaiz(PartidaId.nuevo(), pid, "01", "Zapata", "m3", new BigDecimal("10"));
+        Partida viga = Partida.crearRaiz(PartidaId.nuevo(), pid, "02", "Viga", "m3", new BigDecimal("5"));
+        partidaRepository.save(zapata);
+        partidaRepository.save(viga);
+        UUID zapataId = zapata.getId().getValue();
+        UUID vigaId = viga.getId().getValue();
+
+        CambiosAnalisis iniciales = estadoAnalisisRepository.buscarCambios(pid);
+        assertEquals(Set.of(zapataId, vigaId), iniciales.partidasModificadas().keySet());
+        estadoAnalisisRepository.registrar(pid, iniciales);
+        assertTrue(estadoAnalisisRepository.buscarCambios(pid).estaVacio());
+
+        jdbcTemplate.update("UPDATE partida SET descripcion = 'Viga peraltada' WHERE id = ?", vigaId);
+        jdbcTemplate.update("DELETE FROM partida WHERE id = ?", zapataId);
+
+        CambiosAnalisis cambios = estadoAnalisisRepository.buscarCambios(pid);
+        assertEquals(Set.of(vigaId), cambios.partidasModificadas().keySet());
+        assertEquals(Set.of(zapataId), cambios.partidasEliminadas());
+        estadoAnalisisRepository.registrar(pid, cambios);
+        assertTrue(estadoAnalisisRepository.buscarCambios(pid).estaVacio());
+    }
+}
@@ -13,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -197,6 +199,51 @@ class OrdenCompraRepositoryAdapterTest extends AbstractIntegrationTest {
         assertFalse(eliminada.isPresent());
     }
 
+    @Test
+    @DisplayName("Debe paginar por cursor en orden (fecha DESC, id DESC) sin repetir ni omitir filas")
+    void debePaginarPorCursor() {
+        LocalDate base = LocalDate.of(2024, 3, 1);
+        for (int i = 0; i < 5; i++) {
+            ordenCompraRepository.save(OrdenCompra.crear(OrdenCompraId.nuevo(), "PO-KS-" + i, proyectoId, proveedorId,
+                base.plusDays(i / 2), null, null, crearDetallesBase(), testUserId, LocalDateTime.now()));
+        }
+        OrdenCompraFiltro filtro = new OrdenCompraFiltro(proyectoId, null, null, null, null);
+
+        PaginaOrdenesCompra pagina1 = ordenCompraRepository.buscarResumenes(filtro, null, 2);
+        PaginaOrdenesCompra pagina2 = ordenCompraRepository.buscarResumenes(filtro, pagina1.siguiente(), 2);
+        PaginaOrdenesCompra pagina3 = ordenCompraRepository.buscarResumenes(filtro, pagina2.siguiente(), 2);
+
+        List<OrdenCompraResumen> todas = new ArrayList<>();
+        todas.addAll(pagina1.ordenes());
+        todas.addAll(pagina2.ordenes());
+        todas.addAll(pagina3.ordenes());
+
+        assertThat(todas).hasSize(5);
+        assertThat(todas).extracting(OrdenCompraResumen::id).doesNotHaveDuplicates();
+        assertThat(todas).isSortedAccordingTo(Comparator.comparing(OrdenCompraResumen::fecha)
+            .thenComparing(OrdenCompraResumen::id).reversed());
+        assertThat(pagina3.siguiente()).isNull();
+        assertThat(todas.get(0).proveedorRazonSocial()).isEqualTo("Proveedor Test");
+    }
+
+    @Test
+    @DisplayName("Debe filtrar el listado por rango de fechas y estado")
+    void debeFiltrarResumenesPorFechaYEstado() {
+        LocalDate base = LocalDate.of(2024, 5, 1);
+        for (int i = 0; i < 4; i++) {
+            ordenCompraRepository.save(OrdenCompra.crear(OrdenCompraId.nuevo(), "PO-FL-" + i, proyectoId, proveedorId,
+                base.plusDays(i), null, null, crearDetallesBase(), testUserId, LocalDateTime.now()));
+        }
+        OrdenCompraFiltro filtro = new OrdenCompraFiltro(proyectoId, OrdenCompraEstado.BORRADOR, proveedorId.getValue(),
+            base.plusDays(1), base.plusDays(2));
+
+        PaginaOrdenesCompra pagina = ordenCompraRepository.buscarResumenes(filtro, null, 10);
+
+        assertThat(pagina.ordenes()).extracting(OrdenCompraResumen::fecha)
+            .containsExactly(base.plusDays(2), base.plusDays(1));
+        assertThat(pagina.siguiente()).isNull();
+    }
+
     private OrdenCompra crearOrdenCompraBase(OrdenCompraId id) {
         return OrdenCompra.crear(id, "PO-2024-001", proyectoId, proveedorId, LocalDate.now(), null, null,
             crearDetallesBase(), testUserId, LocalDateTime.now());
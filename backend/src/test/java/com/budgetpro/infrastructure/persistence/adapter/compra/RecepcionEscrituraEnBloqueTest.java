@@ -0,0 +1,119 @@
+package com.budgetpro.infrastructure.persistence.adapter.compra;
+
+import com.budgetpro.application.compra.command.RecibirOrdenCompraCommand;
+import com.budgetpro.application.compra.port.in.RecibirOrdenCompraInputPort;
+import com.budgetpro.domain.catalogo.model.RecursoProxy;
+import com.budgetpro.domain.catalogo.model.RecursoProxyId;
+import com.budgetpro.domain.catalogo.port.RecursoProxyRepository;
+import com.budgetpro.domain.logistica.almacen.model.Almacen;
+import com.budgetpro.domain.logistica.almacen.model.AlmacenId;
+import com.budgetpro.domain.logistica.almacen.port.out.AlmacenRepository;
+import com.budgetpro.domain.logistica.compra.model.*;
+import com.budgetpro.domain.logistica.compra.port.out.CompraRepository;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.proyecto.port.out.ProyectoRepository;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Regresión del número de sentencias SQL de la recepción de una orden de compra.
+ *
+ * Almacenes, recursos y cabeceras de Kárdex se precargan en bloque y los INSERT/UPDATE
+ * se agrupan en batches JDBC, por lo que el número de sentencias preparadas no debe
+ * crecer con el número de líneas recibidas.
+ */
+class RecepcionEscrituraEnBloqueTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RecibirOrdenCompraInputPort recibirOrdenCompra;
+
+    @Autowired
+    private CompraRepository compraRepository;
+
+    @Autowired
+    private ProyectoRepository proyectoRepository;
+
+    @Autowired
+    private AlmacenRepository almacenRepository;
+
+    @Autowired
+    private RecursoProxyRepository recursoProxyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID proyectoId;
+    private UUID almacenId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        ProyectoId proyectoDomainId = ProyectoId.nuevo();
+        proyectoId = proyectoDomainId.getValue();
+        proyectoRepository.save(Proyecto.crear(proyectoDomainId, "Proyecto Recepción Bloque", "Lima").activar());
+
+        AlmacenId almacenDomainId = AlmacenId.generate();
+        almacenId = almacenDomainId.getValue();
+        almacenRepository.guardar(Almacen.crear(almacenDomainId, proyectoId, "ALM-BLQ", "Almacén Bloque", "Lima",
+                UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("El número de sentencias de una recepción no depende del número de líneas")
+    void sentenciasNoCrecenConLasLineas() {
+        long sentenciasPocasLineas = sentenciasDeRecepcion(3);
+        long sentenciasMuchasLineas = sentenciasDeRecepcion(30);
+
+        assertEquals(sentenciasPocasLineas, sentenciasMuchasLineas,
+                "La recepción de 30 líneas preparó más sentencias que la de 3 líneas");
+    }
+
+    private long sentenciasDeRecepcion(int lineas) {
+        List<CompraDetalle> detalles = new ArrayList<>();
+        List<RecibirOrdenCompraCommand.DetalleCommand> detallesCommand = new ArrayList<>();
+        for (int i = 0; i < lineas; i++) {
+            String externalId = "BLQ-" + UUID.randomUUID();
+            recursoProxyRepository.save(RecursoProxy.crear(RecursoProxyId.generate(), externalId, "CAPECO",
+                    "Recurso " + i, com.budgetpro.domain.shared.model.TipoRecurso.MATERIAL, "UND",
+                    new BigDecimal("5.00"), LocalDateTime.now()));
+
+            CompraDetalleId detalleId = CompraDetalleId.nuevo();
+            detalles.add(CompraDetalle.crear(detalleId, externalId, "Recurso " + i, "UND", UUID.randomUUID(),
+                    NaturalezaGasto.DIRECTO_PARTIDA, RelacionContractual.CONTRACTUAL,
+                    RubroInsumo.MATERIAL_CONSTRUCCION, new BigDecimal("10.00"), new BigDecimal("5.00")));
+            detallesCommand.add(new RecibirOrdenCompraCommand.DetalleCommand(
+                    detalleId.getValue(), new BigDecimal("4.00"), almacenId));
+        }
+
+        Compra borrador = Compra.crear(CompraId.nuevo(), proyectoId, LocalDate.now(), "Proveedor Bloque", detalles);
+        compraRepository.save(Compra.reconstruir(borrador.getId(), borrador.getProyectoId(), borrador.getFecha(),
+                borrador.getProveedor(), EstadoCompra.ENVIADA, borrador.getTotal(), borrador.getVersion(),
+                borrador.getDetalles()));
+
+        RecibirOrdenCompraCommand command = new RecibirOrdenCompraCommand(borrador.getId().getValue(),
+                LocalDate.now(), "GR-BLQ-" + lineas, detallesCommand, UUID.randomUUID());
+
+        statistics.clear();
+        recibirOrdenCompra.ejecutar(command);
+        return statistics.getPrepareStatementCount();
+    }
+}
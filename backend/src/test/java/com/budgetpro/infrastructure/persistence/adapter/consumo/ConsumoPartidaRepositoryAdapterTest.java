@@ -0,0 +1,110 @@
+package com.budgetpro.infrastructure.persistence.adapter.consumo;
+
+import com.budgetpro.domain.finanzas.consumo.model.ConsumoPartida;
+import com.budgetpro.domain.finanzas.consumo.model.ConsumoPartidaId;
+import com.budgetpro.domain.finanzas.consumo.model.TipoConsumo;
+import com.budgetpro.infrastructure.persistence.entity.PartidaEntity;
+import com.budgetpro.infrastructure.persistence.entity.consumo.ConsumoPartidaEntity;
+import com.budgetpro.infrastructure.persistence.mapper.consumo.ConsumoPartidaMapper;
+import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.consumo.ConsumoPartidaJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.consumo.PartidaGastoAcumuladoJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios del mantenimiento por delta del gasto acumulado en ConsumoPartidaRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsumoPartidaRepositoryAdapterTest {
+
+    @Mock
+    private ConsumoPartidaJpaRepository jpaRepository;
+
+    @Mock
+    private PartidaJpaRepository partidaJpaRepository;
+
+    @Mock
+    private PartidaGastoAcumuladoJpaRepository gastoAcumuladoJpaRepository;
+
+    @Mock
+    private ConsumoPartidaMapper mapper;
+
+    private ConsumoPartidaRepositoryAdapter adapter;
+    private UUID partidaId;
+    private PartidaEntity partidaEntity;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ConsumoPartidaRepositoryAdapter(jpaRepository, partidaJpaRepository,
+                gastoAcumuladoJpaRepository, mapper);
+        partidaId = UUID.randomUUID();
+        partidaEntity = new PartidaEntity();
+        partidaEntity.setId(partidaId);
+        when(partidaJpaRepository.findById(partidaId)).thenReturn(Optional.of(partidaEntity));
+    }
+
+    @Test
+    @DisplayName("Un consumo nuevo suma su monto al gasto acumulado")
+    void save_consumoNuevo_sumaMonto() {
+        ConsumoPartida consumo = ConsumoPartida.crearPorOtros(ConsumoPartidaId.nuevo(), partidaId,
+                new BigDecimal("150.00"), LocalDate.now());
+        when(jpaRepository.findById(consumo.getId().getValue())).thenReturn(Optional.empty());
+
+        adapter.save(consumo);
+
+        verify(gastoAcumuladoJpaRepository).incrementar(partidaId, new BigDecimal("150.00"));
+    }
+
+    @Test
+    @DisplayName("Actualizar el monto de un consumo aplica solo la diferencia")
+    void save_consumoExistente_aplicaDiferencia() {
+        ConsumoPartida consumo = ConsumoPartida.crearPorOtros(ConsumoPartidaId.nuevo(), partidaId,
+                new BigDecimal("120.00"), LocalDate.now());
+        ConsumoPartidaEntity existente = new ConsumoPartidaEntity(consumo.getId().getValue(), partidaEntity, null,
+                new BigDecimal("150.00"), LocalDate.now(), TipoConsumo.OTROS, 0);
+        when(jpaRepository.findById(consumo.getId().getValue())).thenReturn(Optional.of(existente));
+
+        adapter.save(consumo);
+
+        verify(gastoAcumuladoJpaRepository).incrementar(partidaId, new BigDecimal("-30.00"));
+    }
+
+    @Test
+    @DisplayName("Actualizar un consumo sin cambiar el monto no toca el contador")
+    void save_montoSinCambios_noIncrementa() {
+        ConsumoPartida consumo = ConsumoPartida.crearPorOtros(ConsumoPartidaId.nuevo(), partidaId,
+                new BigDecimal("150.00"), LocalDate.now());
+        ConsumoPartidaEntity existente = new ConsumoPartidaEntity(consumo.getId().getValue(), partidaEntity, null,
+                new BigDecimal("150.0000"), LocalDate.now(), TipoConsumo.OTROS, 0);
+        when(jpaRepository.findById(consumo.getId().getValue())).thenReturn(Optional.of(existente));
+
+        adapter.save(consumo);
+
+        verify(gastoAcumuladoJpaRepository, never()).incrementar(any(), any());
+    }
+
+    @Test
+    @DisplayName("registrarConsumo (AC de inventario) suma el monto al gasto acumulado")
+    void registrarConsumo_sumaMonto() {
+        adapter.registrarConsumo(partidaId, new BigDecimal("75.50"), LocalDateTime.now(), "SAL-001");
+
+        verify(jpaRepository).save(any(ConsumoPartidaEntity.class));
+        verify(gastoAcumuladoJpaRepository).incrementar(partidaId, new BigDecimal("75.50"));
+    }
+}
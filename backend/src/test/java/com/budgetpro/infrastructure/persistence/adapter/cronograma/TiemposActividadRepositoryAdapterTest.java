@@ -0,0 +1,127 @@
+package com.budgetpro.infrastructure.persistence.adapter.cronograma;
+
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramada;
+import com.budgetpro.domain.finanzas.cronograma.model.ActividadProgramadaId;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObra;
+import com.budgetpro.domain.finanzas.cronograma.model.ProgramaObraId;
+import com.budgetpro.domain.finanzas.cronograma.model.TiemposActividad;
+import com.budgetpro.domain.finanzas.cronograma.port.out.ActividadProgramadaRepository;
+import com.budgetpro.domain.finanzas.cronograma.port.out.ProgramaObraRepository;
+import com.budgetpro.domain.finanzas.cronograma.port.out.TiemposActividadRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
+import com.budgetpro.domain.proyecto.model.EstadoProyecto;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import com.budgetpro.infrastructure.persistence.entity.PartidaEntity;
+import com.budgetpro.infrastructure.persistence.entity.PresupuestoEntity;
+import com.budgetpro.infrastructure.persistence.entity.ProyectoEntity;
+import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.PresupuestoJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.ProyectoJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para TiemposActividadRepositoryAdapter.
+ */
+@Transactional
+class TiemposActividadRepositoryAdapterTest extends AbstractIntegrationTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 6, 2);
+
+    @Autowired
+    private TiemposActividadRepository tiemposActividadRepository;
+
+    @Autowired
+    private ActividadProgramadaRepository actividadProgramadaRepository;
+
+    @Autowired
+    private ProgramaObraRepository programaObraRepository;
+
+    @Autowired
+    private ProyectoJpaRepository proyectoJpaRepository;
+
+    @Autowired
+    private PresupuestoJpaRepository presupuestoJpaRepository;
+
+    @Autowired
+    private PartidaJpaRepository partidaJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID programaObraId;
+    private ActividadProgramada excavacion;
+    private ActividadProgramada cimentacion;
+
+    @BeforeEach
+    void setUp() {
+        UUID proyectoId = proyectoJpaRepository.saveAndFlush(new ProyectoEntity(UUID.randomUUID(),
+                "Proyecto Cronograma", "Lima", EstadoProyecto.BORRADOR, null)).getId();
+        PresupuestoEntity presupuesto = presupuestoJpaRepository.saveAndFlush(new PresupuestoEntity(
+                UUID.randomUUID(), proyectoId, "Presupuesto Cronograma", EstadoPresupuesto.BORRADOR, false, null));
+
+        ProgramaObra programa = ProgramaObra.crear(ProgramaObraId.nuevo(), proyectoId, INICIO, INICIO.plusDays(30));
+        programaObraRepository.save(programa);
+        programaObraId = programa.getId().getValue();
+
+        excavacion = ActividadProgramada.crear(ActividadProgramadaId.nuevo(), partida(presupuesto, "01"),
+                programaObraId, INICIO, INICIO.plusDays(4));
+        cimentacion = ActividadProgramada.crear(ActividadProgramadaId.nuevo(), partida(presupuesto, "02"),
+                programaObraId, INICIO.plusDays(7), INICIO.plusDays(11));
+        actividadProgramadaRepository.save(excavacion);
+        actividadProgramadaRepository.save(cimentacion);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findByProgramaObraId_soloDevuelveLasActividadesCalculadas() {
+        TiemposActividad tiempos = new TiemposActividad(excavacion.getId().getValue(), 5, INICIO,
+                INICIO.plusDays(4), INICIO.plusDays(7), INICIO.plusDays(11), 3, 1);
+
+        tiemposActividadRepository.guardar(List.of(tiempos));
+        Map<UUID, TiemposActividad> leidos = tiemposActividadRepository.findByProgramaObraId(programaObraId);
+
+        assertThat(leidos).containsOnlyKeys(excavacion.getId().getValue());
+        assertThat(leidos.get(excavacion.getId().getValue())).isEqualTo(tiempos);
+    }
+
+    @Test
+    void guardar_actualizaSoloLasActividadesIndicadasSinTocarLaVersion() {
+        Long versionExcavacion = actividadProgramadaRepository.findById(excavacion.getId()).orElseThrow()
+                .getVersion();
+        TiemposActividad excavacionInicial = new TiemposActividad(excavacion.getId().getValue(), 5, INICIO,
+                INICIO.plusDays(4), INICIO, INICIO.plusDays(4), 0, 0);
+        TiemposActividad cimentacionInicial = new TiemposActividad(cimentacion.getId().getValue(), 5,
+                INICIO.plusDays(7), INICIO.plusDays(11), INICIO.plusDays(7), INICIO.plusDays(11), 0, 0);
+        tiemposActividadRepository.guardar(List.of(excavacionInicial, cimentacionInicial));
+
+        TiemposActividad cimentacionMovida = new TiemposActividad(cimentacion.getId().getValue(), 5,
+                INICIO.plusDays(14), INICIO.plusDays(18), INICIO.plusDays(14), INICIO.plusDays(18), 0, 0);
+        tiemposActividadRepository.guardar(List.of(cimentacionMovida));
+        entityManager.clear();
+
+        assertThat(tiemposActividadRepository.findByProgramaObraId(programaObraId)).containsExactlyInAnyOrderEntriesOf(
+                Map.of(excavacion.getId().getValue(), excavacionInicial,
+                        cimentacion.getId().getValue(), cimentacionMovida));
+        assertThat(actividadProgramadaRepository.findById(excavacion.getId()).orElseThrow().getVersion())
+                .isEqualTo(versionExcavacion);
+    }
+
+    private UUID partida(PresupuestoEntity presupuesto, String item) {
+        return partidaJpaRepository.saveAndFlush(new PartidaEntity(UUID.randomUUID(), presupuesto,
+                principalSub(presupuesto), null, item, "Partida " + item, "m3", new BigDecimal("10"), 1, null))
+                .getId();
+    }
+}
@@ -0,0 +1,82 @@
+package com.budgetpro.infrastructure.persistence.adapter.estimacion;
+
+import com.budgetpro.domain.finanzas.estimacion.model.DetalleEstimacion;
+import com.budgetpro.domain.finanzas.estimacion.model.DetalleEstimacionId;
+import com.budgetpro.domain.finanzas.estimacion.model.Estimacion;
+import com.budgetpro.domain.finanzas.estimacion.model.EstimacionId;
+import com.budgetpro.domain.finanzas.estimacion.port.out.AcumuladoEstimacionRepository;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para AcumuladoEstimacionRepositoryAdapter.
+ */
+@Transactional
+class AcumuladoEstimacionRepositoryAdapterTest extends AbstractIntegrationTest {
+
+    private static final LocalDate CORTE = LocalDate.of(2025, 5, 31);
+
+    @Autowired
+    private AcumuladoEstimacionRepository acumuladoEstimacionRepository;
+
+    private UUID proyectoId;
+    private UUID excavacion;
+    private UUID relleno;
+
+    @BeforeEach
+    void setUp() {
+        proyectoId = UUID.randomUUID();
+        excavacion = UUID.randomUUID();
+        relleno = UUID.randomUUID();
+    }
+
+    @Test
+    void acumular_conDosDetallesDeLaMismaPartida_sumaAmbasCantidades() {
+        acumuladoEstimacionRepository.acumular(estimacion(1, Map.of(excavacion, "5")));
+
+        Estimacion segunda = estimacion(2, Map.of(relleno, "2"));
+        segunda.agregarDetalle(detalle(excavacion, "3"));
+        segunda.agregarDetalle(detalle(excavacion, "4"));
+        acumuladoEstimacionRepository.acumular(segunda);
+
+        Map<UUID, BigDecimal> acumulados =
+                acumuladoEstimacionRepository.obtenerAcumulados(proyectoId, List.of(excavacion, relleno));
+        assertThat(acumulados.get(excavacion)).isEqualByComparingTo("12");
+        assertThat(acumulados.get(relleno)).isEqualByComparingTo("2");
+    }
+
+    @Test
+    void acumular_laMismaEstimacionDosVeces_noSumaDeNuevo() {
+        Estimacion primera = estimacion(1, Map.of(excavacion, "5"));
+        primera.agregarDetalle(detalle(excavacion, "1"));
+
+        acumuladoEstimacionRepository.acumular(primera);
+        acumuladoEstimacionRepository.acumular(primera);
+
+        assertThat(acumuladoEstimacionRepository.obtenerAcumulados(proyectoId, List.of(excavacion))
+                .get(excavacion)).isEqualByComparingTo("6");
+    }
+
+    private Estimacion estimacion(int numero, Map<UUID, String> cantidades) {
+        Estimacion estimacion = Estimacion.crear(EstimacionId.nuevo(), proyectoId, numero, CORTE,
+                CORTE.minusMonths(1).plusDays(1), CORTE, null);
+        cantidades.forEach((partidaId, cantidad) -> estimacion.agregarDetalle(detalle(partidaId, cantidad)));
+        return estimacion;
+    }
+
+    private DetalleEstimacion detalle(UUID partidaId, String cantidad) {
+        return DetalleEstimacion.crear(DetalleEstimacionId.nuevo(), partidaId, new BigDecimal(cantidad),
+                new BigDecimal("10"), BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,101 @@
+package com.budgetpro.infrastructure.persistence.adapter.presupuesto;
+
+import com.budgetpro.application.presupuesto.dto.ClonPresupuestoResponse;
+import com.budgetpro.application.presupuesto.port.in.ClonarPresupuestoUseCase;
+import com.budgetpro.domain.catalogo.model.APUInsumoSnapshot;
+import com.budgetpro.domain.catalogo.model.APUInsumoSnapshotId;
+import com.budgetpro.domain.catalogo.model.APUSnapshot;
+import com.budgetpro.domain.catalogo.model.APUSnapshotId;
+import com.budgetpro.domain.catalogo.port.ApuSnapshotRepository;
+import com.budgetpro.domain.finanzas.partida.model.Partida;
+import com.budgetpro.domain.finanzas.partida.model.PartidaId;
+import com.budgetpro.domain.finanzas.partida.port.out.PartidaRepository;
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.Presupuesto;
+import com.budgetpro.domain.finanzas.presupuesto.model.PresupuestoId;
+import com.budgetpro.domain.finanzas.presupuesto.port.out.PresupuestoRepository;
+import com.budgetpro.domain.proyecto.model.Proyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.domain.proyecto.port.out.ProyectoRepository;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Copia SQL de un presupuesto: EDT remapeada, APUs con sus insumos y copia en BORRADOR.
+ */
+class ClonacionPresupuestoTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ClonarPresupuestoUseCase clonarPresupuestoUseCase;
+
+    @Autowired
+    private ProyectoRepository proyectoRepository;
+
+    @Autowired
+    private PresupuestoRepository presupuestoRepository;
+
+    @Autowired
+    private PartidaRepository partidaRepository;
+
+    @Autowired
+    private ApuSnapshotRepository apuSnapshotRepository;
+
+    @Test
+    @DisplayName("La copia remapea padres y APUs a las nuevas partidas y no toca el original")
+    void copiaProfunda() {
+        ProyectoId proyectoId = ProyectoId.nuevo();
+        proyectoRepository.save(Proyecto.crear(proyectoId, "Proyecto Copia", "Lima").activar());
+        PresupuestoId origenId = PresupuestoId.nuevo();
+        presupuestoRepository.save(Presupuesto.crear(origenId, proyectoId.getValue(), "Base"));
+
+        Partida raiz = Partida.crearRaiz(PartidaId.nuevo(), origenId.getValue(), "01", "Estructuras", null, null);
+        Partida hoja = Partida.crearHija(PartidaId.nuevo(), origenId.getValue(), raiz.getId().getValue(), "01.01",
+                "Concreto", "m3", new BigDecimal("12.50"), 2);
+        partidaRepository.save(raiz);
+        partidaRepository.save(hoja);
+        apuSnapshotRepository.save(APUSnapshot.crear(APUSnapshotId.generate(), hoja.getId().getValue(), "01.01",
+                        "CAPECO", new BigDecimal("25"), "m3", LocalDateTime.now())
+                .agregarInsumo(APUInsumoSnapshot.crear(APUInsumoSnapshotId.generate(), "MAT-001", "Cemento",
+                        new BigDecimal("9.5"), new BigDecimal("25.00"))));
+
+        ClonPresupuestoResponse copia = clonarPresupuestoUseCase.clonar(origenId.getValue(), null);
+
+        assertEquals("Base (copia)", copia.nombre());
+        assertEquals(2, copia.partidas());
+        assertEquals(1, copia.apus());
+        assertEquals(1, copia.insumos());
+
+        Presupuesto nuevo = presupuestoRepository.findById(PresupuestoId.from(copia.id())).orElseThrow();
+        assertEquals(EstadoPresupuesto.BORRADOR, nuevo.getEstado());
+
+        Map<String, Partida> copiadas = partidaRepository.findByPresupuestoId(copia.id()).stream()
+                .collect(Collectors.toMap(Partida::getItem, Function.identity()));
+        Partida raizCopia = copiadas.get("01");
+        Partida hojaCopia = copiadas.get("01.01");
+        assertNotEquals(raiz.getId(), raizCopia.getId());
+        assertEquals(raizCopia.getId().getValue(), hojaCopia.getPadreId());
+        assertEquals(0, new BigDecimal("12.50").compareTo(hojaCopia.getMetrado()));
+        assertEquals(List.of(hojaCopia.getId()), partidaRepository.findHojasSubarbol(raizCopia.getId().getValue())
+                .stream().map(Partida::getId).toList());
+
+        APUSnapshot apuCopia = apuSnapshotRepository.findByPartidaId(hojaCopia.getId().getValue()).orElseThrow();
+        assertEquals(1, apuCopia.getInsumos().size());
+        assertEquals("MAT-001", apuCopia.getInsumos().get(0).getRecursoExternalId());
+
+        List<Partida> originales = partidaRepository.findByPresupuestoId(origenId.getValue());
+        assertEquals(2, originales.size());
+        assertTrue(apuSnapshotRepository.findByPartidaId(hoja.getId().getValue()).isPresent());
+    }
+}
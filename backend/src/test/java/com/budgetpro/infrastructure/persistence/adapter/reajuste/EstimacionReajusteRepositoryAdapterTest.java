@@ -0,0 +1,199 @@
+package com.budgetpro.infrastructure.persistence.adapter.reajuste;
+
+import com.budgetpro.application.reajuste.dto.EstimacionReajusteResponse;
+import com.budgetpro.application.reajuste.dto.RegistrarIndicePreciosCommand;
+import com.budgetpro.application.reajuste.port.in.CalcularReajusteUseCase;
+import com.budgetpro.application.reajuste.port.in.ConfigurarReajustePolinomicoUseCase;
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
+import com.budgetpro.domain.finanzas.reajuste.model.DetalleReajustePartida;
+import com.budgetpro.domain.finanzas.reajuste.model.DetalleReajustePartidaId;
+import com.budgetpro.domain.finanzas.reajuste.model.EstadoEstimacionReajuste;
+import com.budgetpro.domain.finanzas.reajuste.model.EstimacionReajuste;
+import com.budgetpro.domain.finanzas.reajuste.model.EstimacionReajusteId;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomicaId;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.model.IndicePreciosId;
+import com.budgetpro.domain.finanzas.reajuste.model.Monomio;
+import com.budgetpro.domain.finanzas.reajuste.model.TipoIndicePrecios;
+import com.budgetpro.domain.finanzas.reajuste.port.out.EstimacionReajusteRepository;
+import com.budgetpro.domain.finanzas.reajuste.port.out.FormulaPolinomicaRepository;
+import com.budgetpro.domain.finanzas.reajuste.port.out.IndicePreciosRepository;
+import com.budgetpro.domain.proyecto.model.EstadoProyecto;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import com.budgetpro.infrastructure.persistence.entity.PresupuestoEntity;
+import com.budgetpro.infrastructure.persistence.entity.ProyectoEntity;
+import com.budgetpro.infrastructure.persistence.repository.PresupuestoJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.ProyectoJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para EstimacionReajusteRepositoryAdapter: una estimación polinómica con
+ * índices provisionales se recalcula al publicarse el definitivo y sus detalles se actualizan en
+ * sitio (sin chocar con uq_detalle_reajuste_partida); si ya está aprobada se genera una
+ * complementaria vinculada.
+ */
+@Transactional
+class EstimacionReajusteRepositoryAdapterTest extends AbstractIntegrationTest {
+
+    private static final YearMonth BASE = YearMonth.of(2025, 1);
+    private static final YearMonth MARZO = YearMonth.of(2025, 3);
+
+    @Autowired
+    private EstimacionReajusteRepository estimacionRepository;
+
+    @Autowired
+    private FormulaPolinomicaRepository formulaRepository;
+
+    @Autowired
+    private IndicePreciosRepository indiceRepository;
+
+    @Autowired
+    private CalcularReajusteUseCase calcularReajusteUseCase;
+
+    @Autowired
+    private ConfigurarReajustePolinomicoUseCase configurarReajustePolinomicoUseCase;
+
+    @Autowired
+    private ProyectoJpaRepository proyectoJpaRepository;
+
+    @Autowired
+    private PresupuestoJpaRepository presupuestoJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID proyectoId;
+    private UUID presupuestoId;
+    private String manoDeObra;
+    private String cemento;
+
+    @BeforeEach
+    void setUp() {
+        proyectoId = proyectoJpaRepository.saveAndFlush(new ProyectoEntity(UUID.randomUUID(),
+                "Proyecto Reajuste", "Lima", EstadoProyecto.BORRADOR, null)).getId();
+        presupuestoId = presupuestoJpaRepository.saveAndFlush(new PresupuestoEntity(UUID.randomUUID(),
+                proyectoId, "Presupuesto Reajuste", EstadoPresupuesto.BORRADOR, false, null)).getId();
+        // indice_precios es único por (codigo, fecha_base) en toda la base
+        String sufijo = UUID.randomUUID().toString().substring(0, 8);
+        manoDeObra = "MO-" + sufijo;
+        cemento = "CEM-" + sufijo;
+    }
+
+    @Test
+    void recalcularConIndicesDefinitivos_actualizaLosDetallesEnSitio() {
+        IndicePrecios cementoProvisional = formulaConCementoProvisional();
+
+        // K provisional = 0.40 × 110/100 + 0.60 × 210/200 = 1.070
+        DetalleReajustePartida detalleA = detalle("1000.0000", "1070.0000");
+        DetalleReajustePartida detalleB = detalle("500.0000", "535.0000");
+        EstimacionReajuste estimacion = EstimacionReajuste.crearPolinomica(EstimacionReajusteId.generate(),
+                proyectoId, presupuestoId, 1, MARZO.atEndOfMonth(), BASE.atDay(1))
+                .aplicarReajustePolinomico(List.of(detalleA, detalleB), false);
+        estimacionRepository.guardar(estimacion);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Se publica el definitivo de cemento: K = 0.44 + 0.60 × 214/200 = 1.082
+        indiceRepository.guardar(IndicePrecios.reconstruir(cementoProvisional.getId(), cemento, cemento,
+                TipoIndicePrecios.CUSTOM, MARZO.atDay(1), new BigDecimal("214"), true, true));
+        List<EstimacionReajusteResponse> recalculadas = calcularReajusteUseCase
+                .recalcularConIndicesDefinitivos(presupuestoId);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(recalculadas).singleElement()
+                .satisfies(response -> assertThat(response.id()).isEqualTo(estimacion.getId().getValue()));
+        EstimacionReajuste leida = estimacionRepository.buscarPorId(estimacion.getId()).orElseThrow();
+        assertThat(leida.isIndicesDefinitivos()).isTrue();
+        assertThat(leida.getMontoBase()).isEqualByComparingTo("1500");
+        assertThat(leida.getMontoReajustado()).isEqualByComparingTo("1623");
+        assertThat(leida.getDetalles()).hasSize(2).allSatisfy(detalle -> assertThat(detalle.getMontoReajustado())
+                .isEqualByComparingTo(detalle.getMontoBase().multiply(new BigDecimal("1.082"))));
+        assertThat(leida.getDetalles()).extracting(DetalleReajustePartida::getId)
+                .containsExactlyInAnyOrder(detalleA.getId(), detalleB.getId());
+
+        // Ya no quedan pendientes
+        assertThat(calcularReajusteUseCase.recalcularConIndicesDefinitivos(presupuestoId)).isEmpty();
+    }
+
+    @Test
+    void recalcularConIndicesDefinitivos_aprobada_generaUnaComplementariaVinculada() {
+        formulaConCementoProvisional();
+        EstimacionReajuste aprobada = EstimacionReajuste.crearPolinomica(EstimacionReajusteId.generate(),
+                proyectoId, presupuestoId, 1, MARZO.atEndOfMonth(), BASE.atDay(1))
+                .aplicarReajustePolinomico(List.of(detalle("1000.0000", "1070.0000")), false).aprobar();
+        estimacionRepository.guardar(aprobada);
+        entityManager.flush();
+        entityManager.clear();
+
+        // El definitivo de cemento se registra sobre el provisional: K = 0.44 + 0.60 × 214/200 = 1.082
+        configurarReajustePolinomicoUseCase.registrarIndice(new RegistrarIndicePreciosCommand(cemento, cemento,
+                TipoIndicePrecios.CUSTOM, MARZO.atDay(1), new BigDecimal("214"), true));
+        List<EstimacionReajusteResponse> generadas = calcularReajusteUseCase
+                .recalcularConIndicesDefinitivos(presupuestoId);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(generadas).singleElement().satisfies(response -> {
+            assertThat(response.estimacionOrigenId()).isEqualTo(aprobada.getId().getValue());
+            assertThat(response.numeroEstimacion()).isEqualTo(2);
+        });
+        EstimacionReajuste complementaria = estimacionRepository
+                .buscarPorId(EstimacionReajusteId.of(generadas.get(0).id())).orElseThrow();
+        assertThat(complementaria.getEstimacionOrigenId()).isEqualTo(aprobada.getId());
+        assertThat(complementaria.getEstado()).isEqualTo(EstadoEstimacionReajuste.BORRADOR);
+        assertThat(complementaria.getMontoBase()).isEqualByComparingTo("1070");
+        assertThat(complementaria.getDiferencial()).isEqualByComparingTo("12");
+        // La aprobada conserva sus montos
+        EstimacionReajuste original = estimacionRepository.buscarPorId(aprobada.getId()).orElseThrow();
+        assertThat(original.getMontoReajustado()).isEqualByComparingTo("1070");
+        assertThat(original.getEstado()).isEqualTo(EstadoEstimacionReajuste.APROBADA);
+
+        // La diferencia se reconoce una sola vez
+        assertThat(calcularReajusteUseCase.recalcularConIndicesDefinitivos(presupuestoId)).isEmpty();
+    }
+
+    /**
+     * Fórmula 0.40 MO + 0.60 CEM con base en enero y los índices de marzo, el de cemento
+     * provisional (210).
+     */
+    private IndicePrecios formulaConCementoProvisional() {
+        formulaRepository.reemplazar(presupuestoId, List.of(FormulaPolinomica.crear(FormulaPolinomicaId.generate(),
+                presupuestoId, 1, BASE.atDay(1), List.of(Monomio.simple(new BigDecimal("0.40"), manoDeObra),
+                        Monomio.simple(new BigDecimal("0.60"), cemento)),
+                Set.of())));
+        indiceRepository.guardar(definitivo(manoDeObra, BASE, "100"));
+        indiceRepository.guardar(definitivo(cemento, BASE, "200"));
+        indiceRepository.guardar(definitivo(manoDeObra, MARZO, "110"));
+        IndicePrecios cementoProvisional = IndicePrecios.crearProvisional(IndicePreciosId.generate(), cemento,
+                cemento, TipoIndicePrecios.CUSTOM, MARZO.atDay(1), new BigDecimal("210"));
+        indiceRepository.guardar(cementoProvisional);
+        return cementoProvisional;
+    }
+
+    private static DetalleReajustePartida detalle(String montoBase, String montoReajustado) {
+        BigDecimal base = new BigDecimal(montoBase);
+        BigDecimal reajustado = new BigDecimal(montoReajustado);
+        return DetalleReajustePartida.crear(DetalleReajustePartidaId.generate(), UUID.randomUUID(), base,
+                reajustado, reajustado.subtract(base));
+    }
+
+    private static IndicePrecios definitivo(String codigo, YearMonth mes, String valor) {
+        return IndicePrecios.crear(IndicePreciosId.generate(), codigo, codigo, TipoIndicePrecios.CUSTOM,
+                mes.atDay(1), new BigDecimal(valor));
+    }
+}
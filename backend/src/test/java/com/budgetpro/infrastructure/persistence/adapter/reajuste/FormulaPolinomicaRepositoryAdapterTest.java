@@ -0,0 +1,103 @@
+package com.budgetpro.infrastructure.persistence.adapter.reajuste;
+
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomica;
+import com.budgetpro.domain.finanzas.reajuste.model.FormulaPolinomicaId;
+import com.budgetpro.domain.finanzas.reajuste.model.Monomio;
+import com.budgetpro.domain.finanzas.reajuste.port.out.FormulaPolinomicaRepository;
+import com.budgetpro.domain.proyecto.model.EstadoProyecto;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import com.budgetpro.infrastructure.persistence.entity.PresupuestoEntity;
+import com.budgetpro.infrastructure.persistence.entity.ProyectoEntity;
+import com.budgetpro.infrastructure.persistence.repository.PresupuestoJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.ProyectoJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para FormulaPolinomicaRepositoryAdapter.
+ */
+@Transactional
+class FormulaPolinomicaRepositoryAdapterTest extends AbstractIntegrationTest {
+
+    private static final LocalDate FECHA_BASE = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private FormulaPolinomicaRepository formulaRepository;
+
+    @Autowired
+    private ProyectoJpaRepository proyectoJpaRepository;
+
+    @Autowired
+    private PresupuestoJpaRepository presupuestoJpaRepository;
+
+    private UUID presupuestoId;
+
+    @BeforeEach
+    void setUp() {
+        ProyectoEntity proyecto = proyectoJpaRepository.saveAndFlush(new ProyectoEntity(UUID.randomUUID(),
+                "Proyecto Reajuste", "Lima", EstadoProyecto.BORRADOR, null));
+        presupuestoId = presupuestoJpaRepository.saveAndFlush(new PresupuestoEntity(UUID.randomUUID(),
+                proyecto.getId(), "Presupuesto Reajuste", EstadoPresupuesto.BORRADOR, false, null)).getId();
+    }
+
+    @Test
+    void reemplazar_yBuscar_conservaMonomiosTerminosYPartidas() {
+        UUID partidaA = UUID.randomUUID();
+        UUID partidaB = UUID.randomUUID();
+        Monomio materiales = new Monomio(new BigDecimal("0.60"), List.of(
+                new Monomio.Termino("A-ACERO", new BigDecimal("0.3")),
+                new Monomio.Termino("B-CEMENTO", new BigDecimal("0.7"))));
+        FormulaPolinomica segunda = FormulaPolinomica.crear(FormulaPolinomicaId.generate(), presupuestoId, 2,
+                FECHA_BASE, List.of(Monomio.simple(BigDecimal.ONE, "C-ASFALTO")), Set.of(partidaA, partidaB));
+        FormulaPolinomica primera = FormulaPolinomica.crear(FormulaPolinomicaId.generate(), presupuestoId, 1,
+                FECHA_BASE, List.of(Monomio.simple(new BigDecimal("0.40"), "MO"), materiales), Set.of());
+
+        formulaRepository.reemplazar(presupuestoId, List.of(segunda, primera));
+        List<FormulaPolinomica> formulas = formulaRepository.buscarPorPresupuestoId(presupuestoId);
+
+        assertThat(formulas).extracting(FormulaPolinomica::getNumero).containsExactly(1, 2);
+        FormulaPolinomica leida = formulas.get(0);
+        assertThat(leida.getId()).isEqualTo(primera.getId());
+        assertThat(leida.getFechaBase()).isEqualTo(FECHA_BASE);
+        assertThat(leida.getPartidaIds()).isEmpty();
+        assertThat(leida.getMonomios()).hasSize(2);
+        assertThat(leida.getMonomios().get(0).coeficiente()).isEqualByComparingTo("0.40");
+        assertThat(leida.getMonomios().get(1).coeficiente()).isEqualByComparingTo("0.60");
+        assertThat(leida.getMonomios().get(1).terminos()).extracting(Monomio.Termino::codigoIndice)
+                .containsExactly("A-ACERO", "B-CEMENTO");
+        assertThat(leida.getMonomios().get(1).terminos().get(0).peso()).isEqualByComparingTo("0.3");
+        assertThat(formulas.get(1).getPartidaIds()).containsExactlyInAnyOrder(partidaA, partidaB);
+    }
+
+    @Test
+    void reemplazar_borraLasFormulasYAsignacionesAnteriores() {
+        UUID partida = UUID.randomUUID();
+        formulaRepository.reemplazar(presupuestoId, List.of(
+                FormulaPolinomica.crear(FormulaPolinomicaId.generate(), presupuestoId, 1, FECHA_BASE,
+                        List.of(Monomio.simple(BigDecimal.ONE, "MO")), Set.of()),
+                FormulaPolinomica.crear(FormulaPolinomicaId.generate(), presupuestoId, 2, FECHA_BASE,
+                        List.of(Monomio.simple(BigDecimal.ONE, "C")), Set.of(partida))));
+
+        // La misma partida puede reasignarse: formula_polinomica_partida la tiene como clave
+        FormulaPolinomica unica = FormulaPolinomica.crear(FormulaPolinomicaId.generate(), presupuestoId, 1,
+                FECHA_BASE.plusMonths(1), List.of(Monomio.simple(BigDecimal.ONE, "C")), Set.of(partida));
+        formulaRepository.reemplazar(presupuestoId, List.of(unica));
+
+        assertThat(formulaRepository.buscarPorPresupuestoId(presupuestoId)).singleElement().satisfies(formula -> {
+            assertThat(formula.getId()).isEqualTo(unica.getId());
+            assertThat(formula.getFechaBase()).isEqualTo(FECHA_BASE.plusMonths(1));
+            assertThat(formula.getPartidaIds()).containsExactly(partida);
+        });
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,6 +34,12 @@ class AsistenciaRepositoryAdapterTest {
     @Mock
     private AsistenciaRegistroJpaRepository jpaRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AuditorAware<UUID> auditorAware;
+
     private AsistenciaRepositoryAdapter adapter;
 
     private final UUID empleadoUuid = UUID.fromString("11111111-1111-1111-1111-111111111111");
@@ -40,7 +48,8 @@ class AsistenciaRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new AsistenciaRepositoryAdapter(jpaRepository, new AsistenciaMapper());
+        adapter = new AsistenciaRepositoryAdapter(jpaRepository, new AsistenciaMapper(), jdbcTemplate,
+                auditorAware);
     }
 
     @Test
@@ -0,0 +1,215 @@
+package com.budgetpro.infrastructure.persistence.adapter.rrhh;
+
+import com.budgetpro.application.rrhh.dto.ConsultarCostosLaboralesQuery.Agrupacion;
+import com.budgetpro.application.rrhh.dto.CostoLaboralAgregado;
+import com.budgetpro.application.rrhh.port.out.CostoLaboralRepositoryPort;
+import com.budgetpro.domain.finanzas.presupuesto.model.EstadoPresupuesto;
+import com.budgetpro.domain.proyecto.model.EstadoProyecto;
+import com.budgetpro.domain.proyecto.model.ProyectoId;
+import com.budgetpro.infrastructure.AbstractIntegrationTest;
+import com.budgetpro.infrastructure.persistence.entity.PartidaEntity;
+import com.budgetpro.infrastructure.persistence.entity.PresupuestoEntity;
+import com.budgetpro.infrastructure.persistence.entity.ProyectoEntity;
+import com.budgetpro.infrastructure.persistence.repository.PartidaJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.PresupuestoJpaRepository;
+import com.budgetpro.infrastructure.persistence.repository.ProyectoJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para CostoLaboralRepositoryAdapter sobre datos sembrados:
+ * <ul>
+ * <li>Ana Rojas: 07/03 08:00-17:00 (9 h, salario 2400 hasta el 09/03) y 10/03 22:00-07:00
+ * (turno nocturno de 9 h, salario 3000 desde el 10/03); cuadrilla Concreto, que el 10/03 reparte
+ * 6 h a la partida 01.01 y 2 h a la 01.02.</li>
+ * <li>Luis Paz: 10/03 08:00-12:00 (4 h) sin cuadrilla y 01/04 08:00-16:00 (8 h) en la cuadrilla
+ * Acero, asignado el 20/03; salario 1600.</li>
+ * </ul>
+ * El costo base es horas × salario / 8.
+ */
+@Transactional
+class CostoLaboralRepositoryAdapterTest extends AbstractIntegrationTest {
+
+    private static final LocalDate DESDE = LocalDate.of(2025, 3, 1);
+    private static final LocalDate HASTA = LocalDate.of(2025, 4, 30);
+    private static final long HORA = 3600;
+
+    @Autowired
+    private CostoLaboralRepositoryPort costoLaboralRepository;
+
+    @Autowired
+    private ProyectoJpaRepository proyectoJpaRepository;
+
+    @Autowired
+    private PresupuestoJpaRepository presupuestoJpaRepository;
+
+    @Autowired
+    private PartidaJpaRepository partidaJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID usuario = UUID.randomUUID();
+    private UUID proyectoId;
+    private UUID partidaConcreto;
+    private UUID partidaEncofrado;
+
+    @BeforeEach
+    void setUp() {
+        proyectoId = nuevoProyecto("Proyecto Costos");
+        UUID otroProyecto = nuevoProyecto("Otro Proyecto");
+        PresupuestoEntity presupuesto = presupuestoJpaRepository.saveAndFlush(new PresupuestoEntity(
+                UUID.randomUUID(), proyectoId, "Presupuesto Costos", EstadoPresupuesto.BORRADOR, false, null));
+        partidaConcreto = nuevaPartida(presupuesto, "01.01", "Concreto");
+        partidaEncofrado = nuevaPartida(presupuesto, "01.02", "Encofrado");
+
+        UUID ana = nuevoEmpleado("Ana", "Rojas");
+        salario(ana, "2400", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 9));
+        salario(ana, "3000", LocalDate.of(2025, 3, 10), null);
+        UUID luis = nuevoEmpleado("Luis", "Paz");
+        salario(luis, "1600", LocalDate.of(2025, 1, 1), null);
+
+        asistencia(ana, proyectoId, LocalDate.of(2025, 3, 7), "08:00", "17:00");
+        asistencia(ana, proyectoId, LocalDate.of(2025, 3, 10), "22:00", "07:00");
+        asistencia(luis, proyectoId, LocalDate.of(2025, 3, 10), "08:00", "12:00");
+        asistencia(luis, proyectoId, LocalDate.of(2025, 4, 1), "08:00", "16:00");
+        // Fuera de la consulta: otro proyecto, fuera del rango y jornada sin salida
+        asistencia(ana, otroProyecto, LocalDate.of(2025, 3, 11), "08:00", "16:00");
+        asistencia(luis, proyectoId, LocalDate.of(2025, 5, 2), "08:00", "16:00");
+        asistencia(ana, proyectoId, LocalDate.of(2025, 3, 12), "08:00", null);
+
+        UUID concreto = cuadrilla("CON", "Cuadrilla Concreto");
+        miembro(concreto, ana, LocalDate.of(2025, 3, 1));
+        UUID acero = cuadrilla("ACE", "Cuadrilla Acero");
+        miembro(acero, luis, LocalDate.of(2025, 3, 20));
+        reparto(concreto, partidaConcreto, LocalDate.of(2025, 3, 10), "6");
+        reparto(concreto, partidaEncofrado, LocalDate.of(2025, 3, 10), "2");
+    }
+
+    @Test
+    void porEmpleado_valorizaConElSalarioVigenteYSumaElTurnoNocturno() {
+        List<CostoLaboralAgregado> filas = agregar(Agrupacion.EMPLEADO);
+
+        assertThat(filas).extracting(CostoLaboralAgregado::nombreGrupo).containsExactly("Ana Rojas", "Luis Paz");
+        // 9 h × 2400 / 8 + 9 h × 3000 / 8; una hora extra en cada jornada
+        assertFila(filas.get(0), 18 * HORA, 2 * HORA, "6075");
+        assertFila(filas.get(1), 12 * HORA, 0, "2400");
+    }
+
+    @Test
+    void porSemana_agrupaPorLunesDeLaSemana() {
+        List<CostoLaboralAgregado> filas = agregar(Agrupacion.SEMANA);
+
+        assertThat(filas).extracting(CostoLaboralAgregado::grupoId)
+                .containsExactly("2025-03-03", "2025-03-10", "2025-03-31");
+        assertThat(filas.get(0).nombreGrupo()).isEqualTo("Semana 2025-W10");
+        assertFila(filas.get(0), 9 * HORA, HORA, "2700");
+        assertFila(filas.get(1), 13 * HORA, HORA, "4175");
+        assertFila(filas.get(2), 8 * HORA, 0, "1600");
+    }
+
+    @Test
+    void porMes_agrupaPorMesCalendario() {
+        List<CostoLaboralAgregado> filas = agregar(Agrupacion.MES);
+
+        assertThat(filas).extracting(CostoLaboralAgregado::grupoId).containsExactly("2025-03", "2025-04");
+        assertFila(filas.get(0), 22 * HORA, 2 * HORA, "6875");
+        assertFila(filas.get(1), 8 * HORA, 0, "1600");
+    }
+
+    @Test
+    void porCuadrilla_usaLaMembresiaVigenteEnLaFecha() {
+        List<CostoLaboralAgregado> filas = agregar(Agrupacion.CUADRILLA);
+
+        // Luis entra a Acero el 20/03: su jornada del 10/03 queda sin cuadrilla
+        assertThat(filas).extracting(CostoLaboralAgregado::nombreGrupo)
+                .containsExactly("Cuadrilla Acero", "Cuadrilla Concreto", "Sin cuadrilla");
+        assertFila(filas.get(0), 8 * HORA, 0, "1600");
+        assertFila(filas.get(1), 18 * HORA, 2 * HORA, "6075");
+        assertFila(filas.get(2), 4 * HORA, 0, "800");
+        assertThat(filas.get(2).grupoId()).isEqualTo("N/A");
+    }
+
+    @Test
+    void porPartida_prorrateaLaJornadaSegunLasHorasAsignadasALaCuadrilla() {
+        List<CostoLaboralAgregado> filas = agregar(Agrupacion.PARTIDA);
+
+        assertThat(filas).extracting(CostoLaboralAgregado::grupoId)
+                .containsExactly(partidaConcreto.toString(), partidaEncofrado.toString(), "N/A");
+        assertThat(filas.get(0).nombreGrupo()).isEqualTo("01.01 Concreto");
+        // Turno nocturno de 9 h (1 h extra) a 3000 repartido 6:2 entre las partidas
+        assertFila(filas.get(0), 24300, 2700, "2531.25");
+        assertFila(filas.get(1), 8100, 900, "843.75");
+        assertFila(filas.get(2), 21 * HORA, HORA, "5100");
+    }
+
+    private List<CostoLaboralAgregado> agregar(Agrupacion agrupacion) {
+        return costoLaboralRepository.agregarPorGrupo(ProyectoId.from(proyectoId), DESDE, HASTA, agrupacion);
+    }
+
+    private static void assertFila(CostoLaboralAgregado fila, long segundos, long segundosExtras, String costoBase) {
+        assertThat(fila.segundosTrabajados()).isEqualTo(segundos);
+        assertThat(fila.segundosExtras()).isEqualTo(segundosExtras);
+        assertThat(fila.costoBase()).isEqualByComparingTo(costoBase);
+    }
+
+    private UUID nuevoProyecto(String nombre) {
+        return proyectoJpaRepository.saveAndFlush(new ProyectoEntity(UUID.randomUUID(), nombre, "Lima",
+                EstadoProyecto.BORRADOR, null)).getId();
+    }
+
+    private UUID nuevaPartida(PresupuestoEntity presupuesto, String item, String descripcion) {
+        return partidaJpaRepository.saveAndFlush(new PartidaEntity(UUID.randomUUID(), presupuesto,
+                principalSub(presupuesto), null, item, descripcion, "m3", new BigDecimal("10"), 1, null)).getId();
+    }
+
+    private UUID nuevoEmpleado(String nombre, String apellido) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO empleados (id, nombre, apellido, numero_identificacion, created_by) "
+                + "VALUES (?, ?, ?, ?, ?)", id, nombre, apellido, id.toString(), usuario);
+        return id;
+    }
+
+    private void salario(UUID empleado, String salarioBase, LocalDate inicio, LocalDate fin) {
+        jdbcTemplate.update("INSERT INTO historial_laboral (id, empleado_id, cargo, salario_base, tipo_contrato, "
+                + "fecha_inicio, fecha_fin, created_by) VALUES (?, ?, 'Operario', ?, 'PLAZO_FIJO', ?, ?, ?)",
+                UUID.randomUUID(), empleado, new BigDecimal(salarioBase), inicio, fin, usuario);
+    }
+
+    private void asistencia(UUID empleado, UUID proyecto, LocalDate fecha, String entrada, String salida) {
+        jdbcTemplate.update("INSERT INTO asistencia_registros (id, empleado_id, proyecto_id, fecha, hora_entrada, "
+                + "hora_salida, created_by) VALUES (?, ?, ?, ?, ?, ?, ?)", UUID.randomUUID(), empleado, proyecto,
+                fecha, LocalTime.parse(entrada), salida != null ? LocalTime.parse(salida) : null, usuario);
+    }
+
+    private UUID cuadrilla(String codigo, String nombre) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO cuadrillas (id, proyecto_id, nombre, codigo, created_by) "
+                + "VALUES (?, ?, ?, ?, ?)", id, proyectoId, nombre, codigo, usuario);
+        return id;
+    }
+
+    private void miembro(UUID cuadrilla, UUID empleado, LocalDate asignacion) {
+        jdbcTemplate.update("INSERT INTO cuadrilla_miembros (id, cuadrilla_id, empleado_id, fecha_asignacion, "
+                + "created_by) VALUES (?, ?, ?, ?, ?)", UUID.randomUUID(), cuadrilla, empleado,
+                LocalDateTime.of(asignacion, LocalTime.of(7, 0)), usuario);
+    }
+
+    private void reparto(UUID cuadrilla, UUID partida, LocalDate fecha, String horas) {
+        jdbcTemplate.update("INSERT INTO asignaciones_actividad (id, cuadrilla_id, partida_id, fecha, "
+                + "horas_asignadas, created_by) VALUES (?, ?, ?, ?, ?, ?)", UUID.randomUUID(), cuadrilla, partida,
+                fecha, new BigDecimal(horas), usuario);
+    }
+}
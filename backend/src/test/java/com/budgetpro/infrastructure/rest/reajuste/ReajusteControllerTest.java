@@ -1,9 +1,14 @@
 package com.budgetpro.infrastructure.rest.reajuste;
 
 import com.budgetpro.application.reajuste.dto.EstimacionReajusteResponse;
+import com.budgetpro.application.reajuste.dto.IndicePreciosResponse;
+import com.budgetpro.application.reajuste.dto.RegistrarIndicePreciosCommand;
 import com.budgetpro.application.reajuste.port.in.CalcularReajusteUseCase;
+import com.budgetpro.application.reajuste.port.in.ConfigurarReajustePolinomicoUseCase;
+import com.budgetpro.domain.finanzas.reajuste.model.TipoIndicePrecios;
 import com.budgetpro.infrastructure.rest.reajuste.controller.ReajusteController;
 import com.budgetpro.infrastructure.rest.reajuste.dto.CalcularReajusteRequest;
+import com.budgetpro.infrastructure.rest.reajuste.dto.RegistrarIndicePreciosRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +57,9 @@ class ReajusteControllerTest {
     @MockBean
     CalcularReajusteUseCase calcularReajusteUseCase;
 
+    @MockBean
+    ConfigurarReajustePolinomicoUseCase configurarReajustePolinomicoUseCase;
+
     @MockBean
     com.budgetpro.infrastructure.security.jwt.JwtService jwtService;
 
@@ -83,7 +91,9 @@ class ReajusteControllerTest {
                 BigDecimal.valueOf(100),
                 "BORRADOR",
                 null,
-                List.of()
+                List.of(),
+                true,
+                null
         );
 
         when(calcularReajusteUseCase.calcular(eq(proyectoId), eq(presupuestoId), any(LocalDate.class), anyString(), any(LocalDate.class), anyString(), any(LocalDate.class)))
@@ -106,5 +116,24 @@ class ReajusteControllerTest {
                 .andExpect(jsonPath("$.id").value(id.toString()))
                 .andExpect(jsonPath("$.presupuestoId").value(presupuestoId.toString()));
     }
-}
 
+    @Test
+    void debeRegistrarIndiceProvisional_yRetornar201() throws Exception {
+        UUID id = UUID.randomUUID();
+        LocalDate fechaBase = LocalDate.of(2025, 3, 1);
+        RegistrarIndicePreciosCommand command = new RegistrarIndicePreciosCommand("CEM", "Cemento",
+                TipoIndicePrecios.INPC, fechaBase, new BigDecimal("210"), false);
+        when(configurarReajustePolinomicoUseCase.registrarIndice(command)).thenReturn(new IndicePreciosResponse(
+                id, "CEM", "Cemento", "INPC", fechaBase, new BigDecimal("210"), true, false));
+
+        RegistrarIndicePreciosRequest request = new RegistrarIndicePreciosRequest("CEM", "Cemento",
+                TipoIndicePrecios.INPC, fechaBase, new BigDecimal("210"), false);
+
+        mockMvc.perform(post("/api/v1/reajustes/indices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(id.toString()))
+                .andExpect(jsonPath("$.definitivo").value(false));
+    }
+}
@@ -3,6 +3,7 @@ package com.budgetpro.infrastructure.rest.rrhh.controller;
 import com.budgetpro.application.rrhh.dto.AsistenciaResponse;
 import com.budgetpro.application.rrhh.exception.AsistenciaSuperpuestaException;
 import com.budgetpro.application.rrhh.port.in.ConsultarAsistenciaUseCase;
+import com.budgetpro.application.rrhh.port.in.ImportarAsistenciaUseCase;
 import com.budgetpro.application.rrhh.port.in.RegistrarAsistenciaUseCase;
 import com.budgetpro.domain.rrhh.exception.InactiveWorkerException;
 import com.budgetpro.domain.rrhh.exception.TrabajadorNoAsignadoAlProyectoException;
@@ -49,10 +50,13 @@ class AsistenciaControllerTest {
     @Mock
     private ConsultarAsistenciaUseCase consultarAsistenciaUseCase;
 
+    @Mock
+    private ImportarAsistenciaUseCase importarAsistenciaUseCase;
+
     @BeforeEach
     void setUp() {
         AsistenciaController controller = new AsistenciaController(registrarAsistenciaUseCase,
-                consultarAsistenciaUseCase);
+                consultarAsistenciaUseCase, importarAsistenciaUseCase);
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules();
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);